@@ -0,0 +1,247 @@
+package de.tum.cit.aet.hephaestus.achievement;
+
+import de.tum.cit.aet.hephaestus.achievement.progress.AchievementProgress;
+import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
+import de.tum.cit.aet.hephaestus.activity.ActivitySavedEvent;
+import de.tum.cit.aet.hephaestus.activity.ActivityTargetType;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.UserRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Workspace-wide achievement recalculation that evaluates in memory and writes once.
+ *
+ * <p>{@link AchievementRecalculationService} replays one user at a time through
+ * {@link AchievementService#checkAndUnlock}: a transaction, an advisory lock, a progress read and a progress
+ * write per event. Re-running a new evaluator over a whole workspace that way takes hours. This service
+ * instead:
+ * <ol>
+ *   <li>collects every actor with activity in the workspace,</li>
+ *   <li>reads their complete event history once, in {@code (occurredAt, id)} keyset pages,</li>
+ *   <li>applies each event through {@link AchievementService#evaluateInMemory} against per-user progress
+ *       held in memory, and</li>
+ *   <li>replaces all those users' {@link UserAchievement} rows with chunked bulk upserts in a single
+ *       transaction ({@link UserAchievementRepository#replaceAllForUsers}).</li>
+ * </ol>
+ *
+ * <p>Achievements are global per user, so actors are replayed across all workspaces, exactly as the
+ * per-user path does. Evaluators that need domain facts (commit stats, issue participants) still query
+ * them per qualifying event; only the {@code user_achievement} round-trips are gone.
+ *
+ * <p>Like the per-user path, this does not coordinate with live {@code checkAndUnlock} calls for the same
+ * users; progress from events recorded mid-run may be overwritten until the next event or recalculation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AchievementBatchRecalculationService {
+
+    static final int PAGE_SIZE = 5_000;
+    static final int WRITE_CHUNK_USERS = 500;
+
+    private static final ConcurrentHashMap<Long, Boolean> ACTIVE_RECALCULATIONS = new ConcurrentHashMap<>();
+
+    private final ActivityEventRepository activityEventRepository;
+    private final UserRepository userRepository;
+    private final UserAchievementRepository userAchievementRepository;
+    private final AchievementService achievementService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Outcome of a workspace-wide recalculation.
+     *
+     * @param users actors whose achievement state was replaced
+     * @param events events replayed across those actors' full history
+     * @param rows {@code user_achievement} rows written
+     * @param duration wall-clock time of the whole run
+     */
+    public record Result(int users, long events, int rows, Duration duration) {
+        public double eventsPerSecond() {
+            long millis = Math.max(1, duration.toMillis());
+            return events * 1000.0 / millis;
+        }
+    }
+
+    /**
+     * Recalculate achievements for every actor of a workspace asynchronously.
+     * A second request for the same workspace while one is running is skipped.
+     *
+     * @param workspaceId the workspace whose actors to recalculate
+     */
+    @Async
+    public void recalculateWorkspace(Long workspaceId) {
+        if (ACTIVE_RECALCULATIONS.putIfAbsent(workspaceId, Boolean.TRUE) != null) {
+            log.warn("Skipped workspace achievement recalculation: reason=alreadyRunning, workspaceId={}", workspaceId);
+            return;
+        }
+
+        try {
+            recalculateWorkspaceInternal(workspaceId);
+        } finally {
+            ACTIVE_RECALCULATIONS.remove(workspaceId);
+        }
+    }
+
+    /**
+     * Internal recalculation logic. Not {@code @Transactional} by design: each keyset page is read and
+     * evaluated in its own transaction so the persistence context stays small, and the final write runs in
+     * one transaction of its own.
+     */
+    Result recalculateWorkspaceInternal(Long workspaceId) {
+        long startedAt = System.nanoTime();
+        log.info("Started workspace achievement recalculation: workspaceId={}", workspaceId);
+
+        List<Long> actorIds = activityEventRepository.findDistinctActorIdsByWorkspaceId(workspaceId);
+        if (actorIds.isEmpty()) {
+            log.info("Skipped workspace achievement recalculation: reason=noActors, workspaceId={}", workspaceId);
+            return new Result(0, 0, 0, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        Map<Long, User> usersById = userRepository
+            .findAllById(actorIds)
+            .stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Map<String, UserAchievement>> progressByUserId = new HashMap<>();
+        usersById.keySet().forEach(userId -> progressByUserId.put(userId, new HashMap<>()));
+
+        long events = replay(workspaceId, usersById, progressByUserId);
+        int rows = write(progressByUserId);
+        progressByUserId.keySet().forEach(achievementService::evictAchievementCache);
+
+        Result result = new Result(usersById.size(), events, rows, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info(
+            "Completed workspace achievement recalculation: workspaceId={}, users={}, events={}, rows={}, " +
+                "durationMs={}, eventsPerSecond={}",
+            workspaceId,
+            result.users(),
+            result.events(),
+            result.rows(),
+            result.duration().toMillis(),
+            Math.round(result.eventsPerSecond())
+        );
+        return result;
+    }
+
+    private long replay(
+        Long workspaceId,
+        Map<Long, User> usersById,
+        Map<Long, Map<String, UserAchievement>> progressByUserId
+    ) {
+        long count = 0;
+        Instant afterOccurredAt = Instant.EPOCH;
+        UUID afterId = new UUID(0L, 0L);
+
+        while (true) {
+            Instant cursorOccurredAt = afterOccurredAt;
+            UUID cursorId = afterId;
+            List<ActivityEventRepository.ReplayEventProjection> page = transactionTemplate.execute(status -> {
+                List<ActivityEventRepository.ReplayEventProjection> rows =
+                    activityEventRepository.findReplayPageForWorkspaceActors(
+                        workspaceId,
+                        cursorOccurredAt,
+                        cursorId,
+                        PageRequest.of(0, PAGE_SIZE)
+                    );
+                rows.forEach(row -> apply(row, usersById, progressByUserId));
+                return rows;
+            });
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+
+            count += page.size();
+            ActivityEventRepository.ReplayEventProjection last = page.getLast();
+            afterOccurredAt = last.getOccurredAt();
+            afterId = last.getId();
+            log.debug("Recalculation progress for workspace {}: processed {} events", workspaceId, count);
+
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private void apply(
+        ActivityEventRepository.ReplayEventProjection row,
+        Map<Long, User> usersById,
+        Map<Long, Map<String, UserAchievement>> progressByUserId
+    ) {
+        User user = usersById.get(row.getActorId());
+        if (user == null) {
+            return;
+        }
+        ActivitySavedEvent event = new ActivitySavedEvent(
+            Optional.of(user),
+            row.getEventType(),
+            row.getOccurredAt(),
+            row.getWorkspaceId(),
+            ActivityTargetType.fromValue(row.getTargetType()),
+            row.getTargetId()
+        );
+        achievementService.evaluateInMemory(event, progressByUserId.get(user.getId()));
+    }
+
+    private int write(Map<Long, Map<String, UserAchievement>> progressByUserId) {
+        ObjectWriter progressWriter = objectMapper.writerFor(AchievementProgress.class);
+        List<Long> userIds = new ArrayList<>(progressByUserId.keySet());
+
+        Integer written = transactionTemplate.execute(status -> {
+            int total = 0;
+            for (int from = 0; from < userIds.size(); from += WRITE_CHUNK_USERS) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + WRITE_CHUNK_USERS, userIds.size()));
+                ArrayNode rows = objectMapper.createArrayNode();
+                for (Long userId : chunk) {
+                    for (UserAchievement progress : progressByUserId.get(userId).values()) {
+                        rows.add(toRow(userId, progress, progressWriter));
+                    }
+                }
+                total += userAchievementRepository.replaceAllForUsers(chunk, rows.toString());
+            }
+            return total;
+        });
+        return written != null ? written : 0;
+    }
+
+    private ObjectNode toRow(Long userId, UserAchievement progress, ObjectWriter progressWriter) {
+        ObjectNode row = objectMapper.createObjectNode();
+        row.put("user_id", userId);
+        row.put("achievement_id", progress.getAchievementId());
+        try {
+            String progressJson = progressWriter.writeValueAsString(progress.getProgressData());
+            row.set("progress_data", objectMapper.readTree(progressJson));
+        } catch (JacksonException e) {
+            throw new IllegalStateException(
+                "Failed to serialize achievement progress for user=" +
+                    userId +
+                    " achievement=" +
+                    progress.getAchievementId(),
+                e
+            );
+        }
+        row.put("unlocked_at", progress.getUnlockedAt() != null ? progress.getUnlockedAt().toString() : null);
+        return row;
+    }
+}
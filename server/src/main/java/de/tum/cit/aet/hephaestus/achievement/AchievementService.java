@@ -241,6 +241,50 @@ public class AchievementService {
         return newlyUnlocked;
     }
 
+    /**
+     * In-memory counterpart of {@link #checkAndUnlock} for batch recalculation.
+     *
+     * <p>Applies the event to {@code userProgress} (the user's records keyed by achievement id), creating
+     * records exactly where {@code checkAndUnlock} would insert them, but takes no lock and neither reads
+     * nor writes {@code user_achievement}. The caller owns the map and persists it once at the end.
+     *
+     * @param event the activity saved event to apply
+     * @param userProgress the user's in-memory progress, mutated in place
+     * @return list of newly unlocked achievement types (empty if none)
+     */
+    public List<AchievementDefinition> evaluateInMemory(
+        ActivitySavedEvent event,
+        Map<String, UserAchievement> userProgress
+    ) {
+        if (event.user().isEmpty()) {
+            return List.of();
+        }
+
+        User user = event.user().get();
+        List<AchievementDefinition> newlyUnlocked = new ArrayList<>();
+
+        for (AchievementDefinition achievementDefinition : achievementRegistry.getByTriggerEvent(event.eventType())) {
+            UserAchievement uaProgress = userProgress.computeIfAbsent(achievementDefinition.id(), id ->
+                UserAchievement.builder()
+                    .user(user)
+                    .achievementId(id)
+                    .progressData(achievementDefinition.requirements())
+                    .build()
+            );
+            if (uaProgress.getUnlockedAt() != null) {
+                continue;
+            }
+
+            AchievementEvaluator evaluator = resolveEvaluator(achievementDefinition);
+            if (evaluator.updateProgress(uaProgress, event, userProgress)) {
+                uaProgress.setUnlockedAt(event.occurredAt());
+                newlyUnlocked.add(achievementDefinition);
+            }
+        }
+
+        return newlyUnlocked;
+    }
+
     /**
      * Persist a progress update.
      *
@@ -2,6 +2,7 @@ package de.tum.cit.aet.hephaestus.achievement;
 
 import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -153,4 +154,46 @@ public interface UserAchievementRepository extends JpaRepository<UserAchievement
         @Param("progressDataJson") String progressDataJson,
         @Param("unlockedAt") @Nullable Instant unlockedAt
     );
+
+    /**
+     * Replace the complete achievement state of a set of users in one statement.
+     *
+     * <p>{@code rowsJson} is a JSON array of {@code {user_id, achievement_id, progress_data, unlocked_at}}
+     * objects. Rows are upserted on {@code uk_user_achievement_user_achievement} (bumping {@code version} so
+     * concurrent managed saves of a stale row fail their optimistic check), and any existing row of
+     * {@code userIds} absent from the payload is deleted — the bulk equivalent of {@link #deleteByUserId}
+     * followed by one insert per record.
+     *
+     * @param userIds the users whose state is being replaced
+     * @param rowsJson the users' complete new state
+     * @return number of rows upserted
+     */
+    @Transactional
+    @Query(
+        value = """
+        WITH incoming AS (
+            SELECT r.user_id, r.achievement_id, r.progress_data, r.unlocked_at
+            FROM jsonb_to_recordset(CAST(:rowsJson AS jsonb))
+                AS r(user_id bigint, achievement_id varchar(64), progress_data jsonb, unlocked_at timestamptz)
+        ), pruned AS (
+            DELETE FROM user_achievement ua
+            WHERE ua.user_id IN (:userIds)
+            AND NOT EXISTS (
+                SELECT 1 FROM incoming i WHERE i.user_id = ua.user_id AND i.achievement_id = ua.achievement_id
+            )
+        ), upserted AS (
+            INSERT INTO user_achievement (id, user_id, achievement_id, progress_data, unlocked_at, version)
+            SELECT gen_random_uuid(), i.user_id, i.achievement_id, i.progress_data, i.unlocked_at, 0
+            FROM incoming i
+            ON CONFLICT ON CONSTRAINT uk_user_achievement_user_achievement DO UPDATE
+            SET progress_data = EXCLUDED.progress_data,
+                unlocked_at = EXCLUDED.unlocked_at,
+                version = user_achievement.version + 1
+            RETURNING 1
+        )
+        SELECT CAST(COUNT(*) AS INTEGER) FROM upserted
+        """,
+        nativeQuery = true
+    )
+    int replaceAllForUsers(@Param("userIds") Collection<Long> userIds, @Param("rowsJson") String rowsJson);
 }
@@ -0,0 +1,58 @@
+package de.tum.cit.aet.hephaestus.achievement;
+
+import de.tum.cit.aet.hephaestus.core.AuditExempt;
+import de.tum.cit.aet.hephaestus.workspace.authorization.RequireAtLeastWorkspaceAdmin;
+import de.tum.cit.aet.hephaestus.workspace.context.WorkspaceContext;
+import de.tum.cit.aet.hephaestus.workspace.context.WorkspaceScopedController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Controller for workspace-wide achievement maintenance.
+ *
+ * <p>The per-user counterpart lives in {@link AchievementController}; this one acts on every actor with
+ * activity in the workspace at once, which is what shipping a new evaluator calls for.
+ */
+@Slf4j
+@WorkspaceScopedController
+@RequestMapping("/achievements")
+@Tag(name = "Achievements", description = "User achievement progress and unlocks")
+@RequiredArgsConstructor
+public class WorkspaceAchievementController {
+
+    private final AchievementBatchRecalculationService achievementBatchRecalculationService;
+
+    /**
+     * Recalculate achievements for every actor of the workspace.
+     *
+     * <p>Replays the actors' complete activity history once against in-memory progress and replaces their
+     * achievement rows in bulk; see {@link AchievementBatchRecalculationService}.
+     *
+     * <p>This operation is performed asynchronously.
+     *
+     * @param workspaceContext the resolved workspace context
+     * @return 202 Accepted upon successfully starting the recalculation
+     */
+    @PostMapping("/recalculate")
+    @Operation(
+        summary = "Recalculate workspace achievements",
+        description = "Historically recalculates the achievement timeline of every workspace actor. Admin only."
+    )
+    @ApiResponse(responseCode = "202", description = "Recalculation task started successfully")
+    @RequireAtLeastWorkspaceAdmin
+    @AuditExempt(reason = "recomputes a derived read model; stores no configuration")
+    public ResponseEntity<Void> recalculateWorkspaceAchievements(WorkspaceContext workspaceContext) {
+        log.info("Admin requested achievement recalculation for workspace: {}", workspaceContext.slug());
+
+        // Triggered asynchronously via @Async on the service method
+        achievementBatchRecalculationService.recalculateWorkspace(workspaceContext.id());
+
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -5,6 +5,7 @@ import de.tum.cit.aet.hephaestus.achievement.UserAchievement;
 import de.tum.cit.aet.hephaestus.achievement.progress.AchievementProgress;
 import de.tum.cit.aet.hephaestus.achievement.progress.LinearAchievementProgress;
 import de.tum.cit.aet.hephaestus.activity.ActivitySavedEvent;
+import java.util.Map;
 
 /**
  * Strategy interface for updating achievement progress.
@@ -31,4 +32,24 @@ public interface AchievementEvaluator {
      * @see LinearAchievementProgress
      */
     boolean updateProgress(UserAchievement userAchievement, ActivitySavedEvent event);
+
+    /**
+     * Variant used by batch recalculation, where a user's progress lives in memory until a final bulk write.
+     *
+     * <p>{@code userProgress} holds all of the user's records keyed by achievement id, including ones not yet
+     * persisted. Evaluators that depend on other achievements must read them from here rather than from the
+     * repository; all others can rely on this default, which ignores it.
+     *
+     * @param userAchievement the achievement progress record to update
+     * @param event the activity event that triggered the evaluation
+     * @param userProgress the user's in-memory progress by achievement id
+     * @return {@code true} if the achievement was unlocked during update, else {@code false}
+     */
+    default boolean updateProgress(
+        UserAchievement userAchievement,
+        ActivitySavedEvent event,
+        Map<String, UserAchievement> userProgress
+    ) {
+        return updateProgress(userAchievement, event);
+    }
 }
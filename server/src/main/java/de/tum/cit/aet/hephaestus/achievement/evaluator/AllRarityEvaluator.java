@@ -72,9 +72,8 @@ public class AllRarityEvaluator implements AchievementEvaluator {
             return false;
         }
 
-        Set<String> required = PREREQUISITES.get(userAchievement.getAchievementId());
+        Set<String> required = requiredFor(userAchievement);
         if (required == null) {
-            log.warn("AllRarityEvaluator invoked for unknown achievement: {}", userAchievement.getAchievementId());
             return false;
         }
 
@@ -86,6 +85,42 @@ public class AllRarityEvaluator implements AchievementEvaluator {
             .filter(ua -> ua.getUnlockedAt() != null)
             .count();
 
+        return unlockIfComplete(userAchievement, required, unlockedCount);
+    }
+
+    @Override
+    public boolean updateProgress(
+        UserAchievement userAchievement,
+        ActivitySavedEvent event,
+        Map<String, UserAchievement> userProgress
+    ) {
+        if (userAchievement.getUnlockedAt() != null) {
+            return false;
+        }
+
+        Set<String> required = requiredFor(userAchievement);
+        if (required == null) {
+            return false;
+        }
+
+        long unlockedCount = required
+            .stream()
+            .map(userProgress::get)
+            .filter(ua -> ua != null && ua.getUnlockedAt() != null)
+            .count();
+
+        return unlockIfComplete(userAchievement, required, unlockedCount);
+    }
+
+    private Set<String> requiredFor(UserAchievement userAchievement) {
+        Set<String> required = PREREQUISITES.get(userAchievement.getAchievementId());
+        if (required == null) {
+            log.warn("AllRarityEvaluator invoked for unknown achievement: {}", userAchievement.getAchievementId());
+        }
+        return required;
+    }
+
+    private boolean unlockIfComplete(UserAchievement userAchievement, Set<String> required, long unlockedCount) {
         if (unlockedCount == required.size()) {
             userAchievement.setProgressData(new BinaryAchievementProgress(true));
             return true;
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.activity;
 
 import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -9,11 +10,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,21 +34,37 @@ public interface ActivityEventRepository extends JpaRepository<ActivityEvent, UU
      * <p>ON CONFLICT DO NOTHING avoids the race where exists() passes but save() fails
      * with DataIntegrityViolationException at commit.
      *
+     * <p>A freshly inserted event with an actor is folded into its {@code activity_xp_daily}
+     * bucket by a data-modifying CTE in the same statement; a duplicate returns no row from
+     * {@code inserted} and therefore never double-counts. Postgres runs every WITH branch to
+     * completion, so the rollup upsert executes even though the outer SELECT only counts.
+     *
      * @return 1 if inserted, 0 if duplicate (conflict on workspace_id + event_key)
      */
-    @Modifying
     @Transactional
     @Query(
         value = """
-        INSERT INTO activity_event (
-            id, event_key, event_type, occurred_at, actor_id,
-            workspace_id, repository_id, target_type, target_id, xp, ingested_at
-        )
-        VALUES (
-            :id, :eventKey, :eventType, :occurredAt, :actorId,
-            :workspaceId, :repositoryId, :targetType, :targetId, :xp, CURRENT_TIMESTAMP
+        WITH inserted AS (
+            INSERT INTO activity_event (
+                id, event_key, event_type, occurred_at, actor_id,
+                workspace_id, repository_id, target_type, target_id, xp, ingested_at
+            )
+            VALUES (
+                :id, :eventKey, :eventType, :occurredAt, :actorId,
+                :workspaceId, :repositoryId, :targetType, :targetId, :xp, CURRENT_TIMESTAMP
+            )
+            ON CONFLICT (workspace_id, event_key) DO NOTHING
+            RETURNING workspace_id, actor_id, occurred_at, event_type, xp
+        ), rolled_up AS (
+            INSERT INTO activity_xp_daily (workspace_id, actor_id, day, event_type, event_count, xp)
+            SELECT workspace_id, actor_id, CAST(occurred_at AT TIME ZONE 'UTC' AS DATE), event_type, 1, xp
+            FROM inserted
+            WHERE actor_id IS NOT NULL
+            ON CONFLICT (workspace_id, actor_id, day, event_type) DO UPDATE
+            SET event_count = activity_xp_daily.event_count + EXCLUDED.event_count,
+                xp = activity_xp_daily.xp + EXCLUDED.xp
         )
-        ON CONFLICT (workspace_id, event_key) DO NOTHING
+        SELECT CAST(COUNT(*) AS INTEGER) FROM inserted
         """,
         nativeQuery = true
     )
@@ -66,22 +85,40 @@ public interface ActivityEventRepository extends JpaRepository<ActivityEvent, UU
      * Backfills {@code actor_id} and {@code xp} for COMMIT_CREATED events whose actor
      * was unresolved at ingest. Without this, commits ingested before their GitLab authors
      * are resolved via email match stay orphaned and never award XP.
+     *
+     * <p>The re-attributed rows are folded into {@code activity_xp_daily} by a data-modifying CTE in
+     * the same statement — they had no bucket while actor-less. Postgres runs every WITH branch to
+     * completion, so the rollup insert executes even though the outer SELECT only counts the update.
+     *
+     * @return number of ledger rows re-attributed
      */
     @WorkspaceAgnostic("Scoped by repository_id (repository belongs to one workspace)")
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
     @Query(
         value = """
-        UPDATE activity_event
-        SET actor_id = gc.author_id,
-            xp = :xpPerCommit
-        FROM git_commit gc
-        WHERE activity_event.target_type = 'commit'
-          AND activity_event.event_type = 'COMMIT_CREATED'
-          AND activity_event.actor_id IS NULL
-          AND activity_event.target_id = gc.id
-          AND gc.author_id IS NOT NULL
-          AND gc.repository_id = :repositoryId
+        WITH backfilled AS (
+            UPDATE activity_event
+            SET actor_id = gc.author_id,
+                xp = :xpPerCommit
+            FROM git_commit gc
+            WHERE activity_event.target_type = 'commit'
+              AND activity_event.event_type = 'COMMIT_CREATED'
+              AND activity_event.actor_id IS NULL
+              AND activity_event.target_id = gc.id
+              AND gc.author_id IS NOT NULL
+              AND gc.repository_id = :repositoryId
+            RETURNING activity_event.workspace_id, activity_event.actor_id,
+                      activity_event.occurred_at, activity_event.event_type, activity_event.xp
+        ), rolled_up AS (
+            INSERT INTO activity_xp_daily (workspace_id, actor_id, day, event_type, event_count, xp)
+            SELECT workspace_id, actor_id, CAST(occurred_at AT TIME ZONE 'UTC' AS DATE), event_type, COUNT(*), SUM(xp)
+            FROM backfilled
+            GROUP BY 1, 2, 3, 4
+            ON CONFLICT (workspace_id, actor_id, day, event_type) DO UPDATE
+            SET event_count = activity_xp_daily.event_count + EXCLUDED.event_count,
+                xp = activity_xp_daily.xp + EXCLUDED.xp
+        )
+        SELECT CAST(COUNT(*) AS INTEGER) FROM backfilled
         """,
         nativeQuery = true
     )
@@ -586,6 +623,44 @@ public interface ActivityEventRepository extends JpaRepository<ActivityEvent, UU
             .collect(Collectors.toMap(DistinctPrCountProjection::getActorId, DistinctPrCountProjection::getPrCount));
     }
 
+    /**
+     * Streams workspace XP per actor per fixed-length window, ordered by window then actor, in a single
+     * pass over the ledger. Window {@code k} covers {@code [anchor + k·windowSeconds, anchor + (k+1)·windowSeconds)};
+     * only rows before {@code until} are read. Used by league points replay so that years of history cost one
+     * scan instead of one leaderboard build per week.
+     *
+     * <p>Must be consumed within a try-with-resources block inside a {@code @Transactional(readOnly = true)} caller.
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(
+        value = """
+        SELECT e.actor_id AS actorId,
+               CAST(FLOOR(EXTRACT(EPOCH FROM (e.occurred_at - :anchor)) / :windowSeconds) AS INTEGER) AS windowIndex,
+               SUM(e.xp) AS experiencePoints
+        FROM activity_event e
+        JOIN "user" u ON u.id = e.actor_id
+        WHERE e.workspace_id = :workspaceId
+        AND u.type = 'USER'
+        AND e.occurred_at >= :anchor
+        AND e.occurred_at < :until
+        GROUP BY 1, 2
+        ORDER BY 2, 1
+        """,
+        nativeQuery = true
+    )
+    Stream<WindowXpProjection> streamExperiencePointsByWindow(
+        @Param("workspaceId") Long workspaceId,
+        @Param("anchor") Instant anchor,
+        @Param("until") Instant until,
+        @Param("windowSeconds") long windowSeconds
+    );
+
+    interface WindowXpProjection {
+        Long getActorId();
+        Integer getWindowIndex();
+        Double getExperiencePoints();
+    }
+
     /**
      * DISTINCT PR IDs reviewed by a single actor for profile display.
      * Unlike leaderboard queries, does NOT apply hidden-repo settings (profile shows all
@@ -746,6 +821,63 @@ public interface ActivityEventRepository extends JpaRepository<ActivityEvent, UU
     )
     Slice<ActivityEvent> findSliceByActorIdOrderByOccurredAtAsc(@Param("actorId") Long actorId, Pageable pageable);
 
+    /** Distinct actors with at least one event in the workspace — the user set of a workspace-wide recalculation. */
+    @Query(
+        """
+        SELECT DISTINCT e.actor.id
+        FROM ActivityEvent e
+        WHERE e.workspace.id = :workspaceId
+        AND e.actor IS NOT NULL
+        """
+    )
+    List<Long> findDistinctActorIdsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    /**
+     * Keyset page of every event (in any workspace) whose actor is active in {@code workspaceId}, in
+     * {@code (occurredAt, id)} order, starting strictly after the given cursor. Achievements are global per
+     * user, so a workspace-wide recalculation has to replay each actor's full history, not just this
+     * workspace's slice.
+     *
+     * <p>Keyset rather than {@code Stream}: evaluators issue their own queries between rows, and keyset pages
+     * keep a single pass over the ledger without holding a cursor open across them.
+     */
+    @WorkspaceAgnostic("Achievement recalculation replays the workspace's actors' events across all workspaces")
+    @Query(
+        """
+        SELECT e.id AS id,
+               e.actor.id AS actorId,
+               e.eventType AS eventType,
+               e.occurredAt AS occurredAt,
+               e.workspace.id AS workspaceId,
+               e.targetType AS targetType,
+               e.targetId AS targetId
+        FROM ActivityEvent e
+        WHERE e.actor.id IN (
+            SELECT DISTINCT w.actor.id
+            FROM ActivityEvent w
+            WHERE w.workspace.id = :workspaceId
+        )
+        AND (e.occurredAt > :afterOccurredAt OR (e.occurredAt = :afterOccurredAt AND e.id > :afterId))
+        ORDER BY e.occurredAt ASC, e.id ASC
+        """
+    )
+    List<ReplayEventProjection> findReplayPageForWorkspaceActors(
+        @Param("workspaceId") Long workspaceId,
+        @Param("afterOccurredAt") Instant afterOccurredAt,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
+
+    interface ReplayEventProjection {
+        UUID getId();
+        Long getActorId();
+        ActivityEventType getEventType();
+        Instant getOccurredAt();
+        Long getWorkspaceId();
+        String getTargetType();
+        Long getTargetId();
+    }
+
     /** Count events of a type for an actor in [start, end). Used by BruteForce / NightOwl. */
     @WorkspaceAgnostic("Achievements are per-user lifetime accomplishments across all workspaces")
     @Query(
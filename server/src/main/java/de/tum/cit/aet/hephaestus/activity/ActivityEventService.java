@@ -25,7 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Records activity events with XP.
  *
- * <p>Idempotent via unique constraint on event_key.
+ * <p>Idempotent via unique constraint on event_key. The same statement that inserts the event
+ * also increments its {@link ActivityXpDaily} bucket, so the leaderboard rollup can never drift
+ * from the ledger.
  *
  * <h3>Security Model</h3>
  * <p><strong>INTERNAL API - NOT FOR DIRECT CONTROLLER USE.</strong>
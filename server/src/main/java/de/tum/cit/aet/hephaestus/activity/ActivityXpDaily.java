@@ -0,0 +1,75 @@
+package de.tum.cit.aet.hephaestus.activity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Pre-aggregated XP per (workspace, actor, UTC day, event type) — a read model over {@code activity_event}.
+ *
+ * <p>Maintained in the same statement as the ledger write: {@link ActivityEventRepository#insertIfAbsent}
+ * (reached through {@link ActivityEventService#record} and {@code recordDeleted}) and
+ * {@link ActivityEventRepository#backfillCommitActors} fold their rows in through data-modifying CTEs.
+ * Only events with an actor are rolled up, which matches the leaderboard's {@code actor IS NOT NULL} filter.
+ *
+ * <p>Rows are written exclusively by those native upserts; the entity is {@code @Immutable} so
+ * Hibernate never issues its own UPDATEs.
+ *
+ * @see ActivityXpRollupService the read side that stitches whole-day rollups with partial-day ledger edges
+ */
+@Entity
+@Immutable
+@Table(
+    name = "activity_xp_daily",
+    indexes = { @Index(name = "idx_activity_xp_daily_workspace_day", columnList = "workspace_id, day, actor_id") }
+)
+@Getter
+@NoArgsConstructor
+@ToString
+public class ActivityXpDaily {
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Column(name = "xp", nullable = false)
+    private double xp;
+
+    /** Composite primary key — one bucket per workspace, actor, UTC day and event type. */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static class Id implements Serializable {
+
+        @Column(name = "workspace_id", nullable = false)
+        private Long workspaceId;
+
+        @Column(name = "actor_id", nullable = false)
+        private Long actorId;
+
+        @Column(name = "day", nullable = false)
+        private LocalDate day;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "event_type", length = 64, nullable = false)
+        private ActivityEventType eventType;
+    }
+}
@@ -0,0 +1,74 @@
+package de.tum.cit.aet.hephaestus.activity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Daily XP rollup repository — the whole-day read path for leaderboard aggregation.
+ *
+ * <p>Day ranges are half-open [fromDay, untilDay): inclusive start, exclusive end, matching the
+ * ledger's timeframe convention in {@link ActivityEventRepository}.
+ */
+@Repository
+public interface ActivityXpDailyRepository extends JpaRepository<ActivityXpDaily, ActivityXpDaily.Id> {
+    /** Whole-day counterpart of {@link ActivityEventRepository#findExperiencePointsByWorkspaceAndTimeframe}. */
+    @Query(
+        """
+        SELECT d.id.actorId as actorId,
+               SUM(d.xp) as totalExperiencePoints,
+               SUM(d.eventCount) as eventCount
+        FROM ActivityXpDaily d
+        JOIN User u ON u.id = d.id.actorId
+        WHERE d.id.workspaceId = :workspaceId
+        AND u.type = de.tum.cit.aet.hephaestus.integration.scm.domain.user.User$Type.USER
+        AND d.id.day >= :fromDay
+        AND d.id.day < :untilDay
+        GROUP BY d.id.actorId
+        """
+    )
+    List<ActivityXpProjection> findExperiencePointsByWorkspaceAndDays(
+        @Param("workspaceId") Long workspaceId,
+        @Param("fromDay") LocalDate fromDay,
+        @Param("untilDay") LocalDate untilDay
+    );
+
+    /**
+     * Whole-day event counts per actor and type. Unlike
+     * {@link ActivityEventRepository#findActivityBreakdown}, this cannot exclude inline replies on the
+     * actor's own pull requests — the rollup has no target dimension — so callers subtract those.
+     */
+    @Query(
+        """
+        SELECT d.id.actorId as actorId,
+               d.id.eventType as eventType,
+               SUM(d.eventCount) as count,
+               SUM(d.xp) as experiencePoints
+        FROM ActivityXpDaily d
+        JOIN User u ON u.id = d.id.actorId
+        WHERE d.id.workspaceId = :workspaceId
+        AND d.id.actorId IN :actorIds
+        AND u.type = de.tum.cit.aet.hephaestus.integration.scm.domain.user.User$Type.USER
+        AND d.id.day >= :fromDay
+        AND d.id.day < :untilDay
+        GROUP BY d.id.actorId, d.id.eventType
+        """
+    )
+    List<ActivityBreakdownProjection> findActivityBreakdownByDays(
+        @Param("workspaceId") Long workspaceId,
+        @Param("actorIds") Set<Long> actorIds,
+        @Param("fromDay") LocalDate fromDay,
+        @Param("untilDay") LocalDate untilDay
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM activity_xp_daily WHERE workspace_id = :workspaceId", nativeQuery = true)
+    void deleteAllByWorkspaceId(@Param("workspaceId") Long workspaceId);
+}
@@ -0,0 +1,239 @@
+package de.tum.cit.aet.hephaestus.activity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Workspace-level XP aggregation that reads whole UTC days from {@code activity_xp_daily} and only the
+ * partial-day edges of a window from the raw {@code activity_event} ledger.
+ *
+ * <p>Results are equivalent to {@link ActivityEventRepository#findExperiencePointsByWorkspaceAndTimeframe}
+ * and {@link ActivityEventRepository#findActivityBreakdown} for the same half-open window, but the cost
+ * scales with actors × days instead of with ledger size. Team-filtered leaderboards still go to the ledger:
+ * hidden-repository and label filters need per-event joins the rollup cannot answer.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityXpRollupService {
+
+    private final ActivityEventRepository activityEventRepository;
+    private final ActivityXpDailyRepository activityXpDailyRepository;
+
+    @Transactional(readOnly = true)
+    public List<ActivityXpProjection> findExperiencePoints(Long workspaceId, Instant since, Instant until) {
+        DaySplit split = DaySplit.of(since, until);
+        if (split == null) {
+            return activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(workspaceId, since, until);
+        }
+
+        Map<Long, XpTotal> totals = new LinkedHashMap<>();
+        for (ActivityXpProjection xp : activityXpDailyRepository.findExperiencePointsByWorkspaceAndDays(
+            workspaceId,
+            split.fromDay(),
+            split.untilDay()
+        )) {
+            totals.computeIfAbsent(xp.getActorId(), XpTotal::new).add(xp);
+        }
+        if (split.hasHead()) {
+            for (ActivityXpProjection xp : activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(
+                workspaceId,
+                since,
+                split.wholeStart()
+            )) {
+                totals.computeIfAbsent(xp.getActorId(), XpTotal::new).add(xp);
+            }
+        }
+        if (split.hasTail()) {
+            for (ActivityXpProjection xp : activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(
+                workspaceId,
+                split.wholeEnd(),
+                until
+            )) {
+                totals.computeIfAbsent(xp.getActorId(), XpTotal::new).add(xp);
+            }
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * Activity breakdown by type. Own-PR inline replies are subtracted from the rollup's
+     * {@link ActivityEventType#REVIEW_COMMENT_CREATED} count so the result matches the ledger query;
+     * the subtracted events' XP stays in {@code experiencePoints}, which leaderboard callers ignore.
+     */
+    @Transactional(readOnly = true)
+    public List<ActivityBreakdownProjection> findActivityBreakdown(
+        Long workspaceId,
+        Set<Long> actorIds,
+        Instant since,
+        Instant until
+    ) {
+        DaySplit split = DaySplit.of(since, until);
+        if (split == null) {
+            return activityEventRepository.findActivityBreakdown(workspaceId, actorIds, since, until);
+        }
+
+        Map<BreakdownKey, BreakdownTotal> totals = new LinkedHashMap<>();
+        for (ActivityBreakdownProjection stat : activityXpDailyRepository.findActivityBreakdownByDays(
+            workspaceId,
+            actorIds,
+            split.fromDay(),
+            split.untilDay()
+        )) {
+            totals.computeIfAbsent(BreakdownKey.of(stat), BreakdownTotal::new).add(stat);
+        }
+
+        List<ActivityEventRepository.ActorCountProjection> ownInlineReplies =
+            activityEventRepository.findOwnPullRequestInlineReplyCounts(
+                workspaceId,
+                actorIds,
+                split.wholeStart(),
+                split.wholeEnd()
+            );
+        for (ActivityEventRepository.ActorCountProjection own : ownInlineReplies) {
+            BreakdownTotal total = totals.get(
+                new BreakdownKey(own.getActorId(), ActivityEventType.REVIEW_COMMENT_CREATED)
+            );
+            if (total != null && own.getCount() != null) {
+                total.count = Math.max(0, total.count - own.getCount());
+            }
+        }
+
+        if (split.hasHead()) {
+            for (ActivityBreakdownProjection stat : activityEventRepository.findActivityBreakdown(
+                workspaceId,
+                actorIds,
+                since,
+                split.wholeStart()
+            )) {
+                totals.computeIfAbsent(BreakdownKey.of(stat), BreakdownTotal::new).add(stat);
+            }
+        }
+        if (split.hasTail()) {
+            for (ActivityBreakdownProjection stat : activityEventRepository.findActivityBreakdown(
+                workspaceId,
+                actorIds,
+                split.wholeEnd(),
+                until
+            )) {
+                totals.computeIfAbsent(BreakdownKey.of(stat), BreakdownTotal::new).add(stat);
+            }
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * A window [since, until) cut into a partial head, a run of whole UTC days, and a partial tail.
+     * Package-private for tests.
+     */
+    record DaySplit(Instant since, Instant until, Instant wholeStart, Instant wholeEnd) {
+        /** @return the split, or {@code null} when the window contains no whole UTC day */
+        static DaySplit of(Instant since, Instant until) {
+            Instant floor = since.truncatedTo(ChronoUnit.DAYS);
+            Instant wholeStart = floor.equals(since) ? floor : floor.plus(1, ChronoUnit.DAYS);
+            Instant wholeEnd = until.truncatedTo(ChronoUnit.DAYS);
+            if (!wholeStart.isBefore(wholeEnd)) {
+                return null;
+            }
+            return new DaySplit(since, until, wholeStart, wholeEnd);
+        }
+
+        LocalDate fromDay() {
+            return LocalDate.ofInstant(wholeStart, ZoneOffset.UTC);
+        }
+
+        LocalDate untilDay() {
+            return LocalDate.ofInstant(wholeEnd, ZoneOffset.UTC);
+        }
+
+        boolean hasHead() {
+            return since.isBefore(wholeStart);
+        }
+
+        boolean hasTail() {
+            return wholeEnd.isBefore(until);
+        }
+    }
+
+    private static final class XpTotal implements ActivityXpProjection {
+
+        private final Long actorId;
+        private double experiencePoints;
+        private long eventCount;
+
+        private XpTotal(Long actorId) {
+            this.actorId = actorId;
+        }
+
+        private void add(ActivityXpProjection xp) {
+            experiencePoints += xp.getTotalExperiencePoints() != null ? xp.getTotalExperiencePoints() : 0.0;
+            eventCount += xp.getEventCount() != null ? xp.getEventCount() : 0L;
+        }
+
+        @Override
+        public Long getActorId() {
+            return actorId;
+        }
+
+        @Override
+        public Double getTotalExperiencePoints() {
+            return experiencePoints;
+        }
+
+        @Override
+        public Long getEventCount() {
+            return eventCount;
+        }
+    }
+
+    private record BreakdownKey(Long actorId, ActivityEventType eventType) {
+        static BreakdownKey of(ActivityBreakdownProjection stat) {
+            return new BreakdownKey(stat.getActorId(), stat.getEventType());
+        }
+    }
+
+    private static final class BreakdownTotal implements ActivityBreakdownProjection {
+
+        private final BreakdownKey key;
+        private long count;
+        private double experiencePoints;
+
+        private BreakdownTotal(BreakdownKey key) {
+            this.key = key;
+        }
+
+        private void add(ActivityBreakdownProjection stat) {
+            count += stat.getCount() != null ? stat.getCount() : 0L;
+            experiencePoints += stat.getExperiencePoints() != null ? stat.getExperiencePoints() : 0.0;
+        }
+
+        @Override
+        public Long getActorId() {
+            return key.actorId();
+        }
+
+        @Override
+        public ActivityEventType getEventType() {
+            return key.eventType();
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+
+        @Override
+        public Double getExperiencePoints() {
+            return experiencePoints;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.activity.adapter;
 
 import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
+import de.tum.cit.aet.hephaestus.activity.ActivityXpDailyRepository;
 import de.tum.cit.aet.hephaestus.core.event.ScmMirrorErasedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -24,14 +25,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class ActivityScmMirrorErasureListener {
 
     private final ActivityEventRepository activityEventRepository;
+    private final ActivityXpDailyRepository activityXpDailyRepository;
 
-    public ActivityScmMirrorErasureListener(ActivityEventRepository activityEventRepository) {
+    public ActivityScmMirrorErasureListener(
+        ActivityEventRepository activityEventRepository,
+        ActivityXpDailyRepository activityXpDailyRepository
+    ) {
         this.activityEventRepository = activityEventRepository;
+        this.activityXpDailyRepository = activityXpDailyRepository;
     }
 
     @EventListener
     @Transactional
     public void onScmMirrorErased(ScmMirrorErasedEvent event) {
         activityEventRepository.deleteAllByWorkspaceId(event.workspaceId());
+        activityXpDailyRepository.deleteAllByWorkspaceId(event.workspaceId());
     }
 }
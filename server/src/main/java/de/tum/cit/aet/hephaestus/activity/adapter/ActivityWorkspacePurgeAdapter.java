@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.activity.adapter;
 
 import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
+import de.tum.cit.aet.hephaestus.activity.ActivityXpDailyRepository;
 import de.tum.cit.aet.hephaestus.workspace.spi.WorkspacePurgeContributor;
 import org.springframework.stereotype.Component;
 
@@ -15,14 +16,20 @@ import org.springframework.stereotype.Component;
 public class ActivityWorkspacePurgeAdapter implements WorkspacePurgeContributor {
 
     private final ActivityEventRepository activityEventRepository;
+    private final ActivityXpDailyRepository activityXpDailyRepository;
 
-    public ActivityWorkspacePurgeAdapter(ActivityEventRepository activityEventRepository) {
+    public ActivityWorkspacePurgeAdapter(
+        ActivityEventRepository activityEventRepository,
+        ActivityXpDailyRepository activityXpDailyRepository
+    ) {
         this.activityEventRepository = activityEventRepository;
+        this.activityXpDailyRepository = activityXpDailyRepository;
     }
 
     @Override
     public void deleteWorkspaceData(Long workspaceId) {
         activityEventRepository.deleteAllByWorkspaceId(workspaceId);
+        activityXpDailyRepository.deleteAllByWorkspaceId(workspaceId);
     }
 
     @Override
@@ -9,6 +9,7 @@ import de.tum.cit.aet.hephaestus.core.runtime.ConditionalOnServerRole;
 import de.tum.cit.aet.hephaestus.practices.model.ArtifactKinds;
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.jspecify.annotations.Nullable;
@@ -85,7 +86,8 @@ public class ReviewBackfillDriver {
     /**
      * Deliberately holds no transaction of its own: each artifact's turn opens one via
      * {@link ReviewBackfillSubmitter#offer} ({@code REQUIRES_NEW}), so a single failure cannot unwind the
-     * batch around it.
+     * batch around it. Only the artifacts {@link ReviewBackfillSubmitter#claimAll} found unsettled get a
+     * turn; the rest pass without one.
      */
     void advance(ReviewBackfillRun run) {
         if (!run.getStatus().isActive()) {
@@ -121,6 +123,7 @@ public class ReviewBackfillDriver {
             return;
         }
 
+        Set<Long> claimed = claim(run, batch);
         int submitted = 0;
         int passed = 0;
         int failed = 0;
@@ -128,7 +131,9 @@ public class ReviewBackfillDriver {
         for (Long artifactId : batch) {
             ReviewBackfillSubmitter.Outcome outcome = null;
             try {
-                outcome = submitter.offer(run, artifactId);
+                outcome = claimed == null || claimed.contains(artifactId)
+                    ? submitter.offer(run, artifactId)
+                    : ReviewBackfillSubmitter.Outcome.PASSED;
             } catch (RuntimeException e) {
                 // The cursor advances past a failure on purpose: aborting here would leave it unwritten and let a
                 // deterministically failing artifact freeze the campaign forever. The failure is counted
@@ -165,6 +170,20 @@ public class ReviewBackfillDriver {
         );
     }
 
+    /**
+     * The batch's artifacts this campaign owns an occurrence of, or {@code null} when the bulk claim failed
+     * and every artifact should be offered on its own — the per-artifact path isolates whatever broke it,
+     * where retrying the whole batch next tick could stall the campaign on it.
+     */
+    private @Nullable Set<Long> claim(ReviewBackfillRun run, List<Long> batch) {
+        try {
+            return submitter.claimAll(run, batch);
+        } catch (RuntimeException e) {
+            log.warn("Review backfill bulk claim failed, offering one by one: runId={}", run.getId(), e);
+            return null;
+        }
+    }
+
     /**
      * Why this workspace cannot be spent against right now, or {@code null} if it can.
      *
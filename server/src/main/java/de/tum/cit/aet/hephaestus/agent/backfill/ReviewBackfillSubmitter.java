@@ -19,7 +19,12 @@ import de.tum.cit.aet.hephaestus.practices.review.GateDecision;
 import de.tum.cit.aet.hephaestus.practices.review.PracticeReviewDetectionGate;
 import de.tum.cit.aet.hephaestus.practices.review.TriggerMode;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -85,9 +90,48 @@ public class ReviewBackfillSubmitter {
             : offerIssue(run, artifactId);
     }
 
+    /**
+     * Which of a batch this campaign may act on, settled in one ledger statement.
+     *
+     * <p>Only a filter: {@link #offer} records its artifact again inside the transaction that decides it,
+     * so a claim and the decision it licenses still commit together. What this spares is the artifact
+     * already measured — on a recurring sweep, nearly all of them — its own transaction, fetch and
+     * insert. A row claimed here whose offer then fails stays {@code RECORDED}, which the next claimant
+     * may still take over.
+     *
+     * @return the ids of the artifacts this campaign now owns an occurrence of
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Long> claimAll(ReviewBackfillRun run, List<Long> artifactIds) {
+        long workspaceId = run.getWorkspace().getId();
+        Map<SignalKey, Instant> occurrences = new LinkedHashMap<>();
+        if (ArtifactKinds.PULL_REQUEST.equals(run.kind())) {
+            for (PullRequest pr : pullRequestRepository.findAllById(artifactIds)) {
+                if (hasBranchRefs(pr)) {
+                    ReviewBackfillSignals.keyFor(workspaceId, pr).ifPresent(key ->
+                        occurrences.put(key, occurredAt(pr.getUpdatedAt(), pr.getCreatedAt()))
+                    );
+                }
+            }
+        } else {
+            for (Issue issue : issueRepository.findAllById(artifactIds)) {
+                if (issue.getRepository() != null) {
+                    ReviewBackfillSignals.keyFor(workspaceId, issue).ifPresent(key ->
+                        occurrences.put(key, occurredAt(issue.getUpdatedAt(), issue.getCreatedAt()))
+                    );
+                }
+            }
+        }
+        Set<Long> claimed = new HashSet<>();
+        for (SignalKey key : signalRecorder.recordAll(occurrences, run.getDiscoveredVia())) {
+            claimed.add(key.artifactId());
+        }
+        return claimed;
+    }
+
     private Outcome offerPullRequest(ReviewBackfillRun run, long artifactId) {
         PullRequest pr = pullRequestRepository.findByIdWithAllForGate(artifactId).orElse(null);
-        if (pr == null || pr.getHeadRefName() == null || pr.getHeadRefOid() == null || pr.getBaseRefName() == null) {
+        if (pr == null || !hasBranchRefs(pr)) {
             // No branch refs means nothing to clone or diff: there was never a reviewable artifact here.
             return Outcome.PASSED;
         }
@@ -173,6 +217,10 @@ public class ReviewBackfillSubmitter {
         return signalRecorder.record(key, occurredAt, run.getDiscoveredVia());
     }
 
+    private static boolean hasBranchRefs(PullRequest pr) {
+        return pr.getHeadRefName() != null && pr.getHeadRefOid() != null && pr.getBaseRefName() != null;
+    }
+
     /**
      * When the artifact reached the state about to be measured. The last update is only an upper bound —
      * the limit of every non-live discovery: the mirror knows the artifact is in this state, not when it
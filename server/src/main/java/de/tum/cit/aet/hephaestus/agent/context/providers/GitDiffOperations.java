@@ -1,11 +1,14 @@
 package de.tum.cit.aet.hephaestus.agent.context.providers;
 
+import de.tum.cit.aet.hephaestus.integration.core.fabric.ContentAddressedCache;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.eclipse.jgit.api.Git;
@@ -28,12 +31,17 @@ import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
  * Diff and commit-log operations on local git clones. Diff output uses
  * {@link DiffAlgorithm.SupportedAlgorithm#HISTOGRAM} to match git CLI 2.34+ defaults; renames
  * use a 50% similarity floor (git's {@code -M} default) rather than JGit's 60%.
+ *
+ * <p>A diff between two full commit SHAs never changes, so {@link #diff}, {@link #diffStat} and
+ * {@link #annotatedDiff} keep their output in the {@link ContentAddressedCache}: a re-review of the
+ * same push reads it back instead of diffing again. Ranges given as branch names are never cached.
  */
 @Component
 public class GitDiffOperations {
@@ -43,6 +51,26 @@ public class GitDiffOperations {
 
     private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -(\\d+)(?:,\\d+)? \\+(\\d+)(?:,\\d+)? @@");
 
+    /** Diff options besides the two commits; part of every cache key, so changing one never serves stale output. */
+    private static final String DIFF_OPTIONS = "histogram;rename-score=50;max-bytes=" + MAX_DIFF_BYTES;
+
+    static final String CACHE_DIFF = "git-diff";
+    static final String CACHE_DIFF_STAT = "git-diff-stat";
+    static final String CACHE_ANNOTATED_DIFF = "git-diff-annotated";
+
+    @Nullable
+    private final ContentAddressedCache cache;
+
+    /** Uncached, for callers outside the application context. */
+    public GitDiffOperations() {
+        this(null);
+    }
+
+    @Autowired
+    public GitDiffOperations(@Nullable ContentAddressedCache cache) {
+        this.cache = cache;
+    }
+
     @FunctionalInterface
     private interface RepoOp<T> {
         T apply(Repository repo) throws IOException;
@@ -51,12 +79,22 @@ public class GitDiffOperations {
     @Nullable
     private <T> T withRepo(Path repoPath, String operation, RepoOp<T> op) {
         try (Git git = Git.open(repoPath.toFile())) {
-            return op.apply(git.getRepository());
+            return withRepo(git.getRepository(), operation, op);
+        } catch (IOException e) {
+            log.warn("{} failed for {}: {}", operation, repoPath, e.getMessage());
+            return null;
+        }
+    }
+
+    @Nullable
+    private <T> T withRepo(Repository repository, String operation, RepoOp<T> op) {
+        try {
+            return op.apply(repository);
         } catch (MissingObjectException e) {
-            log.debug("{}: unresolved object in {}: {}", operation, repoPath, e.getMessage());
+            log.debug("{}: unresolved object in {}: {}", operation, repository.getDirectory(), e.getMessage());
             return null;
         } catch (IOException e) {
-            log.warn("{} failed for {}: {}", operation, repoPath, e.getMessage());
+            log.warn("{} failed for {}: {}", operation, repository.getDirectory(), e.getMessage());
             return null;
         }
     }
@@ -84,7 +122,18 @@ public class GitDiffOperations {
         if (headSha == null || headSha.isBlank()) {
             return null;
         }
-        return withRepo(repoPath, "resolveDiffRange", repo -> {
+        return withRepo(repoPath, "resolveDiffRange", repo ->
+            resolveDiffRange(repo, targetBranch, sourceBranch, headSha)
+        );
+    }
+
+    /** Same as {@link #resolveDiffRange(Path, String, String, String)}, on an already open handle. */
+    @Nullable
+    public String[] resolveDiffRange(Repository repository, String targetBranch, String sourceBranch, String headSha) {
+        if (headSha == null || headSha.isBlank()) {
+            return null;
+        }
+        return withRepo(repository, "resolveDiffRange", repo -> {
             ObjectId head = repo.resolve(headSha);
             if (head == null) {
                 return null;
@@ -148,7 +197,20 @@ public class GitDiffOperations {
      */
     @Nullable
     public String diff(Path repoPath, String baseRef, String headRef) {
-        return withRepo(repoPath, "diff", repo -> {
+        return cached(CACHE_DIFF, baseRef, headRef, () ->
+            withRepo(repoPath, "diff", repo -> renderDiff(repo, baseRef, headRef))
+        );
+    }
+
+    /** Same as {@link #diff(Path, String, String)}, on an already open handle. */
+    @Nullable
+    public String diff(Repository repository, String baseRef, String headRef) {
+        return cached(CACHE_DIFF, baseRef, headRef, () -> renderDiff(repository, baseRef, headRef));
+    }
+
+    @Nullable
+    private String renderDiff(Repository repository, String baseRef, String headRef) {
+        return withRepo(repository, "diff", repo -> {
             ObjectId[] range = resolveRange(repo, baseRef, headRef);
             if (range == null) return null;
 
@@ -165,6 +227,28 @@ public class GitDiffOperations {
         });
     }
 
+    /**
+     * {@link #annotateDiffWithLineNumbers} of {@code diff}, the output of {@link #diff} for the same range,
+     * memoized like it.
+     */
+    public String annotatedDiff(String baseRef, String headRef, String diff) {
+        return cached(CACHE_ANNOTATED_DIFF, baseRef, headRef, () -> annotateDiffWithLineNumbers(diff));
+    }
+
+    /** Runs {@code render} through the cache when both ends are full commit SHAs; null results are not kept. */
+    @Nullable
+    private String cached(String namespace, String baseRef, String headRef, Supplier<@Nullable String> render) {
+        if (cache == null || !ObjectId.isId(baseRef) || !ObjectId.isId(headRef)) {
+            return render.get();
+        }
+        String key = baseRef.toLowerCase(Locale.ROOT) + ".." + headRef.toLowerCase(Locale.ROOT) + ";" + DIFF_OPTIONS;
+        byte[] content = cache.computeIfAbsent(namespace, key, () -> {
+            String rendered = render.get();
+            return rendered == null ? null : rendered.getBytes(StandardCharsets.UTF_8);
+        });
+        return content == null ? null : new String(content, StandardCharsets.UTF_8);
+    }
+
     private static final class LimitedOutputStream extends OutputStream {
 
         private final int limit;
@@ -204,7 +288,20 @@ public class GitDiffOperations {
      */
     @Nullable
     public String diffStat(Path repoPath, String baseRef, String headRef) {
-        return withRepo(repoPath, "diffStat", repo -> {
+        return cached(CACHE_DIFF_STAT, baseRef, headRef, () ->
+            withRepo(repoPath, "diffStat", repo -> renderDiffStat(repo, baseRef, headRef))
+        );
+    }
+
+    /** Same as {@link #diffStat(Path, String, String)}, on an already open handle. */
+    @Nullable
+    public String diffStat(Repository repository, String baseRef, String headRef) {
+        return cached(CACHE_DIFF_STAT, baseRef, headRef, () -> renderDiffStat(repository, baseRef, headRef));
+    }
+
+    @Nullable
+    private String renderDiffStat(Repository repository, String baseRef, String headRef) {
+        return withRepo(repository, "diffStat", repo -> {
             ObjectId[] range = resolveRange(repo, baseRef, headRef);
             if (range == null) return null;
 
@@ -234,7 +331,13 @@ public class GitDiffOperations {
     /** One path per line; renames return the new path (matches {@code git diff --name-only}). */
     @Nullable
     public String diffNameOnly(Path repoPath, String baseRef, String headRef) {
-        return withRepo(repoPath, "diffNameOnly", repo -> {
+        return withRepo(repoPath, "diffNameOnly", repo -> diffNameOnly(repo, baseRef, headRef));
+    }
+
+    /** Same as {@link #diffNameOnly(Path, String, String)}, on an already open handle. */
+    @Nullable
+    public String diffNameOnly(Repository repository, String baseRef, String headRef) {
+        return withRepo(repository, "diffNameOnly", repo -> {
             ObjectId[] range = resolveRange(repo, baseRef, headRef);
             if (range == null) return null;
 
@@ -258,7 +361,13 @@ public class GitDiffOperations {
     /** {@code <shortSha>\t<subject>}, one commit per line, newest first. */
     @Nullable
     public String shortLog(Path repoPath, String baseRef, String headRef) {
-        return withRepo(repoPath, "shortLog", repo -> {
+        return withRepo(repoPath, "shortLog", repo -> shortLog(repo, baseRef, headRef));
+    }
+
+    /** Same as {@link #shortLog(Path, String, String)}, on an already open handle. */
+    @Nullable
+    public String shortLog(Repository repository, String baseRef, String headRef) {
+        return withRepo(repository, "shortLog", repo -> {
             ObjectId[] range = resolveRange(repo, baseRef, headRef);
             if (range == null) return null;
 
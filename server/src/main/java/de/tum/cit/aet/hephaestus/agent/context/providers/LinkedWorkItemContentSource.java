@@ -316,8 +316,10 @@ public class LinkedWorkItemContentSource implements EvidenceSource {
         }
 
         try {
-            var repoPath = gitRepositoryManager.getRepositoryPath(repositoryId);
-            String[] range = gitDiffOperations.resolveDiffRange(repoPath, targetBranch, sourceBranch, headSha);
+            // The range comes back as commit ids, so the walk below needs no ref to stay put in between.
+            String[] range = gitRepositoryManager.withRepository(repositoryId, repo ->
+                gitDiffOperations.resolveDiffRange(repo, targetBranch, sourceBranch, headSha)
+            );
             if (range == null) {
                 return;
             }
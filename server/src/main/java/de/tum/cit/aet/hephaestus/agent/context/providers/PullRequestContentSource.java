@@ -26,7 +26,6 @@ import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequestreviewcomment
 import de.tum.cit.aet.hephaestus.integration.scm.domain.signal.ScmSignals;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.GitRepositoryManager;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumMap;
@@ -394,6 +393,8 @@ public class PullRequestContentSource implements EvidenceSource, ReviewContextBu
 
     private record CommentCapture(List<PullRequestReviewComment> comments, boolean complete) {}
 
+    private record DiffRead(String @Nullable [] range, @Nullable String diffStat, @Nullable String diff) {}
+
     private void computeAndStoreDiff(
         Map<String, byte[]> files,
         long repositoryId,
@@ -403,10 +404,22 @@ public class PullRequestContentSource implements EvidenceSource, ReviewContextBu
         String headSha = metadata.has("commit_sha") ? metadata.get("commit_sha").asString() : null;
         String targetBranch = requireText(metadata, "target_branch");
         String sourceBranch = requireText(metadata, "source_branch");
-        Path repoPath = gitRepositoryManager.getRepositoryPath(repositoryId);
 
         try {
-            String[] range = gitDiffOperations.resolveDiffRange(repoPath, targetBranch, sourceBranch, headSha);
+            // All three reads share one pooled handle and one read lock, so a concurrent fetch cannot
+            // move the refs between resolving the range and formatting it.
+            DiffRead read = gitRepositoryManager.withRepository(repositoryId, repo -> {
+                String[] resolved = gitDiffOperations.resolveDiffRange(repo, targetBranch, sourceBranch, headSha);
+                if (resolved == null) {
+                    return new DiffRead(null, null, null);
+                }
+                return new DiffRead(
+                    resolved,
+                    gitDiffOperations.diffStat(repo, resolved[0], resolved[1]),
+                    gitDiffOperations.diff(repo, resolved[0], resolved[1])
+                );
+            });
+            String[] range = read.range();
             if (range == null) {
                 String reason = headVerified
                     ? "all resolution strategies failed"
@@ -424,8 +437,8 @@ public class PullRequestContentSource implements EvidenceSource, ReviewContextBu
                         repositoryId
                 );
             }
-            String diffStat = gitDiffOperations.diffStat(repoPath, range[0], range[1]);
-            String diff = gitDiffOperations.diff(repoPath, range[0], range[1]);
+            String diffStat = read.diffStat();
+            String diff = read.diff();
             // A null diff denotes a failed read (unresolved object, I/O error, or the size cap), never an
             // empty diff: storing zero bytes would report a change that was never read as AVAILABLE,
             // EMPTY and COMPLETE.
@@ -442,7 +455,7 @@ public class PullRequestContentSource implements EvidenceSource, ReviewContextBu
                 );
             }
             if (!diff.isBlank()) {
-                String annotatedDiff = GitDiffOperations.annotateDiffWithLineNumbers(diff);
+                String annotatedDiff = gitDiffOperations.annotatedDiff(range[0], range[1], diff);
                 files.put(OUTPUT_PREFIX + "diff.patch", annotatedDiff.getBytes(StandardCharsets.UTF_8));
                 if (diffStat != null) {
                     files.put(OUTPUT_PREFIX + "diff_stat.txt", diffStat.getBytes(StandardCharsets.UTF_8));
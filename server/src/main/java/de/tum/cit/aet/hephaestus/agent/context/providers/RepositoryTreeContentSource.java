@@ -12,22 +12,23 @@ import de.tum.cit.aet.hephaestus.evidence.SourceCaptureState;
 import de.tum.cit.aet.hephaestus.evidence.SourceCompleteness;
 import de.tum.cit.aet.hephaestus.evidence.SourceKind;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.GitRepositoryManager;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.TreeSnapshotCache;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.JsonNode;
 
 /**
  * Materialises a pinned commit tree without exposing the host clone, {@code .git}, history, symlinks, or
- * submodules to the sandbox. Exclusions and size bounds make the reported capture partial.
+ * submodules to the sandbox. Exclusions and size bounds make the reported capture partial. Jobs reviewing the
+ * same tree share one copy through {@link TreeSnapshotCache}.
  */
 @Component
 @Order(1_000)
-@RequiredArgsConstructor
 public class RepositoryTreeContentSource implements EvidenceSource {
 
     private static final SourceKind KIND = new SourceKind("scm.repository.tree");
@@ -44,6 +45,22 @@ public class RepositoryTreeContentSource implements EvidenceSource {
 
     private final GitRepositoryManager gitRepositoryManager;
 
+    @Nullable
+    private final TreeSnapshotCache treeSnapshotCache;
+
+    public RepositoryTreeContentSource(GitRepositoryManager gitRepositoryManager) {
+        this(gitRepositoryManager, null);
+    }
+
+    @Autowired
+    public RepositoryTreeContentSource(
+        GitRepositoryManager gitRepositoryManager,
+        @Nullable TreeSnapshotCache treeSnapshotCache
+    ) {
+        this.gitRepositoryManager = gitRepositoryManager;
+        this.treeSnapshotCache = treeSnapshotCache;
+    }
+
     @Override
     public boolean supports(ContextRequest request) {
         return request instanceof ContextRequest.PracticeReviewRequest;
@@ -141,7 +158,9 @@ public class RepositoryTreeContentSource implements EvidenceSource {
             );
         }
         try {
-            return gitRepositoryManager.readTreeSnapshot(repositoryId, commitSha);
+            return treeSnapshotCache != null
+                ? treeSnapshotCache.acquire(repositoryId, commitSha)
+                : gitRepositoryManager.readTreeSnapshot(repositoryId, commitSha);
         } catch (GitRepositoryManager.GitOperationException e) {
             throw new EvidenceCollectionException("Could not capture repository tree at " + commitSha, e);
         }
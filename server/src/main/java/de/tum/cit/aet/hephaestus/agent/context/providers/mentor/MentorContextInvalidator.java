@@ -21,7 +21,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
 /**
  * Evicts mentor context caches after committed domain events. Surgical point-key eviction
  * (per {@code workspaceId + ":" + userId} or per {@code workspaceId}) so a single CRUD does
- * not amplify into a thundering herd across active users.
+ * not amplify into a thundering herd across active users. The listener runs on the replica that saw the
+ * event; the caches from {@code CacheConfig} carry each eviction to the other replicas.
  *
  * <p>Every listener is {@link Async} so commit-callback latency does not block the publishing
  * transaction's caller. Matches the {@code ActivityEventListener} / {@code AchievementEventListener}
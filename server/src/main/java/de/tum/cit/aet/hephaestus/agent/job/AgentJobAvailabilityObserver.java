@@ -0,0 +1,9 @@
+package de.tum.cit.aet.hephaestus.agent.job;
+
+/**
+ * Receives {@code agent_job_available} notifications from {@link AgentJobNotificationListener}. Called on the
+ * listener thread, once per delivered batch of notifications; implementations must return quickly.
+ */
+interface AgentJobAvailabilityObserver {
+    void onJobsAvailable();
+}
@@ -9,18 +9,14 @@ import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
 import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
 import de.tum.cit.aet.hephaestus.integration.core.signal.DiscoveredVia;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalKey;
-import de.tum.cit.aet.hephaestus.integration.core.signal.SignalName;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalRecorder;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalStateReason;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.Issue;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequest;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequestRepository;
-import de.tum.cit.aet.hephaestus.integration.scm.domain.signal.ScmSignals;
 import de.tum.cit.aet.hephaestus.practices.review.GateDecision;
 import de.tum.cit.aet.hephaestus.practices.review.PracticeReviewDetectionGate;
 import de.tum.cit.aet.hephaestus.practices.review.TriggerMode;
-import de.tum.cit.aet.hephaestus.workspace.Workspace;
-import de.tum.cit.aet.hephaestus.workspace.WorkspaceResolver;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +38,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * <p><strong>How a transition was discovered does not decide whether it is recorded.</strong> Dropping a
  * reconciliation-sourced event at the door would leave a successfully received transition with no trace
  * anywhere. The source governs only whether a review is <em>triggered</em>; both sources reach the ledger.
+ * A sync-sourced event reaches it through {@link SyncSignalBatcher}, which records a sync page's signals
+ * in one statement, so this listener leaves those alone.
  */
 @Component
 @ConditionalOnProperty(prefix = "hephaestus.agent", name = "enabled", havingValue = "true")
@@ -52,20 +50,20 @@ public class AgentJobEventListener {
     private final AgentJobService agentJobService;
     private final PullRequestRepository pullRequestRepository;
     private final PracticeReviewDetectionGate practiceReviewDetectionGate;
-    private final WorkspaceResolver workspaceResolver;
+    private final ScmEventSignalKeys signalKeys;
     private final SignalRecorder signalRecorder;
 
     public AgentJobEventListener(
         AgentJobService agentJobService,
         PullRequestRepository pullRequestRepository,
         PracticeReviewDetectionGate practiceReviewDetectionGate,
-        WorkspaceResolver workspaceResolver,
+        ScmEventSignalKeys signalKeys,
         SignalRecorder signalRecorder
     ) {
         this.agentJobService = agentJobService;
         this.pullRequestRepository = pullRequestRepository;
         this.practiceReviewDetectionGate = practiceReviewDetectionGate;
-        this.workspaceResolver = workspaceResolver;
+        this.signalKeys = signalKeys;
         this.signalRecorder = signalRecorder;
     }
 
@@ -142,14 +140,18 @@ public class AgentJobEventListener {
      * job, so a webhook redelivered after the review completed no longer re-runs it.
      */
     private void dispatch(ScmEventPayload.PullRequestData prData, EventContext context, String triggerEventName) {
+        // Reconciliation establishes THAT a transition happened, not live coaching about it — and the
+        // batcher has already left the row a later live delivery can still claim.
+        if (context.isSync()) {
+            return;
+        }
         try {
-            SignalKey key = signalKeyFor(prData, triggerEventName);
+            SignalKey key = signalKeys.forPullRequest(prData, triggerEventName);
             if (key == null) {
                 return;
             }
 
-            DiscoveredVia discoveredVia = context.isSync() ? DiscoveredVia.SYNC : DiscoveredVia.EVENT;
-            if (!signalRecorder.record(key, context.occurredAt(), discoveredVia)) {
+            if (!signalRecorder.record(key, context.occurredAt(), DiscoveredVia.EVENT)) {
                 log.debug(
                     "Signal already settled, not reviewing again: prNumber={}, repoName={}, signal={}",
                     prData.number(),
@@ -159,12 +161,6 @@ public class AgentJobEventListener {
                 return;
             }
 
-            // Reconciliation establishes THAT a transition happened, not live coaching about it — the
-            // row it leaves behind is what a later live delivery can still claim.
-            if (context.isSync()) {
-                return;
-            }
-
             PullRequest pr = pullRequestRepository.findByIdWithAllForGate(prData.id()).orElse(null);
             if (pr == null) {
                 log.warn("Cannot submit agent job: PR not found, prId={}", prData.id());
@@ -207,6 +203,9 @@ public class AgentJobEventListener {
     // Review event handling
 
     private void handleReviewEvent(ScmEventPayload.ReviewData reviewData, EventContext context) {
+        if (context.isSync()) {
+            return;
+        }
         try {
             // ReviewSubmitted carries ReviewData, not PullRequestData, so the PR is loaded here.
             PullRequest pr = pullRequestRepository.findByIdWithAllForGate(reviewData.pullRequestId()).orElse(null);
@@ -237,36 +236,6 @@ public class AgentJobEventListener {
 
     // Shared helpers
 
-    /**
-     * The ledger identity of this event, or null when there is nothing stable to key it on yet.
-     *
-     * <p>Reads the head commit through a single-column projection rather than the gate's fetch graph:
-     * a reconciliation pass records without ever needing the rest of it.
-     */
-    private @Nullable SignalKey signalKeyFor(ScmEventPayload.PullRequestData prData, String triggerEventName) {
-        // The mirror can hold a pull request whose repository row is gone; that reads as "not ours"
-        // rather than as an error, matching the gate.
-        String repositoryName = repositoryNameOf(prData);
-        Workspace workspace = workspaceResolver.resolveForRepository(repositoryName).orElse(null);
-        if (workspace == null) {
-            log.debug("No workspace owns this repository, nothing to record: repoName={}", repositoryName);
-            return null;
-        }
-        SignalName signal = ScmSignals.forTriggerEvent(triggerEventName).orElse(null);
-        if (signal == null) {
-            log.debug("No signal declared for trigger event, nothing to record: event={}", triggerEventName);
-            return null;
-        }
-        return ScmSignals.pullRequestKey(
-            workspace.getId(),
-            prData.id(),
-            signal,
-            pullRequestRepository.findHeadRefOidById(prData.id()).orElse(null),
-            prData.title(),
-            prData.body()
-        ).orElse(null);
-    }
-
     private static @Nullable String repositoryNameOf(ScmEventPayload.PullRequestData prData) {
         return prData.repository() != null ? prData.repository().nameWithOwner() : null;
     }
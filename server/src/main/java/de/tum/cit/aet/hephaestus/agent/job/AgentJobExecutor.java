@@ -42,6 +42,7 @@ import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,12 +50,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -92,6 +96,11 @@ import tools.jackson.databind.node.ObjectNode;
  *
  * <p>Claim and terminal write each get their own short transaction; execution runs between them with
  * no transaction and no DB connection held.
+ *
+ * <p>An idle loop waits for {@link #wakeUp()} from {@link AgentJobNotificationListener} and polls on
+ * {@code pollInterval} only as a fallback. On a worker connected to the hub, NOTIFY wakeups are ignored:
+ * the hub places jobs with {@code AssignJob} ({@link #offerAssignedJob}), and only the assigned worker
+ * touches the DB — a claim by id rather than a candidate scan.
  */
 @Component
 // Expression rather than two @ConditionalOnProperty: Spring honors only one of those per element.
@@ -99,7 +108,7 @@ import tools.jackson.databind.node.ObjectNode;
     "${" + RuntimeRole.AGENT_ENABLED_PROPERTY + ":false} and ${" + RuntimeRole.WORKER_PROPERTY + ":true}"
 )
 @WorkspaceAgnostic("Job poller processes jobs across all workspaces")
-public class AgentJobExecutor {
+public class AgentJobExecutor implements AgentJobAvailabilityObserver {
 
     private static final Logger log = LoggerFactory.getLogger(AgentJobExecutor.class);
 
@@ -166,6 +175,13 @@ public class AgentJobExecutor {
     private final Counter concurrencyRejected;
     private final Timer claimLatency;
     private final Counter infraRetryRequeued;
+    private final Counter wokenByNotify;
+    private final Counter wokenByTimeout;
+    /** Released by {@link #wakeUp()}; drained on every wait, so a burst of wakeups costs one extra poll. */
+    private final Semaphore wakeups = new Semaphore(0);
+    /** Job ids placed on this worker by the hub, claimed ahead of any candidate scan. */
+    private final ConcurrentLinkedQueue<UUID> assignedJobs = new ConcurrentLinkedQueue<>();
+    private volatile BooleanSupplier pushDispatchActive = () -> false;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private volatile Thread pollThread;
     private final Phaser inFlight = new Phaser(1); // 1 = the executor itself; deregistered on stop
@@ -218,10 +234,20 @@ public class AgentJobExecutor {
             .register(meterRegistry);
         this.claimLatency = Timer.builder("agent.job.claim.latency")
             .description("Time between a job becoming available (available_at) and being claimed")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
             .register(meterRegistry);
         this.infraRetryRequeued = Counter.builder("agent.job.infra.retry.requeued")
             .description("Jobs requeued (not failed) after a classified sandbox-infrastructure failure")
             .register(meterRegistry);
+        this.wokenByNotify = Counter.builder("agent.job.poll.wakeups")
+            .description("Idle poll-loop waits ended early by an agent_job_available notification, or by the timer")
+            .tag("trigger", "notify")
+            .register(meterRegistry);
+        this.wokenByTimeout = Counter.builder("agent.job.poll.wakeups")
+            .description("Idle poll-loop waits ended early by an agent_job_available notification, or by the timer")
+            .tag("trigger", "timeout")
+            .register(meterRegistry);
     }
 
     @EventListener(ApplicationReadyEvent.class)
@@ -380,13 +406,15 @@ public class AgentJobExecutor {
             try {
                 int capacity = computeCapacity();
                 if (capacity <= 0) {
-                    sleepPollInterval();
+                    awaitWakeUpOrPollInterval();
                     continue;
                 }
 
-                List<UUID> candidates = jobRepository.findQueuedIdsOldestFirst(capacity);
+                List<UUID> assigned = drainAssignedJobs(capacity);
+                boolean fromAssignment = !assigned.isEmpty();
+                List<UUID> candidates = fromAssignment ? assigned : jobRepository.findQueuedIdsOldestFirst(capacity);
                 if (candidates.isEmpty()) {
-                    sleepPollInterval();
+                    awaitWakeUpOrPollInterval();
                     continue;
                 }
 
@@ -410,8 +438,11 @@ public class AgentJobExecutor {
                 }
                 // Busy-spin protection: without this backoff, an all-skipped batch re-queries immediately
                 // and a saturated pool claims-then-requeues in a tight loop, hammering the DB.
-                if (!anyDispatched || poolRejected) {
+                if (poolRejected || (!anyDispatched && !fromAssignment)) {
                     sleepPollInterval();
+                } else if (fromAssignment && assignedJobs.isEmpty()) {
+                    // Assignments were claimed by id; a scan now would be the per-worker load push avoids.
+                    awaitWakeUpOrPollInterval();
                 }
             } catch (Exception e) {
                 log.warn("Poll loop error, retrying in {}: {}", agentProperties.pollInterval(), e.getMessage());
@@ -442,19 +473,90 @@ public class AgentJobExecutor {
     }
 
     /**
-     * ±10% jitter, because replicas sharing one {@code pollInterval} would otherwise stay synchronized
-     * and land every poll in the same instant, amplifying claim contention exactly when work exists.
+     * {@code agent_job_available} NOTIFY. Ignored while the hub is placing jobs on this worker, otherwise
+     * every connected worker would scan on every enqueue.
+     */
+    @Override
+    public void onJobsAvailable() {
+        if (!pushDispatchActive.getAsBoolean()) {
+            wakeUp();
+        }
+    }
+
+    /** Wired to the worker control channel's connection state; see {@link #onJobsAvailable()}. */
+    public void setPushDispatchActive(BooleanSupplier pushDispatchActive) {
+        this.pushDispatchActive = pushDispatchActive;
+    }
+
+    /**
+     * Accepts a hub placement ({@code AssignJob}) when this worker has a free slot for it. The job is claimed
+     * on the poll thread through {@link #processJob}, so a stale assignment fails the claim like any lost
+     * race and the job stays with whichever worker claims it.
+     *
+     * @return {@code true} if the job was queued for a claim attempt
      */
+    public boolean offerAssignedJob(UUID jobId) {
+        if (!running.get() || assignedJobs.size() >= computeCapacity()) {
+            return false;
+        }
+        assignedJobs.add(jobId);
+        wakeUp();
+        return true;
+    }
+
+    private List<UUID> drainAssignedJobs(int capacity) {
+        List<UUID> drained = new ArrayList<>();
+        UUID jobId;
+        while (drained.size() < capacity && (jobId = assignedJobs.poll()) != null) {
+            drained.add(jobId);
+        }
+        return drained;
+    }
+
+    /**
+     * Signals the poll loop that a job may have become claimable. Only shortens an idle wait; backoff after
+     * a rejected or all-skipped batch still sleeps the full interval.
+     */
+    void wakeUp() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    /**
+     * Idle wait: nothing to claim, or no capacity to claim it with. Ends at the next {@link #wakeUp()} or,
+     * as the safety net for missed notifications and future {@code available_at}, after the poll interval.
+     */
+    private void awaitWakeUpOrPollInterval() {
+        try {
+            if (wakeups.tryAcquire(jitteredPollIntervalMillis(), TimeUnit.MILLISECONDS)) {
+                wakeups.drainPermits();
+                wokenByNotify.increment();
+            } else {
+                wokenByTimeout.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void sleepPollInterval() {
         try {
-            double jitterMultiplier = 0.9 + (ThreadLocalRandom.current().nextDouble() * 0.2);
-            long millis = Math.round(agentProperties.pollInterval().toMillis() * jitterMultiplier);
-            Thread.sleep(millis);
+            Thread.sleep(jitteredPollIntervalMillis());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * ±10% jitter, because replicas sharing one {@code pollInterval} would otherwise stay synchronized
+     * and land every poll in the same instant, amplifying claim contention exactly when work exists.
+     */
+    private long jitteredPollIntervalMillis() {
+        double jitterMultiplier = 0.9 + (ThreadLocalRandom.current().nextDouble() * 0.2);
+        return Math.round(agentProperties.pollInterval().toMillis() * jitterMultiplier);
+    }
+
     /**
      * @return true if the job was claimed and dispatched. Anything else leaves it QUEUED for the next
      *     poll, except the {@link ClaimOutcome}s {@link #claimJob} has already cancelled outright.
@@ -0,0 +1,171 @@
+package de.tum.cit.aet.hephaestus.agent.job;
+
+import de.tum.cit.aet.hephaestus.core.runtime.RuntimeRole;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fans the {@code agent_job_available} NOTIFY (fired by the {@code trg_agent_job_notify_available} trigger)
+ * out to every {@link AgentJobAvailabilityObserver} in this JVM: the {@link AgentJobExecutor} poll loop on
+ * a worker, {@link AgentJobPushDispatcher} on a server hosting the worker hub. Either way a new job is
+ * picked up immediately instead of after {@code pollInterval}.
+ *
+ * <p>Purely an accelerator: a dropped connection, a missed notification, or a job whose {@code available_at}
+ * lies in the future is still picked up by the timed poll. Holds one pooled connection for the lifetime of
+ * the pod, since a LISTEN lives on the session that issued it.
+ */
+@Component
+@ConditionalOnProperty(name = RuntimeRole.AGENT_ENABLED_PROPERTY, havingValue = "true")
+public class AgentJobNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentJobNotificationListener.class);
+
+    static final String CHANNEL = "agent_job_available";
+
+    // Bounds how long stop() waits for the listen thread: getNotifications blocks in a socket read that an
+    // interrupt does not break.
+    private static final int RECEIVE_TIMEOUT_MILLIS = 1000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final Duration THREAD_JOIN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final DataSource dataSource;
+    private final List<AgentJobAvailabilityObserver> observers;
+    private final Counter notificationsReceived;
+    private final Counter reconnects;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Thread listenThread;
+
+    AgentJobNotificationListener(
+        DataSource dataSource,
+        List<AgentJobAvailabilityObserver> observers,
+        MeterRegistry meterRegistry
+    ) {
+        this.dataSource = dataSource;
+        this.observers = List.copyOf(observers);
+        this.notificationsReceived = Counter.builder("agent.job.notify.received")
+            .description("agent_job_available notifications received (one per committing transaction)")
+            .register(meterRegistry);
+        this.reconnects = Counter.builder("agent.job.notify.reconnects")
+            .description("Times the LISTEN connection was lost and re-established")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(3) // After AgentJobExecutor.start() (@Order(2)), so the first wakeup has a poll loop to land on
+    public void start() {
+        if (observers.isEmpty()) {
+            // e.g. a webhook-only pod with the agent flag set: nobody here claims or places jobs.
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        listenThread = Thread.ofPlatform().name("agent-job-listen").daemon(true).start(this::listenLoop);
+        log.info("Agent job notification listener started: channel={}", CHANNEL);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+        Thread thread = listenThread;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(THREAD_JOIN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        boolean firstConnect = true;
+        while (running.get()) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+                if (!firstConnect) {
+                    reconnects.increment();
+                }
+                firstConnect = false;
+                // Anything committed while we were not listening was never delivered to us.
+                notifyObservers();
+                receive(connection.unwrap(PGConnection.class));
+                unlisten(connection);
+            } catch (SQLException e) {
+                if (!running.get()) {
+                    break;
+                }
+                log.warn("Agent job LISTEN connection lost, retrying in {}: {}", RECONNECT_DELAY, e.getMessage());
+                sleepReconnectDelay();
+            } catch (Exception e) {
+                log.warn("Agent job notification listener error, retrying in {}", RECONNECT_DELAY, e);
+                sleepReconnectDelay();
+            }
+        }
+        log.info("Agent job notification listener stopped");
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        while (running.get()) {
+            PGNotification[] notifications = connection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+            if (notifications != null && notifications.length > 0) {
+                notificationsReceived.increment(notifications.length);
+                notifyObservers();
+            }
+        }
+    }
+
+    private void notifyObservers() {
+        for (AgentJobAvailabilityObserver observer : observers) {
+            try {
+                observer.onJobsAvailable();
+            } catch (RuntimeException e) {
+                log.warn("Agent job availability observer {} failed", observer.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static void listen(Connection connection) throws SQLException {
+        // LISTEN takes effect on commit; a pooled connection may come back with autocommit off.
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+    }
+
+    /** The connection goes back to the pool; a lingering LISTEN would buffer notifications on it forever. */
+    private static void unlisten(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN " + CHANNEL);
+        } catch (SQLException e) {
+            log.debug("UNLISTEN failed on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private void sleepReconnectDelay() {
+        try {
+            Thread.sleep(RECONNECT_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package de.tum.cit.aet.hephaestus.agent.job;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import de.tum.cit.aet.hephaestus.core.runtime.ConditionalOnServerRole;
+import de.tum.cit.aet.hephaestus.core.runtime.RuntimeRole;
+import de.tum.cit.aet.hephaestus.core.runtime.hub.WorkerJobAssignmentDispatcher;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Server-side half of push dispatch: on every {@code agent_job_available} notification, one candidate scan
+ * on the hub replaces one per worker, and the claimable jobs are placed on connected workers through
+ * {@link WorkerJobAssignmentDispatcher} by their reported spare capacity.
+ *
+ * <p>The scan is skipped while no connected worker has a free slot, so a monolith (no workers connected to
+ * its hub) pays nothing. Anything not placed here — and every job whose {@code available_at} lies in the
+ * future — is still claimed by the workers' fallback poll.
+ */
+@ConditionalOnServerRole
+@Component
+@ConditionalOnProperty(name = RuntimeRole.AGENT_ENABLED_PROPERTY, havingValue = "true")
+@WorkspaceAgnostic("Places queued jobs across all workspaces")
+public class AgentJobPushDispatcher implements AgentJobAvailabilityObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentJobPushDispatcher.class);
+
+    /**
+     * How long a placed job is not offered again. Bursts of notifications arrive faster than the chosen
+     * worker claims; re-placing would hand the same job to a second worker that can only lose the race.
+     */
+    static final Duration ASSIGNMENT_TTL = Duration.ofSeconds(10);
+
+    private final AgentJobRepository jobRepository;
+    private final WorkerJobAssignmentDispatcher assignmentDispatcher;
+    private final Map<UUID, Instant> recentlyAssigned = new ConcurrentHashMap<>();
+
+    public AgentJobPushDispatcher(
+        AgentJobRepository jobRepository,
+        WorkerJobAssignmentDispatcher assignmentDispatcher
+    ) {
+        this.jobRepository = jobRepository;
+        this.assignmentDispatcher = assignmentDispatcher;
+    }
+
+    @Override
+    public void onJobsAvailable() {
+        int spare = assignmentDispatcher.spareCapacity();
+        if (spare <= 0) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        recentlyAssigned.values().removeIf(assignedAt -> assignedAt.isBefore(now.minus(ASSIGNMENT_TTL)));
+
+        // Over-fetch by what is already in flight so recently placed jobs don't crowd out new ones.
+        List<UUID> candidates = jobRepository.findQueuedIdsOldestFirst(spare + recentlyAssigned.size());
+        int placed = 0;
+        for (UUID jobId : candidates) {
+            if (placed >= spare) {
+                break;
+            }
+            if (recentlyAssigned.containsKey(jobId)) {
+                continue;
+            }
+            if (assignmentDispatcher.assign(jobId).isEmpty()) {
+                break; // every connected worker is full
+            }
+            recentlyAssigned.put(jobId, now);
+            placed++;
+        }
+        if (placed > 0) {
+            log.debug("Placed {} queued job(s) on connected workers", placed);
+        }
+    }
+}
@@ -14,7 +14,8 @@ import org.springframework.validation.annotation.Validated;
  * Configuration for the PostgreSQL-backed agent job queue: the {@code agent_job} table itself, claimed
  * by {@link AgentJobExecutor}'s poll loop with {@code FOR UPDATE SKIP LOCKED}.
  *
- * @param pollInterval      how long the poll loop sleeps when a poll claimed nothing
+ * @param pollInterval      longest idle wait between polls when no {@code agent_job_available} notification
+ *                          arrives; also the backoff after a batch that dispatched nothing
  * @param claimBatchSize    max QUEUED jobs considered per poll iteration
  * @param maxRetries        orphan-requeue attempts before a job whose owning worker was lost is failed
  *                          instead; the authoritative counter is {@code agent_job.retry_count}
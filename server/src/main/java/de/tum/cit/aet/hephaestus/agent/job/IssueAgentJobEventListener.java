@@ -9,17 +9,13 @@ import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
 import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
 import de.tum.cit.aet.hephaestus.integration.core.signal.DiscoveredVia;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalKey;
-import de.tum.cit.aet.hephaestus.integration.core.signal.SignalName;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalRecorder;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalStateReason;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.Issue;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.IssueRepository;
-import de.tum.cit.aet.hephaestus.integration.scm.domain.signal.ScmSignals;
 import de.tum.cit.aet.hephaestus.practices.review.GateDecision;
 import de.tum.cit.aet.hephaestus.practices.review.PracticeReviewDetectionGate;
 import de.tum.cit.aet.hephaestus.practices.review.TriggerMode;
-import de.tum.cit.aet.hephaestus.workspace.Workspace;
-import de.tum.cit.aet.hephaestus.workspace.WorkspaceResolver;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,7 +34,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * cost for PR-only workspaces (no matching practices → skip before any agent-config / role work).
  *
  * <p>Same transaction + async contract as the PR listener ({@code @Async},
- * {@code @TransactionalEventListener(AFTER_COMMIT)}, {@code REQUIRES_NEW}).
+ * {@code @TransactionalEventListener(AFTER_COMMIT)}, {@code REQUIRES_NEW}), and like it leaves
+ * sync-sourced events to {@link SyncSignalBatcher}.
  */
 @Component
 @ConditionalOnProperty(prefix = "hephaestus.agent", name = "enabled", havingValue = "true")
@@ -49,20 +46,20 @@ public class IssueAgentJobEventListener {
     private final AgentJobService agentJobService;
     private final IssueRepository issueRepository;
     private final PracticeReviewDetectionGate practiceReviewDetectionGate;
-    private final WorkspaceResolver workspaceResolver;
+    private final ScmEventSignalKeys signalKeys;
     private final SignalRecorder signalRecorder;
 
     public IssueAgentJobEventListener(
         AgentJobService agentJobService,
         IssueRepository issueRepository,
         PracticeReviewDetectionGate practiceReviewDetectionGate,
-        WorkspaceResolver workspaceResolver,
+        ScmEventSignalKeys signalKeys,
         SignalRecorder signalRecorder
     ) {
         this.agentJobService = agentJobService;
         this.issueRepository = issueRepository;
         this.practiceReviewDetectionGate = practiceReviewDetectionGate;
-        this.workspaceResolver = workspaceResolver;
+        this.signalKeys = signalKeys;
         this.signalRecorder = signalRecorder;
     }
 
@@ -121,14 +118,18 @@ public class IssueAgentJobEventListener {
         EventContext context,
         String triggerEventName
     ) {
+        // A history replay would otherwise fire a retrospective review for every issue ever closed;
+        // SyncSignalBatcher still records that we saw it.
+        if (context.isSync()) {
+            return;
+        }
         try {
-            SignalKey key = signalKeyFor(issueData, labelName, triggerEventName);
+            SignalKey key = signalKeys.forIssue(issueData, labelName, triggerEventName);
             if (key == null) {
                 return;
             }
 
-            DiscoveredVia discoveredVia = context.isSync() ? DiscoveredVia.SYNC : DiscoveredVia.EVENT;
-            if (!signalRecorder.record(key, context.occurredAt(), discoveredVia)) {
+            if (!signalRecorder.record(key, context.occurredAt(), DiscoveredVia.EVENT)) {
                 log.debug(
                     "Signal already settled, not reviewing again: issueId={}, signal={}",
                     issueData.id(),
@@ -137,12 +138,6 @@ public class IssueAgentJobEventListener {
                 return;
             }
 
-            // A history replay would otherwise fire a retrospective review for every issue ever closed;
-            // the signal row above still records that we saw it.
-            if (context.isSync()) {
-                return;
-            }
-
             Issue issue = issueRepository.findByIdWithRepositoryAndAssignees(issueData.id()).orElse(null);
             if (issue == null || issue.getRepository() == null) {
                 log.warn(
@@ -170,42 +165,6 @@ public class IssueAgentJobEventListener {
         }
     }
 
-    /**
-     * The ledger identity of this event. An issue carries no commit, so its signal keys on what the
-     * author wrote — an edit becomes a fresh occurrence and gets re-measured; a labelling also keys on
-     * the label, since three labels in one update are three occurrences with an otherwise-identical
-     * payload.
-     */
-    private @Nullable SignalKey signalKeyFor(
-        ScmEventPayload.IssueData issueData,
-        @Nullable String labelName,
-        String triggerEventName
-    ) {
-        Workspace workspace = workspaceResolver
-            .resolveForRepository(issueData.repository().nameWithOwner())
-            .orElse(null);
-        if (workspace == null) {
-            log.debug(
-                "No workspace owns this repository, nothing to record: repoName={}",
-                issueData.repository().nameWithOwner()
-            );
-            return null;
-        }
-        SignalName signal = ScmSignals.forTriggerEvent(triggerEventName).orElse(null);
-        if (signal == null) {
-            log.debug("No signal declared for trigger event, nothing to record: event={}", triggerEventName);
-            return null;
-        }
-        return ScmSignals.issueKey(
-            workspace.getId(),
-            issueData.id(),
-            signal,
-            issueData.title(),
-            issueData.body(),
-            labelName
-        ).orElse(null);
-    }
-
     private void submitJob(Issue issue, GateDecision.Detect detect, SignalKey signalKey) {
         IssueReviewSubmissionRequest request = new IssueReviewSubmissionRequest(
             issue.getId(),
@@ -0,0 +1,103 @@
+package de.tum.cit.aet.hephaestus.agent.job;
+
+import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
+import de.tum.cit.aet.hephaestus.integration.core.signal.SignalKey;
+import de.tum.cit.aet.hephaestus.integration.core.signal.SignalName;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequestRepository;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.signal.ScmSignals;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import de.tum.cit.aet.hephaestus.workspace.WorkspaceResolver;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * The ledger identity of an SCM domain event. Shared by the live listeners and {@link SyncSignalBatcher},
+ * so an occurrence a sync recorded and the same occurrence announced live land on one row.
+ */
+@Component
+class ScmEventSignalKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(ScmEventSignalKeys.class);
+
+    private final WorkspaceResolver workspaceResolver;
+    private final PullRequestRepository pullRequestRepository;
+
+    ScmEventSignalKeys(WorkspaceResolver workspaceResolver, PullRequestRepository pullRequestRepository) {
+        this.workspaceResolver = workspaceResolver;
+        this.pullRequestRepository = pullRequestRepository;
+    }
+
+    /**
+     * The ledger identity of this pull request event, or null when there is nothing stable to key it on yet.
+     *
+     * <p>Reads the head commit through a single-column projection rather than the gate's fetch graph:
+     * a reconciliation pass records without ever needing the rest of it.
+     */
+    @Nullable SignalKey forPullRequest(ScmEventPayload.PullRequestData prData, String triggerEventName) {
+        // The mirror can hold a pull request whose repository row is gone; that reads as "not ours"
+        // rather than as an error, matching the gate.
+        String repositoryName = prData.repository() != null ? prData.repository().nameWithOwner() : null;
+        Workspace workspace = workspaceResolver.resolveForRepository(repositoryName).orElse(null);
+        if (workspace == null) {
+            log.debug("No workspace owns this repository, nothing to record: repoName={}", repositoryName);
+            return null;
+        }
+        SignalName signal = signalFor(triggerEventName);
+        if (signal == null) {
+            return null;
+        }
+        return ScmSignals.pullRequestKey(
+            workspace.getId(),
+            prData.id(),
+            signal,
+            pullRequestRepository.findHeadRefOidById(prData.id()).orElse(null),
+            prData.title(),
+            prData.body()
+        ).orElse(null);
+    }
+
+    /**
+     * The ledger identity of this issue event. An issue carries no commit, so its signal keys on what the
+     * author wrote — an edit becomes a fresh occurrence and gets re-measured; a labelling also keys on
+     * the label, since three labels in one update are three occurrences with an otherwise-identical
+     * payload.
+     */
+    @Nullable SignalKey forIssue(
+        ScmEventPayload.IssueData issueData,
+        @Nullable String labelName,
+        String triggerEventName
+    ) {
+        Workspace workspace = workspaceResolver
+            .resolveForRepository(issueData.repository().nameWithOwner())
+            .orElse(null);
+        if (workspace == null) {
+            log.debug(
+                "No workspace owns this repository, nothing to record: repoName={}",
+                issueData.repository().nameWithOwner()
+            );
+            return null;
+        }
+        SignalName signal = signalFor(triggerEventName);
+        if (signal == null) {
+            return null;
+        }
+        return ScmSignals.issueKey(
+            workspace.getId(),
+            issueData.id(),
+            signal,
+            issueData.title(),
+            issueData.body(),
+            labelName
+        ).orElse(null);
+    }
+
+    private static @Nullable SignalName signalFor(String triggerEventName) {
+        SignalName signal = ScmSignals.forTriggerEvent(triggerEventName).orElse(null);
+        if (signal == null) {
+            log.debug("No signal declared for trigger event, nothing to record: event={}", triggerEventName);
+        }
+        return signal;
+    }
+}
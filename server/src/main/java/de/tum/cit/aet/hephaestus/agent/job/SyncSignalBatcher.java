@@ -0,0 +1,240 @@
+package de.tum.cit.aet.hephaestus.agent.job;
+
+import static de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent.TriggerEventNames;
+
+import de.tum.cit.aet.hephaestus.integration.core.events.EventContext;
+import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
+import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
+import de.tum.cit.aet.hephaestus.integration.core.signal.DiscoveredVia;
+import de.tum.cit.aet.hephaestus.integration.core.signal.SignalKey;
+import de.tum.cit.aet.hephaestus.integration.core.signal.SignalRecorder;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.Issue;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequest;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequestRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Records what a sync observes a page at a time: one bulk ledger write per committed sync transaction
+ * instead of one async hand-off and one insert per domain event.
+ *
+ * <p>The sync processors publish their domain events inside the transaction that persists a page, so this
+ * listens synchronously, collects the page's sync-sourced observations on that transaction, and records
+ * them through {@link SignalRecorder#recordAll} once it commits — the same moment the
+ * {@code AFTER_COMMIT} listeners would have run, and in a transaction of its own for the same reason theirs
+ * are: a page that rolled back observed nothing. An event published outside a transaction is ignored,
+ * as the {@code AFTER_COMMIT} listeners ignore it too.
+ *
+ * <p>The routing mirrors {@link AgentJobEventListener} and {@link IssueAgentJobEventListener}, which in
+ * turn leave sync-sourced events alone. A sync never triggers a review, so recording is all there is to do.
+ */
+@Component
+@ConditionalOnProperty(prefix = "hephaestus.agent", name = "enabled", havingValue = "true")
+public class SyncSignalBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncSignalBatcher.class);
+
+    private final ScmEventSignalKeys signalKeys;
+    private final PullRequestRepository pullRequestRepository;
+    private final SignalRecorder signalRecorder;
+    private final TransactionTemplate requiresNew;
+
+    public SyncSignalBatcher(
+        ScmEventSignalKeys signalKeys,
+        PullRequestRepository pullRequestRepository,
+        SignalRecorder signalRecorder,
+        TransactionTemplate transactionTemplate
+    ) {
+        this.signalKeys = signalKeys;
+        this.pullRequestRepository = pullRequestRepository;
+        this.signalRecorder = signalRecorder;
+        this.requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void onPullRequestCreated(ScmDomainEvent.PullRequestCreated event) {
+        observeOpenPullRequest(event.pullRequest(), event.context(), TriggerEventNames.PULL_REQUEST_CREATED);
+    }
+
+    @EventListener
+    public void onPullRequestReady(ScmDomainEvent.PullRequestReady event) {
+        observeOpenPullRequest(event.pullRequest(), event.context(), TriggerEventNames.PULL_REQUEST_READY);
+    }
+
+    @EventListener
+    public void onPullRequestSynchronized(ScmDomainEvent.PullRequestSynchronized event) {
+        observeOpenPullRequest(event.pullRequest(), event.context(), TriggerEventNames.PULL_REQUEST_SYNCHRONIZED);
+    }
+
+    @EventListener
+    public void onPullRequestMerged(ScmDomainEvent.PullRequestMerged event) {
+        ScmEventPayload.PullRequestData prData = event.pullRequest();
+        observe(event.context(), () -> signalKeys.forPullRequest(prData, TriggerEventNames.PULL_REQUEST_MERGED));
+    }
+
+    /** The landing half of a merge is {@link #onPullRequestMerged}'s, as in the live listener. */
+    @EventListener
+    public void onPullRequestClosed(ScmDomainEvent.PullRequestClosed event) {
+        if (event.wasMerged()) {
+            return;
+        }
+        ScmEventPayload.PullRequestData prData = event.pullRequest();
+        observe(event.context(), () -> signalKeys.forPullRequest(prData, TriggerEventNames.PULL_REQUEST_CLOSED));
+    }
+
+    @EventListener
+    public void onReviewSubmitted(ScmDomainEvent.ReviewSubmitted event) {
+        Long pullRequestId = event.review().pullRequestId();
+        observe(event.context(), () -> reviewSubmittedKey(pullRequestId));
+    }
+
+    @EventListener
+    public void onIssueCreated(ScmDomainEvent.IssueCreated event) {
+        observeOpenIssue(event.issue(), null, event.context(), TriggerEventNames.ISSUE_CREATED);
+    }
+
+    @EventListener
+    public void onIssueLabeled(ScmDomainEvent.IssueLabeled event) {
+        observeOpenIssue(event.issue(), event.label().name(), event.context(), TriggerEventNames.ISSUE_LABELED);
+    }
+
+    @EventListener
+    public void onIssueClosed(ScmDomainEvent.IssueClosed event) {
+        ScmEventPayload.IssueData issueData = event.issue();
+        observe(event.context(), () -> signalKeys.forIssue(issueData, null, TriggerEventNames.ISSUE_CLOSED));
+    }
+
+    private void observeOpenPullRequest(
+        ScmEventPayload.PullRequestData prData,
+        EventContext context,
+        String triggerEventName
+    ) {
+        if (isClosedOrMerged(prData.state(), prData.isMerged())) {
+            return;
+        }
+        observe(context, () -> signalKeys.forPullRequest(prData, triggerEventName));
+    }
+
+    private void observeOpenIssue(
+        ScmEventPayload.IssueData issueData,
+        @Nullable String labelName,
+        EventContext context,
+        String triggerEventName
+    ) {
+        if (issueData.state() == Issue.State.CLOSED) {
+            return;
+        }
+        observe(context, () -> signalKeys.forIssue(issueData, labelName, triggerEventName));
+    }
+
+    /** Reviews can arrive on already-merged pull requests (drive-by reviews); those are not a signal. */
+    private @Nullable SignalKey reviewSubmittedKey(Long pullRequestId) {
+        PullRequest pr = pullRequestRepository.findById(pullRequestId).orElse(null);
+        if (pr == null || isClosedOrMerged(pr.getState(), pr.isMerged())) {
+            return null;
+        }
+        return signalKeys.forPullRequest(
+            ScmEventPayload.PullRequestData.from(pr),
+            TriggerEventNames.REVIEW_SUBMITTED
+        );
+    }
+
+    /**
+     * Files the observation with the publishing transaction's page. The key is worked out only at flush
+     * time, after commit, so it reads the mirror exactly as the live listeners would.
+     *
+     * <p>The page is looked up among the transaction's synchronizations rather than bound as a resource:
+     * a {@code REQUIRES_NEW} transaction suspends the outer synchronizations but not custom resources, so
+     * only the former give an inner transaction a page of its own that commits or rolls back with it.
+     */
+    private void observe(EventContext context, Supplier<@Nullable SignalKey> key) {
+        if (!context.isSync() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Page page = currentPage();
+        if (page == null) {
+            page = new Page();
+            TransactionSynchronizationManager.registerSynchronization(page);
+        }
+        page.observations.add(new Observation(key, context.occurredAt()));
+    }
+
+    private @Nullable Page currentPage() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Page page && page.batcher() == this) {
+                return page;
+            }
+        }
+        return null;
+    }
+
+    private void flush(List<Observation> observations) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                Map<SignalKey, Instant> occurrences = new LinkedHashMap<>();
+                for (Observation observation : observations) {
+                    SignalKey key = keyOf(observation);
+                    if (key != null) {
+                        occurrences.putIfAbsent(key, observation.occurredAt());
+                    }
+                }
+                Set<SignalKey> recorded = signalRecorder.recordAll(occurrences, DiscoveredVia.SYNC);
+                log.debug(
+                    "Recorded sync-discovered signals: observed={}, distinct={}, new={}",
+                    observations.size(),
+                    occurrences.size(),
+                    recorded.size()
+                );
+            });
+        } catch (Exception e) {
+            log.error("Failed to record sync-discovered signals: observed={}", observations.size(), e);
+        }
+    }
+
+    /** One malformed artifact must not cost the rest of its page their rows. */
+    private static @Nullable SignalKey keyOf(Observation observation) {
+        try {
+            return observation.key().get();
+        } catch (RuntimeException e) {
+            log.warn("Skipped a sync-discovered signal whose key could not be derived", e);
+            return null;
+        }
+    }
+
+    private static boolean isClosedOrMerged(Issue.State state, boolean merged) {
+        return state == Issue.State.CLOSED || state == Issue.State.MERGED || merged;
+    }
+
+    private record Observation(Supplier<@Nullable SignalKey> key, Instant occurredAt) {}
+
+    /** One sync transaction's observations, registered with it for as long as it runs. */
+    private final class Page implements TransactionSynchronization {
+
+        private final List<Observation> observations = new ArrayList<>();
+
+        private SyncSignalBatcher batcher() {
+            return SyncSignalBatcher.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            flush(observations);
+        }
+    }
+}
@@ -126,7 +126,8 @@ public class WorkerConfiguration {
     }
 
     /**
-     * Wire hub-originated {@code CancelJob} frames to the executor's local-cancel path.
+     * Wire hub-originated {@code CancelJob} and {@code AssignJob} frames to the executor, and let the
+     * executor stop scanning on every {@code agent_job_available} NOTIFY while the hub is placing jobs.
      * Done after singletons are instantiated so the optional executor (only present when
      * {@code hephaestus.agent.enabled}) is resolved without creating a hard dependency cycle.
      */
@@ -135,7 +136,12 @@ public class WorkerConfiguration {
         WorkerControlClient client,
         Optional<AgentJobExecutor> executor
     ) {
-        return () -> executor.ifPresent(e -> client.setCancelHandler(e::cancelLocalJob));
+        return () ->
+            executor.ifPresent(e -> {
+                client.setCancelHandler(e::cancelLocalJob);
+                client.setAssignHandler(e::offerAssignedJob);
+                e.setPushDispatchActive(client::isConnected);
+            });
     }
 
     @Bean
@@ -1,5 +1,7 @@
 package de.tum.cit.aet.hephaestus.agent.runtime.worker;
 
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AckJob;
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AssignJob;
 import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.CancelJob;
 import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.CapacityReport;
 import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.ForceReconnect;
@@ -35,6 +37,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -84,6 +87,12 @@ public class WorkerControlClient {
      */
     private volatile BiConsumer<UUID, String> cancelHandler;
 
+    /**
+     * Handler for hub-originated {@link AssignJob} frames; returns whether the job was queued for a claim
+     * attempt, which is echoed back as {@link AckJob}. Wired like {@link #cancelHandler}.
+     */
+    private volatile Predicate<UUID> assignHandler;
+
     public WorkerControlClient(
         WorkerProperties properties,
         FrameCodec codec,
@@ -158,6 +167,14 @@ public class WorkerControlClient {
         this.cancelHandler = handler;
     }
 
+    /**
+     * Register the handler invoked when the hub sends an {@link AssignJob}. Last registration wins;
+     * {@code null} rejects every assignment so the hub falls back to DB polling for this worker.
+     */
+    public void setAssignHandler(Predicate<UUID> handler) {
+        this.assignHandler = handler;
+    }
+
     /** Sentinel {@link Instant#EPOCH} when no frame has been received yet. */
     public Instant lastInboundAt() {
         return lastInboundAt.get();
@@ -223,10 +240,12 @@ public class WorkerControlClient {
                     forceReconnect("server-requested:" + r.reason());
                 }
                 case CancelJob c -> handleCancelJob(c);
+                case AssignJob a -> handleAssignJob(a);
                 // Hub never originates these — log once and ignore (protocol violation by the hub).
                 case Heartbeat h -> warnSourceMismatch(h);
                 case WorkerHello h -> warnSourceMismatch(h);
                 case CapacityReport r -> warnSourceMismatch(r);
+                case AckJob a -> warnSourceMismatch(a);
             }
         } catch (RuntimeException e) {
             log.error("Inbound dispatch threw for {}", frame.getClass().getSimpleName(), e);
@@ -249,6 +268,23 @@ public class WorkerControlClient {
         handler.accept(jobId, frame.reason());
     }
 
+    private void handleAssignJob(AssignJob frame) {
+        UUID jobId;
+        try {
+            jobId = UUID.fromString(frame.jobId());
+        } catch (IllegalArgumentException e) {
+            log.warn("AssignJob with malformed jobId '{}'; ignoring", frame.jobId());
+            return;
+        }
+        Predicate<UUID> handler = assignHandler;
+        if (handler == null) {
+            send(new AckJob(frame.jobId(), false, "no-executor"));
+            return;
+        }
+        boolean accepted = handler.test(jobId);
+        send(new AckJob(frame.jobId(), accepted, accepted ? null : "declined"));
+    }
+
     private void warnSourceMismatch(WorkerControlFrame frame) {
         log.warn("Unexpected worker-source frame from hub: {}", frame.getClass().getSimpleName());
     }
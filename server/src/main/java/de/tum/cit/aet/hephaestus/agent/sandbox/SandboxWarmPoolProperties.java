@@ -0,0 +1,32 @@
+package de.tum.cit.aet.hephaestus.agent.sandbox;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Warm pool of isolated job networks for the Docker sandbox. Bound from {@code hephaestus.sandbox.warm-pool.*};
+ * both sizes default to 0, which leaves the pool inert.
+ *
+ * <p>Every parked network holds a subnet from the daemon's default address pools, of which a stock daemon has
+ * about 30 — shared with the networks of running jobs and mentor sessions — hence the cap.
+ *
+ * @param internal networks kept parked for jobs without internet access ({@code --internal})
+ * @param internet networks kept parked for jobs with internet access
+ * @param replenishInterval how often the pool tops itself up when no claim has triggered a refill, e.g. after
+ *     a failed create
+ */
+@Validated
+@ConfigurationProperties(prefix = "hephaestus.sandbox.warm-pool")
+public record SandboxWarmPoolProperties(
+    @DefaultValue("0") @Min(0) @Max(8) int internal,
+    @DefaultValue("0") @Min(0) @Max(8) int internet,
+    @DefaultValue("30s") Duration replenishInterval
+) {
+    public int size(boolean allowInternet) {
+        return allowInternet ? internet : internal;
+    }
+}
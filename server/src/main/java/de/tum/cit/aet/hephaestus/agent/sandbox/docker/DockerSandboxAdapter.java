@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -41,6 +42,10 @@ import org.slf4j.MDC;
  *
  * <p>Cancellation uses a simple {@link AtomicBoolean} flag per job. The execute loop checks the
  * flag between phases and stops the container if set.
+ *
+ * <p>With a {@link SandboxWarmPool}, PREPARE claims an already-connected network instead of creating
+ * one; on a miss it falls back to creating it. {@code sandbox.startup.duration{pool=hit|miss|off}}
+ * times everything before the agent process starts — the server-side share of time-to-first-token.
  */
 public class DockerSandboxAdapter implements SandboxManager {
 
@@ -92,6 +97,7 @@ public class DockerSandboxAdapter implements SandboxManager {
     private final ContainerSecurityPolicy securityPolicy;
     private final SandboxProperties properties;
     private final int serverPort;
+    private final @Nullable SandboxWarmPool warmPool;
 
     // Metrics
     private final Counter executionsSuccess;
@@ -116,6 +122,29 @@ public class DockerSandboxAdapter implements SandboxManager {
         int serverPort,
         MeterRegistry meterRegistry
     ) {
+        this(
+            networkManager,
+            workspaceManager,
+            containerManager,
+            securityPolicy,
+            properties,
+            serverPort,
+            meterRegistry,
+            null
+        );
+    }
+
+    public DockerSandboxAdapter(
+        SandboxNetworkManager networkManager,
+        SandboxWorkspaceManager workspaceManager,
+        SandboxContainerManager containerManager,
+        ContainerSecurityPolicy securityPolicy,
+        SandboxProperties properties,
+        int serverPort,
+        MeterRegistry meterRegistry,
+        @Nullable SandboxWarmPool warmPool
+    ) {
+        this.warmPool = warmPool;
         this.networkManager = networkManager;
         this.workspaceManager = workspaceManager;
         this.containerManager = containerManager;
@@ -158,6 +187,7 @@ public class DockerSandboxAdapter implements SandboxManager {
 
         String networkId = null;
         String containerId = null;
+        SandboxWarmPool.Lease lease = null;
         Instant startTime = Instant.now();
 
         MDC.put(MDC_JOB_ID, jobId.toString());
@@ -168,13 +198,21 @@ public class DockerSandboxAdapter implements SandboxManager {
             // PHASE 1: PREPARE
             checkCancelled(cancelled, jobId);
 
-            // Create isolated network
+            // Isolated network with the app-server connected: a parked one from the warm pool, or a new one.
             boolean allowInternet = spec.networkPolicy() != null && spec.networkPolicy().internetAccess();
-            networkId = networkManager.createJobNetwork(jobId, allowInternet);
+            lease = warmPool != null ? warmPool.claim(allowInternet).orElse(null) : null;
+            String appServerIp;
+            if (lease != null) {
+                networkId = lease.networkId();
+                appServerIp = lease.appServerIp();
+                log.info("Claimed warm sandbox network: networkId={}", networkId);
+            } else {
+                networkId = networkManager.createJobNetwork(jobId, allowInternet);
 
-            // Connect app-server to the job network (multi-homing) and get its IP.
-            // Returns null when the app-server runs on the host (not in Docker).
-            String appServerIp = networkManager.connectAppServer(networkId);
+                // Connect app-server to the job network (multi-homing) and get its IP.
+                // Returns null when the app-server runs on the host (not in Docker).
+                appServerIp = networkManager.connectAppServer(networkId);
+            }
             List<String> extraHosts = List.of();
             if (appServerIp == null) {
                 // App-server is on the host — use host.docker.internal with host-gateway mapping.
@@ -241,6 +279,7 @@ public class DockerSandboxAdapter implements SandboxManager {
 
             // PHASE 2: EXECUTE
             containerManager.startContainer(containerId);
+            recordStartup(startTime, allowInternet, lease);
             log.info("Container started");
 
             Duration timeout = spec.resourceLimits().maxRuntime();
@@ -298,6 +337,9 @@ public class DockerSandboxAdapter implements SandboxManager {
             activeContainers.remove(jobId);
             executionDuration.record(Duration.between(startTime, Instant.now()));
             cleanup(jobId, containerId, networkId);
+            if (lease != null) {
+                warmPool.release(lease);
+            }
             cancellationFlags.remove(jobId);
             MDC.remove(MDC_JOB_ID);
             MDC.remove(MDC_CONTAINER_ID);
@@ -398,6 +440,15 @@ public class DockerSandboxAdapter implements SandboxManager {
         return env;
     }
 
+    private void recordStartup(Instant startTime, boolean allowInternet, SandboxWarmPool.@Nullable Lease lease) {
+        String pool = warmPool == null || !warmPool.pools(allowInternet) ? "off" : lease != null ? "hit" : "miss";
+        Timer.builder("sandbox.startup.duration")
+            .tag("pool", pool)
+            .description("Time from sandbox execution start until the agent container is running")
+            .register(meterRegistry)
+            .record(Duration.between(startTime, Instant.now()));
+    }
+
     /**
      * Best-effort log capture on error paths — container is about to be removed by cleanup, so grab
      * logs while we can. Logs are emitted at WARN for post-mortem debugging.
@@ -9,6 +9,7 @@ import de.tum.cit.aet.hephaestus.agent.proxy.MentorProxyCredentialRegistry;
 import de.tum.cit.aet.hephaestus.agent.runtime.AgentImageProperties;
 import de.tum.cit.aet.hephaestus.agent.sandbox.InteractiveSandboxProperties;
 import de.tum.cit.aet.hephaestus.agent.sandbox.SandboxProperties;
+import de.tum.cit.aet.hephaestus.agent.sandbox.SandboxWarmPoolProperties;
 import de.tum.cit.aet.hephaestus.agent.sandbox.docker.interactive.DockerInteractiveSandboxAdapter;
 import de.tum.cit.aet.hephaestus.agent.sandbox.docker.interactive.InteractiveSandboxMetrics;
 import de.tum.cit.aet.hephaestus.agent.sandbox.docker.interactive.InteractiveSandboxRegistry;
@@ -52,7 +53,9 @@ import tools.jackson.databind.ObjectMapper;
 @Configuration
 @ConditionalOnProperty(name = RuntimeRole.WORKER_PROPERTY, havingValue = "true", matchIfMissing = true)
 @ConditionalOnClass(DockerClient.class)
-@EnableConfigurationProperties({ SandboxProperties.class, InteractiveSandboxProperties.class })
+@EnableConfigurationProperties(
+    { SandboxProperties.class, InteractiveSandboxProperties.class, SandboxWarmPoolProperties.class }
+)
 public class DockerSandboxConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(DockerSandboxConfiguration.class);
@@ -208,6 +211,16 @@ public class DockerSandboxConfiguration {
         return new SandboxContainerManager(ops, imageGuard, properties, dockerWaitExecutor);
     }
 
+    /** Inert unless {@code hephaestus.sandbox.warm-pool.*} sizes are set. */
+    @Bean
+    public SandboxWarmPool sandboxWarmPool(
+        SandboxNetworkManager networkManager,
+        SandboxWarmPoolProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new SandboxWarmPool(networkManager, properties, meterRegistry);
+    }
+
     @Bean
     public SandboxManager dockerSandboxAdapter(
         SandboxNetworkManager networkManager,
@@ -216,7 +229,8 @@ public class DockerSandboxConfiguration {
         ContainerSecurityPolicy securityPolicy,
         SandboxProperties properties,
         @Value("${server.port:8080}") int serverPort,
-        MeterRegistry meterRegistry
+        MeterRegistry meterRegistry,
+        SandboxWarmPool warmPool
     ) {
         return new DockerSandboxAdapter(
             networkManager,
@@ -225,7 +239,8 @@ public class DockerSandboxConfiguration {
             securityPolicy,
             properties,
             serverPort,
-            meterRegistry
+            meterRegistry,
+            warmPool
         );
     }
 
@@ -234,10 +249,11 @@ public class DockerSandboxConfiguration {
         AgentJobRepository jobRepository,
         SandboxContainerManager containerManager,
         SandboxNetworkManager networkManager,
+        SandboxWarmPool warmPool,
         MeterRegistry meterRegistry,
         Clock clock
     ) {
-        return new SandboxReconciler(jobRepository, containerManager, networkManager, meterRegistry, clock);
+        return new SandboxReconciler(jobRepository, containerManager, networkManager, warmPool, meterRegistry, clock);
     }
 
     @Bean
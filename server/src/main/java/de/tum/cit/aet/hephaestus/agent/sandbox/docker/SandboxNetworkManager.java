@@ -22,6 +22,8 @@ public class SandboxNetworkManager {
 
     private static final Logger log = LoggerFactory.getLogger(SandboxNetworkManager.class);
     static final String NETWORK_PREFIX = "agent-net-";
+    /** Warm-pool networks are named by pool member, since no job owns them when they are created. */
+    static final String POOL_NETWORK_PREFIX = NETWORK_PREFIX + "pool-";
 
     private final DockerNetworkOperations networkOps;
     private final SandboxProperties properties;
@@ -55,7 +57,21 @@ public class SandboxNetworkManager {
      * @return the Docker network ID
      */
     public String createJobNetwork(UUID jobId, boolean allowInternet) {
-        String networkName = NETWORK_PREFIX + jobId;
+        return createNetwork(NETWORK_PREFIX + jobId, allowInternet);
+    }
+
+    /**
+     * Create an isolated network for the warm pool, ahead of the job that will use it.
+     *
+     * @param memberId pool member identifier (used in network name)
+     * @param allowInternet if false, network is {@code --internal} (no external access)
+     * @return the Docker network ID
+     */
+    public String createPoolNetwork(UUID memberId, boolean allowInternet) {
+        return createNetwork(POOL_NETWORK_PREFIX + memberId, allowInternet);
+    }
+
+    private String createNetwork(String networkName, boolean allowInternet) {
         boolean internal = !allowInternet;
         String networkId = networkOps.createNetwork(networkName, internal);
         log.info("Created job network: name={}, internal={}, networkId={}", networkName, internal, networkId);
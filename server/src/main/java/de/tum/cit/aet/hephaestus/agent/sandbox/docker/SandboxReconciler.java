@@ -16,6 +16,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -35,6 +36,9 @@ import org.springframework.scheduling.annotation.Scheduled;
  *       configurable interval.
  * </ol>
  *
+ * <p>Warm-pool networks ({@code agent-net-pool-<member>}) belong to no job until one claims them;
+ * they are removed once {@link SandboxWarmPool} no longer tracks their member.
+ *
  * <p>Each operation is idempotent and wrapped in try-catch. A partial failure in one resource does
  * not block cleanup of others.
  */
@@ -50,8 +54,10 @@ public class SandboxReconciler {
     private final AgentJobRepository jobRepository;
     private final SandboxContainerManager containerManager;
     private final SandboxNetworkManager networkManager;
+    private final @Nullable SandboxWarmPool warmPool;
     private final Counter orphanedContainers;
     private final Counter orphanedNetworks;
+    private final Counter orphanedPoolNetworks;
     private final Counter completedSweeps;
     private final Counter skippedSweeps;
     private final Timer reconciliationDuration;
@@ -63,10 +69,22 @@ public class SandboxReconciler {
         SandboxNetworkManager networkManager,
         MeterRegistry meterRegistry,
         Clock clock
+    ) {
+        this(jobRepository, containerManager, networkManager, null, meterRegistry, clock);
+    }
+
+    public SandboxReconciler(
+        AgentJobRepository jobRepository,
+        SandboxContainerManager containerManager,
+        SandboxNetworkManager networkManager,
+        @Nullable SandboxWarmPool warmPool,
+        MeterRegistry meterRegistry,
+        Clock clock
     ) {
         this.jobRepository = jobRepository;
         this.containerManager = containerManager;
         this.networkManager = networkManager;
+        this.warmPool = warmPool;
         this.clock = clock;
         this.orphanedContainers = Counter.builder("sandbox.reconciler.orphaned")
             .tag("resource", "container")
@@ -76,6 +94,10 @@ public class SandboxReconciler {
             .tag("resource", "network")
             .description("Orphaned networks removed")
             .register(meterRegistry);
+        this.orphanedPoolNetworks = Counter.builder("sandbox.reconciler.orphaned")
+            .tag("resource", "pool-network")
+            .description("Warm-pool networks removed after their pool stopped tracking them")
+            .register(meterRegistry);
         this.completedSweeps = Counter.builder("sandbox.reconciler.sweeps")
             .tag("outcome", "completed")
             .description("Reconciliation sweeps that ran to completion")
@@ -226,24 +248,16 @@ public class SandboxReconciler {
                 if (!name.startsWith(SandboxNetworkManager.NETWORK_PREFIX)) {
                     continue;
                 }
+                if (name.startsWith(SandboxNetworkManager.POOL_NETWORK_PREFIX)) {
+                    cleanupLeakedPoolNetwork(network);
+                    continue;
+                }
                 String jobIdStr = name.substring(SandboxNetworkManager.NETWORK_PREFIX.length());
                 try {
                     UUID jobId = UUID.fromString(jobIdStr);
                     if (!activeJobIds.contains(jobId) && !inUse.contains(jobId)) {
                         log.warn("Removing orphaned network: id={}, name={}", network.id(), name);
-                        // Disconnect app-server before removing — Docker refuses to remove
-                        // networks with connected containers. Normal cleanup may have failed
-                        // to disconnect (the exact scenario reconciliation handles).
-                        try {
-                            networkManager.disconnectAppServer(network.id());
-                        } catch (Exception disconnectEx) {
-                            log.debug(
-                                "Could not disconnect app-server from orphaned network {}: {}",
-                                name,
-                                disconnectEx.getMessage()
-                            );
-                        }
-                        networkManager.removeNetwork(network.id());
+                        removeNetwork(network);
                         orphanedNetworks.increment();
                     }
                 } catch (IllegalArgumentException e) {
@@ -256,4 +270,38 @@ public class SandboxReconciler {
             log.warn("Failed to scan for orphaned networks: {}", e.getMessage());
         }
     }
+
+    /** A pool network is leaked once no live pool tracks its member, parked or claimed. */
+    private void cleanupLeakedPoolNetwork(DockerOperations.NetworkInfo network) {
+        String memberIdStr = network.name().substring(SandboxNetworkManager.POOL_NETWORK_PREFIX.length());
+        try {
+            UUID memberId = UUID.fromString(memberIdStr);
+            if (warmPool != null && warmPool.isMember(memberId)) {
+                return;
+            }
+            log.warn("Removing leaked warm-pool network: id={}, name={}", network.id(), network.name());
+            removeNetwork(network);
+            orphanedPoolNetworks.increment();
+        } catch (IllegalArgumentException e) {
+            log.debug("Pool network {} has non-UUID suffix: {}", network.name(), memberIdStr);
+        } catch (Exception e) {
+            log.warn("Failed to cleanup leaked pool network {}: {}", network.name(), e.getMessage());
+        }
+    }
+
+    private void removeNetwork(DockerOperations.NetworkInfo network) {
+        // Disconnect app-server before removing — Docker refuses to remove
+        // networks with connected containers. Normal cleanup may have failed
+        // to disconnect (the exact scenario reconciliation handles).
+        try {
+            networkManager.disconnectAppServer(network.id());
+        } catch (Exception disconnectEx) {
+            log.debug(
+                "Could not disconnect app-server from orphaned network {}: {}",
+                network.name(),
+                disconnectEx.getMessage()
+            );
+        }
+        networkManager.removeNetwork(network.id());
+    }
 }
@@ -0,0 +1,235 @@
+package de.tum.cit.aet.hephaestus.agent.sandbox.docker;
+
+import de.tum.cit.aet.hephaestus.agent.sandbox.SandboxWarmPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Keeps isolated job networks created and connected to the app-server ahead of demand, so {@link
+ * DockerSandboxAdapter} starts a job's container without first waiting on the daemon for its network.
+ *
+ * <p>The pooled unit is the network, not the container. The adapter runs the job's command as the container's
+ * main process — the timeout, {@link DockerSandboxAdapter#cancel cancel} and log capture all follow that process —
+ * and the image, command, environment (it carries the job's LLM proxy token), labels and host config are fixed
+ * when the container is created. A container parked before its job is known would need an idle main process with
+ * the job started in it by {@code docker exec}, the way the interactive adapter drives Pi; the batch adapter has no
+ * such lifecycle. So only the network and the app-server's multi-homing onto it are taken off the PREPARE phase:
+ * container create, input injection and start stay on the job's critical path, and {@code
+ * sandbox.startup.duration{pool=hit|miss}} shows what the warm network actually saves on a given daemon.
+ *
+ * <p>Members are parked per flavour ({@code --internal} or internet-enabled) and named {@code
+ * agent-net-pool-<member>}. A claimed member belongs to its job for the rest of the job's life and is removed by
+ * the adapter's cleanup like any job network; it is never parked again. Each claim triggers a background refill,
+ * and a periodic pass retries fills that failed. {@link SandboxReconciler} removes pool networks whose member this
+ * pool no longer tracks — left by a crash, or by a cleanup that failed — so, like the reconciler's startup sweep,
+ * the pool assumes it is the only worker on its Docker daemon.
+ *
+ * <p>Metrics: {@code sandbox.pool.claims{flavor,outcome=hit|miss}}, {@code sandbox.pool.parked{flavor}} and
+ * {@code sandbox.pool.replenish.failures}.
+ */
+public class SandboxWarmPool implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SandboxWarmPool.class);
+
+    private static final boolean[] FLAVORS = { false, true };
+
+    /** A parked network handed to one job. {@code appServerIp} is null when the app-server runs on the host. */
+    public record Lease(UUID memberId, String networkId, @Nullable String appServerIp) {}
+
+    private final SandboxNetworkManager networkManager;
+    private final SandboxWarmPoolProperties properties;
+    private final Map<Boolean, ConcurrentLinkedDeque<Lease>> parked = Map.of(
+        false,
+        new ConcurrentLinkedDeque<>(),
+        true,
+        new ConcurrentLinkedDeque<>()
+    );
+    /** Parked and claimed members; a pool network outside this set is a leak. */
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refillQueued = new AtomicBoolean();
+    private final Map<String, Counter> claimCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter replenishFailures;
+
+    private volatile boolean running;
+    private volatile @Nullable ScheduledExecutorService replenisher;
+
+    public SandboxWarmPool(
+        SandboxNetworkManager networkManager,
+        SandboxWarmPoolProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.networkManager = networkManager;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.replenishFailures = Counter.builder("sandbox.pool.replenish.failures")
+            .description("Warm-pool networks that could not be created or connected")
+            .register(meterRegistry);
+        for (boolean internet : FLAVORS) {
+            Gauge.builder("sandbox.pool.parked", parked.get(internet), ConcurrentLinkedDeque::size)
+                .tag("flavor", flavor(internet))
+                .description("Job networks parked in the sandbox warm pool")
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Hands out a parked network of the requested flavour, or empty when none is parked (or the flavour is not
+     * pooled). Every claim against a pooled flavour counts as a hit or a miss and triggers a refill.
+     */
+    public Optional<Lease> claim(boolean allowInternet) {
+        if (!pools(allowInternet)) {
+            return Optional.empty();
+        }
+        Lease lease = parked.get(allowInternet).pollFirst();
+        claims(allowInternet, lease != null ? "hit" : "miss").increment();
+        requestRefill();
+        return Optional.ofNullable(lease);
+    }
+
+    /** Whether networks of this flavour are being pooled at all. */
+    public boolean pools(boolean allowInternet) {
+        return running && properties.size(allowInternet) > 0;
+    }
+
+    /** Forgets a claimed member once its job's cleanup has removed the network. */
+    public void release(Lease lease) {
+        members.remove(lease.memberId());
+    }
+
+    /** Whether {@code memberId} is parked or held by a running job. */
+    public boolean isMember(UUID memberId) {
+        return members.contains(memberId);
+    }
+
+    /** Tops every flavour up to its configured size; stops at the first failure and leaves the rest to a retry. */
+    void replenish() {
+        for (boolean internet : FLAVORS) {
+            ConcurrentLinkedDeque<Lease> queue = parked.get(internet);
+            while (running && queue.size() < properties.size(internet)) {
+                UUID memberId = UUID.randomUUID();
+                // Registered before the network exists, so a concurrent reconciler sweep never sees it untracked.
+                members.add(memberId);
+                String networkId = null;
+                try {
+                    networkId = networkManager.createPoolNetwork(memberId, internet);
+                    String appServerIp = networkManager.connectAppServer(networkId);
+                    if (!running) {
+                        // Stopped while this member was being built: the shutdown drain has already run.
+                        discard(memberId, networkId);
+                        return;
+                    }
+                    queue.addLast(new Lease(memberId, networkId, appServerIp));
+                } catch (Exception e) {
+                    replenishFailures.increment();
+                    log.warn("Failed to park {} sandbox network: {}", flavor(internet), e.getMessage());
+                    discard(memberId, networkId);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void requestRefill() {
+        ScheduledExecutorService executor = replenisher;
+        if (executor != null && refillQueued.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    refillQueued.set(false);
+                    replenish();
+                });
+            } catch (RejectedExecutionException stopping) {
+                refillQueued.set(false);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (properties.internal() == 0 && properties.internet() == 0) {
+            return;
+        }
+        running = true;
+        // Platform thread: docker-java's HTTP client pins virtual threads (see dockerWaitExecutor).
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sandbox-warm-pool").daemon(true).factory()
+        );
+        long interval = properties.replenishInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::replenish, 0, interval, TimeUnit.MILLISECONDS);
+        replenisher = executor;
+        log.info("Sandbox warm pool started: internal={}, internet={}", properties.internal(), properties.internet());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledExecutorService executor = replenisher;
+        replenisher = null;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int removed = 0;
+        for (boolean internet : FLAVORS) {
+            Lease lease;
+            while ((lease = parked.get(internet).pollFirst()) != null) {
+                discard(lease.memberId(), lease.networkId());
+                removed++;
+            }
+        }
+        log.info("Sandbox warm pool stopped: removed {} parked network(s)", removed);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Best-effort removal; whatever survives is no longer a member, so the reconciler takes it. */
+    private void discard(UUID memberId, @Nullable String networkId) {
+        if (networkId != null) {
+            try {
+                networkManager.disconnectAppServer(networkId);
+                networkManager.removeNetwork(networkId);
+            } catch (Exception e) {
+                log.warn("Failed to remove pooled sandbox network {}: {}", networkId, e.getMessage());
+            }
+        }
+        members.remove(memberId);
+    }
+
+    private Counter claims(boolean allowInternet, String outcome) {
+        return claimCounters.computeIfAbsent(flavor(allowInternet) + '/' + outcome, key ->
+            Counter.builder("sandbox.pool.claims")
+                .tag("flavor", flavor(allowInternet))
+                .tag("outcome", outcome)
+                .description("Sandbox network claims against the warm pool, by outcome")
+                .register(meterRegistry)
+        );
+    }
+
+    private static String flavor(boolean allowInternet) {
+        return allowInternet ? "internet" : "internal";
+    }
+}
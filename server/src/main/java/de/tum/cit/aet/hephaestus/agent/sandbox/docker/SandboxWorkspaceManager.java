@@ -3,12 +3,13 @@ package de.tum.cit.aet.hephaestus.agent.sandbox.docker;
 import de.tum.cit.aet.hephaestus.agent.runtime.SandboxLayout;
 import de.tum.cit.aet.hephaestus.agent.sandbox.spi.SandboxException;
 import de.tum.cit.aet.hephaestus.agent.sandbox.spi.SandboxInfrastructureException;
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -17,6 +18,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -88,9 +91,9 @@ public class SandboxWorkspaceManager {
     /**
      * Inject files into a container via {@code docker cp}, from memory and from disk.
      *
-     * <p>The archive is written to a temporary file rather than held in memory, so heap use is
-     * independent of how much content is staged — on-disk entries travel disk-to-socket without this
-     * process ever holding their bytes.
+     * <p>The archive is streamed into the copy request while it is being written, never staged as a
+     * temporary file or held in memory: on-disk entries travel disk-to-socket once, and heap use is one
+     * pipe buffer regardless of how much content is staged.
      *
      * @param containerId the target container (must be created but can be stopped)
      * @param files map of relative paths to file contents held in memory
@@ -104,30 +107,15 @@ public class SandboxWorkspaceManager {
         if (inMemory.isEmpty() && onDisk.isEmpty()) {
             return;
         }
+        // Rejected before the copy starts, so an unsafe key never reaches the daemon as part of an archive.
+        inMemory.keySet().forEach(SandboxWorkspaceManager::validatePath);
+        onDisk.keySet().forEach(SandboxWorkspaceManager::validatePath);
 
-        Path tarFile = null;
         try {
-            tarFile = Files.createTempFile("sandbox-inputs-", ".tar");
-            writeInputTar(tarFile, inMemory, onDisk);
-            try (InputStream tarStream = Files.newInputStream(tarFile)) {
-                fileOps.copyArchiveToContainer(containerId, "/workspace", tarStream);
-            }
+            streamArchive(containerId, "/workspace", tar -> writeInputTar(tar, inMemory, onDisk));
             log.debug("Injected {} files into container {}", inMemory.size() + onDisk.size(), containerId);
         } catch (IOException e) {
             throw new SandboxInfrastructureException("Failed to inject files into container: " + containerId, e);
-        } finally {
-            deleteQuietly(tarFile);
-        }
-    }
-
-    private static void deleteQuietly(@Nullable Path path) {
-        if (path == null) {
-            return;
-        }
-        try {
-            Files.deleteIfExists(path);
-        } catch (IOException e) {
-            log.warn("Could not delete temporary archive {}", path, e);
         }
     }
 
@@ -155,12 +143,11 @@ public class SandboxWorkspaceManager {
     }
 
     /**
-     * Walk a host directory, create a tar archive on a temp file, and stream it into the container.
+     * Walk a host directory and stream it into the container as a tar archive.
      *
-     * <p>Uses a temporary file instead of {@link ByteArrayOutputStream} to avoid loading the entire
-     * archive into JVM heap. Memory usage is O(buffer_size) regardless of directory size, since each
-     * file is streamed through a fixed buffer. The docker-java transport streams the tar lazily via
-     * chunked transfer encoding — no additional buffering occurs downstream.
+     * <p>Memory usage is O(buffer_size) regardless of directory size: each file is streamed through a
+     * fixed buffer into the pipe that the docker-java transport reads via chunked transfer encoding, and
+     * no copy of the archive is staged on disk.
      *
      * <p>The tar entries are prefixed with the final path component so that extracting at the parent
      * of containerPath produces the correct layout.
@@ -173,31 +160,135 @@ public class SandboxWorkspaceManager {
             containerParent = Path.of("/");
         }
 
-        Path tempTar = null;
         try {
-            tempTar = Files.createTempFile("hephaestus-inject-", ".tar");
-
-            // Phase 1: Walk directory and write tar to temp file.
-            // Memory: O(COPY_BUFFER_SIZE) — each file is streamed, never loaded whole.
-            writeTarToFile(tempTar, hostDir, dirName, hostPath);
-
-            // Phase 2: Stream tar from disk to Docker daemon.
-            // docker-java wraps this in InputStreamEntity (chunked transfer) — no heap copy.
-            try (InputStream tarStream = new BufferedInputStream(Files.newInputStream(tempTar))) {
-                fileOps.copyArchiveToContainer(containerId, containerParent.toString(), tarStream);
-            }
+            streamArchive(containerId, containerParent.toString(), tar ->
+                writeDirectoryTar(tar, hostDir, dirName, hostPath)
+            );
         } catch (IOException e) {
             throw new SandboxInfrastructureException(
                 "Failed to inject directory " + hostPath + " into container " + containerId,
                 e
             );
-        } finally {
-            if (tempTar != null) {
+        }
+    }
+
+    /** Writes the entries of an archive; {@link #streamArchive} finishes it. */
+    @FunctionalInterface
+    private interface ArchiveWriter {
+        void write(TarArchiveOutputStream tar) throws IOException;
+    }
+
+    /**
+     * Stream a tar archive into a container while {@code writer} produces it. The archive is written on its
+     * own thread into a pipe of {@link #COPY_BUFFER_SIZE} bytes that the copy request reads, so no copy of
+     * it is staged on disk or in heap.
+     *
+     * <p>A writer failure reaches the reading side as an I/O error rather than a clean end of stream, so
+     * the daemon never extracts a cut-off archive as if it were whole, and it is rethrown here in
+     * preference to the copy's own error. A copy that fails first closes the pipe, which ends the writer.
+     */
+    private void streamArchive(String containerId, String remotePath, ArchiveWriter writer) throws IOException {
+        PipedInputStream pipeIn = new PipedInputStream(COPY_BUFFER_SIZE);
+        PipedOutputStream pipeOut = new PipedOutputStream(pipeIn);
+        AtomicReference<@Nullable Throwable> writeFailure = new AtomicReference<>();
+        AtomicBoolean copyEnded = new AtomicBoolean();
+        // Platform thread: the pipe blocks inside synchronized methods, which would pin a virtual thread's carrier.
+        Thread archiver = Thread.ofPlatform()
+            .name("sandbox-archive-" + containerId)
+            .daemon(true)
+            .start(() -> {
                 try {
-                    Files.deleteIfExists(tempTar);
-                } catch (IOException e) {
-                    log.warn("Failed to delete temp tar file {}: {}", tempTar, e.getMessage());
+                    TarArchiveOutputStream tar = new TarArchiveOutputStream(
+                        new BufferedOutputStream(pipeOut, COPY_BUFFER_SIZE)
+                    );
+                    tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                    tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+                    writer.write(tar);
+                    tar.close();
+                } catch (Throwable t) {
+                    // Once the copy has ended, a write error only says the reader closed the pipe.
+                    if (!(copyEnded.get() && t instanceof IOException)) {
+                        writeFailure.set(t);
+                    }
+                    closeQuietly(pipeOut);
                 }
+            });
+
+        RuntimeException copyFailure = null;
+        try {
+            fileOps.copyArchiveToContainer(containerId, remotePath, new WriterAwareInputStream(pipeIn, writeFailure));
+        } catch (RuntimeException e) {
+            copyFailure = e;
+        } finally {
+            copyEnded.set(true);
+            pipeIn.close();
+            try {
+                archiver.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SandboxInfrastructureException("Interrupted while streaming archive to " + containerId, e);
+            }
+        }
+
+        Throwable failure = writeFailure.get();
+        if (failure != null) {
+            if (copyFailure != null) {
+                failure.addSuppressed(copyFailure);
+            }
+            switch (failure) {
+                case IOException e -> throw e;
+                case RuntimeException e -> throw e;
+                case Error e -> throw e;
+                default -> throw new SandboxInfrastructureException("Failed to write archive", failure);
+            }
+        }
+        if (copyFailure != null) {
+            throw copyFailure;
+        }
+    }
+
+    private static void closeQuietly(OutputStream out) {
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.debug("Could not close archive pipe: {}", e.getMessage());
+        }
+    }
+
+    /** The reading end of an archive pipe, which fails as soon as the writing end has. */
+    private static final class WriterAwareInputStream extends FilterInputStream {
+
+        private final AtomicReference<@Nullable Throwable> writeFailure;
+
+        WriterAwareInputStream(InputStream in, AtomicReference<@Nullable Throwable> writeFailure) {
+            super(in);
+            this.writeFailure = writeFailure;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkWriter();
+            int read = super.read();
+            if (read < 0) {
+                checkWriter();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkWriter();
+            int read = super.read(b, off, len);
+            if (read < 0) {
+                checkWriter();
+            }
+            return read;
+        }
+
+        private void checkWriter() throws IOException {
+            Throwable failure = writeFailure.get();
+            if (failure != null) {
+                throw new IOException("Archive writer failed", failure);
             }
         }
     }
@@ -206,21 +297,15 @@ public class SandboxWorkspaceManager {
     private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
     /**
-     * Write a tar archive of the given directory to a file on disk. Files are streamed through a
+     * Write the entries of a tar archive of the given directory. Files are streamed through a
      * fixed-size buffer rather than loaded entirely into memory.
      */
-    private void writeTarToFile(Path tarFile, Path hostDir, String dirName, String hostPath) throws IOException {
+    private void writeDirectoryTar(TarArchiveOutputStream tar, Path hostDir, String dirName, String hostPath)
+        throws IOException {
         long[] totalBytes = { 0 };
         int[] entryCount = { 0 };
 
-        try (
-            OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(tarFile), COPY_BUFFER_SIZE);
-            TarArchiveOutputStream tar = new TarArchiveOutputStream(fileOut);
-            Stream<Path> paths = Files.walk(hostDir, MAX_WALK_DEPTH)
-        ) {
-            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-            tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
-
+        try (Stream<Path> paths = Files.walk(hostDir, MAX_WALK_DEPTH)) {
             paths.forEach(path -> {
                 try {
                     entryCount[0]++;
@@ -278,8 +363,6 @@ public class SandboxWorkspaceManager {
                     throw new SandboxInfrastructureException("Failed to add file to tar: " + path, e);
                 }
             });
-
-            tar.finish();
         }
     }
 
@@ -387,58 +470,48 @@ public class SandboxWorkspaceManager {
 
     // Internal helpers
 
-    private void writeInputTar(Path tarFile, Map<String, byte[]> files, Map<String, Path> filesOnDisk)
+    private void writeInputTar(TarArchiveOutputStream tar, Map<String, byte[]> files, Map<String, Path> filesOnDisk)
         throws IOException {
-        try (
-            OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(tarFile), COPY_BUFFER_SIZE);
-            TarArchiveOutputStream tar = new TarArchiveOutputStream(fileOut)
-        ) {
-            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-            tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
-
-            // Writable-region directories must be emitted explicitly as uid-1000 entries. Docker's tar
-            // extractor auto-creates intermediate dirs as root (uid 0), which is correct for the read-only
-            // inputs/ subtree but breaks work/ (ADR 0020): the precompute step does `mkdir -p work/
-            // precompute-out` and the agent uses work/ as scratch, both as uid 1000 — a root-owned work/
-            // would deny those writes. We therefore pre-create every work/* ancestor owned by 1000.
-            Set<String> allPaths = new LinkedHashSet<>(files.keySet());
-            allPaths.addAll(filesOnDisk.keySet());
-            for (String dir : writableAncestorDirs(allPaths)) {
-                TarArchiveEntry dirEntry = new TarArchiveEntry(dir + "/");
-                dirEntry.setModTime(System.currentTimeMillis());
-                dirEntry.setUserId(1000);
-                dirEntry.setGroupId(1000);
-                tar.putArchiveEntry(dirEntry);
-                tar.closeArchiveEntry();
-            }
+        // Writable-region directories must be emitted explicitly as uid-1000 entries. Docker's tar
+        // extractor auto-creates intermediate dirs as root (uid 0), which is correct for the read-only
+        // inputs/ subtree but breaks work/ (ADR 0020): the precompute step does `mkdir -p work/
+        // precompute-out` and the agent uses work/ as scratch, both as uid 1000 — a root-owned work/
+        // would deny those writes. We therefore pre-create every work/* ancestor owned by 1000.
+        Set<String> allPaths = new LinkedHashSet<>(files.keySet());
+        allPaths.addAll(filesOnDisk.keySet());
+        for (String dir : writableAncestorDirs(allPaths)) {
+            TarArchiveEntry dirEntry = new TarArchiveEntry(dir + "/");
+            dirEntry.setModTime(System.currentTimeMillis());
+            dirEntry.setUserId(1000);
+            dirEntry.setGroupId(1000);
+            tar.putArchiveEntry(dirEntry);
+            tar.closeArchiveEntry();
+        }
 
-            for (Map.Entry<String, byte[]> entry : files.entrySet()) {
-                TarArchiveEntry tarEntry = newInputEntry(validatePath(entry.getKey()), entry.getValue().length);
-                tar.putArchiveEntry(tarEntry);
-                tar.write(entry.getValue());
-                tar.closeArchiveEntry();
-            }
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            TarArchiveEntry tarEntry = newInputEntry(validatePath(entry.getKey()), entry.getValue().length);
+            tar.putArchiveEntry(tarEntry);
+            tar.write(entry.getValue());
+            tar.closeArchiveEntry();
+        }
 
-            for (Map.Entry<String, Path> entry : filesOnDisk.entrySet()) {
-                Path source = entry.getValue();
-                long fileSize = Files.size(source);
-                TarArchiveEntry tarEntry = newInputEntry(validatePath(entry.getKey()), fileSize);
-                tar.putArchiveEntry(tarEntry);
-                long written = copyExactly(source, tar, fileSize);
-                if (written != fileSize) {
-                    throw new SandboxException(
-                        "Source file changed during injection (declared " +
-                            fileSize +
-                            " bytes, read " +
-                            written +
-                            "): " +
-                            source
-                    );
-                }
-                tar.closeArchiveEntry();
+        for (Map.Entry<String, Path> entry : filesOnDisk.entrySet()) {
+            Path source = entry.getValue();
+            long fileSize = Files.size(source);
+            TarArchiveEntry tarEntry = newInputEntry(validatePath(entry.getKey()), fileSize);
+            tar.putArchiveEntry(tarEntry);
+            long written = copyExactly(source, tar, fileSize);
+            if (written != fileSize) {
+                throw new SandboxException(
+                    "Source file changed during injection (declared " +
+                        fileSize +
+                        " bytes, read " +
+                        written +
+                        "): " +
+                        source
+                );
             }
-
-            tar.finish();
+            tar.closeArchiveEntry();
         }
     }
 
@@ -7,8 +7,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.YearMonth;
 import java.time.ZoneOffset;
-import java.util.function.BooleanSupplier;
-import java.util.function.Supplier;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,22 +27,26 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>The ledger only gains a row when an agent job or mentor turn ENDS, so {@link #decide} is blind to
  * work running right now. A gate that must also bound a run already in progress reads {@link #headroom}
  * and adds the in-flight spend itself.
+ *
+ * <p>Spend is read from the month-to-date counters in {@link LlmSpendMonthly}, not summed from the ledger:
+ * one primary-key read per call, however busy the month has been. The counters are kept in step with
+ * the ledger by a trigger and corrected against it by {@link LlmSpendReconciler}.
  */
 @Service
 public class LlmBudgetService {
 
     private static final Logger log = LoggerFactory.getLogger(LlmBudgetService.class);
 
-    private final LlmUsageEventRepository usageRepository;
+    private final LlmSpendMonthlyRepository spendRepository;
     private final WorkspaceRepository workspaceRepository;
     private final MeterRegistry meterRegistry;
 
     public LlmBudgetService(
-        LlmUsageEventRepository usageRepository,
+        LlmSpendMonthlyRepository spendRepository,
         WorkspaceRepository workspaceRepository,
         MeterRegistry meterRegistry
     ) {
-        this.usageRepository = usageRepository;
+        this.spendRepository = spendRepository;
         this.workspaceRepository = workspaceRepository;
         this.meterRegistry = meterRegistry;
     }
@@ -102,45 +107,54 @@ public class LlmBudgetService {
         @Nullable BigDecimal instanceBudgetUsd,
         @Nullable BigDecimal byoBudgetUsd
     ) {
-        MonthWindow window = MonthWindow.of(YearMonth.now(ZoneOffset.UTC));
-        BigDecimal instanceSpent = spentIfCapped(instanceBudgetUsd, () ->
-            usageRepository.sumCost(workspaceId, window.from(), window.to())
-        );
-        BigDecimal byoSpent = spentIfCapped(byoBudgetUsd, () ->
-            usageRepository.sumByoCost(workspaceId, window.from(), window.to())
-        );
+        if (instanceBudgetUsd == null && byoBudgetUsd == null) {
+            // Neither purse is capped, so nothing can block: the counters are never read.
+            return LlmBudgetHeadroom.UNCAPPED;
+        }
+        Map<FundingSource, LlmSpendMonthly> buckets = monthToDate(workspaceId);
+        BigDecimal instanceSpent = spentIfCapped(instanceBudgetUsd, buckets.get(FundingSource.INSTANCE));
+        BigDecimal byoSpent = spentIfCapped(byoBudgetUsd, buckets.get(FundingSource.WORKSPACE));
         return new LlmBudgetHeadroom(
             instanceSpent,
             instanceBudgetUsd,
-            probeUnpriced(instanceSpent, instanceBudgetUsd, () ->
-                usageRepository.existsUnpricedInstanceFunded(workspaceId, window.from(), window.to())
-            ),
+            probeUnpriced(instanceSpent, instanceBudgetUsd, buckets.get(FundingSource.INSTANCE)),
             byoSpent,
             byoBudgetUsd,
-            probeUnpriced(byoSpent, byoBudgetUsd, () ->
-                usageRepository.existsUnpricedWorkspaceFunded(workspaceId, window.from(), window.to())
-            )
+            probeUnpriced(byoSpent, byoBudgetUsd, buckets.get(FundingSource.WORKSPACE))
         );
     }
 
-    /** An uncapped purse is never blocked, so its month-window SUM is never run. */
-    private static @Nullable BigDecimal spentIfCapped(@Nullable BigDecimal budgetUsd, Supplier<BigDecimal> pricedCost) {
-        return budgetUsd == null ? null : pricedCost.get();
+    private Map<FundingSource, LlmSpendMonthly> monthToDate(Long workspaceId) {
+        List<LlmSpendMonthly> rows = spendRepository.findMonth(workspaceId, YearMonth.now(ZoneOffset.UTC).atDay(1));
+        Map<FundingSource, LlmSpendMonthly> buckets = new EnumMap<>(FundingSource.class);
+        rows.forEach(row -> buckets.put(row.getId().getFundingSource(), row));
+        return buckets;
+    }
+
+    /** A purse with no bucket yet has spent nothing this month. */
+    private static @Nullable BigDecimal spentIfCapped(
+        @Nullable BigDecimal budgetUsd,
+        @Nullable LlmSpendMonthly bucket
+    ) {
+        if (budgetUsd == null) {
+            return null;
+        }
+        return bucket == null ? BigDecimal.ZERO : bucket.getPricedCostUsd();
     }
 
     /**
-     * A purse already exhausted on recorded spend alone skips the probe: EXHAUSTED outranks
+     * A purse already exhausted on recorded spend alone reports no blind spot: EXHAUSTED outranks
      * UNVERIFIABLE, and adding in-flight spend can only keep it exhausted.
      */
     private static boolean probeUnpriced(
         @Nullable BigDecimal spentUsd,
         @Nullable BigDecimal budgetUsd,
-        BooleanSupplier hasUnpriced
+        @Nullable LlmSpendMonthly bucket
     ) {
         if (spentUsd == null || budgetUsd == null || capReached(spentUsd, budgetUsd)) {
             return false;
         }
-        return hasUnpriced.getAsBoolean();
+        return bucket != null && bucket.getUnpricedEvents() > 0;
     }
 
     /**
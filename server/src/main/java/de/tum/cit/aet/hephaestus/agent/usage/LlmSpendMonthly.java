@@ -0,0 +1,73 @@
+package de.tum.cit.aet.hephaestus.agent.usage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Month-to-date spend per (workspace, UTC calendar month, purse) — a read model over {@code llm_usage_event},
+ * so the budget gate reads two rows instead of summing the month on every admission and proxy call.
+ *
+ * <p>Maintained by a trigger on the ledger ({@code trg_llm_usage_event_spend_monthly}) in the writer's own
+ * transaction: {@link LlmUsageRecorder}'s insert adds the row's contribution, and
+ * {@link LlmUsageEventRepository#applyResolvedPrice} moves it from {@link #getUnpricedEvents()} into
+ * {@link #getPricedCostUsd()}. {@link LlmSpendReconciler} periodically rewrites the current month from the
+ * ledger, which stays the source of truth.
+ *
+ * <p>Rows are written exclusively by that trigger and the reconciler; the entity is {@code @Immutable} so
+ * Hibernate never issues its own UPDATEs.
+ */
+@Entity
+@Immutable
+@Table(name = "llm_spend_monthly")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@ToString
+public class LlmSpendMonthly {
+
+    @EmbeddedId
+    private Id id;
+
+    /** PRICED spend only — what {@link LlmUsageEventRepository#sumCost} or {@code sumByoCost} would return. */
+    @Column(name = "priced_cost_usd", precision = 20, scale = 6, nullable = false)
+    private BigDecimal pricedCostUsd;
+
+    /** UNPRICED events in the bucket; any at all make a capped purse UNVERIFIABLE. */
+    @Column(name = "unpriced_events", nullable = false)
+    private long unpricedEvents;
+
+    /** Composite primary key — one bucket per workspace, UTC month (its first day) and purse. */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static class Id implements Serializable {
+
+        @Column(name = "workspace_id", nullable = false)
+        private Long workspaceId;
+
+        @Column(name = "month", nullable = false)
+        private LocalDate month;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "funding_source", length = 16, nullable = false)
+        private FundingSource fundingSource;
+    }
+}
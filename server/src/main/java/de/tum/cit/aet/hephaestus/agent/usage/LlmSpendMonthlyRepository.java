@@ -0,0 +1,86 @@
+package de.tum.cit.aet.hephaestus.agent.usage;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LlmSpendMonthlyRepository extends JpaRepository<LlmSpendMonthly, LlmSpendMonthly.Id> {
+    /** Both purses' buckets for one month; a purse nothing was charged to yet has no row. */
+    @Query("SELECT s FROM LlmSpendMonthly s WHERE s.id.workspaceId = :workspaceId AND s.id.month = :month")
+    List<LlmSpendMonthly> findMonth(@Param("workspaceId") Long workspaceId, @Param("month") LocalDate month);
+
+    /**
+     * Creates any missing bucket of the month and row-locks both, so no ledger write can fold into them
+     * until the caller's transaction ends. The no-op {@code DO UPDATE} is what takes the lock on an
+     * existing row; {@code DO NOTHING} would not.
+     */
+    @Modifying
+    @Query(
+        value = """
+        INSERT INTO llm_spend_monthly (workspace_id, month, funding_source, priced_cost_usd, unpriced_events)
+        SELECT :workspaceId, :month, f.funding_source, 0, 0
+        FROM (VALUES ('INSTANCE'), ('WORKSPACE')) AS f(funding_source)
+        ON CONFLICT (workspace_id, month, funding_source) DO UPDATE
+        SET priced_cost_usd = llm_spend_monthly.priced_cost_usd
+        """,
+        nativeQuery = true
+    )
+    int lockMonth(@Param("workspaceId") Long workspaceId, @Param("month") LocalDate month);
+
+    /**
+     * Rewrites the month's buckets from the ledger where they disagree with it. Call under
+     * {@link #lockMonth} in the same transaction: the ledger is then read after every writer that had
+     * already touched a bucket committed, and every later writer adds on top of the corrected value.
+     *
+     * @return number of buckets that were wrong
+     */
+    @Modifying
+    @Query(
+        value = """
+        WITH ledger AS (
+            SELECT f.funding_source,
+                   COALESCE(SUM(e.cost_usd) FILTER (WHERE e.pricing_state = 'PRICED'), 0) AS priced_cost_usd,
+                   COUNT(e.id) FILTER (WHERE e.pricing_state = 'UNPRICED') AS unpriced_events
+            FROM (VALUES ('INSTANCE'), ('WORKSPACE')) AS f(funding_source)
+            LEFT JOIN llm_usage_event e
+                ON e.funding_source = f.funding_source
+                AND e.workspace_id = :workspaceId
+                AND e.occurred_at >= :from AND e.occurred_at < :to
+            GROUP BY f.funding_source
+        )
+        UPDATE llm_spend_monthly s
+        SET priced_cost_usd = l.priced_cost_usd, unpriced_events = l.unpriced_events
+        FROM ledger l
+        WHERE s.workspace_id = :workspaceId AND s.month = :month AND s.funding_source = l.funding_source
+          AND (s.priced_cost_usd <> l.priced_cost_usd OR s.unpriced_events <> l.unpriced_events)
+        """,
+        nativeQuery = true
+    )
+    int reconcile(
+        @Param("workspaceId") Long workspaceId,
+        @Param("month") LocalDate month,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    /** Workspaces with ledger rows or counters in the month: everything a reconciliation pass must visit. */
+    @WorkspaceAgnostic("Reconciliation pass enumerates the instance's spend counters across all tenants")
+    @Query(
+        value = """
+        SELECT DISTINCT e.workspace_id FROM llm_usage_event e WHERE e.occurred_at >= :from AND e.occurred_at < :to
+        UNION
+        SELECT s.workspace_id FROM llm_spend_monthly s WHERE s.month = :month
+        """,
+        nativeQuery = true
+    )
+    List<Long> findWorkspaceIdsWithSpendIn(
+        @Param("month") LocalDate month,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+}
@@ -0,0 +1,99 @@
+package de.tum.cit.aet.hephaestus.agent.usage;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import de.tum.cit.aet.hephaestus.core.runtime.ConditionalOnServerRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Corrects the month-to-date spend counters the budget gate reads against the ledger they summarize.
+ *
+ * <p>The ledger trigger keeps {@link LlmSpendMonthly} in step with every insert and reprice, so in a healthy
+ * instance this pass finds nothing. It exists for what a trigger cannot see: a hand-edited ledger row, a
+ * restore that brought back one table and not the other, a bug in a future writer. Each correction is
+ * logged and counted as {@code llm.budget.counter.corrected}, because a counter that had to be corrected
+ * means the gate was judging against the wrong number until now.
+ *
+ * <p>Scope is the current month only, for the same reason as {@link LlmUsageRepricingSweeper}: it is the
+ * only window any cap reads. Each workspace is reconciled in its own short transaction that row-locks its
+ * two buckets first, so a concurrent ledger write is either already in the sums or added on top of them.
+ */
+@ConditionalOnServerRole
+@Component
+@WorkspaceAgnostic("Reconciling the instance's spend counters is inherently cross-workspace; touches spend only")
+public class LlmSpendReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmSpendReconciler.class);
+
+    private final LlmSpendMonthlyRepository spendRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public LlmSpendReconciler(
+        LlmSpendMonthlyRepository spendRepository,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.spendRepository = spendRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "0 7/30 * * * *")
+    @SchedulerLock(name = "llm-spend-reconcile", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
+    public void reconcile() {
+        reconcileNow(Instant.now());
+    }
+
+    /**
+     * Reconcile every workspace with spend in {@code now}'s calendar month. Exposed so tests can put a
+     * fixture in a chosen month rather than depend on today's date.
+     *
+     * @return how many buckets disagreed with the ledger and were rewritten
+     */
+    public int reconcileNow(Instant now) {
+        YearMonth yearMonth = YearMonth.from(now.atOffset(ZoneOffset.UTC));
+        LocalDate month = yearMonth.atDay(1);
+        LlmBudgetService.MonthWindow window = LlmBudgetService.MonthWindow.of(yearMonth);
+        List<Long> workspaceIds = spendRepository.findWorkspaceIdsWithSpendIn(month, window.from(), window.to());
+        int corrected = 0;
+        for (Long workspaceId : workspaceIds) {
+            try {
+                Integer fixed = transactionTemplate.execute(status -> {
+                    spendRepository.lockMonth(workspaceId, month);
+                    return spendRepository.reconcile(workspaceId, month, window.from(), window.to());
+                });
+                if (fixed != null && fixed > 0) {
+                    log.warn(
+                        "llm.budget.counter: corrected {} drifted spend bucket(s): workspaceId={}, month={}",
+                        fixed,
+                        workspaceId,
+                        yearMonth
+                    );
+                    meterRegistry.counter("llm.budget.counter.corrected").increment(fixed);
+                    corrected += fixed;
+                }
+            } catch (RuntimeException e) {
+                // One workspace failing must not leave every other workspace's counters unchecked.
+                log.warn("llm.budget.counter: workspace {} could not be reconciled: {}", workspaceId, e.toString());
+                meterRegistry.counter("llm.budget.counter.failure").increment();
+            }
+        }
+        log.debug(
+            "llm.budget.counter: reconciled {} workspace(s), {} bucket(s) corrected",
+            workspaceIds.size(),
+            corrected
+        );
+        return corrected;
+    }
+}
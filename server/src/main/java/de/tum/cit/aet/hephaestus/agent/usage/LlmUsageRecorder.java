@@ -17,7 +17,8 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * Sole append path for the LLM usage ledger. The caller supplies the price frozen at admission;
  * completion never consults a mutable catalog and never trusts a provider-reported model name for
  * pricing. The insert participates in the caller's result transaction, so accounting failure rolls that
- * result back.
+ * result back. The month-to-date counter the budget gate reads ({@link LlmSpendMonthly}) is bumped by a
+ * ledger trigger in the same transaction, so a recorded event is visible to the next admission.
  */
 @Service
 public class LlmUsageRecorder {
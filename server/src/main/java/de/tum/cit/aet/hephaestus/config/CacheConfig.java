@@ -7,6 +7,7 @@ import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
@@ -23,6 +24,8 @@ import org.springframework.context.annotation.Configuration;
  *   <li>{@code cache.size} — current entry count</li>
  * </ul>
  *
+ * <p>Each cache lives in one replica's heap; its evictions reach the other replicas through
+ * {@link CacheInvalidationBus} (see {@link ClusterInvalidatingCache}).
  */
 @Configuration
 public class CacheConfig {
@@ -33,6 +36,12 @@ public class CacheConfig {
     /** TTL for mentor context caches. Short enough to be invisible per-turn, long enough to be warm across consecutive turns. */
     private static final Duration MENTOR_CONTEXT_TTL = Duration.ofMinutes(5);
 
+    /**
+     * TTL for leaderboard snapshots. Activity evicts the affected windows right away, but only for the keys
+     * the recording replica holds; this bounds how stale another replica's copy of a window can get.
+     */
+    private static final Duration LEADERBOARD_SNAPSHOT_TTL = Duration.ofMinutes(5);
+
     /**
      * TTL for the JWT revocation NEGATIVE cache. Only REVOKED verdicts are cached (see
      * {@code RevocationAwareJwtDecoder}), so this is not a staleness window — a cached REVOKED entry
@@ -51,6 +60,9 @@ public class CacheConfig {
     /** Max entries for mentor context caches — bounded per active user, not per workspace. */
     private static final long MENTOR_MAX = 512L;
 
+    /** Max entries for leaderboard snapshots — each holds a whole ranked list. */
+    private static final long LEADERBOARD_SNAPSHOT_MAX = 256L;
+
     /** Max entries for the JWT revocation cache — bounded per active session. */
     private static final long AUTH_JWT_REVOKED_MAX = 10_000L;
 
@@ -64,6 +76,8 @@ public class CacheConfig {
         // avoid a config→core.auth internal-type dependency; the decoder owns the canonical const).
         new CacheSpec("auth_jwt_revoked", AUTH_JWT_REVOKED_TTL, AUTH_JWT_REVOKED_MAX),
         new CacheSpec("contributors", LONG_TTL, LONG_MAX),
+        // Name mirrors leaderboard.LeaderboardSnapshotCache.CACHE_NAME.
+        new CacheSpec("leaderboard_snapshots", LEADERBOARD_SNAPSHOT_TTL, LEADERBOARD_SNAPSHOT_MAX),
         new CacheSpec("mentor_authored_work_context", MENTOR_CONTEXT_TTL, MENTOR_MAX),
         new CacheSpec("mentor_practice_context", MENTOR_CONTEXT_TTL, MENTOR_MAX),
         new CacheSpec("mentor_user_context", MENTOR_CONTEXT_TTL, MENTOR_MAX),
@@ -72,11 +86,11 @@ public class CacheConfig {
     );
 
     @Bean
-    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+    public CacheManager cacheManager(MeterRegistry meterRegistry, CacheInvalidationBus invalidationBus) {
         SimpleCacheManager manager = new SimpleCacheManager();
-        List<CaffeineCache> caches = new ArrayList<>(SPECS.size());
+        List<Cache> caches = new ArrayList<>(SPECS.size());
         for (CacheSpec spec : SPECS) {
-            caches.add(buildCache(spec, meterRegistry));
+            caches.add(new ClusterInvalidatingCache(buildCache(spec, meterRegistry), invalidationBus));
         }
         manager.setCaches(caches);
         // SimpleCacheManager defers populating its internal lookup map until afterPropertiesSet()
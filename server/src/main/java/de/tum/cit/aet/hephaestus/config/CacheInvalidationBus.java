@@ -0,0 +1,207 @@
+package de.tum.cit.aet.hephaestus.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.Message;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Carries cache evictions from the replica that made them to every other replica. The caches built by
+ * {@link CacheConfig} are per-JVM Caffeine caches; without this, an eviction triggered by a domain event (see
+ * {@code MentorContextInvalidator}) only reaches the replica whose listener saw the event, and the others serve
+ * the stale entry until its TTL expires.
+ *
+ * <p>Evictions travel on the plain (non-JetStream) NATS subject {@value #SUBJECT}. At-most-once is enough: a
+ * dropped message costs one entry's staleness up to its TTL, the same as before this bus existed. The origin
+ * applies its eviction synchronously — a caller that evicts and then reads must not see the old value — and
+ * ignores its own echo, so each replica applies each eviction exactly once when it arrives.
+ *
+ * <p>Keys cross the wire by type: {@link String}, {@link Long}, {@link Integer} and {@link UUID} keys are
+ * evicted individually; any other key clears the named cache on the receiving replicas, which is never wrong,
+ * only colder.
+ *
+ * <p>Like {@code SyncPushService}, the shared NATS {@link Connection} bean may be absent or {@code null}; the
+ * bus is then local-only and {@link #publish} is a no-op.
+ *
+ * <p>Metrics: {@code cache.invalidation.messages{direction=publish|receive,outcome}} and
+ * {@code cache.invalidation.lag}, the time from the origin's publish to the receiver's apply (wall clocks of
+ * two replicas, so skew shows up in it).
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    static final String SUBJECT = "hephaestus.cache.invalidate";
+
+    /**
+     * One eviction on the wire. {@code key} is null for a cleared cache.
+     *
+     * @param origin  the publishing replica's bus id, so it can skip its own echo
+     * @param cache   cache name, as declared in {@link CacheConfig#SPECS}
+     * @param keyType {@code string}, {@code long}, {@code int} or {@code uuid}; null with {@code key}
+     * @param sentAt  publish time in epoch milliseconds
+     */
+    public record Invalidation(
+        String origin,
+        String cache,
+        @Nullable String keyType,
+        @Nullable String key,
+        long sentAt
+    ) {}
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<Connection> natsConnectionProvider;
+    private final Map<String, Cache> localCaches = new ConcurrentHashMap<>();
+    private final Counter publishSuccess;
+    private final Counter publishFailure;
+    private final Counter receiveApplied;
+    private final Counter receiveIgnored;
+    private final Counter receiveFailure;
+    private final Timer lag;
+    private volatile @Nullable Dispatcher dispatcher;
+
+    public CacheInvalidationBus(
+        ObjectMapper objectMapper,
+        @Qualifier("natsConnection") ObjectProvider<Connection> natsConnectionProvider,
+        MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.natsConnectionProvider = natsConnectionProvider;
+        this.publishSuccess = counter(meterRegistry, "publish", "success");
+        this.publishFailure = counter(meterRegistry, "publish", "failure");
+        this.receiveApplied = counter(meterRegistry, "receive", "applied");
+        this.receiveIgnored = counter(meterRegistry, "receive", "ignored");
+        this.receiveFailure = counter(meterRegistry, "receive", "failure");
+        this.lag = Timer.builder("cache.invalidation.lag")
+            .description("Time from an eviction's publish on one replica to its apply on another")
+            .register(meterRegistry);
+        subscribeIfNatsAvailable();
+    }
+
+    /** Subscribes once, at construction; see {@code SyncPushService} for why no readiness wait is needed. */
+    private void subscribeIfNatsAvailable() {
+        Connection connection = natsConnectionProvider.getIfAvailable();
+        if (connection == null) {
+            log.info("Cache invalidation: NATS unavailable, evictions stay on this replica");
+            return;
+        }
+        Dispatcher created = connection.createDispatcher(this::onMessage);
+        created.subscribe(SUBJECT);
+        dispatcher = created;
+        log.info("Cache invalidation: subscribed to {}", SUBJECT);
+    }
+
+    /** Makes {@code cache} the target of evictions other replicas publish under its name. */
+    void register(Cache cache) {
+        localCaches.put(cache.getName(), cache);
+    }
+
+    /**
+     * Tells the other replicas to evict {@code key} from {@code cacheName}, or to clear it when {@code key} is
+     * null. The caller has already applied the eviction locally. Never throws: a lost broadcast only costs
+     * staleness up to the TTL.
+     */
+    public void publish(String cacheName, @Nullable Object key) {
+        Connection connection = natsConnectionProvider.getIfAvailable();
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.publish(SUBJECT, objectMapper.writeValueAsBytes(encode(cacheName, key)));
+            publishSuccess.increment();
+        } catch (Exception e) {
+            publishFailure.increment();
+            log.warn("Cache invalidation: publish failed for cache={}: {}", cacheName, e.toString());
+        }
+    }
+
+    private Invalidation encode(String cacheName, @Nullable Object key) {
+        long now = System.currentTimeMillis();
+        return switch (key) {
+            case String value -> new Invalidation(instanceId, cacheName, "string", value, now);
+            case Long value -> new Invalidation(instanceId, cacheName, "long", value.toString(), now);
+            case Integer value -> new Invalidation(instanceId, cacheName, "int", value.toString(), now);
+            case UUID value -> new Invalidation(instanceId, cacheName, "uuid", value.toString(), now);
+            case null, default -> new Invalidation(instanceId, cacheName, null, null, now);
+        };
+    }
+
+    /** Package-private so unit tests can drive an inbound message without a live NATS broker. */
+    void onMessage(Message message) {
+        try {
+            Invalidation invalidation = objectMapper.readValue(message.getData(), Invalidation.class);
+            if (instanceId.equals(invalidation.origin())) {
+                return;
+            }
+            Cache cache = localCaches.get(invalidation.cache());
+            if (cache == null) {
+                // A cache another version of the server declares; nothing here to evict.
+                receiveIgnored.increment();
+                return;
+            }
+            Object key = decode(invalidation);
+            if (key == null) {
+                cache.invalidate();
+            } else {
+                cache.evict(key);
+            }
+            receiveApplied.increment();
+            lag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.sentAt())));
+        } catch (Exception e) {
+            receiveFailure.increment();
+            log.warn("Cache invalidation: failed to apply inbound message: {}", e.toString());
+        }
+    }
+
+    private static @Nullable Object decode(Invalidation invalidation) {
+        String key = invalidation.key();
+        if (key == null || invalidation.keyType() == null) {
+            return null;
+        }
+        return switch (invalidation.keyType()) {
+            case "string" -> key;
+            case "long" -> Long.valueOf(key);
+            case "int" -> Integer.valueOf(key);
+            case "uuid" -> UUID.fromString(key);
+            // An unknown type from a newer replica: clearing is the safe reading.
+            default -> null;
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String direction, String outcome) {
+        return Counter.builder("cache.invalidation.messages")
+            .description("Cross-replica cache evictions by direction and outcome")
+            .tag("direction", direction)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Dispatcher current = dispatcher;
+        if (current != null) {
+            try {
+                current.unsubscribe(SUBJECT);
+            } catch (Exception e) {
+                log.debug("Cache invalidation: failed to unsubscribe cleanly: {}", e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package de.tum.cit.aet.hephaestus.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+
+/**
+ * A replica-local cache whose evictions also reach the other replicas through {@link CacheInvalidationBus}.
+ * Reads and writes stay local; {@code evict}, {@code evictIfPresent}, {@code clear} and {@code invalidate} apply
+ * here first and are then broadcast, so {@code @CacheEvict} and direct {@link Cache#evict} callers get
+ * cluster-wide eviction without knowing about the bus.
+ */
+class ClusterInvalidatingCache implements Cache {
+
+    private final Cache local;
+    private final CacheInvalidationBus bus;
+
+    ClusterInvalidatingCache(Cache local, CacheInvalidationBus bus) {
+        this.local = local;
+        this.bus = bus;
+        bus.register(local);
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        return local.get(key);
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        return local.get(key, type);
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        return local.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return local.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        local.put(key, value);
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        bus.publish(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        // Broadcast even on a local miss: another replica may hold the entry.
+        boolean present = local.evictIfPresent(key);
+        bus.publish(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        bus.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean hadEntries = local.invalidate();
+        bus.publish(getName(), null);
+        return hadEntries;
+    }
+}
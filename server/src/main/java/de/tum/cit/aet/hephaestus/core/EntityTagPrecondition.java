@@ -3,12 +3,15 @@ package de.tum.cit.aet.hephaestus.core;
 import java.util.List;
 import org.springframework.http.ETag;
 
-/** Parses and evaluates an HTTP {@code If-Match} precondition using strong entity-tag comparison. */
+/**
+ * Parses and evaluates an HTTP entity-tag precondition: {@code If-Match} with strong comparison
+ * ({@link #matches}), {@code If-None-Match} with weak comparison ({@link #matchesWeakly}).
+ */
 public record EntityTagPrecondition(List<ETag> candidates) {
     public static EntityTagPrecondition parse(String value) {
         List<ETag> candidates = ETag.parse(value);
         if (candidates.isEmpty()) {
-            throw new IllegalArgumentException("If-Match must contain at least one valid entity tag");
+            throw new IllegalArgumentException("Entity-tag precondition must contain at least one valid entity tag");
         }
         return new EntityTagPrecondition(List.copyOf(candidates));
     }
@@ -18,6 +21,12 @@ public record EntityTagPrecondition(List<ETag> candidates) {
         return candidates.stream().anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, true));
     }
 
+    /** Weak comparison, as {@code If-None-Match} requires: {@code W/"7"} matches {@code "7"}. */
+    public boolean matchesWeakly(String tag) {
+        ETag current = new ETag(tag, false);
+        return candidates.stream().anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
     public static String format(String tag) {
         return new ETag(tag, false).formattedTag();
     }
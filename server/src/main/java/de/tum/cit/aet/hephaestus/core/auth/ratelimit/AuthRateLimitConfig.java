@@ -38,6 +38,11 @@ import tools.jackson.databind.ObjectMapper;
  * <strong>per-replica</strong>: N replicas allow up to N× the configured rate cluster-wide. This is
  * acceptable for those non-production contexts but would be a regression in a multi-replica
  * production deployment — production MUST run Postgres-backed. The active mode is logged at startup.
+ *
+ * <p><strong>Leasing:</strong> Postgres-backed costs one row lock per limited request. With
+ * {@code hephaestus.auth.rate-limit.lease.enabled=true} a {@link LeasingBucketResolver} sits in front
+ * of the shared buckets and each pod serves a hot key from a batch of pre-consumed tokens; the limit
+ * stays cluster-wide, only slightly stricter while leases are outstanding.
  */
 @ConditionalOnServerRole
 @Configuration
@@ -77,11 +82,25 @@ public class AuthRateLimitConfig {
         return proxyManager;
     }
 
+    /**
+     * With {@code lease.enabled}, requests are served from per-pod token leases and only a lease refill
+     * reaches Postgres; see {@link LeasingBucketResolver} for how far that relaxes the shared limit.
+     */
     @Bean
     @ConditionalOnProperty(prefix = "hephaestus.auth.rate-limit", name = "postgres-backed", matchIfMissing = true)
     @ConditionalOnMissingBean(BucketResolver.class)
-    BucketResolver postgresBucketResolver(ProxyManager<String> proxyManager) {
-        return (key, config) -> proxyManager.getProxy(key, () -> config);
+    BucketResolver postgresBucketResolver(ProxyManager<String> proxyManager, AuthRateLimitProperties properties) {
+        BucketResolver shared = (key, config) -> proxyManager.getProxy(key, () -> config);
+        if (!properties.lease().enabled()) {
+            return shared;
+        }
+        log.info(
+            "Auth rate limiting: leasing tokens per pod (ttl={}, maxFraction={}) in front of the " +
+                "Postgres buckets.",
+            properties.lease().ttl(),
+            properties.lease().maxFraction()
+        );
+        return new LeasingBucketResolver(shared, properties.lease());
     }
 
     /**
@@ -2,7 +2,6 @@ package de.tum.cit.aet.hephaestus.core.auth.ratelimit;
 
 import de.tum.cit.aet.hephaestus.core.auth.metrics.AuthMetrics;
 import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.Refill;
@@ -102,8 +101,7 @@ public class AuthRateLimitFilter extends OncePerRequestFilter {
         String key = resolveBucketKey(endpoint, request);
         ConsumptionProbe probe;
         try {
-            Bucket bucket = bucketResolver.resolve(key, configFor(limit));
-            probe = bucket.tryConsumeAndReturnRemaining(1);
+            probe = bucketResolver.tryConsume(key, configFor(limit));
         } catch (RuntimeException e) {
             // Fail OPEN, deliberately. The bucket store (Postgres-backed in prod) can blip — a DB
             // hiccup or lock-timeout must not turn the auth endpoints into a hard outage, and worse,
@@ -21,7 +21,8 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
  *
  * <p>Set {@code enabled=false} to bypass the filter entirely (e.g. load tests). The limits are
  * shared across replicas when a Postgres-backed {@code ProxyManager} is wired (production); see
- * {@link AuthRateLimitConfig} for the per-replica fallback trade-off.
+ * {@link AuthRateLimitConfig} for the per-replica fallback trade-off. {@code lease.enabled=true} puts
+ * {@link LeasingBucketResolver} in front of that store so hot keys are served from per-pod leases.
  *
  * <p>Proxy trust is owned by the servlet container via {@code server.forward-headers-strategy: native}
  * (prod), which rewrites {@code getRemoteAddr()} to the real client before the filter runs; the filter
@@ -35,7 +36,8 @@ public record AuthRateLimitProperties(
     @DefaultValue Limit refresh,
     @DefaultValue Limit impersonate,
     @DefaultValue Limit deleteUser,
-    @DefaultValue Limit export
+    @DefaultValue Limit export,
+    @DefaultValue Lease lease
 ) {
     public AuthRateLimitProperties {
         // Bind nulls (a partially-specified YAML block) to the spec defaults so a misconfigured
@@ -47,6 +49,7 @@ public record AuthRateLimitProperties(
         // 10/hour: generous for legit "download my data" (POST + a few download polls) but caps a
         // session from spamming async bundle assemblies (each persisting a BYTEA blob).
         export = export != null ? export : Limit.of(10, Duration.ofHours(1));
+        lease = lease != null ? lease : new Lease(false, Duration.ofSeconds(2), 0.1);
     }
 
     /**
@@ -69,4 +72,30 @@ public record AuthRateLimitProperties(
             return new Limit(capacity, period);
         }
     }
+
+    /**
+     * Per-pod token leasing in front of the shared bucket store; see {@link LeasingBucketResolver}.
+     *
+     * @param enabled     whether leasing is wired; off, every request consumes from the shared store.
+     * @param ttl         how long a pod may serve a lease before handing unused tokens back; bounds how
+     *                    long tokens can sit idle on one pod while another is refused.
+     * @param maxFraction largest lease, as a fraction of the limit's capacity (at least one token); bounds
+     *                    how far the cluster can under-admit while leases are outstanding.
+     */
+    public record Lease(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2s") Duration ttl,
+        @DefaultValue("0.1") double maxFraction
+    ) {
+        public Lease {
+            if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+                throw new IllegalArgumentException("rate-limit lease ttl must be positive, got: " + ttl);
+            }
+            if (!(maxFraction > 0 && maxFraction <= 1)) {
+                throw new IllegalArgumentException(
+                    "rate-limit lease max-fraction must be in (0, 1], got: " + maxFraction
+                );
+            }
+        }
+    }
 }
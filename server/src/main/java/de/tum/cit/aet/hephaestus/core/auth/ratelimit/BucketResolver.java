@@ -2,6 +2,7 @@ package de.tum.cit.aet.hephaestus.core.auth.ratelimit;
 
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
 
 /**
  * Resolves the token bucket for a rate-limit key. The single seam between {@link AuthRateLimitFilter}
@@ -14,8 +15,9 @@ import io.github.bucket4j.BucketConfiguration;
  *       without a database.</li>
  * </ul>
  *
- * <p>The returned {@link Bucket} is a thin handle; callers invoke
- * {@code tryConsumeAndReturnRemaining(1)} per request.
+ * <p>The returned {@link Bucket} is a thin handle; callers go through {@link #tryConsume}, which
+ * consumes one token from it unless an implementation (see {@link LeasingBucketResolver}) answers
+ * without touching the store.
  */
 @FunctionalInterface
 public interface BucketResolver {
@@ -25,4 +27,9 @@ public interface BucketResolver {
      * @param config the bandwidth configuration for this key's limit.
      */
     Bucket resolve(String key, BucketConfiguration config);
+
+    /** Consumes one token for {@code key}; the probe says whether it was granted and, if not, for how long. */
+    default ConsumptionProbe tryConsume(String key, BucketConfiguration config) {
+        return resolve(key, config).tryConsumeAndReturnRemaining(1);
+    }
 }
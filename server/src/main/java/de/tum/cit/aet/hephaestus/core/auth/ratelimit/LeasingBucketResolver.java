@@ -0,0 +1,125 @@
+package de.tum.cit.aet.hephaestus.core.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Serves rate-limit tokens from per-pod leases taken out of the shared bucket store, so a busy key costs
+ * one {@code SELECT … FOR UPDATE} per lease instead of one per request.
+ *
+ * <p>Each key holds a lease: a batch of tokens consumed from the shared bucket in one round trip
+ * ({@code tryConsumeAsMuchAsPossible}) and then handed out locally until it is spent or its
+ * {@code ttl} runs out. Tokens are taken from the shared bucket before they are served, so the cluster
+ * never admits more than the configured limit; the approximation is the other way — tokens leased by
+ * one pod and not yet used can refuse a request on another, by at most one lease per pod and key.
+ *
+ * <p>The lease size adapts per key. It starts at one token (a cold key behaves exactly like the
+ * un-leased store), doubles when a lease is spent before it expires, and halves when one expires with
+ * tokens left over, which are then returned to the shared bucket. It is capped at
+ * {@code maxFraction} of the limit's capacity. A refusal is remembered until the shared bucket's
+ * refill, so a flood against an exhausted key is answered locally rather than by the database.
+ *
+ * <p>Concurrent requests for one key wait on a single store round trip instead of each issuing their
+ * own. The per-key state is bounded like the in-JVM fallback's; an evicted lease simply strands its
+ * remaining tokens until the shared bucket refills.
+ */
+public class LeasingBucketResolver implements BucketResolver {
+
+    private final BucketResolver shared;
+    private final long ttlNanos;
+    private final double maxFraction;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Lease> leases;
+
+    public LeasingBucketResolver(BucketResolver shared, AuthRateLimitProperties.Lease settings) {
+        this(shared, settings, System::nanoTime);
+    }
+
+    LeasingBucketResolver(BucketResolver shared, AuthRateLimitProperties.Lease settings, LongSupplier nanoClock) {
+        this.shared = shared;
+        this.ttlNanos = settings.ttl().toNanos();
+        this.maxFraction = settings.maxFraction();
+        this.nanoClock = nanoClock;
+        this.leases = Caffeine.newBuilder()
+            .maximumSize(AuthRateLimitConfig.IN_MEMORY_MAX_BUCKETS)
+            .expireAfterAccess(settings.ttl().plus(Duration.ofMinutes(1)))
+            .build();
+    }
+
+    @Override
+    public Bucket resolve(String key, BucketConfiguration config) {
+        return shared.resolve(key, config);
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, BucketConfiguration config) {
+        Lease lease = leases.get(key, k -> new Lease());
+        lease.lock.lock();
+        try {
+            return lease.tryConsume(key, config);
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    /** Tokens a pod may hold for one key: {@code maxFraction} of the capacity, never less than one. */
+    long maxLeaseSize(BucketConfiguration config) {
+        return Math.max(1, (long) (config.getBandwidths()[0].getCapacity() * maxFraction));
+    }
+
+    /** One key's lease on this pod. Guarded by {@link #lock}, which is held across the store round trip. */
+    private final class Lease {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long size = 1;
+        private long tokens;
+        private long expiresAt;
+        private long refusedUntil;
+        private boolean refused;
+        private boolean granted;
+
+        ConsumptionProbe tryConsume(String key, BucketConfiguration config) {
+            long now = nanoClock.getAsLong();
+            if (refused && now - refusedUntil < 0) {
+                long wait = refusedUntil - now;
+                return ConsumptionProbe.rejected(0, wait, wait);
+            }
+            refused = false;
+            boolean live = granted && now - expiresAt < 0;
+            if (tokens > 0 && live) {
+                tokens--;
+                return ConsumptionProbe.consumed(tokens, 0);
+            }
+
+            Bucket bucket = shared.resolve(key, config);
+            if (tokens > 0) {
+                // Expired unused: the key is cooler than the lease assumed; give the rest back to the cluster.
+                bucket.addTokens(tokens);
+                tokens = 0;
+                size = Math.max(1, size / 2);
+            } else if (live) {
+                size = Math.min(maxLeaseSize(config), size * 2);
+            }
+            size = Math.min(size, maxLeaseSize(config));
+
+            long obtained = bucket.tryConsumeAsMuchAsPossible(size);
+            if (obtained == 0) {
+                long wait = bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill();
+                refusedUntil = now + wait;
+                refused = true;
+                granted = false;
+                return ConsumptionProbe.rejected(0, wait, wait);
+            }
+            tokens = obtained - 1;
+            expiresAt = now + ttlNanos;
+            granted = true;
+            return ConsumptionProbe.consumed(tokens, 0);
+        }
+    }
+}
@@ -53,6 +53,14 @@ public class HubConfiguration {
         return new WorkerJobCancelDispatcher(registry);
     }
 
+    @Bean
+    WorkerJobAssignmentDispatcher workerJobAssignmentDispatcher(
+        WorkerSessionRegistry registry,
+        MeterRegistry meterRegistry
+    ) {
+        return new WorkerJobAssignmentDispatcher(registry, meterRegistry);
+    }
+
     @Bean
     WorkerKeyRing workerKeyRing(WorkerTokenProperties properties, Environment environment) {
         WorkerKeyRing ring = WorkerKeyRing.fromConfig(properties);
@@ -100,10 +108,11 @@ public class HubConfiguration {
     @Bean
     WorkerControlWebSocketHandler workerControlWebSocketHandler(
         WorkerSessionRegistry registry,
+        WorkerJobAssignmentDispatcher assignmentDispatcher,
         FrameCodec codec,
         MeterRegistry meterRegistry
     ) {
-        return new WorkerControlWebSocketHandler(registry, codec, meterRegistry);
+        return new WorkerControlWebSocketHandler(registry, assignmentDispatcher, codec, meterRegistry);
     }
 
     @Bean
@@ -2,6 +2,8 @@ package de.tum.cit.aet.hephaestus.core.runtime.hub;
 
 import de.tum.cit.aet.hephaestus.core.runtime.hub.auth.WorkerJwt;
 import de.tum.cit.aet.hephaestus.core.runtime.hub.auth.WorkerJwtHandshakeInterceptor;
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AckJob;
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AssignJob;
 import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.CancelJob;
 import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.CapacityReport;
 import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.ForceReconnect;
@@ -37,6 +39,7 @@ public class WorkerControlWebSocketHandler extends TextWebSocketHandler {
     static final String ATTR_WORKER_SESSION = "worker.session";
 
     private final WorkerSessionRegistry registry;
+    private final WorkerJobAssignmentDispatcher assignmentDispatcher;
     private final FrameCodec codec;
     private final MeterRegistry meterRegistry;
     private final ScheduledExecutorService helloTimeoutScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
@@ -47,10 +50,12 @@ public class WorkerControlWebSocketHandler extends TextWebSocketHandler {
 
     public WorkerControlWebSocketHandler(
         WorkerSessionRegistry registry,
+        WorkerJobAssignmentDispatcher assignmentDispatcher,
         FrameCodec codec,
         MeterRegistry meterRegistry
     ) {
         this.registry = registry;
+        this.assignmentDispatcher = assignmentDispatcher;
         this.codec = codec;
         this.meterRegistry = meterRegistry;
     }
@@ -159,6 +164,7 @@ public class WorkerControlWebSocketHandler extends TextWebSocketHandler {
                 session.send(new Heartbeat(false));
             }
             case Heartbeat heartbeat -> {
+                session.markDraining(heartbeat.draining());
                 if (heartbeat.draining()) {
                     log.info("Worker {} signalled draining", session.workerId());
                     meterRegistry.counter("worker.hub.draining.signalled").increment();
@@ -166,7 +172,9 @@ public class WorkerControlWebSocketHandler extends TextWebSocketHandler {
             }
             case WorkerWelcome w -> warnUnexpectedFrame(session, w);
             case ForceReconnect f -> warnUnexpectedFrame(session, f);
+            case AckJob ack -> assignmentDispatcher.onAck(session, ack);
             case CancelJob c -> warnUnexpectedFrame(session, c); // hub originates this; never inbound
+            case AssignJob a -> warnUnexpectedFrame(session, a); // hub originates this; never inbound
         }
     }
 
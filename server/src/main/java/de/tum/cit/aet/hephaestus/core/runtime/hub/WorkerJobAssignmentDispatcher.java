@@ -0,0 +1,98 @@
+package de.tum.cit.aet.hephaestus.core.runtime.hub;
+
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AckJob;
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AssignJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Places {@code QUEUED} jobs on connected workers by sending {@link AssignJob} to the session with the most
+ * spare review capacity according to its latest {@code CapacityReport}. Placement is advisory: the worker
+ * claims through the same {@code FOR UPDATE SKIP LOCKED} path as its poll loop, so the {@code agent_job} row
+ * stays the single source of truth and DB polling remains the fallback for anything this hub cannot place —
+ * no worker connected here, every worker full or draining, or a rejected {@link AckJob}.
+ *
+ * <p>Only sees sessions registered on this app-pod; with several hub replicas each places onto its own
+ * workers and the rest fall through to polling.
+ */
+public class WorkerJobAssignmentDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerJobAssignmentDispatcher.class);
+
+    // Ties go to the lexicographically smallest workerId so placement is repeatable.
+    private static final Comparator<WorkerSession> BY_SPARE_REVIEW = Comparator.comparingInt(
+        WorkerSession::spareReview
+    ).thenComparing(WorkerSession::workerId, Comparator.reverseOrder());
+
+    private final WorkerSessionRegistry registry;
+    private final Counter assigned;
+    private final Counter acked;
+    private final Counter rejected;
+
+    public WorkerJobAssignmentDispatcher(WorkerSessionRegistry registry, MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.assigned = Counter.builder("worker.hub.jobs.assigned")
+            .description("AssignJob frames sent to a worker")
+            .register(meterRegistry);
+        this.acked = Counter.builder("worker.hub.jobs.ack")
+            .description("AssignJob acknowledgements by outcome")
+            .tag("outcome", "accepted")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("worker.hub.jobs.ack")
+            .description("AssignJob acknowledgements by outcome")
+            .tag("outcome", "rejected")
+            .register(meterRegistry);
+    }
+
+    /** Sum of spare review slots across this hub's open, non-draining sessions. */
+    public int spareCapacity() {
+        return registry.sessions().stream().filter(WorkerSession::isOpen).mapToInt(WorkerSession::spareReview).sum();
+    }
+
+    /**
+     * Send an {@link AssignJob} for {@code jobId} to the worker with the most spare review capacity.
+     * Synchronized so concurrent callers see each other's slot reservations.
+     *
+     * @return the chosen workerId, or empty when no connected worker has a free slot
+     */
+    public synchronized Optional<String> assign(UUID jobId) {
+        Optional<WorkerSession> target = registry
+            .sessions()
+            .stream()
+            .filter(WorkerSession::isOpen)
+            .filter(session -> session.spareReview() > 0)
+            .max(BY_SPARE_REVIEW);
+        if (target.isEmpty()) {
+            return Optional.empty();
+        }
+        WorkerSession session = target.get();
+        if (!session.send(new AssignJob(jobId.toString()))) {
+            return Optional.empty();
+        }
+        session.reserveReviewSlot();
+        assigned.increment();
+        log.debug("Assigned job {} to worker {}", jobId, session.workerId());
+        return Optional.of(session.workerId());
+    }
+
+    /** Inbound {@link AckJob}; a rejection marks the worker full until its next capacity report. */
+    void onAck(WorkerSession session, AckJob ack) {
+        if (ack.accepted()) {
+            acked.increment();
+            return;
+        }
+        rejected.increment();
+        session.markReviewSlotsExhausted();
+        log.debug(
+            "Worker {} rejected assignment of job {}: {} — left to DB polling",
+            session.workerId(),
+            ack.jobId(),
+            ack.reason()
+        );
+    }
+}
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -29,9 +30,12 @@ public final class WorkerSession {
     private final FrameCodec codec;
     private final Object sendLock = new Object();
     private final AtomicReference<CapacityReport> lastCapacity = new AtomicReference<>();
+    /** Review slots handed out by {@code AssignJob} since the last {@link CapacityReport}. */
+    private final AtomicInteger assignedSinceReport = new AtomicInteger();
     private final AtomicBoolean forceReconnectSent = new AtomicBoolean(false);
     private final AtomicReference<ScheduledFuture<?>> helloDeadline = new AtomicReference<>();
     private volatile Instant lastInboundAt;
+    private volatile boolean draining;
 
     public WorkerSession(
         String workerId,
@@ -86,6 +90,37 @@ public final class WorkerSession {
 
     void updateCapacity(CapacityReport report) {
         lastCapacity.set(report);
+        assignedSinceReport.set(0);
+    }
+
+    /**
+     * Spare review slots as the hub sees them: the last reported {@code spareReview} minus assignments sent
+     * since. Without the subtraction a burst of jobs between two reports would all land on the same worker.
+     */
+    public int spareReview() {
+        CapacityReport report = lastCapacity.get();
+        if (report == null || draining) {
+            return 0;
+        }
+        return Math.max(0, report.spareReview() - assignedSinceReport.get());
+    }
+
+    void reserveReviewSlot() {
+        assignedSinceReport.incrementAndGet();
+    }
+
+    /** A rejected assignment means the report is stale; treat the worker as full until the next one. */
+    void markReviewSlotsExhausted() {
+        CapacityReport report = lastCapacity.get();
+        assignedSinceReport.set(report != null ? report.spareReview() : 0);
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    void markDraining(boolean draining) {
+        this.draining = draining;
     }
 
     /** @return {@code true} the first time it's called per session; subsequent calls return {@code false}. */
@@ -0,0 +1,19 @@
+package de.tum.cit.aet.hephaestus.core.runtime.worker.protocol;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Worker → hub reply to {@link AssignJob}. {@code accepted} means the job was queued for an immediate
+ * claim attempt, not that the claim succeeded; a rejected assignment stays {@code QUEUED} for the DB poll.
+ *
+ * @param jobId the job UUID (string form), echoed from the {@link AssignJob}
+ * @param accepted whether the worker will attempt the claim
+ * @param reason short machine-readable reason when rejected (e.g. {@code no-capacity}, {@code draining})
+ */
+public record AckJob(String jobId, boolean accepted, @Nullable String reason) implements WorkerControlFrame {
+    public AckJob {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId must not be blank");
+        }
+    }
+}
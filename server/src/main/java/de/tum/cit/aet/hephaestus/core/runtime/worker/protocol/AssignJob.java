@@ -0,0 +1,17 @@
+package de.tum.cit.aet.hephaestus.core.runtime.worker.protocol;
+
+/**
+ * Hub → worker placement hint: the hub picked this worker for a {@code QUEUED} job based on its latest
+ * {@link CapacityReport}. Not a claim — the worker still claims through the same {@code FOR UPDATE SKIP
+ * LOCKED} path as its poll loop, so a lost race or a stale hint just leaves the job to whoever claims it.
+ * The worker answers with {@link AckJob}.
+ *
+ * @param jobId the job UUID (string form)
+ */
+public record AssignJob(String jobId) implements WorkerControlFrame {
+    public AssignJob {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId must not be blank");
+        }
+    }
+}
@@ -13,7 +13,9 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
         @JsonSubTypes.Type(value = CapacityReport.class, name = "CapacityReport"),
         @JsonSubTypes.Type(value = ForceReconnect.class, name = "ForceReconnect"),
         @JsonSubTypes.Type(value = CancelJob.class, name = "CancelJob"),
+        @JsonSubTypes.Type(value = AssignJob.class, name = "AssignJob"),
+        @JsonSubTypes.Type(value = AckJob.class, name = "AckJob"),
     }
 )
 public sealed interface WorkerControlFrame
-    permits WorkerHello, WorkerWelcome, Heartbeat, CapacityReport, ForceReconnect, CancelJob {}
+    permits WorkerHello, WorkerWelcome, Heartbeat, CapacityReport, ForceReconnect, CancelJob, AssignJob, AckJob {}
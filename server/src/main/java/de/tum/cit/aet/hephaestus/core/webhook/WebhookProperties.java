@@ -1,10 +1,12 @@
 package de.tum.cit.aet.hephaestus.core.webhook;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Shared webhook configuration bound to {@code hephaestus.webhook.*}. The same {@code secret} is
@@ -24,7 +26,8 @@ public record WebhookProperties(
     @DefaultValue Publish publish,
     @DefaultValue Stream stream,
     @DefaultValue Shutdown shutdown,
-    @DefaultValue Http http
+    @DefaultValue Http http,
+    @DefaultValue Spool spool
 ) {
     /** Minimum HMAC-SHA256 secret length recommended by NIST SP 800-107. */
     public static final int MIN_SECRET_LENGTH = 32;
@@ -58,6 +61,8 @@ public record WebhookProperties(
             shutdown +
             ", http=" +
             http +
+            ", spool=" +
+            spool +
             "]"
         );
     }
@@ -76,7 +81,10 @@ public record WebhookProperties(
     public record Publish(
         @DefaultValue("9s") Duration timeout,
         @DefaultValue("5") int maxRetries,
-        @DefaultValue("200ms") Duration retryBaseDelay
+        @DefaultValue("200ms") Duration retryBaseDelay,
+        // Publishes sent but not yet acked, across all callers. A caller that cannot get a slot within
+        // timeout fails like an ack timeout, so saturation turns into provider retries, not unbounded buffering.
+        @DefaultValue("256") int maxInFlight
     ) {
         public Publish {
             if (timeout.isZero() || timeout.isNegative()) {
@@ -88,6 +96,9 @@ public record WebhookProperties(
             if (retryBaseDelay.isZero() || retryBaseDelay.isNegative()) {
                 throw new IllegalArgumentException("publish.retryBaseDelay must be positive, got: " + retryBaseDelay);
             }
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("publish.maxInFlight must be >= 1, got: " + maxInFlight);
+            }
         }
     }
 
@@ -187,4 +198,38 @@ public record WebhookProperties(
             }
         }
     }
+
+    /**
+     * Local durable spool in front of JetStream ({@code integration.core.webhook.WebhookSpool}). When enabled,
+     * a verified webhook is acknowledged once it is fsynced to {@code directory} and published in the
+     * background, so a slow or unavailable NATS no longer turns into slow or failed provider deliveries.
+     *
+     * <p>{@code directory} must survive pod restarts (a persistent volume), or spooled deliveries not yet
+     * drained are lost with the pod. {@code maxSegments × segmentSize} bounds the disk used; a full spool
+     * falls back to publishing synchronously. {@code groupCommitWindow} is how long the first waiting
+     * request holds the fsync open so concurrent deliveries share it.
+     */
+    public record Spool(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/var/lib/hephaestus/webhook-spool") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("16") int maxSegments,
+        @DefaultValue("2ms") Duration groupCommitWindow
+    ) {
+        public Spool {
+            if (segmentSize.toBytes() < 1024 || segmentSize.toBytes() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                    "spool.segmentSize must be between 1KB and 2GB, got: " + segmentSize
+                );
+            }
+            if (maxSegments < 1) {
+                throw new IllegalArgumentException("spool.maxSegments must be >= 1, got: " + maxSegments);
+            }
+            if (groupCommitWindow.isNegative()) {
+                throw new IllegalArgumentException(
+                    "spool.groupCommitWindow must not be negative, got: " + groupCommitWindow
+                );
+            }
+        }
+    }
 }
@@ -43,6 +43,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -52,6 +53,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Unified JetStream consumer fleet for every integration kind and the sole consumer-side entry point:
@@ -139,6 +141,7 @@ public class IntegrationNatsConsumer {
     private final IntegrationPoisonHandler poisonHandler;
     private final IntegrationConsumerStats stats;
     private final ConnectionActivityRecorder activityRecorder;
+    private final TransactionTemplate transactionTemplate;
 
     public IntegrationNatsConsumer(
         NatsConnectionProperties connectionProperties,
@@ -147,7 +150,8 @@ public class IntegrationNatsConsumer {
         IntegrationMessageDispatcher dispatcher,
         IntegrationPoisonHandler poisonHandler,
         IntegrationConsumerStats stats,
-        ConnectionActivityRecorder activityRecorder
+        ConnectionActivityRecorder activityRecorder,
+        TransactionTemplate transactionTemplate
     ) {
         this.connectionProperties = connectionProperties;
         this.consumerProperties = consumerProperties;
@@ -156,6 +160,7 @@ public class IntegrationNatsConsumer {
         this.poisonHandler = poisonHandler;
         this.stats = stats;
         this.activityRecorder = activityRecorder;
+        this.transactionTemplate = transactionTemplate;
     }
 
     // Lifecycle
@@ -587,15 +592,28 @@ public class IntegrationNatsConsumer {
             StreamContext streamContext = natsConnection.getStreamContext(streamName, jsOptions);
             ConsumerContext consumerContext = createOrUpdateConsumer(streamContext, consumerName, subjects);
 
-            ScopeConsumer scope = new ScopeConsumer(
-                scopeId,
-                consumerName,
-                streamName,
-                consumerContext,
-                streamContext,
-                subjects,
-                msg -> handleMessage(scopeId, msg)
-            );
+            NatsConsumerProperties.BatchProperties batch = consumerProperties.batch();
+            ScopeConsumer scope = batch.enabled()
+                ? new ScopeConsumer(
+                      scopeId,
+                      consumerName,
+                      streamName,
+                      consumerContext,
+                      streamContext,
+                      subjects,
+                      batch.maxMessages(),
+                      batch.maxWait(),
+                      msgs -> handleBatch(scopeId, msgs)
+                  )
+                : new ScopeConsumer(
+                      scopeId,
+                      consumerName,
+                      streamName,
+                      consumerContext,
+                      streamContext,
+                      subjects,
+                      msg -> handleMessage(scopeId, msg)
+                  );
             scope.start();
             log.info(
                 "Started scope consumer: scopeId={}, stream={}, subjectCount={}",
@@ -787,15 +805,7 @@ public class IntegrationNatsConsumer {
             IntegrationMessageHandler resolvedHandler = handler.get();
             resolvedHandler.onMessage(msg);
             msg.ack();
-            stats.recordDispatch(Instant.now());
-            if (scopeId != null) {
-                // Liveness watermark = "last event received and dispatched", NOT "content was ingested". A handler
-                // may legitimately no-op (dedup, a Slack message dropped by the per-channel consent gate, a filtered
-                // event) and still return normally; that event genuinely arrived, so stamping it is correct. Health
-                // derivation does not read this field, so the coarse-freshness semantics carry no correctness risk.
-                EventTypeKey key = resolvedHandler.key();
-                activityRecorder.recordEventProcessed(scopeId, key.kind(), key.eventType());
-            }
+            recordDispatched(scopeId, resolvedHandler);
         } catch (Exception e) {
             if (!shuttingDown.get()) {
                 log.error("Handler failed for subject={}: {}", sanitizeForLog(subject), e.getMessage(), e);
@@ -805,6 +815,121 @@ public class IntegrationNatsConsumer {
         }
     }
 
+    /**
+     * Batch entry point for scope consumers in batch mode ({@link NatsConsumerProperties.BatchProperties}).
+     * Messages without a handler ACK as no-op, as in {@link #handleMessage}. Of each run of adjacent messages
+     * that one handler maps to the same {@link IntegrationMessageHandler#coalescingKey coalescing key}, only
+     * the newest is dispatched. The remaining messages run in arrival order inside one transaction; each
+     * handler's own {@link TransactionTemplate} joins it. On commit every message of the batch is ACKed.
+     *
+     * <p>If anything in the batch throws, the whole transaction rolls back and every message, including the
+     * superseded ones, is replayed through {@link #handleMessage} in its own transaction. A single bad message
+     * therefore costs the batch its shared commit but still ends up ACKed or NAKed on its own.
+     */
+    void handleBatch(Long scopeId, List<Message> batch) {
+        if (batch.size() == 1) {
+            handleMessage(scopeId, batch.getFirst());
+            return;
+        }
+        if (shuttingDown.get()) {
+            batch.forEach(IntegrationNatsConsumer::safeNak);
+            return;
+        }
+        List<BatchEntry> entries;
+        try {
+            entries = coalesce(batch);
+        } catch (Exception e) {
+            log.warn("Batch dispatch could not resolve handlers, replaying per message: {}", e.getMessage());
+            batch.forEach(msg -> handleMessage(scopeId, msg));
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (BatchEntry entry : entries) {
+                    entry.handler().onMessage(entry.message());
+                }
+            });
+        } catch (Exception e) {
+            if (shuttingDown.get()) {
+                batch.forEach(IntegrationNatsConsumer::safeNak);
+                return;
+            }
+            log.warn(
+                "Batch of {} messages rolled back, replaying per message: scopeId={}, error={}",
+                batch.size(),
+                scopeId,
+                e.getMessage()
+            );
+            for (BatchEntry entry : entries) {
+                entry.superseded().forEach(msg -> handleMessage(scopeId, msg));
+                handleMessage(scopeId, entry.message());
+            }
+            return;
+        }
+        for (BatchEntry entry : entries) {
+            entry.superseded().forEach(IntegrationNatsConsumer::safeAck);
+            safeAck(entry.message());
+            recordDispatched(scopeId, entry.handler());
+        }
+        if (entries.size() < batch.size()) {
+            log.debug("Dispatched batch: scopeId={}, received={}, applied={}", scopeId, batch.size(), entries.size());
+        }
+    }
+
+    /**
+     * Resolves each message's handler, ACKs the unhandled ones, and folds each message a newer adjacent one
+     * supersedes into that newer message's entry.
+     */
+    private List<BatchEntry> coalesce(List<Message> batch) {
+        List<BatchEntry> entries = new ArrayList<>(batch.size());
+        for (Message msg : batch) {
+            Optional<IntegrationMessageHandler> handler = dispatcher.dispatch(msg.getSubject());
+            if (handler.isEmpty()) {
+                log.debug("No handler for subject, ACK-as-no-op: subject={}", sanitizeForLog(msg.getSubject()));
+                safeAck(msg);
+                continue;
+            }
+            String key = handler.get().coalescingKey(msg);
+            BatchEntry previous = entries.isEmpty() ? null : entries.getLast();
+            if (
+                key != null &&
+                previous != null &&
+                previous.handler() == handler.get() &&
+                key.equals(previous.coalescingKey())
+            ) {
+                List<Message> superseded = new ArrayList<>(previous.superseded());
+                superseded.add(previous.message());
+                entries.set(entries.size() - 1, new BatchEntry(msg, handler.get(), key, superseded));
+            } else {
+                entries.add(new BatchEntry(msg, handler.get(), key, List.of()));
+            }
+        }
+        return entries;
+    }
+
+    private void recordDispatched(Long scopeId, IntegrationMessageHandler handler) {
+        stats.recordDispatch(Instant.now());
+        if (scopeId != null) {
+            // Liveness watermark = "last event received and dispatched", NOT "content was ingested". A handler
+            // may legitimately no-op (dedup, a Slack message dropped by the per-channel consent gate, a filtered
+            // event) and still return normally; that event genuinely arrived, so stamping it is correct. Health
+            // derivation does not read this field, so the coarse-freshness semantics carry no correctness risk.
+            EventTypeKey key = handler.key();
+            activityRecorder.recordEventProcessed(scopeId, key.kind(), key.eventType());
+        }
+    }
+
+    /** One message to dispatch in a batch, with the older adjacent messages its payload supersedes. */
+    private record BatchEntry(
+        Message message,
+        IntegrationMessageHandler handler,
+        @Nullable String coalescingKey,
+        List<Message> superseded
+    ) {}
+
     // Connection management
 
     private void validateConfiguration() {
@@ -923,6 +1048,15 @@ public class IntegrationNatsConsumer {
         }
     }
 
+    private static void safeAck(Message msg) {
+        try {
+            msg.ack();
+        } catch (Exception e) {
+            // The work is committed; a lost ACK only means JetStream redelivers an already-applied message.
+            log.warn("Failed to ACK message: subject={}, error={}", sanitizeForLog(msg.getSubject()), e.getMessage());
+        }
+    }
+
     private static void safeNak(Message msg) {
         try {
             msg.nak();
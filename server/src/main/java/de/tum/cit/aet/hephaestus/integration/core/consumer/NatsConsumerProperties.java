@@ -42,12 +42,16 @@ public record NatsConsumerProperties(
     @NotNull(message = "inactive-threshold must not be null")
     @DurationMin(message = "inactive-threshold must not be negative")
     Duration inactiveThreshold,
-    @Valid PoisonProperties poison
+    @Valid PoisonProperties poison,
+    @Valid BatchProperties batch
 ) {
     public NatsConsumerProperties {
         if (poison == null) {
             poison = new PoisonProperties(10, Duration.ofSeconds(2), Duration.ofMinutes(5));
         }
+        if (batch == null) {
+            batch = new BatchProperties(1, Duration.ofMillis(50));
+        }
     }
 
     /**
@@ -75,4 +79,30 @@ public record NatsConsumerProperties(
             message = "max-delay must not be null"
         ) Duration maxDelay
     ) {}
+
+    /**
+     * Batched dispatch for scope consumers.
+     *
+     * <p>With {@link #maxMessages()} above one, each scope's dispatch thread collects up to that many
+     * queued messages, waiting at most {@link #maxWait()} after the first, and applies them in a single
+     * transaction. Consecutive updates to the same entity that the handler declares superseded collapse to
+     * the newest one. If the batch fails it is rolled back and replayed message by message, so ACK, NAK
+     * and poison handling stay per message.
+     *
+     * @param maxMessages upper bound on messages per batch. Default 1, which disables batching.
+     * @param maxWait     how long to keep filling a batch after its first message. Default 50ms.
+     */
+    public record BatchProperties(
+        @DefaultValue("1") @Min(value = 1, message = "max-messages must be at least 1") @Max(
+            value = 1_000,
+            message = "max-messages must not exceed 1,000"
+        ) int maxMessages,
+        @DurationUnit(ChronoUnit.MILLIS) @DefaultValue("50ms") @NotNull(
+            message = "max-wait must not be null"
+        ) @DurationMin(message = "max-wait must not be negative") Duration maxWait
+    ) {
+        public boolean enabled() {
+            return maxMessages > 1;
+        }
+    }
 }
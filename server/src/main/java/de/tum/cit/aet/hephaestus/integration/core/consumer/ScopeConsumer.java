@@ -7,7 +7,10 @@ import io.nats.client.MessageConsumer;
 import io.nats.client.StreamContext;
 import io.nats.client.api.ConsumerConfiguration;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +39,12 @@ import org.slf4j.LoggerFactory;
  *       graceful shutdown without dropping in-flight work.</li>
  * </ul>
  *
+ * <p><b>Batch mode.</b> Constructed with a batch handler, the dispatch thread hands over up to
+ * {@code maxBatchSize} queued messages at once: it blocks for the first, then keeps collecting until
+ * the batch is full or {@code maxBatchWait} has passed. Batches preserve arrival order, and the next
+ * batch is only taken once the handler returns, so per-scope ordering is unchanged. The single-message
+ * constructor is a batch size of one.
+ *
  * <p><b>Subject updates.</b> When a scope's repository set changes the consumer's
  * filter subjects must be rewritten. We update the durable consumer's configuration,
  * close the in-flight subscription, and re-subscribe. The queue is preserved so
@@ -57,7 +66,9 @@ public final class ScopeConsumer {
     private final String streamName;
     private final ConsumerContext context;
     private final StreamContext streamContext;
-    private final Consumer<Message> messageHandler;
+    private final int maxBatchSize;
+    private final Duration maxBatchWait;
+    private final Consumer<List<Message>> batchHandler;
 
     private volatile String[] currentSubjects;
     private volatile MessageConsumer subscription;
@@ -78,6 +89,34 @@ public final class ScopeConsumer {
         StreamContext streamContext,
         String[] subjects,
         Consumer<Message> messageHandler
+    ) {
+        this(
+            scopeId,
+            consumerName,
+            streamName,
+            context,
+            streamContext,
+            subjects,
+            1,
+            Duration.ZERO,
+            single(messageHandler)
+        );
+    }
+
+    /**
+     * Batch-mode consumer. {@code batchHandler} receives non-empty lists of at most {@code maxBatchSize}
+     * messages in arrival order and owns ACK/NAK of every message it is given.
+     */
+    public ScopeConsumer(
+        Long scopeId,
+        String consumerName,
+        String streamName,
+        ConsumerContext context,
+        StreamContext streamContext,
+        String[] subjects,
+        int maxBatchSize,
+        Duration maxBatchWait,
+        Consumer<List<Message>> batchHandler
     ) {
         if (consumerName == null || consumerName.isBlank()) {
             throw new IllegalArgumentException("consumerName must not be blank");
@@ -94,8 +133,14 @@ public final class ScopeConsumer {
         if (subjects == null) {
             throw new IllegalArgumentException("subjects must not be null");
         }
-        if (messageHandler == null) {
-            throw new IllegalArgumentException("messageHandler must not be null");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        if (maxBatchWait == null || maxBatchWait.isNegative()) {
+            throw new IllegalArgumentException("maxBatchWait must not be null or negative");
+        }
+        if (batchHandler == null) {
+            throw new IllegalArgumentException("batchHandler must not be null");
         }
         this.scopeId = scopeId;
         this.consumerName = consumerName;
@@ -103,7 +148,16 @@ public final class ScopeConsumer {
         this.context = context;
         this.streamContext = streamContext;
         this.currentSubjects = subjects.clone();
-        this.messageHandler = messageHandler;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWait = maxBatchWait;
+        this.batchHandler = batchHandler;
+    }
+
+    private static Consumer<List<Message>> single(Consumer<Message> messageHandler) {
+        if (messageHandler == null) {
+            throw new IllegalArgumentException("messageHandler must not be null");
+        }
+        return batch -> messageHandler.accept(batch.getFirst());
     }
 
     public String consumerName() {
@@ -224,9 +278,9 @@ public final class ScopeConsumer {
         log.debug("Dispatch loop started: consumerName={}, scopeId={}", consumerName, scopeId);
         while (running.get() && !Thread.currentThread().isInterrupted()) {
             try {
-                Message msg = messageQueue.poll(1, TimeUnit.SECONDS);
-                if (msg != null) {
-                    messageHandler.accept(msg);
+                List<Message> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    batchHandler.accept(batch);
                 }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -241,6 +295,39 @@ public final class ScopeConsumer {
         log.debug("Dispatch loop stopped: consumerName={}, scopeId={}", consumerName, scopeId);
     }
 
+    /** Blocks up to a second for the first message, then fills the batch until it is full or the wait is over. */
+    private List<Message> nextBatch() throws InterruptedException {
+        Message first = messageQueue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        if (maxBatchSize == 1) {
+            return List.of(first);
+        }
+        List<Message> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.nanoTime() + maxBatchWait.toNanos();
+        try {
+            while (batch.size() < maxBatchSize) {
+                messageQueue.drainTo(batch, maxBatchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() == maxBatchSize || remaining <= 0) {
+                    break;
+                }
+                Message next = messageQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            // Stopping: the collected messages were dequeued, so stop()'s drain will not NAK them.
+            batch.forEach(ScopeConsumer::safeNak);
+            throw e;
+        }
+        return batch;
+    }
+
     private void closeSubscriptionQuietly() {
         MessageConsumer sub = subscription;
         if (sub == null) {
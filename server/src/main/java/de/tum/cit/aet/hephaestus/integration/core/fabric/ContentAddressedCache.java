@@ -0,0 +1,241 @@
+package de.tum.cit.aet.hephaestus.integration.core.fabric;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Memoizes derived content — output that is a pure function of immutable inputs, such as the diff between two
+ * commit SHAs — in the {@link ContentAddressedStore}.
+ *
+ * <p>An index entry below {@link FabricLayout#derivedRoot()} maps {@code (namespace, key)} to the sha-256 of the
+ * blob holding the content; the blob itself is an ordinary CAS blob, so identical output for different keys is
+ * stored once. The key must capture every input of the derivation, including options such as a diff
+ * algorithm; there is no invalidation, only expiry.
+ *
+ * <p>Entries are collected by {@link FabricGarbageCollector}: an entry not read or written within the retention
+ * window is pruned, and blobs of surviving entries count as live in the CAS sweep. Reads refresh an entry's
+ * age, so content that keeps being asked for never expires.
+ *
+ * <p>Lookups are counted as {@code fabric.cache.lookups{namespace,outcome=hit|miss}}.
+ */
+@Component
+public class ContentAddressedCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedCache.class);
+
+    private static final Pattern NAMESPACE = Pattern.compile("[a-z0-9][a-z0-9-]*");
+    private static final Pattern SHA_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final FabricLayout layout;
+    private final ContentAddressedStore cas;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ContentAddressedCache(FabricLayout layout, ContentAddressedStore cas, MeterRegistry meterRegistry) {
+        this.layout = layout;
+        this.cas = cas;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** The cached content for {@code key}, or empty if it was never stored, expired, or its blob is gone. */
+    public Optional<byte[]> get(String namespace, String key) {
+        Path entry = entryPath(namespace, key);
+        Optional<byte[]> content = read(entry);
+        lookups(namespace, content.isPresent() ? "hit" : "miss").increment();
+        return content;
+    }
+
+    /**
+     * Returns the cached content for {@code key}, computing and storing it on a miss. A {@code null} result of
+     * {@code compute} is returned without being cached, so failures are retried on the next call.
+     */
+    public byte @Nullable [] computeIfAbsent(String namespace, String key, Supplier<byte @Nullable []> compute) {
+        Optional<byte[]> cached = get(namespace, key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        byte[] computed = compute.get();
+        if (computed != null) {
+            put(namespace, key, computed);
+        }
+        return computed;
+    }
+
+    /**
+     * Stores {@code content} under {@code key}. Best-effort: the fabric is a rebuildable cache, so a failed
+     * write is logged and the caller keeps the content it already has.
+     */
+    public void put(String namespace, String key, byte[] content) {
+        Path entry = entryPath(namespace, key);
+        Path temp = null;
+        try {
+            String sha = cas.put(content);
+            Files.createDirectories(entry.getParent());
+            temp = Files.createTempFile(entry.getParent(), ".tmp-", ".ref");
+            Files.writeString(temp, sha, StandardCharsets.US_ASCII);
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Fabric cache could not store {} entry: {}", namespace, e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException cleanup) {
+                    log.debug("Fabric cache could not delete temp {}: {}", temp, cleanup.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Deletes index entries (and stray temp files) last read or written before {@code cutoff}. */
+    public int pruneExpired(Instant cutoff) {
+        Path derivedRoot = layout.derivedRoot();
+        if (!Files.isDirectory(derivedRoot)) {
+            return 0;
+        }
+        int pruned = 0;
+        try (Stream<Path> entries = Files.walk(derivedRoot)) {
+            for (Path entry : entries.filter(Files::isRegularFile).toList()) {
+                try {
+                    if (Files.getLastModifiedTime(entry).toInstant().isBefore(cutoff) && Files.deleteIfExists(entry)) {
+                        pruned++;
+                    }
+                } catch (IOException e) {
+                    log.warn("Fabric cache could not prune {}: {}", entry, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Fabric cache could not walk {}: {}", derivedRoot, e.getMessage());
+        }
+        return pruned;
+    }
+
+    /**
+     * The blob shas every remaining index entry points to, for the CAS sweep. Throws rather than return a
+     * partial set, since a blob missing from it would be swept while its entry still names it.
+     */
+    public Set<String> referencedShas() {
+        Path derivedRoot = layout.derivedRoot();
+        if (!Files.isDirectory(derivedRoot)) {
+            return Set.of();
+        }
+        Set<String> shas = new HashSet<>();
+        try (Stream<Path> entries = Files.walk(derivedRoot)) {
+            for (Path entry : entries.filter(ContentAddressedCache::isEntry).toList()) {
+                try {
+                    String sha = Files.readString(entry, StandardCharsets.US_ASCII).strip();
+                    if (SHA_HEX.matcher(sha).matches()) {
+                        shas.add(sha);
+                    }
+                } catch (NoSuchFileException vanished) {
+                    // Pruned concurrently. An entry written during the scan is protected by its blob's fresh age.
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan fabric cache index " + derivedRoot, e);
+        }
+        return Set.copyOf(shas);
+    }
+
+    private Optional<byte[]> read(Path entry) {
+        String sha;
+        try {
+            sha = Files.readString(entry, StandardCharsets.US_ASCII).strip();
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Fabric cache could not read {}: {}", entry, e.getMessage());
+            return Optional.empty();
+        }
+        if (!SHA_HEX.matcher(sha).matches()) {
+            deleteQuietly(entry);
+            return Optional.empty();
+        }
+        Optional<byte[]> content;
+        try {
+            content = cas.get(sha);
+        } catch (IllegalStateException | UncheckedIOException e) {
+            log.warn("Fabric cache dropped unreadable blob {}: {}", sha, e.getMessage());
+            content = Optional.empty();
+        }
+        if (content.isEmpty()) {
+            // The blob was swept from under a stale entry; forget the entry so it is recomputed.
+            deleteQuietly(entry);
+            return Optional.empty();
+        }
+        touch(entry);
+        return content;
+    }
+
+    Path entryPath(String namespace, String key) {
+        if (namespace == null || !NAMESPACE.matcher(namespace).matches()) {
+            throw new IllegalArgumentException("Invalid fabric cache namespace: " + namespace);
+        }
+        String digest = sha256(key);
+        return layout.derivedRoot().resolve(namespace).resolve(digest.substring(0, 2)).resolve(digest.substring(2));
+    }
+
+    private Counter lookups(String namespace, String outcome) {
+        return counters.computeIfAbsent(namespace + '/' + outcome, k ->
+            Counter.builder("fabric.cache.lookups")
+                .description("Derived-content lookups in the Context Fabric cache, by outcome")
+                .tag("namespace", namespace)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+        );
+    }
+
+    private static boolean isEntry(Path path) {
+        return Files.isRegularFile(path) && !path.getFileName().toString().startsWith(".tmp-");
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Fabric cache could not refresh {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path entry) {
+        try {
+            Files.deleteIfExists(entry);
+        } catch (IOException e) {
+            log.debug("Fabric cache could not delete {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private static String sha256(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
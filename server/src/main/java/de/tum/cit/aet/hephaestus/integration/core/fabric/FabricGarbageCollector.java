@@ -3,6 +3,7 @@ package de.tum.cit.aet.hephaestus.integration.core.fabric;
 import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
 import de.tum.cit.aet.hephaestus.core.runtime.ConditionalOnServerRole;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -22,9 +23,10 @@ import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Garbage-collects the Context-Fabric cache (ADR 0020). Disk is a rebuildable cache, so collection is
- * best-effort: it first prunes per-job replay directories older than the retention window, then sweeps
- * blobs that are both unreferenced and older than that same window. The age barrier protects captures
- * that have written a blob but have not yet published their manifest.
+ * best-effort: it first prunes per-job replay directories and {@link ContentAddressedCache} entries older
+ * than the retention window, then sweeps blobs that are both unreferenced and older than that same window.
+ * A blob is referenced by a surviving job manifest or cache entry. The age barrier protects captures that
+ * have written a blob but have not yet published their manifest or cache entry.
  */
 @ConditionalOnServerRole
 @Component
@@ -37,12 +39,14 @@ public class FabricGarbageCollector {
 
     private final FabricLayout layout;
     private final ContentAddressedStore cas;
+    private final ContentAddressedCache cache;
     private final JsonMapper objectMapper;
     private final Duration retention;
 
     public FabricGarbageCollector(
         FabricLayout layout,
         ContentAddressedStore cas,
+        ContentAddressedCache cache,
         JsonMapper objectMapper,
         @Value("${hephaestus.fabric.gc-retention-days:30}") long retentionDays
     ) {
@@ -51,6 +55,7 @@ public class FabricGarbageCollector {
         }
         this.layout = layout;
         this.cas = cas;
+        this.cache = cache;
         this.objectMapper = objectMapper;
         this.retention = Duration.ofDays(retentionDays);
     }
@@ -63,10 +68,16 @@ public class FabricGarbageCollector {
     public void collect() {
         Instant cutoff = Instant.now().minus(retention);
         int prunedJobs = pruneExpiredJobs(cutoff);
+        int prunedEntries = cache.pruneExpired(cutoff);
         ReferenceScan references = scanReferences();
         int sweptBlobs = references.complete() ? cas.sweep(references.shas(), cutoff) : 0;
-        if (prunedJobs > 0 || sweptBlobs > 0) {
-            log.info("Fabric GC: pruned {} expired job dir(s), swept {} orphaned CAS blob(s)", prunedJobs, sweptBlobs);
+        if (prunedJobs > 0 || prunedEntries > 0 || sweptBlobs > 0) {
+            log.info(
+                "Fabric GC: pruned {} expired job dir(s) and {} cache entry(ies), swept {} orphaned CAS blob(s)",
+                prunedJobs,
+                prunedEntries,
+                sweptBlobs
+            );
         }
     }
 
@@ -100,9 +111,15 @@ public class FabricGarbageCollector {
     private ReferenceScan scanReferences() {
         Set<String> shas = new HashSet<>();
         boolean[] complete = { true };
+        try {
+            shas.addAll(cache.referencedShas());
+        } catch (UncheckedIOException e) {
+            log.warn("Fabric GC skipped blob sweep because the cache index is unreadable: {}", e.getMessage());
+            complete[0] = false;
+        }
         Path jobsRoot = layout.jobsRoot();
         if (!Files.isDirectory(jobsRoot)) {
-            return new ReferenceScan(shas, true);
+            return new ReferenceScan(Set.copyOf(shas), complete[0]);
         }
         try (Stream<Path> manifests = Files.walk(jobsRoot)) {
             manifests
@@ -6,7 +6,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Resolves Context Fabric paths below one configured root. Mutable connector materialisations, immutable CAS
- * blobs, and per-job replay metadata use separate lifecycle regions.
+ * blobs, the derived-content index over them, and per-job replay metadata use separate lifecycle regions.
  */
 @Component
 public class FabricLayout {
@@ -14,6 +14,8 @@ public class FabricLayout {
     private static final String SOURCES = "sources";
     private static final String CAS = "cas";
     private static final String JOBS = "jobs";
+    private static final String DERIVED = "derived";
+    private static final String TREES = "trees";
 
     private final Path root;
 
@@ -26,13 +28,31 @@ public class FabricLayout {
     }
 
     public Path source(String connectorId, String externalId) {
-        return root.resolve(SOURCES).resolve(segment(connectorId)).resolve(segment(externalId));
+        return sources(connectorId).resolve(segment(externalId));
+    }
+
+    /** The directory holding every {@link #source} of one connector. */
+    public Path sources(String connectorId) {
+        return root.resolve(SOURCES).resolve(segment(connectorId));
     }
 
     public Path casRoot() {
         return root.resolve(CAS);
     }
 
+    /** Index entries mapping a derivation key to a CAS blob; see {@link ContentAddressedCache}. */
+    public Path derivedRoot() {
+        return root.resolve(DERIVED);
+    }
+
+    /**
+     * Commit trees shared by concurrent jobs, in one directory per process; entries hard-link CAS blobs and live
+     * only as long as their process.
+     */
+    public Path treesRoot() {
+        return root.resolve(TREES);
+    }
+
     public Path jobsRoot() {
         return root.resolve(JOBS);
     }
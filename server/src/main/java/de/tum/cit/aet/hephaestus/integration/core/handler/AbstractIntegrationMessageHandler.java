@@ -8,6 +8,7 @@ import de.tum.cit.aet.hephaestus.integration.scm.domain.common.NatsMessageDeseri
 import de.tum.cit.aet.hephaestus.integration.scm.domain.common.exception.PayloadParsingException;
 import io.nats.client.Message;
 import java.io.IOException;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -126,6 +127,27 @@ public abstract class AbstractIntegrationMessageHandler<T> implements Integratio
         // duplicate logging.
     }
 
+    @Override
+    public @Nullable String coalescingKey(Message msg) {
+        if (!subjectMatchesExpectedEvent(msg.getSubject())) {
+            return null;
+        }
+        try {
+            return coalescingKeyFor(deserializer.deserialize(msg, payloadType));
+        } catch (IOException | RuntimeException e) {
+            // Never coalesce what cannot be parsed; onMessage surfaces the failure for this message.
+            return null;
+        }
+    }
+
+    /**
+     * The {@link IntegrationMessageHandler#coalescingKey(Message) coalescing key} of a deserialized
+     * payload. Defaults to {@code null}; override for events that are pure snapshot upserts.
+     */
+    protected @Nullable String coalescingKeyFor(T eventPayload) {
+        return null;
+    }
+
     /**
      * Handles the deserialized payload. Called from inside the transaction boundary set
      * up by {@link #onMessage(Message)}; throwing here rolls back the transaction.
@@ -2,6 +2,7 @@ package de.tum.cit.aet.hephaestus.integration.core.handler;
 
 import de.tum.cit.aet.hephaestus.integration.core.spi.EventTypeKey;
 import io.nats.client.Message;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Unified, vendor-neutral message-handler contract.
@@ -17,6 +18,8 @@ import io.nats.client.Message;
  * <ul>
  *   <li>{@link #key()} — the registry index; one key maps to at most one handler.</li>
  *   <li>{@link #onMessage(Message)} — the NATS entry point.</li>
+ *   <li>{@link #coalescingKey(Message)} — optional; lets batched dispatch skip superseded
+ *       updates.</li>
  * </ul>
  *
  * <p><b>Threading.</b> {@link #onMessage(Message)} is invoked from the JetStream
@@ -56,4 +59,24 @@ public interface IntegrationMessageHandler {
     default boolean isEnabled() {
         return true;
     }
+
+    /**
+     * Identifies the entity state a message overwrites, for batched dispatch. When two adjacent
+     * messages of one batch resolve to the same handler and the same non-null key, the older one
+     * is superseded: only the newer is passed to {@link #onMessage(Message)}, and both are ACKed
+     * once it succeeds.
+     *
+     * <p>Return a key only for messages whose whole effect is an upsert of a snapshot carried in
+     * the payload, such as a plain "edited" event, or whose side effect only matters for the
+     * newest of a run, such as a push announcing a new head; give those a key of their own so they
+     * only supersede each other. Anything else with a side effect (a state transition, a label
+     * change, a deletion) must return {@code null}. Defaults to {@code null}, which never
+     * coalesces.
+     *
+     * @param msg the NATS message; never null.
+     * @return the entity key, or {@code null} if this message must always be processed.
+     */
+    default @Nullable String coalescingKey(Message msg) {
+        return null;
+    }
 }
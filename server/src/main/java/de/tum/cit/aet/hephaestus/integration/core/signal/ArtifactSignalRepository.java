@@ -78,6 +78,80 @@ public interface ArtifactSignalRepository extends JpaRepository<ArtifactSignal,
         @Param("requestedByUserId") @Nullable Long requestedByUserId
     );
 
+    /**
+     * {@link #insertIfAbsent} for a whole batch in one statement.
+     *
+     * <p>{@code rowsJson} is a JSON array of {@code {workspace_id, artifact_kind, artifact_id, signal_name,
+     * revision, occurred_at}} objects, no two of them naming the same occurrence.
+     *
+     * @return the rows this call created; an occurrence already in the ledger is absent
+     */
+    @Query(
+        value = """
+        WITH recorded AS (
+            INSERT INTO artifact_signal (
+                id, workspace_id, artifact_kind, artifact_id, signal_name, revision,
+                occurred_at, discovered_via, state, state_changed_at
+            )
+            SELECT gen_random_uuid(), r.workspace_id, r.artifact_kind, r.artifact_id, r.signal_name, r.revision,
+                r.occurred_at, :discoveredVia, 'RECORDED', :now
+            FROM jsonb_to_recordset(CAST(:rowsJson AS jsonb)) AS r(
+                workspace_id bigint, artifact_kind varchar(64), artifact_id bigint,
+                signal_name varchar(128), revision varchar(128), occurred_at timestamptz
+            )
+            ON CONFLICT (workspace_id, artifact_kind, artifact_id, signal_name, revision) DO NOTHING
+            RETURNING workspace_id, artifact_id, signal_name, revision
+        )
+        SELECT workspace_id AS workspaceId, artifact_id AS artifactId, signal_name AS signalName, revision
+        FROM recorded
+        """,
+        nativeQuery = true
+    )
+    List<RecordedSignalRow> insertAllIfAbsent(
+        @Param("rowsJson") String rowsJson,
+        @Param("discoveredVia") String discoveredVia,
+        @Param("now") Instant now
+    );
+
+    /**
+     * {@link #insertOrClaimUndecided} for a whole batch in one statement, with nobody attributed. Same
+     * {@code rowsJson} shape as {@link #insertAllIfAbsent}; a duplicate in it would make Postgres refuse
+     * the statement for touching one row twice.
+     *
+     * @return the rows this call now owns, created or taken over
+     */
+    @Query(
+        value = """
+        WITH recorded AS (
+            INSERT INTO artifact_signal (
+                id, workspace_id, artifact_kind, artifact_id, signal_name, revision,
+                occurred_at, discovered_via, state, state_changed_at, requested_by_user_id
+            )
+            SELECT gen_random_uuid(), r.workspace_id, r.artifact_kind, r.artifact_id, r.signal_name, r.revision,
+                r.occurred_at, :discoveredVia, 'RECORDED', :now, NULL
+            FROM jsonb_to_recordset(CAST(:rowsJson AS jsonb)) AS r(
+                workspace_id bigint, artifact_kind varchar(64), artifact_id bigint,
+                signal_name varchar(128), revision varchar(128), occurred_at timestamptz
+            )
+            ON CONFLICT (workspace_id, artifact_kind, artifact_id, signal_name, revision) DO UPDATE
+            SET discovered_via = EXCLUDED.discovered_via,
+                occurred_at = EXCLUDED.occurred_at,
+                state_changed_at = EXCLUDED.state_changed_at,
+                requested_by_user_id = EXCLUDED.requested_by_user_id
+            WHERE artifact_signal.state = 'RECORDED'
+            RETURNING workspace_id, artifact_id, signal_name, revision
+        )
+        SELECT workspace_id AS workspaceId, artifact_id AS artifactId, signal_name AS signalName, revision
+        FROM recorded
+        """,
+        nativeQuery = true
+    )
+    List<RecordedSignalRow> insertOrClaimAllUndecided(
+        @Param("rowsJson") String rowsJson,
+        @Param("discoveredVia") String discoveredVia,
+        @Param("now") Instant now
+    );
+
     /**
      * The artifact half of the limit on hand-requested reviews. The workspace's ordinary cooldown cannot
      * serve as it: that cooldown is keyed on an idempotency key whose phase segment is the trigger
@@ -274,6 +348,14 @@ public interface ArtifactSignalRepository extends JpaRepository<ArtifactSignal,
         @Param("artifactKind") String artifactKind
     );
 
+    /** One occurrence a bulk record now owns — the key's columns, without the kind its name implies. */
+    interface RecordedSignalRow {
+        Long getWorkspaceId();
+        Long getArtifactId();
+        String getSignalName();
+        String getRevision();
+    }
+
     interface SignalledArtifactRow {
         String getArtifactKind();
         Long getArtifactId();
@@ -2,7 +2,13 @@ package de.tum.cit.aet.hephaestus.integration.core.signal;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -10,6 +16,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 
 /**
  * The {@code artifact_signal} table as a {@link SignalRecorder}.
@@ -23,6 +32,22 @@ public class LedgerSignalRecorder implements SignalRecorder {
 
     private static final Logger log = LoggerFactory.getLogger(LedgerSignalRecorder.class);
 
+    /** Bounds one bulk statement, so a first sync of a large repository does not become one huge insert. */
+    static final int MAX_ROWS_PER_STATEMENT = 1_000;
+
+    /**
+     * The ledger's unique key, in which every bulk statement takes its rows' index locks. Two writers that
+     * overlap — a sync page and a backfill campaign over the same artifacts — then lock in the same order and
+     * one waits for the other instead of both deadlocking.
+     */
+    static final Comparator<SignalKey> LOCK_ORDER = Comparator.comparingLong(SignalKey::workspaceId)
+        .thenComparing(key -> key.artifactKind().value())
+        .thenComparingLong(SignalKey::artifactId)
+        .thenComparing(key -> key.signalName().value())
+        .thenComparing(key -> key.revision().value());
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
     private final ArtifactSignalRepository repository;
     private final MeterRegistry meterRegistry;
 
@@ -64,6 +89,62 @@ public class LedgerSignalRecorder implements SignalRecorder {
         return ownsSignal(affected, key);
     }
 
+    /**
+     * One statement per {@value #MAX_ROWS_PER_STATEMENT} occurrences instead of one per occurrence, under
+     * the same rule as {@link #record}: a sync only ever adds rows, anything else may also take over the
+     * ones nobody has decided yet.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<SignalKey> recordAll(Map<SignalKey, Instant> occurrences, DiscoveredVia discoveredVia) {
+        if (occurrences.isEmpty()) {
+            return Set.of();
+        }
+        Instant now = Instant.now();
+        List<Map.Entry<SignalKey, Instant>> entries = new ArrayList<>(occurrences.entrySet());
+        entries.sort(Map.Entry.comparingByKey(LOCK_ORDER));
+        Set<SignalKey> owned = new HashSet<>();
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size());
+            String rowsJson = rowsJson(entries.subList(from, to));
+            List<ArtifactSignalRepository.RecordedSignalRow> recorded = discoveredVia == DiscoveredVia.SYNC
+                ? repository.insertAllIfAbsent(rowsJson, discoveredVia.name(), now)
+                : repository.insertOrClaimAllUndecided(rowsJson, discoveredVia.name(), now);
+            for (ArtifactSignalRepository.RecordedSignalRow row : recorded) {
+                owned.add(
+                    new SignalKey(
+                        row.getWorkspaceId(),
+                        row.getArtifactId(),
+                        SignalName.of(row.getSignalName()),
+                        new SignalRevision(row.getRevision())
+                    )
+                );
+            }
+        }
+        log.debug(
+            "Signals recorded in bulk: discoveredVia={}, offered={}, owned={}",
+            discoveredVia,
+            occurrences.size(),
+            owned.size()
+        );
+        return owned;
+    }
+
+    private static String rowsJson(List<Map.Entry<SignalKey, Instant>> entries) {
+        ArrayNode rows = JSON.createArrayNode();
+        for (Map.Entry<SignalKey, Instant> entry : entries) {
+            SignalKey key = entry.getKey();
+            ObjectNode row = rows.addObject();
+            row.put("workspace_id", key.workspaceId());
+            row.put("artifact_kind", key.artifactKind().value());
+            row.put("artifact_id", key.artifactId());
+            row.put("signal_name", key.signalName().value());
+            row.put("revision", key.revision().value());
+            row.put("occurred_at", entry.getValue().toString());
+        }
+        return rows.toString();
+    }
+
     private boolean ownsSignal(int affected, SignalKey key) {
         if (affected == 0) {
             log.debug(
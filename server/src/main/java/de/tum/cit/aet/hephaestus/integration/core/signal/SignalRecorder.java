@@ -1,6 +1,8 @@
 package de.tum.cit.aet.hephaestus.integration.core.signal;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.jspecify.annotations.Nullable;
 
@@ -33,6 +35,17 @@ public interface SignalRecorder {
      */
     boolean record(SignalKey key, Instant occurredAt, DiscoveredVia discoveredVia, @Nullable Long requestedByUserId);
 
+    /**
+     * Record many occurrences at once, for a pass that discovers them in bulk — a sync page, a campaign
+     * batch. Each row is arbitrated exactly as {@link #record(SignalKey, Instant, DiscoveredVia)} would
+     * arbitrate it alone; only the round trips are shared. Nobody is attributed: a bulk pass is never
+     * one person asking.
+     *
+     * @param occurrences when each signal occurred, by key
+     * @return the keys this call now owns
+     */
+    Set<SignalKey> recordAll(Map<SignalKey, Instant> occurrences, DiscoveredVia discoveredVia);
+
     /** The signal produced a review. */
     void markTriggered(SignalKey key, UUID jobId);
 
@@ -5,15 +5,15 @@ import io.github.resilience4j.retry.Retry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.nats.client.JetStream;
-import io.nats.client.JetStreamApiException;
 import io.nats.client.PublishOptions;
 import io.nats.client.api.PublishAck;
 import io.nats.client.impl.Headers;
-import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
@@ -25,6 +25,13 @@ import org.slf4j.LoggerFactory;
  * {@link Phaser} so {@link WebhookGracefulShutdown} can drain them before the NATS connection
  * closes. Synchronous from the caller's perspective: controllers wait for the ack so they can
  * return 503 and let the provider retry on terminal failure.
+ *
+ * <p>Every publish goes through {@link #submit}, which keeps at most {@code publish.maxInFlight}
+ * un-acked {@code publishAsync} futures outstanding across all callers. Callers pipeline behind
+ * one another on the shared connection and each waits only for its own ack; when the window is
+ * full, a caller waits for a slot up to its publish timeout and then fails like an ack timeout
+ * ({@code webhook.publish.saturated}). Each outstanding future holds a {@link Phaser} party until
+ * it completes, so shutdown also waits for acks whose caller already gave up on them.
  */
 public class JetStreamPublisher {
 
@@ -36,7 +43,9 @@ public class JetStreamPublisher {
     private final Counter successCounter;
     private final Counter failureCounter;
     private final Counter retryCounter;
+    private final Counter saturatedCounter;
     private final Phaser inFlight = new Phaser(1);
+    private final Semaphore window;
 
     JetStreamPublisher(JetStream jetStream, Retry retry, WebhookProperties properties, MeterRegistry meterRegistry) {
         this.jetStream = jetStream;
@@ -45,6 +54,10 @@ public class JetStreamPublisher {
         this.successCounter = Counter.builder("webhook.publish").tag("outcome", "success").register(meterRegistry);
         this.failureCounter = Counter.builder("webhook.publish").tag("outcome", "failure").register(meterRegistry);
         this.retryCounter = Counter.builder("webhook.publish.retry").register(meterRegistry);
+        this.saturatedCounter = Counter.builder("webhook.publish.saturated")
+            .description("Publishes that found the in-flight window full for their whole timeout")
+            .register(meterRegistry);
+        this.window = new Semaphore(properties.publish().maxInFlight());
         retry.getEventPublisher().onRetry(event -> retryCounter.increment());
     }
 
@@ -77,8 +90,17 @@ public class JetStreamPublisher {
         }
     }
 
-    private PublishAck publishOnce(PublishRequest request, Duration timeout)
-        throws IOException, JetStreamApiException, InterruptedException, ExecutionException, TimeoutException {
+    /**
+     * Sends {@code request} without waiting for its ack, once a slot in the in-flight window frees up
+     * within the publish timeout. The returned future completes with the ack; it fails if no slot
+     * became free in time or the publish failed. No retry — callers that need one wrap
+     * {@link #publish}, or resubmit.
+     */
+    public CompletableFuture<PublishAck> submit(PublishRequest request) {
+        return submit(request, properties.publish().timeout());
+    }
+
+    private CompletableFuture<PublishAck> submit(PublishRequest request, Duration slotTimeout) {
         Headers headers = new Headers();
         for (Map.Entry<String, String> entry : request.headers().entrySet()) {
             headers.add(entry.getKey(), entry.getValue());
@@ -87,9 +109,42 @@ public class JetStreamPublisher {
             .messageId(request.dedupId())
             .expectedStream(streamFor(request.subject()))
             .build();
-        return jetStream
-            .publishAsync(request.subject(), headers, request.body(), options)
-            .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            if (!window.tryAcquire(slotTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                saturatedCounter.increment();
+                return CompletableFuture.failedFuture(
+                    new TimeoutException("In-flight publish window stayed full for " + slotTimeout)
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        inFlight.register();
+        CompletableFuture<PublishAck> ack;
+        try {
+            ack = jetStream.publishAsync(request.subject(), headers, request.body(), options);
+        } catch (RuntimeException e) {
+            release();
+            return CompletableFuture.failedFuture(e);
+        }
+        // Bound every ack so a slot is never held by a future the connection forgot to complete.
+        return ack
+            .orTimeout(properties.publish().timeout().toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((result, error) -> release());
+    }
+
+    private void release() {
+        window.release();
+        inFlight.arriveAndDeregister();
+    }
+
+    private PublishAck publishOnce(PublishRequest request, Duration timeout)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        // One deadline for the slot and the ack together, as before the window existed.
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletableFuture<PublishAck> ack = submit(request, timeout);
+        return ack.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -36,7 +36,9 @@ import tools.jackson.databind.ObjectMapper;
  * <p>Verification can short-circuit with {@code RespondImmediately} (Slack
  * {@code url_verification}); on {@code Verified} the
  * pipeline derives the NATS subject + dedup-id via the per-kind {@link SubjectKeyDeriver}
- * and publishes through {@link JetStreamPublisher}.
+ * and publishes through {@link JetStreamPublisher} — or, when the {@link WebhookSpool} is enabled, spools the
+ * request to local disk and answers {@code 202} once it is fsynced, leaving the publish to the spool's drainer.
+ * A spool that cannot take the request (full, I/O error) falls back to the synchronous publish.
  *
  * <p>Error responses carry only a coarse category ({@code "invalid"} / {@code "missing-signature"} /
  * {@code "stale-timestamp"}). The verifier's {@code Invalid.reason} — which distinguishes a missing secret from a
@@ -58,6 +60,9 @@ public class WebhookIngestPipeline {
     @Nullable
     private final JetStreamPublisher jetStreamPublisher;
 
+    @Nullable
+    private final WebhookSpool spool;
+
     private final ObjectMapper objectMapper;
 
     public WebhookIngestPipeline(
@@ -69,13 +74,24 @@ public class WebhookIngestPipeline {
         this(verifiers, derivers, jetStreamPublisher, objectMapper, List.of());
     }
 
-    @Autowired
     public WebhookIngestPipeline(
         List<WebhookSignatureVerifier> verifiers,
         List<SubjectKeyDeriver> derivers,
         @Nullable JetStreamPublisher jetStreamPublisher,
         ObjectMapper objectMapper,
         List<WebhookPublishGate> publishGates
+    ) {
+        this(verifiers, derivers, jetStreamPublisher, objectMapper, publishGates, null);
+    }
+
+    @Autowired
+    public WebhookIngestPipeline(
+        List<WebhookSignatureVerifier> verifiers,
+        List<SubjectKeyDeriver> derivers,
+        @Nullable JetStreamPublisher jetStreamPublisher,
+        ObjectMapper objectMapper,
+        List<WebhookPublishGate> publishGates,
+        @Nullable WebhookSpool spool
     ) {
         this.verifiersByKind = verifiers
             .stream()
@@ -99,6 +115,7 @@ public class WebhookIngestPipeline {
                 })
             );
         this.jetStreamPublisher = jetStreamPublisher;
+        this.spool = spool;
         this.objectMapper = objectMapper;
     }
 
@@ -191,8 +208,17 @@ public class WebhookIngestPipeline {
         passthroughHeader(outboundHeaders, headers, "X-Gitlab-Webhook-UUID");
         outboundHeaders.put(NATS_MSG_ID, dedupId);
 
+        PublishRequest request = new PublishRequest(subject, dedupId, outboundHeaders, body);
+        if (spool != null && spool.offer(request)) {
+            log.info(
+                "Spooled {} webhook for NATS: subject={} dedupId={}",
+                kind,
+                sanitizeForLog(subject),
+                sanitizeForLog(dedupId)
+            );
+            return ResponseEntity.accepted().body(Map.of("status", "ok"));
+        }
         try {
-            PublishRequest request = new PublishRequest(subject, dedupId, outboundHeaders, body);
             if (kind == IntegrationKind.SLACK) {
                 jetStreamPublisher.publishFast(request, SLACK_PUBLISH_TIMEOUT);
             } else {
@@ -10,12 +10,14 @@ import io.nats.client.JetStream;
 import io.nats.client.JetStreamManagement;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 /**
  * The NATS <em>producer</em> cluster contributed by {@link WebhookConfiguration} on the
  * webhook runtime role: JetStream + management handles, the publish-retry policy, the
- * {@link JetStreamPublisher}, the {@link WebhookJetStreamBootstrap}, and the {@link WebhookGracefulShutdown}.
+ * {@link JetStreamPublisher}, the {@link WebhookJetStreamBootstrap}, the {@link WebhookGracefulShutdown}, and —
+ * when {@code hephaestus.webhook.spool.enabled} — the {@link WebhookSpool}.
  *
  * <p><strong>Not component-scanned.</strong> This is a plain class with {@code @Bean} factory
  * methods (no {@code @Configuration}/{@code @Component} stereotype), so it is only contributed
@@ -66,4 +68,10 @@ class WebhookProducerBeans {
     WebhookGracefulShutdown webhookGracefulShutdown(JetStreamPublisher publisher, WebhookProperties properties) {
         return new WebhookGracefulShutdown(publisher, properties);
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "hephaestus.webhook.spool.enabled", havingValue = "true")
+    WebhookSpool webhookSpool(JetStreamPublisher publisher, WebhookProperties properties, MeterRegistry meterRegistry) {
+        return new WebhookSpool(publisher, properties.spool(), properties.shutdown().drainTimeout(), meterRegistry);
+    }
 }
@@ -0,0 +1,732 @@
+package de.tum.cit.aet.hephaestus.integration.core.webhook;
+
+import de.tum.cit.aet.hephaestus.core.webhook.WebhookProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.nats.client.JetStreamApiException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.server.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Append-only, memory-mapped spool that decouples the webhook response from JetStream availability.
+ *
+ * <p>{@link #offer} appends a verified {@link PublishRequest} to the active segment and returns once the
+ * record is fsynced; the pipeline then answers {@code 202} without waiting for NATS. A background drainer
+ * publishes records in append order through {@link JetStreamPublisher#submit}, pipelining up to
+ * {@value #DRAIN_WINDOW} un-acked publishes. Each keeps the {@code Nats-Msg-Id} the deriver computed, so a
+ * record published twice (a crash between the ack and marking it drained, or a resubmit after a failed
+ * publish ahead of it) is discarded by the stream's dedup window rather than delivered twice.
+ *
+ * <p><b>Group commit.</b> Writers append under one lock and then wait for durability. The first waiter
+ * becomes the leader: it lingers for {@code groupCommitWindow}, forces every byte appended so far with one
+ * {@code msync}, and releases everyone covered by it. Under load one fsync acknowledges a whole burst.
+ *
+ * <p><b>On disk.</b> Segments are {@code spool-<id>.seg}, each a preallocated file mapped whole. A record is
+ * {@code [length:int][crc32c:int][state:byte][payload]}; a zero length marks the end of written data, and
+ * the first record whose CRC does not match — a torn tail — ends recovery of that segment. Draining flips
+ * the state byte in place, so a restart resumes where the drainer stopped. Recovered segments are only
+ * drained, never appended to; fully drained segments other than the active one are deleted.
+ *
+ * <p>{@link #offer} returns {@code false} rather than throwing when the spool cannot take a record (full,
+ * I/O error, stopped); the caller then publishes synchronously as if there were no spool.
+ *
+ * <p><b>Dead letters.</b> A publish that failed for a reason retrying cannot fix — a subject no stream is
+ * derived from, a payload over the stream's or server's size limit, a stream that does not exist — is
+ * written to {@code dead-letter/} below the spool directory in the record format and marked drained, so it
+ * does not hold back the records behind it. Every other failure is retried with backoff.
+ *
+ * <p>Metrics: {@code webhook.spool.depth} (records not yet published), {@code webhook.spool.drained},
+ * {@code webhook.spool.appended}, {@code webhook.spool.commits} (fsyncs; appended/commits is the group
+ * size), {@code webhook.spool.rejected{reason}}, {@code webhook.spool.drain.failure} and
+ * {@code webhook.spool.dead_lettered}.
+ */
+public class WebhookSpool implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookSpool.class);
+
+    /** Stops after the web server (no new offers) and before {@link WebhookGracefulShutdown} drains publishes. */
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 512;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("spool-(\\d{20})\\.seg");
+    static final int HEADER_BYTES = 9;
+    private static final byte PENDING = 0;
+    private static final byte DRAINED = 1;
+    private static final byte FORMAT_VERSION = 1;
+    private static final Duration INITIAL_DRAIN_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_DRAIN_BACKOFF = Duration.ofSeconds(30);
+    /** Spooled records awaiting their ack at once; below the publisher's window so live requests keep slots. */
+    private static final int DRAIN_WINDOW = 64;
+    private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+    /**
+     * JetStream API errors no retry recovers from: the message exceeds the stream's maximum (10054), the
+     * stream was not found (10059), or the expected stream does not match the subject's (10060).
+     */
+    private static final Set<Integer> PERMANENT_API_ERRORS = Set.of(10054, 10059, 10060);
+
+    private final JetStreamPublisher publisher;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Duration groupCommitWindow;
+    private final Duration stopTimeout;
+
+    /** Oldest first; the last one is the active segment unless it was recovered. Guarded by {@code appendLock}. */
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition appended = appendLock.newCondition();
+    private @Nullable Segment active;
+    private long nextSegmentId;
+    private long appendedSeq;
+
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition committed = commitLock.newCondition();
+    private long durableSeq;
+    private boolean forcing;
+
+    /** Where the drainer submits next; {@code null} restarts at the oldest undrained record. */
+    private @Nullable Segment cursorSegment;
+    private int cursorPosition;
+
+    private final AtomicLong depth = new AtomicLong();
+    private volatile boolean running;
+    private @Nullable Thread drainer;
+
+    private final Counter appendedCounter;
+    private final Counter drainedCounter;
+    private final Counter commitCounter;
+    private final Counter drainFailureCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter fullCounter;
+    private final Counter errorCounter;
+
+    WebhookSpool(
+        JetStreamPublisher publisher,
+        WebhookProperties.Spool properties,
+        Duration stopTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        this.publisher = publisher;
+        this.directory = properties.directory();
+        this.segmentSize = (int) properties.segmentSize().toBytes();
+        this.maxSegments = properties.maxSegments();
+        this.groupCommitWindow = properties.groupCommitWindow();
+        this.stopTimeout = stopTimeout;
+        Gauge.builder("webhook.spool.depth", depth, AtomicLong::get)
+            .description("Verified webhooks spooled on local disk and not yet published to JetStream")
+            .register(meterRegistry);
+        this.appendedCounter = Counter.builder("webhook.spool.appended").register(meterRegistry);
+        this.drainedCounter = Counter.builder("webhook.spool.drained")
+            .description("Spooled webhooks published to JetStream")
+            .register(meterRegistry);
+        this.commitCounter = Counter.builder("webhook.spool.commits")
+            .description("Group-commit fsyncs of the webhook spool")
+            .register(meterRegistry);
+        this.drainFailureCounter = Counter.builder("webhook.spool.drain.failure").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("webhook.spool.dead_lettered")
+            .description("Spooled webhooks JetStream rejected for good, moved to the dead-letter directory")
+            .register(meterRegistry);
+        this.fullCounter = Counter.builder("webhook.spool.rejected").tag("reason", "full").register(meterRegistry);
+        this.errorCounter = Counter.builder("webhook.spool.rejected").tag("reason", "error").register(meterRegistry);
+    }
+
+    /**
+     * Durably spools {@code request} for background publishing.
+     *
+     * @return {@code true} once the record is on disk; {@code false} if the caller must publish it itself
+     */
+    public boolean offer(PublishRequest request) {
+        if (!running) {
+            return false;
+        }
+        long seq;
+        appendLock.lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            byte[] payload = encode(request);
+            int needed = HEADER_BYTES + payload.length;
+            Segment segment = active;
+            if (segment == null || segment.remaining() < needed) {
+                if (segments.size() >= maxSegments) {
+                    fullCounter.increment();
+                    log.warn("Webhook spool full ({} segments); publishing synchronously", segments.size());
+                    return false;
+                }
+                segment = roll(needed);
+            }
+            segment.write(payload);
+            seq = ++appendedSeq;
+            depth.incrementAndGet();
+            appendedCounter.increment();
+            appended.signalAll();
+        } catch (IOException | UncheckedIOException e) {
+            errorCounter.increment();
+            log.warn("Webhook spool append failed; publishing synchronously: {}", e.getMessage());
+            return false;
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            awaitDurable(seq);
+            return true;
+        } catch (UncheckedIOException e) {
+            // The record is appended and will still drain; the synchronous publish the caller now makes
+            // carries the same Nats-Msg-Id, so the stream keeps only one of the two.
+            errorCounter.increment();
+            log.warn("Webhook spool fsync failed; publishing synchronously: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** Records spooled and not yet published. */
+    public long depth() {
+        return depth.get();
+    }
+
+    @Override
+    public void start() {
+        appendLock.lock();
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open webhook spool at " + directory, e);
+        } finally {
+            appendLock.unlock();
+        }
+        running = true;
+        drainer = Thread.ofPlatform().daemon().name("webhook-spool-drain").start(this::drainLoop);
+        log.info("Webhook spool open at {}: {} record(s) pending from before restart", directory, depth.get());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = drainer;
+        drainer = null;
+        if (thread == null) {
+            return;
+        }
+        // A publish interrupted here leaves its record PENDING; it is published again after restart.
+        thread.interrupt();
+        try {
+            thread.join(stopTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appendLock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+            active = null;
+        } finally {
+            appendLock.unlock();
+        }
+        log.info("Webhook spool closed with {} record(s) pending", depth.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // ── Group commit ────────────────────────────────────────────────────────────────────────────
+
+    private void awaitDurable(long seq) throws InterruptedException {
+        commitLock.lock();
+        try {
+            while (durableSeq < seq) {
+                if (forcing) {
+                    committed.await();
+                    continue;
+                }
+                forcing = true;
+                long covered = -1;
+                commitLock.unlock();
+                try {
+                    covered = forceAppended();
+                } finally {
+                    commitLock.lock();
+                    forcing = false;
+                    durableSeq = Math.max(durableSeq, covered);
+                    committed.signalAll();
+                }
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /** Forces everything appended so far; only ever run by one leader at a time. */
+    private long forceAppended() throws InterruptedException {
+        if (!groupCommitWindow.isZero()) {
+            TimeUnit.NANOSECONDS.sleep(groupCommitWindow.toNanos());
+        }
+        Segment segment;
+        int end;
+        long seq;
+        appendLock.lock();
+        try {
+            segment = active;
+            end = segment == null ? 0 : segment.writePosition;
+            seq = appendedSeq;
+        } finally {
+            appendLock.unlock();
+        }
+        // Records in earlier segments were forced when the segment was rolled.
+        if (segment != null && end > segment.forcedPosition) {
+            segment.buffer.force(segment.forcedPosition, end - segment.forcedPosition);
+            segment.forcedPosition = end;
+            commitCounter.increment();
+        }
+        return seq;
+    }
+
+    private Segment roll(int needed) throws IOException {
+        if (active != null) {
+            active.buffer.force();
+        }
+        Path path = directory.resolve(String.format("spool-%020d.seg", nextSegmentId++));
+        Segment segment = Segment.create(path, Math.max(segmentSize, needed));
+        segments.addLast(segment);
+        active = segment;
+        return segment;
+    }
+
+    // ── Drain ───────────────────────────────────────────────────────────────────────────────────
+
+    /**
+     * Keeps up to {@link #DRAIN_WINDOW} records submitted ahead of the oldest un-acked one and marks them
+     * drained strictly in append order as their acks arrive. A permanent failure dead-letters its record and
+     * the drain goes on. On any other failure the window is abandoned and submission restarts at the oldest
+     * undrained record; records acked behind the failed one are submitted again and dropped by the stream's
+     * dedup window.
+     */
+    private void drainLoop() {
+        ArrayDeque<Submitted> window = new ArrayDeque<>();
+        Duration backoff = INITIAL_DRAIN_BACKOFF;
+        while (running) {
+            try {
+                if (retireCompleted(window) > 0) {
+                    backoff = INITIAL_DRAIN_BACKOFF;
+                }
+                if (window.size() < DRAIN_WINDOW) {
+                    Pending next = nextPending(window.isEmpty());
+                    if (next != null) {
+                        window.addLast(new Submitted(next, submit(next)));
+                        continue;
+                    }
+                    if (window.isEmpty()) {
+                        continue;
+                    }
+                }
+                window.peekFirst().ack().get();
+            } catch (InterruptedException e) {
+                break;
+            } catch (ExecutionException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                if (isPermanent(cause)) {
+                    // Only ever the head's failure; the next pass dead-letters it in retireCompleted.
+                    continue;
+                }
+                drainFailureCounter.increment();
+                log.warn("Webhook spool drain failed, retrying in {}: {}", backoff, cause.getMessage());
+                window.clear();
+                resetCursor();
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+                Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(MAX_DRAIN_BACKOFF) > 0 ? MAX_DRAIN_BACKOFF : doubled;
+            }
+        }
+    }
+
+    private CompletableFuture<?> submit(Pending pending) {
+        // An undecodable record rides the window as already done, so it is marked drained in its turn.
+        if (pending.request() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // A publisher that throws (an underivable stream) fails the record in its turn rather than the loop.
+        try {
+            return publisher.submit(pending.request());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Marks the acked prefix of the window drained, dead-lettering permanently failed records on the way;
+     * throws the first other failure in it.
+     */
+    private int retireCompleted(ArrayDeque<Submitted> window) throws ExecutionException, InterruptedException {
+        int retired = 0;
+        while (!window.isEmpty() && window.peekFirst().ack().isDone()) {
+            Submitted head = window.peekFirst();
+            boolean published = head.pending().request() != null;
+            try {
+                head.ack().get();
+            } catch (ExecutionException e) {
+                if (!isPermanent(e.getCause())) {
+                    throw e;
+                }
+                deadLetter(head.pending(), e.getCause());
+                published = false;
+            }
+            window.pollFirst();
+            markDrained(head.pending(), published);
+            retired++;
+        }
+        return retired;
+    }
+
+    /** Whether retrying {@code failure} cannot succeed, as opposed to NATS being unavailable or slow. */
+    static boolean isPermanent(@Nullable Throwable failure) {
+        return switch (failure) {
+            case IllegalArgumentException e -> true;
+            case JetStreamApiException e -> PERMANENT_API_ERRORS.contains(e.getApiErrorCode());
+            case null, default -> false;
+        };
+    }
+
+    /** Keeps the record for inspection or a manual replay; it is dropped from the spool either way. */
+    private void deadLetter(Pending pending, Throwable failure) {
+        PublishRequest request = pending.request();
+        Path file = directory
+            .resolve(DEAD_LETTER_DIRECTORY)
+            .resolve(pending.segment().path.getFileName() + "-" + pending.position() + ".rec");
+        deadLetteredCounter.increment();
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, encode(request));
+            log.error(
+                "Dead-lettered spooled webhook: subject={}, dedupId={}, file={}, reason={}",
+                request.subject(),
+                request.dedupId(),
+                file,
+                failure.toString()
+            );
+        } catch (IOException e) {
+            log.error(
+                "Dropped spooled webhook, dead letter not written: subject={}, dedupId={}, reason={}",
+                request.subject(),
+                request.dedupId(),
+                failure.toString(),
+                e
+            );
+        }
+    }
+
+    /**
+     * The next pending record after the last one submitted, or {@code null} if there is none yet. Waits up to
+     * a second for an append first when {@code block} is set.
+     */
+    private @Nullable Pending nextPending(boolean block) throws InterruptedException {
+        appendLock.lock();
+        try {
+            while (running) {
+                deleteDrainedSegments();
+                if (cursorSegment == null || !segments.contains(cursorSegment)) {
+                    cursorSegment = segments.peekFirst();
+                    if (cursorSegment == null) {
+                        awaitAppend(block);
+                        return null;
+                    }
+                    cursorPosition = cursorSegment.readPosition;
+                }
+                Segment segment = cursorSegment;
+                if (cursorPosition >= segment.writePosition) {
+                    Segment following = segmentAfter(segment);
+                    if (following == null) {
+                        awaitAppend(block);
+                        return null;
+                    }
+                    cursorSegment = following;
+                    cursorPosition = following.readPosition;
+                    continue;
+                }
+                int position = cursorPosition;
+                int length = segment.buffer.getInt(position);
+                cursorPosition = position + HEADER_BYTES + length;
+                if (segment.buffer.get(position + 8) == DRAINED) {
+                    continue;
+                }
+                byte[] payload = new byte[length];
+                segment.buffer.get(position + HEADER_BYTES, payload);
+                try {
+                    return new Pending(segment, position, HEADER_BYTES + length, decode(payload));
+                } catch (IOException | RuntimeException e) {
+                    // CRC-checked on the way in, so this is a format bug, not a torn write; skip it loudly.
+                    log.error("Dropping undecodable webhook spool record in {} at {}", segment.path, position, e);
+                    return new Pending(segment, position, HEADER_BYTES + length, null);
+                }
+            }
+            return null;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void awaitAppend(boolean block) throws InterruptedException {
+        if (block) {
+            appended.await(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private void resetCursor() {
+        appendLock.lock();
+        try {
+            cursorSegment = null;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private @Nullable Segment segmentAfter(Segment segment) {
+        Iterator<Segment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == segment) {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+        }
+        return null;
+    }
+
+    /** Deletes fully drained segments from the front, never the one still being appended to. */
+    private void deleteDrainedSegments() {
+        Segment oldest = segments.peekFirst();
+        while (oldest != null && oldest != active && oldest.readPosition >= oldest.writePosition) {
+            segments.pollFirst();
+            oldest.delete();
+            oldest = segments.peekFirst();
+        }
+    }
+
+    private void markDrained(Pending pending, boolean published) {
+        appendLock.lock();
+        try {
+            pending.segment.buffer.put(pending.position + 8, DRAINED);
+            pending.segment.readPosition = pending.position + pending.length;
+        } finally {
+            appendLock.unlock();
+        }
+        depth.decrementAndGet();
+        if (published) {
+            drainedCounter.increment();
+        }
+    }
+
+    // ── Recovery ────────────────────────────────────────────────────────────────────────────────
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(p -> SEGMENT_NAME.matcher(p.getFileName().toString()).matches()).sorted().toList();
+        }
+        for (Path path : files) {
+            Matcher name = SEGMENT_NAME.matcher(path.getFileName().toString());
+            if (name.matches()) {
+                nextSegmentId = Math.max(nextSegmentId, Long.parseLong(name.group(1)) + 1);
+            }
+            Segment segment = Segment.open(path);
+            int pending = segment.scan();
+            if (pending == 0) {
+                segment.delete();
+                continue;
+            }
+            depth.addAndGet(pending);
+            segments.addLast(segment);
+        }
+    }
+
+    // ── Record format ───────────────────────────────────────────────────────────────────────────
+
+    static byte[] encode(PublishRequest request) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(request.body().length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(request.subject());
+            out.writeUTF(request.dedupId());
+            out.writeShort(request.headers().size());
+            for (Map.Entry<String, String> header : request.headers().entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeUTF(header.getValue());
+            }
+            out.writeInt(request.body().length);
+            out.write(request.body());
+        }
+        return bytes.toByteArray();
+    }
+
+    static PublishRequest decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unknown webhook spool record version " + version);
+            }
+            String subject = in.readUTF();
+            String dedupId = in.readUTF();
+            int headerCount = in.readUnsignedShort();
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 0; i < headerCount; i++) {
+                headers.put(in.readUTF(), in.readUTF());
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new PublishRequest(subject, dedupId, headers, body);
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private record Pending(Segment segment, int position, int length, @Nullable PublishRequest request) {}
+
+    private record Submitted(Pending pending, CompletableFuture<?> ack) {}
+
+    /** One mapped segment file. Positions are guarded by the spool's {@code appendLock}. */
+    private static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int readPosition;
+        /** Touched only by the group-commit leader. */
+        private int forcedPosition;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            // Mapping past the end grows the file; forcing metadata once makes the new size durable.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            channel.force(true);
+            return new Segment(path, channel, buffer);
+        }
+
+        static Segment open(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return new Segment(path, channel, buffer);
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        void write(byte[] payload) {
+            int position = writePosition;
+            buffer.put(position + HEADER_BYTES, payload);
+            buffer.putInt(position + 4, crc(payload));
+            buffer.put(position + 8, PENDING);
+            buffer.putInt(position, payload.length);
+            writePosition = position + HEADER_BYTES + payload.length;
+        }
+
+        /**
+         * Finds the end of the valid records and counts those still pending. Everything past the first
+         * invalid record is ignored; the segment is then only drained, so it is never overwritten.
+         */
+        int scan() {
+            int position = 0;
+            int pending = 0;
+            while (position + HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || length > buffer.capacity() - position - HEADER_BYTES) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(position + HEADER_BYTES, payload);
+                if (crc(payload) != buffer.getInt(position + 4)) {
+                    log.warn("Webhook spool segment {} has a torn record at {}; ignoring the rest", path, position);
+                    break;
+                }
+                if (buffer.get(position + 8) == PENDING) {
+                    pending++;
+                }
+                position += HEADER_BYTES + length;
+            }
+            writePosition = position;
+            forcedPosition = position;
+            return pending;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Could not close webhook spool segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Could not delete drained webhook spool segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
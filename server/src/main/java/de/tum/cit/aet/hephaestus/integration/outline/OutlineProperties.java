@@ -13,7 +13,7 @@ import org.springframework.boot.convert.DurationUnit;
  * <pre>{@code
  * hephaestus.integration.outline:
  *   enabled: true
- *   sync: { cron: "0 0 0/6 * * *", export-budget: 500, catch-up-delay: PT5M }
+ *   sync: { cron: "0 0 0/6 * * *", export-budget: 500, collection-parallelism: 4, catch-up-delay: PT5M }
  *   cache: { max-size-mb: 200 }
  *   staleness: 30d
  * }</pre>
@@ -37,8 +37,11 @@ public record OutlineProperties(
      * @param exportBudget max document exports one workspace pass may spend (default 500). Bounds the
      *                     cost of a huge corpus's first sync; a collection whose pass ran out of budget
      *                     stays {@code PENDING} and the catch-up tick resumes it next cycle
+     * @param collectionParallelism how many collections one workspace pass syncs at once, each on its own
+     *                     virtual thread (default 4). The export budget is shared across them; values
+     *                     below {@code 1} are read as {@code 1}, the one-after-another pass
      */
-    public record Sync(@DefaultValue("500") int exportBudget) {}
+    public record Sync(@DefaultValue("500") int exportBudget, @DefaultValue("4") int collectionParallelism) {}
 
     /**
      * @param maxSizeMb per-workspace cap on the total size of mirrored Markdown bodies; when exceeded, the
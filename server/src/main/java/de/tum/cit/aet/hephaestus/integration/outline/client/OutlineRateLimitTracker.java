@@ -26,10 +26,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * Per-scope Outline API rate-limit tracker. Purely observational: Outline throttling is enforced by the
+ * Per-scope Outline API rate-limit tracker. Observational: Outline throttling is enforced by the
  * {@code Retry-After}-honoring 429 handling in {@link OutlineApiClient}, so this class never blocks or
- * paces — it only records what Outline actually told us, and feeds the {@link RateLimitSnapshot} SPI the
- * Outline admin page renders.
+ * paces — it only records what Outline actually told us, feeds the {@link RateLimitSnapshot} SPI the
+ * Outline admin page renders, and answers {@link #throttledFor} for callers deciding whether to start more
+ * work against a host that just throttled us.
  *
  * <h2>Outline reports a budget ONLY on a 429</h2>
  * <p>Outline's rate-limiter middleware sets {@code Retry-After}, {@code RateLimit-Limit},
@@ -196,6 +197,26 @@ public class OutlineRateLimitTracker {
         );
     }
 
+    /**
+     * How much longer the last 429's {@code Retry-After} window for this scope runs, or {@code null} once it
+     * has lapsed (or was never observed). Concurrent sync work against one Outline host reads this before
+     * starting anything new, so a throttle seen by one worker holds back its siblings instead of each of them
+     * earning its own 429. In-flight requests are unaffected — the client's retry handling paces those.
+     */
+    @Nullable
+    public Duration throttledFor(@Nullable String scope) {
+        if (scope == null) {
+            return null;
+        }
+        ScopeState state = stateByScope.get(scope);
+        Instant until = state == null ? null : state.throttledUntil.get();
+        if (until == null) {
+            return null;
+        }
+        Duration left = Duration.between(Instant.now(), until);
+        return left.isNegative() || left.isZero() ? null : left;
+    }
+
     /** Number of tracked scopes (monitoring/debugging). */
     public int getTrackedScopeCount() {
         return stateByScope.size();
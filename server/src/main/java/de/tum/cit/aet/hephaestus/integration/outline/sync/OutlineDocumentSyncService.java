@@ -15,6 +15,7 @@ import de.tum.cit.aet.hephaestus.integration.core.sync.SyncJobType;
 import de.tum.cit.aet.hephaestus.integration.outline.OutlineProperties;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineApiClient;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineApiException;
+import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineRateLimitTracker;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineRateLimitedException;
 import de.tum.cit.aet.hephaestus.integration.outline.client.model.OutlineCollectionModel;
 import de.tum.cit.aet.hephaestus.integration.outline.client.model.OutlineDocumentModel;
@@ -26,6 +27,7 @@ import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentRepos
 import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentSnapshot;
 import de.tum.cit.aet.hephaestus.integration.outline.domain.signal.OutlineDocumentSignalRecorder;
 import de.tum.cit.aet.hephaestus.integration.outline.lifecycle.OutlineWebhookRegistrar;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -36,6 +38,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.jspecify.annotations.Nullable;
@@ -72,6 +80,11 @@ import org.springframework.stereotype.Service;
  * still being populated by an {@code INITIAL} job has nothing stale in it, and every document not fetched
  * yet would read as an upstream deletion to a set difference. That is the same rule the SCM deletion sweeps
  * obey. Archived documents are never tombstoned — see {@link #syncArchivedDocuments}.
+ *
+ * <p><b>Concurrency.</b> The full reconcile and the catch-up tick sync several collections of one workspace
+ * at once ({@code sync.collection-parallelism}, see {@link #syncCollections}). Their shared state — the export
+ * budget, the diff map, the progress count — is thread-safe, and the sweep re-checks each row's collection
+ * inside its write, since a sibling collection may have just claimed a moved document.
  */
 @Service
 @ConditionalOnProperty(name = "hephaestus.integration.outline.enabled", havingValue = "true", matchIfMissing = false)
@@ -99,6 +112,7 @@ public class OutlineDocumentSyncService {
     private final OutlineMirrorWriter mirrorWriter;
     private final OutlineMirrorRetentionService retention;
     private final OutlineDocumentSignalRecorder signalRecorder;
+    private final OutlineRateLimitTracker rateLimitTracker;
 
     /** Optional because the agent subsystem is absent in the worker and webhook roles. */
     private final ObjectProvider<DocumentReviewTrigger> reviewTrigger;
@@ -113,6 +127,7 @@ public class OutlineDocumentSyncService {
         OutlineMirrorWriter mirrorWriter,
         OutlineMirrorRetentionService retention,
         OutlineDocumentSignalRecorder signalRecorder,
+        OutlineRateLimitTracker rateLimitTracker,
         ObjectProvider<DocumentReviewTrigger> reviewTrigger
     ) {
         this.connectionService = connectionService;
@@ -124,6 +139,7 @@ public class OutlineDocumentSyncService {
         this.mirrorWriter = mirrorWriter;
         this.retention = retention;
         this.signalRecorder = signalRecorder;
+        this.rateLimitTracker = rateLimitTracker;
         this.reviewTrigger = reviewTrigger;
     }
 
@@ -191,7 +207,6 @@ public class OutlineDocumentSyncService {
             return;
         }
         Instant now = Instant.now();
-        BooleanSupplier cancelled = cancellationOf(handle);
         try {
             Map<String, OutlineCollectionModel> live = refreshCatalog(ctx);
             List<OutlineCollection> collections = collectionRepository.findForSync(
@@ -201,29 +216,7 @@ public class OutlineDocumentSyncService {
             );
             ExportBudget budget = new ExportBudget(properties.sync().exportBudget());
             Map<String, OutlineDocumentSnapshot> existing = loadExisting(ctx);
-            int synced = 0;
-            int total = collections.size();
-            int done = 0;
-            for (OutlineCollection collection : collections) {
-                if (handle != null && handle.isCancellationRequested()) {
-                    break;
-                }
-                if (!live.containsKey(collection.getCollectionId())) {
-                    // Visibility loss ≠ deletion: never tombstone documents we merely cannot see.
-                    recordCollectionError(ctx, collection, "Collection is no longer visible to the integration token");
-                    reportWarning(handle);
-                    done++;
-                    reportCollectionDone(handle, done, total, collection.getName());
-                    continue;
-                }
-                if (syncOneCollectionRecordingError(ctx, collection, existing, budget, now, type, cancelled)) {
-                    synced++;
-                } else {
-                    reportWarning(handle);
-                }
-                done++;
-                reportCollectionDone(handle, done, total, collection.getName());
-            }
+            int synced = syncCollections(ctx, collections, live, existing, budget, now, type, handle);
             // Self-heal the change-notification subscription each reconcile (Outline auto-disables a
             // subscription after repeated delivery failures); best-effort, never throws.
             webhookRegistrar.ensureSubscription(workspaceId);
@@ -272,34 +265,12 @@ public class OutlineDocumentSyncService {
             return;
         }
         Instant now = Instant.now();
-        BooleanSupplier cancelled = cancellationOf(handle);
         ExportBudget budget = new ExportBudget(properties.sync().exportBudget());
         Map<String, OutlineDocumentSnapshot> existing = loadExisting(ctx);
-        int total = pending.size();
-        int done = 0;
         try {
-            for (OutlineCollection collection : pending) {
-                if (handle != null && handle.isCancellationRequested()) {
-                    break;
-                }
-                // The catch-up tick resumes a collection left PENDING by a budget-exhausted reconcile; it is
-                // itself a RECONCILIATION job, so a clean pass here may sweep.
-                if (
-                    !syncOneCollectionRecordingError(
-                        ctx,
-                        collection,
-                        existing,
-                        budget,
-                        now,
-                        SyncJobType.RECONCILIATION,
-                        cancelled
-                    )
-                ) {
-                    reportWarning(handle);
-                }
-                done++;
-                reportCollectionDone(handle, done, total, collection.getName());
-            }
+            // The catch-up tick resumes a collection left PENDING by a budget-exhausted reconcile; it is
+            // itself a RECONCILIATION job, so a clean pass here may sweep.
+            syncCollections(ctx, pending, null, existing, budget, now, SyncJobType.RECONCILIATION, handle);
         } catch (OutlineRateLimitedException e) {
             logRateLimited(workspaceId, e);
             reportWarning(handle);
@@ -309,6 +280,96 @@ public class OutlineDocumentSyncService {
         retention.enforceSizeCap(workspaceId);
     }
 
+    /**
+     * Syncs {@code collections} up to {@code sync.collection-parallelism} at a time, each on its own virtual
+     * thread, and returns once every launched collection has finished. Collections are launched in list
+     * order; everything they share — the export budget, the {@code existing} diff map, the progress count —
+     * is safe for concurrent use.
+     *
+     * <p>Three things stop further launches, each checked once per collection before it starts: a
+     * cancellation request on {@code handle}, a rate limit or unexpected failure in an already-launched
+     * collection, and a {@code Retry-After} window the {@link OutlineRateLimitTracker} still holds for this
+     * host. The first two also reach the running collections through their per-document cancellation check,
+     * so they abort to PENDING exactly as a cancelled sequential pass would. An open throttle window only
+     * holds back new work: the running collections are already inside the client's own 429 handling.
+     *
+     * @param live the visible upstream catalog, or {@code null} when the caller did not refresh it
+     * @return how many collections synced without an API failure
+     * @throws OutlineRateLimitedException when a collection was rate-limited or the throttle window stopped
+     *                                     the pass, after every launched collection has finished
+     */
+    private int syncCollections(
+        SyncContext ctx,
+        List<OutlineCollection> collections,
+        @Nullable Map<String, OutlineCollectionModel> live,
+        Map<String, OutlineDocumentSnapshot> existing,
+        ExportBudget budget,
+        Instant now,
+        SyncJobType type,
+        @Nullable SyncExecutionHandle handle
+    ) {
+        BooleanSupplier cancelled = cancellationOf(handle);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        BooleanSupplier stopped = () -> failure.get() != null || cancelled.getAsBoolean();
+        CollectionProgress progress = new CollectionProgress(handle, collections.size());
+        AtomicInteger synced = new AtomicInteger();
+        Semaphore slots = new Semaphore(Math.max(1, properties.sync().collectionParallelism()));
+        String scope = OutlineRateLimitTracker.scopeOf(ctx.serverUrl());
+        OutlineRateLimitedException throttled = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (OutlineCollection collection : collections) {
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+                if (live != null && !live.containsKey(collection.getCollectionId())) {
+                    // Visibility loss ≠ deletion: never tombstone documents we merely cannot see.
+                    recordCollectionError(ctx, collection, "Collection is no longer visible to the integration token");
+                    reportWarning(handle);
+                    progress.collectionDone(collection.getName());
+                    continue;
+                }
+                try {
+                    slots.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                Duration throttleLeft = rateLimitTracker.throttledFor(scope);
+                if (failure.get() != null || throttleLeft != null) {
+                    slots.release();
+                    if (throttleLeft != null) {
+                        throttled = new OutlineRateLimitedException(throttleLeft, null);
+                    }
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        if (syncOneCollectionRecordingError(ctx, collection, existing, budget, now, type, stopped)) {
+                            synced.incrementAndGet();
+                        } else {
+                            reportWarning(handle);
+                        }
+                        progress.collectionDone(collection.getName());
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+        // Rethrown only now, once no collection is still writing, so the caller's rate-limit handling sees
+        // the same settled mirror a sequential pass would have left.
+        RuntimeException first = failure.get();
+        if (first != null) {
+            throw first;
+        }
+        if (throttled != null) {
+            throw throttled;
+        }
+        return synced.get();
+    }
+
     /**
      * The cooperative-cancellation port for the document-level loops, derived from the enclosing job's
      * handle. The unhandled (scheduled / webhook / targeted-kick) paths get a supplier that never trips.
@@ -933,11 +994,12 @@ public class OutlineDocumentSyncService {
     }
 
     /**
-     * The mirror rows the reconcile diffs against, keyed by document id (spans all collections). Bodies
-     * are deliberately NOT loaded — see {@link OutlineDocumentSnapshot}.
+     * The mirror rows the reconcile diffs against, keyed by document id (spans all collections, so it is
+     * concurrent: a pass writes it from every collection it runs at once). Bodies are deliberately NOT
+     * loaded — see {@link OutlineDocumentSnapshot}.
      */
     private Map<String, OutlineDocumentSnapshot> loadExisting(SyncContext ctx) {
-        Map<String, OutlineDocumentSnapshot> existing = new HashMap<>();
+        Map<String, OutlineDocumentSnapshot> existing = new ConcurrentHashMap<>();
         for (OutlineDocumentSnapshot doc : documentRepository.findSnapshotsByWorkspaceIdAndConnectionId(
             ctx.workspaceId(),
             ctx.connectionId()
@@ -990,25 +1052,45 @@ public class OutlineDocumentSyncService {
         SKIPPED_FOR_BUDGET,
     }
 
-    /** Mutable countdown of exports one pass may spend; shared across a pass's collections. */
+    /**
+     * Countdown of exports one pass may spend; shared across a pass's collections, which may run
+     * concurrently, so a decrement never takes the count below zero however many collections race for it.
+     */
     private static final class ExportBudget {
 
-        private int remaining;
+        private final AtomicInteger remaining;
 
         ExportBudget(int budget) {
-            this.remaining = budget;
+            this.remaining = new AtomicInteger(budget);
         }
 
         boolean tryConsume() {
-            if (remaining <= 0) {
-                return false;
-            }
-            remaining--;
-            return true;
+            return remaining.getAndUpdate(left -> left > 0 ? left - 1 : left) > 0;
         }
 
         int remaining() {
-            return remaining;
+            return remaining.get();
+        }
+    }
+
+    /**
+     * The "N of M collections" count a pass reports. Collections finish on their own threads; reporting
+     * under one lock keeps {@code N} strictly increasing on the job handle.
+     */
+    private static final class CollectionProgress {
+
+        private final @Nullable SyncExecutionHandle handle;
+        private final int total;
+        private int done;
+
+        CollectionProgress(@Nullable SyncExecutionHandle handle, int total) {
+            this.handle = handle;
+            this.total = total;
+        }
+
+        synchronized void collectionDone(@Nullable String collectionName) {
+            done++;
+            reportCollectionDone(handle, done, total, collectionName);
         }
     }
 }
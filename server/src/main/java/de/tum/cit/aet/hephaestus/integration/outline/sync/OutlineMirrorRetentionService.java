@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.integration.outline.sync;
 
 import de.tum.cit.aet.hephaestus.integration.outline.OutlineProperties;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocument;
 import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentRepository;
 import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentSnapshot;
 import java.time.Instant;
@@ -93,12 +94,39 @@ public class OutlineMirrorRetentionService {
             if (!collectionId.equals(doc.collectionId()) || seen.contains(doc.documentId()) || doc.isDeleted()) {
                 continue;
             }
-            tombstone(workspaceId, connectionId, doc.documentId(), now, existing);
-            count++;
+            if (tombstoneIfStillIn(workspaceId, connectionId, collectionId, doc.documentId(), now, existing)) {
+                count++;
+            }
         }
         return count;
     }
 
+    /**
+     * The sweep's tombstone, re-checked against the row as re-read inside the write. Collections of one pass
+     * sync concurrently, so a document moved upstream from this collection into a sibling may have been
+     * written under the sibling since {@code existing} was copied — absent from here is then not gone, and
+     * the row is left alone.
+     */
+    private boolean tombstoneIfStillIn(
+        long workspaceId,
+        long connectionId,
+        String collectionId,
+        String documentId,
+        Instant now,
+        Map<String, OutlineDocumentSnapshot> existing
+    ) {
+        OutlineDocumentSnapshot written = mirrorWriter.updateDocument(workspaceId, connectionId, documentId, doc -> {
+            if (collectionId.equals(doc.getCollectionId())) {
+                erase(doc, now);
+            }
+        });
+        if (written == null) {
+            return false;
+        }
+        existing.put(documentId, written);
+        return written.isDeleted();
+    }
+
     /**
      * Drop everything person- or content-bearing: the body, its hash, and the author/collaborator
      * fields share the same PII posture — a document that no longer exists upstream keeps only its
@@ -113,22 +141,26 @@ public class OutlineMirrorRetentionService {
         Instant now,
         @Nullable Map<String, OutlineDocumentSnapshot> existing
     ) {
-        OutlineDocumentSnapshot written = mirrorWriter.updateDocument(workspaceId, connectionId, documentId, doc -> {
-            doc.setDeletedAt(now);
-            doc.setBodyMarkdown(null);
-            // unlike an eviction, a tombstone drops the hash too (enforced by ck_outline_document_tombstone)
-            doc.setContentHash(null);
-            doc.setCreatedBySubject(null);
-            doc.setCreatedByName(null);
-            doc.setUpdatedBySubject(null);
-            doc.setUpdatedByName(null);
-            doc.setCollaboratorSubjects(null);
-        });
+        OutlineDocumentSnapshot written = mirrorWriter.updateDocument(workspaceId, connectionId, documentId, doc ->
+            erase(doc, now)
+        );
         if (existing != null && written != null) {
             existing.put(documentId, written);
         }
     }
 
+    private static void erase(OutlineDocument doc, Instant now) {
+        doc.setDeletedAt(now);
+        doc.setBodyMarkdown(null);
+        // unlike an eviction, a tombstone drops the hash too (enforced by ck_outline_document_tombstone)
+        doc.setContentHash(null);
+        doc.setCreatedBySubject(null);
+        doc.setCreatedByName(null);
+        doc.setUpdatedBySubject(null);
+        doc.setUpdatedByName(null);
+        doc.setCollaboratorSubjects(null);
+    }
+
     /**
      * Enforce the per-workspace body-size cap by nulling the least-recently-materialized bodies until the
      * mirror is back under the cap. Size is measured in bytes ({@code octet_length}) against the byte cap,
@@ -117,6 +117,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
     )
     Optional<User> findByLoginWithEagerMergedPullRequests(@Param("login") String login);
 
+    /**
+     * Returns the subset of {@code userIds} that merged at least one pull request before {@code before} —
+     * the batched form of the "established player" check that would otherwise need each user's merged pull
+     * requests fetched eagerly.
+     */
+    @Query(
+        """
+            SELECT DISTINCT pr.mergedBy.id
+            FROM PullRequest pr
+            WHERE pr.mergedBy.id IN :userIds
+              AND pr.isMerged = true
+              AND pr.mergedAt < :before
+        """
+    )
+    List<Long> findIdsWithMergedPullRequestBefore(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("before") Instant before
+    );
+
     @Query(
         """
             SELECT u
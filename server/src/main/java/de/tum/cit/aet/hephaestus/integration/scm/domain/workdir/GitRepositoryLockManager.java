@@ -1,5 +1,6 @@
 package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
 
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
@@ -93,6 +94,28 @@ public class GitRepositoryLockManager {
         }
     }
 
+    /**
+     * Execute a write operation (maintenance) with exclusive lock, only if the lock is free right now.
+     * Unlike {@link #withWriteLock(Long, Supplier)} this never waits behind readers or writers, so
+     * optional work can skip a busy repository instead of stalling it.
+     *
+     * @param repositoryId the repository ID
+     * @param operation the operation to execute
+     * @param <T> the return type
+     * @return the result of the operation, or empty if the lock was held (or the operation returned null)
+     */
+    public <T> Optional<T> tryWithWriteLock(Long repositoryId, Supplier<T> operation) {
+        ReentrantReadWriteLock lock = getLock(repositoryId);
+        if (!lock.writeLock().tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(operation.get());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     /**
      * Execute a read operation with shared lock.
      * Multiple readers can proceed concurrently.
@@ -0,0 +1,103 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import de.tum.cit.aet.hephaestus.core.runtime.ConditionalOnServerRole;
+import java.util.List;
+import java.util.Optional;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Nightly repack of every local clone, see {@link GitRepositoryManager#maintainRepository}.
+ *
+ * <p>Clones are only ever cloned and fetched; without this they accumulate one small pack (or a batch of
+ * loose objects) per fetch and every revwalk and tree read gets slower. The cron defaults to the quiet hours
+ * ({@code hephaestus.git.maintenance-cron}), and a clone that is being read or fetched when its turn comes
+ * is skipped until the next night rather than waited for.
+ *
+ * <p>The clones live on the volume shared by the server pods, so {@link SchedulerLock} keeps a second pod
+ * from repacking the same directories concurrently. It touches no workspace data, hence
+ * {@link WorkspaceAgnostic}.
+ */
+@ConditionalOnServerRole
+@Component
+public class GitRepositoryMaintenanceScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GitRepositoryMaintenanceScheduler.class);
+
+    private final GitRepositoryManager gitRepositoryManager;
+
+    public GitRepositoryMaintenanceScheduler(GitRepositoryManager gitRepositoryManager) {
+        this.gitRepositoryManager = gitRepositoryManager;
+    }
+
+    @Scheduled(cron = "${hephaestus.git.maintenance-cron:0 15 4 * * *}")
+    @SchedulerLock(name = "git-repository-maintenance", lockAtMostFor = "PT2H", lockAtLeastFor = "PT5M")
+    @WorkspaceAgnostic("Repacking local git clones; no workspace-scoped data is read")
+    public void maintain() {
+        maintainNow();
+    }
+
+    /**
+     * Repacks every local clone that is idle right now. Exposed so tests can drive it deterministically.
+     *
+     * @return the number of clones repacked
+     */
+    public int maintainNow() {
+        if (!gitRepositoryManager.isEnabled()) {
+            return 0;
+        }
+
+        List<Long> repositoryIds = gitRepositoryManager.listClonedRepositoryIds();
+        int maintained = 0;
+        int skipped = 0;
+        for (Long repositoryId : repositoryIds) {
+            try {
+                Optional<GitRepositoryManager.MaintenanceReport> report = gitRepositoryManager.maintainRepository(
+                    repositoryId
+                );
+                if (report.isEmpty()) {
+                    skipped++;
+                    continue;
+                }
+                maintained++;
+                logReport(report.get());
+            } catch (RuntimeException e) {
+                // One corrupt clone must not keep the others unpacked; the next run retries it.
+                log.warn("Failed to maintain git repository: repoId={}, error={}", repositoryId, e.toString());
+            }
+        }
+        if (!repositoryIds.isEmpty()) {
+            log.info(
+                "Completed git maintenance: repositories={}, maintained={}, skippedBusy={}",
+                repositoryIds.size(),
+                maintained,
+                skipped
+            );
+        }
+        return maintained;
+    }
+
+    private static void logReport(GitRepositoryManager.MaintenanceReport report) {
+        GitRepositoryManager.PackStatistics before = report.before();
+        GitRepositoryManager.PackStatistics after = report.after();
+        log.info(
+            "Maintained git repository: repoId={}, packs={}->{}, packSize={}->{}, looseObjects={}->{}, " +
+                "bitmaps={}->{}, durationMs={}",
+            report.repositoryId(),
+            before.packFiles(),
+            after.packFiles(),
+            DataSize.ofBytes(before.packBytes()),
+            DataSize.ofBytes(after.packBytes()),
+            before.looseObjects(),
+            after.looseObjects(),
+            before.bitmaps(),
+            after.bitmaps(),
+            report.durationMs()
+        );
+    }
+}
@@ -4,7 +4,9 @@ import de.tum.cit.aet.hephaestus.integration.core.fabric.FabricLayout;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -17,7 +19,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
@@ -26,12 +35,14 @@ import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
 import org.eclipse.jgit.diff.Edit;
 import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.lib.ConfigConstants;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.FileMode;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.patch.FileHeader;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
@@ -78,17 +89,23 @@ public class GitRepositoryManager {
     /** The walk stopped at {@code hephaestus.git.tree-max-total-size}; the rest was never read. */
     public static final String TREE_LIMITATION_TOTAL_SIZE = "TOTAL_SIZE_LIMIT_REACHED";
 
+    /** Commits diffed per chunk when {@link #walkCommits} collects a walk into a list. */
+    private static final int WALK_CHUNK_SIZE = 256;
+
     private final GitRepositoryProperties properties;
     private final GitRepositoryLockManager lockManager;
+    private final GitRepositoryPool repositoryPool;
     private final FabricLayout fabricLayout;
 
     public GitRepositoryManager(
         GitRepositoryProperties properties,
         GitRepositoryLockManager lockManager,
+        GitRepositoryPool repositoryPool,
         FabricLayout fabricLayout
     ) {
         this.properties = properties;
         this.lockManager = lockManager;
+        this.repositoryPool = repositoryPool;
         this.fabricLayout = fabricLayout;
 
         if (properties.enabled()) {
@@ -129,6 +146,7 @@ public class GitRepositoryManager {
         }
 
         lockManager.withWriteLock(repositoryId, () -> {
+            repositoryPool.invalidate(repositoryId);
             Path repoPath = getRepositoryPath(repositoryId);
             if (Files.exists(repoPath)) {
                 try {
@@ -176,6 +194,7 @@ public class GitRepositoryManager {
         }
 
         return lockManager.withWriteLock(repositoryId, () -> {
+            repositoryPool.invalidate(repositoryId);
             Path repoPath = getRepositoryPath(repositoryId);
 
             try {
@@ -269,6 +288,7 @@ public class GitRepositoryManager {
         }
 
         return lockManager.withWriteLock(repositoryId, () -> {
+            repositoryPool.invalidate(repositoryId);
             Path repoPath = getRepositoryPath(repositoryId);
             String localRef = "refs/hephaestus/reviews/" + expectedSha.toLowerCase(java.util.Locale.ROOT);
             try (Git git = Git.open(repoPath.toFile())) {
@@ -293,6 +313,87 @@ public class GitRepositoryManager {
         });
     }
 
+    /**
+     * Ids of every repository with a clone on disk, in no particular order. Directories that are not a
+     * clone (an aborted clone, a foreign name) are left out.
+     */
+    public List<Long> listClonedRepositoryIds() {
+        Path sourcesRoot = fabricLayout.sources(SCM_CONNECTOR);
+        if (!properties.enabled() || !Files.isDirectory(sourcesRoot)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(sourcesRoot)) {
+            return children
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.matches("\\d{1,18}"))
+                .map(Long::valueOf)
+                .filter(this::isRepositoryCloned)
+                .toList();
+        } catch (IOException e) {
+            throw new GitOperationException("Failed to list local clones under " + sourcesRoot, e);
+        }
+    }
+
+    /**
+     * Repacks a clone with reachability bitmaps, writes its commit-graph, and prunes what the repack
+     * superseded. JGit's grace periods are kept: packs go once older than {@code gc.prunePackExpire} (one
+     * hour) and unreachable loose objects once older than {@code gc.pruneExpire} (two weeks), because
+     * path-based readers such as {@code GitDiffOperations} open the clone without taking the lock.
+     * <p>
+     * Clones only ever grow by fetch, and every fetch leaves another small pack or a batch of loose
+     * objects; revwalks and tree reads then pay an index lookup per pack. This undoes that. It takes the
+     * write lock only if nobody holds the repository right now, so a busy clone is skipped rather than
+     * stalling a backfill or review behind a repack.
+     *
+     * @return pack statistics before and after, or empty if the clone is missing or was busy
+     */
+    public Optional<MaintenanceReport> maintainRepository(Long repositoryId) {
+        if (!properties.enabled() || !isRepositoryCloned(repositoryId)) {
+            return Optional.empty();
+        }
+
+        return lockManager.tryWithWriteLock(repositoryId, () -> {
+            repositoryPool.invalidate(repositoryId);
+            Path repoPath = getRepositoryPath(repositoryId);
+            try (Git git = Git.open(repoPath.toFile())) {
+                enableCommitGraph(git.getRepository());
+                PackStatistics before = PackStatistics.of(git.gc().getStatistics());
+                long start = System.nanoTime();
+                PackStatistics after = PackStatistics.of(git.gc().call());
+                return new MaintenanceReport(repositoryId, before, after, (System.nanoTime() - start) / 1_000_000);
+            } catch (GitAPIException | IOException e) {
+                throw new GitOperationException("Failed to maintain repository: " + repositoryId, e);
+            }
+        });
+    }
+
+    /**
+     * JGit writes a commit-graph during gc and reads it during revwalks only when told to; both settings
+     * live in the clone's own config so a reclone starts without them until its first maintenance run.
+     */
+    private static void enableCommitGraph(Repository repo) throws IOException {
+        StoredConfig config = repo.getConfig();
+        boolean changed = false;
+        changed |= ensureEnabled(config, ConfigConstants.CONFIG_CORE_SECTION, ConfigConstants.CONFIG_COMMIT_GRAPH);
+        changed |= ensureEnabled(
+            config,
+            ConfigConstants.CONFIG_GC_SECTION,
+            ConfigConstants.CONFIG_KEY_WRITE_COMMIT_GRAPH
+        );
+        changed |= ensureEnabled(config, ConfigConstants.CONFIG_PACK_SECTION, ConfigConstants.CONFIG_KEY_BUILD_BITMAPS);
+        if (changed) {
+            config.save();
+        }
+    }
+
+    private static boolean ensureEnabled(StoredConfig config, String section, String key) {
+        if (config.getBoolean(section, key, false)) {
+            return false;
+        }
+        config.setBoolean(section, null, key, true);
+        return true;
+    }
+
     @Nullable
     public String resolveDefaultBranchHead(Long repositoryId, String defaultBranch) {
         if (!properties.enabled()) {
@@ -301,8 +402,7 @@ public class GitRepositoryManager {
 
         return lockManager.withReadLock(repositoryId, () -> {
             Path repoPath = getRepositoryPath(repositoryId);
-            try (Git git = Git.open(repoPath.toFile())) {
-                Repository repo = git.getRepository();
+            try (Repository repo = repositoryPool.acquire(repositoryId, repoPath)) {
 
                 String ref = "refs/remotes/origin/" + defaultBranch;
                 ObjectId objectId = repo.resolve(ref);
@@ -338,8 +438,11 @@ public class GitRepositoryManager {
 
         return lockManager.withReadLock(repositoryId, () -> {
             Path repoPath = getRepositoryPath(repositoryId);
-            try (Git git = Git.open(repoPath.toFile()); RevWalk walk = new RevWalk(git.getRepository())) {
-                ObjectId objectId = git.getRepository().resolve(sha);
+            try (
+                Repository repo = repositoryPool.acquire(repositoryId, repoPath);
+                RevWalk walk = new RevWalk(repo)
+            ) {
+                ObjectId objectId = repo.resolve(sha);
                 if (objectId == null) {
                     return false;
                 }
@@ -377,8 +480,7 @@ public class GitRepositoryManager {
             Path repoPath = getRepositoryPath(repositoryId);
             Map<String, EmailPair> result = new HashMap<>();
 
-            try (Git git = Git.open(repoPath.toFile())) {
-                Repository repo = git.getRepository();
+            try (Repository repo = repositoryPool.acquire(repositoryId, repoPath)) {
                 try (RevWalk revWalk = new RevWalk(repo)) {
                     for (String sha : shas) {
                         try {
@@ -434,54 +536,69 @@ public class GitRepositoryManager {
         if (limit < 1) {
             throw new IllegalArgumentException("limit must be positive");
         }
-        if (!properties.enabled()) {
-            return List.of();
-        }
-
-        return lockManager.withReadLock(repositoryId, () -> {
-            Path repoPath = getRepositoryPath(repositoryId);
-            List<CommitInfo> commits = new ArrayList<>();
-
-            try (Git git = Git.open(repoPath.toFile())) {
-                Repository repo = git.getRepository();
+        List<CommitInfo> commits = new ArrayList<>();
+        streamCommits(repositoryId, fromSha, toSha, Math.min(limit, WALK_CHUNK_SIZE), chunk -> {
+            commits.addAll(chunk.subList(0, Math.min(chunk.size(), limit - commits.size())));
+            return commits.size() < limit;
+        });
+        return commits;
+    }
 
+    /**
+     * Streaming form of {@link #walkCommits(Long, String, String)} for walks too long to hold in memory
+     * (a backfill of a repository's whole history).
+     *
+     * <p>Commits reach {@code consumer} in chunks of at most {@code chunkSize}, in walk order (newest
+     * first). The file changes of one chunk are diffed in parallel, on at most
+     * {@code hephaestus.git.walk-parallelism} threads that each hold their own {@link ObjectReader}; the
+     * next chunk is only diffed once the consumer returned, so memory stays at one chunk however long the
+     * history is.
+     *
+     * <p>The repository's read lock is held while a chunk is walked and diffed and released while the
+     * consumer runs, so a consumer that persists its chunk never holds off a fetch or the nightly
+     * maintenance. The walk therefore runs on a handle of its own rather than a pooled one (which must be
+     * closed before the lock is released), and its start points are resolved once: a fetch that lands
+     * between two chunks only adds objects and moves refs, neither of which changes what the walk covers.
+     *
+     * @return number of commits handed to the consumer
+     */
+    public int streamCommits(
+        Long repositoryId,
+        @Nullable String fromSha,
+        String toSha,
+        int chunkSize,
+        CommitChunkConsumer consumer
+    ) {
+        return streamWalk(
+            repositoryId,
+            "commits",
+            chunkSize,
+            consumer,
+            (repo, revWalk) -> {
                 ObjectId toId = repo.resolve(toSha);
                 if (toId == null) {
                     log.warn("Cannot resolve toSha: {}", toSha);
-                    return commits;
+                    return false;
                 }
 
                 ObjectId fromId = fromSha != null ? repo.resolve(fromSha) : null;
 
-                try (RevWalk revWalk = new RevWalk(repo)) {
-                    revWalk.markStart(revWalk.parseCommit(toId));
-                    if (fromId != null) {
-                        revWalk.markUninteresting(revWalk.parseCommit(fromId));
-                    }
-
-                    for (RevCommit revCommit : revWalk) {
-                        CommitInfo commitInfo = extractCommitInfo(repo, revCommit);
-                        commits.add(commitInfo);
-                        if (commits.size() >= limit) break;
-                    }
+                revWalk.markStart(revWalk.parseCommit(toId));
+                if (fromId != null) {
+                    revWalk.markUninteresting(revWalk.parseCommit(fromId));
                 }
-            } catch (IOException e) {
-                log.error("Failed to walk commits: repoId={}, error={}", repositoryId, e.getMessage(), e);
-                throw new GitOperationException("Failed to walk commits for repository: " + repositoryId, e);
+                return true;
             }
-
-            return commits;
-        });
+        );
     }
 
     /**
-     * Walk commits reachable from every remote-tracking branch ({@code refs/remotes/origin/*}).
+     * Stream commits reachable from every remote-tracking branch ({@code refs/remotes/origin/*}).
      *
-     * <p>Unlike {@link #walkCommits(Long, String, String)} which traverses a single ref's
-     * ancestry, this method marks every branch head as a walk start point so a commit that
-     * only exists on a feature branch (never merged into the default branch) is still
-     * discovered. The result is deduplicated by SHA, preserving the first occurrence order
-     * emitted by the walk (newest first).
+     * <p>Unlike {@link #streamCommits} which traverses a single ref's ancestry, this method marks every
+     * branch head as a walk start point so a commit that only exists on a feature branch (never merged into
+     * the default branch) is still discovered. The walk emits each commit once, newest first, in chunks and
+     * under the locking described on {@link #streamCommits}.
      *
      * <p>When {@code fromSha} is provided, it is marked {@code uninteresting} so commits
      * reachable from that point are excluded — useful for incremental backfills.
@@ -489,92 +606,268 @@ public class GitRepositoryManager {
      * @param repositoryId the repository database ID
      * @param fromSha      optional exclusion point for incremental walks; pass {@code null}
      *                     on initial backfill
-     * @return commit info for every unique commit reachable from any remote branch
+     * @return number of commits handed to the consumer
      */
-    public List<CommitInfo> walkAllBranches(Long repositoryId, @Nullable String fromSha) {
-        if (!properties.enabled()) {
-            return List.of();
-        }
-
-        return lockManager.withReadLock(repositoryId, () -> {
-            Path repoPath = getRepositoryPath(repositoryId);
-            LinkedHashMap<String, CommitInfo> uniqueCommits = new LinkedHashMap<>();
-
-            try (Git git = Git.open(repoPath.toFile())) {
-                Repository repo = git.getRepository();
-
+    public int streamAllBranches(
+        Long repositoryId,
+        @Nullable String fromSha,
+        int chunkSize,
+        CommitChunkConsumer consumer
+    ) {
+        return streamWalk(
+            repositoryId,
+            "all branches",
+            chunkSize,
+            consumer,
+            (repo, revWalk) -> {
                 List<org.eclipse.jgit.lib.Ref> remoteRefs = new ArrayList<>(
                     repo.getRefDatabase().getRefsByPrefix("refs/remotes/origin/")
                 );
                 if (remoteRefs.isEmpty()) {
                     log.warn("No remote branches found for multi-branch walk: repoId={}", repositoryId);
-                    // Return a mutable empty list, matching the normal-path return below, so callers see one
-                    // consistent contract (GitLabCommitBackfillService calls subList on the result).
-                    return new ArrayList<>();
+                    return false;
                 }
 
                 ObjectId fromId = fromSha != null ? repo.resolve(fromSha) : null;
 
-                try (RevWalk revWalk = new RevWalk(repo)) {
-                    for (org.eclipse.jgit.lib.Ref ref : remoteRefs) {
-                        // Skip symbolic refs like refs/remotes/origin/HEAD — they alias another branch.
-                        if (ref.isSymbolic()) {
-                            continue;
-                        }
-                        ObjectId objectId = ref.getObjectId();
-                        if (objectId == null) {
-                            continue;
-                        }
-                        try {
-                            revWalk.markStart(revWalk.parseCommit(objectId));
-                        } catch (IOException e) {
-                            log.debug(
-                                "Skipped ref during multi-branch walk: repoId={}, ref={}, error={}",
-                                repositoryId,
-                                ref.getName(),
-                                e.getMessage()
-                            );
-                        }
+                for (org.eclipse.jgit.lib.Ref ref : remoteRefs) {
+                    // Skip symbolic refs like refs/remotes/origin/HEAD — they alias another branch.
+                    if (ref.isSymbolic()) {
+                        continue;
                     }
+                    ObjectId objectId = ref.getObjectId();
+                    if (objectId == null) {
+                        continue;
+                    }
+                    try {
+                        revWalk.markStart(revWalk.parseCommit(objectId));
+                    } catch (IOException e) {
+                        log.debug(
+                            "Skipped ref during multi-branch walk: repoId={}, ref={}, error={}",
+                            repositoryId,
+                            ref.getName(),
+                            e.getMessage()
+                        );
+                    }
+                }
 
-                    if (fromId != null) {
-                        try {
-                            revWalk.markUninteresting(revWalk.parseCommit(fromId));
-                        } catch (IOException e) {
-                            log.debug(
-                                "Cannot mark fromSha uninteresting — falling back to full walk: repoId={}, fromSha={}, error={}",
-                                repositoryId,
-                                fromSha,
-                                e.getMessage()
-                            );
-                        }
+                if (fromId != null) {
+                    try {
+                        revWalk.markUninteresting(revWalk.parseCommit(fromId));
+                    } catch (IOException e) {
+                        log.debug(
+                            "Cannot mark fromSha uninteresting — falling back to full walk: repoId={}, fromSha={}, error={}",
+                            repositoryId,
+                            fromSha,
+                            e.getMessage()
+                        );
                     }
+                }
+                return true;
+            }
+        );
+    }
 
-                    for (RevCommit revCommit : revWalk) {
-                        String sha = revCommit.getName();
-                        if (uniqueCommits.containsKey(sha)) {
-                            continue;
-                        }
-                        uniqueCommits.put(sha, extractCommitInfo(repo, revCommit));
+    /**
+     * Receives the commits of a streamed walk, one chunk at a time and in walk order. Returning
+     * {@code false} ends the walk; the commits after this chunk are never diffed.
+     */
+    @FunctionalInterface
+    public interface CommitChunkConsumer {
+        boolean accept(List<CommitInfo> chunk);
+    }
+
+    /** Marks the start and exclusion points of a streamed walk; {@code false} when there is nothing to walk. */
+    @FunctionalInterface
+    private interface WalkBounds {
+        boolean mark(Repository repo, RevWalk revWalk) throws IOException;
+    }
+
+    private int streamWalk(
+        Long repositoryId,
+        String subject,
+        int chunkSize,
+        CommitChunkConsumer consumer,
+        WalkBounds bounds
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        if (!properties.enabled()) {
+            return 0;
+        }
+
+        ReentrantReadWriteLock.ReadLock readLock = lockManager.getLock(repositoryId).readLock();
+        readLock.lock();
+        try (
+            Git git = Git.open(getRepositoryPath(repositoryId).toFile());
+            RevWalk revWalk = new RevWalk(git.getRepository())
+        ) {
+            if (!bounds.mark(git.getRepository(), revWalk)) {
+                return 0;
+            }
+            return emitInChunks(git.getRepository(), revWalk, chunkSize, readLock, consumer);
+        } catch (IOException e) {
+            log.error("Failed to walk {}: repoId={}, error={}", subject, repositoryId, e.getMessage(), e);
+            throw new GitOperationException("Failed to walk " + subject + " for repository: " + repositoryId, e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /** Walks and diffs under {@code readLock}, releasing it while {@code consumer} takes each chunk. */
+    private int emitInChunks(
+        Repository repo,
+        RevWalk revWalk,
+        int chunkSize,
+        ReentrantReadWriteLock.ReadLock readLock,
+        CommitChunkConsumer consumer
+    ) throws IOException {
+        int emitted = 0;
+        try (ChunkExtractor extractor = new ChunkExtractor(repo, properties.walkParallelism())) {
+            List<RevCommit> pending = new ArrayList<>(chunkSize);
+            for (RevCommit revCommit : revWalk) {
+                pending.add(revCommit);
+                if (pending.size() < chunkSize) {
+                    continue;
+                }
+                List<CommitInfo> chunk = extractor.extract(pending);
+                emitted += chunk.size();
+                if (!handOff(chunk, readLock, consumer)) {
+                    return emitted;
+                }
+                pending.clear();
+            }
+            if (!pending.isEmpty()) {
+                List<CommitInfo> chunk = extractor.extract(pending);
+                emitted += chunk.size();
+                handOff(chunk, readLock, consumer);
+            }
+        }
+        return emitted;
+    }
+
+    private static boolean handOff(
+        List<CommitInfo> chunk,
+        ReentrantReadWriteLock.ReadLock readLock,
+        CommitChunkConsumer consumer
+    ) {
+        readLock.unlock();
+        try {
+            return consumer.accept(chunk);
+        } finally {
+            readLock.lock();
+        }
+    }
+
+    /**
+     * Diffs the commits of one chunk, in parallel when the chunk and the configured parallelism allow.
+     * ObjectReaders are not thread-safe, so each worker thread lazily opens its own {@link CommitDiffer};
+     * all of them are closed with the extractor.
+     */
+    private static final class ChunkExtractor implements AutoCloseable {
+
+        private final Repository repo;
+        private final int parallelism;
+        private final Queue<CommitDiffer> opened = new ConcurrentLinkedQueue<>();
+        private final ThreadLocal<CommitDiffer> differs;
+        private @Nullable ForkJoinPool pool;
+
+        ChunkExtractor(Repository repo, int parallelism) {
+            this.repo = repo;
+            this.parallelism = parallelism;
+            this.differs = ThreadLocal.withInitial(() -> {
+                CommitDiffer differ = new CommitDiffer(repo);
+                opened.add(differ);
+                return differ;
+            });
+        }
+
+        List<CommitInfo> extract(List<RevCommit> commits) throws IOException {
+            List<CommitInfo> infos = new ArrayList<>(commits.size());
+            if (parallelism == 1 || commits.size() == 1) {
+                for (RevCommit commit : commits) {
+                    infos.add(extractCommitInfo(differs.get(), commit));
+                }
+            } else {
+                if (pool == null) {
+                    pool = new ForkJoinPool(parallelism);
+                }
+                // A parallel stream started from inside a pool's task runs on that pool, not the common one.
+                try {
+                    infos.addAll(
+                        pool
+                            .submit(() ->
+                                commits
+                                    .parallelStream()
+                                    .map(commit -> {
+                                        try {
+                                            return extractCommitInfo(differs.get(), commit);
+                                        } catch (IOException e) {
+                                            throw new UncheckedIOException(e);
+                                        }
+                                    })
+                                    .toList()
+                            )
+                            .get()
+                    );
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while diffing commits");
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof UncheckedIOException unchecked) {
+                        throw unchecked.getCause();
                     }
+                    throw new IOException("Failed to diff commits", e.getCause());
                 }
-            } catch (IOException e) {
-                log.error("Failed to walk all branches: repoId={}, error={}", repositoryId, e.getMessage(), e);
-                throw new GitOperationException("Failed to walk all branches for repository: " + repositoryId, e);
             }
+            // The walk keeps every commit it has seen; dropping the raw bodies keeps a long history flat.
+            commits.forEach(RevCommit::disposeBody);
+            return infos;
+        }
 
-            return new ArrayList<>(uniqueCommits.values());
-        });
+        @Override
+        public void close() {
+            if (pool != null) {
+                pool.close();
+            }
+            differs.remove();
+            opened.forEach(CommitDiffer::close);
+        }
+    }
+
+    /** One thread's reader, parent walk and diff formatter over a repository. */
+    private static final class CommitDiffer implements AutoCloseable {
+
+        private final ObjectReader reader;
+        private final RevWalk parentWalk;
+        private final DiffFormatter diffFormatter;
+
+        CommitDiffer(Repository repo) {
+            this.reader = repo.newObjectReader();
+            this.parentWalk = new RevWalk(reader);
+            this.diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE);
+            diffFormatter.setRepository(repo);
+            diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
+            diffFormatter.setDetectRenames(true);
+        }
+
+        @Override
+        public void close() {
+            diffFormatter.close();
+            parentWalk.close();
+            reader.close();
+        }
     }
 
     /**
      * Extract detailed commit information including file changes.
      */
-    private CommitInfo extractCommitInfo(Repository repo, RevCommit revCommit) throws IOException {
+    private static CommitInfo extractCommitInfo(CommitDiffer differ, RevCommit revCommit) throws IOException {
         PersonIdent authorIdent = revCommit.getAuthorIdent();
         PersonIdent committerIdent = revCommit.getCommitterIdent();
 
-        List<FileChange> fileChanges = extractFileChanges(repo, revCommit);
+        List<FileChange> fileChanges = extractFileChanges(differ, revCommit);
 
         int totalAdditions = 0;
         int totalDeletions = 0;
@@ -639,37 +932,27 @@ public class GitRepositoryManager {
      * tree pointers are null. We must use {@link RevWalk#parseCommit} to fully
      * load the parent before accessing its tree.
      */
-    private List<FileChange> extractFileChanges(Repository repo, RevCommit commit) throws IOException {
+    private static List<FileChange> extractFileChanges(CommitDiffer differ, RevCommit commit) throws IOException {
         List<FileChange> changes = new ArrayList<>();
 
-        try (
-            RevWalk parentWalk = new RevWalk(repo);
-            ObjectReader reader = repo.newObjectReader();
-            DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE)
-        ) {
-            diffFormatter.setRepository(repo);
-            diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
-            diffFormatter.setDetectRenames(true);
-
-            CanonicalTreeParser newTreeParser = new CanonicalTreeParser();
-            newTreeParser.reset(reader, commit.getTree());
-
-            List<DiffEntry> diffs;
-            if (commit.getParentCount() > 0) {
-                // Must fully parse the parent to populate its tree pointer
-                RevCommit parent = parentWalk.parseCommit(commit.getParent(0).getId());
-                CanonicalTreeParser oldTreeParser = new CanonicalTreeParser();
-                oldTreeParser.reset(reader, parent.getTree());
-                diffs = diffFormatter.scan(oldTreeParser, newTreeParser);
-            } else {
-                // Initial commit - diff against empty tree
-                diffs = diffFormatter.scan(new EmptyTreeIterator(), newTreeParser);
-            }
+        CanonicalTreeParser newTreeParser = new CanonicalTreeParser();
+        newTreeParser.reset(differ.reader, commit.getTree());
+
+        List<DiffEntry> diffs;
+        if (commit.getParentCount() > 0) {
+            // Must fully parse the parent to populate its tree pointer
+            RevCommit parent = differ.parentWalk.parseCommit(commit.getParent(0).getId());
+            CanonicalTreeParser oldTreeParser = new CanonicalTreeParser();
+            oldTreeParser.reset(differ.reader, parent.getTree());
+            diffs = differ.diffFormatter.scan(oldTreeParser, newTreeParser);
+        } else {
+            // Initial commit - diff against empty tree
+            diffs = differ.diffFormatter.scan(new EmptyTreeIterator(), newTreeParser);
+        }
 
-            for (DiffEntry diff : diffs) {
-                FileChange change = createFileChange(diffFormatter, diff);
-                changes.add(change);
-            }
+        for (DiffEntry diff : diffs) {
+            FileChange change = createFileChange(differ.diffFormatter, diff);
+            changes.add(change);
         }
 
         return changes;
@@ -684,7 +967,7 @@ public class GitRepositoryManager {
      * {@code DiffDriver.valueOf()} NPE that occurs during {@code format()} for
      * repositories with certain {@code .gitattributes} configurations.
      */
-    private FileChange createFileChange(DiffFormatter diffFormatter, DiffEntry diff) throws IOException {
+    private static FileChange createFileChange(DiffFormatter diffFormatter, DiffEntry diff) throws IOException {
         String filename = diff.getChangeType() == DiffEntry.ChangeType.DELETE ? diff.getOldPath() : diff.getNewPath();
 
         String previousFilename = diff.getChangeType() == DiffEntry.ChangeType.RENAME ? diff.getOldPath() : null;
@@ -711,7 +994,7 @@ public class GitRepositoryManager {
         return new FileChange(filename, changeType, additions, deletions, additions + deletions, previousFilename);
     }
 
-    private ChangeType mapChangeType(DiffEntry.ChangeType type) {
+    private static ChangeType mapChangeType(DiffEntry.ChangeType type) {
         return switch (type) {
             case ADD -> ChangeType.ADDED;
             case MODIFY -> ChangeType.MODIFIED;
@@ -767,8 +1050,7 @@ public class GitRepositoryManager {
             String resolvedCommitSha;
             String treeSha;
 
-            try (Git git = Git.open(repoPath.toFile())) {
-                Repository repo = git.getRepository();
+            try (Repository repo = repositoryPool.acquire(repositoryId, repoPath)) {
 
                 ObjectId commitId = repo.resolve(commitSha);
                 if (commitId == null) {
@@ -872,6 +1154,41 @@ public class GitRepositoryManager {
         });
     }
 
+    /**
+     * Resolves {@code commitSha} (full or abbreviated) to its full commit and root-tree SHAs without reading
+     * the tree, so {@link TreeSnapshotCache} can look a tree up before paying for its snapshot.
+     *
+     * @throws GitOperationException if the commit cannot be resolved in the local clone
+     */
+    public CommitTree resolveTree(Long repositoryId, String commitSha) {
+        if (!properties.enabled()) {
+            throw new IllegalStateException("Repository checkout is disabled; callers must check isEnabled()");
+        }
+
+        return lockManager.withReadLock(repositoryId, () -> {
+            Path repoPath = getRepositoryPath(repositoryId);
+            try (
+                Repository repo = repositoryPool.acquire(repositoryId, repoPath);
+                RevWalk revWalk = new RevWalk(repo)
+            ) {
+                ObjectId commitId = repo.resolve(commitSha);
+                if (commitId == null) {
+                    throw new IOException("Cannot resolve commit SHA: " + commitSha);
+                }
+                RevCommit commit = revWalk.parseCommit(commitId);
+                return new CommitTree(commit.getId().getName(), commit.getTree().getId().getName());
+            } catch (IOException e) {
+                throw new GitOperationException(
+                    "Failed to resolve tree of commit: repoId=" + repositoryId + ", commit=" + commitSha,
+                    e
+                );
+            }
+        });
+    }
+
+    /** A commit and the root tree it points at, both as full SHA hex strings. */
+    public record CommitTree(String commitSha, String treeSha) {}
+
     static void deleteTreeQuietly(Path root) {
         try (Stream<Path> paths = Files.walk(root)) {
             paths
@@ -902,7 +1219,8 @@ public class GitRepositoryManager {
 
     /**
      * A commit tree materialised on disk. {@code files} maps repository-relative paths to host files
-     * under {@code stagingDir}; closing deletes the whole directory.
+     * under {@code stagingDir}; closing deletes the whole directory, unless the snapshot was handed out by
+     * {@link TreeSnapshotCache}, in which case {@code release} returns it to the cache instead.
      */
     public record GitTreeSnapshot(
         Path stagingDir,
@@ -912,7 +1230,8 @@ public class GitRepositoryManager {
         long totalBytes,
         int visitedFiles,
         boolean complete,
-        Set<String> limitations
+        Set<String> limitations,
+        @Nullable Runnable release
     ) implements AutoCloseable {
         public GitTreeSnapshot {
             Objects.requireNonNull(treeSha, "treeSha");
@@ -920,9 +1239,26 @@ public class GitRepositoryManager {
             limitations = Set.copyOf(limitations);
         }
 
+        public GitTreeSnapshot(
+            Path stagingDir,
+            String commitSha,
+            String treeSha,
+            Map<String, Path> files,
+            long totalBytes,
+            int visitedFiles,
+            boolean complete,
+            Set<String> limitations
+        ) {
+            this(stagingDir, commitSha, treeSha, files, totalBytes, visitedFiles, complete, limitations, null);
+        }
+
         @Override
         public void close() {
-            deleteTreeQuietly(stagingDir);
+            if (release != null) {
+                release.run();
+            } else {
+                deleteTreeQuietly(stagingDir);
+            }
         }
     }
 
@@ -934,8 +1270,7 @@ public class GitRepositoryManager {
         return lockManager.withReadLock(repositoryId, () -> {
             Path repoPath = getRepositoryPath(repositoryId);
 
-            try (Git git = Git.open(repoPath.toFile())) {
-                Repository repo = git.getRepository();
+            try (Repository repo = repositoryPool.acquire(repositoryId, repoPath)) {
 
                 ObjectId baseId = resolveRef(repo, baseRef);
                 ObjectId headId = resolveRef(repo, headRef);
@@ -1001,8 +1336,8 @@ public class GitRepositoryManager {
         }
         return lockManager.withReadLock(repositoryId, () -> {
             Path repoPath = getRepositoryPath(repositoryId);
-            try (Git git = Git.open(repoPath.toFile())) {
-                ObjectId id = resolveRef(git.getRepository(), ref);
+            try (Repository repo = repositoryPool.acquire(repositoryId, repoPath)) {
+                ObjectId id = resolveRef(repo, ref);
                 return id != null ? id.getName() : null;
             } catch (IOException e) {
                 throw new GitOperationException("Failed to resolve ref: " + ref + ", repoId=" + repositoryId, e);
@@ -1010,6 +1345,32 @@ public class GitRepositoryManager {
         });
     }
 
+    /**
+     * Run several reads against one pooled handle of the local clone, under the repository's read lock.
+     * Callers that format diffs or walk history with their own JGit code use this instead of opening the
+     * clone by path, so they share the loaded pack indexes and never read while a fetch rewrites the clone.
+     *
+     * @param repositoryId the repository database ID
+     * @param reader       the reads; must not keep the handle beyond its return
+     * @throws GitOperationException if the clone cannot be opened or {@code reader} fails with an I/O error
+     */
+    public <T> T withRepository(Long repositoryId, RepositoryReader<T> reader) {
+        return lockManager.withReadLock(repositoryId, () -> {
+            Path repoPath = getRepositoryPath(repositoryId);
+            try (Repository repo = repositoryPool.acquire(repositoryId, repoPath)) {
+                return reader.read(repo);
+            } catch (IOException e) {
+                throw new GitOperationException("Failed to read repository: " + repositoryId, e);
+            }
+        });
+    }
+
+    /** A read against an open repository handle; see {@link #withRepository}. */
+    @FunctionalInterface
+    public interface RepositoryReader<T> {
+        T read(Repository repo) throws IOException;
+    }
+
     /**
      * Resolve a ref string to an ObjectId, trying remote tracking, local, and raw SHA.
      */
@@ -1053,14 +1414,46 @@ public class GitRepositoryManager {
                     try {
                         Files.delete(p);
                     } catch (IOException e) {
-                        throw new java.io.UncheckedIOException(e);
+                        throw new UncheckedIOException(e);
                     }
                 });
-        } catch (java.io.UncheckedIOException e) {
+        } catch (UncheckedIOException e) {
             throw e.getCause();
         }
     }
 
+    /**
+     * Outcome of one {@link #maintainRepository} run.
+     *
+     * @param durationMs time spent in gc, excluding the statistics read before it
+     */
+    public record MaintenanceReport(Long repositoryId, PackStatistics before, PackStatistics after, long durationMs) {}
+
+    /**
+     * Object storage of one clone as JGit's gc reports it.
+     *
+     * @param packFiles    number of pack files
+     * @param packBytes    total size of the pack files
+     * @param looseObjects number of loose objects
+     * @param looseBytes   total size of the loose objects
+     * @param bitmaps      number of reachability bitmaps across all packs
+     */
+    public record PackStatistics(long packFiles, long packBytes, long looseObjects, long looseBytes, long bitmaps) {
+        static PackStatistics of(Properties statistics) {
+            return new PackStatistics(
+                value(statistics, "numberOfPackFiles"),
+                value(statistics, "sizeOfPackedObjects"),
+                value(statistics, "numberOfLooseObjects"),
+                value(statistics, "sizeOfLooseObjects"),
+                value(statistics, "numberOfBitmaps")
+            );
+        }
+
+        private static long value(Properties statistics, String key) {
+            return statistics.get(key) instanceof Number number ? number.longValue() : 0L;
+        }
+    }
+
     /**
      * Commit information extracted from git.
      */
@@ -0,0 +1,208 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.util.FS;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps JGit {@link Repository} handles of local clones open between reads.
+ * <p>
+ * {@code Git.open} per call re-reads the config, re-scans the pack directory and, on the first object
+ * lookup, re-parses every pack index; for a large clone that dominates short reads such as resolving a
+ * ref or formatting one diff. A pooled handle keeps its {@code ObjectDirectory} — pack list, loaded
+ * indexes and the window cache entries behind them — warm across calls.
+ * <p>
+ * Usage contract, enforced by {@link GitRepositoryManager}:
+ * <ul>
+ *   <li>{@link #acquire} is called while holding the repository's read lock from
+ *       {@link GitRepositoryLockManager}, and the returned handle is closed before the lock is released.</li>
+ *   <li>{@link #invalidate} is called while holding the write lock, before the clone is fetched into,
+ *       recloned or deleted. No borrower can hold a handle at that point, and the next read after the
+ *       write reopens the repository and sees the new packs and refs.</li>
+ * </ul>
+ * Handles are reference counted ({@link Repository#incrementOpen()}): the pool holds one reference and each
+ * borrower another, so evicting an entry while it is borrowed only closes it once the borrower is done.
+ * <p>
+ * Bounded to {@code hephaestus.git.open-repositories} entries, least recently used first out; {@code 0}
+ * disables pooling and every {@link #acquire} opens a fresh handle.
+ */
+@Slf4j
+@Service
+public class GitRepositoryPool {
+
+    private final int capacity;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter invalidations;
+
+    /** Access-ordered, so iteration starts at the least recently used entry. Guarded by {@code this}. */
+    private final LinkedHashMap<Long, PooledRepository> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public GitRepositoryPool(GitRepositoryProperties properties, MeterRegistry meterRegistry) {
+        this.capacity = properties.openRepositories();
+        this.meterRegistry = meterRegistry;
+        this.hits = acquireCounter(meterRegistry, "hit");
+        this.misses = acquireCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("git.repository.pool.evictions")
+            .description("Open repository handles closed to stay within hephaestus.git.open-repositories")
+            .register(meterRegistry);
+        this.invalidations = Counter.builder("git.repository.pool.invalidations")
+            .description("Open repository handles closed before a fetch, reclone or delete")
+            .register(meterRegistry);
+        Gauge.builder("git.repository.pool.size", this, GitRepositoryPool::size)
+            .description("Repository handles currently held open")
+            .register(meterRegistry);
+    }
+
+    private static Counter acquireCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("git.repository.pool.acquire")
+            .description("Repository handle acquisitions, by whether an open handle was reused")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Borrows an open handle for the clone at {@code repoPath}; the caller must close it.
+     *
+     * @throws org.eclipse.jgit.errors.RepositoryNotFoundException if there is no clone at {@code repoPath}
+     */
+    public Repository acquire(Long repositoryId, Path repoPath) throws IOException {
+        if (capacity == 0) {
+            misses.increment();
+            return open(repoPath);
+        }
+
+        synchronized (this) {
+            PooledRepository pooled = entries.get(repositoryId);
+            if (pooled != null) {
+                // Under the monitor, so an eviction cannot drop the pool's reference in between.
+                pooled.repository.incrementOpen();
+                pooled.reuses.incrementAndGet();
+                hits.increment();
+                return pooled.repository;
+            }
+        }
+
+        // Opened outside the monitor; reading config and the pack directory should not stall other repos.
+        Repository opened = open(repoPath);
+        misses.increment();
+        List<PooledRepository> evicted = new ArrayList<>();
+        Repository borrowed;
+        synchronized (this) {
+            PooledRepository existing = entries.get(repositoryId);
+            if (existing != null) {
+                // Another reader of the same repository won the race; use its handle.
+                existing.repository.incrementOpen();
+                borrowed = existing.repository;
+            } else {
+                opened.incrementOpen();
+                entries.put(repositoryId, new PooledRepository(repositoryId, opened));
+                borrowed = opened;
+                opened = null;
+                evictOverCapacity(evicted);
+            }
+        }
+        if (opened != null) {
+            opened.close();
+        }
+        for (PooledRepository entry : evicted) {
+            evictions.increment();
+            release(entry);
+        }
+        return borrowed;
+    }
+
+    /**
+     * Drops the pooled handle of {@code repositoryId}, if any. Must be called under the repository's write
+     * lock, before the clone on disk is changed.
+     */
+    public void invalidate(Long repositoryId) {
+        PooledRepository removed;
+        synchronized (this) {
+            removed = entries.remove(repositoryId);
+            if (removed != null) {
+                meterRegistry.remove(removed.reuseCounter);
+            }
+        }
+        if (removed != null) {
+            invalidations.increment();
+            release(removed);
+            log.debug("Invalidated pooled repository handle: repoId={}", repositoryId);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        List<PooledRepository> all;
+        synchronized (this) {
+            all = new ArrayList<>(entries.values());
+            all.forEach(entry -> meterRegistry.remove(entry.reuseCounter));
+            entries.clear();
+        }
+        all.forEach(GitRepositoryPool::release);
+    }
+
+    private void evictOverCapacity(List<PooledRepository> evicted) {
+        Iterator<Map.Entry<Long, PooledRepository>> eldest = entries.entrySet().iterator();
+        while (entries.size() > capacity && eldest.hasNext()) {
+            PooledRepository entry = eldest.next().getValue();
+            eldest.remove();
+            // Removed under the monitor, so a re-pooled handle of the same repository registers a fresh one.
+            meterRegistry.remove(entry.reuseCounter);
+            evicted.add(entry);
+        }
+    }
+
+    private static void release(PooledRepository entry) {
+        // Drops the pool's reference; the handle closes now, or when its last borrower closes it.
+        entry.repository.close();
+    }
+
+    private static Repository open(Path repoPath) throws IOException {
+        // Same resolution as Git.open: accepts the work tree or the .git directory itself.
+        RepositoryCache.FileKey key = RepositoryCache.FileKey.lenient(repoPath.toFile(), FS.DETECTED);
+        return new FileRepositoryBuilder().setFS(FS.DETECTED).setGitDir(key.getFile()).setMustExist(true).build();
+    }
+
+    /**
+     * One pooled handle. Its reuse counter is tagged with the repository id and removed on eviction, so the
+     * number of per-repository series never exceeds the pool capacity.
+     */
+    private final class PooledRepository {
+
+        private final Repository repository;
+        private final AtomicLong reuses = new AtomicLong();
+        private final Meter reuseCounter;
+
+        private PooledRepository(Long repositoryId, Repository repository) {
+            this.repository = repository;
+            this.reuseCounter = FunctionCounter.builder("git.repository.pool.reuses", reuses, AtomicLong::get)
+                .description("Reads served from this repository's already loaded pack indexes")
+                .tag("repository_id", repositoryId.toString())
+                .register(meterRegistry);
+        }
+    }
+}
@@ -22,6 +22,12 @@ import org.springframework.validation.annotation.Validated;
  * @param treeMaxFiles     files a single tree snapshot may stage before the walk stops
  * @param treeMaxTotalSize bytes a single tree snapshot may stage before the walk stops
  * @param treeMaxFileSize  size at which one file is skipped and the rest of the tree is still read
+ * @param openRepositories clones whose JGit handles {@link GitRepositoryPool} keeps open between reads;
+ *                         {@code 0} opens and closes a handle per read
+ * @param treeCacheSize    bytes of tree snapshots {@link TreeSnapshotCache} keeps on disk for reuse across
+ *                         jobs reviewing the same tree; {@code 0} stages a fresh snapshot per job
+ * @param walkParallelism  threads a streamed commit walk diffs one chunk of commits on; {@code 1} diffs them
+ *                         on the walking thread
  */
 @Validated
 @ConfigurationProperties(prefix = "hephaestus.git")
@@ -29,7 +35,10 @@ public record GitRepositoryProperties(
     @DefaultValue("false") boolean enabled,
     @DefaultValue("20000") @Min(1) int treeMaxFiles,
     @DefaultValue("32MB") @NotNull DataSize treeMaxTotalSize,
-    @DefaultValue("10MB") @NotNull DataSize treeMaxFileSize
+    @DefaultValue("10MB") @NotNull DataSize treeMaxFileSize,
+    @DefaultValue("32") @Min(0) int openRepositories,
+    @DefaultValue("512MB") @NotNull DataSize treeCacheSize,
+    @DefaultValue("4") @Min(1) int walkParallelism
 ) {
     /**
      * Bean Validation has no comparison constraint between two properties, so the ordering the bounds
@@ -56,5 +65,18 @@ public record GitRepositoryProperties(
                     treeMaxTotalSize
             );
         }
+        // A cache smaller than one tree could never hold what it is asked to share.
+        if (
+            treeCacheSize == null ||
+            (treeCacheSize.toBytes() != 0 && treeCacheSize.toBytes() < treeMaxTotalSize.toBytes())
+        ) {
+            throw new IllegalArgumentException(
+                "hephaestus.git.tree-cache-size (GIT_TREE_CACHE_SIZE) must be 0 or >= " +
+                    "hephaestus.git.tree-max-total-size (GIT_TREE_MAX_TOTAL_SIZE), got: " +
+                    treeCacheSize +
+                    " < " +
+                    treeMaxTotalSize
+            );
+        }
     }
 }
@@ -0,0 +1,399 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import de.tum.cit.aet.hephaestus.integration.core.fabric.ContentAddressedStore;
+import de.tum.cit.aet.hephaestus.integration.core.fabric.FabricLayout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Shares materialised commit trees between jobs that review the same tree.
+ * <p>
+ * A review sweep or a run of re-reviews asks for the same commit, or for commits with the same root tree,
+ * many times within minutes; {@link GitRepositoryManager#readTreeSnapshot} inflates and writes every blob of
+ * that tree again for each of them. This cache keys snapshots by tree SHA, so the first job pays for the walk
+ * and the rest get the same directory. Each file of a cached tree is a hard link to its blob in the fabric
+ * {@link ContentAddressedStore}, so a file that is identical across commits — most of them, between two
+ * revisions of a pull request — occupies disk once however many cached trees contain it. Where the store sits
+ * on another filesystem the file is copied instead.
+ * <p>
+ * Snapshots handed out by {@link #acquire} are read-only views: their files are the store's blobs, and
+ * consumers copy them into the sandbox rather than write to them. Closing a snapshot releases it; an entry is
+ * only evicted, least recently used first, once no job holds it, so the {@code hephaestus.git.tree-cache-size}
+ * bound can be exceeded while every cached tree is in use. Concurrent misses on one tree wait for a single walk.
+ * <p>
+ * Entries live in memory and in a directory of this process's own under {@link FabricLayout#treesRoot()}: the
+ * fabric root is a volume the server and the workers share, so each process keeps its entries apart and holds
+ * an OS file lock on a {@code <instance>.lock} beside its directory while it runs. On startup a process deletes
+ * only the directories whose lock nobody holds any more — those of processes that are gone — and never
+ * touches another live process's snapshots. Directories without a lock file (the flat layout of earlier
+ * versions) are left alone for {@value #UNOWNED_GRACE_HOURS} hours, longer than any job holds a tree.
+ * <p>
+ * Metrics: {@code git.tree.cache.lookups{outcome=hit|miss}}, {@code git.tree.cache.bytes} and
+ * {@code git.tree.cache.evictions}.
+ */
+@Slf4j
+@Service
+public class TreeSnapshotCache {
+
+    static final int UNOWNED_GRACE_HOURS = 24;
+    private static final String LOCK_SUFFIX = ".lock";
+
+    private final GitRepositoryManager gitRepositoryManager;
+    private final ContentAddressedStore cas;
+    private final Path root;
+    /** Held for the process's lifetime; its lock tells other processes {@link #root} is in use. */
+    private final @Nullable FileChannel ownerLock;
+    private final long maxBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /** Access-ordered, so iteration starts at the least recently used entry. Guarded by {@code this}. */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** Walks in progress, by tree SHA; a concurrent miss waits on the walk rather than starting its own. */
+    private final Map<String, CompletableFuture<Entry>> loading = new HashMap<>();
+    private long cachedBytes;
+
+    public TreeSnapshotCache(
+        GitRepositoryManager gitRepositoryManager,
+        GitRepositoryProperties properties,
+        ContentAddressedStore cas,
+        FabricLayout fabricLayout,
+        MeterRegistry meterRegistry
+    ) {
+        this.gitRepositoryManager = gitRepositoryManager;
+        this.cas = cas;
+        this.root = fabricLayout.treesRoot().resolve(UUID.randomUUID().toString());
+        this.maxBytes = properties.treeCacheSize().toBytes();
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("git.tree.cache.evictions")
+            .description("Cached tree snapshots deleted to stay within hephaestus.git.tree-cache-size")
+            .register(meterRegistry);
+        Gauge.builder("git.tree.cache.bytes", this, TreeSnapshotCache::cachedBytes)
+            .description("Bytes of tree snapshots currently cached")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+
+        this.ownerLock = properties.enabled() ? claim(fabricLayout.treesRoot(), root) : null;
+    }
+
+    /**
+     * Locks this process's directory, then sweeps what processes that are gone left behind. The lock is taken
+     * before the directory exists, so a process sweeping concurrently never sees it unlocked.
+     */
+    private static @Nullable FileChannel claim(Path treesRoot, Path root) {
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(treesRoot);
+            channel = FileChannel.open(lockFileOf(root), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.lock();
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            log.warn("Failed to claim tree cache directory: dir={}, error={}", root, e.getMessage());
+            closeQuietly(channel);
+            return null;
+        }
+        sweepAbandoned(treesRoot, root);
+        return channel;
+    }
+
+    private static void sweepAbandoned(Path treesRoot, Path own) {
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(treesRoot, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                if (!dir.equals(own) && isAbandoned(dir)) {
+                    GitRepositoryManager.deleteTreeQuietly(dir);
+                    Files.deleteIfExists(lockFileOf(dir));
+                    log.info("Deleted tree cache directory of a stopped process: dir={}", dir);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to sweep tree cache directories: dir={}, error={}", treesRoot, e.getMessage());
+        }
+    }
+
+    /** Whether no running process owns {@code dir}: its lock is free, or it has none and is past the grace period. */
+    private static boolean isAbandoned(Path dir) throws IOException {
+        Path lockFile = lockFileOf(dir);
+        if (!Files.exists(lockFile)) {
+            Instant modified = Files.getLastModifiedTime(dir).toInstant();
+            return modified.isBefore(Instant.now().minus(Duration.ofHours(UNOWNED_GRACE_HOURS)));
+        }
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+            // The lock is let go again before the delete; nothing reclaims a dead process's random instance id.
+            FileLock lock = channel.tryLock();
+            return lock != null;
+        } catch (OverlappingFileLockException e) {
+            // Held by another cache in this JVM.
+            return false;
+        }
+    }
+
+    private static Path lockFileOf(Path dir) {
+        return dir.resolveSibling(dir.getFileName() + LOCK_SUFFIX);
+    }
+
+    private static void closeQuietly(@Nullable FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close tree cache lock: error={}", e.getMessage());
+        }
+    }
+
+    /** On a graceful shutdown no job holds a tree any more; the directory goes with its process. */
+    @PreDestroy
+    void close() {
+        if (ownerLock == null) {
+            return;
+        }
+        GitRepositoryManager.deleteTreeQuietly(root);
+        try {
+            Files.deleteIfExists(lockFileOf(root));
+        } catch (IOException e) {
+            log.debug("Failed to delete tree cache lock: error={}", e.getMessage());
+        }
+        closeQuietly(ownerLock);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("git.tree.cache.lookups")
+            .description("Tree snapshot lookups, by whether a cached tree was reused")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the tree of {@code commitSha} on disk, shared with every other job holding the same tree. The
+     * caller must close the snapshot when done; with the cache disabled this is a fresh
+     * {@link GitRepositoryManager#readTreeSnapshot} that closing deletes.
+     *
+     * @throws GitRepositoryManager.GitOperationException if the commit cannot be read or its tree not cached
+     */
+    public GitRepositoryManager.GitTreeSnapshot acquire(Long repositoryId, String commitSha) {
+        if (maxBytes == 0) {
+            return gitRepositoryManager.readTreeSnapshot(repositoryId, commitSha);
+        }
+        GitRepositoryManager.CommitTree tree = gitRepositoryManager.resolveTree(repositoryId, commitSha);
+        String treeSha = tree.treeSha();
+        while (true) {
+            CompletableFuture<Entry> walk;
+            boolean walking = false;
+            synchronized (this) {
+                Entry cached = entries.get(treeSha);
+                if (cached != null) {
+                    cached.refs++;
+                    hits.increment();
+                    return lease(cached, tree.commitSha());
+                }
+                walk = loading.get(treeSha);
+                if (walk == null) {
+                    walk = new CompletableFuture<>();
+                    loading.put(treeSha, walk);
+                    walking = true;
+                }
+            }
+            if (!walking) {
+                // The entry is in the index once the walk completes, unless it was evicted in between; either
+                // way the next pass sees it or walks again. A failed walk fails its waiters with it.
+                awaitWalk(walk);
+                continue;
+            }
+            misses.increment();
+            return load(repositoryId, tree, walk);
+        }
+    }
+
+    private GitRepositoryManager.GitTreeSnapshot load(
+        Long repositoryId,
+        GitRepositoryManager.CommitTree tree,
+        CompletableFuture<Entry> walk
+    ) {
+        Entry entry;
+        try {
+            entry = materialise(repositoryId, tree);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading.remove(tree.treeSha());
+            }
+            walk.completeExceptionally(e);
+            throw e;
+        }
+        List<Entry> victims;
+        synchronized (this) {
+            loading.remove(tree.treeSha());
+            entry.refs = 1;
+            entries.put(tree.treeSha(), entry);
+            cachedBytes += entry.snapshot.totalBytes();
+            victims = evictIdle();
+        }
+        walk.complete(entry);
+        delete(victims);
+        return lease(entry, tree.commitSha());
+    }
+
+    /** Stages the tree, moves each file into the store and links it back into the entry's own directory. */
+    private Entry materialise(Long repositoryId, GitRepositoryManager.CommitTree tree) {
+        try (
+            GitRepositoryManager.GitTreeSnapshot staged = gitRepositoryManager.readTreeSnapshot(
+                repositoryId,
+                tree.commitSha()
+            )
+        ) {
+            Files.createDirectories(root);
+            Path dir = Files.createTempDirectory(root, tree.treeSha() + "-");
+            Map<String, Path> files = new LinkedHashMap<>();
+            try {
+                for (Map.Entry<String, Path> file : staged.files().entrySet()) {
+                    Path target = dir.resolve(file.getKey());
+                    Files.createDirectories(target.getParent());
+                    link(file.getValue(), target);
+                    files.put(file.getKey(), target);
+                }
+            } catch (IOException | UncheckedIOException e) {
+                GitRepositoryManager.deleteTreeQuietly(dir);
+                throw e;
+            }
+            return new Entry(
+                new GitRepositoryManager.GitTreeSnapshot(
+                    dir,
+                    staged.commitSha(),
+                    staged.treeSha(),
+                    files,
+                    staged.totalBytes(),
+                    staged.visitedFiles(),
+                    staged.complete(),
+                    staged.limitations()
+                )
+            );
+        } catch (IOException | UncheckedIOException e) {
+            throw new GitRepositoryManager.GitOperationException(
+                "Failed to cache tree: repoId=" + repositoryId + ", tree=" + tree.treeSha(),
+                e
+            );
+        }
+    }
+
+    private void link(Path staged, Path target) throws IOException {
+        Path blob = cas.pathFor(cas.put(staged));
+        try {
+            Files.createLink(target, blob);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Another filesystem, no hard-link support, or the blob was swept since the put.
+            Files.copy(staged, target);
+        }
+    }
+
+    private GitRepositoryManager.GitTreeSnapshot lease(Entry entry, String commitSha) {
+        GitRepositoryManager.GitTreeSnapshot shared = entry.snapshot;
+        AtomicBoolean released = new AtomicBoolean();
+        return new GitRepositoryManager.GitTreeSnapshot(
+            shared.stagingDir(),
+            commitSha,
+            shared.treeSha(),
+            shared.files(),
+            shared.totalBytes(),
+            shared.visitedFiles(),
+            shared.complete(),
+            shared.limitations(),
+            () -> {
+                if (released.compareAndSet(false, true)) {
+                    release(entry);
+                }
+            }
+        );
+    }
+
+    private void release(Entry entry) {
+        List<Entry> victims;
+        synchronized (this) {
+            entry.refs--;
+            victims = evictIdle();
+        }
+        delete(victims);
+    }
+
+    /** Unlinks idle entries, least recently used first, until the cache fits its bound. Holds {@code this}. */
+    private List<Entry> evictIdle() {
+        List<Entry> victims = new ArrayList<>();
+        Iterator<Entry> it = entries.values().iterator();
+        while (cachedBytes > maxBytes && it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.refs == 0) {
+                it.remove();
+                cachedBytes -= entry.snapshot.totalBytes();
+                victims.add(entry);
+            }
+        }
+        return victims;
+    }
+
+    /** Deletes outside the monitor: unlinking a large tree must not stall every other lookup. */
+    private void delete(List<Entry> victims) {
+        for (Entry victim : victims) {
+            GitRepositoryManager.deleteTreeQuietly(victim.snapshot.stagingDir());
+            evictions.increment();
+            log.debug("Evicted cached tree: tree={}", victim.snapshot.treeSha());
+        }
+    }
+
+    private static void awaitWalk(CompletableFuture<Entry> walk) {
+        try {
+            walk.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    synchronized Set<String> cachedTrees() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    /** A cached tree and the jobs holding it. {@code refs} is guarded by the cache's monitor. */
+    private static final class Entry {
+
+        private final GitRepositoryManager.GitTreeSnapshot snapshot;
+        private int refs;
+
+        private Entry(GitRepositoryManager.GitTreeSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
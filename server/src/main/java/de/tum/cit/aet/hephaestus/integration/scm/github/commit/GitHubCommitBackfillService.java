@@ -19,7 +19,6 @@ import de.tum.cit.aet.hephaestus.integration.scm.domain.repository.Repository;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.GitRepositoryManager;
 import de.tum.cit.aet.hephaestus.integration.scm.github.app.GitHubAppTokenService;
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -65,6 +64,9 @@ public class GitHubCommitBackfillService {
      */
     private static final int MAX_COMMITS_PER_CYCLE = 5000;
 
+    /** Commits diffed and persisted per chunk of the streamed walk. */
+    private static final int WALK_CHUNK_SIZE = 500;
+
     private final GitRepositoryManager gitRepositoryManager;
     private final GitHubAppTokenService tokenService;
     private final CommitRepository commitRepository;
@@ -130,14 +132,23 @@ public class GitHubCommitBackfillService {
                 return 0;
             }
 
-            // Phase 4: Walk commits
-            List<GitRepositoryManager.CommitInfo> commitInfos = gitRepositoryManager.walkCommits(
-                repoId,
-                fromSha,
-                headSha
-            );
+            // Phase 4+5: Walk commits chunk by chunk and persist each chunk before the next is diffed,
+            // so a long history never sits in memory at once (with batch limit)
+            BackfillProgress progress = new BackfillProgress();
+            gitRepositoryManager.streamCommits(repoId, fromSha, headSha, WALK_CHUNK_SIZE, chunk -> {
+                for (GitRepositoryManager.CommitInfo info : chunk) {
+                    if (processCommitInfo(info, repository, scopeId)) {
+                        progress.processed++;
+                    }
+                    if (++progress.walked >= MAX_COMMITS_PER_CYCLE) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            int processed = progress.processed;
 
-            if (commitInfos.isEmpty()) {
+            if (progress.walked == 0) {
                 log.debug(
                     "No new commits to backfill: repoId={}, repoName={}, fromSha={}, headSha={}",
                     repoId,
@@ -148,28 +159,13 @@ public class GitHubCommitBackfillService {
                 return 0;
             }
 
-            // Phase 5: Process commits (with batch limit)
-            int total = commitInfos.size();
-            boolean truncated = total > MAX_COMMITS_PER_CYCLE;
-            List<GitRepositoryManager.CommitInfo> batch = truncated
-                ? commitInfos.subList(0, MAX_COMMITS_PER_CYCLE)
-                : commitInfos;
-
-            int processed = 0;
-            for (GitRepositoryManager.CommitInfo info : batch) {
-                if (processCommitInfo(info, repository, scopeId)) {
-                    processed++;
-                }
-            }
-
-            if (truncated) {
+            if (progress.walked >= MAX_COMMITS_PER_CYCLE) {
                 log.info(
-                    "Commit backfill batch limit reached: repoId={}, repoName={}, processed={}, total={}, remaining={}",
+                    "Commit backfill batch limit reached: repoId={}, repoName={}, processed={}, walked={}",
                     repoId,
                     repoName,
                     processed,
-                    total,
-                    total - MAX_COMMITS_PER_CYCLE
+                    progress.walked
                 );
             } else {
                 log.info(
@@ -177,7 +173,7 @@ public class GitHubCommitBackfillService {
                     repoId,
                     repoName,
                     processed,
-                    total,
+                    progress.walked,
                     fromSha != null ? "incremental" : "full"
                 );
             }
@@ -335,4 +331,11 @@ public class GitHubCommitBackfillService {
     private static String abbreviateSha(String sha) {
         return sha.length() > 7 ? sha.substring(0, 7) : sha;
     }
+
+    /** Counters the walk's chunk consumer advances. */
+    private static final class BackfillProgress {
+
+        private int walked;
+        private int processed;
+    }
 }
@@ -16,6 +16,7 @@ public class GitHubGraphQlSyncCoordinator {
 
     private final GitHubGraphQlClientProvider graphQlClientProvider;
     private final GitHubExceptionClassifier exceptionClassifier;
+    private final GitHubRateLimitBackoff rateLimitBackoff;
 
     /**
      * Context for handling a GraphQL classification result.
@@ -38,8 +39,21 @@ public class GitHubGraphQlSyncCoordinator {
         Logger log
     ) {}
 
+    /**
+     * Classifies the errors of a GraphQL response. A {@link Category#RATE_LIMITED} result is also recorded
+     * with {@link GitHubRateLimitBackoff} so a parallel repository sync of the same scope slows down.
+     */
     @Nullable
     public ClassificationResult classifyGraphQlErrors(@Nullable ClientGraphQlResponse response) {
+        ClassificationResult classification = classifyGraphQlResponse(response);
+        if (classification != null && classification.category() == Category.RATE_LIMITED) {
+            rateLimitBackoff.recordRateLimited(classification.suggestedWait());
+        }
+        return classification;
+    }
+
+    @Nullable
+    private ClassificationResult classifyGraphQlResponse(@Nullable ClientGraphQlResponse response) {
         ClassificationResult classification = exceptionClassifier.classifyGraphQlResponse(response);
         if (classification != null) {
             return classification;
@@ -0,0 +1,104 @@
+package de.tum.cit.aet.hephaestus.integration.scm.github.common;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-scope record of rate-limited GitHub responses, the back-off signal for parallel repository sync.
+ *
+ * <p>{@link RateLimitTracker} only sees the primary point budget reported in successful responses.
+ * Secondary (abuse) limits and a budget exhausted by another process show up as a response that
+ * {@link GitHubGraphQlSyncCoordinator} or {@link GitHubExceptionClassifier} classifies as
+ * {@link GitHubExceptionClassifier.Category#RATE_LIMITED}; the sync services that see those responses do not
+ * carry a scope id down to the classification, so the scope is bound to the calling thread instead
+ * ({@link #callInScope}). Classifications on an unbound thread (webhooks, backfill) are not recorded.
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe; every repository sync of a scope may record concurrently.
+ */
+@Component
+@Slf4j
+@WorkspaceAgnostic("System-wide rate limit back-off - keyed per scope across all workspaces")
+public class GitHubRateLimitBackoff {
+
+    /** Used when the response carried no retry hint (e.g. a secondary limit without {@code Retry-After}). */
+    static final Duration DEFAULT_BACKOFF = Duration.ofSeconds(60);
+
+    private static final ThreadLocal<Long> BOUND_SCOPE = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<Long, ScopeBackoff> backoffByScope = new ConcurrentHashMap<>();
+
+    /** Runs {@code operation} with {@code scopeId} bound to the current thread for {@link #recordRateLimited}. */
+    public <T> T callInScope(Long scopeId, Supplier<T> operation) {
+        Long previous = BOUND_SCOPE.get();
+        BOUND_SCOPE.set(scopeId);
+        try {
+            return operation.get();
+        } finally {
+            if (previous == null) {
+                BOUND_SCOPE.remove();
+            } else {
+                BOUND_SCOPE.set(previous);
+            }
+        }
+    }
+
+    /** Records a rate-limited response for the scope bound to the current thread, if any. */
+    public void recordRateLimited(@Nullable Duration suggestedWait) {
+        Long scopeId = BOUND_SCOPE.get();
+        if (scopeId != null) {
+            recordRateLimited(scopeId, suggestedWait);
+        }
+    }
+
+    /**
+     * Records a rate-limited response for {@code scopeId}: bumps its {@link #rateLimitedCount} and extends
+     * {@link #backoffUntil} to at least now + {@code suggestedWait}.
+     */
+    public void recordRateLimited(Long scopeId, @Nullable Duration suggestedWait) {
+        Duration wait = suggestedWait == null || suggestedWait.isZero() || suggestedWait.isNegative()
+            ? DEFAULT_BACKOFF
+            : suggestedWait;
+        Instant until = Instant.now().plus(wait);
+        ScopeBackoff backoff = backoffByScope.computeIfAbsent(scopeId, id -> new ScopeBackoff());
+        backoff.count.incrementAndGet();
+        backoff.extendTo(until);
+        log.debug("Recorded rate-limited response: scopeId={}, backoffSeconds={}", scopeId, wait.toSeconds());
+    }
+
+    /** Monotonic number of rate-limited responses recorded for the scope; compare two reads to detect new ones. */
+    public long rateLimitedCount(Long scopeId) {
+        ScopeBackoff backoff = backoffByScope.get(scopeId);
+        return backoff == null ? 0 : backoff.count.get();
+    }
+
+    /** @return when new requests for the scope may resume, or null if no back-off is in effect */
+    @Nullable
+    public Instant backoffUntil(Long scopeId) {
+        ScopeBackoff backoff = backoffByScope.get(scopeId);
+        if (backoff == null) {
+            return null;
+        }
+        Instant until = backoff.until;
+        return until != null && until.isAfter(Instant.now()) ? until : null;
+    }
+
+    private static final class ScopeBackoff {
+
+        private final AtomicLong count = new AtomicLong();
+        private volatile @Nullable Instant until;
+
+        private synchronized void extendTo(Instant candidate) {
+            if (until == null || candidate.isAfter(until)) {
+                until = candidate;
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.SECONDS;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -29,6 +31,11 @@ import org.springframework.validation.annotation.Validated;
  *         pagination-throttle: 200ms
  *         incremental-sync-enabled: true
  *         incremental-sync-buffer: 5m
+ *         repository-sync-parallelism: 8
+ *         continuous-sync-enabled: true
+ *         continuous-sync-interval: PT5M
+ *         continuous-sync-batch-size: 5
+ *         continuous-sync-rate-limit-threshold: 1000
  * }</pre>
  *
  * <h2>Duration Format</h2>
@@ -61,6 +68,18 @@ import org.springframework.validation.annotation.Validated;
  * @param backfillPrPageSize     page size for PR backfill queries; smaller than regular PR sync
  *                               because backfill includes embedded reviews/threads/comments which
  *                               creates very large responses for complex repos (default: 10)
+ * @param repositorySyncParallelism upper bound on repositories of one scope synced concurrently; the
+ *                               effective value is lowered further from the scope's remaining GraphQL
+ *                               budget and after rate-limited responses (default: 8)
+ * @param continuousSyncEnabled  whether issues and pull requests changed since their watermarks are pulled
+ *                               between nightly runs, so a missed webhook is healed within minutes
+ *                               (default: false)
+ * @param continuousSyncInterval delay between two continuous-sync ticks (default: 5 minutes)
+ * @param continuousSyncBatchSize repositories per scope one continuous-sync tick visits, most stale first
+ *                               (default: 5)
+ * @param continuousSyncRateLimitThreshold remaining GraphQL points below which continuous sync leaves the
+ *                               scope alone, keeping the budget for webhooks and the nightly run
+ *                               (default: 1000)
  * @see <a href="https://docs.github.com/en/graphql/overview/rate-limits-and-node-limits-for-the-graphql-api">
  *      GitHub GraphQL Rate Limits</a>
  */
@@ -73,5 +92,10 @@ public record GitHubSyncProperties(
     @NotNull @DurationUnit(MILLIS) @DefaultValue("200ms") Duration paginationThrottle,
     @DefaultValue("true") boolean incrementalSyncEnabled,
     @NotNull @DurationUnit(MINUTES) @DefaultValue("5m") Duration incrementalSyncBuffer,
-    @DefaultValue("10") int backfillPrPageSize
+    @DefaultValue("10") int backfillPrPageSize,
+    @Min(1) @Max(64) @DefaultValue("8") int repositorySyncParallelism,
+    @DefaultValue("false") boolean continuousSyncEnabled,
+    @NotNull @DurationUnit(MINUTES) @DefaultValue("5m") Duration continuousSyncInterval,
+    @Min(1) @Max(100) @DefaultValue("5") int continuousSyncBatchSize,
+    @Min(0) @DefaultValue("1000") int continuousSyncRateLimitThreshold
 ) {}
@@ -11,6 +11,7 @@ import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubEventType;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.ProcessingContextFactory;
 import de.tum.cit.aet.hephaestus.integration.scm.github.issue.dto.GitHubIssueDTO;
 import de.tum.cit.aet.hephaestus.integration.scm.github.issue.dto.GitHubIssueEventDTO;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -44,6 +45,30 @@ public class GitHubIssueMessageHandler extends AbstractIntegrationMessageHandler
         this.issueProcessor = issueProcessor;
     }
 
+    /**
+     * Actions routed to the plain {@code process} upsert carry nothing but the issue snapshot, so a later one
+     * for the same issue supersedes them. {@code opened} is left out to keep creation an explicit step.
+     */
+    @Override
+    protected @Nullable String coalescingKeyFor(GitHubIssueEventDTO event) {
+        if (event.issue() == null || event.issue().id() == null) {
+            return null;
+        }
+        return switch (event.actionType()) {
+            case
+                GitHubEventAction.Issue.EDITED,
+                GitHubEventAction.Issue.ASSIGNED,
+                GitHubEventAction.Issue.UNASSIGNED,
+                GitHubEventAction.Issue.MILESTONED,
+                GitHubEventAction.Issue.DEMILESTONED,
+                GitHubEventAction.Issue.PINNED,
+                GitHubEventAction.Issue.UNPINNED,
+                GitHubEventAction.Issue.LOCKED,
+                GitHubEventAction.Issue.UNLOCKED -> "issue:" + event.issue().id();
+            default -> null;
+        };
+    }
+
     @Override
     protected void handleEvent(GitHubIssueEventDTO event) {
         GitHubIssueDTO issueDto = event.issue();
@@ -11,6 +11,7 @@ import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubEventType;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.ProcessingContextFactory;
 import de.tum.cit.aet.hephaestus.integration.scm.github.pullrequest.dto.GitHubPullRequestDTO;
 import de.tum.cit.aet.hephaestus.integration.scm.github.pullrequest.dto.GitHubPullRequestEventDTO;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -44,6 +45,37 @@ public class GitHubPullRequestMessageHandler extends AbstractIntegrationMessageH
         this.prProcessor = prProcessor;
     }
 
+    /**
+     * Actions routed to the plain {@code process} upsert carry nothing but the PR snapshot, so a later one
+     * for the same PR supersedes them. {@code opened} is left out to keep creation an explicit step.
+     *
+     * <p>A {@code synchronize} also announces the new head, but a burst of pushes only needs its last
+     * one announced: an earlier head is stale before anyone could review it. It keys apart from the plain
+     * upserts so it never absorbs, or is absorbed by, one of them.
+     */
+    @Override
+    protected @Nullable String coalescingKeyFor(GitHubPullRequestEventDTO event) {
+        if (event.pullRequest() == null || event.pullRequest().id() == null) {
+            return null;
+        }
+        return switch (event.actionType()) {
+            case GitHubEventAction.PullRequest.SYNCHRONIZE -> "pull_request:" + event.pullRequest().id() + ":head";
+            case
+                GitHubEventAction.PullRequest.EDITED,
+                GitHubEventAction.PullRequest.ASSIGNED,
+                GitHubEventAction.PullRequest.UNASSIGNED,
+                GitHubEventAction.PullRequest.MILESTONED,
+                GitHubEventAction.PullRequest.DEMILESTONED,
+                GitHubEventAction.PullRequest.AUTO_MERGE_ENABLED,
+                GitHubEventAction.PullRequest.AUTO_MERGE_DISABLED,
+                GitHubEventAction.PullRequest.REVIEW_REQUEST_REMOVED,
+                GitHubEventAction.PullRequest.ENQUEUED,
+                GitHubEventAction.PullRequest.DEQUEUED,
+                GitHubEventAction.PullRequest.REVIEW_REQUESTED -> "pull_request:" + event.pullRequest().id();
+            default -> null;
+        };
+    }
+
     @Override
     protected void handleEvent(GitHubPullRequestEventDTO event) {
         GitHubPullRequestDTO prDto = event.pullRequest();
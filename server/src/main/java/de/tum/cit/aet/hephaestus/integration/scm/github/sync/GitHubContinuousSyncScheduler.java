@@ -0,0 +1,182 @@
+package de.tum.cit.aet.hephaestus.integration.scm.github.sync;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import de.tum.cit.aet.hephaestus.integration.core.spi.IntegrationKind;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncSession;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncTarget;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubRateLimitBackoff;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubSyncProperties;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.RateLimitTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps issues and pull requests fresh between nightly runs by pulling, every few minutes, only what changed
+ * since each repository's {@code updatedAt} watermark.
+ *
+ * <h2>Why</h2>
+ * Webhooks carry most changes, but a missed delivery used to stay invisible until the nightly
+ * {@link GithubDataSyncScheduler} run, which then re-reads every repository at once. This tick heals a missed
+ * webhook within one interval and spreads the re-reading across the day.
+ *
+ * <h2>Slices</h2>
+ * Each tick visits, per scope, at most {@code continuous-sync-batch-size} repositories whose older watermark
+ * ({@code lastIssuesSyncedAt} / {@code lastPullRequestsSyncedAt}) is more than one interval old, most stale
+ * first, and hands each to {@link GithubDataSyncService#syncChangedIssuesAndPullRequests}. Repositories without
+ * a watermark are left to the full sync, which owns the initial window.
+ * The tick does nothing while {@code incremental-sync-enabled} is off, since the sync services then ignore
+ * the watermark.
+ *
+ * <h2>Rate limits</h2>
+ * The tick is the lowest-priority GitHub consumer. It reads the same {@link RateLimitTracker}
+ * ({@code ScopedRateLimitTracker}) and {@link GitHubRateLimitBackoff} as the webhook-driven and nightly paths,
+ * and stops visiting a scope as soon as its remaining GraphQL points drop below
+ * {@code continuous-sync-rate-limit-threshold} or a back-off is in effect; the skipped repositories are the
+ * most stale ones of the next tick.
+ *
+ * <p>Metrics: {@code github.sync.continuous.repositories{outcome=advanced|incomplete}} and
+ * {@code github.sync.continuous.scopes.deferred}.
+ *
+ * @see GitHubSyncProperties
+ */
+@Component
+@ConditionalOnProperty(name = "hephaestus.integration.github.sync.continuous-sync-enabled", havingValue = "true")
+public class GitHubContinuousSyncScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubContinuousSyncScheduler.class);
+
+    private final SyncTargetProvider syncTargetProvider;
+    private final GithubDataSyncService dataSyncService;
+    private final RateLimitTracker rateLimitTracker;
+    private final GitHubRateLimitBackoff rateLimitBackoff;
+    private final GitHubSyncProperties syncProperties;
+    private final Counter advanced;
+    private final Counter incomplete;
+    private final Counter deferred;
+
+    public GitHubContinuousSyncScheduler(
+        SyncTargetProvider syncTargetProvider,
+        GithubDataSyncService dataSyncService,
+        RateLimitTracker rateLimitTracker,
+        GitHubRateLimitBackoff rateLimitBackoff,
+        GitHubSyncProperties syncProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.syncTargetProvider = syncTargetProvider;
+        this.dataSyncService = dataSyncService;
+        this.rateLimitTracker = rateLimitTracker;
+        this.rateLimitBackoff = rateLimitBackoff;
+        this.syncProperties = syncProperties;
+        this.advanced = repositoryCounter(meterRegistry, "advanced");
+        this.incomplete = repositoryCounter(meterRegistry, "incomplete");
+        this.deferred = Counter.builder("github.sync.continuous.scopes.deferred")
+            .description("Scopes a continuous-sync tick left early to keep their GraphQL budget")
+            .register(meterRegistry);
+    }
+
+    private static Counter repositoryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("github.sync.continuous.repositories")
+            .description("Repositories visited by continuous sync, by whether both watermarks advanced")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void logInitialization() {
+        if (!syncProperties.incrementalSyncEnabled()) {
+            log.warn("Continuous sync disabled: reason=incrementalSyncDisabled");
+            return;
+        }
+        log.info(
+            "Continuous sync config: interval={}, batchSize={}, rateLimitThreshold={}",
+            syncProperties.continuousSyncInterval(),
+            syncProperties.continuousSyncBatchSize(),
+            syncProperties.continuousSyncRateLimitThreshold()
+        );
+    }
+
+    /** One tick over every active GitHub scope; scopes are visited one after another. */
+    @Scheduled(
+        fixedDelayString = "${hephaestus.integration.github.sync.continuous-sync-interval:PT5M}",
+        initialDelayString = "${hephaestus.integration.github.sync.continuous-sync-interval:PT5M}"
+    )
+    @SchedulerLock(name = "github-continuous-sync", lockAtMostFor = "PT30M", lockAtLeastFor = "PT30S")
+    @WorkspaceAgnostic("Continuous-sync fan-out: enumerates every active GitHub scope")
+    public void runCycle() {
+        if (!syncProperties.incrementalSyncEnabled()) {
+            // Without incremental queries a "changed since" slice re-reads every issue and pull request.
+            return;
+        }
+        for (SyncSession session : syncTargetProvider.getSyncSessions(IntegrationKind.GITHUB)) {
+            try {
+                syncScope(session.scopeId());
+            } catch (RuntimeException e) {
+                // Isolate a failing scope (e.g. an uninstalled app) — the nightly run owns its cleanup.
+                log.warn("Continuous sync failed for scope: scopeId={}, error={}", session.scopeId(), e.toString());
+            }
+        }
+    }
+
+    void syncScope(Long scopeId) {
+        List<SyncTarget> slice = staleTargets(syncTargetProvider.getSyncTargetsForScope(scopeId), Instant.now());
+        int visited = 0;
+        for (SyncTarget target : slice) {
+            if (!hasBudget(scopeId)) {
+                deferred.increment();
+                log.debug(
+                    "Deferred continuous sync: reason=rateLimitBudget, scopeId={}, remaining={}, reposLeft={}",
+                    scopeId,
+                    rateLimitTracker.getRemaining(scopeId),
+                    slice.size() - visited
+                );
+                return;
+            }
+            if (dataSyncService.syncChangedIssuesAndPullRequests(target)) {
+                advanced.increment();
+            } else {
+                incomplete.increment();
+            }
+            visited++;
+        }
+    }
+
+    /**
+     * The repositories this tick visits: watermarked on both sides, the older watermark more than one interval
+     * old (a webhook-triggered or nightly sync may have just advanced it), most stale first, capped at the batch
+     * size.
+     */
+    List<SyncTarget> staleTargets(List<SyncTarget> targets, Instant now) {
+        Instant threshold = now.minus(syncProperties.continuousSyncInterval());
+        return targets
+            .stream()
+            .filter(target -> target.lastIssuesSyncedAt() != null && target.lastPullRequestsSyncedAt() != null)
+            .filter(target -> olderWatermark(target).isBefore(threshold))
+            .sorted(Comparator.comparing(GitHubContinuousSyncScheduler::olderWatermark))
+            .limit(syncProperties.continuousSyncBatchSize())
+            .toList();
+    }
+
+    private static Instant olderWatermark(SyncTarget target) {
+        Instant issues = target.lastIssuesSyncedAt();
+        Instant prs = target.lastPullRequestsSyncedAt();
+        return issues.isBefore(prs) ? issues : prs;
+    }
+
+    private boolean hasBudget(Long scopeId) {
+        return (
+            rateLimitBackoff.backoffUntil(scopeId) == null &&
+            rateLimitTracker.getRemaining(scopeId) >= syncProperties.continuousSyncRateLimitThreshold()
+        );
+    }
+}
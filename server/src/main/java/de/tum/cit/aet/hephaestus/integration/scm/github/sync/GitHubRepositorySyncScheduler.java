@@ -0,0 +1,233 @@
+package de.tum.cit.aet.hephaestus.integration.scm.github.sync;
+
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncTarget;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubRateLimitBackoff;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubSyncProperties;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.RateLimitTracker;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the per-repository syncs of one scope concurrently on virtual threads.
+ *
+ * <h2>Parallelism</h2>
+ * The number of repositories in flight is recomputed before every launch as the smallest of
+ * <ul>
+ *   <li>{@link GitHubSyncProperties#repositorySyncParallelism()} — the configured ceiling,</li>
+ *   <li>the scope's remaining GraphQL points ({@link RateLimitTracker#getRemaining}) divided by
+ *       {@link #ESTIMATED_POINTS_PER_REPOSITORY}, and 1 once the budget is low, and</li>
+ *   <li>an additive-increase/multiplicative-decrease window: halved whenever a new rate-limited
+ *       response is recorded for the scope in {@link GitHubRateLimitBackoff}, grown by one per
+ *       repository that finishes without one.</li>
+ * </ul>
+ * After a rate-limited response no new repository starts until the back-off the response asked for has
+ * elapsed. When the budget turns critical, in-flight repositories are drained first and
+ * {@link Callbacks#awaitRateLimitReset} decides whether to wait or stop; after a wait the next repository
+ * starts even if the budget is still critical.
+ *
+ * <p>All callbacks run on the calling thread, in completion order, so callers need no synchronization for
+ * progress reporting.
+ */
+@Component
+public class GitHubRepositorySyncScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubRepositorySyncScheduler.class);
+
+    /**
+     * Rough GraphQL cost of one incremental repository sync (metadata, issue and PR pages with nested
+     * comments, enrichment lookups). Only used to size concurrency; the true cost is charged and tracked
+     * per response.
+     */
+    static final int ESTIMATED_POINTS_PER_REPOSITORY = 250;
+
+    /** Longest single sleep while backing off, so {@link Callbacks#shouldAbort} is still observed. */
+    private static final Duration MAX_BACKOFF_SLICE = Duration.ofSeconds(5);
+
+    private final RateLimitTracker rateLimitTracker;
+    private final GitHubRateLimitBackoff rateLimitBackoff;
+    private final int maxParallelism;
+
+    public GitHubRepositorySyncScheduler(
+        RateLimitTracker rateLimitTracker,
+        GitHubRateLimitBackoff rateLimitBackoff,
+        GitHubSyncProperties syncProperties
+    ) {
+        this.rateLimitTracker = rateLimitTracker;
+        this.rateLimitBackoff = rateLimitBackoff;
+        this.maxParallelism = syncProperties.repositorySyncParallelism();
+    }
+
+    /** Hooks the caller uses to keep its cancellation, suspension and progress semantics. */
+    public interface Callbacks {
+        /**
+         * Checked before every launch; returning true stops launching (in-flight syncs still finish).
+         *
+         * @param processed repositories finished so far
+         */
+        boolean shouldAbort(int processed);
+
+        /**
+         * Called with nothing in flight when the scope's budget is critical.
+         *
+         * @param processed repositories finished so far
+         * @return true to continue, false to stop launching
+         */
+        boolean awaitRateLimitReset(int processed);
+
+        /**
+         * Called once per finished repository.
+         *
+         * @param target    the repository that finished
+         * @param processed repositories finished so far, including this one
+         */
+        void completed(SyncTarget target, int processed);
+    }
+
+    /**
+     * Syncs {@code targets} (launched in list order) and returns once every launched sync has finished.
+     *
+     * @param scopeId the scope all targets belong to
+     * @param targets the repositories to sync, most urgent first
+     * @param sync    the per-repository sync; exceptions other than those it handles itself abort the run
+     * @return the number of repositories finished
+     */
+    public int syncAll(Long scopeId, List<SyncTarget> targets, Predicate<SyncTarget> sync, Callbacks callbacks) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ExecutorCompletionService<SyncTarget> completions = new ExecutorCompletionService<>(executor);
+            Run run = new Run(scopeId, completions, callbacks);
+            try {
+                for (SyncTarget target : targets) {
+                    if (!run.awaitLaunchSlot()) {
+                        break;
+                    }
+                    completions.submit(() -> {
+                        rateLimitBackoff.callInScope(scopeId, () -> sync.test(target));
+                        return target;
+                    });
+                    run.inFlight++;
+                }
+                while (run.inFlight > 0) {
+                    run.awaitOne();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                log.info(
+                    "Parallel repository sync interrupted: scopeId={}, reposProcessed={}, reposInFlight={}",
+                    scopeId,
+                    run.processed,
+                    run.inFlight
+                );
+            } catch (RuntimeException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+            return run.processed;
+        }
+    }
+
+    /** Parallelism the scope's remaining budget allows, before the AIMD window is applied. */
+    int budgetParallelism(Long scopeId) {
+        if (rateLimitTracker.isLow(scopeId)) {
+            return 1;
+        }
+        int byBudget = rateLimitTracker.getRemaining(scopeId) / ESTIMATED_POINTS_PER_REPOSITORY;
+        return Math.clamp(byBudget, 1, maxParallelism);
+    }
+
+    /** Mutable state of one {@link #syncAll} call; confined to the calling thread. */
+    private final class Run {
+
+        private final Long scopeId;
+        private final ExecutorCompletionService<SyncTarget> completions;
+        private final Callbacks callbacks;
+        private int window = maxParallelism;
+        private long rateLimitedSeen;
+        private int inFlight;
+        private int processed;
+
+        private Run(Long scopeId, ExecutorCompletionService<SyncTarget> completions, Callbacks callbacks) {
+            this.scopeId = scopeId;
+            this.completions = completions;
+            this.callbacks = callbacks;
+            this.rateLimitedSeen = rateLimitBackoff.rateLimitedCount(scopeId);
+        }
+
+        /** Blocks until another repository may start; false when the run should stop launching. */
+        private boolean awaitLaunchSlot() throws InterruptedException {
+            while (true) {
+                if (callbacks.shouldAbort(processed)) {
+                    return false;
+                }
+                if (rateLimitTracker.isCritical(scopeId)) {
+                    if (inFlight > 0) {
+                        awaitOne();
+                        continue;
+                    }
+                    // Like the sequential loop: once the wait is over, proceed even if still critical.
+                    return callbacks.awaitRateLimitReset(processed);
+                }
+                Instant backoffUntil = rateLimitBackoff.backoffUntil(scopeId);
+                if (backoffUntil != null) {
+                    Duration remaining = Duration.between(Instant.now(), backoffUntil);
+                    Thread.sleep(Math.max(1, Math.min(remaining.toMillis(), MAX_BACKOFF_SLICE.toMillis())));
+                    continue;
+                }
+                if (inFlight < Math.min(window, budgetParallelism(scopeId))) {
+                    return true;
+                }
+                awaitOne();
+            }
+        }
+
+        private void awaitOne() throws InterruptedException {
+            Future<SyncTarget> done = completions.take();
+            inFlight--;
+            SyncTarget target = result(done);
+            processed++;
+            adjustWindow();
+            callbacks.completed(target, processed);
+        }
+
+        private void adjustWindow() {
+            long rateLimited = rateLimitBackoff.rateLimitedCount(scopeId);
+            if (rateLimited > rateLimitedSeen) {
+                rateLimitedSeen = rateLimited;
+                int previous = window;
+                window = Math.max(1, window / 2);
+                log.info(
+                    "Reduced repository sync parallelism after rate limit: scopeId={}, from={}, to={}",
+                    scopeId,
+                    previous,
+                    window
+                );
+            } else if (window < maxParallelism) {
+                window++;
+            }
+        }
+
+        private SyncTarget result(Future<SyncTarget> done) throws InterruptedException {
+            try {
+                return done.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Repository sync failed", e.getCause());
+            }
+        }
+    }
+}
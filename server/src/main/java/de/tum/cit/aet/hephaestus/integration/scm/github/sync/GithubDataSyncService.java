@@ -31,6 +31,7 @@ import de.tum.cit.aet.hephaestus.integration.scm.github.common.ExponentialBackof
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubExceptionClassifier;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubExceptionClassifier.Category;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubExceptionClassifier.ClassificationResult;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubRateLimitBackoff;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.RateLimitTracker;
 import de.tum.cit.aet.hephaestus.integration.scm.github.discussion.GitHubDiscussionSyncService;
 import de.tum.cit.aet.hephaestus.integration.scm.github.issue.GitHubIssueSyncService;
@@ -77,7 +78,8 @@ import org.springframework.transaction.UnexpectedRollbackException;
  * <ul>
  *   <li>{@code syncSyncTargetAsync()} submits work to the virtual thread executor</li>
  *   <li>{@code syncSyncTarget()} is safe for concurrent calls (each operates on independent data)</li>
- *   <li>{@code syncAllRepositories()} synchronizes on scope level (one call per scope)</li>
+ *   <li>{@code syncAllRepositories()} synchronizes on scope level (one call per scope) and syncs that
+ *       scope's repositories concurrently through {@link GitHubRepositorySyncScheduler}</li>
  * </ul>
  * Note: Underlying sync services must also be thread-safe.
  *
@@ -124,6 +126,8 @@ public class GithubDataSyncService {
     private final InstallationTokenProvider tokenProvider;
     private final GitHubAppTokenService gitHubAppTokenService;
     private final RateLimitTracker rateLimitTracker;
+    private final GitHubRateLimitBackoff rateLimitBackoff;
+    private final GitHubRepositorySyncScheduler repositorySyncScheduler;
 
     private final AsyncTaskExecutor monitoringExecutor;
 
@@ -154,6 +158,8 @@ public class GithubDataSyncService {
         InstallationTokenProvider tokenProvider,
         GitHubAppTokenService gitHubAppTokenService,
         RateLimitTracker rateLimitTracker,
+        GitHubRateLimitBackoff rateLimitBackoff,
+        GitHubRepositorySyncScheduler repositorySyncScheduler,
         @Qualifier("monitoringExecutor") AsyncTaskExecutor monitoringExecutor
     ) {
         this.syncSchedulerProperties = syncSchedulerProperties;
@@ -182,6 +188,8 @@ public class GithubDataSyncService {
         this.tokenProvider = tokenProvider;
         this.gitHubAppTokenService = gitHubAppTokenService;
         this.rateLimitTracker = rateLimitTracker;
+        this.rateLimitBackoff = rateLimitBackoff;
+        this.repositorySyncScheduler = repositorySyncScheduler;
         this.monitoringExecutor = monitoringExecutor;
     }
 
@@ -480,6 +488,8 @@ public class GithubDataSyncService {
                         classification.message()
                     );
                     Duration waitTime = classification.suggestedWait();
+                    // Slows down the other repositories of this scope that are syncing in parallel.
+                    rateLimitBackoff.recordRateLimited(scopeId, waitTime);
                     if (waitTime != null && !waitTime.isZero()) {
                         log.info(
                             "Pausing sync for rate limit: scopeId={}, waitSeconds={}",
@@ -512,6 +522,112 @@ public class GithubDataSyncService {
         }
     }
 
+    /**
+     * Syncs only the issues and pull requests of one repository that changed since its watermarks
+     * ({@code lastIssuesSyncedAt} / {@code lastPullRequestsSyncedAt}), for the continuous path
+     * ({@link GitHubContinuousSyncScheduler}). Unlike {@link #syncSyncTarget} it never creates the repository,
+     * re-syncs its metadata, or touches collaborators, labels, milestones, commits or discussions — those stay
+     * with the nightly run — so a slice costs a couple of GraphQL pages for a quiet repository.
+     * <p>
+     * Each watermark advances independently, and to the time this call <em>started</em>: an item updated while
+     * the pages were being read is picked up by the next slice instead of falling between the two. A
+     * rate-limited response is recorded on {@link GitHubRateLimitBackoff} and the slice gives up rather than
+     * sleeping; the next tick retries from the same watermark.
+     *
+     * @return true if both watermarks advanced
+     */
+    public boolean syncChangedIssuesAndPullRequests(SyncTarget syncTarget) {
+        Long scopeId = syncTarget.scopeId();
+        String safeNameWithOwner = sanitizeForLog(syncTarget.repositoryNameWithOwner());
+
+        if (syncTarget.lastIssuesSyncedAt() == null || syncTarget.lastPullRequestsSyncedAt() == null) {
+            // No watermark yet: the initial window belongs to the full sync.
+            log.debug(
+                "Skipped changed-item sync: reason=noWatermark, scopeId={}, repoName={}",
+                scopeId,
+                safeNameWithOwner
+            );
+            return false;
+        }
+        if (!syncTargetProvider.isScopeActiveForSync(scopeId)) {
+            log.debug(
+                "Skipped changed-item sync: reason=scopeNotActive, scopeId={}, repoName={}",
+                scopeId,
+                safeNameWithOwner
+            );
+            return false;
+        }
+        Optional<Repository> repository = gitProviderRepository
+            .findByTypeAndServerUrl(IdentityProviderType.GITHUB, GITHUB_SERVER_URL)
+            .flatMap(provider ->
+                repositoryRepository.findByNameWithOwnerAndProviderId(
+                    syncTarget.repositoryNameWithOwner(),
+                    provider.getId()
+                )
+            );
+        if (repository.isEmpty()) {
+            log.debug(
+                "Skipped changed-item sync: reason=repositoryNotSyncedYet, scopeId={}, repoName={}",
+                scopeId,
+                safeNameWithOwner
+            );
+            return false;
+        }
+        Long repositoryId = repository.get().getId();
+        Instant startedAt = Instant.now();
+
+        try {
+            // Null cursor and syncTargetId for the same reason as in syncSyncTarget: the cursor columns
+            // belong to the CREATED_AT-ordered historical backfill.
+            SyncResult issueResult = issueSyncService.syncForRepository(
+                scopeId,
+                repositoryId,
+                null,
+                null,
+                syncTarget.lastIssuesSyncedAt()
+            );
+            if (issueResult.isCompleted()) {
+                syncTargetProvider.updateSyncTimestamp(syncTarget.id(), SyncType.ISSUES, startedAt);
+            }
+            SyncResult prResult = pullRequestSyncService.syncForRepository(
+                scopeId,
+                repositoryId,
+                null,
+                null,
+                syncTarget.lastPullRequestsSyncedAt()
+            );
+            if (prResult.isCompleted()) {
+                syncTargetProvider.updateSyncTimestamp(syncTarget.id(), SyncType.PULL_REQUESTS, startedAt);
+            }
+            log.debug(
+                "Completed changed-item sync: scopeId={}, repoId={}, issues={}, prs={}, issueStatus={}, prStatus={}",
+                scopeId,
+                repositoryId,
+                issueResult.count(),
+                prResult.count(),
+                issueResult.status(),
+                prResult.status()
+            );
+            return issueResult.isCompleted() && prResult.isCompleted();
+        } catch (InstallationNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            ClassificationResult classification = exceptionClassifier.classifyWithDetails(e);
+            if (classification.category() == Category.RATE_LIMITED) {
+                rateLimitBackoff.recordRateLimited(scopeId, classification.suggestedWait());
+            }
+            // Everything else (a vanished repository included) is left to the full sync, which owns cleanup.
+            log.info(
+                "Changed-item sync failed, retrying next tick: scopeId={}, repoId={}, category={}, error={}",
+                scopeId,
+                repositoryId,
+                classification.category(),
+                classification.message()
+            );
+            return false;
+        }
+    }
+
     /**
      * Syncs all repositories for a scope using GraphQL.
      * <p>
@@ -535,7 +651,7 @@ public class GithubDataSyncService {
     /**
      * Same as {@link #syncAllRepositories(Long)}, additionally threading a {@link SyncExecutionHandle} for
      * the manual "reconcile now" sync-job path ({@code GithubIntegrationSyncRunner}): cooperative
-     * cancellation is checked between repositories (and inside the rate-limit wait, in bounded
+     * cancellation is checked before each repository starts (and inside the rate-limit wait, in bounded
      * slices — see {@link #waitForRateLimitReset(Long, BooleanSupplier)}), and coarse
      * repos-done/repos-total progress is reported after each repository.
      *
@@ -594,80 +710,97 @@ public class GithubDataSyncService {
             // Projects sync before repositories so embedded project items can be linked.
             syncProjects(scopeId);
 
-            int reposProcessed = 0;
-            for (SyncTarget target : syncTargets) {
-                // Cooperative cancel for the manual "reconcile now" sync-job path — best-effort,
-                // checked between repositories only (see class-level SyncExecutionHandle javadoc).
-                if (handle != null && handle.isCancellationRequested()) {
-                    log.info(
-                        "Aborting remaining syncs: reason=cancellationRequested, scopeId={}, reposProcessed={}, reposRemaining={}",
-                        scopeId,
-                        reposProcessed,
-                        syncTargets.size() - reposProcessed
-                    );
-                    break;
-                }
-                // Check if installation became suspended mid-sync - abort remaining syncs
-                if (installationId != null && gitHubAppTokenService.isInstallationMarkedSuspended(installationId)) {
-                    log.info("Aborting remaining syncs: reason=installationSuspended, scopeId={}", scopeId);
-                    break;
-                }
-                // Wait for rate limit reset instead of aborting — ensures all repos
-                // get their initial sync even when rate limit is exhausted mid-loop.
-                // Without this, repos skipped here would have NULL issues_synced_at/
-                // pull_requests_synced_at and be ineligible for historical backfill
-                // until the next daily cron run.
-                if (rateLimitTracker.isCritical(scopeId)) {
-                    log.info(
-                        "Rate limit critical during startup sync, waiting for reset: scopeId={}, remaining={}, totalRepos={}, reposProcessed={}, reposRemaining={}",
-                        scopeId,
-                        rateLimitTracker.getRemaining(scopeId),
-                        syncTargets.size(),
-                        reposProcessed,
-                        syncTargets.size() - reposProcessed
-                    );
-                    try {
-                        waitForRateLimitReset(scopeId, handle == null ? null : handle::isCancellationRequested);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
+            // Repositories sync concurrently, as many at a time as the scope's remaining GraphQL budget
+            // allows; see GitHubRepositorySyncScheduler. Targets are still launched most-stale first.
+            repositorySyncScheduler.syncAll(
+                scopeId,
+                syncTargets,
+                target -> !shouldSync(target) || syncSyncTarget(target),
+                new GitHubRepositorySyncScheduler.Callbacks() {
+                    @Override
+                    public boolean shouldAbort(int reposProcessed) {
+                        // Cooperative cancel for the manual "reconcile now" sync-job path — best-effort,
+                        // checked between repository launches only (see class-level SyncExecutionHandle javadoc).
+                        if (handle != null && handle.isCancellationRequested()) {
+                            log.info(
+                                "Aborting remaining syncs: reason=cancellationRequested, scopeId={}, reposProcessed={}, reposRemaining={}",
+                                scopeId,
+                                reposProcessed,
+                                syncTargets.size() - reposProcessed
+                            );
+                            return true;
+                        }
+                        // Check if installation became suspended mid-sync - abort remaining syncs
+                        if (
+                            installationId != null &&
+                            gitHubAppTokenService.isInstallationMarkedSuspended(installationId)
+                        ) {
+                            log.info("Aborting remaining syncs: reason=installationSuspended, scopeId={}", scopeId);
+                            return true;
+                        }
+                        return false;
+                    }
+
+                    @Override
+                    public boolean awaitRateLimitReset(int reposProcessed) {
+                        // Wait for rate limit reset instead of aborting — ensures all repos
+                        // get their initial sync even when rate limit is exhausted mid-run.
+                        // Without this, repos skipped here would have NULL issues_synced_at/
+                        // pull_requests_synced_at and be ineligible for historical backfill
+                        // until the next daily cron run.
                         log.info(
-                            "Startup sync interrupted while waiting for rate limit: scopeId={}, reposProcessed={}, reposRemaining={}",
+                            "Rate limit critical during startup sync, waiting for reset: scopeId={}, remaining={}, totalRepos={}, reposProcessed={}, reposRemaining={}",
                             scopeId,
+                            rateLimitTracker.getRemaining(scopeId),
+                            syncTargets.size(),
                             reposProcessed,
                             syncTargets.size() - reposProcessed
                         );
-                        break;
+                        try {
+                            waitForRateLimitReset(scopeId, handle == null ? null : handle::isCancellationRequested);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            log.info(
+                                "Startup sync interrupted while waiting for rate limit: scopeId={}, reposProcessed={}, reposRemaining={}",
+                                scopeId,
+                                reposProcessed,
+                                syncTargets.size() - reposProcessed
+                            );
+                            return false;
+                        }
+                        if (handle != null && handle.isCancellationRequested()) {
+                            log.info(
+                                "Aborting remaining syncs: reason=cancellationRequestedDuringRateLimitWait, scopeId={}, reposProcessed={}, reposRemaining={}",
+                                scopeId,
+                                reposProcessed,
+                                syncTargets.size() - reposProcessed
+                            );
+                            return false;
+                        }
+                        return true;
                     }
-                    if (handle != null && handle.isCancellationRequested()) {
-                        log.info(
-                            "Aborting remaining syncs: reason=cancellationRequestedDuringRateLimitWait, scopeId={}, reposProcessed={}, reposRemaining={}",
-                            scopeId,
+
+                    @Override
+                    public void completed(SyncTarget target, int reposProcessed) {
+                        if (handle == null) {
+                            return;
+                        }
+                        handle.progress(
                             reposProcessed,
-                            syncTargets.size() - reposProcessed
+                            syncTargets.size(),
+                            // Just the repository — "N of M" is already the progress bar's own reading
+                            // (unitsCompleted/unitsTotal travel on the same record).
+                            SyncProgress.ofResource(
+                                SyncPhase.REPOSITORIES,
+                                "Syncing " + sanitizeForLog(target.repositoryNameWithOwner()),
+                                sanitizeForLog(target.repositoryNameWithOwner()),
+                                reposProcessed,
+                                syncTargets.size()
+                            )
                         );
-                        break;
                     }
                 }
-                if (shouldSync(target)) {
-                    syncSyncTarget(target);
-                }
-                reposProcessed++;
-                if (handle != null) {
-                    handle.progress(
-                        reposProcessed,
-                        syncTargets.size(),
-                        // Just the repository — "N of M" is already the progress bar's own reading
-                        // (unitsCompleted/unitsTotal travel on the same record).
-                        SyncProgress.ofResource(
-                            SyncPhase.REPOSITORIES,
-                            "Syncing " + sanitizeForLog(target.repositoryNameWithOwner()),
-                            sanitizeForLog(target.repositoryNameWithOwner()),
-                            reposProcessed,
-                            syncTargets.size()
-                        )
-                    );
-                }
-            }
+            );
 
             // Teams sync after repositories exist (team repo permissions need repos to exist).
             syncTeams(scopeId);
@@ -63,6 +63,9 @@ public class GitLabCommitBackfillService {
     private static final Logger log = LoggerFactory.getLogger(GitLabCommitBackfillService.class);
     private static final int MAX_COMMITS_PER_CYCLE = 5000;
 
+    /** Commits diffed and persisted per chunk of the streamed walk. */
+    private static final int WALK_CHUNK_SIZE = 500;
+
     /**
      * Matches a {@code Co-authored-by: Name <email>} trailer line. Case-insensitive
      * to tolerate both {@code Co-authored-by:} and {@code Co-Authored-By:} variants
@@ -165,37 +168,31 @@ public class GitLabCommitBackfillService {
                 return SyncResult.completed(0);
             }
 
-            // Phase 4: Walk commits reachable from ALL remote-tracking branches so
+            // Phase 4+5: Walk commits reachable from ALL remote-tracking branches so
             // commits living only on feature branches are also ingested (needed for
             // complete commit→MR link coverage and cross-branch author attribution).
-            List<GitRepositoryManager.CommitInfo> commitInfos = gitRepositoryManager.walkAllBranches(repoId, fromSha);
-
-            if (commitInfos.isEmpty()) {
-                return SyncResult.completed(0);
-            }
-
-            // Phase 5: Process commits (with batch limit)
-            int total = commitInfos.size();
-            boolean truncated = total > MAX_COMMITS_PER_CYCLE;
-            List<GitRepositoryManager.CommitInfo> batch = truncated
-                ? commitInfos.subList(0, MAX_COMMITS_PER_CYCLE)
-                : commitInfos;
-
-            int processed = 0;
-            for (GitRepositoryManager.CommitInfo info : batch) {
-                if (processCommitInfo(info, repository, scopeId, serverUrl)) {
-                    processed++;
+            // Each chunk is persisted before the next is diffed (with batch limit).
+            BackfillProgress progress = new BackfillProgress();
+            gitRepositoryManager.streamAllBranches(repoId, fromSha, WALK_CHUNK_SIZE, chunk -> {
+                for (GitRepositoryManager.CommitInfo info : chunk) {
+                    if (processCommitInfo(info, repository, scopeId, serverUrl)) {
+                        progress.processed++;
+                    }
+                    if (++progress.walked >= MAX_COMMITS_PER_CYCLE) {
+                        return false;
+                    }
                 }
-            }
+                return true;
+            });
+            int processed = progress.processed;
 
-            if (truncated) {
+            if (progress.walked >= MAX_COMMITS_PER_CYCLE) {
                 log.info(
-                    "Commit backfill batch limit reached: repoId={}, repoName={}, processed={}, total={}, remaining={}",
+                    "Commit backfill batch limit reached: repoId={}, repoName={}, processed={}, walked={}",
                     repoId,
                     repoName,
                     processed,
-                    total,
-                    total - MAX_COMMITS_PER_CYCLE
+                    progress.walked
                 );
             } else if (processed > 0) {
                 log.info(
@@ -203,7 +200,7 @@ public class GitLabCommitBackfillService {
                     repoId,
                     repoName,
                     processed,
-                    total,
+                    progress.walked,
                     fromSha != null ? "incremental" : "full"
                 );
             }
@@ -421,4 +418,11 @@ public class GitLabCommitBackfillService {
     private static String abbreviateSha(String sha) {
         return sha.length() > 7 ? sha.substring(0, 7) : sha;
     }
+
+    /** Counters the walk's chunk consumer advances. */
+    private static final class BackfillProgress {
+
+        private int walked;
+        private int processed;
+    }
 }
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.integration.scm.gitlab.feedback;
 
 import static de.tum.cit.aet.hephaestus.core.LoggingUtils.sanitizeForLog;
+import static de.tum.cit.aet.hephaestus.integration.scm.gitlab.common.GitLabSyncConstants.LOW_REMAINING_THRESHOLD;
 import static de.tum.cit.aet.hephaestus.integration.scm.gitlab.feedback.GitlabMrResolver.GRAPHQL_TIMEOUT;
 
 import de.tum.cit.aet.hephaestus.integration.core.egress.OutboundEgressGateway;
@@ -22,8 +23,14 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
@@ -34,9 +41,10 @@ import org.springframework.graphql.client.ClientGraphQlResponse;
 import org.springframework.stereotype.Component;
 
 /**
- * GitLab adapter for {@link InlineFeedbackChannel}. Posts inline diff notes one at a
- * time via {@code CreateDiffNote} (GitLab has no batch API). For positions outside the
- * diff hunk, falls back to a regular MR comment with {@code file:line} prefix.
+ * GitLab adapter for {@link InlineFeedbackChannel}. Posts inline diff notes one per
+ * {@code CreateDiffNote} (GitLab has no batch API), a few at a time on virtual threads and gated
+ * on the scope's rate-limit budget. For positions outside the diff hunk, falls back to a regular
+ * MR comment with {@code file:line} prefix.
  *
  * <p>Reconciles by {@code recurrenceKey} rather than clear-then-post: each finding's stable key is embedded
  * in the note body as a hidden HTML tag, and before posting we read the MR's existing discussions
@@ -73,6 +81,13 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
     /** Hard ceiling on discussion pages walked per reconcile, mirroring the sync paginators' MAX_PAGES guard. */
     private static final int MAX_DISCUSSION_PAGES = 50;
 
+    /**
+     * Diff-note writes in flight at once per delivery. GitLab has no batch mutation and a slow self-hosted instance
+     * answers each in hundreds of milliseconds, so a review with dozens of findings is latency-bound; four keeps
+     * the burst well inside the pacing floor the rate-limit tracker assumes when an instance reports nothing.
+     */
+    static final int MAX_CONCURRENT_WRITES = 4;
+
     /**
      * Hidden per-finding correlation tag embedded in a note body so a prior thread can be matched back to the
      * finding that produced it across re-runs. Distinct from the run-level {@code marker} (which identifies all
@@ -135,7 +150,20 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
         }
 
         MrCoordinates mr = GitlabMrResolver.parseSubjectExternalId(target.subjectExternalId());
-        MrInfo mrInfo = mrResolver.resolve(scopeId, mr.projectPath(), mr.iid());
+        String marker = feedbackItems.get(0).marker();
+        MrInfo mrInfo;
+        Map<String, PriorThread> priorByKey;
+        try (ExecutorService reads = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Index this reviewer's prior threads by correlation key so a stable finding edits its existing thread
+            // instead of being cleared-then-reposted. Read once per delivery, alongside the MR lookup rather than
+            // after it, and shared read-only by every write below. Best-effort: a failed read yields an empty
+            // index, degrading to fresh keyed posts (no edit, no delete) rather than blocking delivery.
+            Future<Map<String, PriorThread>> priorRead = reads.submit(() ->
+                indexPriorThreads(scopeId, mr.projectPath(), mr.iid(), marker)
+            );
+            mrInfo = mrResolver.resolve(scopeId, mr.projectPath(), mr.iid());
+            priorByKey = await(priorRead);
+        }
         if (mrInfo.headSha() == null || mrInfo.startSha() == null) {
             log.warn(
                 "GitLab MR missing diffRefs — skipping diff notes: workspaceId={}, mrGid={}",
@@ -145,30 +173,21 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
             return InlineResult.counts(0, feedbackItems.size());
         }
 
-        // Index this reviewer's prior threads by correlation key so a stable finding edits its existing thread
-        // instead of being cleared-then-reposted. Best-effort: a failed read yields an empty index, degrading to
-        // fresh keyed posts (no edit, no delete) rather than blocking delivery.
-        String marker = feedbackItems.get(0).marker();
-        Map<String, PriorThread> priorByKey = indexPriorThreads(scopeId, mr.projectPath(), mr.iid(), marker);
-
-        int posted = 0;
-        int failed = 0;
-        boolean rateLimited = false;
+        // One signal slot per finding, in input order; a slot left null is a finding skipped outright.
+        DeliveredSignal[] signalByIndex = new DeliveredSignal[feedbackItems.size()];
+        List<PendingWrite> writes = new ArrayList<>();
         Set<String> seenKeys = new HashSet<>();
         // Keys we've already posted/edited a thread for THIS run. Guards the case where two feedbackItems in one
         // batch carry the same non-null recurrenceKey (a fingerprint that escaped upstream dedup): without
         // this, both would createThread a fresh duplicate, and the next run's last-wins index would orphan one
         // permanently (its key stays in seenKeys, so it is never reaped). First wins; the twin is skipped.
         Set<String> processedKeys = new HashSet<>();
-        List<DeliveredSignal> signals = new ArrayList<>(feedbackItems.size());
 
         for (int index = 0; index < feedbackItems.size(); index++) {
             InlineFeedback finding = feedbackItems.get(index);
-            int remaining = feedbackItems.size() - index - 1;
             if (!(finding.anchor() instanceof FeedbackAnchor.DiffAnchor diff)) {
                 log.warn("Skipping non-diff anchor on GitLab inline feedback: anchor={}", finding.anchor());
-                failed++;
-                signals.add(failedSignal(finding));
+                signalByIndex[index] = failedSignal(finding);
                 continue;
             }
             // Register the key as seen BEFORE the blank-body guard: a finding whose key is still present this
@@ -192,11 +211,15 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
 
             PriorThread prior = key == null ? null : priorByKey.get(key);
 
-            // A prior thread a developer engaged with is left exactly as is — neither edited nor deleted.
+            // A prior thread a developer engaged with is left exactly as is — neither edited nor deleted. It counts
+            // as posted: the finding IS represented on the MR, just not by us this run.
             if (prior != null && prior.humanReplied()) {
-                posted++; // the finding IS represented on the MR, just not by us this run
-                signals.add(
-                    new DeliveredSignal(key, diff, Disposition.PRESERVED_EXISTING, prior.noteId(), prior.discussionId())
+                signalByIndex[index] = new DeliveredSignal(
+                    key,
+                    diff,
+                    Disposition.PRESERVED_EXISTING,
+                    prior.noteId(),
+                    prior.discussionId()
                 );
                 continue;
             }
@@ -205,37 +228,54 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
                 appendMarker(GitlabSummaryChannel.escapeSlashCommands(finding.body()), marker),
                 key
             );
+            writes.add(new PendingWrite(index, key, diff, prior, body));
+        }
 
-            try {
-                Outcome outcome =
-                    prior != null ? editInPlace(scopeId, prior, body, diff) : createThread(scopeId, mrInfo, diff, body);
-                if (outcome.disposition() == Disposition.FELL_BACK || outcome.disposition() == Disposition.POSTED) {
-                    posted++;
-                } else {
-                    failed++;
+        WriteRun run = writeConcurrently(scopeId, mrInfo, writes);
+        List<String> suppressedKeys = new ArrayList<>();
+        for (int w = 0; w < writes.size(); w++) {
+            PendingWrite write = writes.get(w);
+            Outcome outcome = run.outcomes()[w];
+            if (outcome == null && run.suppressed()) {
+                if (write.key() != null) {
+                    suppressedKeys.add(write.key());
                 }
-                signals.add(
-                    new DeliveredSignal(key, diff, outcome.disposition(), outcome.noteId(), outcome.discussionId())
-                );
-            } catch (OutboundEgressSuppressedException e) {
-                return InlineResult.suppressed(
-                    posted,
-                    failed,
-                    signals,
-                    recurrenceKeys(feedbackItems.subList(index, feedbackItems.size()))
-                );
-            } catch (RateLimitHit e) {
-                log.warn("GitLab rate limit hit during diff note posting — stopping: workspaceId={}", scopeId);
-                failed += remaining + 1;
-                signals.add(failedSignal(finding));
-                rateLimited = true;
-                break;
+                continue;
+            }
+            if (outcome == null) {
+                // Never attempted: the batch stopped on a rate limit first.
+                outcome = Outcome.failed();
             }
+            signalByIndex[write.index()] = new DeliveredSignal(
+                write.key(),
+                write.diff(),
+                outcome.disposition(),
+                outcome.noteId(),
+                outcome.discussionId()
+            );
+        }
+
+        List<DeliveredSignal> signals = new ArrayList<>(feedbackItems.size());
+        int posted = 0;
+        int failed = 0;
+        for (DeliveredSignal signal : signalByIndex) {
+            if (signal == null) {
+                continue;
+            }
+            signals.add(signal);
+            if (signal.disposition() == Disposition.FAILED) {
+                failed++;
+            } else {
+                posted++;
+            }
+        }
+        if (run.suppressed()) {
+            return InlineResult.suppressed(posted, failed, signals, suppressedKeys);
         }
 
         int deletedGone;
         try {
-            deletedGone = rateLimited ? 0 : destroyVanishedThreads(scopeId, priorByKey, seenKeys);
+            deletedGone = run.rateLimited() ? 0 : destroyVanishedThreads(scopeId, priorByKey, seenKeys);
         } catch (OutboundEgressSuppressedException e) {
             return InlineResult.suppressed(posted, failed, signals, List.of());
         }
@@ -250,8 +290,90 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
         return new InlineResult(posted, failed, List.copyOf(signals));
     }
 
-    private static List<String> recurrenceKeys(List<InlineFeedback> feedbackItems) {
-        return feedbackItems.stream().map(InlineFeedback::recurrenceKey).filter(Objects::nonNull).toList();
+    /**
+     * Runs {@code writes} up to {@value #MAX_CONCURRENT_WRITES} at a time, each on its own virtual thread, and
+     * returns once every launched write has finished. Writes are launched in order and their outcomes land in the
+     * matching slot, so the caller assembles signals in input order however the writes interleave.
+     *
+     * <p>Gated on the scope's {@link de.tum.cit.aet.hephaestus.integration.scm.gitlab.common.GitLabRateLimitTracker}
+     * before every launch: a critical budget stops further launches as a {@code 429} would, and a low one narrows
+     * the batch to one write at a time so the last points are not spent in a burst. A {@code 429} or a Silent Mode
+     * suppression in any write stops further launches; writes already in flight finish and keep their outcome.
+     */
+    private WriteRun writeConcurrently(long scopeId, MrInfo mrInfo, List<PendingWrite> writes) {
+        Outcome[] outcomes = new Outcome[writes.size()];
+        AtomicBoolean rateLimited = new AtomicBoolean();
+        AtomicBoolean suppressed = new AtomicBoolean();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Semaphore slots = new Semaphore(MAX_CONCURRENT_WRITES);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < writes.size(); w++) {
+                if (rateLimited.get() || suppressed.get() || failure.get() != null) {
+                    break;
+                }
+                // A low budget takes every slot, so this write runs alone once the in-flight ones are done.
+                int permits =
+                    gitLabProvider.getRateLimitRemaining(scopeId) < LOW_REMAINING_THRESHOLD ? MAX_CONCURRENT_WRITES : 1;
+                try {
+                    slots.acquire(permits);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.compareAndSet(null, new IllegalStateException("Interrupted while posting diff notes", e));
+                    break;
+                }
+                if (rateLimited.get() || suppressed.get() || failure.get() != null) {
+                    slots.release(permits);
+                    break;
+                }
+                if (gitLabProvider.isRateLimitCritical(scopeId)) {
+                    slots.release(permits);
+                    log.warn("GitLab rate limit critical — stopping diff note posting: workspaceId={}", scopeId);
+                    rateLimited.set(true);
+                    break;
+                }
+                int slot = w;
+                PendingWrite write = writes.get(w);
+                executor.execute(() -> {
+                    try {
+                        outcomes[slot] =
+                            write.prior() != null
+                                ? editInPlace(scopeId, write.prior(), write.body(), write.diff())
+                                : createThread(scopeId, mrInfo, write.diff(), write.body());
+                    } catch (OutboundEgressSuppressedException e) {
+                        suppressed.set(true);
+                    } catch (RateLimitHit e) {
+                        log.warn("GitLab rate limit hit during diff note posting — stopping: workspaceId={}", scopeId);
+                        outcomes[slot] = Outcome.failed();
+                        rateLimited.set(true);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        slots.release(permits);
+                    }
+                });
+            }
+        }
+        // Rethrown only now, once no write is still in flight, exactly as the sequential loop would have thrown it.
+        RuntimeException first = failure.get();
+        if (first != null) {
+            throw first;
+        }
+        return new WriteRun(outcomes, rateLimited.get(), suppressed.get());
+    }
+
+    /** Unwraps a finished read so its runtime exceptions (notably egress suppression) surface unchanged. */
+    private static <T> T await(Future<T> read) {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading MR discussions", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     /** Posts a brand-new diff-note thread; falls back to an MR comment when the line is outside the diff hunk. */
@@ -507,7 +629,22 @@ public class GitlabInlineFeedbackChannel implements InlineFeedbackChannel {
         }
     }
 
-    /** Signals the per-finding loop to stop and fail the rest of the batch on a rate-limit hit. */
+    /** A create or edit the planning pass decided on; {@code index} is the finding's position in the batch. */
+    private record PendingWrite(
+        int index,
+        @Nullable String key,
+        FeedbackAnchor.DiffAnchor diff,
+        @Nullable PriorThread prior,
+        String body
+    ) {}
+
+    /**
+     * Outcomes of {@link #writeConcurrently}, one slot per write; {@code null} for a write that never ran (the batch
+     * stopped first) or was suppressed.
+     */
+    private record WriteRun(Outcome[] outcomes, boolean rateLimited, boolean suppressed) {}
+
+    /** Signals the write loop to stop and fail the rest of the batch on a rate-limit hit. */
     private static final class RateLimitHit extends RuntimeException {}
 
     private static Map<String, Object> buildPosition(FeedbackAnchor.DiffAnchor diff, MrInfo mrInfo) {
@@ -7,6 +7,7 @@ import de.tum.cit.aet.hephaestus.integration.slack.mentor.SlackMentorIdentityRes
 import de.tum.cit.aet.hephaestus.integration.slack.mentor.SlackStreamingMentorChannel;
 import de.tum.cit.aet.hephaestus.integration.slack.messaging.SlackMessageService;
 import de.tum.cit.aet.hephaestus.integration.slack.onboarding.SlackOnboardingService;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +32,7 @@ public class SlackMentorService {
     private final SlackMentorInputGuard inputGuard;
     private final SlackOnboardingService onboardingService;
     private final MentorReadinessQuery mentorReadinessQuery;
+    private final MeterRegistry meterRegistry;
 
     public SlackMentorService(
         SlackWorkspaceResolver workspaceResolver,
@@ -40,7 +42,8 @@ public class SlackMentorService {
         SlackMentorIdentityResolver identityResolver,
         SlackMentorInputGuard inputGuard,
         SlackOnboardingService onboardingService,
-        MentorReadinessQuery mentorReadinessQuery
+        MentorReadinessQuery mentorReadinessQuery,
+        MeterRegistry meterRegistry
     ) {
         this.workspaceResolver = workspaceResolver;
         this.threadLinker = threadLinker;
@@ -50,6 +53,7 @@ public class SlackMentorService {
         this.inputGuard = inputGuard;
         this.onboardingService = onboardingService;
         this.mentorReadinessQuery = mentorReadinessQuery;
+        this.meterRegistry = meterRegistry;
     }
 
     private record Developer(String login) {}
@@ -119,7 +123,8 @@ public class SlackMentorService {
             slackMessageService,
             workspaceId,
             channelId,
-            threadTs
+            threadTs,
+            meterRegistry
         );
         mentorTurnRunner.run(
             MentorTurnRequest.slackDm(
@@ -2,28 +2,51 @@ package de.tum.cit.aet.hephaestus.integration.slack.mentor;
 
 import de.tum.cit.aet.hephaestus.agent.mentor.chat.MentorChannel;
 import de.tum.cit.aet.hephaestus.agent.mentor.chat.wire.UIMessageChunk;
+import de.tum.cit.aet.hephaestus.integration.core.spi.RateLimitSnapshot;
 import de.tum.cit.aet.hephaestus.integration.slack.messaging.SlackMessageService;
 import de.tum.cit.aet.hephaestus.integration.slack.messaging.SlackSendException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Streams mentor output to Slack with bounded buffering and retry. */
+/**
+ * Streams mentor output to Slack with bounded buffering and retry. One instance writes one stream (one channel,
+ * one streaming message {@code ts}), so it is the single place that stream's appends are coalesced: model deltas
+ * are buffered and each flush merges everything pending into one {@code chat.appendStream} call.
+ *
+ * <p>The flush cadence adapts to the workspace's observed Slack throttling. Slack reports no remaining budget
+ * (see {@code SlackRateLimitTracker}), so headroom is read from its 429s: while a {@code Retry-After} is running
+ * the next flush waits it out instead of spending a call on a certain 429, and for a while after a throttle the
+ * cadence is stretched, because every concurrent turn in the workspace shares the per-method tier.
+ *
+ * <p>Metrics, recorded once per finished turn: {@code slack.stream.calls} (start and append calls made) and
+ * {@code slack.stream.calls.saved} (model deltas that did not cost a call of their own).
+ */
 public class SlackStreamingMentorChannel implements MentorChannel {
 
     private static final Logger log = LoggerFactory.getLogger(SlackStreamingMentorChannel.class);
 
     /** Flush cadence. Slack animates between appends; one append per second avoids noisy API churn. */
     private static final long FLUSH_INTERVAL_MS = 1000;
+    /** Cadence while the workspace was throttled within {@link #RECENT_THROTTLE_WINDOW}: its tier has no headroom. */
+    private static final long THROTTLED_FLUSH_INTERVAL_MS = 3000;
+    /** How long after a 429 the cadence stays stretched. Slack's tiers are per-minute budgets. */
+    private static final Duration RECENT_THROTTLE_WINDOW = Duration.ofMinutes(1);
     /** First flush shortly after the first delta, for a snappy first paint (well under the 2-minute status timeout). */
     private static final long INITIAL_DELAY_MS = 350;
     /** Cap a single append below Slack's 12k {@code markdown_text} limit; also bounds how long one giant token is held. */
@@ -56,11 +79,16 @@ public class SlackStreamingMentorChannel implements MentorChannel {
     private final String threadTs;
     private final SlackMentorTextFilter textFilter = new SlackMentorTextFilter();
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
         Thread t = new Thread(r, "slack-mentor-stream");
         t.setDaemon(true);
         return t;
     });
+    private final @Nullable MeterRegistry meterRegistry;
+    /** Model text deltas received; each would have been one append without coalescing. */
+    private final AtomicInteger deltas = new AtomicInteger();
+    /** Successful start/append calls. */
+    private final AtomicInteger writes = new AtomicInteger();
 
     private final StringBuilder pending = new StringBuilder();
     private final ReentrantLock lock = new ReentrantLock();
@@ -80,10 +108,23 @@ public class SlackStreamingMentorChannel implements MentorChannel {
     private int consecutiveRateLimits; // flush-thread only
 
     public SlackStreamingMentorChannel(SlackMessageService slack, long workspaceId, String channel, String threadTs) {
+        this(slack, workspaceId, channel, threadTs, null);
+    }
+
+    public SlackStreamingMentorChannel(
+        SlackMessageService slack,
+        long workspaceId,
+        String channel,
+        String threadTs,
+        @Nullable MeterRegistry meterRegistry
+    ) {
         this.slack = slack;
         this.workspaceId = workspaceId;
         this.channel = channel;
         this.threadTs = threadTs;
+        this.meterRegistry = meterRegistry;
+        // A cancelled or not-yet-due flush must not run once finish() has shut the loop down.
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
     }
 
     @Override
@@ -112,6 +153,7 @@ public class SlackStreamingMentorChannel implements MentorChannel {
             return;
         }
         if (chunk instanceof UIMessageChunk.TextDelta delta) {
+            deltas.incrementAndGet();
             append(textFilter.onDelta(delta.delta()));
             ensureFlushing();
         } else if (chunk instanceof UIMessageChunk.Error error) {
@@ -170,20 +212,26 @@ public class SlackStreamingMentorChannel implements MentorChannel {
         }
     }
 
-    /** Start the periodic flush loop once (idempotent); driven off {@link #startKeepAlive}/{@link #send}. */
+    /** Start the flush loop once (idempotent); driven off {@link #startKeepAlive}/{@link #send}. */
     private void ensureFlushing() {
         if (done.get() || terminated.get() || !flushing.compareAndSet(false, true)) {
             return;
         }
-        flushTask = scheduler.scheduleWithFixedDelay(
-            this::tick,
-            INITIAL_DELAY_MS,
-            FLUSH_INTERVAL_MS,
-            TimeUnit.MILLISECONDS
-        );
+        scheduleTick(INITIAL_DELAY_MS);
+    }
+
+    private void scheduleTick(long delayMs) {
+        try {
+            flushTask = scheduler.schedule(this::tick, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException stopped) {
+            // finish() shut the loop down while this tick ran; the terminal write takes the rest.
+        }
     }
 
-    /** One flush tick: drain a whitespace-aligned prefix and write it to Slack. Runs single-threaded. */
+    /**
+     * One flush tick: drain a whitespace-aligned prefix and write it to Slack, then schedule the next tick at the
+     * cadence the workspace's throttling allows. Runs single-threaded.
+     */
     private void tick() {
         if (done.get() || terminated.get()) {
             return;
@@ -192,6 +240,29 @@ public class SlackStreamingMentorChannel implements MentorChannel {
         if (toSend != null) {
             write(toSend);
         }
+        if (!done.get() && !terminated.get()) {
+            scheduleTick(flushDelayMs(slack.throttleSnapshot(workspaceId), Instant.now()));
+        }
+    }
+
+    /**
+     * Delay until the next flush: the base cadence with no throttle on record, the rest of a running
+     * {@code Retry-After} (capped at {@value #MAX_RATE_LIMIT_WAIT_MS} ms), or the stretched cadence for
+     * {@link #RECENT_THROTTLE_WINDOW} after a 429.
+     */
+    static long flushDelayMs(@Nullable RateLimitSnapshot throttle, Instant now) {
+        if (throttle == null) {
+            return FLUSH_INTERVAL_MS;
+        }
+        Instant until = throttle.throttledUntil();
+        if (until != null && until.isAfter(now)) {
+            long remaining = Math.min(Duration.between(now, until).toMillis(), MAX_RATE_LIMIT_WAIT_MS);
+            return Math.max(remaining, FLUSH_INTERVAL_MS);
+        }
+        if (throttle.observedAt().plus(RECENT_THROTTLE_WINDOW).isAfter(now)) {
+            return THROTTLED_FLUSH_INTERVAL_MS;
+        }
+        return FLUSH_INTERVAL_MS;
     }
 
     /**
@@ -303,6 +374,7 @@ public class SlackStreamingMentorChannel implements MentorChannel {
             } else {
                 slack.appendStream(workspaceId, channel, ts, text);
             }
+            writes.incrementAndGet();
             contentDelivered.set(true);
         } finally {
             streamLock.unlock();
@@ -344,6 +416,7 @@ public class SlackStreamingMentorChannel implements MentorChannel {
         }
 
         if (terminated.get()) {
+            recordCoalescing();
             return; // target is gone; nothing to finalize
         }
         // A turn that finishes before the first flush tick (or leaves a tail) writes here. No further tick will
@@ -353,6 +426,7 @@ public class SlackStreamingMentorChannel implements MentorChannel {
         if (!body.isBlank() || unopened) {
             terminalWrite(body);
         }
+        // Everything buffered went out above, so the stop below never finalizes a stream with text still pending.
         try {
             String ts = streamTs.get();
             if (ts != null && !terminated.get()) {
@@ -362,6 +436,22 @@ public class SlackStreamingMentorChannel implements MentorChannel {
             // Terminals never throw (contract). A gone recipient just means the stream is already finalized.
             log.debug("Slack stream finalize skipped (channel={}): {}", channel, e.getMessage());
         }
+        recordCoalescing();
+    }
+
+    private void recordCoalescing() {
+        if (meterRegistry == null) {
+            return;
+        }
+        int calls = writes.get();
+        DistributionSummary.builder("slack.stream.calls")
+            .description("Slack start/append calls one mentor turn made")
+            .register(meterRegistry)
+            .record(calls);
+        DistributionSummary.builder("slack.stream.calls.saved")
+            .description("Model deltas per mentor turn that were merged into another delta's Slack call")
+            .register(meterRegistry)
+            .record(Math.max(0, deltas.get() - calls));
     }
 
     /** Terminal content write (open or append) with a few transient retries — the flush loop is already stopped. */
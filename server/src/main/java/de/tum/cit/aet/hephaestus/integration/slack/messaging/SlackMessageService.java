@@ -28,6 +28,7 @@ import de.tum.cit.aet.hephaestus.integration.core.egress.OutboundEgressSuppresse
 import de.tum.cit.aet.hephaestus.integration.core.spi.ApiCredentialProvider.BearerToken;
 import de.tum.cit.aet.hephaestus.integration.core.spi.IntegrationKind;
 import de.tum.cit.aet.hephaestus.integration.core.spi.IntegrationRef;
+import de.tum.cit.aet.hephaestus.integration.core.spi.RateLimitSnapshot;
 import de.tum.cit.aet.hephaestus.integration.slack.credentials.SlackCredentialProvider;
 import java.io.IOException;
 import java.time.Duration;
@@ -263,6 +264,15 @@ public class SlackMessageService {
         }
     }
 
+    /**
+     * The workspace's last observed Slack throttle, or {@code null} if Slack never throttled it; see
+     * {@link SlackRateLimitTracker#snapshot}. Streaming callers pace their appends off it.
+     */
+    @Nullable
+    public RateLimitSnapshot throttleSnapshot(long workspaceId) {
+        return rateLimitTracker.snapshot(workspaceId);
+    }
+
     /** Append a Markdown delta to an in-progress stream. Throws with the Slack error so callers can detect a gone recipient. */
     public void appendStream(long workspaceId, String channel, String ts, String markdownText) {
         if (!egressGuard.deliveryAllowed("slack.write")) {
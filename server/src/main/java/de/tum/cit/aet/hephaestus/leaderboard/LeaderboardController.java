@@ -1,5 +1,6 @@
 package de.tum.cit.aet.hephaestus.leaderboard;
 
+import de.tum.cit.aet.hephaestus.core.EntityTagPrecondition;
 import de.tum.cit.aet.hephaestus.core.LoggingUtils;
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
 import de.tum.cit.aet.hephaestus.workspace.context.WorkspaceContext;
@@ -13,13 +14,18 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -39,6 +45,7 @@ public class LeaderboardController {
     private static final Logger log = LoggerFactory.getLogger(LeaderboardController.class);
 
     private final LeaderboardService leaderboardService;
+    private final LeaderboardSnapshotCache snapshotCache;
     private final WorkspaceContextResolver workspaceResolver;
 
     /**
@@ -47,7 +54,11 @@ public class LeaderboardController {
      * <p>Time range semantics: [after, before) - inclusive start, exclusive end.
      * This is the standard half-open interval convention for time ranges.
      *
+     * <p>Served from {@link LeaderboardSnapshotCache}. The response carries an ETag over the entries; a
+     * poll that sends it back in {@code If-None-Match} gets {@code 304 Not Modified} without a body.
+     *
      * @param workspaceContext the resolved workspace context
+     * @param ifNoneMatch ETag(s) of a previously received leaderboard, if any
      * @param after start of the time range (inclusive)
      * @param before end of the time range (exclusive)
      * @param team team filter for INDIVIDUAL mode ("all" for no filter)
@@ -63,6 +74,10 @@ public class LeaderboardController {
     @SecurityRequirements
     public ResponseEntity<List<LeaderboardEntryDTO>> getLeaderboard(
         WorkspaceContext workspaceContext,
+        @Parameter(description = "ETag of a previously received leaderboard") @RequestHeader(
+            name = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) @Nullable String ifNoneMatch,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant after,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant before,
         @Parameter(
@@ -75,7 +90,18 @@ public class LeaderboardController {
     ) {
         Workspace workspace = workspaceResolver.requireWorkspace(workspaceContext);
         log.info("Received leaderboard request: workspaceId={}, mode={}", workspace.getId(), mode);
-        return ResponseEntity.ok(leaderboardService.createLeaderboard(workspace, after, before, team, sort, mode));
+        LeaderboardSnapshotCache.Snapshot snapshot = snapshotCache.get(workspace, after, before, team, sort, mode);
+        String etag = EntityTagPrecondition.format(snapshot.etag());
+        // no-cache lets browsers keep the body but revalidate every poll (Spring Security's default is no-store).
+        CacheControl revalidate = CacheControl.noCache();
+        if (
+            ifNoneMatch != null &&
+            !ifNoneMatch.isBlank() &&
+            EntityTagPrecondition.parse(ifNoneMatch).matchesWeakly(snapshot.etag())
+        ) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(revalidate).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(revalidate).body(snapshot.entries());
     }
 
     /**
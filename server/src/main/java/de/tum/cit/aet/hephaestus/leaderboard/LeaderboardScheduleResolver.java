@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.leaderboard;
 
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -21,9 +22,11 @@ import org.springframework.stereotype.Component;
 public class LeaderboardScheduleResolver {
 
     private final LeaderboardProperties leaderboardProperties;
+    private final Clock clock;
 
-    public LeaderboardScheduleResolver(LeaderboardProperties leaderboardProperties) {
+    public LeaderboardScheduleResolver(LeaderboardProperties leaderboardProperties, Clock clock) {
         this.leaderboardProperties = leaderboardProperties;
+        this.clock = clock;
     }
 
     /** Effective day-of-week (1=Monday … 7=Sunday), workspace override or global default. */
@@ -55,14 +58,35 @@ public class LeaderboardScheduleResolver {
      * workspace.
      */
     public CycleWindow previousCycleWindow(Workspace workspace) {
+        ZonedDateTime before = lastCycleEnd(workspace);
+        return new CycleWindow(before.minusWeeks(1).toInstant(), before.toInstant());
+    }
+
+    /**
+     * The running weekly cycle for this workspace: starts where {@link #previousCycleWindow} ends and
+     * closes at the next scheduled day+time. This is the window the dashboard's "this week" view asks for.
+     */
+    public CycleWindow currentCycleWindow(Workspace workspace) {
+        ZonedDateTime after = lastCycleEnd(workspace);
+        return new CycleWindow(after.toInstant(), after.plusWeeks(1).toInstant());
+    }
+
+    /**
+     * Most recent scheduled day+time at-or-before now. On the scheduled day but before the scheduled time,
+     * {@code previousOrSame} lands later today, so the cycle that is actually closed ended a week earlier —
+     * the same step back as the webapp's {@code getLeaderboardWeekStart}. Evaluated in the server's default
+     * zone, the zone {@link LeaderboardTaskScheduler} registers the cron trigger in.
+     */
+    private ZonedDateTime lastCycleEnd(Workspace workspace) {
         String[] parts = time(workspace).split(":");
-        ZonedDateTime before = ZonedDateTime.now(ZoneId.systemDefault())
+        ZonedDateTime now = ZonedDateTime.ofInstant(clock.instant(), ZoneId.systemDefault());
+        ZonedDateTime end = now
             .with(TemporalAdjusters.previousOrSame(DayOfWeek.of(day(workspace))))
             .withHour(Integer.parseInt(parts[0]))
             .withMinute(parts.length > 1 ? Integer.parseInt(parts[1]) : 0)
             .withSecond(0)
             .withNano(0);
-        return new CycleWindow(before.minusWeeks(1).toInstant(), before.toInstant());
+        return end.isAfter(now) ? end.minusWeeks(1) : end;
     }
 
     /** Half-open weekly window {@code [after, before)} for one leaderboard cycle. */
@@ -0,0 +1,203 @@
+package de.tum.cit.aet.hephaestus.leaderboard;
+
+import de.tum.cit.aet.hephaestus.activity.ActivitySavedEvent;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Built leaderboards, keyed by {@code (workspace, window, mode, sort, team)}, so dashboards polling the same
+ * view share one {@link LeaderboardService#createLeaderboard} run instead of each repeating the XP, review and
+ * team-hierarchy reads.
+ *
+ * <p>Concurrent misses on one key block on a single build (Caffeine computes per key), which is what keeps
+ * the weekly-digest burst — everyone opening the same week at once — down to one build per replica.
+ *
+ * <h2>Invalidation</h2>
+ * An {@link ActivitySavedEvent} evicts only the snapshots of its workspace whose {@code [after, before)}
+ * window contains the activity's {@code occurredAt}; other windows keep serving. {@link #evictWorkspace}
+ * drops every snapshot of a workspace after its league points moved. Evictions reach the other replicas
+ * through the cluster cache bus, but only for keys this replica holds, so the cache's TTL
+ * ({@code CacheConfig}) bounds how long another replica can serve a window this one never built. Changes
+ * that do not go through the activity ledger (hidden members, team visibility) are also left to the TTL.
+ *
+ * <p>Each snapshot carries a content hash of its entries, used by {@link LeaderboardController} as the
+ * response ETag; it is identical on every replica that built the same data.
+ */
+@Component
+public class LeaderboardSnapshotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardSnapshotCache.class);
+
+    public static final String CACHE_NAME = "leaderboard_snapshots";
+
+    private final LeaderboardService leaderboardService;
+    private final ObjectMapper objectMapper;
+    private final Cache cache;
+
+    public LeaderboardSnapshotCache(
+        LeaderboardService leaderboardService,
+        ObjectMapper objectMapper,
+        CacheManager cacheManager
+    ) {
+        this.leaderboardService = leaderboardService;
+        this.objectMapper = objectMapper;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "cache not configured: " + CACHE_NAME);
+    }
+
+    /** The leaderboard for these parameters, built on a miss. Same semantics as {@code createLeaderboard}. */
+    public Snapshot get(
+        Workspace workspace,
+        Instant after,
+        Instant before,
+        String team,
+        LeaderboardSortType sort,
+        LeaderboardMode mode
+    ) {
+        if (workspace == null || workspace.getId() == null) {
+            return snapshot(leaderboardService.createLeaderboard(workspace, after, before, team, sort, mode));
+        }
+        SnapshotKey key = new SnapshotKey(workspace.getId(), after, before, mode, sort, team);
+        try {
+            return Objects.requireNonNull(
+                cache.get(key.toCacheKey(), () ->
+                    snapshot(leaderboardService.createLeaderboard(workspace, after, before, team, sort, mode))
+                )
+            );
+        } catch (Cache.ValueRetrievalException e) {
+            // Surface the build's own failure (e.g. an unknown team path -> 404) instead of the cache wrapper.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** Drops the snapshots whose window saw this activity. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivitySaved(ActivitySavedEvent event) {
+        if (event.workspaceId() == null) {
+            return;
+        }
+        Instant occurredAt = event.occurredAt();
+        int evicted = evictMatching(key ->
+            key.workspaceId() == event.workspaceId() && (occurredAt == null || key.covers(occurredAt))
+        );
+        if (evicted > 0) {
+            log.debug(
+                "Evicted leaderboard snapshots: workspaceId={}, occurredAt={}, count={}",
+                event.workspaceId(),
+                occurredAt,
+                evicted
+            );
+        }
+    }
+
+    /** Drops every snapshot of the workspace, e.g. after a league-points update changed all entries. */
+    public void evictWorkspace(long workspaceId) {
+        int evicted = evictMatching(key -> key.workspaceId() == workspaceId);
+        log.debug("Evicted leaderboard snapshots: workspaceId={}, count={}", workspaceId, evicted);
+    }
+
+    private int evictMatching(Predicate<SnapshotKey> predicate) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            return 0;
+        }
+        // Snapshot the matching keys first so each evict (and its broadcast) runs outside the key-view iteration.
+        List<?> matching = nativeCache
+            .asMap()
+            .keySet()
+            .stream()
+            .filter(raw -> {
+                SnapshotKey key = SnapshotKey.parse(raw);
+                return key != null && predicate.test(key);
+            })
+            .toList();
+        matching.forEach(cache::evict);
+        return matching.size();
+    }
+
+    private Snapshot snapshot(List<LeaderboardEntryDTO> entries) {
+        List<LeaderboardEntryDTO> copy = List.copyOf(entries);
+        return new Snapshot(copy, DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(copy)));
+    }
+
+    /**
+     * One built leaderboard.
+     *
+     * @param entries the ranked entries, unmodifiable
+     * @param etag    hex content hash of {@code entries}, unquoted
+     */
+    public record Snapshot(List<LeaderboardEntryDTO> entries, String etag) {}
+
+    /**
+     * Cache key of one snapshot. Stored as a string so the cluster bus can evict it individually; TEAM mode
+     * ignores the team filter, so every team filter shares the {@code all} key there.
+     */
+    record SnapshotKey(
+        long workspaceId,
+        Instant after,
+        Instant before,
+        LeaderboardMode mode,
+        LeaderboardSortType sort,
+        String team
+    ) {
+        SnapshotKey {
+            if (mode == LeaderboardMode.TEAM) {
+                team = "all";
+            }
+        }
+
+        boolean covers(Instant instant) {
+            return !instant.isBefore(after) && instant.isBefore(before);
+        }
+
+        /** Team last: it is a free-form path and may itself contain the separator. */
+        String toCacheKey() {
+            return String.join(
+                ":",
+                Long.toString(workspaceId),
+                Long.toString(after.toEpochMilli()),
+                Long.toString(before.toEpochMilli()),
+                mode.name(),
+                sort.name(),
+                team
+            );
+        }
+
+        static @Nullable SnapshotKey parse(Object cacheKey) {
+            if (!(cacheKey instanceof String value)) {
+                return null;
+            }
+            String[] parts = value.split(":", 6);
+            if (parts.length != 6) {
+                return null;
+            }
+            try {
+                return new SnapshotKey(
+                    Long.parseLong(parts[0]),
+                    Instant.ofEpochMilli(Long.parseLong(parts[1])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    LeaderboardMode.valueOf(parts[3]),
+                    LeaderboardSortType.valueOf(parts[4]),
+                    parts[5]
+                );
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
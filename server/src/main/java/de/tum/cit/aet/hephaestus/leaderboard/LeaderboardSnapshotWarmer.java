@@ -0,0 +1,77 @@
+package de.tum.cit.aet.hephaestus.leaderboard;
+
+import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
+import de.tum.cit.aet.hephaestus.core.runtime.RuntimeRole;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import de.tum.cit.aet.hephaestus.workspace.WorkspaceRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the current-week leaderboard of every active workspace built in {@link LeaderboardSnapshotCache}, so
+ * the dashboard's default view is a cache hit even right after activity evicted it.
+ *
+ * <p>Each tick asks the cache for the default views (team {@code all}, sorted by score, individual and team
+ * mode) of {@link LeaderboardScheduleResolver#currentCycleWindow}; a snapshot that is still cached costs a
+ * lookup, only evicted or expired ones are rebuilt. There is deliberately no ShedLock: the cache is
+ * replica-local, so every replica warms its own copy.
+ */
+@Component
+@Profile("!test & !specs")
+@ConditionalOnProperty(name = RuntimeRole.SERVER_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class LeaderboardSnapshotWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardSnapshotWarmer.class);
+
+    private static final List<LeaderboardMode> MODES = List.of(LeaderboardMode.INDIVIDUAL, LeaderboardMode.TEAM);
+
+    private final LeaderboardSnapshotCache snapshotCache;
+    private final LeaderboardScheduleResolver scheduleResolver;
+    private final WorkspaceRepository workspaceRepository;
+
+    public LeaderboardSnapshotWarmer(
+        LeaderboardSnapshotCache snapshotCache,
+        LeaderboardScheduleResolver scheduleResolver,
+        WorkspaceRepository workspaceRepository
+    ) {
+        this.snapshotCache = snapshotCache;
+        this.scheduleResolver = scheduleResolver;
+        this.workspaceRepository = workspaceRepository;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${hephaestus.leaderboard.snapshot-warm-interval:PT1M}",
+        initialDelayString = "${hephaestus.leaderboard.snapshot-warm-interval:PT1M}"
+    )
+    @WorkspaceAgnostic("Snapshot warm-up fan-out: enumerates every active workspace")
+    public void warmCurrentCycle() {
+        for (Workspace workspace : workspaceRepository.findByStatus(Workspace.WorkspaceStatus.ACTIVE)) {
+            LeaderboardScheduleResolver.CycleWindow window = scheduleResolver.currentCycleWindow(workspace);
+            for (LeaderboardMode mode : MODES) {
+                try {
+                    snapshotCache.get(
+                        workspace,
+                        window.after(),
+                        window.before(),
+                        "all",
+                        LeaderboardSortType.SCORE,
+                        mode
+                    );
+                } catch (RuntimeException e) {
+                    // One workspace's failure must not leave the others cold; the next tick retries.
+                    log.warn(
+                        "Failed to warm leaderboard snapshot: workspaceId={}, mode={}, error={}",
+                        workspace.getId(),
+                        mode,
+                        e.toString()
+                    );
+                }
+            }
+        }
+    }
+}
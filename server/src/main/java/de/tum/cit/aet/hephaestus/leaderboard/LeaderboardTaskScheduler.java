@@ -86,6 +86,7 @@ public class LeaderboardTaskScheduler {
     private final TaskScheduler taskScheduler;
     private final List<LeaderboardNotificationTask> notificationTasks;
     private final LeaguePointsUpdateTask leaguePointsUpdateTask;
+    private final LeaderboardSnapshotCache snapshotCache;
     private final WorkspaceRepository workspaceRepository;
     private final LockProvider lockProvider;
 
@@ -98,6 +99,7 @@ public class LeaderboardTaskScheduler {
         TaskScheduler taskScheduler,
         List<LeaderboardNotificationTask> notificationTasks,
         LeaguePointsUpdateTask leaguePointsUpdateTask,
+        LeaderboardSnapshotCache snapshotCache,
         WorkspaceRepository workspaceRepository,
         LockProvider lockProvider
     ) {
@@ -106,6 +108,7 @@ public class LeaderboardTaskScheduler {
         this.taskScheduler = taskScheduler;
         this.notificationTasks = notificationTasks;
         this.leaguePointsUpdateTask = leaguePointsUpdateTask;
+        this.snapshotCache = snapshotCache;
         this.workspaceRepository = workspaceRepository;
         this.lockProvider = lockProvider;
     }
@@ -209,6 +212,8 @@ public class LeaderboardTaskScheduler {
 
         try {
             leaguePointsUpdateTask.runForWorkspace(workspace);
+            // Entries carry league points; the update has committed, so every cached window is stale.
+            snapshotCache.evictWorkspace(workspaceId);
         } catch (RuntimeException e) {
             log.error("League points update failed: workspaceId={}", workspaceId, e);
         }
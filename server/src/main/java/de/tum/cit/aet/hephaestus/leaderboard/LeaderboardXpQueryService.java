@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.toSet;
 import de.tum.cit.aet.hephaestus.activity.ActivityBreakdownProjection;
 import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
 import de.tum.cit.aet.hephaestus.activity.ActivityXpProjection;
+import de.tum.cit.aet.hephaestus.activity.ActivityXpRollupService;
 import de.tum.cit.aet.hephaestus.activity.scoring.XpPrecision;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.UserRepository;
@@ -22,7 +23,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** Reads leaderboard XP totals and activity breakdowns from the activity event ledger. */
+/**
+ * Reads leaderboard XP totals and activity breakdowns from the activity event ledger.
+ *
+ * <p>Workspace-wide leaderboards go through {@link ActivityXpRollupService}, which serves whole UTC days
+ * from the daily rollup; team-filtered leaderboards need per-event repository and label filters and
+ * therefore still aggregate the raw ledger.
+ */
 @Service
 @RequiredArgsConstructor
 public class LeaderboardXpQueryService {
@@ -30,6 +37,7 @@ public class LeaderboardXpQueryService {
     private static final Logger log = LoggerFactory.getLogger(LeaderboardXpQueryService.class);
 
     private final ActivityEventRepository activityEventRepository;
+    private final ActivityXpRollupService activityXpRollupService;
     private final UserRepository userRepository;
     private final ProfilePullRequestQueryRepository profilePullRequestQueryRepository;
 
@@ -53,10 +61,10 @@ public class LeaderboardXpQueryService {
             teamIds.isEmpty() ? "all" : teamIds
         );
 
-        // 1. Get XP totals from activity_event table
+        // 1. Get XP totals (daily rollup + ledger edges, or the ledger alone for team filters)
         List<ActivityXpProjection> xpData;
         if (teamIds.isEmpty()) {
-            xpData = activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(workspaceId, since, until);
+            xpData = activityXpRollupService.findExperiencePoints(workspaceId, since, until);
         } else {
             xpData = activityEventRepository.findExperiencePointsByWorkspaceAndTeamsAndTimeframe(
                 workspaceId,
@@ -76,7 +84,7 @@ public class LeaderboardXpQueryService {
 
         // 3. Get activity breakdown by type
         List<ActivityBreakdownProjection> breakdown = teamIds.isEmpty()
-            ? activityEventRepository.findActivityBreakdown(workspaceId, actorIds, since, until)
+            ? activityXpRollupService.findActivityBreakdown(workspaceId, actorIds, since, until)
             : activityEventRepository.findActivityBreakdownByWorkspaceAndTeams(
                   workspaceId,
                   teamIds,
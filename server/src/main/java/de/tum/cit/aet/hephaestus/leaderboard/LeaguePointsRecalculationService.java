@@ -2,6 +2,7 @@ package de.tum.cit.aet.hephaestus.leaderboard;
 
 import static de.tum.cit.aet.hephaestus.leaderboard.LeaguePointsConstants.POINTS_DEFAULT;
 
+import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.UserRepository;
 import de.tum.cit.aet.hephaestus.workspace.LeaguePointsRecalculator;
@@ -10,12 +11,15 @@ import de.tum.cit.aet.hephaestus.workspace.WorkspaceContributionActivityService;
 import de.tum.cit.aet.hephaestus.workspace.WorkspaceMembership;
 import de.tum.cit.aet.hephaestus.workspace.WorkspaceMembershipRepository;
 import de.tum.cit.aet.hephaestus.workspace.WorkspaceMembershipService;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -23,8 +27,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service responsible for recalculating league points for all members of a workspace.
- * This service iterates through historical contribution windows and updates each member's
- * league points based on their leaderboard performance in each window.
+ * This service replays historical 7-day contribution windows and derives each member's
+ * league points from their leaderboard performance in each window.
+ *
+ * <p>The replay is a single pass: windowed XP is streamed from the activity ledger once, ranked in memory by
+ * {@link LeaguePointsReplay}, and the resulting points are written in one batch. Member metadata (first
+ * contribution, new-player status) is resolved with grouped queries rather than per member, so the cost no
+ * longer grows with members × weeks.
  *
  * <p>Implements {@link LeaguePointsRecalculator} to allow the workspace module to trigger
  * recalculation without creating a cyclic dependency.
@@ -34,10 +43,12 @@ public class LeaguePointsRecalculationService implements LeaguePointsRecalculato
 
     private static final Logger log = LoggerFactory.getLogger(LeaguePointsRecalculationService.class);
 
+    static final Duration WINDOW = Duration.ofDays(7);
+
     private final WorkspaceMembershipRepository workspaceMembershipRepository;
     private final WorkspaceMembershipService workspaceMembershipService;
     private final WorkspaceContributionActivityService workspaceContributionActivityService;
-    private final LeaderboardService leaderboardService;
+    private final ActivityEventRepository activityEventRepository;
     private final LeaguePointsService leaguePointsService;
     private final UserRepository userRepository;
 
@@ -45,14 +56,14 @@ public class LeaguePointsRecalculationService implements LeaguePointsRecalculato
         WorkspaceMembershipRepository workspaceMembershipRepository,
         WorkspaceMembershipService workspaceMembershipService,
         WorkspaceContributionActivityService workspaceContributionActivityService,
-        LeaderboardService leaderboardService,
+        ActivityEventRepository activityEventRepository,
         LeaguePointsService leaguePointsService,
         UserRepository userRepository
     ) {
         this.workspaceMembershipRepository = workspaceMembershipRepository;
         this.workspaceMembershipService = workspaceMembershipService;
         this.workspaceContributionActivityService = workspaceContributionActivityService;
-        this.leaderboardService = leaderboardService;
+        this.activityEventRepository = activityEventRepository;
         this.leaguePointsService = leaguePointsService;
         this.userRepository = userRepository;
     }
@@ -67,8 +78,7 @@ public class LeaguePointsRecalculationService implements LeaguePointsRecalculato
 
         Long workspaceId = workspace.getId();
         log.info("Started league points recalculation: workspaceId={}", workspaceId);
-
-        workspaceMembershipService.resetLeaguePoints(workspaceId, POINTS_DEFAULT);
+        long startedAt = System.nanoTime();
 
         List<WorkspaceMembership> memberships = workspaceMembershipRepository.findAllWithUserByWorkspaceId(workspaceId);
         if (memberships.isEmpty()) {
@@ -76,33 +86,22 @@ public class LeaguePointsRecalculationService implements LeaguePointsRecalculato
             return;
         }
 
-        Map<Long, User> memberUsersById = new HashMap<>();
-        Map<Long, Integer> currentPointsByUserId = new HashMap<>();
-        Map<Long, Instant> firstContributionByUserId = new HashMap<>();
-
+        Set<Long> memberIds = new HashSet<>();
         memberships.forEach(membership -> {
             User memberUser = membership.getUser();
-            if (!isProcessableUser(memberUser)) {
-                return;
+            if (isProcessableUser(memberUser)) {
+                memberIds.add(memberUser.getId());
             }
-
-            Long userId = memberUser.getId();
-            User hydratedUser = userRepository
-                .findByLoginWithEagerMergedPullRequests(memberUser.getLogin())
-                .orElse(memberUser);
-            memberUsersById.put(userId, hydratedUser);
-            currentPointsByUserId.put(userId, POINTS_DEFAULT);
-            Instant firstContribution = workspaceContributionActivityService
-                .findFirstContributionInstant(workspaceId, userId)
-                .orElse(null);
-            firstContributionByUserId.put(userId, firstContribution);
         });
 
-        if (memberUsersById.isEmpty()) {
+        if (memberIds.isEmpty()) {
+            workspaceMembershipService.applyLeaguePoints(workspaceId, Map.of(), POINTS_DEFAULT);
             log.info("Skipped league points recalculation: reason=noEligibleMembers, workspaceId={}", workspaceId);
             return;
         }
 
+        Map<Long, Instant> firstContributionByUserId =
+            workspaceContributionActivityService.findFirstContributionInstants(workspaceId, memberIds);
         Instant earliestContribution = firstContributionByUserId
             .values()
             .stream()
@@ -111,77 +110,62 @@ public class LeaguePointsRecalculationService implements LeaguePointsRecalculato
             .orElse(null);
 
         if (earliestContribution == null) {
+            workspaceMembershipService.applyLeaguePoints(workspaceId, Map.of(), POINTS_DEFAULT);
             log.info("Skipped league points recalculation: reason=noContributions, workspaceId={}", workspaceId);
             return;
         }
 
-        Instant recalculationAnchor = Instant.now();
-        Instant windowStart = earliestContribution;
-
-        while (windowStart.isBefore(recalculationAnchor)) {
-            Instant windowEnd = windowStart.plus(7, ChronoUnit.DAYS);
-            if (windowEnd.isAfter(recalculationAnchor)) {
-                windowEnd = recalculationAnchor;
-            }
-
-            List<LeaderboardEntryDTO> leaderboardEntries = leaderboardService.createLeaderboard(
-                workspace,
-                windowStart,
-                windowEnd,
-                "all",
-                LeaderboardSortType.SCORE,
-                LeaderboardMode.INDIVIDUAL
-            );
-
-            Instant windowEndSnapshot = windowEnd;
-            leaderboardEntries.forEach(entry ->
-                updateMemberPointsForEntry(
-                    workspaceId,
-                    entry,
-                    memberUsersById,
-                    firstContributionByUserId,
-                    currentPointsByUserId,
-                    windowEndSnapshot
+        Set<Long> establishedUserIds = new HashSet<>(
+            userRepository.findIdsWithMergedPullRequestBefore(memberIds, leaguePointsService.newPlayerThreshold())
+        );
+        Map<Long, LeaguePointsReplay.Member> members = new HashMap<>();
+        for (Long userId : memberIds) {
+            members.put(
+                userId,
+                new LeaguePointsReplay.Member(
+                    userId,
+                    !establishedUserIds.contains(userId),
+                    firstContributionByUserId.get(userId)
                 )
             );
-
-            if (!windowEnd.isAfter(windowStart)) {
-                break;
-            }
-
-            windowStart = windowEnd;
-        }
-
-        log.info("Completed league points recalculation: workspaceId={}", workspaceId);
-    }
-
-    private void updateMemberPointsForEntry(
-        Long workspaceId,
-        LeaderboardEntryDTO entry,
-        Map<Long, User> memberUsersById,
-        Map<Long, Instant> firstContributionByUserId,
-        Map<Long, Integer> currentPointsByUserId,
-        Instant windowEnd
-    ) {
-        if (entry == null || entry.user() == null || entry.user().id() == null) {
-            return;
         }
 
-        Long userId = entry.user().id();
-        User memberUser = memberUsersById.get(userId);
-        if (memberUser == null) {
-            return;
+        Instant recalculationAnchor = Instant.now();
+        LeaguePointsReplay replay = new LeaguePointsReplay(
+            earliestContribution,
+            recalculationAnchor,
+            WINDOW,
+            members,
+            workspaceMembershipService.getHiddenMemberIds(workspaceId),
+            leaguePointsService
+        );
+
+        try (
+            Stream<ActivityEventRepository.WindowXpProjection> rows =
+                activityEventRepository.streamExperiencePointsByWindow(
+                    workspaceId,
+                    earliestContribution,
+                    recalculationAnchor,
+                    WINDOW.toSeconds()
+                )
+        ) {
+            rows.forEach(row -> {
+                if (row.getActorId() != null && row.getWindowIndex() != null) {
+                    double xp = row.getExperiencePoints() != null ? row.getExperiencePoints() : 0.0;
+                    replay.accept(row.getActorId(), row.getWindowIndex(), xp);
+                }
+            });
         }
 
-        Instant firstContribution = firstContributionByUserId.get(userId);
-        if (firstContribution == null || !windowEnd.isAfter(firstContribution)) {
-            return;
-        }
+        workspaceMembershipService.applyLeaguePoints(workspaceId, replay.finish(), POINTS_DEFAULT);
 
-        int currentPoints = currentPointsByUserId.getOrDefault(userId, POINTS_DEFAULT);
-        int newPoints = leaguePointsService.calculateNewPoints(memberUser, currentPoints, entry);
-        currentPointsByUserId.put(userId, newPoints);
-        workspaceMembershipService.updateLeaguePoints(workspaceId, memberUser, newPoints);
+        log.info(
+            "Completed league points recalculation: workspaceId={}, members={}, windows={}, durationMs={}",
+            workspaceId,
+            members.size(),
+            replay.windowCount(),
+            Duration.ofNanos(System.nanoTime() - startedAt).toMillis()
+        );
     }
 
     private boolean isProcessableUser(User user) {
@@ -0,0 +1,156 @@
+package de.tum.cit.aet.hephaestus.leaderboard;
+
+import static de.tum.cit.aet.hephaestus.leaderboard.LeaguePointsConstants.POINTS_DEFAULT;
+
+import de.tum.cit.aet.hephaestus.activity.scoring.XpPrecision;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-memory fold over windowed XP that reproduces the week-by-week league points history of a workspace.
+ *
+ * <p>Equivalent to building an {@code "all"}/{@link LeaderboardSortType#SCORE} individual leaderboard for every
+ * window and feeding each member's entry into {@link LeaguePointsService}, but fed from a single ledger scan:
+ * callers push per-window XP rows in window order through {@link #accept}, and {@link #finish} closes the
+ * remaining windows — including empty ones, so decay still applies to idle stretches.
+ *
+ * <p>Ranking per window mirrors the leaderboard: every scored actor plus every member padded with zero,
+ * hidden members removed, ordered by score descending. Ties are broken by user id so replays are repeatable.
+ *
+ * <p>Not thread-safe; one instance per recalculation.
+ */
+final class LeaguePointsReplay {
+
+    private static final Comparator<Map.Entry<Long, Integer>> BY_SCORE_THEN_ID =
+        Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    /**
+     * A workspace member taking part in the replay.
+     *
+     * @param newPlayer whether the K-factor for new players applies
+     * @param firstContribution the member's first contribution; members are only updated in windows that
+     *     end after it, and never when it is {@code null}
+     */
+    record Member(long userId, boolean newPlayer, @Nullable Instant firstContribution) {}
+
+    private final Instant anchor;
+    private final Instant until;
+    private final Duration window;
+    private final int windowCount;
+    private final Map<Long, Member> members;
+    private final Set<Long> hiddenUserIds;
+    private final LeaguePointsService leaguePointsService;
+
+    private final Map<Long, Integer> pointsByUserId = new HashMap<>();
+    private final Map<Long, Double> currentWindowXp = new HashMap<>();
+    private int currentWindow = 0;
+
+    LeaguePointsReplay(
+        Instant anchor,
+        Instant until,
+        Duration window,
+        Map<Long, Member> members,
+        Set<Long> hiddenUserIds,
+        LeaguePointsService leaguePointsService
+    ) {
+        if (!window.isPositive()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.anchor = anchor;
+        this.until = until;
+        this.window = window;
+        this.windowCount = anchor.isBefore(until) ? windowCountBetween(anchor, until, window) : 0;
+        this.members = members;
+        this.hiddenUserIds = hiddenUserIds;
+        this.leaguePointsService = leaguePointsService;
+        members.keySet().forEach(userId -> pointsByUserId.put(userId, POINTS_DEFAULT));
+    }
+
+    /** Number of windows, the last one possibly truncated at {@code until}. */
+    int windowCount() {
+        return windowCount;
+    }
+
+    /**
+     * Adds one actor's XP for one window. Rows must arrive in non-decreasing window order; rows for windows
+     * outside {@code [0, windowCount)} are ignored.
+     */
+    void accept(long actorId, int windowIndex, double experiencePoints) {
+        if (windowIndex < 0 || windowIndex >= windowCount) {
+            return;
+        }
+        if (windowIndex < currentWindow) {
+            throw new IllegalStateException(
+                "Windows must be fed in order: got " + windowIndex + " after " + currentWindow
+            );
+        }
+        closeWindowsBefore(windowIndex);
+        currentWindowXp.merge(actorId, experiencePoints, Double::sum);
+    }
+
+    /**
+     * Closes all remaining windows and returns the final league points per member.
+     */
+    Map<Long, Integer> finish() {
+        closeWindowsBefore(windowCount);
+        return pointsByUserId;
+    }
+
+    private void closeWindowsBefore(int windowIndex) {
+        while (currentWindow < windowIndex) {
+            closeWindow(currentWindow);
+            currentWindowXp.clear();
+            currentWindow++;
+        }
+    }
+
+    private void closeWindow(int windowIndex) {
+        Instant windowEnd = windowEnd(windowIndex);
+
+        Map<Long, Integer> scores = new HashMap<>();
+        currentWindowXp.forEach((actorId, xp) -> scores.put(actorId, XpPrecision.roundToInt(xp)));
+        members.keySet().forEach(userId -> scores.putIfAbsent(userId, 0));
+        scores.keySet().removeAll(hiddenUserIds);
+
+        List<Map.Entry<Long, Integer>> ranking = new ArrayList<>(scores.entrySet());
+        ranking.sort(BY_SCORE_THEN_ID);
+
+        for (int index = 0; index < ranking.size(); index++) {
+            Map.Entry<Long, Integer> entry = ranking.get(index);
+            Member member = members.get(entry.getKey());
+            if (member == null || member.firstContribution() == null) {
+                continue;
+            }
+            if (!windowEnd.isAfter(member.firstContribution())) {
+                continue;
+            }
+            int currentPoints = pointsByUserId.getOrDefault(member.userId(), POINTS_DEFAULT);
+            int newPoints = leaguePointsService.calculateNewPoints(
+                member.newPlayer(),
+                currentPoints,
+                entry.getValue(),
+                index + 1
+            );
+            pointsByUserId.put(member.userId(), newPoints);
+        }
+    }
+
+    private Instant windowEnd(int windowIndex) {
+        Instant end = anchor.plus(window.multipliedBy(windowIndex + 1L));
+        return end.isAfter(until) ? until : end;
+    }
+
+    private static int windowCountBetween(Instant anchor, Instant until, Duration window) {
+        Duration span = Duration.between(anchor, until);
+        long full = span.dividedBy(window);
+        boolean partial = !window.multipliedBy(full).equals(span);
+        return Math.toIntExact(full + (partial ? 1 : 0));
+    }
+}
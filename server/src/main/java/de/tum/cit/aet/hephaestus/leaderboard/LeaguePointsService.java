@@ -52,17 +52,32 @@ public class LeaguePointsService {
         Objects.requireNonNull(user, "user must not be null");
         Objects.requireNonNull(entry, "entry must not be null");
 
+        return calculateNewPoints(isNewPlayer(user), currentLeaguePoints, entry.score(), entry.rank());
+    }
+
+    /**
+     * Calculates updated league points from precomputed inputs. Used by the bulk replay in
+     * {@link LeaguePointsReplay}, which resolves the new-player flag for all members in one query
+     * instead of loading every member's merged pull requests.
+     *
+     * @param newPlayer whether the user has not yet merged a pull request before the new-player threshold
+     * @param currentLeaguePoints current league point total
+     * @param score the user's leaderboard score for the window
+     * @param rank the user's 1-based leaderboard rank for the window
+     * @return new league point total (minimum 1)
+     */
+    public int calculateNewPoints(boolean newPlayer, int currentLeaguePoints, int score, int rank) {
         int effectivePoints = currentLeaguePoints == 0 ? POINTS_DEFAULT : currentLeaguePoints;
-        double kFactor = getKFactor(user, effectivePoints);
+        double kFactor = getKFactor(newPlayer, effectivePoints);
         int decay = calculateDecay(effectivePoints);
-        int performanceBonus = calculatePerformanceBonus(entry.score());
-        int placementBonus = calculatePlacementBonus(entry.rank());
+        int performanceBonus = calculatePerformanceBonus(score);
+        int placementBonus = calculatePlacementBonus(rank);
         int pointChange = (int) (kFactor * (performanceBonus + placementBonus - decay));
         int newPoints = Math.max(1, effectivePoints + pointChange);
 
         log.debug(
-            "Calculated league points: userLogin={}, oldPoints={}, kFactor={}, decay={}, performanceBonus={}, placementBonus={}, pointChange={}, newPoints={}",
-            user.getLogin(),
+            "Calculated league points: newPlayer={}, oldPoints={}, kFactor={}, decay={}, performanceBonus={}, placementBonus={}, pointChange={}, newPoints={}",
+            newPlayer,
             effectivePoints,
             kFactor,
             decay,
@@ -75,8 +90,15 @@ public class LeaguePointsService {
         return newPoints;
     }
 
-    private double getKFactor(User user, int currentPoints) {
-        if (isNewPlayer(user)) {
+    /**
+     * Instant before which a merged pull request makes its merger an established player.
+     */
+    Instant newPlayerThreshold() {
+        return Instant.now().minusSeconds(NEW_PLAYER_THRESHOLD_SECONDS);
+    }
+
+    private double getKFactor(boolean newPlayer, int currentPoints) {
+        if (newPlayer) {
             return K_FACTOR_NEW_PLAYER;
         }
         if (currentPoints < POINTS_THRESHOLD_LOW) {
@@ -89,7 +111,7 @@ public class LeaguePointsService {
     }
 
     private boolean isNewPlayer(User user) {
-        Instant thresholdTime = Instant.now().minusSeconds(NEW_PLAYER_THRESHOLD_SECONDS);
+        Instant thresholdTime = newPlayerThreshold();
         return user
             .getMergedPullRequests()
             .stream()
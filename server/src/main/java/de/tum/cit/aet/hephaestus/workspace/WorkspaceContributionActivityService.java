@@ -1,6 +1,10 @@
 package de.tum.cit.aet.hephaestus.workspace;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -51,6 +55,36 @@ public class WorkspaceContributionActivityService {
         return Optional.ofNullable(firstContribution);
     }
 
+    /**
+     * Batched variant of {@link #findFirstContributionInstant(Long, Long)}: three grouped queries for all
+     * users instead of three queries per user.
+     *
+     * @param workspaceId the workspace to scope to
+     * @param userIds the users to look up
+     * @return earliest contribution per user; users without any contribution are absent
+     */
+    public Map<Long, Instant> findFirstContributionInstants(Long workspaceId, Collection<Long> userIds) {
+        Map<Long, Instant> firstContributions = new HashMap<>();
+        if (workspaceId == null || userIds == null || userIds.isEmpty()) {
+            return firstContributions;
+        }
+
+        Stream.of(
+            contributionQueryRepository.findEarliestPullRequestCreatedAtByUsers(workspaceId, userIds),
+            contributionQueryRepository.findEarliestReviewSubmittedAtByUsers(workspaceId, userIds),
+            contributionQueryRepository.findEarliestCommentCreatedAtByUsers(workspaceId, userIds)
+        )
+            .flatMap(List::stream)
+            .filter(row -> row.getUserId() != null && row.getFirstContributionAt() != null)
+            .forEach(row ->
+                firstContributions.merge(row.getUserId(), row.getFirstContributionAt(), (a, b) ->
+                    a.isBefore(b) ? a : b
+                )
+            );
+
+        return firstContributions;
+    }
+
     /**
      * Finds the earliest contribution instant for a user (by login) in a workspace.
      *
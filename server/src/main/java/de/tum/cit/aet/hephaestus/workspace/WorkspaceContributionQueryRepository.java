@@ -3,6 +3,8 @@ package de.tum.cit.aet.hephaestus.workspace;
 import de.tum.cit.aet.hephaestus.core.WorkspaceAgnostic;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequest;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -80,4 +82,80 @@ public interface WorkspaceContributionQueryRepository extends JpaRepository<Pull
         """
     )
     Instant findEarliestCommentCreatedAt(@Param("workspaceId") Long workspaceId, @Param("userId") Long userId);
+
+    /**
+     * Batched counterpart of {@link #findEarliestPullRequestCreatedAt} for many users at once.
+     *
+     * @param workspaceId the workspace to scope to
+     * @param userIds the user IDs
+     * @return one row per user that authored at least one pull request
+     */
+    @Query(
+        """
+        SELECT p.author.id AS userId, MIN(p.createdAt) AS firstContributionAt
+        FROM PullRequest p
+        JOIN p.repository r
+        JOIN RepositoryToMonitor rtm ON rtm.nameWithOwner = r.nameWithOwner
+        WHERE p.author.id IN :userIds
+            AND rtm.workspace.id = :workspaceId
+        GROUP BY p.author.id
+        """
+    )
+    List<FirstContributionProjection> findEarliestPullRequestCreatedAtByUsers(
+        @Param("workspaceId") Long workspaceId,
+        @Param("userIds") Collection<Long> userIds
+    );
+
+    /**
+     * Batched counterpart of {@link #findEarliestReviewSubmittedAt} for many users at once.
+     *
+     * @param workspaceId the workspace to scope to
+     * @param userIds the user IDs
+     * @return one row per user that submitted at least one review
+     */
+    @Query(
+        """
+        SELECT r.author.id AS userId, MIN(r.submittedAt) AS firstContributionAt
+        FROM PullRequestReview r
+        JOIN r.pullRequest p
+        JOIN p.repository repo
+        JOIN RepositoryToMonitor rtm ON rtm.nameWithOwner = repo.nameWithOwner
+        WHERE r.author.id IN :userIds
+            AND rtm.workspace.id = :workspaceId
+        GROUP BY r.author.id
+        """
+    )
+    List<FirstContributionProjection> findEarliestReviewSubmittedAtByUsers(
+        @Param("workspaceId") Long workspaceId,
+        @Param("userIds") Collection<Long> userIds
+    );
+
+    /**
+     * Batched counterpart of {@link #findEarliestCommentCreatedAt} for many users at once.
+     *
+     * @param workspaceId the workspace to scope to
+     * @param userIds the user IDs
+     * @return one row per user that wrote at least one issue comment
+     */
+    @Query(
+        """
+        SELECT c.author.id AS userId, MIN(c.createdAt) AS firstContributionAt
+        FROM IssueComment c
+        JOIN c.issue i
+        JOIN i.repository r
+        JOIN RepositoryToMonitor rtm ON rtm.nameWithOwner = r.nameWithOwner
+        WHERE c.author.id IN :userIds
+            AND rtm.workspace.id = :workspaceId
+        GROUP BY c.author.id
+        """
+    )
+    List<FirstContributionProjection> findEarliestCommentCreatedAtByUsers(
+        @Param("workspaceId") Long workspaceId,
+        @Param("userIds") Collection<Long> userIds
+    );
+
+    interface FirstContributionProjection {
+        Long getUserId();
+        Instant getFirstContributionAt();
+    }
 }
@@ -175,6 +175,31 @@ public class WorkspaceMembershipService {
         workspaceMembershipRepository.saveAll(members);
     }
 
+    /**
+     * Writes a full league points snapshot in one batch: members present in {@code pointsByUserId} get their
+     * computed value, every other member is reset to {@code defaultPoints}. Replaces a reset followed by one
+     * update per member and window.
+     */
+    @Transactional
+    public void applyLeaguePoints(Long workspaceId, Map<Long, Integer> pointsByUserId, int defaultPoints) {
+        if (workspaceId == null) {
+            log.debug("Skipped league point apply: reason=noWorkspaceConfigured");
+            return;
+        }
+
+        List<WorkspaceMembership> members = workspaceMembershipRepository.findByWorkspace_Id(workspaceId);
+        if (members.isEmpty()) {
+            return;
+        }
+        members.forEach(member -> {
+            Long userId = member.getUser() != null ? member.getUser().getId() : null;
+            member.setLeaguePoints(
+                userId != null ? pointsByUserId.getOrDefault(userId, defaultPoints) : defaultPoints
+            );
+        });
+        workspaceMembershipRepository.saveAll(members);
+    }
+
     /**
      * Human members of the workspace, team memberships fetched — the roster used to pad zero-activity
      * leaderboard entries. Scoped by {@code workspace_id}, not by the org-login string, so it cannot
@@ -0,0 +1,180 @@
+package de.tum.cit.aet.hephaestus.achievement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import de.tum.cit.aet.hephaestus.achievement.progress.LinearAchievementProgress;
+import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
+import de.tum.cit.aet.hephaestus.activity.ActivityEventType;
+import de.tum.cit.aet.hephaestus.activity.ActivitySavedEvent;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.UserRepository;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link AchievementBatchRecalculationService}.
+ */
+class AchievementBatchRecalculationServiceTest extends BaseUnitTest {
+
+    private static final Long WORKSPACE_ID = 7L;
+    private static final Instant T0 = Instant.parse("2024-08-15T10:00:00Z");
+
+    @Mock
+    private ActivityEventRepository activityEventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserAchievementRepository userAchievementRepository;
+
+    @Mock
+    private AchievementService achievementService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AchievementBatchRecalculationService service;
+    private User testUser;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new AchievementBatchRecalculationService(
+            activityEventRepository,
+            userRepository,
+            userAchievementRepository,
+            achievementService,
+            transactionTemplate,
+            objectMapper
+        );
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+            ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null)
+        );
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setLogin("testuser");
+    }
+
+    @Test
+    void skipsWorkspaceWithoutActors() {
+        when(activityEventRepository.findDistinctActorIdsByWorkspaceId(WORKSPACE_ID)).thenReturn(List.of());
+
+        AchievementBatchRecalculationService.Result result = service.recalculateWorkspaceInternal(WORKSPACE_ID);
+
+        assertThat(result.users()).isZero();
+        verifyNoInteractions(userAchievementRepository, achievementService);
+    }
+
+    @Test
+    void replaysEventsInMemoryAndWritesOnce() {
+        when(activityEventRepository.findDistinctActorIdsByWorkspaceId(WORKSPACE_ID)).thenReturn(List.of(1L));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(testUser));
+        when(
+            activityEventRepository.findReplayPageForWorkspaceActors(eq(WORKSPACE_ID), any(), any(), any())
+        ).thenReturn(List.of(row(T0), row(T0.plusSeconds(60))));
+        doAnswer(inv -> {
+            Map<String, UserAchievement> progress = inv.getArgument(1);
+            progress.put(
+                "commit.common.1",
+                UserAchievement.builder()
+                    .user(testUser)
+                    .achievementId("commit.common.1")
+                    .progressData(new LinearAchievementProgress(1, 1))
+                    .unlockedAt(T0)
+                    .build()
+            );
+            return List.of();
+        })
+            .when(achievementService)
+            .evaluateInMemory(any(ActivitySavedEvent.class), any());
+        when(userAchievementRepository.replaceAllForUsers(anyCollection(), anyString())).thenReturn(1);
+
+        AchievementBatchRecalculationService.Result result = service.recalculateWorkspaceInternal(WORKSPACE_ID);
+
+        assertThat(result.users()).isEqualTo(1);
+        assertThat(result.events()).isEqualTo(2);
+        assertThat(result.rows()).isEqualTo(1);
+        verify(activityEventRepository, times(1)).findReplayPageForWorkspaceActors(
+            eq(WORKSPACE_ID),
+            eq(Instant.EPOCH),
+            any(),
+            any()
+        );
+        verify(achievementService, times(2)).evaluateInMemory(any(ActivitySavedEvent.class), any());
+        verify(userAchievementRepository, never()).save(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> userIds = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<String> rowsJson = ArgumentCaptor.forClass(String.class);
+        verify(userAchievementRepository).replaceAllForUsers(userIds.capture(), rowsJson.capture());
+        assertThat(userIds.getValue()).containsExactly(1L);
+
+        JsonNode row = objectMapper.readTree(rowsJson.getValue()).get(0);
+        assertThat(row.get("user_id").asLong()).isEqualTo(1L);
+        assertThat(row.get("achievement_id").asString()).isEqualTo("commit.common.1");
+        assertThat(row.get("progress_data").get("current").asInt()).isEqualTo(1);
+        assertThat(row.get("unlocked_at").asString()).isEqualTo(T0.toString());
+        verify(achievementService).evictAchievementCache(1L);
+    }
+
+    private ActivityEventRepository.ReplayEventProjection row(Instant occurredAt) {
+        UUID id = UUID.randomUUID();
+        return new ActivityEventRepository.ReplayEventProjection() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Long getActorId() {
+                return 1L;
+            }
+
+            @Override
+            public ActivityEventType getEventType() {
+                return ActivityEventType.COMMIT_CREATED;
+            }
+
+            @Override
+            public Instant getOccurredAt() {
+                return occurredAt;
+            }
+
+            @Override
+            public Long getWorkspaceId() {
+                return WORKSPACE_ID;
+            }
+
+            @Override
+            public String getTargetType() {
+                return "commit";
+            }
+
+            @Override
+            public Long getTargetId() {
+                return 100L;
+            }
+        };
+    }
+}
@@ -15,7 +15,9 @@ import de.tum.cit.aet.hephaestus.activity.ActivityTargetType;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -441,4 +443,41 @@ class AchievementServiceTest extends BaseUnitTest {
             assertThat(progress.current()).isEqualTo(4);
         }
     }
+
+    @Nested
+    class EvaluateInMemoryTests {
+
+        @Test
+        @DisplayName("creates, advances and unlocks progress without touching the repository")
+        void unlocksInMemory() {
+            AchievementDefinition def = new AchievementDefinition(
+                "commit.common.2",
+                AchievementCategory.COMMITS,
+                AchievementRarity.COMMON,
+                new LinearAchievementProgress(0, 2),
+                null,
+                false,
+                Set.of(ActivityEventType.COMMIT_CREATED),
+                "StandardCountEvaluator"
+            );
+            when(achievementRegistry.getByTriggerEvent(ActivityEventType.COMMIT_CREATED)).thenReturn(List.of(def));
+            Map<String, UserAchievement> progress = new HashMap<>();
+
+            List<AchievementDefinition> first = service.evaluateInMemory(
+                createEvent(ActivityEventType.COMMIT_CREATED),
+                progress
+            );
+            List<AchievementDefinition> second = service.evaluateInMemory(
+                createEvent(ActivityEventType.COMMIT_CREATED),
+                progress
+            );
+
+            assertThat(first).isEmpty();
+            assertThat(second).containsExactly(def);
+            UserAchievement record = progress.get("commit.common.2");
+            assertThat(record.getProgressData()).isEqualTo(new LinearAchievementProgress(2, 2));
+            assertThat(record.getUnlockedAt()).isEqualTo(Instant.parse("2024-08-15T10:00:00Z"));
+            verifyNoInteractions(userAchievementRepository);
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package de.tum.cit.aet.hephaestus.achievement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.achievement.progress.LinearAchievementProgress;
+import de.tum.cit.aet.hephaestus.integration.core.connection.IdentityProvider;
+import de.tum.cit.aet.hephaestus.integration.core.connection.IdentityProviderRepository;
+import de.tum.cit.aet.hephaestus.integration.core.connection.IdentityProviderType;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.UserRepository;
+import de.tum.cit.aet.hephaestus.testconfig.BaseIntegrationTest;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs {@link UserAchievementRepository#replaceAllForUsers} against a real Postgres: the statement is a
+ * hand-written CTE that deletes, inserts and updates in one go, which the mocked repository in
+ * {@link AchievementBatchRecalculationServiceTest} cannot exercise.
+ */
+class UserAchievementReplaceIntegrationTest extends BaseIntegrationTest {
+
+    private static final String COMMON = "pr.merged.common.1";
+    private static final String UNCOMMON = "pr.merged.uncommon";
+    private static final String RARE = "pr.merged.rare";
+    private static final Instant UNLOCKED_AT = Instant.parse("2024-08-15T10:00:00Z");
+
+    @Autowired
+    private UserAchievementRepository userAchievementRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IdentityProviderRepository gitProviderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicLong nativeIdGenerator = new AtomicLong(80_000);
+
+    @BeforeEach
+    void resetDatabase() {
+        databaseTestUtils.cleanDatabase();
+    }
+
+    @Test
+    @DisplayName("replaces the listed users' rows: updates survivors, inserts new ones, deletes the rest")
+    void replacesRowsOfListedUsers() {
+        User user = persistUser("replaced");
+        persistAchievement(user, COMMON, 1, null);
+        persistAchievement(user, UNCOMMON, 2, null);
+
+        int written = replace(
+            List.of(user.getId()),
+            "[" + row(user, COMMON, 5, UNLOCKED_AT) + "," + row(user, RARE, 1, null) + "]"
+        );
+
+        assertThat(written).isEqualTo(2);
+        Map<String, UserAchievement> rows = rowsOf(user);
+        assertThat(rows).containsOnlyKeys(COMMON, RARE);
+        assertThat(rows.get(COMMON).getProgressData()).isEqualTo(new LinearAchievementProgress(5, 50));
+        assertThat(rows.get(COMMON).getUnlockedAt()).isEqualTo(UNLOCKED_AT);
+        assertThat(rows.get(COMMON).getVersion()).isEqualTo(1L);
+        assertThat(rows.get(RARE).getProgressData()).isEqualTo(new LinearAchievementProgress(1, 50));
+        assertThat(rows.get(RARE).getUnlockedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("a listed user with no achievements left loses every row")
+    void clearsListedUsersWithoutRows() {
+        User user = persistUser("emptied");
+        persistAchievement(user, COMMON, 1, null);
+        persistAchievement(user, UNCOMMON, 2, UNLOCKED_AT);
+
+        int written = replace(List.of(user.getId()), "[]");
+
+        assertThat(written).isZero();
+        assertThat(rowsOf(user)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("users outside the list keep their rows untouched")
+    void leavesUnlistedUsersAlone() {
+        User replaced = persistUser("listed");
+        User bystander = persistUser("bystander");
+        persistAchievement(replaced, COMMON, 1, null);
+        persistAchievement(bystander, COMMON, 3, UNLOCKED_AT);
+        persistAchievement(bystander, UNCOMMON, 2, null);
+
+        replace(List.of(replaced.getId()), "[" + row(replaced, RARE, 1, null) + "]");
+
+        Map<String, UserAchievement> rows = rowsOf(bystander);
+        assertThat(rows).containsOnlyKeys(COMMON, UNCOMMON);
+        assertThat(rows.get(COMMON).getProgressData()).isEqualTo(new LinearAchievementProgress(3, 50));
+        assertThat(rows.get(COMMON).getUnlockedAt()).isEqualTo(UNLOCKED_AT);
+        assertThat(rows.get(COMMON).getVersion()).isZero();
+        assertThat(rowsOf(replaced)).containsOnlyKeys(RARE);
+    }
+
+    // --- helpers ---
+
+    private int replace(List<Long> userIds, String rowsJson) {
+        Integer written = transactionTemplate.execute(status ->
+            userAchievementRepository.replaceAllForUsers(userIds, rowsJson)
+        );
+        return written != null ? written : 0;
+    }
+
+    private static String row(User user, String achievementId, int current, Instant unlockedAt) {
+        return (
+            "{\"user_id\":" +
+            user.getId() +
+            ",\"achievement_id\":\"" +
+            achievementId +
+            "\",\"progress_data\":{\"type\":\"LinearAchievementProgress\",\"current\":" +
+            current +
+            ",\"target\":50},\"unlocked_at\":" +
+            (unlockedAt != null ? "\"" + unlockedAt + "\"" : "null") +
+            "}"
+        );
+    }
+
+    /** Read in a fresh transaction so the statement's writes, not a cached entity, are what is asserted. */
+    private Map<String, UserAchievement> rowsOf(User user) {
+        return transactionTemplate.execute(status ->
+            userAchievementRepository
+                .findByUserId(user.getId())
+                .stream()
+                .collect(Collectors.toMap(UserAchievement::getAchievementId, achievement -> achievement))
+        );
+    }
+
+    private void persistAchievement(User user, String achievementId, int current, Instant unlockedAt) {
+        transactionTemplate.executeWithoutResult(status ->
+            userAchievementRepository.save(
+                UserAchievement.builder()
+                    .user(user)
+                    .achievementId(achievementId)
+                    .progressData(new LinearAchievementProgress(current, 50))
+                    .unlockedAt(unlockedAt)
+                    .build()
+            )
+        );
+    }
+
+    private User persistUser(String login) {
+        IdentityProvider provider = gitProviderRepository
+            .findByTypeAndServerUrl(IdentityProviderType.GITHUB, "https://github.com")
+            .orElseGet(() ->
+                gitProviderRepository.save(new IdentityProvider(IdentityProviderType.GITHUB, "https://github.com"))
+            );
+        User user = new User();
+        user.setNativeId(nativeIdGenerator.incrementAndGet());
+        user.setProvider(provider);
+        user.setLogin(login);
+        user.setName("User " + login);
+        user.setType(User.Type.USER);
+        user.setCreatedAt(Instant.now());
+        user.setUpdatedAt(Instant.now());
+        return userRepository.save(user);
+    }
+}
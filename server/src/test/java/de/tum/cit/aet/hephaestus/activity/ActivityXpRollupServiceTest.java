@@ -0,0 +1,240 @@
+package de.tum.cit.aet.hephaestus.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+/**
+ * Unit tests for ActivityXpRollupService.
+ *
+ * <p>Verifies that windows are cut into whole UTC days (rollup) and partial-day edges (ledger), and that
+ * the merged totals match what the ledger alone would return.
+ */
+class ActivityXpRollupServiceTest extends BaseUnitTest {
+
+    private static final Long WORKSPACE_ID = 1L;
+
+    @Mock
+    private ActivityEventRepository activityEventRepository;
+
+    @Mock
+    private ActivityXpDailyRepository activityXpDailyRepository;
+
+    private ActivityXpRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ActivityXpRollupService(activityEventRepository, activityXpDailyRepository);
+    }
+
+    @Nested
+    class DaySplitTests {
+
+        @Test
+        void alignedWindowHasNoEdges() {
+            var split = ActivityXpRollupService.DaySplit.of(
+                Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-01-08T00:00:00Z")
+            );
+
+            assertThat(split).isNotNull();
+            assertThat(split.fromDay()).isEqualTo(LocalDate.parse("2024-01-01"));
+            assertThat(split.untilDay()).isEqualTo(LocalDate.parse("2024-01-08"));
+            assertThat(split.hasHead()).isFalse();
+            assertThat(split.hasTail()).isFalse();
+        }
+
+        @Test
+        void unalignedWindowHasBothEdges() {
+            var split = ActivityXpRollupService.DaySplit.of(
+                Instant.parse("2024-01-01T09:00:00Z"),
+                Instant.parse("2024-01-08T09:00:00Z")
+            );
+
+            assertThat(split).isNotNull();
+            assertThat(split.wholeStart()).isEqualTo(Instant.parse("2024-01-02T00:00:00Z"));
+            assertThat(split.wholeEnd()).isEqualTo(Instant.parse("2024-01-08T00:00:00Z"));
+            assertThat(split.hasHead()).isTrue();
+            assertThat(split.hasTail()).isTrue();
+        }
+
+        @Test
+        void subDayWindowHasNoWholeDay() {
+            assertThat(
+                ActivityXpRollupService.DaySplit.of(
+                    Instant.parse("2024-01-01T09:00:00Z"),
+                    Instant.parse("2024-01-02T08:00:00Z")
+                )
+            ).isNull();
+        }
+    }
+
+    @Nested
+    class FindExperiencePointsTests {
+
+        @Test
+        void subDayWindowReadsLedgerOnly() {
+            Instant since = Instant.parse("2024-01-01T09:00:00Z");
+            Instant until = Instant.parse("2024-01-01T18:00:00Z");
+            when(
+                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(WORKSPACE_ID, since, until)
+            ).thenReturn(List.of(xp(100L, 10.0, 2L)));
+
+            List<ActivityXpProjection> result = service.findExperiencePoints(WORKSPACE_ID, since, until);
+
+            assertThat(result).singleElement().satisfies(p -> assertThat(p.getTotalExperiencePoints()).isEqualTo(10.0));
+            verifyNoInteractions(activityXpDailyRepository);
+        }
+
+        @Test
+        void mergesRollupWithLedgerEdges() {
+            Instant since = Instant.parse("2024-01-01T09:00:00Z");
+            Instant until = Instant.parse("2024-01-08T09:00:00Z");
+            when(
+                activityXpDailyRepository.findExperiencePointsByWorkspaceAndDays(
+                    WORKSPACE_ID,
+                    LocalDate.parse("2024-01-02"),
+                    LocalDate.parse("2024-01-08")
+                )
+            ).thenReturn(List.of(xp(100L, 50.0, 5L), xp(200L, 20.0, 2L)));
+            when(
+                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(
+                    WORKSPACE_ID,
+                    since,
+                    Instant.parse("2024-01-02T00:00:00Z")
+                )
+            ).thenReturn(List.of(xp(100L, 5.0, 1L)));
+            when(
+                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(
+                    WORKSPACE_ID,
+                    Instant.parse("2024-01-08T00:00:00Z"),
+                    until
+                )
+            ).thenReturn(List.of(xp(300L, 3.0, 1L)));
+
+            List<ActivityXpProjection> result = service.findExperiencePoints(WORKSPACE_ID, since, until);
+
+            assertThat(result)
+                .extracting(
+                    ActivityXpProjection::getActorId,
+                    ActivityXpProjection::getTotalExperiencePoints,
+                    ActivityXpProjection::getEventCount
+                )
+                .containsExactlyInAnyOrder(
+                    tuple(100L, 55.0, 6L),
+                    tuple(200L, 20.0, 2L),
+                    tuple(300L, 3.0, 1L)
+                );
+        }
+    }
+
+    @Nested
+    class FindActivityBreakdownTests {
+
+        @Test
+        void subtractsOwnInlineRepliesFromRollupCodeComments() {
+            Instant since = Instant.parse("2024-01-01T00:00:00Z");
+            Instant until = Instant.parse("2024-01-08T00:00:00Z");
+            Set<Long> actorIds = Set.of(100L);
+            when(
+                activityXpDailyRepository.findActivityBreakdownByDays(
+                    eq(WORKSPACE_ID),
+                    eq(actorIds),
+                    eq(LocalDate.parse("2024-01-01")),
+                    eq(LocalDate.parse("2024-01-08"))
+                )
+            ).thenReturn(
+                List.of(
+                    breakdown(100L, ActivityEventType.REVIEW_COMMENT_CREATED, 7L),
+                    breakdown(100L, ActivityEventType.REVIEW_APPROVED, 2L)
+                )
+            );
+            when(
+                activityEventRepository.findOwnPullRequestInlineReplyCounts(WORKSPACE_ID, actorIds, since, until)
+            ).thenReturn(List.of(actorCount(100L, 3L)));
+
+            List<ActivityBreakdownProjection> result = service.findActivityBreakdown(
+                WORKSPACE_ID,
+                actorIds,
+                since,
+                until
+            );
+
+            assertThat(result)
+                .extracting(ActivityBreakdownProjection::getEventType, ActivityBreakdownProjection::getCount)
+                .containsExactlyInAnyOrder(
+                    tuple(ActivityEventType.REVIEW_COMMENT_CREATED, 4L),
+                    tuple(ActivityEventType.REVIEW_APPROVED, 2L)
+                );
+            verify(activityEventRepository, never()).findActivityBreakdown(any(), anySet(), any(), any());
+        }
+    }
+
+    private static ActivityXpProjection xp(Long actorId, Double total, Long count) {
+        return new ActivityXpProjection() {
+            @Override
+            public Long getActorId() {
+                return actorId;
+            }
+
+            @Override
+            public Double getTotalExperiencePoints() {
+                return total;
+            }
+
+            @Override
+            public Long getEventCount() {
+                return count;
+            }
+        };
+    }
+
+    private static ActivityBreakdownProjection breakdown(Long actorId, ActivityEventType type, Long count) {
+        return new ActivityBreakdownProjection() {
+            @Override
+            public Long getActorId() {
+                return actorId;
+            }
+
+            @Override
+            public ActivityEventType getEventType() {
+                return type;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public Double getExperiencePoints() {
+                return 0.0;
+            }
+        };
+    }
+
+    private static ActivityEventRepository.ActorCountProjection actorCount(Long actorId, Long count) {
+        return new ActivityEventRepository.ActorCountProjection() {
+            @Override
+            public Long getActorId() {
+                return actorId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -19,6 +19,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -74,6 +75,7 @@ class ReviewBackfillDriverTest extends BaseUnitTest {
         when(scopeRepository.findPullRequestIds(eq(WORKSPACE_ID), any(), any(), eq(0L), any())).thenReturn(
             List.of(10L, 11L, 12L)
         );
+        when(submitter.claimAll(eq(run), any())).thenReturn(Set.of(10L, 11L, 12L));
         when(submitter.offer(eq(run), anyLong())).thenReturn(ReviewBackfillSubmitter.Outcome.SUBMITTED);
 
         driver().advance(run);
@@ -91,6 +93,7 @@ class ReviewBackfillDriverTest extends BaseUnitTest {
         when(scopeRepository.findPullRequestIds(eq(WORKSPACE_ID), any(), any(), eq(0L), any())).thenReturn(
             List.of(10L, 11L)
         );
+        when(submitter.claimAll(eq(run), any())).thenReturn(Set.of(10L, 11L));
         when(submitter.offer(run, 10L)).thenReturn(ReviewBackfillSubmitter.Outcome.SUBMITTED);
         when(submitter.offer(run, 11L)).thenReturn(ReviewBackfillSubmitter.Outcome.PASSED);
 
@@ -100,6 +103,42 @@ class ReviewBackfillDriverTest extends BaseUnitTest {
         assertThat(run.getPassedCount()).isEqualTo(1);
     }
 
+    /** A recurring sweep re-walks mostly settled history; those artifacts never get a turn of their own. */
+    @Test
+    void anArtifactTheBulkClaimDidNotWinPassesWithoutATurn() {
+        ReviewBackfillRun run = running();
+        fundedAndEnabled();
+        when(scopeRepository.findPullRequestIds(eq(WORKSPACE_ID), any(), any(), eq(0L), any())).thenReturn(
+            List.of(10L, 11L, 12L)
+        );
+        when(submitter.claimAll(run, List.of(10L, 11L, 12L))).thenReturn(Set.of(11L));
+        when(submitter.offer(run, 11L)).thenReturn(ReviewBackfillSubmitter.Outcome.SUBMITTED);
+
+        driver().advance(run);
+
+        verify(submitter, never()).offer(run, 10L);
+        verify(submitter, never()).offer(run, 12L);
+        assertThat(run.getSubmittedCount()).isEqualTo(1);
+        assertThat(run.getPassedCount()).isEqualTo(2);
+        assertThat(run.getCursorArtifactId()).isEqualTo(12L);
+    }
+
+    @Test
+    void aFailedBulkClaimFallsBackToOfferingEachArtifact() {
+        ReviewBackfillRun run = running();
+        fundedAndEnabled();
+        when(scopeRepository.findPullRequestIds(eq(WORKSPACE_ID), any(), any(), eq(0L), any())).thenReturn(
+            List.of(10L, 11L)
+        );
+        when(submitter.claimAll(eq(run), any())).thenThrow(new IllegalStateException("ledger unavailable"));
+        when(submitter.offer(eq(run), anyLong())).thenReturn(ReviewBackfillSubmitter.Outcome.SUBMITTED);
+
+        driver().advance(run);
+
+        assertThat(run.getSubmittedCount()).isEqualTo(2);
+        assertThat(run.getCursorArtifactId()).isEqualTo(11L);
+    }
+
     @Test
     void anExhaustedBudgetPausesTheRunWithoutMovingTheCursor() {
         ReviewBackfillRun run = running();
@@ -135,6 +174,7 @@ class ReviewBackfillDriverTest extends BaseUnitTest {
         run.transitionTo(ReviewBackfillStatus.PAUSED, ReviewBackfillPauseReason.BUDGET_EXHAUSTED);
         fundedAndEnabled();
         when(scopeRepository.findPullRequestIds(eq(WORKSPACE_ID), any(), any(), eq(0L), any())).thenReturn(List.of(5L));
+        when(submitter.claimAll(eq(run), any())).thenReturn(Set.of(5L));
         when(submitter.offer(eq(run), anyLong())).thenReturn(ReviewBackfillSubmitter.Outcome.SUBMITTED);
 
         driver().advance(run);
@@ -28,7 +28,9 @@ import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -172,6 +174,35 @@ class ReviewBackfillSubmitterTest extends BaseUnitTest {
         Mockito.verifyNoInteractions(signalRecorder, detectionGate, agentJobService);
     }
 
+    /** Only the rows the ledger handed this campaign come back as its to offer. */
+    @Test
+    void aBulkClaimReturnsOnlyTheArtifactsTheLedgerHandedOver() {
+        PullRequest owned = mergedPullRequest();
+        PullRequest settled = mergedPullRequest();
+        settled.setId(PR_ID + 1);
+        settled.setHeadRefOid("fedcba9876543210fedcba9876543210fedcba98");
+        when(pullRequestRepository.findAllById(List.of(PR_ID, PR_ID + 1))).thenReturn(List.of(owned, settled));
+        SignalKey ownedKey = ReviewBackfillSignals.keyFor(WORKSPACE_ID, owned).orElseThrow();
+        when(signalRecorder.recordAll(any(), eq(DiscoveredVia.BACKFILL))).thenReturn(Set.of(ownedKey));
+
+        assertThat(submitter().claimAll(run(), List.of(PR_ID, PR_ID + 1))).containsExactly(PR_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aBulkClaimLeavesOutWhatOfferWouldNeverRecord() {
+        PullRequest withoutRefs = mergedPullRequest();
+        withoutRefs.setHeadRefOid(null);
+        when(pullRequestRepository.findAllById(List.of(PR_ID))).thenReturn(List.of(withoutRefs));
+        when(signalRecorder.recordAll(any(), any())).thenReturn(Set.of());
+
+        assertThat(submitter().claimAll(run(), List.of(PR_ID))).isEmpty();
+
+        ArgumentCaptor<Map<SignalKey, Instant>> occurrences = ArgumentCaptor.forClass(Map.class);
+        verify(signalRecorder).recordAll(occurrences.capture(), eq(DiscoveredVia.BACKFILL));
+        assertThat(occurrences.getValue()).isEmpty();
+    }
+
     private PullRequest mergedPullRequest() {
         Repository repository = new Repository();
         repository.setId(11L);
@@ -87,6 +87,14 @@ class PracticeReviewHealthIndicatorTest extends BaseUnitTest {
     }
 
     private static GitRepositoryProperties git(boolean enabled) {
-        return new GitRepositoryProperties(enabled, 20_000, DataSize.ofMegabytes(32), DataSize.ofMegabytes(10));
+        return new GitRepositoryProperties(
+            enabled,
+            20_000,
+            DataSize.ofMegabytes(32),
+            DataSize.ofMegabytes(10),
+            0,
+            DataSize.ofBytes(0),
+            1
+        );
     }
 }
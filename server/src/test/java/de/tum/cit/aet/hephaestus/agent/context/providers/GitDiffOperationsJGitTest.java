@@ -2,7 +2,11 @@ package de.tum.cit.aet.hephaestus.agent.context.providers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import de.tum.cit.aet.hephaestus.integration.core.fabric.ContentAddressedCache;
+import de.tum.cit.aet.hephaestus.integration.core.fabric.ContentAddressedStore;
+import de.tum.cit.aet.hephaestus.integration.core.fabric.FabricLayout;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -63,6 +67,23 @@ class GitDiffOperationsJGitTest extends BaseUnitTest {
         assertThat(diff).contains("+line two changed", "-line two", "+line four added", "+brand new");
     }
 
+    @Test
+    void diffBetweenTwoShasIsServedFromTheFabricCache(@TempDir Path fabricRoot) {
+        FabricLayout layout = new FabricLayout(fabricRoot.toString());
+        var cache = new ContentAddressedCache(layout, new ContentAddressedStore(layout), new SimpleMeterRegistry());
+        var cachedOps = new GitDiffOperations(cache);
+        Path noClone = repoDir.resolve("no-such-clone");
+
+        String diff = cachedOps.diff(repoDir, baseSha, headSha);
+        String stat = cachedOps.diffStat(repoDir, baseSha, headSha);
+
+        // The second read never opens a repository, so it succeeds even without one.
+        assertThat(cachedOps.diff(noClone, baseSha, headSha)).isNotNull().isEqualTo(diff);
+        assertThat(cachedOps.diffStat(noClone, baseSha, headSha)).isNotNull().isEqualTo(stat);
+        // Branch names move, so they are always resolved against the clone.
+        assertThat(cachedOps.diff(noClone, "main", "feature")).isNull();
+    }
+
     @Test
     void diffStatEmitsPerFileLines() {
         String stat = ops.diffStat(repoDir, baseSha, headSha);
@@ -2,6 +2,7 @@ package de.tum.cit.aet.hephaestus.agent.context.providers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.eclipse.jgit.lib.Repository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -51,6 +53,9 @@ class LinkedWorkItemContentSourceTest extends BaseUnitTest {
     @Mock
     private GitDiffOperations gitDiffOperations;
 
+    @Mock
+    private Repository repository;
+
     private LinkedWorkItemContentSource provider;
 
     @BeforeEach
@@ -66,6 +71,16 @@ class LinkedWorkItemContentSourceTest extends BaseUnitTest {
         lenient().when(gitRepositoryManager.isEnabled()).thenReturn(false);
     }
 
+    /** The range is resolved on the pooled handle, under the read lock, as the diff source does it. */
+    private void stubResolvedRange(String base, String head) {
+        when(gitRepositoryManager.withRepository(eq(REPO_ID), any())).thenAnswer(invocation ->
+            invocation.<GitRepositoryManager.RepositoryReader<?>>getArgument(1).read(repository)
+        );
+        when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/plain", "abc123def456")).thenReturn(
+            new String[] { base, head }
+        );
+    }
+
     private ObjectNode sampleMetadata() {
         ObjectNode metadata = objectMapper.createObjectNode();
         metadata.put("repository_id", REPO_ID);
@@ -321,15 +336,7 @@ class LinkedWorkItemContentSourceTest extends BaseUnitTest {
 
         when(gitRepositoryManager.isEnabled()).thenReturn(true);
         when(gitRepositoryManager.isRepositoryCloned(REPO_ID)).thenReturn(true);
-        when(gitRepositoryManager.getRepositoryPath(REPO_ID)).thenReturn(java.nio.file.Path.of("/tmp/repo/123"));
-        when(
-            gitDiffOperations.resolveDiffRange(
-                java.nio.file.Path.of("/tmp/repo/123"),
-                "main",
-                "feature/plain",
-                "abc123def456"
-            )
-        ).thenReturn(new String[] { "base", "head" });
+        stubResolvedRange("base", "head");
         var commit = new GitRepositoryManager.CommitInfo(
             "sha1",
             "fix: resolve crash, fixes #77",
@@ -371,11 +378,7 @@ class LinkedWorkItemContentSourceTest extends BaseUnitTest {
         when(pullRequestRepository.findByIdWithAllForGate(PR_ID)).thenReturn(Optional.of(pr));
         when(gitRepositoryManager.isEnabled()).thenReturn(true);
         when(gitRepositoryManager.isRepositoryCloned(REPO_ID)).thenReturn(true);
-        var repoPath = java.nio.file.Path.of("/tmp/repo/123");
-        when(gitRepositoryManager.getRepositoryPath(REPO_ID)).thenReturn(repoPath);
-        when(gitDiffOperations.resolveDiffRange(repoPath, "main", "feature/plain", "abc123def456")).thenReturn(
-            new String[] { "base", "head" }
-        );
+        stubResolvedRange("base", "head");
         when(gitRepositoryManager.walkCommits(REPO_ID, "base", "head", 501)).thenReturn(List.of());
 
         ObjectNode metadata = sampleMetadata();
@@ -399,11 +402,7 @@ class LinkedWorkItemContentSourceTest extends BaseUnitTest {
         when(pullRequestRepository.findByIdWithAllForGate(PR_ID)).thenReturn(Optional.of(pr));
         when(gitRepositoryManager.isEnabled()).thenReturn(true);
         when(gitRepositoryManager.isRepositoryCloned(REPO_ID)).thenReturn(true);
-        var repoPath = java.nio.file.Path.of("/tmp/repo/123");
-        when(gitRepositoryManager.getRepositoryPath(REPO_ID)).thenReturn(repoPath);
-        when(gitDiffOperations.resolveDiffRange(repoPath, "main", "feature/plain", "abc123def456")).thenReturn(
-            new String[] { "base", "head" }
-        );
+        stubResolvedRange("base", "head");
         var commit = new GitRepositoryManager.CommitInfo(
             "sha",
             "ordinary change",
@@ -3,6 +3,7 @@ package de.tum.cit.aet.hephaestus.agent.context.providers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
@@ -29,13 +30,13 @@ import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.GitRepositoryMan
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.eclipse.jgit.lib.Repository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -60,6 +61,9 @@ class PullRequestContentSourceTest extends BaseUnitTest {
     @Mock
     private GitDiffOperations gitDiffOperations;
 
+    @Mock
+    private Repository repository;
+
     @Mock
     private ConnectionService connectionService;
 
@@ -117,25 +121,23 @@ class PullRequestContentSourceTest extends BaseUnitTest {
         lenient().when(gitRepositoryManager.isEnabled()).thenReturn(true);
         lenient().when(gitRepositoryManager.isRepositoryCloned(123L)).thenReturn(true);
         lenient()
-            .when(gitRepositoryManager.getRepositoryPath(123L))
-            .thenReturn(Path.of("/tmp/hephaestus-git-repos/123"));
+            .when(gitRepositoryManager.withRepository(eq(123L), any()))
+            .thenAnswer(invocation ->
+                invocation.<GitRepositoryManager.RepositoryReader<?>>getArgument(1).read(repository)
+            );
         lenient().when(gitRepositoryManager.commitExists(123L, "abc123def456")).thenReturn(true);
         lenient()
-            .when(
-                gitDiffOperations.resolveDiffRange(
-                    Path.of("/tmp/hephaestus-git-repos/123"),
-                    "main",
-                    "feature/auth-fix",
-                    "abc123def456"
-                )
-            )
+            .when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456"))
             .thenReturn(new String[] { "main", "abc123def456" });
         lenient()
-            .when(gitDiffOperations.diff(Path.of("/tmp/hephaestus-git-repos/123"), "main", "abc123def456"))
+            .when(gitDiffOperations.diff(repository, "main", "abc123def456"))
             .thenReturn("diff --git a/a.txt b/a.txt\n@@ -0,0 +1 @@\n+content\n");
         lenient()
-            .when(gitDiffOperations.diffStat(Path.of("/tmp/hephaestus-git-repos/123"), "main", "abc123def456"))
+            .when(gitDiffOperations.diffStat(repository, "main", "abc123def456"))
             .thenReturn(" a.txt | 1\n");
+        lenient()
+            .when(gitDiffOperations.annotatedDiff(anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> GitDiffOperations.annotateDiffWithLineNumbers(invocation.getArgument(2)));
     }
 
     @Nested
@@ -281,8 +283,6 @@ class PullRequestContentSourceTest extends BaseUnitTest {
     @Nested
     class DiffPrecompute {
 
-        private final String repoPath = "/tmp/hephaestus-git-repos/123";
-
         @Test
         void computeAndStoreDiffSummary_parsesPerFileChunks() throws Exception {
             String annotated =
@@ -322,11 +322,11 @@ class PullRequestContentSourceTest extends BaseUnitTest {
             lenient()
                 .when(reviewCommentRepository.findRecentByPullRequestIdWithAuthor(eq(456L), any()))
                 .thenReturn(List.of());
-            when(
-                gitDiffOperations.resolveDiffRange(Path.of(repoPath), "main", "feature/auth-fix", "abc123def456")
-            ).thenReturn(new String[] { "main", "abc123def456" });
-            when(gitDiffOperations.diffStat(Path.of(repoPath), "main", "abc123def456")).thenReturn("");
-            when(gitDiffOperations.diff(Path.of(repoPath), "main", "abc123def456")).thenReturn("   ");
+            when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456")).thenReturn(
+                new String[] { "main", "abc123def456" }
+            );
+            when(gitDiffOperations.diffStat(repository, "main", "abc123def456")).thenReturn("");
+            when(gitDiffOperations.diff(repository, "main", "abc123def456")).thenReturn("   ");
 
             EvidenceContribution contribution = provider.capture(request(sampleMetadata()), java.util.Set.of(DIFF));
 
@@ -341,12 +341,12 @@ class PullRequestContentSourceTest extends BaseUnitTest {
             lenient()
                 .when(reviewCommentRepository.findRecentByPullRequestIdWithAuthor(eq(456L), any()))
                 .thenReturn(List.of());
-            when(
-                gitDiffOperations.resolveDiffRange(Path.of(repoPath), "main", "feature/auth-fix", "abc123def456")
-            ).thenReturn(new String[] { "main", "abc123def456" });
-            lenient().when(gitDiffOperations.diffStat(Path.of(repoPath), "main", "abc123def456")).thenReturn(null);
+            when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456")).thenReturn(
+                new String[] { "main", "abc123def456" }
+            );
+            lenient().when(gitDiffOperations.diffStat(repository, "main", "abc123def456")).thenReturn(null);
             // null is what an unresolved object, an I/O error, or the 20 MiB cap looks like.
-            when(gitDiffOperations.diff(Path.of(repoPath), "main", "abc123def456")).thenReturn(null);
+            when(gitDiffOperations.diff(repository, "main", "abc123def456")).thenReturn(null);
 
             assertThatThrownBy(() -> provider.capture(request(sampleMetadata()), java.util.Set.of(DIFF)))
                 .isInstanceOf(JobPreparationException.class)
@@ -361,9 +361,9 @@ class PullRequestContentSourceTest extends BaseUnitTest {
                 .when(reviewCommentRepository.findRecentByPullRequestIdWithAuthor(eq(456L), any()))
                 .thenReturn(List.of());
             when(gitRepositoryManager.commitExists(123L, "abc123def456")).thenReturn(true);
-            when(
-                gitDiffOperations.resolveDiffRange(Path.of(repoPath), "main", "feature/auth-fix", "abc123def456")
-            ).thenReturn(null);
+            when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456")).thenReturn(
+                null
+            );
 
             assertThatThrownBy(() -> provider.contribute(request(sampleMetadata()), new LinkedHashMap<>()))
                 .isInstanceOf(JobPreparationException.class)
@@ -378,9 +378,9 @@ class PullRequestContentSourceTest extends BaseUnitTest {
                 .when(reviewCommentRepository.findRecentByPullRequestIdWithAuthor(eq(456L), any()))
                 .thenReturn(List.of());
             when(gitRepositoryManager.commitExists(123L, "abc123def456")).thenReturn(false);
-            when(
-                gitDiffOperations.resolveDiffRange(Path.of(repoPath), "main", "feature/auth-fix", "abc123def456")
-            ).thenReturn(null);
+            when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456")).thenReturn(
+                null
+            );
 
             assertThatThrownBy(() -> provider.contribute(request(sampleMetadata()), new LinkedHashMap<>()))
                 .isInstanceOf(JobPreparationException.class)
@@ -394,13 +394,13 @@ class PullRequestContentSourceTest extends BaseUnitTest {
             lenient()
                 .when(reviewCommentRepository.findRecentByPullRequestIdWithAuthor(eq(456L), any()))
                 .thenReturn(List.of());
-            when(
-                gitDiffOperations.resolveDiffRange(Path.of(repoPath), "main", "feature/auth-fix", "abc123def456")
-            ).thenReturn(new String[] { "main", "abc123def456" });
+            when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456")).thenReturn(
+                new String[] { "main", "abc123def456" }
+            );
             lenient()
-                .when(gitDiffOperations.diffStat(Path.of(repoPath), "main", "abc123def456"))
+                .when(gitDiffOperations.diffStat(repository, "main", "abc123def456"))
                 .thenReturn("1 file changed");
-            when(gitDiffOperations.diff(Path.of(repoPath), "main", "abc123def456")).thenThrow(
+            when(gitDiffOperations.diff(repository, "main", "abc123def456")).thenThrow(
                 new RuntimeException("git process crashed")
             );
 
@@ -414,11 +414,11 @@ class PullRequestContentSourceTest extends BaseUnitTest {
             stubGit();
             when(pullRequestRepository.findByIdWithAllForGate(456L)).thenReturn(Optional.empty());
             when(reviewCommentRepository.findRecentByPullRequestIdWithAuthor(eq(456L), any())).thenReturn(List.of());
-            when(
-                gitDiffOperations.resolveDiffRange(Path.of(repoPath), "main", "feature/auth-fix", "abc123def456")
-            ).thenReturn(new String[] { "main", "abc123def456" });
-            when(gitDiffOperations.diffStat(Path.of(repoPath), "main", "abc123def456")).thenReturn("1 file changed");
-            when(gitDiffOperations.diff(Path.of(repoPath), "main", "abc123def456")).thenReturn(
+            when(gitDiffOperations.resolveDiffRange(repository, "main", "feature/auth-fix", "abc123def456")).thenReturn(
+                new String[] { "main", "abc123def456" }
+            );
+            when(gitDiffOperations.diffStat(repository, "main", "abc123def456")).thenReturn("1 file changed");
+            when(gitDiffOperations.diff(repository, "main", "abc123def456")).thenReturn(
                 "diff --git a/src/A.java b/src/A.java\n@@ -1,1 +1,2 @@\n context\n+added\n"
             );
 
@@ -3,6 +3,8 @@ package de.tum.cit.aet.hephaestus.agent.context.providers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +16,7 @@ import de.tum.cit.aet.hephaestus.evidence.SourceAbsenceReason;
 import de.tum.cit.aet.hephaestus.evidence.SourceCaptureState;
 import de.tum.cit.aet.hephaestus.evidence.SourceKind;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.GitRepositoryManager;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.TreeSnapshotCache;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
@@ -67,6 +70,33 @@ class RepositoryTreeContentSourceTest extends BaseUnitTest {
         verify(gitRepositoryManager).readTreeSnapshot(17L, "0123456789012345678901234567890123456789");
     }
 
+    @Test
+    @org.junit.jupiter.api.DisplayName("takes the tree from the shared snapshot cache when one is wired")
+    void shouldTakeTheTreeFromTheSharedCache() {
+        TreeSnapshotCache cache = mock(TreeSnapshotCache.class);
+        source = new RepositoryTreeContentSource(gitRepositoryManager, cache);
+        AgentJob job = job(17L, "0123456789012345678901234567890123456789");
+        when(gitRepositoryManager.isEnabled()).thenReturn(true);
+        when(gitRepositoryManager.isRepositoryCloned(17L)).thenReturn(true);
+        var shared = new GitRepositoryManager.GitTreeSnapshot(
+            stagingDir,
+            "0123456789012345678901234567890123456789",
+            "1123456789012345678901234567890123456789",
+            Map.of("src/App.java", stagingDir.resolve("src/App.java")),
+            12,
+            1,
+            true,
+            Set.of(),
+            () -> {}
+        );
+        when(cache.acquire(17L, "0123456789012345678901234567890123456789")).thenReturn(shared);
+
+        var contribution = source.capture(new ContextRequest.PracticeReviewRequest(job), source.sourceKinds());
+
+        assertThat(contribution.filesOnDisk()).containsOnlyKeys("inputs/sources/scm/repo/src/App.java");
+        verify(gitRepositoryManager, never()).readTreeSnapshot(17L, "0123456789012345678901234567890123456789");
+    }
+
     @Test
     @org.junit.jupiter.api.DisplayName("reports a bounded tree as PARTIAL and names the bound that stopped it")
     void shouldReportATruncatedTreeAsPartialWithItsLimitation() {
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.hephaestus.agent.AgentJobType;
@@ -16,7 +17,6 @@ import de.tum.cit.aet.hephaestus.integration.core.events.EventContext;
 import de.tum.cit.aet.hephaestus.integration.core.events.RepositoryRef;
 import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
 import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
-import de.tum.cit.aet.hephaestus.integration.core.signal.DiscoveredVia;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalRecorder;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalStateReason;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.common.DataSource;
@@ -83,7 +83,7 @@ class AgentJobEventListenerTest extends BaseUnitTest {
             agentJobService,
             pullRequestRepository,
             practiceReviewDetectionGate,
-            workspaceResolver,
+            new ScmEventSignalKeys(workspaceResolver, pullRequestRepository),
             signalRecorder
         );
 
@@ -191,15 +191,15 @@ class AgentJobEventListenerTest extends BaseUnitTest {
     class FilteringTests {
 
         @Test
-        void shouldRecordSyncDiscoveredSignalsWithoutReviewingThem() {
+        void shouldLeaveSyncDiscoveredSignalsToTheBatcher() {
             // Recording is unconditional; triggering is policy — replaying history as live coaching is
-            // not what a sync was asked to do.
+            // not what a sync was asked to do. SyncSignalBatcher records it a page at a time.
             var prData = createPrData(Issue.State.OPEN, false, false);
             var event = new ScmDomainEvent.PullRequestCreated(prData, syncContext());
 
             listener.onPullRequestCreated(event);
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(pullRequestRepository, never()).findByIdWithAllForGate(any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
         }
@@ -489,13 +489,13 @@ class AgentJobEventListenerTest extends BaseUnitTest {
         }
 
         @Test
-        void shouldRecordSyncDiscoveredSignalsWithoutReviewingThem() {
+        void shouldLeaveSyncDiscoveredSignalsToTheBatcher() {
             var prData = createPrData(Issue.State.OPEN, false, false);
             var event = new ScmDomainEvent.PullRequestSynchronized(prData, syncContext());
 
             listener.onPullRequestSynchronized(event);
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(pullRequestRepository, never()).findByIdWithAllForGate(any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
         }
@@ -541,26 +541,15 @@ class AgentJobEventListenerTest extends BaseUnitTest {
         }
 
         @Test
-        void shouldRecordSyncDiscoveredSignalsWithoutReviewingThem() {
-            // Unlike the other handlers, ReviewSubmitted carries no PullRequestData, so the PR must be
-            // loaded before anything can be keyed.
+        void shouldLeaveSyncDiscoveredSignalsToTheBatcher() {
+            // Returns before the PR load this handler otherwise needs to key anything: the batcher keys it.
             var reviewData = createReviewData();
             var event = new ScmDomainEvent.ReviewSubmitted(reviewData, syncContext());
 
-            PullRequest pr = mockPullRequest("abc123", "feature/test", "main");
-            Repository repo = new Repository();
-            repo.setId(100L);
-            repo.setNameWithOwner("owner/repo");
-            repo.setDefaultBranch("main");
-            pr.setRepository(repo);
-            pr.setNumber(PR_NUMBER);
-            pr.setTitle("Test PR");
-            pr.setHtmlUrl("https://github.com/owner/repo/pull/42");
-            when(pullRequestRepository.findByIdWithAllForGate(PR_ID)).thenReturn(Optional.of(pr));
-
             listener.onReviewSubmitted(event);
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
+            verify(pullRequestRepository, never()).findByIdWithAllForGate(any());
             verify(practiceReviewDetectionGate, never()).evaluate(any(), any(), any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
         }
@@ -737,7 +726,7 @@ class AgentJobEventListenerTest extends BaseUnitTest {
             var prData = createPrData(Issue.State.MERGED, false, true);
             listener.onPullRequestMerged(new ScmDomainEvent.PullRequestMerged(prData, syncContext()));
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(pullRequestRepository, never()).findByIdWithAllForGate(any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
         }
@@ -781,7 +770,7 @@ class AgentJobEventListenerTest extends BaseUnitTest {
             var prData = createPrData(Issue.State.CLOSED, false, false);
             listener.onPullRequestClosed(new ScmDomainEvent.PullRequestClosed(prData, false, syncContext()));
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(pullRequestRepository, never()).findByIdWithAllForGate(any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
         }
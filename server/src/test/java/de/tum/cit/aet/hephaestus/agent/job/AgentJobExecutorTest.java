@@ -1755,6 +1755,112 @@ class AgentJobExecutorTest extends BaseUnitTest {
             verify(jobRepository, never()).findByIdQueuedForUpdateSkipLocked(any(), any());
         }
 
+        @Test
+        @DisplayName("wakeUp() ends an idle wait long before the poll interval elapses")
+        void wakeUpEndsIdleWaitEarly() throws Exception {
+            executor = slowPollExecutor();
+            var firstPoll = new CountDownLatch(1);
+            var secondPoll = new CountDownLatch(2);
+            when(jobRepository.findQueuedIdsOldestFirst(anyInt())).thenAnswer(invocation -> {
+                firstPoll.countDown();
+                secondPoll.countDown();
+                return List.of();
+            });
+
+            executor.start();
+            try {
+                assertThat(firstPoll.await(5, TimeUnit.SECONDS)).isTrue();
+                executor.wakeUp();
+                assertThat(secondPoll.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.stopAcceptingNewJobs();
+            }
+
+            assertThat(meterRegistry.get("agent.job.poll.wakeups").tag("trigger", "notify").counter().count())
+                .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("a hub-assigned job is claimed by id, without another candidate scan")
+        void assignedJobIsClaimedWithoutScan() throws Exception {
+            executor = slowPollExecutor();
+            var firstPoll = new CountDownLatch(1);
+            var claimAttempted = new CountDownLatch(1);
+            when(jobRepository.findQueuedIdsOldestFirst(anyInt())).thenAnswer(invocation -> {
+                firstPoll.countDown();
+                return List.of();
+            });
+            when(jobRepository.findByIdQueuedForUpdateSkipLocked(eq(jobId), any())).thenAnswer(invocation -> {
+                claimAttempted.countDown();
+                return Optional.empty(); // lost the race to a poller: the job simply isn't ours
+            });
+
+            executor.start();
+            try {
+                assertThat(firstPoll.await(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(executor.offerAssignedJob(jobId)).isTrue();
+                assertThat(claimAttempted.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.stopAcceptingNewJobs();
+            }
+
+            verify(jobRepository, times(1)).findQueuedIdsOldestFirst(anyInt());
+        }
+
+        @Test
+        @DisplayName("NOTIFY wakeups are ignored while the hub is placing jobs, and assignments need a running loop")
+        void pushDispatchSuppressesNotifyWakeups() throws Exception {
+            executor = slowPollExecutor();
+            assertThat(executor.offerAssignedJob(jobId)).isFalse(); // not started yet
+
+            var firstPoll = new CountDownLatch(1);
+            when(jobRepository.findQueuedIdsOldestFirst(anyInt())).thenAnswer(invocation -> {
+                firstPoll.countDown();
+                return List.of();
+            });
+            executor.setPushDispatchActive(() -> true);
+
+            executor.start();
+            try {
+                assertThat(firstPoll.await(5, TimeUnit.SECONDS)).isTrue();
+                executor.onJobsAvailable();
+                Thread.sleep(200);
+            } finally {
+                executor.stopAcceptingNewJobs();
+            }
+
+            verify(jobRepository, times(1)).findQueuedIdsOldestFirst(anyInt());
+        }
+
+        private AgentJobExecutor slowPollExecutor() {
+            AgentProperties slowPoll = new AgentProperties(
+                true,
+                Duration.ofMinutes(1),
+                5,
+                5,
+                Duration.ofSeconds(25),
+                Duration.ofDays(14),
+                Duration.ofDays(90)
+            );
+            return new AgentJobExecutor(
+                slowPoll,
+                jobRepository,
+                bindingRepository,
+                handlerRegistry,
+                practiceAgent,
+                sandboxManager,
+                sandboxExecutor,
+                transactionTemplate,
+                objectMapper,
+                meterRegistry,
+                usageRecorder,
+                llmBudgetService,
+                NO_LIVE_ADMISSION,
+                Optional.empty(),
+                Optional.empty()
+            );
+        }
+
         @Test
         @DisplayName(
             "capacity is further bounded by the sandbox executor's actual free pool " +
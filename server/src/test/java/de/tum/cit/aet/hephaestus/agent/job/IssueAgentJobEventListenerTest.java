@@ -6,9 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.hephaestus.agent.AgentJobType;
@@ -17,13 +19,13 @@ import de.tum.cit.aet.hephaestus.integration.core.events.EventContext;
 import de.tum.cit.aet.hephaestus.integration.core.events.RepositoryRef;
 import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
 import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
-import de.tum.cit.aet.hephaestus.integration.core.signal.DiscoveredVia;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalKey;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalRecorder;
 import de.tum.cit.aet.hephaestus.integration.core.signal.SignalStateReason;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.common.DataSource;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.Issue;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.IssueRepository;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequestRepository;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.repository.Repository;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.signal.ScmSignals;
 import de.tum.cit.aet.hephaestus.practices.review.GateDecision;
@@ -73,7 +75,7 @@ class IssueAgentJobEventListenerTest extends BaseUnitTest {
             agentJobService,
             issueRepository,
             practiceReviewDetectionGate,
-            workspaceResolver,
+            new ScmEventSignalKeys(workspaceResolver, mock(PullRequestRepository.class)),
             signalRecorder
         );
 
@@ -176,16 +178,17 @@ class IssueAgentJobEventListenerTest extends BaseUnitTest {
     class FilteringTests {
 
         @Test
-        void shouldRecordSyncDiscoveredSignalsWithoutReviewingThem() {
+        void shouldLeaveSyncDiscoveredSignalsToTheBatcher() {
             // Recording is unconditional; triggering is policy. Reconciliation establishes THAT the issue
-            // was opened, which is why the row is written — but replaying a repository's whole history as
-            // live coaching is not what a sync was asked to do, so nothing else runs.
+            // was opened, which is why SyncSignalBatcher writes the row a page at a time — but replaying a
+            // repository's whole history as live coaching is not what a sync was asked to do, so nothing
+            // runs here.
             var issueData = createIssueData(Issue.State.OPEN);
             var event = new ScmDomainEvent.IssueCreated(issueData, syncContext());
 
             listener.onIssueCreated(event);
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(issueRepository, never()).findByIdWithRepositoryAndAssignees(anyLong());
             verify(practiceReviewDetectionGate, never()).evaluateIssue(any(), any(), any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
@@ -436,13 +439,13 @@ class IssueAgentJobEventListenerTest extends BaseUnitTest {
         }
 
         @Test
-        void onIssueClosed_recordsSyncDiscoveredClosesWithoutReviewingThem() {
+        void onIssueClosed_leavesSyncDiscoveredClosesToTheBatcher() {
             // The sync-trigger guard: a history replay must NOT fire a retrospective review for every issue
             // the repository ever closed. Without it, one sync = a mass-replay job storm.
             var issueData = createIssueData(Issue.State.CLOSED);
             listener.onIssueClosed(new ScmDomainEvent.IssueClosed(issueData, "completed", syncContext()));
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(issueRepository, never()).findByIdWithRepositoryAndAssignees(anyLong());
             verify(practiceReviewDetectionGate, never()).evaluateIssue(any(), any(), any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
@@ -486,15 +489,15 @@ class IssueAgentJobEventListenerTest extends BaseUnitTest {
         }
 
         @Test
-        void shouldRecordSyncDiscoveredSignalsWithoutReviewingThem() {
-            // Same split as the created path: a labelling caught up with by reconciliation is recorded and
-            // not coached on.
+        void shouldLeaveSyncDiscoveredSignalsToTheBatcher() {
+            // Same split as the created path: a labelling caught up with by reconciliation is recorded by
+            // the batcher and not coached on.
             var issueData = createIssueData(Issue.State.OPEN);
             var event = new ScmDomainEvent.IssueLabeled(issueData, createLabelData(), syncContext());
 
             listener.onIssueLabeled(event);
 
-            verify(signalRecorder).record(any(), any(), eq(DiscoveredVia.SYNC));
+            verifyNoInteractions(signalRecorder);
             verify(issueRepository, never()).findByIdWithRepositoryAndAssignees(anyLong());
             verify(practiceReviewDetectionGate, never()).evaluateIssue(any(), any(), any());
             verify(agentJobService, never()).submit(any(), any(), any(), any());
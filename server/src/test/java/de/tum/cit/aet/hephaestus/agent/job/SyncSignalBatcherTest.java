@@ -0,0 +1,248 @@
+package de.tum.cit.aet.hephaestus.agent.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import de.tum.cit.aet.hephaestus.integration.core.events.EventContext;
+import de.tum.cit.aet.hephaestus.integration.core.events.RepositoryRef;
+import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
+import de.tum.cit.aet.hephaestus.integration.core.events.ScmEventPayload;
+import de.tum.cit.aet.hephaestus.integration.core.signal.DiscoveredVia;
+import de.tum.cit.aet.hephaestus.integration.core.signal.SignalKey;
+import de.tum.cit.aet.hephaestus.integration.core.signal.SignalRecorder;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.common.DataSource;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.issue.Issue;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.pullrequest.PullRequestRepository;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import de.tum.cit.aet.hephaestus.workspace.WorkspaceResolver;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for page-at-a-time recording of sync observations. Each test opens a bare transaction
+ * synchronization to stand in for the sync processor's page transaction, then completes it by hand.
+ */
+class SyncSignalBatcherTest extends BaseUnitTest {
+
+    private static final RepositoryRef REPO_REF = new RepositoryRef(100L, "owner/repo", "main");
+
+    @Mock
+    private WorkspaceResolver workspaceResolver;
+
+    @Mock
+    private PullRequestRepository pullRequestRepository;
+
+    @Mock
+    private SignalRecorder signalRecorder;
+
+    private SyncSignalBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new SyncSignalBatcher(
+            new ScmEventSignalKeys(workspaceResolver, pullRequestRepository),
+            pullRequestRepository,
+            signalRecorder,
+            new TransactionTemplate(mock(PlatformTransactionManager.class))
+        );
+
+        Workspace owningWorkspace = new Workspace();
+        owningWorkspace.setId(1L);
+        // Lenient: the paths that never reach a flush never ask these questions.
+        lenient().when(workspaceResolver.resolveForRepository(any())).thenReturn(Optional.of(owningWorkspace));
+        lenient().when(pullRequestRepository.findHeadRefOidById(any())).thenReturn(Optional.of("abc123"));
+        lenient().when(signalRecorder.recordAll(any(), any())).thenReturn(Set.of());
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("a committed page records every observation in one bulk write")
+    @SuppressWarnings("unchecked")
+    void shouldRecordAPageInOneWrite() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.OPEN), sync()));
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(2L, Issue.State.OPEN), sync()));
+        batcher.onPullRequestMerged(new ScmDomainEvent.PullRequestMerged(prData(3L, Issue.State.MERGED), sync()));
+        verifyNoInteractions(signalRecorder);
+
+        commit();
+
+        ArgumentCaptor<Map<SignalKey, Instant>> occurrences = ArgumentCaptor.forClass(Map.class);
+        verify(signalRecorder).recordAll(occurrences.capture(), eq(DiscoveredVia.SYNC));
+        assertThat(occurrences.getValue().keySet())
+            .extracting(SignalKey::artifactId)
+            .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("a page that rolled back observed nothing")
+    void shouldRecordNothingForARolledBackPage() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.OPEN), sync()));
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(signalRecorder);
+    }
+
+    @Test
+    @DisplayName("a nested transaction that rolled back drops only its own observations")
+    void shouldKeepANestedRollbackOutOfTheOuterPage() {
+        TransactionSynchronizationManager.initSynchronization();
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.OPEN), sync()));
+
+        inNestedTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () ->
+            batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(2L, Issue.State.OPEN), sync()))
+        );
+        verifyNoInteractions(signalRecorder);
+
+        commit();
+
+        assertThat(recordedArtifactIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("a nested transaction that committed records its observations even if the outer one rolls back")
+    void shouldRecordANestedCommitOnItsOwn() {
+        TransactionSynchronizationManager.initSynchronization();
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.OPEN), sync()));
+
+        inNestedTransaction(TransactionSynchronization.STATUS_COMMITTED, () ->
+            batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(2L, Issue.State.OPEN), sync()))
+        );
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(recordedArtifactIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("webhook deliveries are left to the live listeners")
+    void shouldIgnoreWebhookEvents() {
+        TransactionSynchronizationManager.initSynchronization();
+        EventContext webhook = new EventContext(
+            UUID.randomUUID(),
+            Instant.now(),
+            1L,
+            REPO_REF,
+            DataSource.WEBHOOK,
+            "opened",
+            UUID.randomUUID().toString(),
+            null
+        );
+
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.OPEN), webhook));
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a pull request a sync saw already closed is no ready-for-review signal")
+    void shouldIgnoreCreatedEventsForClosedPullRequests() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.CLOSED), sync()));
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("an event published outside a transaction is ignored")
+    void shouldIgnoreEventsOutsideATransaction() {
+        batcher.onPullRequestCreated(new ScmDomainEvent.PullRequestCreated(prData(1L, Issue.State.OPEN), sync()));
+
+        verifyNoInteractions(signalRecorder);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    /**
+     * Runs {@code body} in a stand-in for a {@code REQUIRES_NEW} transaction: the outer synchronizations are
+     * suspended and a fresh set is opened, completed with {@code status}, and swapped back out, as
+     * {@code AbstractPlatformTransactionManager} does.
+     */
+    private static void inNestedTransaction(int status, Runnable body) {
+        List<TransactionSynchronization> outer = TransactionSynchronizationManager.getSynchronizations();
+        outer.forEach(TransactionSynchronization::suspend);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        body.run();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            commit();
+        } else {
+            TransactionSynchronizationUtils.triggerAfterCompletion(status);
+        }
+
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        for (TransactionSynchronization synchronization : outer) {
+            synchronization.resume();
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> recordedArtifactIds() {
+        ArgumentCaptor<Map<SignalKey, Instant>> occurrences = ArgumentCaptor.forClass(Map.class);
+        verify(signalRecorder).recordAll(occurrences.capture(), eq(DiscoveredVia.SYNC));
+        return occurrences.getValue().keySet().stream().map(SignalKey::artifactId).toList();
+    }
+
+    private static EventContext sync() {
+        return EventContext.forSync(1L, REPO_REF);
+    }
+
+    private static ScmEventPayload.PullRequestData prData(Long id, Issue.State state) {
+        return new ScmEventPayload.PullRequestData(
+            id,
+            id.intValue(),
+            "Test PR",
+            "body",
+            state,
+            false,
+            state == Issue.State.MERGED,
+            0,
+            0,
+            0,
+            "https://github.com/owner/repo/pull/" + id,
+            REPO_REF,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+}
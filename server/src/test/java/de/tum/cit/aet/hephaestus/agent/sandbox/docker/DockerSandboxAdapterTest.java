@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -26,6 +27,7 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -81,9 +83,11 @@ class DockerSandboxAdapterTest extends BaseUnitTest {
         Map.of()
     );
 
+    private SandboxProperties properties;
+
     @BeforeEach
     void setUp() {
-        SandboxProperties properties = new SandboxProperties(
+        properties = new SandboxProperties(
             "unix:///var/run/docker.sock",
             false,
             null,
@@ -1033,4 +1037,72 @@ class DockerSandboxAdapterTest extends BaseUnitTest {
             assertThat(env.get("GIT_CONFIG_VALUE_0")).isEqualTo("/nonexistent");
         }
     }
+
+    @Nested
+    class WarmPool {
+
+        private static final String POOLED_NETWORK_ID = "net-pooled";
+
+        @Mock
+        private SandboxWarmPool warmPool;
+
+        @BeforeEach
+        void useWarmPool() {
+            sandboxAdapter = new DockerSandboxAdapter(
+                networkManager,
+                workspaceManager,
+                containerManager,
+                securityPolicy,
+                properties,
+                8080,
+                meterRegistry,
+                warmPool
+            );
+            when(securityPolicy.buildHostConfig(any(), any(), any())).thenReturn(DEFAULT_HOST_CONFIG);
+            when(securityPolicy.buildLabels(JOB_ID)).thenReturn(Map.of("hephaestus.managed", "true"));
+            when(containerManager.createContainer(any())).thenReturn(CONTAINER_ID);
+            when(containerManager.waitForCompletion(eq(CONTAINER_ID), any())).thenReturn(
+                new SandboxContainerManager.WaitOutcome(0, false)
+            );
+            when(workspaceManager.collectOutput(eq(CONTAINER_ID), anyString())).thenReturn(Map.of());
+            when(containerManager.getLogs(eq(CONTAINER_ID), anyInt())).thenReturn("");
+        }
+
+        @Test
+        void shouldRunOnAClaimedNetworkWithoutCreatingOne() {
+            var lease = new SandboxWarmPool.Lease(UUID.randomUUID(), POOLED_NETWORK_ID, APP_SERVER_IP);
+            when(warmPool.claim(false)).thenReturn(Optional.of(lease));
+            when(warmPool.pools(false)).thenReturn(true);
+
+            SandboxResult result = sandboxAdapter.execute(createSpec());
+
+            assertThat(result.exitCode()).isZero();
+            verify(networkManager, never()).createJobNetwork(any(), anyBoolean());
+            verify(networkManager, never()).connectAppServer(any());
+            ArgumentCaptor<DockerOperations.ContainerSpec> captor = ArgumentCaptor.forClass(
+                DockerOperations.ContainerSpec.class
+            );
+            verify(containerManager).createContainer(captor.capture());
+            assertThat(captor.getValue().networkId()).isEqualTo(POOLED_NETWORK_ID);
+
+            InOrder cleanupOrder = inOrder(networkManager, warmPool);
+            cleanupOrder.verify(networkManager).removeNetwork(POOLED_NETWORK_ID);
+            cleanupOrder.verify(warmPool).release(lease);
+            assertThat(meterRegistry.timer("sandbox.startup.duration", "pool", "hit").count()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldCreateTheNetworkOnAMiss() {
+            when(warmPool.claim(false)).thenReturn(Optional.empty());
+            when(warmPool.pools(false)).thenReturn(true);
+            when(networkManager.createJobNetwork(JOB_ID, false)).thenReturn(NETWORK_ID);
+            when(networkManager.connectAppServer(NETWORK_ID)).thenReturn(APP_SERVER_IP);
+
+            sandboxAdapter.execute(createSpec());
+
+            verify(networkManager).removeNetwork(NETWORK_ID);
+            verify(warmPool, never()).release(any());
+            assertThat(meterRegistry.timer("sandbox.startup.duration", "pool", "miss").count()).isEqualTo(1);
+        }
+    }
 }
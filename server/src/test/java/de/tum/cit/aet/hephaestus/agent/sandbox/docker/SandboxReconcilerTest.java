@@ -393,4 +393,76 @@ class SandboxReconcilerTest extends BaseUnitTest {
             assertThat(meterRegistry.timer("sandbox.reconciler.duration").count()).isEqualTo(1);
         }
     }
+
+    @Nested
+    class WarmPoolNetworks {
+
+        @Mock
+        private SandboxWarmPool warmPool;
+
+        @BeforeEach
+        void useWarmPool() {
+            reconciler = new SandboxReconciler(
+                jobRepository,
+                containerManager,
+                networkManager,
+                warmPool,
+                meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC)
+            );
+            when(jobRepository.findByStatusIn(any())).thenReturn(List.of());
+            when(containerManager.listManagedContainers()).thenReturn(List.of());
+        }
+
+        @Test
+        void shouldRemoveAPoolNetworkThePoolNoLongerTracks() {
+            UUID memberId = UUID.randomUUID();
+            when(networkManager.listOrphanedNetworks()).thenReturn(
+                List.of(new DockerOperations.NetworkInfo("net-leaked", "agent-net-pool-" + memberId))
+            );
+            when(warmPool.isMember(memberId)).thenReturn(false);
+
+            reconciler.periodicReconciliation();
+
+            verify(networkManager).disconnectAppServer("net-leaked");
+            verify(networkManager).removeNetwork("net-leaked");
+            assertThat(
+                meterRegistry.counter("sandbox.reconciler.orphaned", "resource", "pool-network").count()
+            ).isEqualTo(1.0);
+        }
+
+        @Test
+        void shouldKeepAPoolNetworkWhoseMemberIsParkedOrClaimed() {
+            UUID memberId = UUID.randomUUID();
+            when(networkManager.listOrphanedNetworks()).thenReturn(
+                List.of(new DockerOperations.NetworkInfo("net-parked", "agent-net-pool-" + memberId))
+            );
+            when(warmPool.isMember(memberId)).thenReturn(true);
+
+            reconciler.periodicReconciliation();
+
+            verify(networkManager, never()).removeNetwork(any());
+        }
+
+        @Test
+        void shouldNotMistakeAPoolNetworkForAJobNetwork() {
+            // Without the pool prefix check the suffix "pool-<uuid>" would fail UUID parsing and be skipped forever.
+            UUID memberId = UUID.randomUUID();
+            reconciler = new SandboxReconciler(
+                jobRepository,
+                containerManager,
+                networkManager,
+                meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC)
+            );
+            when(networkManager.listOrphanedNetworks()).thenReturn(
+                List.of(new DockerOperations.NetworkInfo("net-stale", "agent-net-pool-" + memberId))
+            );
+
+            reconciler.periodicReconciliation();
+
+            verify(networkManager).removeNetwork("net-stale");
+            verify(warmPool, never()).isMember(any());
+        }
+    }
 }
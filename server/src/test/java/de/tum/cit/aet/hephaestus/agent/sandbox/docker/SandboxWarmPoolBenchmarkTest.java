@@ -0,0 +1,245 @@
+package de.tum.cit.aet.hephaestus.agent.sandbox.docker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import de.tum.cit.aet.hephaestus.agent.sandbox.SandboxProperties;
+import de.tum.cit.aet.hephaestus.agent.sandbox.SandboxWarmPoolProperties;
+import de.tum.cit.aet.hephaestus.agent.sandbox.spi.NetworkPolicy;
+import de.tum.cit.aet.hephaestus.agent.sandbox.spi.ResourceLimits;
+import de.tum.cit.aet.hephaestus.agent.sandbox.spi.SandboxSpec;
+import de.tum.cit.aet.hephaestus.agent.sandbox.spi.SecurityProfile;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs {@value #JOBS} agent jobs through {@link DockerSandboxAdapter} against a fake Docker daemon whose network
+ * calls take as long as a loaded daemon's ({@value #CREATE_NETWORK_MS} ms to create, {@value #CONNECT_MS} ms to
+ * connect the app-server), once without a warm pool and once with one. Jobs arrive every {@value #ARRIVAL_GAP_MS}
+ * ms; each run logs the pool hit rate and p50/p99 of {@code sandbox.startup.duration}, the server-side share of
+ * time-to-first-token. Every job must succeed; timings are logged, not asserted.
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class SandboxWarmPoolBenchmarkTest extends BaseUnitTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SandboxWarmPoolBenchmarkTest.class);
+
+    private static final int JOBS = 30;
+    private static final long CREATE_NETWORK_MS = 120;
+    private static final long CONNECT_MS = 60;
+    private static final long START_CONTAINER_MS = 40;
+    private static final long ARRIVAL_GAP_MS = 150;
+
+    private final SandboxProperties properties = new SandboxProperties(
+        "unix:///var/run/docker.sock",
+        false,
+        null,
+        5,
+        10,
+        60,
+        null,
+        null,
+        null,
+        209_715_200L,
+        500_000,
+        null
+    );
+
+    @Test
+    void warmPoolShortensStartup() throws Exception {
+        report("no pool", run(null));
+        report("warm pool (2 internal)", run(new SandboxWarmPoolProperties(2, 0, Duration.ofSeconds(30))));
+    }
+
+    private SimpleMeterRegistry run(SandboxWarmPoolProperties poolProperties) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry
+            .config()
+            .meterFilter(
+                new MeterFilter() {
+                    @Override
+                    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                        return DistributionStatisticConfig.builder().percentiles(0.5, 0.99).build().merge(config);
+                    }
+                }
+            );
+        SandboxNetworkManager networkManager = new SandboxNetworkManager(
+            new SlowNetworkOperations(),
+            properties,
+            () -> "app-server"
+        );
+        SandboxWarmPool pool = null;
+        if (poolProperties != null) {
+            pool = new SandboxWarmPool(networkManager, poolProperties, meterRegistry);
+            pool.start();
+            // A deployment's pool fills long before the first job; give this one the same head start.
+            Thread.sleep((CREATE_NETWORK_MS + CONNECT_MS) * poolProperties.internal() + ARRIVAL_GAP_MS);
+        }
+        try {
+            DockerSandboxAdapter adapter = new DockerSandboxAdapter(
+                networkManager,
+                mock(SandboxWorkspaceManager.class),
+                fakeContainers(),
+                fakeSecurityPolicy(),
+                properties,
+                8080,
+                meterRegistry,
+                pool
+            );
+            for (int i = 0; i < JOBS; i++) {
+                assertThat(adapter.execute(spec()).exitCode()).isZero();
+                Thread.sleep(ARRIVAL_GAP_MS);
+            }
+        } finally {
+            if (pool != null) {
+                pool.stop();
+            }
+        }
+        return meterRegistry;
+    }
+
+    private void report(String shape, SimpleMeterRegistry meterRegistry) {
+        Timer startup = meterRegistry.get("sandbox.startup.duration").timer();
+        double hits = claims(meterRegistry, "hit");
+        double misses = claims(meterRegistry, "miss");
+        ValueAtPercentile[] percentiles = startup.takeSnapshot().percentileValues();
+        log.info(
+            "{}: {} jobs, pool hit rate {}, startup p50 {} ms, p99 {} ms",
+            shape,
+            startup.count(),
+            hits + misses == 0 ? "n/a" : String.format("%.0f%%", 100 * hits / (hits + misses)),
+            String.format("%.0f", percentiles[0].value(TimeUnit.MILLISECONDS)),
+            String.format("%.0f", percentiles[1].value(TimeUnit.MILLISECONDS))
+        );
+    }
+
+    private static double claims(SimpleMeterRegistry meterRegistry, String outcome) {
+        return meterRegistry
+            .find("sandbox.pool.claims")
+            .tag("outcome", outcome)
+            .counters()
+            .stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+
+    private static SandboxSpec spec() {
+        return new SandboxSpec(
+            UUID.randomUUID(),
+            "alpine:latest",
+            List.of("echo", "hello"),
+            Map.of(),
+            new NetworkPolicy(false, null, "bench-token"),
+            ResourceLimits.DEFAULT,
+            SecurityProfile.DEFAULT,
+            Map.of(".prompt", "bench".getBytes()),
+            "/workspace/out",
+            null
+        );
+    }
+
+    private SandboxContainerManager fakeContainers() {
+        SandboxContainerManager containers = mock(SandboxContainerManager.class);
+        AtomicInteger ids = new AtomicInteger();
+        lenient()
+            .when(containers.createContainer(any()))
+            .thenAnswer(invocation -> "ctr-" + ids.incrementAndGet());
+        doAnswer(invocation -> {
+            Thread.sleep(START_CONTAINER_MS);
+            return null;
+        })
+            .when(containers)
+            .startContainer(anyString());
+        lenient()
+            .when(containers.waitForCompletion(anyString(), any()))
+            .thenReturn(new SandboxContainerManager.WaitOutcome(0, false));
+        lenient().when(containers.getLogs(anyString(), anyInt())).thenReturn("");
+        return containers;
+    }
+
+    private ContainerSecurityPolicy fakeSecurityPolicy() {
+        ContainerSecurityPolicy policy = mock(ContainerSecurityPolicy.class);
+        lenient()
+            .when(policy.buildHostConfig(any(), any(), any()))
+            .thenReturn(
+                new DockerOperations.HostConfigSpec(
+                    1L << 30,
+                    1L << 30,
+                    1_000_000_000L,
+                    256,
+                    true,
+                    false,
+                    List.of("ALL"),
+                    List.of(),
+                    Map.of(),
+                    List.of(),
+                    "private",
+                    "none",
+                    null,
+                    Map.of()
+                )
+            );
+        lenient().when(policy.buildLabels(any())).thenReturn(Map.of(SandboxLabels.MANAGED, "true"));
+        return policy;
+    }
+
+    /** Network calls that cost what they cost on a busy daemon; nothing else is exercised. */
+    private static final class SlowNetworkOperations implements DockerNetworkOperations {
+
+        private final AtomicInteger ids = new AtomicInteger();
+
+        @Override
+        public String createNetwork(String name, boolean internal) {
+            sleep(CREATE_NETWORK_MS);
+            return "net-" + ids.incrementAndGet();
+        }
+
+        @Override
+        public String connectToNetwork(String networkId, String containerId) {
+            sleep(CONNECT_MS);
+            return "172.18.0.2";
+        }
+
+        @Override
+        public void disconnectFromNetwork(String networkId, String containerId) {}
+
+        @Override
+        public void removeNetwork(String networkId) {}
+
+        @Override
+        public List<DockerOperations.NetworkInfo> listNetworksByName(String namePrefix) {
+            return List.of();
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
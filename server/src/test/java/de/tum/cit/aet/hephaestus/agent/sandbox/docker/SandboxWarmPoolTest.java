@@ -0,0 +1,179 @@
+package de.tum.cit.aet.hephaestus.agent.sandbox.docker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.agent.sandbox.SandboxWarmPoolProperties;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class SandboxWarmPoolTest extends BaseUnitTest {
+
+    @Mock
+    private SandboxNetworkManager networkManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger networks = new AtomicInteger();
+    private SandboxWarmPool pool;
+
+    @BeforeEach
+    void setUp() {
+        lenient()
+            .when(networkManager.createPoolNetwork(any(), anyBoolean()))
+            .thenAnswer(invocation -> "net-pool-" + networks.incrementAndGet());
+        lenient().when(networkManager.connectAppServer(any())).thenReturn("172.18.0.2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.stop();
+        }
+    }
+
+    /** The first fill runs on start; the hour-long interval keeps later passes to claims and the test itself. */
+    private void start(int internal, int internet) {
+        pool = new SandboxWarmPool(
+            networkManager,
+            new SandboxWarmPoolProperties(internal, internet, Duration.ofHours(1)),
+            meterRegistry
+        );
+        pool.start();
+    }
+
+    private double parked(String flavor) {
+        return meterRegistry.get("sandbox.pool.parked").tag("flavor", flavor).gauge().value();
+    }
+
+    private double claims(String flavor, String outcome) {
+        return meterRegistry.counter("sandbox.pool.claims", "flavor", flavor, "outcome", outcome).count();
+    }
+
+    @Test
+    @DisplayName("starting the pool parks each flavour up to its configured size")
+    void startFillsEachFlavour() {
+        start(2, 1);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> parked("internal") == 2 && parked("internet") == 1);
+        verify(networkManager, times(2)).createPoolNetwork(any(), eq(false));
+        verify(networkManager).createPoolNetwork(any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("a claim hands out a parked, connected network and counts a hit")
+    void claimHandsOutAParkedNetwork() {
+        start(1, 0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> parked("internal") == 1);
+
+        Optional<SandboxWarmPool.Lease> lease = pool.claim(false);
+
+        assertThat(lease).hasValueSatisfying(claimed -> {
+            assertThat(claimed.networkId()).isEqualTo("net-pool-1");
+            assertThat(claimed.appServerIp()).isEqualTo("172.18.0.2");
+            assertThat(pool.isMember(claimed.memberId())).isTrue();
+        });
+        assertThat(claims("internal", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a claim triggers a refill instead of waiting for the next interval")
+    void claimRefillsInTheBackground() {
+        start(1, 0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> parked("internal") == 1);
+
+        pool.claim(false);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> parked("internal") == 1);
+        verify(networkManager, times(2)).createPoolNetwork(any(), eq(false));
+    }
+
+    @Test
+    @DisplayName("a claim against an empty pool counts a miss")
+    void emptyPoolMisses() {
+        when(networkManager.connectAppServer(any())).thenThrow(new RuntimeException("daemon busy"));
+        start(1, 0);
+
+        assertThat(pool.claim(false)).isEmpty();
+        assertThat(claims("internal", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a flavour with size 0 is not pooled and its claims are not counted")
+    void unpooledFlavourIsNotCounted() {
+        start(1, 0);
+
+        assertThat(pool.pools(true)).isFalse();
+        assertThat(pool.claim(true)).isEmpty();
+        assertThat(meterRegistry.find("sandbox.pool.claims").tag("flavor", "internet").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("a released member is no longer tracked, so the reconciler may remove a leftover network")
+    void releaseForgetsTheMember() {
+        start(1, 0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> parked("internal") == 1);
+        SandboxWarmPool.Lease lease = pool.claim(false).orElseThrow();
+
+        pool.release(lease);
+
+        assertThat(pool.isMember(lease.memberId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("a failed create is counted, rolled back and left to the next replenish pass")
+    void failedCreateIsRetriedLater() {
+        when(networkManager.connectAppServer(any())).thenThrow(new RuntimeException("daemon busy")).thenReturn(null);
+        start(1, 0);
+
+        await()
+            .atMost(Duration.ofSeconds(5))
+            .until(() -> meterRegistry.get("sandbox.pool.replenish.failures").counter().count() == 1);
+        verify(networkManager).removeNetwork("net-pool-1");
+        assertThat(parked("internal")).isZero();
+
+        pool.replenish();
+
+        assertThat(parked("internal")).isEqualTo(1);
+        assertThat(pool.claim(false)).hasValueSatisfying(lease -> assertThat(lease.appServerIp()).isNull());
+    }
+
+    @Test
+    @DisplayName("stopping the pool removes every parked network")
+    void stopRemovesParkedNetworks() {
+        start(1, 1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> parked("internal") == 1 && parked("internet") == 1);
+
+        pool.stop();
+
+        verify(networkManager).removeNetwork("net-pool-1");
+        verify(networkManager).removeNetwork("net-pool-2");
+        assertThat(pool.isRunning()).isFalse();
+        assertThat(pool.pools(false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a pool with no configured size never starts")
+    void zeroSizedPoolStaysInert() {
+        start(0, 0);
+
+        assertThat(pool.isRunning()).isFalse();
+        assertThat(pool.claim(false)).isEmpty();
+        verify(networkManager, never()).createPoolNetwork(any(), anyBoolean());
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.hephaestus.agent.sandbox.spi.SandboxException;
+import de.tum.cit.aet.hephaestus.agent.sandbox.spi.SandboxInfrastructureException;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -139,8 +140,8 @@ class SandboxWorkspaceManagerTest extends BaseUnitTest {
         @Test
         @DisplayName("stages an input far past the removed 50 MB ceiling")
         void shouldStageInputsBeyondTheFormerCeiling(@TempDir Path tempDir) throws Exception {
-            // The archive is written to a temp file and on-disk entries stream through a fixed buffer,
-            // so total staged size is bounded by disk, not by heap.
+            // The archive is streamed into the copy through a fixed pipe buffer, so total staged size is
+            // bounded by neither heap nor a second copy on disk.
             Path large = tempDir.resolve("large.bin");
             byte[] chunk = new byte[1024 * 1024];
             java.util.Arrays.fill(chunk, (byte) 'x');
@@ -208,6 +209,50 @@ class SandboxWorkspaceManagerTest extends BaseUnitTest {
             assertThat(captured).containsOnlyKeys("inputs/context/diff.patch", "inputs/sources/scm/repo/App.java");
             assertThat(new String(captured.get("inputs/sources/scm/repo/App.java"))).isEqualTo("class App {}");
         }
+
+        @Test
+        @DisplayName("a source that fails mid-archive fails the copy instead of ending the archive early")
+        void shouldFailTheCopyWhenTheArchiveCannotBeWritten(@TempDir Path tempDir) throws Exception {
+            Path present = tempDir.resolve("A.java");
+            Files.writeString(present, "class A {}");
+            Path missing = tempDir.resolve("B.java");
+            Map<String, Path> onDisk = new java.util.LinkedHashMap<>();
+            onDisk.put("inputs/A.java", present);
+            onDisk.put("inputs/B.java", missing);
+            java.util.List<Throwable> readerSaw = new java.util.ArrayList<>();
+            doAnswer(invocation -> {
+                try {
+                    invocation.getArgument(2, InputStream.class).transferTo(java.io.OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    readerSaw.add(e);
+                    throw new IllegalStateException("daemon rejected the archive", e);
+                }
+                return null;
+            })
+                .when(fileOps)
+                .copyArchiveToContainer(any(), any(), any());
+
+            assertThatThrownBy(() -> manager.injectFiles(CONTAINER_ID, Map.of(), onDisk))
+                .isInstanceOf(SandboxInfrastructureException.class)
+                .hasRootCauseInstanceOf(java.nio.file.NoSuchFileException.class);
+            assertThat(readerSaw).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("a copy that fails before reading the archive does not leave the writer blocked")
+        void shouldEndTheWriterWhenTheCopyFails(@TempDir Path tempDir) throws Exception {
+            Path large = tempDir.resolve("large.bin");
+            Files.write(large, new byte[4 * 1024 * 1024]);
+            doAnswer(invocation -> {
+                throw new IllegalStateException("container is gone");
+            })
+                .when(fileOps)
+                .copyArchiveToContainer(any(), any(), any());
+
+            assertThatThrownBy(() -> manager.injectFiles(CONTAINER_ID, Map.of(), Map.of("inputs/large.bin", large)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("container is gone");
+        }
     }
 
     @Nested
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,7 +15,10 @@ import de.tum.cit.aet.hephaestus.workspace.WorkspaceRepository;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,7 +36,7 @@ class LlmBudgetServiceTest extends BaseUnitTest {
     private static final long WORKSPACE_ID = 42L;
 
     @Mock
-    private LlmUsageEventRepository usageRepository;
+    private LlmSpendMonthlyRepository spendRepository;
 
     @Mock
     private WorkspaceRepository workspaceRepository;
@@ -43,7 +47,7 @@ class LlmBudgetServiceTest extends BaseUnitTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        budgetService = new LlmBudgetService(usageRepository, workspaceRepository, meterRegistry);
+        budgetService = new LlmBudgetService(spendRepository, workspaceRepository, meterRegistry);
     }
 
     private Workspace workspaceWithBudgets(@Nullable BigDecimal instanceBudget, @Nullable BigDecimal byoBudget) {
@@ -61,24 +65,25 @@ class LlmBudgetServiceTest extends BaseUnitTest {
         return budgetService.decide(WORKSPACE_ID);
     }
 
-    /** Every ledger read stubbed leniently, so a single test can vary one purse at a time. */
+    /** Both purses' month-to-date counters, stubbed leniently so a single test can vary one purse at a time. */
     private void stubLedger(String instanceSpend, boolean instanceUnpriced, String byoSpend, boolean byoUnpriced) {
         lenient()
-            .when(usageRepository.sumCost(eq(WORKSPACE_ID), any(Instant.class), any(Instant.class)))
-            .thenReturn(new BigDecimal(instanceSpend));
-        lenient()
-            .when(
-                usageRepository.existsUnpricedInstanceFunded(eq(WORKSPACE_ID), any(Instant.class), any(Instant.class))
-            )
-            .thenReturn(instanceUnpriced);
-        lenient()
-            .when(usageRepository.sumByoCost(eq(WORKSPACE_ID), any(Instant.class), any(Instant.class)))
-            .thenReturn(new BigDecimal(byoSpend));
-        lenient()
-            .when(
-                usageRepository.existsUnpricedWorkspaceFunded(eq(WORKSPACE_ID), any(Instant.class), any(Instant.class))
-            )
-            .thenReturn(byoUnpriced);
+            .when(spendRepository.findMonth(eq(WORKSPACE_ID), any(LocalDate.class)))
+            .thenReturn(
+                List.of(
+                    bucket(FundingSource.INSTANCE, instanceSpend, instanceUnpriced),
+                    bucket(FundingSource.WORKSPACE, byoSpend, byoUnpriced)
+                )
+            );
+    }
+
+    private static LlmSpendMonthly bucket(FundingSource fundingSource, String pricedCost, boolean unpriced) {
+        LocalDate month = YearMonth.now(ZoneOffset.UTC).atDay(1);
+        return new LlmSpendMonthly(
+            new LlmSpendMonthly.Id(WORKSPACE_ID, month, fundingSource),
+            new BigDecimal(pricedCost),
+            unpriced ? 1 : 0
+        );
     }
 
     private static @Nullable BigDecimal cap(@Nullable String value) {
@@ -132,18 +137,28 @@ class LlmBudgetServiceTest extends BaseUnitTest {
         }
 
         @Test
-        @DisplayName("an uncapped purse asks the ledger nothing, and EXHAUSTED never probes for unpriced usage")
-        void theLedgerReadsAreLazy() {
+        @DisplayName("an uncapped workspace reads no counters, and a capped one reads both purses at once")
+        void theCounterReadsAreLazy() {
             stubLedger("999999.00", true, "999999.00", true);
 
             assertThat(decideWithBudgets(null, null)).isEqualTo(LlmBudgetDecision.ALLOWED);
-            verify(usageRepository, never()).sumCost(any(), any(), any());
-            verify(usageRepository, never()).sumByoCost(any(), any(), any());
+            verify(spendRepository, never()).findMonth(any(), any());
+
+            LlmBudgetDecision decision = decideWithBudgets(new BigDecimal("10.00"), new BigDecimal("10.00"));
+            // Both purses are provably exhausted from the priced spend alone; the unpriced rows do not matter.
+            assertThat(decision.instanceFunded()).isEqualTo(LlmBudgetBlockReason.EXHAUSTED);
+            assertThat(decision.workspaceFunded()).isEqualTo(LlmBudgetBlockReason.EXHAUSTED);
+            verify(spendRepository, times(1)).findMonth(eq(WORKSPACE_ID), any(LocalDate.class));
+        }
 
-            decideWithBudgets(new BigDecimal("10.00"), new BigDecimal("10.00"));
-            // Both purses are provably exhausted from the priced sums alone.
-            verify(usageRepository, never()).existsUnpricedInstanceFunded(any(), any(), any());
-            verify(usageRepository, never()).existsUnpricedWorkspaceFunded(any(), any(), any());
+        @Test
+        @DisplayName("a purse with no counter row yet has spent nothing")
+        void aMissingBucketIsZeroSpend() {
+            when(spendRepository.findMonth(eq(WORKSPACE_ID), any(LocalDate.class))).thenReturn(List.of());
+
+            assertThat(decideWithBudgets(new BigDecimal("10.00"), new BigDecimal("0"))).isEqualTo(
+                new LlmBudgetDecision(LlmBudgetBlockReason.NONE, LlmBudgetBlockReason.EXHAUSTED)
+            );
         }
 
         @Test
@@ -179,7 +194,7 @@ class LlmBudgetServiceTest extends BaseUnitTest {
          * zero cap, a million dollars of own-provider spend, an unpriceable own-provider model) is an
          * input to the host's verdict, and vice versa.
          *
-         * <p>The ledger here is mocked, so what these rows pin is the DECISION logic. The
+         * <p>The counters here are mocked, so what these rows pin is the DECISION logic. The
          * {@code funding_source} SQL predicate that feeds it is proved against a real database by
          * {@code LlmUsageLedgerIntegrationTest#theWorkspacesOwnCapReadsOnlyOwnProviderLedgerRows}.
          */
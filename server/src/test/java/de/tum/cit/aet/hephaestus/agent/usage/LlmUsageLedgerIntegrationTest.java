@@ -26,6 +26,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +37,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionTemplate;
 import tools.jackson.databind.ObjectMapper;
 
@@ -50,6 +53,15 @@ class LlmUsageLedgerIntegrationTest extends AbstractWorkspaceIntegrationTest {
     @Autowired
     private LlmBudgetService budgetService;
 
+    @Autowired
+    private LlmSpendMonthlyRepository spendRepository;
+
+    @Autowired
+    private LlmSpendReconciler spendReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private AgentJobService agentJobService;
 
@@ -686,4 +698,85 @@ class LlmUsageLedgerIntegrationTest extends AbstractWorkspaceIntegrationTest {
             assertThat(reload(row.getId()).getCostUsd()).isEqualByComparingTo("1.234567");
         }
     }
+
+    /**
+     * The month-to-date counters the budget gate reads are maintained by a ledger trigger, so every path
+     * that writes the ledger — the recorder's idempotent insert and the repricer's update — must move
+     * them, and the reconciler must put them back when something else did not.
+     */
+    @Nested
+    @DisplayName("Month-to-date spend counters")
+    class SpendCounters {
+
+        private LlmSpendMonthly bucket(Workspace workspace, FundingSource fundingSource) {
+            return spendRepository
+                .findMonth(workspace.getId(), YearMonth.now(ZoneOffset.UTC).atDay(1))
+                .stream()
+                .filter(row -> row.getId().getFundingSource() == fundingSource)
+                .findFirst()
+                .orElseThrow();
+        }
+
+        @Test
+        @DisplayName("recording folds each event into its purse once, and a reprice moves it from unpriced to priced")
+        void theCountersFollowRecordAndReprice() {
+            Workspace workspace = setupWorkspace("counter-follow");
+            UUID pricedSource = UUID.randomUUID();
+            record(workspace.getId(), agentSample(pricedSource, 0, 1_000_000, pricedInstance("3.00", "9.00")));
+            // A redelivered completion conflicts on the source key and must not be counted twice.
+            record(workspace.getId(), agentSample(pricedSource, 0, 1_000_000, pricedInstance("3.00", "9.00")));
+            recordUnverifiable(
+                workspace.getId(),
+                agentSample(UUID.randomUUID(), 0, 1_000_000, pricedInstance("3.00", "9.00"))
+            );
+            record(workspace.getId(), agentSample(UUID.randomUUID(), 0, 1_000_000, workspacePriced("2.00", "4.00")));
+
+            assertThat(bucket(workspace, FundingSource.INSTANCE).getPricedCostUsd()).isEqualByComparingTo("3.00");
+            assertThat(bucket(workspace, FundingSource.INSTANCE).getUnpricedEvents()).isEqualTo(1);
+            assertThat(bucket(workspace, FundingSource.WORKSPACE).getPricedCostUsd()).isEqualByComparingTo("2.00");
+            assertThat(bucket(workspace, FundingSource.WORKSPACE).getUnpricedEvents()).isZero();
+
+            LlmUsageEvent unpriced = eventsOf(workspace)
+                .stream()
+                .filter(event -> event.getPricingState() == PricingState.UNPRICED)
+                .findFirst()
+                .orElseThrow();
+            transactionTemplate.executeWithoutResult(status ->
+                usageRepository.applyResolvedPrice(
+                    unpriced.getId(),
+                    new BigDecimal("1.50"),
+                    pricedInstance("1.50", "0")
+                )
+            );
+
+            assertThat(bucket(workspace, FundingSource.INSTANCE).getPricedCostUsd()).isEqualByComparingTo("4.50");
+            assertThat(bucket(workspace, FundingSource.INSTANCE).getUnpricedEvents()).isZero();
+        }
+
+        @Test
+        @DisplayName("a drifted counter gates on the wrong number until the reconciler rewrites it from the ledger")
+        void theReconcilerRestoresADriftedCounter() {
+            Workspace workspace = setupWorkspace("counter-drift");
+            workspace.setMonthlyLlmBudgetUsd(new BigDecimal("10.00"));
+            workspaceRepository.save(workspace);
+            record(workspace.getId(), agentSample(UUID.randomUUID(), 0, 1_000_000, pricedInstance("3.00", "9.00")));
+            jdbcTemplate.update(
+                "UPDATE llm_spend_monthly SET priced_cost_usd = 999 " +
+                    "WHERE workspace_id = ? AND funding_source = 'INSTANCE'",
+                workspace.getId()
+            );
+            assertThat(budgetService.decide(workspace.getId()).instanceFunded()).isEqualTo(
+                LlmBudgetBlockReason.EXHAUSTED
+            );
+
+            int corrected = spendReconciler.reconcileNow(Instant.now());
+
+            assertThat(corrected).isPositive();
+            assertThat(bucket(workspace, FundingSource.INSTANCE).getPricedCostUsd()).isEqualByComparingTo("3.00");
+            assertThat(budgetService.decide(workspace.getId())).isEqualTo(LlmBudgetDecision.ALLOWED);
+            // A second pass over agreeing counters has nothing to do for this workspace.
+            spendReconciler.reconcileNow(Instant.now());
+            assertThat(bucket(workspace, FundingSource.INSTANCE).getPricedCostUsd()).isEqualByComparingTo("3.00");
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package de.tum.cit.aet.hephaestus.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -11,8 +12,10 @@ import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Pins the cache table at the configuration boundary. Adding/removing a named cache without
@@ -25,6 +28,7 @@ class CacheConfigTest extends BaseUnitTest {
         "achievementProgress",
         "auth_jwt_revoked",
         "contributors",
+        "leaderboard_snapshots",
         "mentor_authored_work_context",
         "mentor_practice_context",
         "mentor_user_context",
@@ -36,7 +40,7 @@ class CacheConfigTest extends BaseUnitTest {
     @DisplayName("cacheManager exposes exactly the declared caches by name")
     void registersAllSpecsAsCaches() {
         MeterRegistry registry = new SimpleMeterRegistry();
-        CacheManager manager = new CacheConfig().cacheManager(registry);
+        CacheManager manager = new CacheConfig().cacheManager(registry, localOnlyBus(registry));
 
         Collection<String> names = manager.getCacheNames();
         assertThat(names).containsExactlyInAnyOrderElementsOf(EXPECTED_NAMES);
@@ -93,6 +97,11 @@ class CacheConfigTest extends BaseUnitTest {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private static CacheInvalidationBus localOnlyBus(MeterRegistry registry) {
+        return new CacheInvalidationBus(new ObjectMapper(), mock(ObjectProvider.class), registry);
+    }
+
     private static CacheConfig.CacheSpec findSpec(String name) {
         return CacheConfig.SPECS.stream()
             .filter(s -> s.name().equals(name))
@@ -0,0 +1,197 @@
+package de.tum.cit.aet.hephaestus.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.Message;
+import io.nats.client.MessageHandler;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import tools.jackson.databind.ObjectMapper;
+
+class CacheInvalidationBusTest extends BaseUnitTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Dispatcher dispatcher;
+
+    private final ConcurrentMapCache local = new ConcurrentMapCache("mentor_user_context");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(connection.createDispatcher(any(MessageHandler.class))).thenReturn(dispatcher);
+    }
+
+    private CacheInvalidationBus bus(Connection natsConnection) {
+        return new CacheInvalidationBus(MAPPER, objectProviderReturning(natsConnection), meters);
+    }
+
+    @Test
+    @DisplayName("an eviction applies locally and is broadcast with its key")
+    void evictionIsBroadcast() {
+        CacheInvalidationBus bus = bus(connection);
+        Cache cache = new ClusterInvalidatingCache(local, bus);
+        cache.put("1:2", "context");
+
+        cache.evict("1:2");
+
+        assertThat(local.get("1:2")).isNull();
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(eq(CacheInvalidationBus.SUBJECT), payload.capture());
+        var sent = MAPPER.readValue(payload.getValue(), CacheInvalidationBus.Invalidation.class);
+        assertThat(sent.cache()).isEqualTo("mentor_user_context");
+        assertThat(sent.keyType()).isEqualTo("string");
+        assertThat(sent.key()).isEqualTo("1:2");
+        assertThat(messages("publish", "success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("an eviction from another replica evicts the same typed key here and records its lag")
+    void remoteEvictionApplies() {
+        CacheInvalidationBus bus = bus(connection);
+        bus.register(local);
+        local.put(7L, "progress");
+        local.put("7", "kept");
+
+        bus.onMessage(inbound(new CacheInvalidationBus.Invalidation("other", local.getName(), "long", "7", 0L)));
+
+        assertThat(local.get(7L)).isNull();
+        assertThat(local.get("7")).isNotNull();
+        assertThat(messages("receive", "applied")).isEqualTo(1.0);
+        assertThat(meters.get("cache.invalidation.lag").timer().count()).isEqualTo(1);
+        // Receivers never re-broadcast.
+        verify(connection, never()).publish(anyString(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("a replica skips the echo of its own broadcast")
+    void ownEchoIsSkipped() {
+        CacheInvalidationBus bus = bus(connection);
+        Cache cache = new ClusterInvalidatingCache(local, bus);
+        cache.evict("1:2");
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(eq(CacheInvalidationBus.SUBJECT), payload.capture());
+        local.put("1:2", "recomputed");
+
+        Message echo = mock(Message.class);
+        when(echo.getData()).thenReturn(payload.getValue());
+        bus.onMessage(echo);
+
+        assertThat(local.get("1:2")).isNotNull();
+        assertThat(messages("receive", "applied")).isZero();
+    }
+
+    @Test
+    @DisplayName("a key the wire cannot carry clears the cache on the other replicas")
+    void untypedKeyClears() {
+        CacheInvalidationBus bus = bus(connection);
+        Cache cache = new ClusterInvalidatingCache(local, bus);
+
+        cache.evict(new Object());
+
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(connection).publish(eq(CacheInvalidationBus.SUBJECT), payload.capture());
+        var sent = MAPPER.readValue(payload.getValue(), CacheInvalidationBus.Invalidation.class);
+        assertThat(sent.key()).isNull();
+
+        local.put(UUID.randomUUID(), "other");
+        bus.onMessage(inbound(new CacheInvalidationBus.Invalidation("other", local.getName(), null, null, 0L)));
+        assertThat(local.getNativeCache()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a message for a cache this replica does not declare is ignored")
+    void unknownCacheIsIgnored() {
+        CacheInvalidationBus bus = bus(connection);
+
+        bus.onMessage(inbound(new CacheInvalidationBus.Invalidation("other", "retired_cache", "string", "k", 0L)));
+
+        assertThat(messages("receive", "ignored")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("a malformed message is counted, not thrown")
+    void malformedMessageIsCounted() {
+        CacheInvalidationBus bus = bus(connection);
+        Message message = mock(Message.class);
+        when(message.getData()).thenReturn("not json".getBytes());
+
+        bus.onMessage(message);
+
+        assertThat(messages("receive", "failure")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("a failed publish still leaves the local eviction applied")
+    void publishFailureKeepsLocalEviction() {
+        doThrow(new IllegalStateException("broker unavailable"))
+            .when(connection)
+            .publish(anyString(), any(byte[].class));
+        Cache cache = new ClusterInvalidatingCache(local, bus(connection));
+        cache.put("1:2", "context");
+
+        cache.evict("1:2");
+
+        assertThat(local.get("1:2")).isNull();
+        assertThat(messages("publish", "failure")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("without NATS the bus is local-only")
+    void withoutNatsStaysLocal() {
+        Cache cache = new ClusterInvalidatingCache(local, bus(null));
+        cache.put("1:2", "context");
+
+        cache.clear();
+
+        assertThat(local.get("1:2")).isNull();
+        assertThat(messages("publish", "success")).isZero();
+    }
+
+    private static Message inbound(CacheInvalidationBus.Invalidation invalidation) {
+        Message message = mock(Message.class);
+        when(message.getData()).thenReturn(MAPPER.writeValueAsBytes(invalidation));
+        return message;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<Connection> objectProviderReturning(Connection connection) {
+        ObjectProvider<Connection> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(connection);
+        return provider;
+    }
+
+    private double messages(String direction, String outcome) {
+        return meters
+            .get("cache.invalidation.messages")
+            .tag("direction", direction)
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+}
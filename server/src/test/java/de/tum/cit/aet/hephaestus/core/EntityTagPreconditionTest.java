@@ -16,6 +16,15 @@ class EntityTagPreconditionTest extends BaseUnitTest {
         assertThat(precondition.matches("8")).isTrue();
     }
 
+    @Test
+    void shouldIgnoreWeaknessWhenComparingForIfNoneMatch() {
+        EntityTagPrecondition precondition = EntityTagPrecondition.parse("W/\"7\", \"8\"");
+
+        assertThat(precondition.matchesWeakly("7")).isTrue();
+        assertThat(precondition.matchesWeakly("8")).isTrue();
+        assertThat(precondition.matchesWeakly("9")).isFalse();
+    }
+
     @Test
     void shouldMatchCurrentTagWhenHeaderContainsWildcard() {
         assertThat(EntityTagPrecondition.parse("*").matches("42")).isTrue();
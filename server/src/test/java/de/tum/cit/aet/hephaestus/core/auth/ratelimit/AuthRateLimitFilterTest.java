@@ -68,7 +68,8 @@ class AuthRateLimitFilterTest extends BaseUnitTest {
             new AuthRateLimitProperties.Limit(60, Duration.ofMinutes(1)),
             new AuthRateLimitProperties.Limit(10, Duration.ofMinutes(1)),
             new AuthRateLimitProperties.Limit(3, Duration.ofHours(1)),
-            new AuthRateLimitProperties.Limit(10, Duration.ofHours(1))
+            new AuthRateLimitProperties.Limit(10, Duration.ofHours(1)),
+            null
         );
     }
 
@@ -108,7 +109,8 @@ class AuthRateLimitFilterTest extends BaseUnitTest {
             new AuthRateLimitProperties.Limit(1, Duration.ofMinutes(1)),
             new AuthRateLimitProperties.Limit(1, Duration.ofMinutes(1)),
             new AuthRateLimitProperties.Limit(1, Duration.ofHours(1)),
-            new AuthRateLimitProperties.Limit(1, Duration.ofHours(1))
+            new AuthRateLimitProperties.Limit(1, Duration.ofHours(1)),
+            null
         );
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/refresh");
         MockHttpServletResponse response = new MockHttpServletResponse();
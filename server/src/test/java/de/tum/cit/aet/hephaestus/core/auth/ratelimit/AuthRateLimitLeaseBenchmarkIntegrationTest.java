@@ -0,0 +1,181 @@
+package de.tum.cit.aet.hephaestus.core.auth.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import de.tum.cit.aet.hephaestus.testconfig.PostgreSQLTestContainer;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.postgresql.Bucket4jPostgreSQL;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Drives one hot rate-limit key from {@value #CALLERS} concurrent callers against the Postgres bucket store
+ * (built as in {@link AuthRateLimitConfig}, on the Testcontainer): every request consuming from the shared
+ * row, and every request going through a {@link LeasingBucketResolver} per simulated pod. Each shape logs
+ * requests per second with p50/p99 latency of the rate-limit decision and how many requests reached the
+ * database; timings are logged, not asserted. A second run exhausts a small limit from two leasing pods and
+ * asserts the cluster never admits more than the limit.
+ *
+ * <p>Run with {@code ./mvnw verify -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class AuthRateLimitLeaseBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthRateLimitLeaseBenchmarkIntegrationTest.class);
+
+    private static final int REQUESTS = 20_000;
+    private static final int WARMUP = 2_000;
+    private static final int CALLERS = 64;
+    private static final int PODS = 2;
+    private static final AuthRateLimitProperties.Lease LEASE = new AuthRateLimitProperties.Lease(
+        true,
+        Duration.ofSeconds(2),
+        0.1
+    );
+
+    private HikariDataSource dataSource;
+    private ProxyManager<String> proxyManager;
+    private final AtomicInteger storeCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PostgreSQLContainer<?> postgres = PostgreSQLTestContainer.getInstance();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(16);
+        try (Connection connection = dataSource.getConnection()) {
+            connection
+                .createStatement()
+                .execute(
+                    "CREATE TABLE IF NOT EXISTS " +
+                        AuthRateLimitConfig.BUCKET_TABLE +
+                        " (id VARCHAR(255) PRIMARY KEY, state BYTEA, expires_at BIGINT)"
+                );
+        }
+        proxyManager = Bucket4jPostgreSQL.selectForUpdateBasedBuilder(dataSource)
+            .primaryKeyMapper(PrimaryKeyMapper.STRING)
+            .table(AuthRateLimitConfig.BUCKET_TABLE)
+            .expirationAfterWrite(
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(1))
+            )
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void leasingTakesTheHotKeyOffTheDatabase() throws Exception {
+        BucketConfiguration roomy = perHour(10_000_000);
+        run(new BucketResolver[] { shared() }, roomy, WARMUP);
+        run(pods(), roomy, WARMUP);
+
+        report("shared row per request", run(new BucketResolver[] { shared() }, roomy, REQUESTS));
+        report("leased, " + PODS + " pods", run(pods(), roomy, REQUESTS));
+    }
+
+    @Test
+    void leasingNeverAdmitsMoreThanTheLimit() throws Exception {
+        long capacity = 2_000;
+        BucketResolver[] pods = pods();
+        Run run = run(pods, perHour(capacity), REQUESTS);
+
+        long maxLease = ((LeasingBucketResolver) pods[0]).maxLeaseSize(perHour(capacity));
+        log.info(
+            "exhausted limit of {}: admitted {} of {} requests, {} reached the database",
+            capacity,
+            run.granted(),
+            REQUESTS,
+            run.storeCalls()
+        );
+        assertThat((long) run.granted())
+            .isLessThanOrEqualTo(capacity)
+            .isGreaterThanOrEqualTo(capacity - PODS * maxLease);
+    }
+
+    private BucketResolver shared() {
+        return (key, config) -> {
+            storeCalls.incrementAndGet();
+            return proxyManager.getProxy(key, () -> config);
+        };
+    }
+
+    private BucketResolver[] pods() {
+        BucketResolver[] pods = new BucketResolver[PODS];
+        for (int p = 0; p < PODS; p++) {
+            pods[p] = new LeasingBucketResolver(shared(), LEASE);
+        }
+        return pods;
+    }
+
+    private Run run(BucketResolver[] pods, BucketConfiguration config, int count) throws Exception {
+        String key = "oauth-authz:bench-" + UUID.randomUUID();
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger granted = new AtomicInteger();
+        storeCalls.set(0);
+        long start = System.nanoTime();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CALLERS; c++) {
+                BucketResolver pod = pods[c % pods.length];
+                callers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+                        long sent = System.nanoTime();
+                        if (pod.tryConsume(key, config).isConsumed()) {
+                            granted.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+        return new Run(count, System.nanoTime() - start, latencies, granted.get(), storeCalls.get());
+    }
+
+    private static BucketConfiguration perHour(long capacity) {
+        return BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(capacity).refillIntervally(capacity, Duration.ofHours(1)).build())
+            .build();
+    }
+
+    private void report(String shape, Run run) {
+        long[] sorted = run.latencies().clone();
+        Arrays.sort(sorted);
+        assertThat(run.granted()).isEqualTo(run.count());
+        log.info(
+            "{}: {} requests in {} ms, {} requests/s, p50 {} µs, p99 {} µs, {} database round trips",
+            shape,
+            run.count(),
+            run.nanos() / 1_000_000,
+            String.format("%.0f", run.count() / (run.nanos() / 1e9)),
+            sorted[sorted.length / 2] / 1_000,
+            sorted[(int) (sorted.length * 0.99)] / 1_000,
+            run.storeCalls()
+        );
+    }
+
+    private record Run(int count, long nanos, long[] latencies, int granted, int storeCalls) {}
+}
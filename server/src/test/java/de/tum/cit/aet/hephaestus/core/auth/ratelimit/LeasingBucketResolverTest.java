@@ -0,0 +1,149 @@
+package de.tum.cit.aet.hephaestus.core.auth.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.TimeMeter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for per-pod token leasing. The "shared store" is an in-JVM map of local buckets, as in
+ * {@link AuthRateLimitFilterTest}, that counts how often it is reached; two resolvers over one store
+ * stand in for two pods. Buckets and leases run on the same fake clock so expiry and refill are
+ * deterministic.
+ */
+class LeasingBucketResolverTest extends BaseUnitTest {
+
+    private static final String KEY = "oauth-authz:203.0.113.7";
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final AtomicInteger storeCalls = new AtomicInteger();
+    private final Map<String, Bucket> store = new ConcurrentHashMap<>();
+
+    private final TimeMeter clock = new TimeMeter() {
+        @Override
+        public long currentTimeNanos() {
+            return nanos.get();
+        }
+
+        @Override
+        public boolean isWallClockBased() {
+            return false;
+        }
+    };
+
+    private final BucketResolver shared = (key, config) -> {
+        storeCalls.incrementAndGet();
+        return store.computeIfAbsent(key, k ->
+            Bucket.builder().addLimit(config.getBandwidths()[0]).withCustomTimePrecision(clock).build()
+        );
+    };
+
+    private LeasingBucketResolver leasing(double maxFraction) {
+        return new LeasingBucketResolver(
+            shared,
+            new AuthRateLimitProperties.Lease(true, Duration.ofSeconds(2), maxFraction),
+            nanos::get
+        );
+    }
+
+    private static BucketConfiguration perHour(long capacity) {
+        return BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder().capacity(capacity).refillIntervally(capacity, Duration.ofHours(1)).build())
+            .build();
+    }
+
+    private static int consume(BucketResolver resolver, BucketConfiguration config, int attempts) {
+        int granted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (resolver.tryConsume(KEY, config).isConsumed()) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Test
+    @DisplayName("a hot key grows its lease so most requests never reach the shared store")
+    void hotKeyBatchesStoreRoundTrips() {
+        LeasingBucketResolver resolver = leasing(0.1);
+
+        assertThat(consume(resolver, perHour(1_000), 500)).isEqualTo(500);
+        // Leases of 1, 2, 4, … 64, then 100 at the cap: a dozen round trips instead of 500.
+        assertThat(storeCalls.get()).isLessThan(15);
+        assertThat(store.get(KEY).getAvailableTokens()).isLessThanOrEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("a cold key takes a single token per lease, like the un-leased store")
+    void coldKeyLeasesOneToken() {
+        LeasingBucketResolver resolver = leasing(0.1);
+        BucketConfiguration config = perHour(1_000);
+
+        ConsumptionProbe probe = resolver.tryConsume(KEY, config);
+
+        assertThat(probe.isConsumed()).isTrue();
+        assertThat(store.get(KEY).getAvailableTokens()).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("two pods sharing one store never admit more than the limit, and refuse at most a lease each")
+    void podsStayWithinTheSharedLimit() {
+        LeasingBucketResolver podA = leasing(0.1);
+        LeasingBucketResolver podB = leasing(0.1);
+        BucketConfiguration config = perHour(200);
+
+        int granted = 0;
+        for (int i = 0; i < 300; i++) {
+            granted += consume(i % 3 == 0 ? podB : podA, config, 1);
+        }
+
+        long maxLease = podA.maxLeaseSize(config);
+        assertThat(granted).isLessThanOrEqualTo(200).isGreaterThanOrEqualTo((int) (200 - 2 * maxLease));
+    }
+
+    @Test
+    @DisplayName("an expired lease hands its leftover tokens back and shrinks")
+    void expiredLeaseReturnsLeftovers() {
+        LeasingBucketResolver resolver = leasing(0.5);
+        BucketConfiguration config = perHour(100);
+        consume(resolver, config, 1 + 2 + 4 + 1); // leases of 1, 2, 4, then 8 with 7 left on the pod
+        assertThat(store.get(KEY).getAvailableTokens()).isEqualTo(100 - 15);
+
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+        consume(resolver, config, 1);
+
+        // The 7 idle tokens went back; the next lease was 4 (halved), one of them served.
+        assertThat(store.get(KEY).getAvailableTokens()).isEqualTo(100 - 8 - 4);
+    }
+
+    @Test
+    @DisplayName("a refusal is answered locally until the shared bucket refills")
+    void refusalIsCachedUntilRefill() {
+        LeasingBucketResolver resolver = leasing(1.0);
+        BucketConfiguration config = perHour(3);
+        assertThat(consume(resolver, config, 3)).isEqualTo(3);
+
+        ConsumptionProbe refused = resolver.tryConsume(KEY, config);
+        int callsAfterRefusal = storeCalls.get();
+        assertThat(refused.isConsumed()).isFalse();
+        assertThat(refused.getNanosToWaitForRefill()).isEqualTo(Duration.ofHours(1).toNanos());
+
+        assertThat(consume(resolver, config, 50)).isZero();
+        assertThat(storeCalls.get()).isEqualTo(callsAfterRefusal);
+
+        nanos.addAndGet(Duration.ofHours(1).toNanos());
+        assertThat(resolver.tryConsume(KEY, config).isConsumed()).isTrue();
+        assertThat(storeCalls.get()).isEqualTo(callsAfterRefusal + 1);
+    }
+}
@@ -0,0 +1,101 @@
+package de.tum.cit.aet.hephaestus.core.runtime.hub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.AckJob;
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.CapacityReport;
+import de.tum.cit.aet.hephaestus.core.runtime.worker.protocol.FrameCodec;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+
+@DisplayName("WorkerJobAssignmentDispatcher")
+class WorkerJobAssignmentDispatcherTest extends BaseUnitTest {
+
+    private final FrameCodec codec = new FrameCodec(new ObjectMapper());
+    private WorkerSessionRegistry registry;
+    private WorkerJobAssignmentDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WorkerSessionRegistry(mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        dispatcher = new WorkerJobAssignmentDispatcher(registry, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("places each job on the worker with the most spare review capacity")
+    void placesOnMostSpareWorker() throws Exception {
+        WebSocketSession busyTransport = newTransport();
+        WorkerSession busy = register("worker-a", busyTransport, 1);
+        register("worker-b", newTransport(), 2);
+
+        assertThat(dispatcher.assign(UUID.randomUUID())).contains("worker-b");
+        // worker-b's reservation leaves both at one slot; ties go to the smaller workerId.
+        assertThat(dispatcher.assign(UUID.randomUUID())).contains("worker-a");
+        assertThat(dispatcher.assign(UUID.randomUUID())).contains("worker-b");
+        assertThat(dispatcher.assign(UUID.randomUUID())).isEmpty();
+        assertThat(busy.spareReview()).isZero();
+        verify(busyTransport).sendMessage(any(TextMessage.class));
+    }
+
+    @Test
+    @DisplayName("skips draining workers and workers that never reported capacity")
+    void skipsDrainingAndUnreportedWorkers() {
+        WorkerSession draining = register("worker-a", newTransport(), 4);
+        draining.markDraining(true);
+        registry.register(newSession("worker-b", newTransport())); // connected, no CapacityReport yet
+
+        assertThat(dispatcher.spareCapacity()).isZero();
+        assertThat(dispatcher.assign(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a rejected AckJob treats the worker as full until its next CapacityReport")
+    void rejectionExhaustsUntilNextReport() {
+        WorkerSession session = register("worker-a", newTransport(), 3);
+
+        dispatcher.onAck(session, new AckJob(UUID.randomUUID().toString(), false, "declined"));
+        assertThat(session.spareReview()).isZero();
+
+        session.updateCapacity(new CapacityReport(3, 0, 1, 0, 2, 0));
+        assertThat(session.spareReview()).isEqualTo(2);
+    }
+
+    private WorkerSession register(String workerId, WebSocketSession transport, int spareReview) {
+        WorkerSession session = newSession(workerId, transport);
+        session.updateCapacity(new CapacityReport(spareReview, 0, 0, 0, spareReview, 0));
+        registry.register(session);
+        return session;
+    }
+
+    private WorkerSession newSession(String workerId, WebSocketSession transport) {
+        return new WorkerSession(
+            workerId,
+            "session-" + workerId,
+            "jti-" + workerId,
+            Instant.now().plusSeconds(3600),
+            transport,
+            codec
+        );
+    }
+
+    private WebSocketSession newTransport() {
+        WebSocketSession transport = mock(WebSocketSession.class);
+        Mockito.lenient().when(transport.isOpen()).thenReturn(true);
+        Mockito.lenient().when(transport.getAttributes()).thenReturn(new HashMap<>());
+        return transport;
+    }
+}
@@ -25,6 +25,15 @@ class FrameCodecRoundTripTest extends BaseUnitTest {
         assertThat(decoded.payload()).isEqualTo(payload);
     }
 
+    @Test
+    void roundTripsJobAssignmentFrames() {
+        AssignJob assign = new AssignJob("0b6c3f0e-8f0a-4d3c-9a57-3f8f2f4e7c11");
+        AckJob ack = new AckJob(assign.jobId(), false, "declined");
+
+        assertThat(codec.decode(codec.encode(FrameEnvelope.of(assign))).payload()).isEqualTo(assign);
+        assertThat(codec.decode(codec.encode(FrameEnvelope.of(ack))).payload()).isEqualTo(ack);
+    }
+
     @Test
     void rejectsOversizedFrameOnDecode() {
         String tooLarge = "x".repeat(FrameCodec.MAX_FRAME_BYTES + 1);
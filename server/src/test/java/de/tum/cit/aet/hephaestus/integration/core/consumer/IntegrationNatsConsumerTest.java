@@ -3,8 +3,13 @@ package de.tum.cit.aet.hephaestus.integration.core.consumer;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -36,8 +41,11 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Unit tests for {@link IntegrationNatsConsumer}.
@@ -70,7 +78,8 @@ class IntegrationNatsConsumerTest {
             mock(IntegrationMessageDispatcher.class),
             mock(IntegrationPoisonHandler.class),
             new IntegrationConsumerStats(),
-            mock(ConnectionActivityRecorder.class)
+            mock(ConnectionActivityRecorder.class),
+            mock(TransactionTemplate.class)
         );
         try {
             consumer.stopConsumingScopeForPurge(7L);
@@ -217,7 +226,8 @@ class IntegrationNatsConsumerTest {
                 dispatcher,
                 mock(IntegrationPoisonHandler.class),
                 new IntegrationConsumerStats(),
-                activityRecorder
+                activityRecorder,
+                mock(TransactionTemplate.class)
             );
         }
 
@@ -261,6 +271,120 @@ class IntegrationNatsConsumerTest {
         }
     }
 
+    @Nested
+    class BatchDispatch {
+
+        private static final Long SCOPE_ID = 7L;
+
+        private final IntegrationMessageDispatcher dispatcher = mock(IntegrationMessageDispatcher.class);
+        private final IntegrationPoisonHandler poisonHandler = mock(IntegrationPoisonHandler.class);
+        private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        private final IntegrationMessageHandler handler = mock(IntegrationMessageHandler.class);
+
+        private IntegrationNatsConsumer newConsumer() {
+            lenient().when(handler.key()).thenReturn(new EventTypeKey(IntegrationKind.GITHUB, "repository.issues"));
+            lenient().when(dispatcher.dispatch("github.acme.repo.issues")).thenReturn(Optional.of(handler));
+            return new IntegrationNatsConsumer(
+                new NatsConnectionProperties(true, "nats://localhost:4222", "heph", 7, null),
+                NatsConsumerPropertiesFixture.withBatch(10, Duration.ofMillis(10)),
+                scopeId -> Optional.empty(),
+                dispatcher,
+                poisonHandler,
+                new IntegrationConsumerStats(),
+                mock(ConnectionActivityRecorder.class),
+                new TransactionTemplate(transactionManager)
+            );
+        }
+
+        private Message message(String coalescingKey) {
+            Message msg = mock(Message.class);
+            when(msg.getSubject()).thenReturn("github.acme.repo.issues");
+            lenient().when(handler.coalescingKey(msg)).thenReturn(coalescingKey);
+            return msg;
+        }
+
+        @Test
+        @DisplayName("adjacent superseded updates collapse to the newest, in one transaction, and all are ACKed")
+        void coalescesAdjacentUpdatesInOneTransaction() {
+            IntegrationNatsConsumer consumer = newConsumer();
+            Message first = message("issue:1");
+            Message second = message("issue:1");
+            Message other = message("issue:2");
+            Message third = message("issue:1");
+
+            consumer.handleBatch(SCOPE_ID, List.of(first, second, other, third));
+
+            InOrder order = inOrder(handler);
+            order.verify(handler).onMessage(second);
+            order.verify(handler).onMessage(other);
+            order.verify(handler).onMessage(third);
+            verify(handler, never()).onMessage(first);
+            verify(transactionManager, times(1)).getTransaction(any());
+            verify(transactionManager).commit(any());
+            for (Message msg : List.of(first, second, other, third)) {
+                verify(msg).ack();
+            }
+        }
+
+        @Test
+        void messagesWithoutAKeyAreNeverCoalesced() {
+            IntegrationNatsConsumer consumer = newConsumer();
+            Message first = message(null);
+            Message second = message(null);
+
+            consumer.handleBatch(SCOPE_ID, List.of(first, second));
+
+            verify(handler).onMessage(first);
+            verify(handler).onMessage(second);
+        }
+
+        @Test
+        @DisplayName("a failing batch rolls back and is replayed per message, so only the bad message is NAKed")
+        void failedBatchIsReplayedPerMessage() {
+            IntegrationNatsConsumer consumer = newConsumer();
+            Message good = message(null);
+            Message bad = message(null);
+            doThrow(new IllegalStateException("boom")).when(handler).onMessage(bad);
+
+            consumer.handleBatch(SCOPE_ID, List.of(good, bad));
+
+            verify(transactionManager).rollback(any());
+            verify(handler, times(2)).onMessage(good);
+            verify(good).ack();
+            verify(bad, never()).ack();
+            verify(poisonHandler).nakWithBackoff(bad);
+        }
+
+        @Test
+        void unhandledMessagesAreAckedAsNoOp() {
+            IntegrationNatsConsumer consumer = newConsumer();
+            Message unhandled = mock(Message.class);
+            when(unhandled.getSubject()).thenReturn("github.acme.repo.unknown");
+            when(dispatcher.dispatch("github.acme.repo.unknown")).thenReturn(Optional.empty());
+            Message handled = message(null);
+
+            consumer.handleBatch(SCOPE_ID, List.of(unhandled, handled));
+
+            verify(unhandled).ack();
+            verify(handler).onMessage(handled);
+            verify(handled).ack();
+        }
+
+        @Test
+        void shutdownNaksTheWholeBatch() {
+            IntegrationNatsConsumer consumer = newConsumer();
+            Message first = message(null);
+            Message second = message(null);
+            consumer.shutdown();
+
+            consumer.handleBatch(SCOPE_ID, List.of(first, second));
+
+            verify(first).nak();
+            verify(second).nak();
+            verify(handler, never()).onMessage(any());
+        }
+    }
+
     /**
      * A scope binds SEVERAL streams now (an SCM stream plus {@code outline}). If the second stream's consumer
      * cannot be created — the common case being that the {@code outline} stream does not exist yet because the
@@ -362,7 +486,8 @@ class IntegrationNatsConsumerTest {
                     mock(IntegrationMessageDispatcher.class),
                     mock(IntegrationPoisonHandler.class),
                     new IntegrationConsumerStats(),
-                    mock(ConnectionActivityRecorder.class)
+                    mock(ConnectionActivityRecorder.class),
+                    mock(TransactionTemplate.class)
                 );
                 this.failingStreams = new ConcurrentSkipListSet<>(failingStreams);
             }
@@ -26,10 +26,34 @@ final class NatsConsumerPropertiesFixture {
         );
     }
 
+    /** Batched dispatch, with the fast poison backoff of {@link #withFastPoisonBackoff()}. */
+    static NatsConsumerProperties withBatch(int maxMessages, Duration maxWait) {
+        return build(
+            Duration.ZERO,
+            new NatsConsumerProperties.PoisonProperties(10, Duration.ofMillis(1), Duration.ofSeconds(1)),
+            new NatsConsumerProperties.BatchProperties(maxMessages, maxWait)
+        );
+    }
+
     private static NatsConsumerProperties build(
         Duration inactiveThreshold,
         NatsConsumerProperties.PoisonProperties poison
     ) {
-        return new NatsConsumerProperties(Duration.ofMinutes(5), 500, Duration.ofSeconds(2), inactiveThreshold, poison);
+        return build(inactiveThreshold, poison, null);
+    }
+
+    private static NatsConsumerProperties build(
+        Duration inactiveThreshold,
+        NatsConsumerProperties.PoisonProperties poison,
+        NatsConsumerProperties.BatchProperties batch
+    ) {
+        return new NatsConsumerProperties(
+            Duration.ofMinutes(5),
+            500,
+            Duration.ofSeconds(2),
+            inactiveThreshold,
+            poison,
+            batch
+        );
     }
 }
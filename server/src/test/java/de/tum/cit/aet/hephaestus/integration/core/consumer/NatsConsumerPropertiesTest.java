@@ -28,6 +28,7 @@ class NatsConsumerPropertiesTest extends BaseUnitTest {
                 500,
                 Duration.ofSeconds(2),
                 Duration.ZERO,
+                null,
                 null
             );
 
@@ -35,6 +36,7 @@ class NatsConsumerPropertiesTest extends BaseUnitTest {
             assertThat(props.poison().maxRedeliver()).isEqualTo(10);
             assertThat(props.poison().baseDelay()).isEqualTo(Duration.ofSeconds(2));
             assertThat(props.poison().maxDelay()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(props.batch().enabled()).isFalse();
         }
 
         @Test
@@ -49,7 +51,8 @@ class NatsConsumerPropertiesTest extends BaseUnitTest {
                 500,
                 Duration.ofSeconds(2),
                 Duration.ZERO,
-                custom
+                custom,
+                null
             );
 
             assertThat(props.poison()).isSameAs(custom);
@@ -124,6 +127,30 @@ class NatsConsumerPropertiesTest extends BaseUnitTest {
                 );
         }
 
+        @Test
+        void shouldBindBatchSettings() {
+            runner()
+                .withPropertyValues(
+                    "hephaestus.integration.consumer.batch.max-messages=50",
+                    "hephaestus.integration.consumer.batch.max-wait=200"
+                )
+                .run(context -> {
+                    NatsConsumerProperties.BatchProperties batch = context
+                        .getBean(NatsConsumerProperties.class)
+                        .batch();
+                    assertThat(batch.enabled()).isTrue();
+                    assertThat(batch.maxMessages()).isEqualTo(50);
+                    assertThat(batch.maxWait()).isEqualTo(Duration.ofMillis(200));
+                });
+        }
+
+        @Test
+        void shouldRejectZeroBatchSize() {
+            runner()
+                .withPropertyValues("hephaestus.integration.consumer.batch.max-messages=0")
+                .run(context -> assertThat(context).hasFailed());
+        }
+
         @Test
         void shouldRejectNegativeInactiveThreshold() {
             runner()
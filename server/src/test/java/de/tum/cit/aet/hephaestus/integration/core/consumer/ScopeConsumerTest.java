@@ -19,6 +19,9 @@ import io.nats.client.StreamContext;
 import io.nats.client.api.ConsumerConfiguration;
 import io.nats.client.api.ConsumerInfo;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -373,6 +376,73 @@ class ScopeConsumerTest {
         }
     }
 
+    @Nested
+    class BatchMode {
+
+        @Test
+        @DisplayName("batches are capped at the configured size and keep arrival order")
+        void batchesQueuedMessagesInOrder() throws Exception {
+            ConsumerContext ctx = mock(ConsumerContext.class);
+            ArgumentCaptor<MessageHandler> handlerCaptor = ArgumentCaptor.forClass(MessageHandler.class);
+            when(ctx.consume(handlerCaptor.capture())).thenReturn(mock(MessageConsumer.class));
+
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(5);
+            ScopeConsumer consumer = new ScopeConsumer(
+                SCOPE_ID,
+                CONSUMER_NAME,
+                STREAM,
+                ctx,
+                mock(StreamContext.class),
+                SUBJECTS,
+                3,
+                Duration.ofMillis(500),
+                batch -> {
+                    batches.add(batch.stream().map(Message::getSubject).toList());
+                    batch.forEach(msg -> done.countDown());
+                }
+            );
+            consumer.start();
+
+            MessageHandler callback = handlerCaptor.getValue();
+            for (int i = 1; i <= 5; i++) {
+                callback.onMessage(messageWithSubject("github.acme.repo." + i));
+            }
+
+            assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+            assertThat(batches.stream().flatMap(List::stream).toList()).containsExactly(
+                "github.acme.repo.1",
+                "github.acme.repo.2",
+                "github.acme.repo.3",
+                "github.acme.repo.4",
+                "github.acme.repo.5"
+            );
+            assertThat(batches.size()).as("messages were grouped, not handed over one by one").isLessThan(5);
+
+            consumer.stop();
+        }
+
+        @Test
+        void rejectsZeroBatchSize() {
+            assertThatThrownBy(() ->
+                new ScopeConsumer(
+                    SCOPE_ID,
+                    CONSUMER_NAME,
+                    STREAM,
+                    mock(ConsumerContext.class),
+                    mock(StreamContext.class),
+                    SUBJECTS,
+                    0,
+                    Duration.ofMillis(10),
+                    batch -> {}
+                )
+            )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxBatchSize");
+        }
+    }
+
     private static Message messageWithSubject(String subject) {
         Message msg = mock(Message.class);
         when(msg.getSubject()).thenReturn(subject);
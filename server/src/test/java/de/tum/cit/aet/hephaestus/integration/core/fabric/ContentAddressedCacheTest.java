@@ -0,0 +1,106 @@
+package de.tum.cit.aet.hephaestus.integration.core.fabric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentAddressedCacheTest extends BaseUnitTest {
+
+    @TempDir
+    Path root;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ContentAddressedStore cas;
+    private ContentAddressedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        FabricLayout layout = new FabricLayout(root.toString());
+        cas = new ContentAddressedStore(layout);
+        cache = new ContentAddressedCache(layout, cas, meterRegistry);
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry
+            .get("fabric.cache.lookups")
+            .tag("namespace", "git-diff")
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+
+    @Test
+    void computeIfAbsent_computesOnceAndServesRepeatsFromTheStore() {
+        AtomicInteger computations = new AtomicInteger();
+
+        byte[] first = cache.computeIfAbsent("git-diff", "a..b", () -> {
+            computations.incrementAndGet();
+            return "diff".getBytes(StandardCharsets.UTF_8);
+        });
+        byte[] second = cache.computeIfAbsent("git-diff", "a..b", () -> {
+            computations.incrementAndGet();
+            return "recomputed".getBytes(StandardCharsets.UTF_8);
+        });
+
+        assertThat(second).isEqualTo(first);
+        assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo("diff");
+        assertThat(computations).hasValue(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void computeIfAbsent_doesNotCacheAFailedComputation() {
+        assertThat(cache.computeIfAbsent("git-diff", "a..b", () -> null)).isNull();
+
+        assertThat(cache.get("git-diff", "a..b")).isEmpty();
+    }
+
+    @Test
+    void identicalContentUnderTwoKeysIsStoredOnce() {
+        byte[] content = "same output".getBytes(StandardCharsets.UTF_8);
+        cache.put("git-diff", "a..b", content);
+        cache.put("git-diff", "c..d", content);
+
+        assertThat(cache.referencedShas()).containsExactly(cas.put(content));
+    }
+
+    @Test
+    void get_forgetsAnEntryWhoseBlobWasSwept() {
+        cache.put("git-diff", "a..b", "diff".getBytes(StandardCharsets.UTF_8));
+        cas.sweep(Set.of());
+
+        assertThat(cache.get("git-diff", "a..b")).isEmpty();
+        assertThat(cache.entryPath("git-diff", "a..b")).doesNotExist();
+    }
+
+    @Test
+    void get_refreshesTheEntryAgeSoRepeatedReadsOutliveRetention() throws Exception {
+        cache.put("git-diff", "a..b", "diff".getBytes(StandardCharsets.UTF_8));
+        Path entry = cache.entryPath("git-diff", "a..b");
+        Files.setLastModifiedTime(entry, FileTime.from(Instant.now().minus(Duration.ofDays(60))));
+
+        cache.get("git-diff", "a..b");
+
+        assertThat(cache.pruneExpired(Instant.now().minus(Duration.ofDays(30)))).isZero();
+        assertThat(entry).exists();
+    }
+
+    @Test
+    void rejectsANamespaceThatCouldEscapeTheIndex() {
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.get("../jobs", "a..b"));
+    }
+}
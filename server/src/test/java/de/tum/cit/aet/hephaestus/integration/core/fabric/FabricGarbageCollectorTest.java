@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -23,18 +24,22 @@ class FabricGarbageCollectorTest extends BaseUnitTest {
     private final JsonMapper mapper = JsonMapper.builder().build();
     private FabricLayout layout;
     private ContentAddressedStore cas;
+    private ContentAddressedCache cache;
     private FabricGarbageCollector gc;
 
     @BeforeEach
     void setUp() {
         layout = new FabricLayout(root.toString());
         cas = new ContentAddressedStore(layout);
-        gc = new FabricGarbageCollector(layout, cas, mapper, 30);
+        cache = new ContentAddressedCache(layout, cas, new SimpleMeterRegistry());
+        gc = new FabricGarbageCollector(layout, cas, cache, mapper, 30);
     }
 
     @Test
     void rejectsNonPositiveRetention() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new FabricGarbageCollector(layout, cas, mapper, 0));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+            new FabricGarbageCollector(layout, cas, cache, mapper, 0)
+        );
     }
 
     /** Write a job manifest referencing the given blob shas and return the job directory. */
@@ -137,4 +142,23 @@ class FabricGarbageCollectorTest extends BaseUnitTest {
         assertThat(cas.exists(expired)).as("blob referenced only by a pruned (expired) job is swept").isFalse();
         assertThat(cas.exists(orphan)).as("blob referenced by no manifest is swept").isFalse();
     }
+
+    @Test
+    void collect_keepsBlobsOfLiveCacheEntriesAndPrunesExpiredOnes() throws Exception {
+        Instant sixtyDaysAgo = Instant.now().minus(Duration.ofDays(60));
+        cache.put("git-diff", "live", "live diff".getBytes(StandardCharsets.UTF_8));
+        cache.put("git-diff", "stale", "stale diff".getBytes(StandardCharsets.UTF_8));
+        String live = cas.put("live diff".getBytes(StandardCharsets.UTF_8));
+        String stale = cas.put("stale diff".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(cas.pathFor(live), FileTime.from(sixtyDaysAgo));
+        Files.setLastModifiedTime(cas.pathFor(stale), FileTime.from(sixtyDaysAgo));
+        Files.setLastModifiedTime(cache.entryPath("git-diff", "stale"), FileTime.from(sixtyDaysAgo));
+
+        gc.collect();
+
+        assertThat(cas.exists(live)).as("blob of a cache entry within retention is kept").isTrue();
+        assertThat(cache.get("git-diff", "live")).isPresent();
+        assertThat(cas.exists(stale)).as("blob of an expired cache entry is swept").isFalse();
+        assertThat(cache.entryPath("git-diff", "stale")).doesNotExist();
+    }
 }
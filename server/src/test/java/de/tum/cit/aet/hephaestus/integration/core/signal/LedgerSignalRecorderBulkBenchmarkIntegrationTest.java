@@ -0,0 +1,115 @@
+package de.tum.cit.aet.hephaestus.integration.core.signal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.integration.scm.domain.signal.ScmSignals;
+import de.tum.cit.aet.hephaestus.testconfig.BaseIntegrationTest;
+import de.tum.cit.aet.hephaestus.testconfig.WorkspaceTestFixtures;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import de.tum.cit.aet.hephaestus.workspace.WorkspaceRepository;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Records {@value #ROWS} sync observations into the ledger two ways: one {@link SignalRecorder#record} per
+ * observation in a transaction of its own, as the async listeners did, and one
+ * {@link SignalRecorder#recordAll} per page of {@value #PAGE_SIZE}, as {@code SyncSignalBatcher} does. Each
+ * shape runs against a fresh workspace and logs rows per second; timings are logged, not asserted. Both must
+ * leave every row in the ledger.
+ *
+ * <p>Run with {@code ./mvnw verify -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class LedgerSignalRecorderBulkBenchmarkIntegrationTest extends BaseIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSignalRecorderBulkBenchmarkIntegrationTest.class);
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP = 2_000;
+    private static final int PAGE_SIZE = 100;
+    private static final Instant OCCURRED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final AtomicInteger SLUG_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private SignalRecorder recorder;
+
+    @Autowired
+    private WorkspaceRepository workspaces;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void aPageInOneStatementOutrunsARowPerTransaction() {
+        perRow(newWorkspace(), WARMUP);
+        perPage(newWorkspace(), WARMUP);
+
+        report("one record per transaction", perRow(newWorkspace(), ROWS));
+        report("one recordAll per page of " + PAGE_SIZE, perPage(newWorkspace(), ROWS));
+    }
+
+    private Run perRow(Workspace workspace, int count) {
+        long start = System.nanoTime();
+        for (long artifactId = 1; artifactId <= count; artifactId++) {
+            SignalKey key = key(workspace, artifactId);
+            transactionTemplate.executeWithoutResult(status -> recorder.record(key, OCCURRED_AT, DiscoveredVia.SYNC));
+        }
+        return new Run(workspace, count, System.nanoTime() - start);
+    }
+
+    private Run perPage(Workspace workspace, int count) {
+        long start = System.nanoTime();
+        for (long first = 1; first <= count; first += PAGE_SIZE) {
+            Map<SignalKey, Instant> page = new LinkedHashMap<>();
+            for (long artifactId = first; artifactId < first + PAGE_SIZE && artifactId <= count; artifactId++) {
+                page.put(key(workspace, artifactId), OCCURRED_AT);
+            }
+            transactionTemplate.executeWithoutResult(status -> recorder.recordAll(page, DiscoveredVia.SYNC));
+        }
+        return new Run(workspace, count, System.nanoTime() - start);
+    }
+
+    private void report(String shape, Run run) {
+        Long recorded = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM artifact_signal WHERE workspace_id = ?",
+            Long.class,
+            run.workspace().getId()
+        );
+        assertThat(recorded).isEqualTo(run.count());
+        log.info(
+            "{}: {} rows in {} ms, {} rows/s",
+            shape,
+            run.count(),
+            run.nanos() / 1_000_000,
+            String.format("%.0f", run.count() / (run.nanos() / 1e9))
+        );
+    }
+
+    private Workspace newWorkspace() {
+        return workspaces.save(WorkspaceTestFixtures.activeWorkspace("ledger-bulk-" + SLUG_SEQUENCE.incrementAndGet()));
+    }
+
+    private static SignalKey key(Workspace workspace, long artifactId) {
+        return new SignalKey(
+            workspace.getId(),
+            artifactId,
+            ScmSignals.PULL_REQUEST_READY,
+            new SignalRevision("sha~" + artifactId)
+        );
+    }
+
+    private record Run(Workspace workspace, int count, long nanos) {}
+}
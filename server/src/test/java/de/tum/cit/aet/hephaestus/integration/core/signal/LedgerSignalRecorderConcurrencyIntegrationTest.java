@@ -10,6 +10,8 @@ import de.tum.cit.aet.hephaestus.workspace.WorkspaceRepository;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -113,6 +115,35 @@ class LedgerSignalRecorderConcurrencyIntegrationTest extends BaseIntegrationTest
             .satisfies(signal -> assertThat(signal.getDiscoveredVia()).isEqualTo(DiscoveredVia.EVENT));
     }
 
+    /**
+     * The bulk path must arbitrate each row exactly as the single-row path does: a sync batch only adds,
+     * a campaign batch also takes over what nobody decided, and neither touches a decided row.
+     */
+    @Test
+    @DisplayName("a bulk record applies the single-row take-over rules to every row")
+    void aBulkRecordArbitratesEachRowLikeASingleOne() {
+        SignalKey undecided = key(3L);
+        SignalKey decided = key(4L);
+        SignalKey fresh = key(5L);
+        transactionTemplate.executeWithoutResult(status -> {
+            recorder.record(undecided, OCCURRED_AT, DiscoveredVia.SYNC);
+            recorder.record(decided, OCCURRED_AT, DiscoveredVia.EVENT);
+            recorder.markTriggered(decided, UUID.randomUUID());
+        });
+        Map<SignalKey, Instant> batch = Map.of(undecided, OCCURRED_AT, decided, OCCURRED_AT, fresh, OCCURRED_AT);
+
+        Set<SignalKey> bySync = transactionTemplate.execute(status -> recorder.recordAll(batch, DiscoveredVia.SYNC));
+        Set<SignalKey> byCampaign = transactionTemplate.execute(status ->
+            recorder.recordAll(batch, DiscoveredVia.BACKFILL)
+        );
+
+        assertThat(bySync).containsExactly(fresh);
+        assertThat(byCampaign).containsExactlyInAnyOrder(undecided, fresh);
+        assertThat(recorded(decided))
+            .singleElement()
+            .satisfies(signal -> assertThat(signal.getDiscoveredVia()).isEqualTo(DiscoveredVia.EVENT));
+    }
+
     /**
      * One claimant's whole turn: win the row, then settle it before committing — the shape every
      * production caller has, and the reason the loser has nothing left to take over.
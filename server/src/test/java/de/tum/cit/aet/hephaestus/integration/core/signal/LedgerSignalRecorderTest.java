@@ -4,16 +4,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class LedgerSignalRecorderTest extends BaseUnitTest {
 
@@ -114,4 +124,76 @@ class LedgerSignalRecorderTest extends BaseUnitTest {
             IllegalArgumentException.class
         );
     }
+
+    @Test
+    void shouldLetABulkSyncOnlyEverAddRows() {
+        // The bulk path keeps the single-row rule: a reconciliation page must not displace a decision.
+        var inserted = List.of(row(KEY));
+        when(repository.insertAllIfAbsent(anyString(), eq("SYNC"), any())).thenReturn(inserted);
+
+        var owned = recorder.recordAll(Map.of(KEY, Instant.parse("2026-01-01T00:00:00Z")), DiscoveredVia.SYNC);
+
+        assertThat(owned).containsExactly(KEY);
+        verify(repository).insertAllIfAbsent(contains("\"occurred_at\":\"2026-01-01T00:00:00Z\""), any(), any());
+        verify(repository, never()).insertOrClaimAllUndecided(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldLetABulkCampaignClaimOnlyTheRowsItWon() {
+        SignalKey settled = new SignalKey(7L, 43L, KEY.signalName(), KEY.revision());
+        var claimed = List.of(row(KEY));
+        when(repository.insertOrClaimAllUndecided(anyString(), eq("BACKFILL"), any())).thenReturn(claimed);
+
+        var owned = recorder.recordAll(Map.of(KEY, Instant.now(), settled, Instant.now()), DiscoveredVia.BACKFILL);
+
+        assertThat(owned).containsExactly(KEY);
+        verify(repository, never()).insertAllIfAbsent(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldSplitALargeBatchIntoBoundedStatements() {
+        Map<SignalKey, Instant> occurrences = new HashMap<>();
+        for (long artifactId = 1; artifactId <= LedgerSignalRecorder.MAX_ROWS_PER_STATEMENT + 1; artifactId++) {
+            occurrences.put(new SignalKey(7L, artifactId, KEY.signalName(), KEY.revision()), Instant.now());
+        }
+        when(repository.insertAllIfAbsent(anyString(), eq("SYNC"), any())).thenReturn(List.of());
+
+        recorder.recordAll(occurrences, DiscoveredVia.SYNC);
+
+        verify(repository, times(2)).insertAllIfAbsent(anyString(), eq("SYNC"), any());
+    }
+
+    @Test
+    void shouldHandTheLedgerRowsInItsUniqueKeyOrder() {
+        // Two bulk writers over the same artifacts take the unique-index locks row by row; offered in
+        // opposite orders they would deadlock, so every statement must list its rows in key order.
+        Map<SignalKey, Instant> occurrences = new LinkedHashMap<>();
+        occurrences.put(new SignalKey(8L, 1L, KEY.signalName(), KEY.revision()), Instant.now());
+        occurrences.put(new SignalKey(7L, 43L, KEY.signalName(), KEY.revision()), Instant.now());
+        occurrences.put(KEY, Instant.now());
+        when(repository.insertAllIfAbsent(anyString(), eq("SYNC"), any())).thenReturn(List.of());
+
+        recorder.recordAll(occurrences, DiscoveredVia.SYNC);
+
+        ArgumentCaptor<String> rowsJson = ArgumentCaptor.forClass(String.class);
+        verify(repository).insertAllIfAbsent(rowsJson.capture(), eq("SYNC"), any());
+        Matcher artifactIds = Pattern.compile("\"artifact_id\":(\\d+)").matcher(rowsJson.getValue());
+        assertThat(artifactIds.results().map(match -> match.group(1))).containsExactly("42", "43", "1");
+    }
+
+    @Test
+    void shouldNotTouchTheLedgerForAnEmptyBatch() {
+        assertThat(recorder.recordAll(Map.of(), DiscoveredVia.SYNC)).isEmpty();
+
+        verifyNoInteractions(repository);
+    }
+
+    private static ArtifactSignalRepository.RecordedSignalRow row(SignalKey key) {
+        ArtifactSignalRepository.RecordedSignalRow row = mock(ArtifactSignalRepository.RecordedSignalRow.class);
+        when(row.getWorkspaceId()).thenReturn(key.workspaceId());
+        when(row.getArtifactId()).thenReturn(key.artifactId());
+        when(row.getSignalName()).thenReturn(key.signalName().value());
+        when(row.getRevision()).thenReturn(key.revision().value());
+        return row;
+    }
 }
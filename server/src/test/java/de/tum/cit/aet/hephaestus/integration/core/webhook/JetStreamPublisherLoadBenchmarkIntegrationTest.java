@@ -0,0 +1,182 @@
+package de.tum.cit.aet.hephaestus.integration.core.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.core.webhook.WebhookProperties;
+import de.tum.cit.aet.hephaestus.testconfig.NatsTestContainer;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.Connection;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamManagement;
+import io.nats.client.Nats;
+import io.nats.client.api.StorageType;
+import io.nats.client.api.StreamConfiguration;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Drives {@link JetStreamPublisher} against the JetStream Testcontainer with 1 KiB webhooks in three shapes:
+ * one sender waiting for every ack before the next publish (how the spool drainer used to publish), one sender
+ * keeping {@value #DRAIN_WINDOW} publishes outstanding through {@link JetStreamPublisher#submit} (how it
+ * publishes now), and {@value #SENDERS} concurrent request threads sharing the in-flight window. Each shape
+ * logs webhooks per second with p50/p99 latency from handing a webhook over to its ack; every publish must be
+ * acked, timings are logged, not asserted.
+ *
+ * <p>Run with {@code ./mvnw verify -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class JetStreamPublisherLoadBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JetStreamPublisherLoadBenchmarkIntegrationTest.class);
+
+    private static final String STREAM = "bench";
+    private static final int WEBHOOKS = 20_000;
+    private static final int WARMUP = 2_000;
+    private static final int DRAIN_WINDOW = 64;
+    private static final int SENDERS = 64;
+    private static final byte[] BODY = new byte[1024];
+
+    private final AtomicInteger ids = new AtomicInteger();
+    private Connection connection;
+    private JetStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = Nats.connect(NatsTestContainer.getServerUrl());
+        JetStreamManagement jsm = connection.jetStreamManagement();
+        try {
+            jsm.deleteStream(STREAM);
+        } catch (JetStreamApiException missing) {
+            // First run against this container.
+        }
+        jsm.addStream(
+            StreamConfiguration.builder()
+                .name(STREAM)
+                .subjects(STREAM + ".>")
+                .storageType(StorageType.File)
+                .duplicateWindow(Duration.ofMinutes(2))
+                .build()
+        );
+        WebhookProperties properties = new WebhookProperties(
+            null,
+            null,
+            new WebhookProperties.TokenRotation(7, 90),
+            new WebhookProperties.Publish(Duration.ofSeconds(9), 1, Duration.ofMillis(200), 256),
+            new WebhookProperties.Stream(Duration.ofMinutes(2), Duration.ofDays(1), Map.of(), 2_000_000L),
+            new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
+            new WebhookProperties.Http(26_214_400L),
+            new WebhookProperties.Spool(
+                false,
+                Path.of("webhook-spool"),
+                DataSize.ofMegabytes(64),
+                16,
+                Duration.ofMillis(2)
+            )
+        );
+        Retry noRetry = Retry.of("bench", RetryConfig.custom().maxAttempts(1).build());
+        publisher = new JetStreamPublisher(connection.jetStream(), noRetry, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void pipelinedPublishingOutpacesPerRequestAcks() throws Exception {
+        serial(WARMUP);
+        pipelined(WARMUP);
+
+        report("ack per publish, 1 sender", serial(WEBHOOKS));
+        report("pipelined window, 1 sender", pipelined(WEBHOOKS));
+        report("shared window, " + SENDERS + " senders", concurrent(WEBHOOKS));
+    }
+
+    private Run serial(int count) {
+        long[] latencies = new long[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long sent = System.nanoTime();
+            publisher.publish(request());
+            latencies[i] = System.nanoTime() - sent;
+        }
+        return new Run(count, System.nanoTime() - start, latencies);
+    }
+
+    private Run pipelined(int count) throws Exception {
+        long[] latencies = new long[count];
+        ArrayDeque<CompletableFuture<?>> window = new ArrayDeque<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (window.size() == DRAIN_WINDOW) {
+                window.pollFirst().get();
+            }
+            int index = i;
+            long sent = System.nanoTime();
+            window.addLast(publisher.submit(request()).thenRun(() -> latencies[index] = System.nanoTime() - sent));
+        }
+        for (CompletableFuture<?> ack : window) {
+            ack.get();
+        }
+        return new Run(count, System.nanoTime() - start, latencies);
+    }
+
+    private Run concurrent(int count) throws Exception {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < SENDERS; s++) {
+                senders.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+                        long sent = System.nanoTime();
+                        publisher.publish(request());
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+        return new Run(count, System.nanoTime() - start, latencies);
+    }
+
+    private PublishRequest request() {
+        String id = "bench-" + ids.incrementAndGet();
+        return new PublishRequest(STREAM + ".acme.repo.push", id, Map.of("Nats-Msg-Id", id), BODY);
+    }
+
+    private void report(String shape, Run run) {
+        long[] sorted = run.latencies().clone();
+        Arrays.sort(sorted);
+        // A zero latency is a webhook whose publish threw instead of being acked.
+        assertThat(sorted[0]).isPositive();
+        log.info(
+            "{}: {} webhooks in {} ms, {} webhooks/s, p50 {} µs, p99 {} µs",
+            shape,
+            run.count(),
+            run.nanos() / 1_000_000,
+            String.format("%.0f", run.count() / (run.nanos() / 1e9)),
+            sorted[sorted.length / 2] / 1_000,
+            sorted[(int) (sorted.length * 0.99)] / 1_000
+        );
+    }
+
+    private record Run(int count, long nanos, long[] latencies) {}
+}
@@ -17,10 +17,12 @@ import io.nats.client.JetStream;
 import io.nats.client.PublishOptions;
 import io.nats.client.impl.Headers;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 class JetStreamPublisherRetryTest extends BaseUnitTest {
 
@@ -28,10 +30,11 @@ class JetStreamPublisherRetryTest extends BaseUnitTest {
         null,
         null,
         new WebhookProperties.TokenRotation(7, 90),
-        new WebhookProperties.Publish(Duration.ofSeconds(2), 3, Duration.ofMillis(10)),
+        new WebhookProperties.Publish(Duration.ofSeconds(2), 3, Duration.ofMillis(10), 256),
         new WebhookProperties.Stream(Duration.ofMinutes(10), Duration.ofDays(180), Map.of(), 2_000_000L),
         new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
-        new WebhookProperties.Http(26_214_400L)
+        new WebhookProperties.Http(26_214_400L),
+        new WebhookProperties.Spool(false, Path.of("webhook-spool"), DataSize.ofMegabytes(64), 16, Duration.ofMillis(2))
     );
 
     @Test
@@ -16,12 +16,14 @@ import io.nats.client.api.RetentionPolicy;
 import io.nats.client.api.StorageType;
 import io.nats.client.api.StreamConfiguration;
 import io.nats.client.api.StreamInfo;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
 
 @Tag("unit")
 class JetStreamPublisherTopologyTest {
@@ -30,10 +32,11 @@ class JetStreamPublisherTopologyTest {
         null,
         null,
         new WebhookProperties.TokenRotation(7, 90),
-        new WebhookProperties.Publish(Duration.ofSeconds(2), 3, Duration.ofMillis(10)),
+        new WebhookProperties.Publish(Duration.ofSeconds(2), 3, Duration.ofMillis(10), 256),
         new WebhookProperties.Stream(Duration.ofMinutes(10), Duration.ofDays(180), Map.of(), 2_000_000L),
         new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
-        new WebhookProperties.Http(26_214_400L)
+        new WebhookProperties.Http(26_214_400L),
+        new WebhookProperties.Spool(false, Path.of("webhook-spool"), DataSize.ofMegabytes(64), 16, Duration.ofMillis(2))
     );
 
     private ApplicationContextRunner baseRunner() {
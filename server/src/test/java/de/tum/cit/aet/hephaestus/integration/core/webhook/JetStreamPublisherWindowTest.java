@@ -0,0 +1,111 @@
+package de.tum.cit.aet.hephaestus.integration.core.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.core.webhook.WebhookProperties;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.JetStream;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class JetStreamPublisherWindowTest extends BaseUnitTest {
+
+    private static final int WINDOW = 2;
+
+    private final WebhookProperties properties = new WebhookProperties(
+        null,
+        null,
+        new WebhookProperties.TokenRotation(7, 90),
+        new WebhookProperties.Publish(Duration.ofSeconds(5), 1, Duration.ofMillis(10), WINDOW),
+        new WebhookProperties.Stream(Duration.ofMinutes(10), Duration.ofDays(180), Map.of(), 2_000_000L),
+        new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
+        new WebhookProperties.Http(26_214_400L),
+        new WebhookProperties.Spool(false, Path.of("webhook-spool"), DataSize.ofMegabytes(64), 16, Duration.ofMillis(2))
+    );
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<CompletableFuture<PublishAck>> acks = new CopyOnWriteArrayList<>();
+    private JetStreamPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        JetStream jetStream = mock(JetStream.class);
+        when(
+            jetStream.publishAsync(any(String.class), any(Headers.class), any(byte[].class), any(PublishOptions.class))
+        ).thenAnswer(invocation -> {
+            CompletableFuture<PublishAck> ack = new CompletableFuture<>();
+            acks.add(ack);
+            return ack;
+        });
+        Retry retry = Retry.of("test-window", RetryConfig.custom().maxAttempts(1).build());
+        publisher = new JetStreamPublisher(jetStream, retry, properties, meterRegistry);
+    }
+
+    private static PublishRequest request(int n) {
+        return new PublishRequest("github.acme.repo.push", "github-" + n, Map.of(), new byte[] { 1 });
+    }
+
+    @Test
+    @DisplayName("a submit beyond the window waits until an ack frees a slot")
+    void fullWindowHoldsTheNextSubmit() {
+        publisher.submit(request(1));
+        publisher.submit(request(2));
+
+        CompletableFuture<CompletableFuture<PublishAck>> third = CompletableFuture.supplyAsync(() ->
+            publisher.submit(request(3))
+        );
+
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> !third.isDone());
+        assertThat(acks).hasSize(WINDOW);
+        acks.getFirst().complete(mock(PublishAck.class));
+        assertThat(third).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(acks).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("a caller that finds no slot within its timeout fails like an ack timeout")
+    void saturatedWindowFailsThePublish() {
+        publisher.submit(request(1));
+        publisher.submit(request(2));
+
+        assertThatThrownBy(() -> publisher.publishFast(request(3), Duration.ofMillis(50)))
+            .isInstanceOf(JetStreamPublisher.PublishFailedException.class)
+            .hasRootCauseInstanceOf(TimeoutException.class);
+        assertThat(acks).hasSize(WINDOW);
+        assertThat(meterRegistry.get("webhook.publish.saturated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("shutdown waits for submitted publishes whose ack is still outstanding")
+    void awaitInFlightCoversSubmittedFutures() {
+        publisher.submit(request(1));
+        CompletableFuture<Void> drained = CompletableFuture.runAsync(() ->
+            publisher.awaitInFlight(Duration.ofSeconds(5))
+        );
+
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> !drained.isDone());
+        acks.getFirst().complete(mock(PublishAck.class));
+
+        assertThat(drained).succeedsWithin(Duration.ofSeconds(5));
+    }
+}
@@ -3,8 +3,10 @@ package de.tum.cit.aet.hephaestus.integration.core.webhook;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import de.tum.cit.aet.hephaestus.integration.core.spi.IntegrationKind;
 import de.tum.cit.aet.hephaestus.integration.core.spi.SubjectKeyDeriver;
@@ -292,6 +294,58 @@ class WebhookIngestPipelineTest extends BaseUnitTest {
         verify(publisher, never()).publish(any());
     }
 
+    @Test
+    @DisplayName("a spooled webhook is acknowledged without waiting for JetStream")
+    void spooledWebhookSkipsTheSynchronousPublish() {
+        WebhookSpool spool = mock(WebhookSpool.class);
+        when(spool.offer(any())).thenReturn(true);
+        WebhookIngestPipeline pipeline = new WebhookIngestPipeline(
+            List.of(stubVerifier(IntegrationKind.GITHUB, new VerificationResult.Verified())),
+            List.of(stubDeriver(IntegrationKind.GITHUB, "github.acme.repo.push", "github-DEADBEEF")),
+            publisher,
+            objectMapper,
+            List.of(),
+            spool
+        );
+
+        ResponseEntity<?> resp = pipeline.handle(
+            IntegrationKind.GITHUB,
+            "{}".getBytes(StandardCharsets.UTF_8),
+            headers("X-GitHub-Delivery", "DEADBEEF")
+        );
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        ArgumentCaptor<PublishRequest> captor = ArgumentCaptor.forClass(PublishRequest.class);
+        verify(spool).offer(captor.capture());
+        assertThat(captor.getValue().dedupId()).isEqualTo("github-DEADBEEF");
+        assertThat(captor.getValue().headers()).containsEntry("Nats-Msg-Id", "github-DEADBEEF");
+        verify(publisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("a spool that cannot take the webhook falls back to the synchronous publish")
+    void rejectedSpoolFallsBackToPublish() {
+        WebhookSpool spool = mock(WebhookSpool.class);
+        when(spool.offer(any())).thenReturn(false);
+        WebhookIngestPipeline pipeline = new WebhookIngestPipeline(
+            List.of(stubVerifier(IntegrationKind.GITHUB, new VerificationResult.Verified())),
+            List.of(stubDeriver(IntegrationKind.GITHUB, "github.acme.repo.push", "github-DEADBEEF")),
+            publisher,
+            objectMapper,
+            List.of(),
+            spool
+        );
+
+        ResponseEntity<?> resp = pipeline.handle(
+            IntegrationKind.GITHUB,
+            "{}".getBytes(StandardCharsets.UTF_8),
+            headers("X-GitHub-Delivery", "DEADBEEF")
+        );
+
+        assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(publisher).publish(any());
+    }
+
     @Test
     void duplicateVerifierRejected() {
         Assertions.assertThatThrownBy(() ->
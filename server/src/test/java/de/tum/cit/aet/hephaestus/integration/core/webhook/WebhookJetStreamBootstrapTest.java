@@ -17,6 +17,7 @@ import io.nats.client.JetStreamManagement;
 import io.nats.client.api.StreamConfiguration;
 import io.nats.client.api.StreamInfo;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.util.unit.DataSize;
 
 @ExtendWith(OutputCaptureExtension.class)
 class WebhookJetStreamBootstrapTest extends BaseUnitTest {
@@ -32,10 +34,11 @@ class WebhookJetStreamBootstrapTest extends BaseUnitTest {
         null,
         null,
         new WebhookProperties.TokenRotation(7, 90),
-        new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200)),
+        new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200), 256),
         new WebhookProperties.Stream(Duration.ofMinutes(10), Duration.ofDays(180), Map.of(), 2_000_000L),
         new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
-        new WebhookProperties.Http(26_214_400L)
+        new WebhookProperties.Http(26_214_400L),
+        new WebhookProperties.Spool(false, Path.of("webhook-spool"), DataSize.ofMegabytes(64), 16, Duration.ofMillis(2))
     );
 
     @Test
@@ -60,7 +63,7 @@ class WebhookJetStreamBootstrapTest extends BaseUnitTest {
             null,
             null,
             new WebhookProperties.TokenRotation(7, 90),
-            new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200)),
+            new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200), 256),
             new WebhookProperties.Stream(
                 Duration.ofMinutes(10),
                 Duration.ofDays(180),
@@ -68,7 +71,14 @@ class WebhookJetStreamBootstrapTest extends BaseUnitTest {
                 2_000_000L
             ),
             new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
-            new WebhookProperties.Http(26_214_400L)
+            new WebhookProperties.Http(26_214_400L),
+            new WebhookProperties.Spool(
+                false,
+                Path.of("webhook-spool"),
+                DataSize.ofMegabytes(64),
+                16,
+                Duration.ofMillis(2)
+            )
         );
         JetStreamApiException notFound = apiException(404);
         JetStreamManagement jsm = mock(JetStreamManagement.class);
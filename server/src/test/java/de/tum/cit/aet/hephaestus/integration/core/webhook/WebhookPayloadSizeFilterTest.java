@@ -12,11 +12,13 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletResponse;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
 
 class WebhookPayloadSizeFilterTest extends BaseUnitTest {
 
@@ -26,10 +28,11 @@ class WebhookPayloadSizeFilterTest extends BaseUnitTest {
         null,
         null,
         new WebhookProperties.TokenRotation(7, 90),
-        new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200)),
+        new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200), 256),
         new WebhookProperties.Stream(Duration.ofMinutes(10), Duration.ofDays(180), Map.of(), 2_000_000L),
         new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
-        new WebhookProperties.Http(MAX)
+        new WebhookProperties.Http(MAX),
+        new WebhookProperties.Spool(false, Path.of("webhook-spool"), DataSize.ofMegabytes(64), 16, Duration.ofMillis(2))
     );
 
     private final MeterRegistry meters = new SimpleMeterRegistry();
@@ -0,0 +1,314 @@
+package de.tum.cit.aet.hephaestus.integration.core.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import de.tum.cit.aet.hephaestus.core.webhook.WebhookProperties;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.JetStreamApiException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class WebhookSpoolTest extends BaseUnitTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PublishRequest> published = new CopyOnWriteArrayList<>();
+    private final List<WebhookSpool> opened = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(WebhookSpool::stop);
+    }
+
+    private WebhookSpool open(JetStreamPublisher publisher, DataSize segmentSize, int maxSegments) {
+        WebhookSpool spool = new WebhookSpool(
+            publisher,
+            new WebhookProperties.Spool(true, tempDir, segmentSize, maxSegments, Duration.ofMillis(1)),
+            Duration.ofSeconds(5),
+            meterRegistry
+        );
+        spool.start();
+        opened.add(spool);
+        return spool;
+    }
+
+    private JetStreamPublisher recordingPublisher() {
+        JetStreamPublisher publisher = mock(JetStreamPublisher.class);
+        doAnswer(invocation -> {
+            published.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        })
+            .when(publisher)
+            .submit(any());
+        return publisher;
+    }
+
+    private static JetStreamPublisher unavailablePublisher() {
+        JetStreamPublisher publisher = mock(JetStreamPublisher.class);
+        doReturn(CompletableFuture.failedFuture(new IOException("NATS down")))
+            .when(publisher)
+            .submit(any());
+        return publisher;
+    }
+
+    private static PublishRequest request(int n) {
+        return new PublishRequest(
+            "github.acme.repo.push",
+            "github-" + n,
+            Map.of("X-GitHub-Event", "push", "Nats-Msg-Id", "github-" + n),
+            ("{\"n\":" + n + "}").getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("spooled requests are published in append order with their dedup id and headers intact")
+    void drainsInAppendOrder() {
+        WebhookSpool spool = open(recordingPublisher(), DataSize.ofKilobytes(64), 4);
+
+        for (int n = 0; n < 20; n++) {
+            assertThat(spool.offer(request(n))).isTrue();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(published).hasSize(20));
+        assertThat(published).extracting(PublishRequest::dedupId).containsExactlyElementsOf(
+            IntStream.range(0, 20).mapToObj(n -> "github-" + n).toList()
+        );
+        assertThat(published.get(7).headers()).containsEntry("Nats-Msg-Id", "github-7");
+        assertThat(new String(published.get(7).body(), StandardCharsets.UTF_8)).isEqualTo("{\"n\":7}");
+        await().atMost(Duration.ofSeconds(5)).until(() -> spool.depth() == 0);
+        assertThat(meterRegistry.get("webhook.spool.drained").counter().count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("the drainer keeps several publishes outstanding instead of waiting on each ack")
+    void drainPipelinesPublishes() {
+        JetStreamPublisher publisher = mock(JetStreamPublisher.class);
+        List<CompletableFuture<Object>> acks = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            CompletableFuture<Object> ack = new CompletableFuture<>();
+            acks.add(ack);
+            return ack;
+        })
+            .when(publisher)
+            .submit(any());
+        WebhookSpool spool = open(publisher, DataSize.ofKilobytes(64), 4);
+
+        for (int n = 0; n < 10; n++) {
+            assertThat(spool.offer(request(n))).isTrue();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(acks).hasSize(10));
+        assertThat(spool.depth()).isEqualTo(10);
+        acks.forEach(ack -> ack.complete(null));
+        await().atMost(Duration.ofSeconds(5)).until(() -> spool.depth() == 0);
+    }
+
+    @Test
+    @DisplayName("a failed publish inside the window resubmits from the oldest undrained record")
+    void failureInsideTheWindowResubmits() {
+        JetStreamPublisher publisher = mock(JetStreamPublisher.class);
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        doAnswer(invocation -> {
+            PublishRequest request = invocation.getArgument(0);
+            if (request.dedupId().equals("github-5") && failedOnce.compareAndSet(false, true)) {
+                return CompletableFuture.failedFuture(new IOException("ack lost"));
+            }
+            published.add(request);
+            return CompletableFuture.completedFuture(null);
+        })
+            .when(publisher)
+            .submit(any());
+        WebhookSpool spool = open(publisher, DataSize.ofKilobytes(64), 4);
+
+        for (int n = 0; n < 20; n++) {
+            assertThat(spool.offer(request(n))).isTrue();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> spool.depth() == 0);
+        assertThat(published).extracting(PublishRequest::dedupId).containsAll(
+            IntStream.range(0, 20).mapToObj(n -> "github-" + n).toList()
+        );
+        assertThat(meterRegistry.get("webhook.spool.drain.failure").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("webhook.spool.drained").counter().count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("a record JetStream can never accept is dead-lettered instead of holding back the records after it")
+    void poisonRecordIsDeadLettered() throws Exception {
+        JetStreamPublisher publisher = mock(JetStreamPublisher.class);
+        doAnswer(invocation -> {
+            PublishRequest request = invocation.getArgument(0);
+            if (request.dedupId().equals("github-0")) {
+                throw new IllegalArgumentException("Subject must be '<stream>.<...>'");
+            }
+            if (request.dedupId().equals("github-1")) {
+                return CompletableFuture.failedFuture(new IllegalArgumentException("Message payload size exceed"));
+            }
+            published.add(request);
+            return CompletableFuture.completedFuture(null);
+        })
+            .when(publisher)
+            .submit(any());
+        WebhookSpool spool = open(publisher, DataSize.ofKilobytes(64), 4);
+
+        for (int n = 0; n < 3; n++) {
+            assertThat(spool.offer(request(n))).isTrue();
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> spool.depth() == 0);
+        assertThat(published).extracting(PublishRequest::dedupId).containsExactly("github-2");
+        assertThat(meterRegistry.get("webhook.spool.dead_lettered").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("webhook.spool.drain.failure").counter().count()).isZero();
+        assertThat(meterRegistry.get("webhook.spool.drained").counter().count()).isEqualTo(1);
+        List<String> deadLettered;
+        try (Stream<Path> files = Files.list(tempDir.resolve("dead-letter"))) {
+            deadLettered = files
+                .map(file -> {
+                    try {
+                        return WebhookSpool.decode(Files.readAllBytes(file)).dedupId();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .toList();
+        }
+        assertThat(deadLettered).containsExactlyInAnyOrder("github-0", "github-1");
+    }
+
+    @Test
+    @DisplayName("only failures a retry cannot fix count as permanent")
+    void classifiesPermanentFailures() {
+        JetStreamApiException tooLarge = mock(JetStreamApiException.class);
+        doReturn(10054).when(tooLarge).getApiErrorCode();
+        JetStreamApiException clusterBusy = mock(JetStreamApiException.class);
+        doReturn(10008).when(clusterBusy).getApiErrorCode();
+
+        assertThat(WebhookSpool.isPermanent(new IllegalArgumentException("bad subject"))).isTrue();
+        assertThat(WebhookSpool.isPermanent(tooLarge)).isTrue();
+        assertThat(WebhookSpool.isPermanent(clusterBusy)).isFalse();
+        assertThat(WebhookSpool.isPermanent(new IOException("503 No Responders"))).isFalse();
+        assertThat(WebhookSpool.isPermanent(new TimeoutException("ack timed out"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("concurrent offers share fsyncs")
+    void concurrentOffersAreGroupCommitted() throws Exception {
+        WebhookSpool spool = open(recordingPublisher(), DataSize.ofMegabytes(1), 4);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(16)) {
+            List<Future<Boolean>> offers = IntStream.range(0, 200)
+                .mapToObj(n -> pool.submit(() -> spool.offer(request(n))))
+                .toList();
+            for (Future<Boolean> offer : offers) {
+                assertThat(offer.get()).isTrue();
+            }
+        }
+
+        double commits = meterRegistry.get("webhook.spool.commits").counter().count();
+        assertThat(commits).isPositive().isLessThan(200);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(published).hasSize(200));
+    }
+
+    @Test
+    @DisplayName("records still pending at shutdown are published after a restart, and drained segments are deleted")
+    void pendingRecordsSurviveARestart() throws Exception {
+        WebhookSpool down = open(unavailablePublisher(), DataSize.ofKilobytes(1), 8);
+        for (int n = 0; n < 30; n++) {
+            assertThat(down.offer(request(n))).isTrue();
+        }
+        assertThat(down.depth()).isEqualTo(30);
+        down.stop();
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        WebhookSpool restarted = open(recordingPublisher(), DataSize.ofKilobytes(1), 8);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(published).hasSize(30));
+        assertThat(published).extracting(PublishRequest::dedupId).containsExactlyElementsOf(
+            IntStream.range(0, 30).mapToObj(n -> "github-" + n).toList()
+        );
+        await().atMost(Duration.ofSeconds(5)).until(() -> restarted.depth() == 0 && segmentFiles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("a torn record ends recovery of its segment without losing the records before it")
+    void tornTailIsIgnoredOnRecovery() throws Exception {
+        WebhookSpool down = open(unavailablePublisher(), DataSize.ofKilobytes(64), 4);
+        for (int n = 0; n < 3; n++) {
+            assertThat(down.offer(request(n))).isTrue();
+        }
+        down.stop();
+        Path segment = segmentFiles().getFirst();
+        long tail = 3L * (WebhookSpool.HEADER_BYTES + WebhookSpool.encode(request(0)).length);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // A length and payload with no matching checksum: a write cut short by a crash.
+            channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 40, 1, 2, 3, 4, 0, 9, 9, 9 }), tail);
+        }
+
+        open(recordingPublisher(), DataSize.ofKilobytes(64), 4);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(published).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("a full spool rejects the offer so the caller publishes synchronously")
+    void fullSpoolRejects() {
+        WebhookSpool spool = open(unavailablePublisher(), DataSize.ofKilobytes(1), 1);
+
+        boolean accepted = true;
+        for (int n = 0; n < 100 && accepted; n++) {
+            accepted = spool.offer(request(n));
+        }
+
+        assertThat(accepted).isFalse();
+        assertThat(meterRegistry.get("webhook.spool.rejected").tag("reason", "full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordFormatRoundTrips() throws Exception {
+        PublishRequest original = request(42);
+
+        PublishRequest decoded = WebhookSpool.decode(WebhookSpool.encode(original));
+
+        assertThat(decoded.subject()).isEqualTo(original.subject());
+        assertThat(decoded.dedupId()).isEqualTo(original.dedupId());
+        assertThat(decoded.headers()).isEqualTo(original.headers());
+        assertThat(decoded.body()).isEqualTo(original.body());
+    }
+}
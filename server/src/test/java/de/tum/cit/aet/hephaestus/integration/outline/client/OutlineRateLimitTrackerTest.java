@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import de.tum.cit.aet.hephaestus.integration.core.spi.RateLimitSnapshot;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -104,6 +105,19 @@ class OutlineRateLimitTrackerTest extends BaseUnitTest {
             assertThat(snapshot.resetAt()).isEqualTo(snapshot.throttledUntil());
         }
 
+        /** The gate concurrent sync work reads: open for the rest of the window, closed once it lapses. */
+        @Test
+        void throttledFor_coversExactlyTheOpenWindow() {
+            assertThat(tracker.throttledFor(SCOPE)).isNull();
+
+            tracker.updateFromHeaders(SCOPE, throttleHeaders("60", "1000", "0"));
+            assertThat(tracker.throttledFor(SCOPE)).isBetween(Duration.ofSeconds(50), Duration.ofSeconds(60));
+
+            tracker.updateFromHeaders(SCOPE, throttleHeaders("0", "1000", "0"));
+            assertThat(tracker.throttledFor(SCOPE)).isNull();
+            assertThat(tracker.throttledFor(null)).isNull();
+        }
+
         @Test
         void observedCountsAreReportedVerbatimWhileTheWindowIsOpen() {
             tracker.updateFromHeaders(SCOPE, throttleHeaders("30", "1000", "0"));
@@ -0,0 +1,270 @@
+package de.tum.cit.aet.hephaestus.integration.outline.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import de.tum.cit.aet.hephaestus.agent.documentation.DocumentReviewTrigger;
+import de.tum.cit.aet.hephaestus.core.security.OutlineOriginPolicy;
+import de.tum.cit.aet.hephaestus.integration.core.connection.Connection;
+import de.tum.cit.aet.hephaestus.integration.core.connection.ConnectionConfig;
+import de.tum.cit.aet.hephaestus.integration.core.connection.ConnectionService;
+import de.tum.cit.aet.hephaestus.integration.core.spi.ApiCredentialProvider.BearerToken;
+import de.tum.cit.aet.hephaestus.integration.core.spi.IntegrationKind;
+import de.tum.cit.aet.hephaestus.integration.outline.OutlineProperties;
+import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineApiClient;
+import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineRateLimitTracker;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineCollection;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineCollection.MirrorState;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineCollection.SyncStatus;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineCollectionRepository;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentRepository;
+import de.tum.cit.aet.hephaestus.integration.outline.domain.signal.OutlineDocumentSignalRecorder;
+import de.tum.cit.aet.hephaestus.integration.outline.lifecycle.OutlineWebhookRegistrar;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reconciles a workspace of {@value #COLLECTIONS} collections × {@value #DOCUMENTS_PER_COLLECTION} changed
+ * documents through the real {@link OutlineApiClient} against a mock Outline API that answers every call after
+ * {@value #LIST_LATENCY_MS} ms (listings) or {@value #EXPORT_LATENCY_MS} ms (exports): once one collection at
+ * a time, then with 4 and 8 collections in flight. Each run logs wall time and exported documents per second.
+ * Every collection must end COMPLETE with every document exported; timings are logged, not asserted.
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class OutlineCollectionSyncBenchmarkTest extends BaseUnitTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutlineCollectionSyncBenchmarkTest.class);
+
+    private static final long WORKSPACE = 42L;
+    private static final long CONNECTION = 7L;
+    private static final String SERVER_URL = "https://wiki.example.com";
+    private static final int COLLECTIONS = 24;
+    private static final int DOCUMENTS_PER_COLLECTION = 20;
+    private static final long LIST_LATENCY_MS = 40;
+    private static final long EXPORT_LATENCY_MS = 15;
+
+    @Test
+    void concurrentCollectionsRaiseThroughput() {
+        report("sequential", run(1));
+        report("4 collections in flight", run(4));
+        report("8 collections in flight", run(8));
+    }
+
+    private record Run(int parallelism, long elapsedMs, int exports) {}
+
+    private Run run(int parallelism) {
+        AtomicInteger exports = new AtomicInteger();
+        OutlineCollectionRepository collectionRepository = mock(OutlineCollectionRepository.class);
+        OutlineDocumentRepository documentRepository = mock(OutlineDocumentRepository.class);
+        Map<String, OutlineCollection> collections = registeredCollections(collectionRepository);
+        lenient().when(documentRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OutlineProperties properties = new OutlineProperties(
+            // Enough budget for every document, so the runs differ only in how collections are scheduled.
+            new OutlineProperties.Sync(COLLECTIONS * DOCUMENTS_PER_COLLECTION, parallelism),
+            new OutlineProperties.Cache(200),
+            Duration.ofDays(30)
+        );
+        OutlineMirrorWriter mirrorWriter = new OutlineMirrorWriter(
+            new OutlineMirrorTransactions(documentRepository, collectionRepository)
+        );
+        OutlineDocumentSyncService service = new OutlineDocumentSyncService(
+            activeConnection(),
+            mockOutline(exports),
+            documentRepository,
+            collectionRepository,
+            mock(OutlineWebhookRegistrar.class),
+            properties,
+            mirrorWriter,
+            new OutlineMirrorRetentionService(documentRepository, mirrorWriter, properties),
+            mock(OutlineDocumentSignalRecorder.class),
+            new OutlineRateLimitTracker(new SimpleMeterRegistry()),
+            new StaticListableBeanFactory().getBeanProvider(DocumentReviewTrigger.class)
+        );
+
+        long start = System.nanoTime();
+        service.syncWorkspace(WORKSPACE);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(collections.values()).allMatch(c -> c.getSyncStatus() == SyncStatus.COMPLETE);
+        assertThat(exports).hasValue(COLLECTIONS * DOCUMENTS_PER_COLLECTION);
+        return new Run(parallelism, elapsedMs, exports.get());
+    }
+
+    private static void report(String shape, Run run) {
+        log.info(
+            "{} (parallelism {}): {} collections, {} exports in {} ms, {} documents/s",
+            shape,
+            run.parallelism(),
+            COLLECTIONS,
+            run.exports(),
+            run.elapsedMs(),
+            String.format("%.0f", run.exports() * 1000.0 / Math.max(1, run.elapsedMs()))
+        );
+    }
+
+    private static Map<String, OutlineCollection> registeredCollections(OutlineCollectionRepository repository) {
+        Map<String, OutlineCollection> collections = IntStream.range(0, COLLECTIONS)
+            .mapToObj(i -> {
+                OutlineCollection collection = new OutlineCollection();
+                collection.setWorkspaceId(WORKSPACE);
+                collection.setConnectionId(CONNECTION);
+                collection.setCollectionId("col-" + i);
+                collection.setName("Collection " + i);
+                collection.setState(MirrorState.ENABLED);
+                collection.setSyncStatus(SyncStatus.PENDING);
+                return collection;
+            })
+            .collect(Collectors.toMap(OutlineCollection::getCollectionId, c -> c));
+        List<OutlineCollection> ordered = collections
+            .values()
+            .stream()
+            .sorted((a, b) -> a.getCollectionId().compareTo(b.getCollectionId()))
+            .toList();
+        lenient().when(repository.findForSync(WORKSPACE, CONNECTION, MirrorState.ENABLED)).thenReturn(ordered);
+        lenient().when(repository.findByWorkspaceIdOrderByCreatedAtAsc(WORKSPACE)).thenReturn(ordered);
+        lenient()
+            .when(
+                repository.findByWorkspaceIdAndConnectionIdAndCollectionId(eq(WORKSPACE), eq(CONNECTION), anyString())
+            )
+            .thenAnswer(invocation -> Optional.ofNullable(collections.get(invocation.<String>getArgument(2))));
+        lenient().when(repository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        return collections;
+    }
+
+    private static ConnectionService activeConnection() {
+        Connection connection = mock(Connection.class);
+        lenient().when(connection.getId()).thenReturn(CONNECTION);
+        lenient()
+            .when(connection.getConfig())
+            .thenReturn(new ConnectionConfig.OutlineConfig(SERVER_URL, "sub-1", "secret", Set.of()));
+        ConnectionService connectionService = mock(ConnectionService.class);
+        lenient()
+            .when(connectionService.findActive(anyLong(), eq(IntegrationKind.OUTLINE)))
+            .thenReturn(Optional.of(connection));
+        lenient()
+            .when(connectionService.findActiveBearerToken(anyLong(), eq(IntegrationKind.OUTLINE)))
+            .thenReturn(Optional.of(new BearerToken("token", null)));
+        return connectionService;
+    }
+
+    /**
+     * The mock Outline API: every collection is visible, carries {@value #DOCUMENTS_PER_COLLECTION} live
+     * documents, no tree-only nodes and no archived documents, and each call answers after its latency.
+     */
+    private static OutlineApiClient mockOutline(AtomicInteger exports) {
+        ExchangeFunction exchange = request -> {
+            String path = request.url().getPath();
+            String body = requestBody(request);
+            String json;
+            long latencyMs = LIST_LATENCY_MS;
+            if (path.endsWith("/collections.list")) {
+                json = data(
+                    IntStream.range(0, COLLECTIONS)
+                        .mapToObj(i -> "{\"id\":\"col-" + i + "\",\"name\":\"Collection " + i + "\"}")
+                        .collect(Collectors.joining(","))
+                );
+            } else if (path.endsWith("/documents.export")) {
+                exports.incrementAndGet();
+                latencyMs = EXPORT_LATENCY_MS;
+                json = "{\"data\":\"# body\"}";
+            } else if (path.endsWith("/documents.list") && !body.contains("statusFilter")) {
+                String collectionId = body.replaceAll(".*\"collectionId\"\\s*:\\s*\"([^\"]+)\".*", "$1");
+                json = body.contains("\"offset\":0") ? data(documents(collectionId)) : data("");
+            } else {
+                // collections.documents and the archived listing: nothing beyond the live documents.
+                json = data("");
+            }
+            return Mono.delay(Duration.ofMillis(latencyMs)).thenReturn(
+                ClientResponse.create(HttpStatus.OK).header("Content-Type", "application/json").body(json).build()
+            );
+        };
+        return new OutlineApiClient(
+            CircuitBreaker.ofDefaults("outlineRestApi"),
+            Retry.ofDefaults("outlineRestApi"),
+            WebClient.builder().exchangeFunction(exchange).build(),
+            new OutlineOriginPolicy(Set.of(SERVER_URL))
+        );
+    }
+
+    private static String documents(String collectionId) {
+        return IntStream.range(0, DOCUMENTS_PER_COLLECTION)
+            .mapToObj(i ->
+                "{\"id\":\"" +
+                collectionId +
+                "-doc-" +
+                i +
+                "\",\"collectionId\":\"" +
+                collectionId +
+                "\",\"title\":\"Doc " +
+                i +
+                "\",\"updatedAt\":\"2026-01-01T00:00:00.000Z\"}"
+            )
+            .collect(Collectors.joining(","));
+    }
+
+    private static String data(String rows) {
+        return "{\"data\":[" + rows + "]}";
+    }
+
+    /** Serializes the request body the way the wire would see it, so the mock can route on its fields. */
+    private static String requestBody(ClientRequest request) {
+        MockClientHttpRequest wire = new MockClientHttpRequest(request.method(), request.url());
+        request
+            .body()
+            .insert(
+                wire,
+                new BodyInserter.Context() {
+                    @Override
+                    public List<HttpMessageWriter<?>> messageWriters() {
+                        return ExchangeStrategies.withDefaults().messageWriters();
+                    }
+
+                    @Override
+                    public Optional<ServerHttpRequest> serverRequest() {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public Map<String, Object> hints() {
+                        return Map.of();
+                    }
+                }
+            )
+            .block();
+        return wire.getBodyAsString().block();
+    }
+}
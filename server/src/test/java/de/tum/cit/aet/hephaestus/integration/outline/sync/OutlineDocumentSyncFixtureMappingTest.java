@@ -14,6 +14,7 @@ import de.tum.cit.aet.hephaestus.integration.core.spi.IntegrationKind;
 import de.tum.cit.aet.hephaestus.integration.outline.OutlineProperties;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineApiClient;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineEnvelope;
+import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineRateLimitTracker;
 import de.tum.cit.aet.hephaestus.integration.outline.client.model.OutlineCollectionModel;
 import de.tum.cit.aet.hephaestus.integration.outline.client.model.OutlineDocumentModel;
 import de.tum.cit.aet.hephaestus.integration.outline.client.model.OutlineNavigationNode;
@@ -25,6 +26,7 @@ import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocument;
 import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentRepository;
 import de.tum.cit.aet.hephaestus.integration.outline.lifecycle.OutlineWebhookRegistrar;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
@@ -91,7 +93,7 @@ class OutlineDocumentSyncFixtureMappingTest extends BaseUnitTest {
 
     private OutlineDocumentSyncService service() {
         OutlineProperties properties = new OutlineProperties(
-            new OutlineProperties.Sync(100),
+            new OutlineProperties.Sync(100, 1),
             new OutlineProperties.Cache(200),
             Duration.ofDays(30)
         );
@@ -110,6 +112,7 @@ class OutlineDocumentSyncFixtureMappingTest extends BaseUnitTest {
             org.mockito.Mockito.mock(
                 de.tum.cit.aet.hephaestus.integration.outline.domain.signal.OutlineDocumentSignalRecorder.class
             ),
+            new OutlineRateLimitTracker(new SimpleMeterRegistry()),
             // No review trigger: this suite is about mirroring, and a node that cannot submit a review
             // still records every signal — which is exactly the ObjectProvider's absent case.
             new org.springframework.beans.factory.support.StaticListableBeanFactory().getBeanProvider(
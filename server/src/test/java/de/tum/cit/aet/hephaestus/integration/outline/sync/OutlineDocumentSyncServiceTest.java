@@ -25,6 +25,7 @@ import de.tum.cit.aet.hephaestus.integration.outline.OutlineProperties;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineApiClient;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineApiException;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineClientModels;
+import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineRateLimitTracker;
 import de.tum.cit.aet.hephaestus.integration.outline.client.OutlineRateLimitedException;
 import de.tum.cit.aet.hephaestus.integration.outline.client.model.OutlineDocumentModel;
 import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineCollection;
@@ -36,6 +37,7 @@ import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentRepos
 import de.tum.cit.aet.hephaestus.integration.outline.domain.OutlineDocumentSnapshot;
 import de.tum.cit.aet.hephaestus.integration.outline.lifecycle.OutlineWebhookRegistrar;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -43,11 +45,14 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 /**
@@ -90,6 +95,8 @@ class OutlineDocumentSyncServiceTest extends BaseUnitTest {
     @Mock
     private Connection connection;
 
+    private final OutlineRateLimitTracker rateLimitTracker = new OutlineRateLimitTracker(new SimpleMeterRegistry());
+
     private OutlineCollection collection;
 
     private OutlineDocumentSyncService service(int exportBudget) {
@@ -97,8 +104,14 @@ class OutlineDocumentSyncServiceTest extends BaseUnitTest {
     }
 
     private OutlineDocumentSyncService service(int exportBudget, int cacheMaxSizeMb) {
+        // One collection at a time keeps the existing interleaving assertions deterministic; the concurrent
+        // pass has its own tests below.
+        return service(exportBudget, cacheMaxSizeMb, 1);
+    }
+
+    private OutlineDocumentSyncService service(int exportBudget, int cacheMaxSizeMb, int collectionParallelism) {
         OutlineProperties properties = new OutlineProperties(
-            new OutlineProperties.Sync(exportBudget),
+            new OutlineProperties.Sync(exportBudget, collectionParallelism),
             new OutlineProperties.Cache(cacheMaxSizeMb),
             Duration.ofDays(30)
         );
@@ -117,6 +130,7 @@ class OutlineDocumentSyncServiceTest extends BaseUnitTest {
             org.mockito.Mockito.mock(
                 de.tum.cit.aet.hephaestus.integration.outline.domain.signal.OutlineDocumentSignalRecorder.class
             ),
+            rateLimitTracker,
             // No review trigger: this suite is about mirroring, and a node that cannot submit a review
             // still records every signal — which is exactly the ObjectProvider's absent case.
             new org.springframework.beans.factory.support.StaticListableBeanFactory().getBeanProvider(
@@ -1193,4 +1207,110 @@ class OutlineDocumentSyncServiceTest extends BaseUnitTest {
         verify(outlineApiClient, times(3)).exportDocument(anyString(), anyString(), anyString());
         assertThat(collection.getSyncStatus()).isEqualTo(SyncStatus.COMPLETE);
     }
+
+    // --- concurrent collections: one pass, several collections in flight, shared gates ---
+
+    /** Registers an extra ENABLED, still PENDING collection with no tree and no archived documents. */
+    private OutlineCollection registered(String collectionId) {
+        OutlineCollection extra = new OutlineCollection();
+        extra.setWorkspaceId(WORKSPACE);
+        extra.setConnectionId(CONNECTION);
+        extra.setCollectionId(collectionId);
+        extra.setState(MirrorState.ENABLED);
+        extra.setSyncStatus(SyncStatus.PENDING);
+        when(
+            collectionRepository.findByWorkspaceIdAndConnectionIdAndCollectionId(WORKSPACE, CONNECTION, collectionId)
+        ).thenReturn(Optional.of(extra));
+        when(outlineApiClient.listCollectionDocuments(SERVER_URL, "token", collectionId)).thenReturn(List.of());
+        when(outlineApiClient.listArchivedDocuments(SERVER_URL, "token", collectionId)).thenReturn(List.of());
+        return extra;
+    }
+
+    @Test
+    void concurrentPass_runsCollectionsAtTheSameTime() {
+        OutlineCollection collectionB = registered(COLLECTION_ID_B);
+        when(
+            collectionRepository.findByWorkspaceIdAndStateAndSyncStatus(
+                WORKSPACE,
+                MirrorState.ENABLED,
+                SyncStatus.PENDING
+            )
+        ).thenReturn(List.of(collection, collectionB));
+        // Each enumeration waits for the other to start: a one-after-another pass would never get past it.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger overlapped = new AtomicInteger();
+        when(outlineApiClient.listDocuments(SERVER_URL, "token", COLLECTION_ID)).thenAnswer(inv -> {
+            bothStarted.countDown();
+            if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                overlapped.incrementAndGet();
+            }
+            return List.of();
+        });
+        when(outlineApiClient.listDocuments(SERVER_URL, "token", COLLECTION_ID_B)).thenAnswer(inv -> {
+            bothStarted.countDown();
+            if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                overlapped.incrementAndGet();
+            }
+            return List.of();
+        });
+
+        service(10, 200, 2).syncPendingCollections(WORKSPACE);
+
+        assertThat(overlapped).hasValue(2);
+        assertThat(collection.getSyncStatus()).isEqualTo(SyncStatus.COMPLETE);
+        assertThat(collectionB.getSyncStatus()).isEqualTo(SyncStatus.COMPLETE);
+    }
+
+    /**
+     * The budget is one countdown for the whole pass however many collections draw on it at once: racing
+     * collections never export past it, and whichever collection was denied an export stays PENDING.
+     */
+    @Test
+    void concurrentPass_neverSpendsMoreThanTheSharedExportBudget() {
+        List<OutlineCollection> all = new ArrayList<>(List.of(collection));
+        when(outlineApiClient.listDocuments(SERVER_URL, "token", COLLECTION_ID)).thenReturn(
+            List.of(meta("doc-1", T1), meta("doc-2", T1), meta("doc-3", T1))
+        );
+        for (int i = 2; i <= 4; i++) {
+            String collectionId = "col-" + i;
+            all.add(registered(collectionId));
+            when(outlineApiClient.listDocuments(SERVER_URL, "token", collectionId)).thenReturn(
+                List.of(meta(collectionId + "-a", T1), meta(collectionId + "-b", T1), meta(collectionId + "-c", T1))
+            );
+        }
+        when(
+            collectionRepository.findByWorkspaceIdAndStateAndSyncStatus(
+                WORKSPACE,
+                MirrorState.ENABLED,
+                SyncStatus.PENDING
+            )
+        ).thenReturn(all);
+        when(outlineApiClient.exportDocument(anyString(), anyString(), anyString())).thenReturn("# body");
+
+        service(5, 200, 4).syncPendingCollections(WORKSPACE);
+
+        verify(outlineApiClient, times(5)).exportDocument(anyString(), anyString(), anyString());
+        // 12 documents against 5 exports: at most one collection can have been fully exported.
+        assertThat(all).filteredOn(c -> c.getSyncStatus() == SyncStatus.COMPLETE).hasSizeLessThanOrEqualTo(1);
+    }
+
+    /**
+     * A {@code Retry-After} window another worker already observed for this Outline host holds back every
+     * collection of the pass; the pass ends the way a 429 ends it, leaving the mirror and the collection
+     * untouched for the next tick.
+     */
+    @Test
+    void openThrottleWindow_startsNoCollection() {
+        HttpHeaders throttled = new HttpHeaders();
+        throttled.add("Retry-After", "60");
+        rateLimitTracker.updateFromHeaders(OutlineRateLimitTracker.scopeOf(SERVER_URL), throttled);
+        SyncExecutionHandle handle = mock(SyncExecutionHandle.class);
+
+        service(10, 200, 4).syncWorkspace(WORKSPACE, handle, SyncJobType.RECONCILIATION);
+
+        verify(outlineApiClient, never()).listDocuments(anyString(), anyString(), anyString());
+        verify(handle).reportWarnings();
+        verify(webhookRegistrar, never()).ensureSubscription(anyLong());
+        assertThat(collection.getSyncStatus()).isEqualTo(SyncStatus.PENDING);
+    }
 }
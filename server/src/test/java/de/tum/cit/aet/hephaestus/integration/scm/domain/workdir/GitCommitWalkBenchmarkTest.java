@@ -0,0 +1,128 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.integration.core.fabric.FabricLayout;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Compares a serial commit walk ({@code walkParallelism = 1}) with the parallel chunked walk of
+ * {@link GitRepositoryManager#streamCommits}, over the first {@value #MAX_COMMITS} commits of HEAD. Both must
+ * emit the same commits with the same file changes; timings are logged, not asserted.
+ *
+ * <p>The source defaults to a synthetic packed repository of {@value #SEEDED_COMMITS} commits over
+ * {@value #FILES} files. Point {@code -Dhephaestus.benchmark.repository=/path/to/clone} at a local clone of a
+ * large real repository for representative numbers.
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class GitCommitWalkBenchmarkTest extends BaseUnitTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GitCommitWalkBenchmarkTest.class);
+
+    private static final int FILES = 300;
+    private static final int SEEDED_COMMITS = 1_500;
+    private static final int MAX_COMMITS = 2_000;
+    private static final int CHUNK_SIZE = 256;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int[] PARALLELISMS = { 1, 4, 8 };
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void parallelWalkMatchesSerialWalk() throws Exception {
+        String external = System.getProperty("hephaestus.benchmark.repository");
+        Path sourcePath = external != null ? Path.of(external) : tempDir.resolve("source");
+        if (external == null) {
+            seedPackedRepository(sourcePath);
+        }
+        String headSha;
+        try (Git git = Git.open(sourcePath.toFile())) {
+            headSha = git.getRepository().resolve(Constants.HEAD).name();
+        }
+
+        Path storagePath = tempDir.resolve("storage");
+        List<GitRepositoryManager.CommitInfo> baseline = null;
+        for (int parallelism : PARALLELISMS) {
+            GitRepositoryProperties properties = properties(parallelism);
+            GitRepositoryPool pool = new GitRepositoryPool(properties, new SimpleMeterRegistry());
+            GitRepositoryManager manager = new GitRepositoryManager(
+                properties,
+                new GitRepositoryLockManager(),
+                pool,
+                new FabricLayout(storagePath.toString())
+            );
+            manager.ensureRepository(1L, sourcePath.toUri().toString(), null);
+
+            List<GitRepositoryManager.CommitInfo> walked = new ArrayList<>();
+            long nanos = 0;
+            try {
+                for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                    walked.clear();
+                    long start = System.nanoTime();
+                    manager.streamCommits(1L, null, headSha, CHUNK_SIZE, chunk -> {
+                        walked.addAll(chunk.subList(0, Math.min(chunk.size(), MAX_COMMITS - walked.size())));
+                        return walked.size() < MAX_COMMITS;
+                    });
+                    nanos = System.nanoTime() - start;
+                }
+            } finally {
+                pool.closeAll();
+            }
+
+            if (baseline == null) {
+                baseline = List.copyOf(walked);
+            } else {
+                assertThat(walked).isEqualTo(baseline);
+            }
+            log.info("Walked {} commits with parallelism {}: {} ms", walked.size(), parallelism, nanos / 1_000_000);
+        }
+    }
+
+    private static GitRepositoryProperties properties(int walkParallelism) {
+        return new GitRepositoryProperties(
+            true,
+            20_000,
+            DataSize.ofMegabytes(32),
+            DataSize.ofMegabytes(10),
+            1,
+            DataSize.ofBytes(0),
+            walkParallelism
+        );
+    }
+
+    private static void seedPackedRepository(Path repoPath) throws Exception {
+        PersonIdent ident = new PersonIdent("Bench", "bench@example.com");
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).setInitialBranch("main").call()) {
+            for (int commit = 0; commit < SEEDED_COMMITS; commit++) {
+                // Touch a rotating slice of files so every commit has a multi-file diff to extract.
+                for (int file = commit % 15; file < FILES; file += 15) {
+                    Files.writeString(
+                        repoPath.resolve("file-" + file + ".txt"),
+                        "rev " + commit + "\n".repeat(1 + file % 5)
+                    );
+                }
+                git.add().addFilepattern(".").call();
+                git.commit().setMessage("commit " + commit).setAuthor(ident).setCommitter(ident).call();
+            }
+            // Walks read from packs in production; loose objects would skew the per-commit cost.
+            git.gc().call();
+        }
+    }
+}
@@ -104,6 +104,43 @@ class GitRepositoryLockManagerTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    class TryWithWriteLock {
+
+        @Test
+        void shouldExecuteOperationWhenLockIsFree() {
+            assertThat(lockManager.tryWithWriteLock(1L, () -> "maintained")).contains("maintained");
+            assertThat(lockManager.getLock(1L).isWriteLocked()).isFalse();
+        }
+
+        @Test
+        void shouldSkipOperationWhileAnotherThreadReads() throws InterruptedException {
+            CountDownLatch reading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread reader = new Thread(() ->
+                lockManager.withReadLock(1L, () -> {
+                    reading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                })
+            );
+            reader.start();
+            assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            AtomicBoolean executed = new AtomicBoolean(false);
+            assertThat(lockManager.tryWithWriteLock(1L, () -> executed.getAndSet(true))).isEmpty();
+            assertThat(executed).isFalse();
+
+            release.countDown();
+            reader.join(5_000);
+            assertThat(lockManager.tryWithWriteLock(1L, () -> executed.getAndSet(true))).contains(false);
+        }
+    }
+
     @Nested
     class WithReadLock {
 
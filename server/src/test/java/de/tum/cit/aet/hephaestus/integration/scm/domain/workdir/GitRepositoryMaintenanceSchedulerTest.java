@@ -0,0 +1,59 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class GitRepositoryMaintenanceSchedulerTest extends BaseUnitTest {
+
+    @Mock
+    private GitRepositoryManager gitRepositoryManager;
+
+    private GitRepositoryMaintenanceScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new GitRepositoryMaintenanceScheduler(gitRepositoryManager);
+    }
+
+    @Test
+    @DisplayName("a failing or busy clone does not stop the others from being maintained")
+    void continuesPastFailingAndBusyClones() {
+        when(gitRepositoryManager.isEnabled()).thenReturn(true);
+        when(gitRepositoryManager.listClonedRepositoryIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(gitRepositoryManager.maintainRepository(1L)).thenThrow(
+            new GitRepositoryManager.GitOperationException("corrupt", new RuntimeException())
+        );
+        when(gitRepositoryManager.maintainRepository(2L)).thenReturn(Optional.empty());
+        when(gitRepositoryManager.maintainRepository(3L)).thenReturn(Optional.of(report(3L)));
+
+        assertThat(scheduler.maintainNow()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("nothing is listed or repacked while local checkouts are disabled")
+    void skipsWhenDisabled() {
+        when(gitRepositoryManager.isEnabled()).thenReturn(false);
+
+        assertThat(scheduler.maintainNow()).isZero();
+        verify(gitRepositoryManager, never()).listClonedRepositoryIds();
+    }
+
+    private static GitRepositoryManager.MaintenanceReport report(Long repositoryId) {
+        return new GitRepositoryManager.MaintenanceReport(
+            repositoryId,
+            new GitRepositoryManager.PackStatistics(12, 4_096, 30, 1_024, 0),
+            new GitRepositoryManager.PackStatistics(2, 3_072, 0, 0, 1),
+            40
+        );
+    }
+}
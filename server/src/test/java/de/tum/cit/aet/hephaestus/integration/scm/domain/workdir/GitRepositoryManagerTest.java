@@ -5,10 +5,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import de.tum.cit.aet.hephaestus.integration.core.fabric.FabricLayout;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -68,8 +70,31 @@ class GitRepositoryManagerTest extends BaseUnitTest {
         DataSize maxTotalSize,
         DataSize maxFileSize
     ) {
-        GitRepositoryProperties properties = new GitRepositoryProperties(enabled, maxFiles, maxTotalSize, maxFileSize);
-        return new GitRepositoryManager(properties, lockManager, new FabricLayout(storagePath.toString()));
+        return createManager(enabled, maxFiles, maxTotalSize, maxFileSize, 4);
+    }
+
+    private GitRepositoryManager createManager(
+        boolean enabled,
+        int maxFiles,
+        DataSize maxTotalSize,
+        DataSize maxFileSize,
+        int walkParallelism
+    ) {
+        GitRepositoryProperties properties = new GitRepositoryProperties(
+            enabled,
+            maxFiles,
+            maxTotalSize,
+            maxFileSize,
+            32,
+            DataSize.ofBytes(0),
+            walkParallelism
+        );
+        return new GitRepositoryManager(
+            properties,
+            lockManager,
+            new GitRepositoryPool(properties, new SimpleMeterRegistry()),
+            new FabricLayout(storagePath.toString())
+        );
     }
 
     private String commit(Git git, String message) throws GitAPIException {
@@ -454,6 +479,193 @@ class GitRepositoryManagerTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    class StreamCommits {
+
+        private List<String> commitSeries(Git git, int count) throws Exception {
+            List<String> shas = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Files.writeString(sourceRepoPath.resolve("file-" + (i % 3) + ".txt"), "rev " + i + "\n");
+                git.add().addFilepattern(".").call();
+                shas.add(commit(git, "Commit " + i));
+            }
+            return shas;
+        }
+
+        @Test
+        void shouldEmitChunksInWalkOrderWithTheSameStatsAsASerialWalk() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                String headSha = commitSeries(sourceGit, 10).getLast();
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                List<Integer> chunkSizes = new ArrayList<>();
+                List<GitRepositoryManager.CommitInfo> streamed = new ArrayList<>();
+                int emitted = manager.streamCommits(1L, null, headSha, 4, chunk -> {
+                    chunkSizes.add(chunk.size());
+                    streamed.addAll(chunk);
+                    return true;
+                });
+
+                GitRepositoryManager serial = createManager(
+                    true,
+                    20_000,
+                    DataSize.ofMegabytes(32),
+                    DataSize.ofMegabytes(10),
+                    1
+                );
+                assertThat(emitted).isEqualTo(11);
+                assertThat(chunkSizes).containsExactly(4, 4, 3);
+                assertThat(streamed).isEqualTo(serial.walkCommits(1L, null, headSha));
+                assertThat(streamed.getFirst().message()).isEqualTo("Commit 9");
+                assertThat(streamed.getLast().message()).isEqualTo("Initial commit");
+            }
+        }
+
+        @Test
+        void shouldStopWhenTheConsumerDeclinesMore() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                String headSha = commitSeries(sourceGit, 10).getLast();
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                List<Integer> chunkSizes = new ArrayList<>();
+                int emitted = manager.streamCommits(1L, null, headSha, 3, chunk -> {
+                    chunkSizes.add(chunk.size());
+                    return false;
+                });
+
+                assertThat(emitted).isEqualTo(3);
+                assertThat(chunkSizes).containsExactly(3);
+            }
+        }
+
+        @Test
+        void shouldReleaseTheReadLockWhileTheConsumerRuns() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                String headSha = commitSeries(sourceGit, 5).getLast();
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                List<GitRepositoryManager.CommitInfo> streamed = new ArrayList<>();
+                manager.streamCommits(1L, null, headSha, 2, chunk -> {
+                    // A writer (fetch, maintenance) gets in between two chunks.
+                    assertThat(lockManager.getLock(1L).getReadLockCount()).isZero();
+                    assertThat(lockManager.tryWithWriteLock(1L, () -> true)).contains(true);
+                    streamed.addAll(chunk);
+                    return true;
+                });
+
+                assertThat(streamed).hasSize(6);
+                assertThat(lockManager.getLock(1L).getReadLockCount()).isZero();
+            }
+        }
+
+        @Test
+        void shouldWalkBranchOnlyCommitsAcrossAllRemoteBranches() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                String branch = sourceGit.getRepository().getBranch();
+                sourceGit.checkout().setCreateBranch(true).setName("feature").call();
+                commitSeries(sourceGit, 2);
+                sourceGit.checkout().setName(branch).call();
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                List<GitRepositoryManager.CommitInfo> streamed = new ArrayList<>();
+                manager.streamAllBranches(1L, null, 2, chunk -> {
+                    streamed.addAll(chunk);
+                    return true;
+                });
+
+                assertThat(streamed)
+                    .extracting(GitRepositoryManager.CommitInfo::message)
+                    .containsExactlyInAnyOrder("Commit 1", "Commit 0", "Initial commit");
+            }
+        }
+
+        @Test
+        void shouldCapACollectedWalkAtItsLimit() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                String headSha = commitSeries(sourceGit, 5).getLast();
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                assertThat(manager.walkCommits(1L, null, headSha, 2))
+                    .extracting(GitRepositoryManager.CommitInfo::message)
+                    .containsExactly("Commit 4", "Commit 3");
+            }
+        }
+    }
+
+    @Nested
+    class MaintainRepository {
+
+        private void fetchRounds(Git sourceGit, int rounds) throws Exception {
+            for (int round = 0; round < rounds; round++) {
+                Files.writeString(sourceRepoPath.resolve("round-" + round + ".txt"), "round " + round + "\n");
+                sourceGit.add().addFilepattern(".").call();
+                commit(sourceGit, "Round " + round);
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+            }
+        }
+
+        @Test
+        void shouldRepackFetchedObjectsIntoOnePackWithBitmapsAndCommitGraph() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+                fetchRounds(sourceGit, 3);
+                String headSha = sourceGit.getRepository().resolve("HEAD").name();
+                // Superseded packs are only deleted past gc.prunePackExpire; these were all fetched just now.
+                try (Git clone = Git.open(manager.getRepositoryPath(1L).toFile())) {
+                    clone.getRepository().getConfig().setString("gc", null, "prunePackExpire", "now");
+                    clone.getRepository().getConfig().save();
+                }
+
+                GitRepositoryManager.MaintenanceReport report = manager.maintainRepository(1L).orElseThrow();
+
+                // JGit packs branch heads and the remote-tracking refs into separate packs.
+                assertThat(report.before().packFiles()).isEqualTo(4);
+                assertThat(report.after().packFiles()).isLessThanOrEqualTo(2);
+                assertThat(report.after().looseObjects()).isZero();
+                assertThat(report.after().bitmaps()).isPositive();
+                Path objects = manager.getRepositoryPath(1L).resolve(".git").resolve("objects");
+                assertThat(objects.resolve("info").resolve("commit-graph")).exists();
+                assertThat(manager.walkCommits(1L, null, headSha)).hasSize(4);
+            }
+        }
+
+        @Test
+        void shouldSkipARepositoryThatIsBeingRead() throws Exception {
+            manager = createManager(true);
+            try (Git ignored = createSourceRepo()) {
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                var lock = lockManager.getLock(1L);
+                lock.readLock().lock();
+                try {
+                    assertThat(manager.maintainRepository(1L)).isEmpty();
+                } finally {
+                    lock.readLock().unlock();
+                }
+                assertThat(manager.maintainRepository(1L)).isPresent();
+            }
+        }
+
+        @Test
+        void shouldListOnlyDirectoriesThatAreClones() throws Exception {
+            manager = createManager(true);
+            try (Git ignored = createSourceRepo()) {
+                manager.ensureRepository(7L, sourceRepoPath.toUri().toString(), null);
+                Files.createDirectories(manager.getRepositoryPath(8L));
+                Files.createDirectories(manager.getRepositoryPath(7L).resolveSibling("not-a-repo"));
+
+                assertThat(manager.listClonedRepositoryIds()).containsExactly(7L);
+                assertThat(manager.maintainRepository(8L)).isEmpty();
+            }
+        }
+    }
+
     @Nested
     class ResolveDefaultBranchHead {
 
@@ -503,6 +715,25 @@ class GitRepositoryManagerTest extends BaseUnitTest {
             }
         }
 
+        @Test
+        void shouldNotServeAPooledHandleFromBeforeTheFetch() throws Exception {
+            manager = createManager(true);
+            try (Git sourceGit = createSourceRepo()) {
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+                String firstSha = manager.resolveDefaultBranchHead(1L, "master");
+
+                Files.writeString(sourceRepoPath.resolve("file2.txt"), "content");
+                sourceGit.add().addFilepattern("file2.txt").call();
+                String newSha = commit(sourceGit, "Second commit");
+                manager.ensureRepository(1L, sourceRepoPath.toUri().toString(), null);
+
+                assertThat(firstSha).isNotEqualTo(newSha);
+                assertThat(manager.resolveDefaultBranchHead(1L, "master")).isEqualTo(newSha);
+                assertThat(manager.withRepository(1L, repo -> repo.resolve("refs/remotes/origin/master").getName()))
+                    .isEqualTo(newSha);
+            }
+        }
+
         @Test
         void shouldReturnNullForNonExistentBranch() throws Exception {
             manager = createManager(true);
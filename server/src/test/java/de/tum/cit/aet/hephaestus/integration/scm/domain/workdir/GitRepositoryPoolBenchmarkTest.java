@@ -0,0 +1,115 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.agent.context.providers.GitDiffOperations;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Compares opening the clone per read ({@code Git.open}, as {@link GitDiffOperations} does for a path) with
+ * borrowing a pooled handle from {@link GitRepositoryPool}, on a packed repository of 400 commits over 200
+ * files. Each read is the diff-stat of one commit against its parent, the shape of a review's diff
+ * precompute. Both paths must produce the same output; timings are logged, not asserted.
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class GitRepositoryPoolBenchmarkTest extends BaseUnitTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GitRepositoryPoolBenchmarkTest.class);
+
+    private static final int FILES = 200;
+    private static final int COMMITS = 400;
+    private static final int WARMUP_ROUNDS = 2;
+
+    @TempDir
+    private Path tempDir;
+
+    private final GitDiffOperations diffOperations = new GitDiffOperations();
+
+    @Test
+    void pooledHandleMatchesPerCallOpen() throws Exception {
+        Path repoPath = tempDir.resolve("repo");
+        List<String> shas = seedPackedRepository(repoPath);
+
+        GitRepositoryProperties properties = new GitRepositoryProperties(
+            true,
+            20_000,
+            DataSize.ofMegabytes(32),
+            DataSize.ofMegabytes(10),
+            1,
+            DataSize.ofBytes(0),
+            1
+        );
+        GitRepositoryPool pool = new GitRepositoryPool(properties, new SimpleMeterRegistry());
+        try {
+            List<String> perCall = new ArrayList<>();
+            List<String> pooled = new ArrayList<>();
+            long perCallNanos = 0;
+            long pooledNanos = 0;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                perCall.clear();
+                pooled.clear();
+
+                long start = System.nanoTime();
+                for (int i = 1; i < shas.size(); i++) {
+                    perCall.add(diffOperations.diffStat(repoPath, shas.get(i - 1), shas.get(i)));
+                }
+                perCallNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 1; i < shas.size(); i++) {
+                    try (Repository repo = pool.acquire(1L, repoPath)) {
+                        pooled.add(diffOperations.diffStat(repo, shas.get(i - 1), shas.get(i)));
+                    }
+                }
+                pooledNanos = System.nanoTime() - start;
+            }
+
+            assertThat(pooled).isEqualTo(perCall);
+            log.info(
+                "Diff-stat of {} commits: per-call open {} ms, pooled handle {} ms ({}x)",
+                shas.size() - 1,
+                perCallNanos / 1_000_000,
+                pooledNanos / 1_000_000,
+                String.format("%.1f", (double) perCallNanos / Math.max(1, pooledNanos))
+            );
+        } finally {
+            pool.closeAll();
+        }
+    }
+
+    private static List<String> seedPackedRepository(Path repoPath) throws Exception {
+        List<String> shas = new ArrayList<>();
+        PersonIdent ident = new PersonIdent("Bench", "bench@example.com");
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).setInitialBranch("main").call()) {
+            for (int commit = 0; commit < COMMITS; commit++) {
+                // Touch a rotating slice of files so every diff has a few entries to format.
+                for (int file = commit % 10; file < FILES; file += 10) {
+                    Files.writeString(repoPath.resolve("file-" + file + ".txt"), "rev " + commit + "\n");
+                }
+                git.add().addFilepattern(".").call();
+                shas.add(
+                    git.commit().setMessage("commit " + commit).setAuthor(ident).setCommitter(ident).call().name()
+                );
+            }
+            // Loose objects would hide the pack index cost the pool exists to amortize.
+            git.gc().call();
+        }
+        return shas;
+    }
+}
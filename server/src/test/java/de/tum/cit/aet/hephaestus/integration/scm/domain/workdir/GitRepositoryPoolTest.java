@@ -0,0 +1,156 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class GitRepositoryPoolTest extends BaseUnitTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GitRepositoryPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.closeAll();
+        }
+    }
+
+    private GitRepositoryPool createPool(int openRepositories) {
+        GitRepositoryProperties properties = new GitRepositoryProperties(
+            true,
+            20_000,
+            DataSize.ofMegabytes(32),
+            DataSize.ofMegabytes(10),
+            openRepositories,
+            DataSize.ofBytes(0),
+            1
+        );
+        pool = new GitRepositoryPool(properties, meterRegistry);
+        return pool;
+    }
+
+    private Path createRepo(String name) throws Exception {
+        Path path = tempDir.resolve(name);
+        try (Git git = Git.init().setDirectory(path.toFile()).setInitialBranch("main").call()) {
+            commit(git, path, "initial");
+        }
+        return path;
+    }
+
+    private static String commit(Git git, Path path, String message) throws Exception {
+        Files.writeString(path.resolve("file.txt"), message);
+        git.add().addFilepattern("file.txt").call();
+        PersonIdent ident = new PersonIdent("Test", "test@example.com");
+        return git.commit().setMessage(message).setAuthor(ident).setCommitter(ident).call().getName();
+    }
+
+    private double acquisitions(String outcome) {
+        return meterRegistry.get("git.repository.pool.acquire").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void shouldReuseTheOpenHandleAcrossAcquisitions() throws Exception {
+        Path repoPath = createRepo("repo");
+        GitRepositoryPool pool = createPool(4);
+
+        Repository first;
+        try (Repository repo = pool.acquire(1L, repoPath)) {
+            first = repo;
+            assertThat(repo.resolve("refs/heads/main")).isNotNull();
+        }
+        try (Repository repo = pool.acquire(1L, repoPath)) {
+            assertThat(repo).isSameAs(first);
+            assertThat(repo.resolve("refs/heads/main")).isNotNull();
+        }
+
+        assertThat(acquisitions("miss")).isEqualTo(1);
+        assertThat(acquisitions("hit")).isEqualTo(1);
+        assertThat(
+            meterRegistry.get("git.repository.pool.reuses").tag("repository_id", "1").functionCounter().count()
+        ).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReopenAfterInvalidationAndSeeNewCommits() throws Exception {
+        Path repoPath = createRepo("repo");
+        GitRepositoryPool pool = createPool(4);
+
+        Repository before;
+        try (Repository repo = pool.acquire(1L, repoPath)) {
+            before = repo;
+        }
+        String newHead;
+        try (Git git = Git.open(repoPath.toFile())) {
+            newHead = commit(git, repoPath, "second");
+        }
+        pool.invalidate(1L);
+
+        try (Repository repo = pool.acquire(1L, repoPath)) {
+            assertThat(repo).isNotSameAs(before);
+            assertThat(repo.resolve("refs/heads/main")).isEqualTo(ObjectId.fromString(newHead));
+        }
+        assertThat(meterRegistry.get("git.repository.pool.invalidations").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictTheLeastRecentlyUsedHandleButKeepItUsableWhileBorrowed() throws Exception {
+        Path firstPath = createRepo("first");
+        Path secondPath = createRepo("second");
+        GitRepositoryPool pool = createPool(1);
+
+        try (Repository borrowed = pool.acquire(1L, firstPath)) {
+            try (Repository other = pool.acquire(2L, secondPath)) {
+                assertThat(other.resolve("refs/heads/main")).isNotNull();
+            }
+            // Evicted while borrowed: the pool dropped its reference, the borrower's is still open.
+            assertThat(borrowed.resolve("refs/heads/main")).isNotNull();
+        }
+
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("git.repository.pool.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("git.repository.pool.reuses").tag("repository_id", "1").meter()).isNull();
+    }
+
+    @Test
+    void shouldOpenAFreshHandlePerAcquisitionWhenDisabled() throws Exception {
+        Path repoPath = createRepo("repo");
+        GitRepositoryPool pool = createPool(0);
+
+        Repository first;
+        try (Repository repo = pool.acquire(1L, repoPath)) {
+            first = repo;
+        }
+        try (Repository repo = pool.acquire(1L, repoPath)) {
+            assertThat(repo).isNotSameAs(first);
+        }
+        assertThat(pool.size()).isZero();
+        assertThat(acquisitions("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotPoolAMissingClone() {
+        GitRepositoryPool pool = createPool(4);
+
+        assertThatThrownBy(() -> pool.acquire(1L, tempDir.resolve("missing"))).isInstanceOf(
+            RepositoryNotFoundException.class
+        );
+        assertThat(pool.size()).isZero();
+    }
+}
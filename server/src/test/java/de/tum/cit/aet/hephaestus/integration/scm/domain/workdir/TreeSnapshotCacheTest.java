@@ -0,0 +1,232 @@
+package de.tum.cit.aet.hephaestus.integration.scm.domain.workdir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.integration.core.fabric.ContentAddressedStore;
+import de.tum.cit.aet.hephaestus.integration.core.fabric.FabricLayout;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class TreeSnapshotCacheTest extends BaseUnitTest {
+
+    /** Room for the first tree (18 bytes) or the second (47 bytes), not both. */
+    private static final DataSize CACHE_SIZE = DataSize.ofBytes(64);
+
+    @TempDir
+    private Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GitRepositoryManager manager;
+    private FabricLayout layout;
+    private ContentAddressedStore cas;
+    private String first;
+    private String second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path source = tempDir.resolve("source-repo");
+        try (Git git = Git.init().setDirectory(source.toFile()).setInitialBranch("main").call()) {
+            Files.writeString(source.resolve("README.md"), "# Test Repository\n");
+            git.add().addFilepattern("README.md").call();
+            first = commit(git, "initial");
+            Files.writeString(source.resolve("notes.txt"), "thirty bytes of note content\n");
+            git.add().addFilepattern("notes.txt").call();
+            second = commit(git, "notes");
+        }
+        layout = new FabricLayout(tempDir.resolve("storage").toString());
+        cas = new ContentAddressedStore(layout);
+        manager = new GitRepositoryManager(
+            properties(CACHE_SIZE),
+            new GitRepositoryLockManager(),
+            new GitRepositoryPool(properties(CACHE_SIZE), meterRegistry),
+            layout
+        );
+        manager.ensureRepository(1L, source.toUri().toString(), null);
+    }
+
+    private static GitRepositoryProperties properties(DataSize cacheSize) {
+        return new GitRepositoryProperties(true, 100, DataSize.ofBytes(64), DataSize.ofBytes(64), 4, cacheSize, 1);
+    }
+
+    private static String commit(Git git, String message) throws Exception {
+        PersonIdent ident = new PersonIdent("Test", "test@example.com");
+        return git.commit().setMessage(message).setAuthor(ident).setCommitter(ident).call().getName();
+    }
+
+    private TreeSnapshotCache cache(DataSize size) {
+        return new TreeSnapshotCache(manager, properties(size), cas, layout, meterRegistry);
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry.get("git.tree.cache.lookups").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("a second job on the same commit reuses the first job's directory")
+    void repeatedCommitHits() throws Exception {
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+
+        try (var a = cache.acquire(1L, first); var b = cache.acquire(1L, first)) {
+            assertThat(b.stagingDir()).isEqualTo(a.stagingDir());
+            assertThat(Files.readString(b.files().get("README.md"))).isEqualTo("# Test Repository\n");
+        }
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("cached files are hard links to their content-addressed blobs")
+    void filesLinkTheStore() throws Exception {
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+
+        try (var snapshot = cache.acquire(1L, first)) {
+            Path file = snapshot.files().get("README.md");
+            assertThat(Files.isSameFile(file, cas.pathFor(cas.put(file)))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("commits with the same tree share an entry and each lease keeps its own commit")
+    void sameTreeDifferentCommit() throws Exception {
+        Path source = tempDir.resolve("source-repo");
+        String empty;
+        try (Git git = Git.open(source.toFile())) {
+            empty = commit(git, "no changes");
+        }
+        manager.fetchRemoteCommit(1L, "refs/heads/main", empty, null);
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+
+        try (var a = cache.acquire(1L, second); var b = cache.acquire(1L, empty)) {
+            assertThat(b.stagingDir()).isEqualTo(a.stagingDir());
+            assertThat(a.commitSha()).isEqualTo(second);
+            assertThat(b.commitSha()).isEqualTo(empty);
+        }
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("an idle tree is evicted, least recently used first, once the cache is over its size")
+    void idleEntryIsEvicted() {
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+        Path firstDir;
+        try (var a = cache.acquire(1L, first)) {
+            firstDir = a.stagingDir();
+        }
+
+        try (var b = cache.acquire(1L, second)) {
+            assertThat(cache.cachedTrees()).containsExactly(b.treeSha());
+        }
+        assertThat(firstDir).doesNotExist();
+        assertThat(meterRegistry.get("git.tree.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a tree still held by a job outlives the size bound until it is released")
+    void heldEntrySurvivesUntilReleased() {
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+        var a = cache.acquire(1L, first);
+        var b = cache.acquire(1L, second);
+
+        assertThat(cache.cachedTrees()).containsExactlyInAnyOrder(a.treeSha(), b.treeSha());
+        assertThat(cache.cachedBytes()).isGreaterThan(CACHE_SIZE.toBytes());
+
+        a.close();
+
+        assertThat(a.stagingDir()).doesNotExist();
+        assertThat(cache.cachedTrees()).containsExactly(b.treeSha());
+        b.close();
+    }
+
+    @Test
+    @DisplayName("closing a lease twice releases it once")
+    void doubleCloseReleasesOnce() {
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+        var a = cache.acquire(1L, first);
+        var stillHeld = cache.acquire(1L, first);
+        a.close();
+        a.close();
+
+        try (var b = cache.acquire(1L, second)) {
+            assertThat(cache.cachedTrees()).contains(stillHeld.treeSha(), b.treeSha());
+        }
+        stillHeld.close();
+    }
+
+    @Test
+    @DisplayName("concurrent misses on one tree walk it once")
+    void concurrentMissesWalkOnce() throws Exception {
+        TreeSnapshotCache cache = cache(CACHE_SIZE);
+        List<Future<GitRepositoryManager.GitTreeSnapshot>> leases = new ArrayList<>();
+        try (ExecutorService jobs = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                leases.add(jobs.submit(() -> cache.acquire(1L, second)));
+            }
+        }
+
+        for (var lease : leases) {
+            lease.get().close();
+        }
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("a process starting on the same fabric root leaves a running process's snapshots alone")
+    void secondInstanceKeepsLiveSnapshots() throws Exception {
+        TreeSnapshotCache running = cache(CACHE_SIZE);
+
+        try (var held = running.acquire(1L, first)) {
+            TreeSnapshotCache started = cache(CACHE_SIZE);
+
+            assertThat(Files.readString(held.files().get("README.md"))).isEqualTo("# Test Repository\n");
+            try (var own = started.acquire(1L, first)) {
+                assertThat(own.stagingDir()).isNotEqualTo(held.stagingDir());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("a starting process deletes what a stopped process left behind, and nothing that may be in use")
+    void startupSweepsOnlyAbandonedDirectories() throws Exception {
+        Path trees = layout.treesRoot();
+        Path stopped = Files.createDirectories(trees.resolve("stopped-instance").resolve("tree-1"));
+        Files.writeString(stopped.resolve("README.md"), "left behind\n");
+        Files.createFile(trees.resolve("stopped-instance.lock"));
+        Path unowned = Files.createDirectories(trees.resolve("tree-from-an-older-version"));
+
+        cache(CACHE_SIZE);
+
+        assertThat(trees.resolve("stopped-instance")).doesNotExist();
+        assertThat(trees.resolve("stopped-instance.lock")).doesNotExist();
+        assertThat(unowned).exists();
+    }
+
+    @Test
+    @DisplayName("with a size of 0 every job gets its own snapshot, deleted on close")
+    void disabledCacheStagesPerJob() {
+        TreeSnapshotCache cache = cache(DataSize.ofBytes(0));
+
+        var a = cache.acquire(1L, first);
+        var b = cache.acquire(1L, first);
+        assertThat(b.stagingDir()).isNotEqualTo(a.stagingDir());
+        a.close();
+        b.close();
+
+        assertThat(a.stagingDir()).doesNotExist();
+        assertThat(lookups("miss")).isZero();
+    }
+}
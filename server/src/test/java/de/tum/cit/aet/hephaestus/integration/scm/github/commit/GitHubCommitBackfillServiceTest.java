@@ -2,9 +2,11 @@ package de.tum.cit.aet.hephaestus.integration.scm.github.commit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -136,6 +138,25 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
         return commit;
     }
 
+    /** Stubs the streaming walk to hand {@code commits} to the service's consumer as a single chunk. */
+    private void stubWalk(String fromSha, String toSha, List<GitRepositoryManager.CommitInfo> commits) {
+        when(
+            gitRepositoryManager.streamCommits(
+                eq(1L),
+                fromSha == null ? isNull() : eq(fromSha),
+                eq(toSha),
+                anyInt(),
+                any()
+            )
+        ).thenAnswer(invocation -> {
+            GitRepositoryManager.CommitChunkConsumer consumer = invocation.getArgument(4);
+            if (!commits.isEmpty()) {
+                consumer.accept(commits);
+            }
+            return commits.size();
+        });
+    }
+
     @Nested
     class SkipConditions {
 
@@ -203,7 +224,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             int result = service.backfillCommits(target, repo, 100L);
 
             assertThat(result).isEqualTo(0);
-            verify(gitRepositoryManager, never()).walkCommits(anyLong(), any(), anyString());
+            verify(gitRepositoryManager, never()).streamCommits(anyLong(), any(), anyString(), anyInt(), any());
         }
     }
 
@@ -217,7 +238,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
 
             GitRepositoryManager.CommitInfo commitInfo = createCommitInfo("commit1", "First commit");
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of(commitInfo));
+            stubWalk(null, "head123", List.of(commitInfo));
 
             when(commitRepository.existsByShaAndRepositoryId("commit1", 1L)).thenReturn(false);
 
@@ -231,7 +252,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             int result = service.backfillCommits(target, repo, 100L);
 
             assertThat(result).isEqualTo(1);
-            verify(gitRepositoryManager).walkCommits(1L, null, "head123");
+            verify(gitRepositoryManager).streamCommits(eq(1L), isNull(), eq("head123"), anyInt(), any());
             verify(commitRepository).upsertCommit(
                 eq("commit1"),
                 eq("First commit"),
@@ -258,7 +279,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
 
             GitRepositoryManager.CommitInfo commitInfo = createCommitInfo("commit1", "First commit");
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of(commitInfo));
+            stubWalk(null, "head123", List.of(commitInfo));
             when(commitRepository.existsByShaAndRepositoryId("commit1", 1L)).thenReturn(false);
 
             Commit mockCommit = createMockCommit("commit1", 1L);
@@ -291,7 +312,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.of(latestCommit));
 
             GitRepositoryManager.CommitInfo newCommit = createCommitInfo("head456", "New commit");
-            when(gitRepositoryManager.walkCommits(1L, "prev123", "head456")).thenReturn(List.of(newCommit));
+            stubWalk("prev123", "head456", List.of(newCommit));
 
             when(commitRepository.existsByShaAndRepositoryId("head456", 1L)).thenReturn(false);
             Commit mockCommit = createMockCommit("head456", 1L);
@@ -303,7 +324,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             int result = service.backfillCommits(target, repo, 100L);
 
             assertThat(result).isEqualTo(1);
-            verify(gitRepositoryManager).walkCommits(1L, "prev123", "head456");
+            verify(gitRepositoryManager).streamCommits(eq(1L), eq("prev123"), eq("head456"), anyInt(), any());
         }
     }
 
@@ -318,7 +339,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
 
             GitRepositoryManager.CommitInfo existingCommit = createCommitInfo("existing", "Old commit");
             GitRepositoryManager.CommitInfo newCommit = createCommitInfo("newone", "New commit");
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of(existingCommit, newCommit));
+            stubWalk(null, "head123", List.of(existingCommit, newCommit));
 
             when(commitRepository.existsByShaAndRepositoryId("existing", 1L)).thenReturn(true);
             when(commitRepository.existsByShaAndRepositoryId("newone", 1L)).thenReturn(false);
@@ -356,7 +377,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(gitRepositoryManager.isEnabled()).thenReturn(true);
             when(gitRepositoryManager.resolveDefaultBranchHead(1L, "main")).thenReturn("head123");
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of());
+            stubWalk(null, "head123", List.of());
 
             Repository repo = createMockRepository(1L, "owner/repo", "main");
             SyncTarget target = createSyncTarget(AuthMode.INSTALLATION_APP);
@@ -394,7 +415,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(tokenService.getInstallationToken(42L)).thenReturn("ghs_install_token");
             when(gitRepositoryManager.resolveDefaultBranchHead(1L, "main")).thenReturn("head123");
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of());
+            stubWalk(null, "head123", List.of());
 
             Repository repo = createMockRepository(1L, "owner/repo", "main");
             SyncTarget target = createSyncTarget(AuthMode.INSTALLATION_APP);
@@ -409,7 +430,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(gitRepositoryManager.isEnabled()).thenReturn(true);
             when(gitRepositoryManager.resolveDefaultBranchHead(1L, "main")).thenReturn("head123");
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of());
+            stubWalk(null, "head123", List.of());
 
             Repository repo = createMockRepository(1L, "owner/repo", "main");
             SyncTarget target = createSyncTarget(AuthMode.PERSONAL_ACCESS_TOKEN);
@@ -460,7 +481,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(tokenService.getInstallationToken(42L)).thenThrow(new RuntimeException("Token error"));
             when(gitRepositoryManager.resolveDefaultBranchHead(1L, "main")).thenReturn("head123");
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of());
+            stubWalk(null, "head123", List.of());
 
             Repository repo = createMockRepository(1L, "owner/repo", "main");
             SyncTarget target = createSyncTarget(AuthMode.INSTALLATION_APP);
@@ -483,7 +504,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
 
             GitRepositoryManager.CommitInfo commitInfo = createCommitInfo("commit1", "Test commit");
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of(commitInfo));
+            stubWalk(null, "head123", List.of(commitInfo));
             when(commitRepository.existsByShaAndRepositoryId("commit1", 1L)).thenReturn(false);
 
             when(authorResolver.resolveByEmail(eq("author@test.com"), any())).thenReturn(10L);
@@ -523,7 +544,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
 
             GitRepositoryManager.CommitInfo commitInfo = createCommitInfo("commit1", "Test commit");
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of(commitInfo));
+            stubWalk(null, "head123", List.of(commitInfo));
             when(commitRepository.existsByShaAndRepositoryId("commit1", 1L)).thenReturn(false);
 
             when(authorResolver.resolveByEmail(eq("author@test.com"), any())).thenReturn(null);
@@ -567,7 +588,7 @@ class GitHubCommitBackfillServiceTest extends BaseUnitTest {
             when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
 
             GitRepositoryManager.CommitInfo commitInfo = createCommitInfo("commit1", "Test commit");
-            when(gitRepositoryManager.walkCommits(1L, null, "head123")).thenReturn(List.of(commitInfo));
+            stubWalk(null, "head123", List.of(commitInfo));
             when(commitRepository.existsByShaAndRepositoryId("commit1", 1L)).thenReturn(false);
 
             Repository repo = createMockRepository(1L, "owner/repo", "main");
@@ -134,7 +134,12 @@ class GitHubProjectSyncServiceTest extends BaseUnitTest {
             Duration.ZERO, // paginationThrottle - zero to avoid Thread.sleep
             true, // incrementalSyncEnabled
             Duration.ofMinutes(5), // incrementalSyncBuffer
-            10 // backfillPrPageSize
+            10, // backfillPrPageSize
+            8, // repositorySyncParallelism
+            false, // continuousSyncEnabled
+            Duration.ofMinutes(5), // continuousSyncInterval
+            5, // continuousSyncBatchSize
+            1000 // continuousSyncRateLimitThreshold
         );
 
         syncSchedulerProperties = new SyncSchedulerProperties(
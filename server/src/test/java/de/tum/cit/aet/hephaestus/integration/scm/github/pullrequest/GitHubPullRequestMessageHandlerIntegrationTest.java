@@ -354,6 +354,17 @@ class GitHubPullRequestMessageHandlerIntegrationTest extends BaseIntegrationTest
             // Verify PullRequestSynchronized event was published
             assertThat(eventListener.ofType(ScmDomainEvent.PullRequestSynchronized.class)).hasSize(1);
         }
+
+        @Test
+        void shouldCoalesceSynchronizeOnlyWithAnotherSynchronize() throws Exception {
+            String synchronizeKey = handler.coalescingKeyFor(loadPayload("pull_request.synchronize"));
+
+            // A burst of pushes collapses to its newest head, but never into a plain snapshot upsert.
+            assertThat(synchronizeKey)
+                .isNotNull()
+                .isEqualTo(handler.coalescingKeyFor(loadPayload("pull_request.synchronize")))
+                .isNotEqualTo(handler.coalescingKeyFor(loadPayload("pull_request.assigned")));
+        }
     }
 
     // Label Events
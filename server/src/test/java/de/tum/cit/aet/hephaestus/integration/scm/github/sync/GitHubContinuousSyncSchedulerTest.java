@@ -0,0 +1,160 @@
+package de.tum.cit.aet.hephaestus.integration.scm.github.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncTarget;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetTestBuilder;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubRateLimitBackoff;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubSyncProperties;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.RateLimitTracker;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class GitHubContinuousSyncSchedulerTest extends BaseUnitTest {
+
+    private static final long SCOPE_ID = 1L;
+    private static final Instant NOW = Instant.parse("2026-07-01T12:00:00Z");
+
+    @Mock
+    private SyncTargetProvider syncTargetProvider;
+
+    @Mock
+    private GithubDataSyncService dataSyncService;
+
+    @Mock
+    private RateLimitTracker rateLimitTracker;
+
+    private final GitHubRateLimitBackoff rateLimitBackoff = new GitHubRateLimitBackoff();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GitHubContinuousSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = scheduler(true);
+        lenient().when(rateLimitTracker.getRemaining(SCOPE_ID)).thenReturn(5000);
+    }
+
+    private GitHubContinuousSyncScheduler scheduler(boolean incrementalSyncEnabled) {
+        GitHubSyncProperties properties = new GitHubSyncProperties(
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(60),
+            Duration.ofSeconds(120),
+            Duration.ZERO,
+            incrementalSyncEnabled,
+            Duration.ofMinutes(5),
+            10,
+            8,
+            true, // continuousSyncEnabled
+            Duration.ofMinutes(5), // continuousSyncInterval
+            2, // continuousSyncBatchSize
+            1000 // continuousSyncRateLimitThreshold
+        );
+        return new GitHubContinuousSyncScheduler(
+            syncTargetProvider,
+            dataSyncService,
+            rateLimitTracker,
+            rateLimitBackoff,
+            properties,
+            meterRegistry
+        );
+    }
+
+    private static SyncTarget target(long id, Instant issuesSyncedAt, Instant pullRequestsSyncedAt) {
+        return SyncTargetTestBuilder.syncTarget()
+            .id(id)
+            .scopeId(SCOPE_ID)
+            .repositoryNameWithOwner("acme/repo-" + id)
+            .lastIssuesSyncedAt(issuesSyncedAt)
+            .lastPullRequestsSyncedAt(pullRequestsSyncedAt)
+            .build();
+    }
+
+    @Test
+    @DisplayName("a slice takes the most stale watermarked repositories, capped at the batch size")
+    void sliceIsMostStaleFirst() {
+        SyncTarget fresh = target(1L, NOW.minusSeconds(60), NOW.minusSeconds(60));
+        SyncTarget neverSynced = target(2L, null, null);
+        SyncTarget hourOld = target(3L, NOW.minusSeconds(3600), NOW.minusSeconds(600));
+        SyncTarget dayOld = target(4L, NOW.minusSeconds(600), NOW.minusSeconds(86_400));
+        SyncTarget tenMinutesOld = target(5L, NOW.minusSeconds(600), NOW.minusSeconds(600));
+
+        List<SyncTarget> slice = scheduler.staleTargets(
+            List.of(fresh, neverSynced, hourOld, dayOld, tenMinutesOld),
+            NOW
+        );
+
+        // The fresh one was just advanced elsewhere; the unwatermarked one belongs to the full sync.
+        assertThat(slice).containsExactly(dayOld, hourOld);
+    }
+
+    @Test
+    @DisplayName("each visited repository is counted by whether its watermarks advanced")
+    void outcomesAreCounted() {
+        SyncTarget first = target(1L, Instant.now().minusSeconds(3600), Instant.now().minusSeconds(3600));
+        SyncTarget second = target(2L, Instant.now().minusSeconds(1800), Instant.now().minusSeconds(1800));
+        when(syncTargetProvider.getSyncTargetsForScope(SCOPE_ID)).thenReturn(List.of(first, second));
+        when(dataSyncService.syncChangedIssuesAndPullRequests(first)).thenReturn(true);
+        when(dataSyncService.syncChangedIssuesAndPullRequests(second)).thenReturn(false);
+
+        scheduler.syncScope(SCOPE_ID);
+
+        assertThat(repositories("advanced")).isEqualTo(1);
+        assertThat(repositories("incomplete")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("without incremental sync a tick reads nothing, since every slice would be a full re-read")
+    void disabledIncrementalSyncSkipsTheTick() {
+        scheduler(false).runCycle();
+
+        verify(syncTargetProvider, never()).getSyncSessions(any());
+        verify(dataSyncService, never()).syncChangedIssuesAndPullRequests(any());
+    }
+
+    @Test
+    @DisplayName("a scope below the budget threshold is left for the next tick")
+    void lowBudgetDefersScope() {
+        SyncTarget stale = target(1L, Instant.now().minusSeconds(3600), Instant.now().minusSeconds(3600));
+        when(syncTargetProvider.getSyncTargetsForScope(SCOPE_ID)).thenReturn(List.of(stale));
+        when(rateLimitTracker.getRemaining(SCOPE_ID)).thenReturn(999);
+
+        scheduler.syncScope(SCOPE_ID);
+
+        verify(dataSyncService, never()).syncChangedIssuesAndPullRequests(any());
+        assertThat(meterRegistry.get("github.sync.continuous.scopes.deferred").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a rate-limit back-off recorded by another path stops the scope mid-slice")
+    void backoffStopsScope() {
+        SyncTarget first = target(1L, Instant.now().minusSeconds(3600), Instant.now().minusSeconds(3600));
+        SyncTarget second = target(2L, Instant.now().minusSeconds(1800), Instant.now().minusSeconds(1800));
+        when(syncTargetProvider.getSyncTargetsForScope(SCOPE_ID)).thenReturn(List.of(first, second));
+        when(dataSyncService.syncChangedIssuesAndPullRequests(first)).thenAnswer(invocation -> {
+            rateLimitBackoff.recordRateLimited(SCOPE_ID, Duration.ofMinutes(1));
+            return false;
+        });
+
+        scheduler.syncScope(SCOPE_ID);
+
+        verify(dataSyncService, times(1)).syncChangedIssuesAndPullRequests(any());
+    }
+
+    private double repositories(String outcome) {
+        return meterRegistry.get("github.sync.continuous.repositories").tag("outcome", outcome).counter().count();
+    }
+}
@@ -91,7 +91,12 @@ class GitHubDeletionSweepServiceTest extends BaseUnitTest {
             Duration.ZERO,
             true,
             Duration.ofMinutes(5),
-            10
+            10,
+            8,
+            false,
+            Duration.ofMinutes(5),
+            5,
+            1000
         );
 
         service = new GitHubDeletionSweepService(
@@ -0,0 +1,196 @@
+package de.tum.cit.aet.hephaestus.integration.scm.github.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncTarget;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetTestBuilder;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubRateLimitBackoff;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubSyncProperties;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.RateLimitTracker;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class GitHubRepositorySyncSchedulerTest extends BaseUnitTest {
+
+    private static final long SCOPE_ID = 1L;
+    private static final int MAX_PARALLELISM = 4;
+
+    @Mock
+    private RateLimitTracker rateLimitTracker;
+
+    private final GitHubRateLimitBackoff rateLimitBackoff = new GitHubRateLimitBackoff();
+    private GitHubRepositorySyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        GitHubSyncProperties properties = new GitHubSyncProperties(
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(60),
+            Duration.ofSeconds(120),
+            Duration.ZERO,
+            true,
+            Duration.ofMinutes(5),
+            10,
+            MAX_PARALLELISM,
+            false,
+            Duration.ofMinutes(5),
+            5,
+            1000
+        );
+        scheduler = new GitHubRepositorySyncScheduler(rateLimitTracker, rateLimitBackoff, properties);
+        lenient().when(rateLimitTracker.isCritical(anyLong())).thenReturn(false);
+        lenient().when(rateLimitTracker.isLow(anyLong())).thenReturn(false);
+        lenient().when(rateLimitTracker.getRemaining(anyLong())).thenReturn(5000);
+    }
+
+    @Test
+    void runsRepositoriesConcurrentlyUpToConfiguredCeiling() {
+        List<SyncTarget> targets = targets(MAX_PARALLELISM * 2);
+        CountDownLatch allStarted = new CountDownLatch(MAX_PARALLELISM);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        int processed = scheduler.syncAll(
+            SCOPE_ID,
+            targets,
+            target -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                allStarted.countDown();
+                try {
+                    // Holds the first wave until all of it is running, proving it overlapped.
+                    return allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            },
+            callbacks(new ArrayList<>())
+        );
+
+        assertThat(processed).isEqualTo(targets.size());
+        assertThat(peak.get()).isEqualTo(MAX_PARALLELISM);
+    }
+
+    @Test
+    void lowBudgetSyncsOneRepositoryAtATime() {
+        when(rateLimitTracker.isLow(SCOPE_ID)).thenReturn(true);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        int processed = scheduler.syncAll(
+            SCOPE_ID,
+            targets(5),
+            target -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                inFlight.decrementAndGet();
+                return true;
+            },
+            callbacks(new ArrayList<>())
+        );
+
+        assertThat(processed).isEqualTo(5);
+        assertThat(peak.get()).isEqualTo(1);
+    }
+
+    @Test
+    void budgetParallelismScalesWithRemainingPoints() {
+        when(rateLimitTracker.getRemaining(SCOPE_ID)).thenReturn(
+            2 * GitHubRepositorySyncScheduler.ESTIMATED_POINTS_PER_REPOSITORY + 1
+        );
+        assertThat(scheduler.budgetParallelism(SCOPE_ID)).isEqualTo(2);
+
+        when(rateLimitTracker.getRemaining(SCOPE_ID)).thenReturn(100_000);
+        assertThat(scheduler.budgetParallelism(SCOPE_ID)).isEqualTo(MAX_PARALLELISM);
+    }
+
+    @Test
+    void rateLimitedResponseHoldsBackNewLaunches() {
+        // One repository at a time, so the second launch is decided after the first one's response.
+        when(rateLimitTracker.getRemaining(SCOPE_ID)).thenReturn(
+            GitHubRepositorySyncScheduler.ESTIMATED_POINTS_PER_REPOSITORY
+        );
+        List<Long> started = Collections.synchronizedList(new ArrayList<>());
+
+        long begin = System.nanoTime();
+        int processed = scheduler.syncAll(
+            SCOPE_ID,
+            targets(2),
+            target -> {
+                started.add(System.nanoTime());
+                if (started.size() == 1) {
+                    // As the GraphQL coordinator does on a worker thread bound to this scope.
+                    rateLimitBackoff.recordRateLimited(Duration.ofMillis(300));
+                }
+                return true;
+            },
+            callbacks(new ArrayList<>())
+        );
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(rateLimitBackoff.rateLimitedCount(SCOPE_ID)).isEqualTo(1);
+        assertThat(Duration.ofNanos(started.get(1) - begin)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void abortStopsLaunchingAndReportsOnlyFinishedRepositories() {
+        List<SyncTarget> completed = new ArrayList<>();
+        int processed = scheduler.syncAll(SCOPE_ID, targets(10), target -> true, new CountingCallbacks(completed) {
+            @Override
+            public boolean shouldAbort(int processed) {
+                return processed >= 2;
+            }
+        });
+
+        assertThat(processed).isEqualTo(completed.size());
+        assertThat(processed).isBetween(2, 2 + MAX_PARALLELISM);
+    }
+
+    private static GitHubRepositorySyncScheduler.Callbacks callbacks(List<SyncTarget> completed) {
+        return new CountingCallbacks(completed);
+    }
+
+    private static List<SyncTarget> targets(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> SyncTargetTestBuilder.syncTarget().id((long) i).scopeId(SCOPE_ID).build())
+            .toList();
+    }
+
+    private static class CountingCallbacks implements GitHubRepositorySyncScheduler.Callbacks {
+
+        private final List<SyncTarget> completed;
+
+        CountingCallbacks(List<SyncTarget> completed) {
+            this.completed = completed;
+        }
+
+        @Override
+        public boolean shouldAbort(int processed) {
+            return false;
+        }
+
+        @Override
+        public boolean awaitRateLimitReset(int processed) {
+            return true;
+        }
+
+        @Override
+        public void completed(SyncTarget target, int processed) {
+            completed.add(target);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import de.tum.cit.aet.hephaestus.integration.core.spi.OrganizationMembershipList
 import de.tum.cit.aet.hephaestus.integration.core.spi.SyncResult;
 import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider;
 import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncTarget;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetProvider.SyncType;
 import de.tum.cit.aet.hephaestus.integration.core.spi.SyncTargetTestBuilder;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.common.exception.RepositoryNotFoundOnGitProviderException;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.organization.OrganizationRepository;
@@ -34,6 +35,7 @@ import de.tum.cit.aet.hephaestus.integration.scm.github.commit.GitHubCommitBackf
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubExceptionClassifier;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubExceptionClassifier.Category;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubExceptionClassifier.ClassificationResult;
+import de.tum.cit.aet.hephaestus.integration.scm.github.common.GitHubRateLimitBackoff;
 import de.tum.cit.aet.hephaestus.integration.scm.github.common.RateLimitTracker;
 import de.tum.cit.aet.hephaestus.integration.scm.github.discussion.GitHubDiscussionSyncService;
 import de.tum.cit.aet.hephaestus.integration.scm.github.issue.GitHubIssueSyncService;
@@ -157,6 +159,12 @@ class GithubDataSyncServiceTest extends BaseUnitTest {
     @Mock
     private RateLimitTracker rateLimitTracker;
 
+    @Mock
+    private GitHubRateLimitBackoff rateLimitBackoff;
+
+    @Mock
+    private GitHubRepositorySyncScheduler repositorySyncScheduler;
+
     private GithubDataSyncService service;
 
     @BeforeEach
@@ -199,6 +207,8 @@ class GithubDataSyncServiceTest extends BaseUnitTest {
             tokenProvider,
             gitHubAppTokenService,
             rateLimitTracker,
+            rateLimitBackoff,
+            repositorySyncScheduler,
             Runnable::run // synchronous executor — deterministic assertions
         );
 
@@ -385,4 +395,32 @@ class GithubDataSyncServiceTest extends BaseUnitTest {
         verify(issueSyncService, never()).syncForRepository(any(), any(), eq(SYNC_TARGET_ID), any(), any());
         verify(pullRequestSyncService, never()).syncForRepository(any(), any(), eq(SYNC_TARGET_ID), any(), any());
     }
+
+    @Test
+    void shouldAdvanceChangedItemWatermarksToSliceStartWithoutTouchingMetadata() {
+        Instant issuesWatermark = Instant.now().minusSeconds(3600);
+        Instant prsWatermark = Instant.now().minusSeconds(1800);
+        SyncTarget target = SyncTargetTestBuilder.syncTarget()
+            .id(SYNC_TARGET_ID)
+            .scopeId(SCOPE_ID)
+            .repositoryNameWithOwner(REPO_NAME)
+            .lastIssuesSyncedAt(issuesWatermark)
+            .lastPullRequestsSyncedAt(prsWatermark)
+            .build();
+        Instant before = Instant.now();
+
+        boolean result = service.syncChangedIssuesAndPullRequests(target);
+
+        // Each side queries from its own watermark, with cursor persistence disabled as on the full path.
+        verify(issueSyncService).syncForRepository(SCOPE_ID, REPOSITORY_ID, null, null, issuesWatermark);
+        verify(pullRequestSyncService).syncForRepository(SCOPE_ID, REPOSITORY_ID, null, null, prsWatermark);
+        var syncedAt = org.mockito.ArgumentCaptor.forClass(Instant.class);
+        verify(syncTargetProvider).updateSyncTimestamp(eq(SYNC_TARGET_ID), eq(SyncType.ISSUES), syncedAt.capture());
+        org.assertj.core.api.Assertions.assertThat(syncedAt.getValue()).isBetween(before, Instant.now());
+        verify(syncTargetProvider).updateSyncTimestamp(SYNC_TARGET_ID, SyncType.PULL_REQUESTS, syncedAt.getValue());
+        // Metadata, commits and the rest stay with the nightly run.
+        verify(repositorySyncService, never()).syncRepository(any(), any(), any());
+        verify(commitBackfillService, never()).backfillCommits(any(), any(), any());
+        org.assertj.core.api.Assertions.assertThat(result).isTrue();
+    }
 }
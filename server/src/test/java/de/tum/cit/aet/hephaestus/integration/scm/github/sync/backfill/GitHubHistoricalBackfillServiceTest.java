@@ -115,7 +115,12 @@ class HistoricalBackfillServiceTest extends BaseUnitTest {
             Duration.ZERO, // no throttle in tests
             true,
             Duration.ofMinutes(5),
-            10
+            10,
+            8,
+            false,
+            Duration.ofMinutes(5),
+            5,
+            1000
         );
 
         enabledSchedulerProperties = new SyncSchedulerProperties(
@@ -8,6 +8,7 @@ import de.tum.cit.aet.hephaestus.integration.core.spi.WebhookSignatureVerifier.V
 import de.tum.cit.aet.hephaestus.integration.core.spi.WebhookSignatureVerifier.WebhookRequest;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HexFormat;
 import java.util.LinkedHashMap;
@@ -15,6 +16,7 @@ import java.util.Map;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Unit tests pinning the GitHub HMAC-SHA256 verifier to the canonical
@@ -127,10 +129,17 @@ class GithubWebhookSignatureVerifierTest extends BaseUnitTest {
             /* externalUrl */ null,
             secret,
             new WebhookProperties.TokenRotation(7, 90),
-            new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200)),
+            new WebhookProperties.Publish(Duration.ofSeconds(9), 5, Duration.ofMillis(200), 256),
             new WebhookProperties.Stream(Duration.ofMinutes(10), Duration.ofDays(180), Map.of(), 2_000_000L),
             new WebhookProperties.Shutdown(Duration.ofSeconds(15)),
-            new WebhookProperties.Http(26_214_400L)
+            new WebhookProperties.Http(26_214_400L),
+            new WebhookProperties.Spool(
+                false,
+                Path.of("webhook-spool"),
+                DataSize.ofMegabytes(64),
+                16,
+                Duration.ofMillis(2)
+            )
         );
     }
 
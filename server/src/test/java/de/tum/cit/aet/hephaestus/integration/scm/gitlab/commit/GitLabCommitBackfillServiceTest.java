@@ -0,0 +1,241 @@
+package de.tum.cit.aet.hephaestus.integration.scm.gitlab.commit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.tum.cit.aet.hephaestus.integration.core.connection.IdentityProviderType;
+import de.tum.cit.aet.hephaestus.integration.core.events.ScmDomainEvent;
+import de.tum.cit.aet.hephaestus.integration.core.spi.SyncResult;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.commit.Commit;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.commit.CommitAuthorResolver;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.commit.CommitContributorRepository;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.commit.CommitRepository;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.repository.Repository;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.workdir.GitRepositoryManager;
+import de.tum.cit.aet.hephaestus.integration.scm.gitlab.common.GitLabTokenService;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import de.tum.cit.aet.hephaestus.testconfig.TestEntities;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for the chunked all-branches walk of the GitLab commit backfill: every chunk is persisted as it
+ * arrives, and the walk is stopped once a cycle's worth of commits went by.
+ */
+class GitLabCommitBackfillServiceTest extends BaseUnitTest {
+
+    private static final Long SCOPE_ID = 100L;
+    private static final String SERVER_URL = "https://gitlab.example.com";
+
+    @Mock
+    private GitRepositoryManager gitRepositoryManager;
+
+    @Mock
+    private GitLabTokenService tokenService;
+
+    @Mock
+    private CommitRepository commitRepository;
+
+    @Mock
+    private CommitContributorRepository contributorRepository;
+
+    @Mock
+    private CommitAuthorResolver authorResolver;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private GitLabCommitBackfillService service;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        // Execute TransactionTemplate callbacks directly, with no real transaction.
+        lenient()
+            .when(transactionTemplate.execute(any(TransactionCallback.class)))
+            .thenAnswer(invocation -> {
+                TransactionCallback<Object> callback = invocation.getArgument(0);
+                return callback.doInTransaction(null);
+            });
+
+        service = new GitLabCommitBackfillService(
+            gitRepositoryManager,
+            tokenService,
+            commitRepository,
+            contributorRepository,
+            authorResolver,
+            eventPublisher,
+            transactionTemplate
+        );
+    }
+
+    @Test
+    @DisplayName("persists the commits of every chunk the walk hands over")
+    void shouldPersistEveryChunk() {
+        Repository repo = repository();
+        stubUpToTheWalk();
+        List<List<GitRepositoryManager.CommitInfo>> chunks = List.of(
+            List.of(commitInfo("sha1"), commitInfo("sha2")),
+            List.of(commitInfo("sha3"))
+        );
+        stubWalk(chunks);
+        for (String sha : List.of("sha1", "sha2", "sha3")) {
+            when(commitRepository.findByShaAndRepositoryId(sha, 1L)).thenReturn(Optional.of(commit(sha, repo)));
+        }
+
+        SyncResult result = service.backfillCommits(SCOPE_ID, repo);
+
+        assertThat(result).isEqualTo(SyncResult.completed(3));
+        verify(gitRepositoryManager).streamAllBranches(eq(1L), isNull(), anyInt(), any());
+        for (String sha : List.of("sha1", "sha2", "sha3")) {
+            verify(commitRepository).upsertCommit(
+                eq(sha),
+                anyString(),
+                any(),
+                eq(SERVER_URL + "/group/project/-/commit/" + sha),
+                any(),
+                any(),
+                any(Integer.class),
+                any(Integer.class),
+                any(Integer.class),
+                any(),
+                eq(1L),
+                any(),
+                any(),
+                any(),
+                any()
+            );
+        }
+        verify(eventPublisher, times(3)).publishEvent(any(ScmDomainEvent.CommitCreated.class));
+    }
+
+    @Test
+    @DisplayName("stops the walk once a cycle's worth of commits went by")
+    void shouldStopTheWalkAtTheCycleLimit() {
+        Repository repo = repository();
+        stubUpToTheWalk();
+        // Eleven chunks of 500 on offer, all of them known already: the cycle limit of 5000 is reached
+        // within the tenth, and the consumer must turn the eleventh down.
+        List<List<GitRepositoryManager.CommitInfo>> chunks = new ArrayList<>();
+        for (int chunk = 0; chunk < 11; chunk++) {
+            List<GitRepositoryManager.CommitInfo> commits = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                commits.add(commitInfo("sha-" + chunk + "-" + i));
+            }
+            chunks.add(commits);
+        }
+        List<Integer> handedOver = stubWalk(chunks);
+        when(commitRepository.existsByShaAndRepositoryId(anyString(), eq(1L))).thenReturn(true);
+
+        SyncResult result = service.backfillCommits(SCOPE_ID, repo);
+
+        assertThat(result).isEqualTo(SyncResult.completed(0));
+        assertThat(handedOver).hasSize(10);
+        verify(commitRepository, times(5000)).existsByShaAndRepositoryId(anyString(), eq(1L));
+        verify(commitRepository, never()).existsByShaAndRepositoryId(eq("sha-10-0"), anyLong());
+    }
+
+    @Test
+    @DisplayName("skips the walk and defers to REST sync when local git is disabled")
+    void shouldAbortWhenGitDisabled() {
+        when(gitRepositoryManager.isEnabled()).thenReturn(false);
+
+        SyncResult result = service.backfillCommits(SCOPE_ID, repository());
+
+        assertThat(result.status()).isEqualTo(SyncResult.Status.ABORTED_ERROR);
+        verify(gitRepositoryManager, never()).streamAllBranches(anyLong(), any(), anyInt(), any());
+    }
+
+    private void stubUpToTheWalk() {
+        when(gitRepositoryManager.isEnabled()).thenReturn(true);
+        when(tokenService.resolveServerUrl(SCOPE_ID)).thenReturn(SERVER_URL);
+        when(tokenService.getAccessToken(SCOPE_ID)).thenReturn("glpat-test");
+        when(gitRepositoryManager.resolveDefaultBranchHead(1L, "main")).thenReturn("head123");
+        when(commitRepository.findLatestByRepositoryId(1L)).thenReturn(Optional.empty());
+    }
+
+    /**
+     * Stubs the streaming walk to hand {@code chunks} to the service's consumer one by one until it declines
+     * more, as {@link GitRepositoryManager#streamAllBranches} does. Returns the sizes of the chunks handed over.
+     */
+    private List<Integer> stubWalk(List<List<GitRepositoryManager.CommitInfo>> chunks) {
+        List<Integer> handedOver = new ArrayList<>();
+        when(gitRepositoryManager.streamAllBranches(eq(1L), isNull(), anyInt(), any())).thenAnswer(invocation -> {
+            GitRepositoryManager.CommitChunkConsumer consumer = invocation.getArgument(3);
+            int emitted = 0;
+            for (List<GitRepositoryManager.CommitInfo> chunk : chunks) {
+                handedOver.add(chunk.size());
+                emitted += chunk.size();
+                if (!consumer.accept(chunk)) {
+                    break;
+                }
+            }
+            return emitted;
+        });
+        return handedOver;
+    }
+
+    private static Repository repository() {
+        Repository repo = TestEntities.repository(1L, "group/project", "main");
+        repo.setProvider(TestEntities.gitProvider(1L, IdentityProviderType.GITLAB));
+        return repo;
+    }
+
+    private static Commit commit(String sha, Repository repository) {
+        Commit commit = TestEntities.commit(1L, sha);
+        commit.setMessage("test");
+        commit.setAuthoredAt(Instant.parse("2024-01-15T10:00:00Z"));
+        commit.setRepository(repository);
+        return commit;
+    }
+
+    private static GitRepositoryManager.CommitInfo commitInfo(String sha) {
+        return new GitRepositoryManager.CommitInfo(
+            sha,
+            "Commit " + sha,
+            null,
+            "Author",
+            "author@test.com",
+            Instant.parse("2024-01-15T10:00:00Z"),
+            "Committer",
+            "committer@test.com",
+            Instant.parse("2024-01-15T10:00:00Z"),
+            10,
+            5,
+            1,
+            List.of(
+                new GitRepositoryManager.FileChange(
+                    "src/Main.java",
+                    GitRepositoryManager.ChangeType.MODIFIED,
+                    10,
+                    5,
+                    15,
+                    null
+                )
+            ),
+            List.of()
+        );
+    }
+}
@@ -3,6 +3,7 @@ package de.tum.cit.aet.hephaestus.integration.scm.gitlab.feedback;
 import static de.tum.cit.aet.hephaestus.integration.scm.GraphQlResponseStubValidator.Vendor.GITLAB;
 import static de.tum.cit.aet.hephaestus.integration.scm.GraphQlResponseStubValidator.assertVendorCouldReturn;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -31,6 +32,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -361,9 +370,12 @@ class GitlabInlineFeedbackChannelTest extends BaseUnitTest {
         );
 
         // The batch stops at the first finding; both are reported failed (the one that hit the limit + the
-        // unattempted remainder), and nothing is posted.
+        // unattempted remainder), and nothing is posted. Each carries a FAILED signal, so the counts match them.
         assertThat(result.posted()).isZero();
         assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.signals())
+            .extracting(DeliveredSignal::recurrenceKey, DeliveredSignal::disposition)
+            .containsExactly(tuple("ck-a", Disposition.FAILED), tuple("ck-b", Disposition.FAILED));
         verify(client, never()).documentName("CreateMergeRequestNote");
     }
 
@@ -448,6 +460,90 @@ class GitlabInlineFeedbackChannelTest extends BaseUnitTest {
             .satisfies(s -> assertThat(s.recurrenceKey()).isEqualTo("ck-dup"));
     }
 
+    /**
+     * With budget to spare the writes run {@value GitlabInlineFeedbackChannel#MAX_CONCURRENT_WRITES} at a time, yet
+     * the signals come back in finding order even though the first finding's write is the last to answer.
+     */
+    @Test
+    void postsConcurrentlyAndKeepsSignalsInFindingOrder() {
+        stubResolvedMr();
+        when(gitLabProvider.getRateLimitRemaining(1L)).thenReturn(100);
+        stubDiscussionsReturning(List.of());
+        List<String> keys = List.of("ck-0", "ck-1", "ck-2", "ck-3", "ck-4", "ck-5");
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        // The first full window waits here until all of it is in flight at once.
+        CountDownLatch window = new CountDownLatch(GitlabInlineFeedbackChannel.MAX_CONCURRENT_WRITES);
+        Map<String, ClientGraphQlResponse> responses = new HashMap<>();
+        for (String key : keys) {
+            ClientGraphQlResponse response = mock(ClientGraphQlResponse.class);
+            stubField(response, "createDiffNote.errors", List.of());
+            stubField(response, "createDiffNote.note.id", "gid://Note/" + key);
+            stubField(response, "createDiffNote.note.discussion.id", "gid://Disc/" + key);
+            responses.put(key, response);
+        }
+        // Specs are stubbed up front (Mockito stubbing is not thread-safe); each answers for whichever finding's
+        // body it is handed.
+        Queue<HttpGraphQlClient.RequestSpec> specs = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < keys.size(); i++) {
+            specs.add(
+                concurrentPostSpec(key -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    window.countDown();
+                    window.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(key.equals("ck-0") ? 150 : 10);
+                    inFlight.decrementAndGet();
+                    return responses.get(key);
+                })
+            );
+        }
+        when(client.documentName("CreateDiffNote")).thenAnswer(invocation -> specs.poll());
+
+        InlineResult result = channel.postInlineFeedback(
+            gitlabTarget(),
+            keys
+                .stream()
+                .map(key -> new InlineFeedback(new DiffAnchor("src/" + key + ".java", 10, null), "fix", MARKER, key))
+                .toList()
+        );
+
+        assertThat(maxInFlight.get()).isEqualTo(GitlabInlineFeedbackChannel.MAX_CONCURRENT_WRITES);
+        assertThat(result.posted()).isEqualTo(keys.size());
+        assertThat(result.signals()).extracting(DeliveredSignal::recurrenceKey).containsExactlyElementsOf(keys);
+        assertThat(result.signals())
+            .extracting(DeliveredSignal::externalRef)
+            .containsExactlyElementsOf(keys.stream().map(key -> "gid://Note/" + key).toList());
+    }
+
+    /** The rate-limit tracker gates every launch: a budget that turns critical mid-batch fails the unlaunched rest. */
+    @Test
+    void criticalBudgetMidBatchStopsLaunchingAndFailsTheRest() {
+        // Checked once on entry, then before each write: the second write finds the budget critical.
+        when(gitLabProvider.isRateLimitCritical(1L)).thenReturn(false, false, true);
+        when(gitLabProvider.forScope(1L)).thenReturn(client);
+        when(mrResolver.resolve(1L, "group/project", 42)).thenReturn(
+            new MrInfo("gid://gitlab/MR/42", "base", "head", "start")
+        );
+        stubDiscussionsReturning(List.of());
+        stubCreateDiffNoteSuccess("gid://Note/NEW", "gid://Disc/NEW");
+
+        InlineResult result = channel.postInlineFeedback(
+            gitlabTarget(),
+            List.of(
+                new InlineFeedback(new DiffAnchor("src/A.java", 10, null), "first", MARKER, "ck-1"),
+                new InlineFeedback(new DiffAnchor("src/B.java", 20, null), "second", MARKER, "ck-2")
+            )
+        );
+
+        verify(client).documentName("CreateDiffNote");
+        verify(client, never()).documentName("DestroyNote");
+        assertThat(result.posted()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.signals())
+            .extracting(DeliveredSignal::recurrenceKey, DeliveredSignal::disposition)
+            .containsExactly(tuple("ck-1", Disposition.POSTED), tuple("ck-2", Disposition.FAILED));
+    }
+
     // --- stubbing helpers ----------------------------------------------------------------------------------
 
     private void stubResolvedMr() {
@@ -504,6 +600,32 @@ class GitlabInlineFeedbackChannelTest extends BaseUnitTest {
         return bodyCaptor;
     }
 
+    /** Answers a finding's posted body with {@code respond}, called with the correlation key the body carries. */
+    @FunctionalInterface
+    private interface PostResponder {
+        ClientGraphQlResponse respond(String key) throws Exception;
+    }
+
+    /** A CreateDiffNote spec that answers on the posting thread, by the key embedded in the body it was given. */
+    private static HttpGraphQlClient.RequestSpec concurrentPostSpec(PostResponder responder) {
+        HttpGraphQlClient.RequestSpec spec = mock(HttpGraphQlClient.RequestSpec.class);
+        AtomicReference<String> body = new AtomicReference<>();
+        when(spec.variable(any(), any())).thenAnswer(invocation -> {
+            if ("body".equals(invocation.getArgument(0))) {
+                body.set(invocation.getArgument(1));
+            }
+            return spec;
+        });
+        when(spec.execute()).thenAnswer(invocation ->
+            Mono.fromCallable(() -> {
+                Matcher key = Pattern.compile("hephaestus-diff-note-ck=([\\w-]+)").matcher(body.get());
+                assertThat(key.find()).isTrue();
+                return responder.respond(key.group(1));
+            })
+        );
+        return spec;
+    }
+
     private HttpGraphQlClient.RequestSpec stubDestroy() {
         HttpGraphQlClient.RequestSpec destroySpec = mock(HttpGraphQlClient.RequestSpec.class);
         when(client.documentName("DestroyNote")).thenReturn(destroySpec);
@@ -30,6 +30,7 @@ import de.tum.cit.aet.hephaestus.integration.scm.gitlab.common.GitLabWebhookClie
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
 import de.tum.cit.aet.hephaestus.workspace.WorkspaceRepository;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +47,7 @@ import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 /**
@@ -94,10 +96,17 @@ class GitLabWebhookServiceTest extends BaseUnitTest {
             EXTERNAL_URL,
             SECRET,
             new TokenRotation(7, 90),
-            new Publish(java.time.Duration.ofSeconds(9), 5, java.time.Duration.ofMillis(200)),
+            new Publish(java.time.Duration.ofSeconds(9), 5, java.time.Duration.ofMillis(200), 256),
             new Stream(java.time.Duration.ofMinutes(10), java.time.Duration.ofDays(180), Map.of(), 2_000_000L),
             new Shutdown(java.time.Duration.ofSeconds(15)),
-            new Http(26_214_400L)
+            new Http(26_214_400L),
+            new WebhookProperties.Spool(
+                false,
+                Path.of("webhook-spool"),
+                DataSize.ofMegabytes(64),
+                16,
+                java.time.Duration.ofMillis(2)
+            )
         );
 
         webhookService = new GitLabWebhookService(
@@ -313,10 +322,17 @@ class GitLabWebhookServiceTest extends BaseUnitTest {
                 "",
                 "",
                 new TokenRotation(7, 90),
-                new Publish(java.time.Duration.ofSeconds(9), 5, java.time.Duration.ofMillis(200)),
+                new Publish(java.time.Duration.ofSeconds(9), 5, java.time.Duration.ofMillis(200), 256),
                 new Stream(java.time.Duration.ofMinutes(10), java.time.Duration.ofDays(180), Map.of(), 2_000_000L),
                 new Shutdown(java.time.Duration.ofSeconds(15)),
-                new Http(26_214_400L)
+                new Http(26_214_400L),
+                new WebhookProperties.Spool(
+                    false,
+                    Path.of("webhook-spool"),
+                    DataSize.ofMegabytes(64),
+                    16,
+                    java.time.Duration.ofMillis(2)
+                )
             );
             var service = new GitLabWebhookService(
                 webhookClientProvider,
@@ -19,6 +19,7 @@ import de.tum.cit.aet.hephaestus.integration.slack.mentor.SlackMentorIdentityRes
 import de.tum.cit.aet.hephaestus.integration.slack.messaging.SlackMessageService;
 import de.tum.cit.aet.hephaestus.integration.slack.onboarding.SlackOnboardingService;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
@@ -65,7 +66,8 @@ class SlackMentorServiceTest extends BaseUnitTest {
             identityResolver,
             new KeywordSlackMentorInputGuard(),
             onboardingService,
-            mentorReadinessQuery
+            mentorReadinessQuery,
+            new SimpleMeterRegistry()
         );
     }
 
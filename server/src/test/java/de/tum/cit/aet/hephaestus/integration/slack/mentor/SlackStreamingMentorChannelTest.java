@@ -17,9 +17,12 @@ import static org.mockito.Mockito.when;
 import com.slack.api.model.block.LayoutBlock;
 import de.tum.cit.aet.hephaestus.agent.mentor.chat.MentorChannel;
 import de.tum.cit.aet.hephaestus.agent.mentor.chat.wire.UIMessageChunk;
+import de.tum.cit.aet.hephaestus.integration.core.spi.RateLimitSnapshot;
 import de.tum.cit.aet.hephaestus.integration.slack.messaging.SlackMessageService;
 import de.tum.cit.aet.hephaestus.integration.slack.messaging.SlackSendException;
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -371,4 +374,47 @@ class SlackStreamingMentorChannelTest extends BaseUnitTest {
         assertThat(channel.isClientGone()).isTrue();
         assertThat(channel.completeWithDone()).isEqualTo(MentorChannel.DeliveryOutcome.DELIVERED);
     }
+
+    @Test
+    @DisplayName("a fast turn is merged into few Slack calls and the saving is recorded once")
+    void fastTurnIsCoalescedAndMetered() {
+        SlackMessageService slack = slackThatStreamsOk();
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        var channel = new SlackStreamingMentorChannel(slack, WS, CH, THREAD, meters);
+
+        for (int i = 0; i < 40; i++) {
+            channel.send(delta("word" + i + " "));
+        }
+        channel.completeWithDone();
+
+        int calls = starts.get() + appends.get();
+        assertThat(calls).isLessThan(40);
+        assertThat(meters.get("slack.stream.calls").summary().totalAmount()).isEqualTo(calls);
+        assertThat(meters.get("slack.stream.calls.saved").summary().totalAmount()).isEqualTo(40 - calls);
+        assertThat(meters.get("slack.stream.calls.saved").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("the flush cadence waits out a running Retry-After and stays stretched for a minute after it")
+    void cadenceFollowsObservedThrottling() {
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+        assertThat(SlackStreamingMentorChannel.flushDelayMs(null, now)).isEqualTo(1000);
+        assertThat(
+            SlackStreamingMentorChannel.flushDelayMs(throttle(now.minusSeconds(1), now.plusSeconds(5)), now)
+        ).isEqualTo(5000);
+        assertThat(
+            SlackStreamingMentorChannel.flushDelayMs(throttle(now.minusSeconds(1), now.plusSeconds(600)), now)
+        ).as("a hostile Retry-After is capped").isEqualTo(20_000);
+        assertThat(
+            SlackStreamingMentorChannel.flushDelayMs(throttle(now.minusSeconds(30), now.minusSeconds(29)), now)
+        ).isEqualTo(3000);
+        assertThat(
+            SlackStreamingMentorChannel.flushDelayMs(throttle(now.minusSeconds(120), now.minusSeconds(119)), now)
+        ).isEqualTo(1000);
+    }
+
+    private static RateLimitSnapshot throttle(Instant observedAt, Instant throttledUntil) {
+        return new RateLimitSnapshot(null, null, null, observedAt, throttledUntil);
+    }
 }
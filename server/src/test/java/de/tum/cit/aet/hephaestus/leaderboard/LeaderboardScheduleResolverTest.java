@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
 import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -20,7 +21,10 @@ class LeaderboardScheduleResolverTest extends BaseUnitTest {
         new LeaderboardProperties.Schedule(1, "09:00"),
         new LeaderboardProperties.Notification(true)
     );
-    private final LeaderboardScheduleResolver resolver = new LeaderboardScheduleResolver(globalDefault);
+    private final LeaderboardScheduleResolver resolver = new LeaderboardScheduleResolver(
+        globalDefault,
+        Clock.systemUTC()
+    );
 
     private static Workspace workspace(Integer day, String time) {
         Workspace w = new Workspace();
@@ -76,4 +80,23 @@ class LeaderboardScheduleResolverTest extends BaseUnitTest {
         // before is the most recent Monday 09:00 at-or-before now; after is one week earlier.
         assertThat(window.after()).isEqualTo(window.before().minusSeconds(7 * 24 * 3600));
     }
+
+    @Test
+    void onTheScheduledDayBeforeTheScheduledTimeTheCurrentCycleStartedLastWeek() {
+        // Wednesday 2026-10-14 08:00, before the 14:15 cycle end: previousOrSame(WEDNESDAY) is today, but
+        // today's 14:15 has not happened yet, so the running cycle opened on Wednesday the 7th.
+        ZonedDateTime now = ZonedDateTime.of(2026, 10, 14, 8, 0, 0, 0, ZoneId.systemDefault());
+        LeaderboardScheduleResolver pinned = new LeaderboardScheduleResolver(
+            globalDefault,
+            Clock.fixed(now.toInstant(), ZoneId.systemDefault())
+        );
+        Workspace w = workspace(3, "14:15");
+
+        LeaderboardScheduleResolver.CycleWindow current = pinned.currentCycleWindow(w);
+        assertThat(current.after()).isEqualTo(
+            ZonedDateTime.of(2026, 10, 7, 14, 15, 0, 0, ZoneId.systemDefault()).toInstant()
+        );
+        assertThat(current.before()).isEqualTo(now.withHour(14).withMinute(15).toInstant());
+        assertThat(pinned.previousCycleWindow(w).before()).isEqualTo(current.after());
+    }
 }
@@ -0,0 +1,162 @@
+package de.tum.cit.aet.hephaestus.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.tum.cit.aet.hephaestus.activity.ActivityEventType;
+import de.tum.cit.aet.hephaestus.activity.ActivitySavedEvent;
+import de.tum.cit.aet.hephaestus.activity.ActivityTargetType;
+import de.tum.cit.aet.hephaestus.core.exception.EntityNotFoundException;
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import tools.jackson.databind.ObjectMapper;
+
+class LeaderboardSnapshotCacheTest extends BaseUnitTest {
+
+    private static final Instant WEEK = Instant.parse("2026-10-12T09:00:00Z");
+    private static final Instant NEXT_WEEK = WEEK.plus(Duration.ofDays(7));
+    private static final Instant LAST_WEEK = WEEK.minus(Duration.ofDays(7));
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    private final Workspace workspace = new Workspace();
+    private LeaderboardSnapshotCache snapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        workspace.setId(3L);
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(
+            List.of(new CaffeineCache(LeaderboardSnapshotCache.CACHE_NAME, Caffeine.newBuilder().build()))
+        );
+        cacheManager.afterPropertiesSet();
+        snapshotCache = new LeaderboardSnapshotCache(leaderboardService, new ObjectMapper(), cacheManager);
+    }
+
+    @Test
+    @DisplayName("repeated requests for one view share a single build and ETag")
+    void repeatedRequestsShareOneBuild() {
+        when(leaderboardService.createLeaderboard(workspace, WEEK, NEXT_WEEK, "all", score(), individual())).thenReturn(
+            List.of(entry(10))
+        );
+
+        LeaderboardSnapshotCache.Snapshot first = thisWeek(LeaderboardMode.INDIVIDUAL, "all");
+        LeaderboardSnapshotCache.Snapshot second = thisWeek(LeaderboardMode.INDIVIDUAL, "all");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).isNotBlank();
+        verify(leaderboardService, times(1)).createLeaderboard(any(), any(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("activity evicts only the windows it falls into")
+    void activityEvictsOnlyCoveringWindows() {
+        when(leaderboardService.createLeaderboard(eq(workspace), any(), any(), eq("all"), eq(score()), any()))
+            .thenReturn(List.of(entry(10)))
+            .thenReturn(List.of(entry(20)))
+            .thenReturn(List.of(entry(30)));
+        LeaderboardSnapshotCache.Snapshot thisWeek = thisWeek(LeaderboardMode.INDIVIDUAL, "all");
+        LeaderboardSnapshotCache.Snapshot lastWeek = snapshotCache.get(
+            workspace,
+            LAST_WEEK,
+            WEEK,
+            "all",
+            score(),
+            individual()
+        );
+
+        snapshotCache.onActivitySaved(activity(3L, WEEK.plus(Duration.ofHours(2))));
+        snapshotCache.onActivitySaved(activity(4L, LAST_WEEK.plus(Duration.ofHours(2))));
+
+        LeaderboardSnapshotCache.Snapshot rebuilt = thisWeek(LeaderboardMode.INDIVIDUAL, "all");
+        assertThat(rebuilt.etag()).isNotEqualTo(thisWeek.etag());
+        assertThat(snapshotCache.get(workspace, LAST_WEEK, WEEK, "all", score(), individual())).isSameAs(lastWeek);
+    }
+
+    @Test
+    @DisplayName("team mode ignores the team filter, so every filter shares one snapshot")
+    void teamModeSharesOneSnapshotAcrossFilters() {
+        when(leaderboardService.createLeaderboard(eq(workspace), any(), any(), anyString(), any(), any())).thenReturn(
+            List.of(entry(10))
+        );
+
+        LeaderboardSnapshotCache.Snapshot all = thisWeek(LeaderboardMode.TEAM, "all");
+
+        assertThat(thisWeek(LeaderboardMode.TEAM, "org/frontend")).isSameAs(all);
+        verify(leaderboardService, times(1)).createLeaderboard(any(), any(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("a failed build surfaces the service's own exception and caches nothing")
+    void failedBuildIsNotCached() {
+        when(leaderboardService.createLeaderboard(workspace, WEEK, NEXT_WEEK, "nope", score(), individual()))
+            .thenThrow(new EntityNotFoundException("Team", "nope"))
+            .thenReturn(List.of());
+
+        assertThatThrownBy(() -> thisWeek(LeaderboardMode.INDIVIDUAL, "nope")).isInstanceOf(
+            EntityNotFoundException.class
+        );
+        assertThat(thisWeek(LeaderboardMode.INDIVIDUAL, "nope").entries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("cache keys round-trip, including team paths that contain the separator")
+    void keyRoundTrips() {
+        LeaderboardSnapshotCache.SnapshotKey key = new LeaderboardSnapshotCache.SnapshotKey(
+            3L,
+            WEEK,
+            NEXT_WEEK,
+            LeaderboardMode.INDIVIDUAL,
+            LeaderboardSortType.LEAGUE_POINTS,
+            "org:odd/team"
+        );
+
+        assertThat(LeaderboardSnapshotCache.SnapshotKey.parse(key.toCacheKey())).isEqualTo(key);
+        assertThat(LeaderboardSnapshotCache.SnapshotKey.parse(42L)).isNull();
+    }
+
+    private LeaderboardSnapshotCache.Snapshot thisWeek(LeaderboardMode mode, String team) {
+        return snapshotCache.get(workspace, WEEK, NEXT_WEEK, team, score(), mode);
+    }
+
+    private static LeaderboardSortType score() {
+        return LeaderboardSortType.SCORE;
+    }
+
+    private static LeaderboardMode individual() {
+        return LeaderboardMode.INDIVIDUAL;
+    }
+
+    private static ActivitySavedEvent activity(long workspaceId, Instant occurredAt) {
+        return new ActivitySavedEvent(
+            Optional.empty(),
+            ActivityEventType.REVIEW_APPROVED,
+            occurredAt,
+            workspaceId,
+            ActivityTargetType.REVIEW,
+            1L
+        );
+    }
+
+    private static LeaderboardEntryDTO entry(int score) {
+        return new LeaderboardEntryDTO(1, score, null, null, List.of(), 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -40,6 +40,9 @@ class LeaderboardTaskSchedulerTest extends BaseUnitTest {
     @Mock
     private LeaguePointsUpdateTask leaguePointsUpdateTask;
 
+    @Mock
+    private LeaderboardSnapshotCache snapshotCache;
+
     @Mock
     private WorkspaceRepository workspaceRepository;
 
@@ -71,6 +74,7 @@ class LeaderboardTaskSchedulerTest extends BaseUnitTest {
             taskScheduler,
             tasks,
             leaguePointsUpdateTask,
+            snapshotCache,
             workspaceRepository,
             lockProvider
         );
@@ -105,6 +109,7 @@ class LeaderboardTaskSchedulerTest extends BaseUnitTest {
         tick.run();
 
         verify(leaguePointsUpdateTask).runForWorkspace(any(Workspace.class));
+        verify(snapshotCache).evictWorkspace(7L);
         verify(lock).unlock();
     }
 
@@ -8,6 +8,7 @@ import de.tum.cit.aet.hephaestus.activity.ActivityBreakdownProjection;
 import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
 import de.tum.cit.aet.hephaestus.activity.ActivityEventType;
 import de.tum.cit.aet.hephaestus.activity.ActivityXpProjection;
+import de.tum.cit.aet.hephaestus.activity.ActivityXpRollupService;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
 import de.tum.cit.aet.hephaestus.integration.scm.domain.user.UserRepository;
 import de.tum.cit.aet.hephaestus.profile.ProfilePullRequestQueryRepository;
@@ -43,6 +44,9 @@ class LeaderboardXpQueryServiceTest {
     @Mock
     private ActivityEventRepository activityEventRepository;
 
+    @Mock
+    private ActivityXpRollupService activityXpRollupService;
+
     @Mock
     private UserRepository userRepository;
 
@@ -55,6 +59,7 @@ class LeaderboardXpQueryServiceTest {
     void setUp() {
         service = new LeaderboardXpQueryService(
             activityEventRepository,
+            activityXpRollupService,
             userRepository,
             profilePullRequestQueryRepository
         );
@@ -122,13 +127,13 @@ class LeaderboardXpQueryServiceTest {
         @Test
         void returnsEmptyMapWhenNoEvents() {
             when(
-                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(WORKSPACE_ID, SINCE, UNTIL)
+                activityXpRollupService.findExperiencePoints(WORKSPACE_ID, SINCE, UNTIL)
             ).thenReturn(List.of());
 
             Map<Long, LeaderboardUserXp> result = service.getLeaderboardData(WORKSPACE_ID, SINCE, UNTIL);
 
             assertThat(result).isEmpty();
-            verify(activityEventRepository, never()).findActivityBreakdown(any(), any(), any(), any());
+            verify(activityXpRollupService, never()).findActivityBreakdown(any(), any(), any(), any());
         }
 
         @Test
@@ -142,10 +147,10 @@ class LeaderboardXpQueryServiceTest {
             );
 
             when(
-                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(WORKSPACE_ID, SINCE, UNTIL)
+                activityXpRollupService.findExperiencePoints(WORKSPACE_ID, SINCE, UNTIL)
             ).thenReturn(xpData);
             when(
-                activityEventRepository.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
+                activityXpRollupService.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
             ).thenReturn(List.of());
             when(userRepository.findAllById(Set.of(100L, 200L))).thenReturn(List.of(user1, user2));
 
@@ -172,10 +177,10 @@ class LeaderboardXpQueryServiceTest {
             );
 
             when(
-                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(WORKSPACE_ID, SINCE, UNTIL)
+                activityXpRollupService.findExperiencePoints(WORKSPACE_ID, SINCE, UNTIL)
             ).thenReturn(xpData);
             when(
-                activityEventRepository.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
+                activityXpRollupService.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
             ).thenReturn(breakdown);
             when(
                 activityEventRepository.countOwnPullRequestRepliesByActors(
@@ -208,10 +213,10 @@ class LeaderboardXpQueryServiceTest {
             );
 
             when(
-                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(WORKSPACE_ID, SINCE, UNTIL)
+                activityXpRollupService.findExperiencePoints(WORKSPACE_ID, SINCE, UNTIL)
             ).thenReturn(xpData);
             when(
-                activityEventRepository.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
+                activityXpRollupService.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
             ).thenReturn(List.of());
             when(userRepository.findAllById(Set.of(100L, 999L))).thenReturn(List.of(knownUser));
 
@@ -287,7 +292,7 @@ class LeaderboardXpQueryServiceTest {
             assertThat(result.get(100L).ownReplies()).isEqualTo(2);
             assertThat(result.get(100L).openPullRequests()).isEqualTo(1);
             assertThat(result.get(100L).reviewedPrCount()).isEqualTo(3);
-            verify(activityEventRepository, never()).findExperiencePointsByWorkspaceAndTimeframe(any(), any(), any());
+            verify(activityXpRollupService, never()).findExperiencePoints(any(), any(), any());
         }
 
         @Test
@@ -296,10 +301,10 @@ class LeaderboardXpQueryServiceTest {
             ActivityXpProjection xpWithNulls = createXpProjection(100L, null, null);
 
             when(
-                activityEventRepository.findExperiencePointsByWorkspaceAndTimeframe(WORKSPACE_ID, SINCE, UNTIL)
+                activityXpRollupService.findExperiencePoints(WORKSPACE_ID, SINCE, UNTIL)
             ).thenReturn(List.of(xpWithNulls));
             when(
-                activityEventRepository.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
+                activityXpRollupService.findActivityBreakdown(eq(WORKSPACE_ID), anySet(), eq(SINCE), eq(UNTIL))
             ).thenReturn(List.of());
             when(userRepository.findAllById(Set.of(100L))).thenReturn(List.of(user));
 
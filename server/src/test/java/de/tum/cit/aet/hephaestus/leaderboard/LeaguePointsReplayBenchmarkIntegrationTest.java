@@ -0,0 +1,217 @@
+package de.tum.cit.aet.hephaestus.leaderboard;
+
+import static de.tum.cit.aet.hephaestus.leaderboard.LeaguePointsConstants.POINTS_DEFAULT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.tum.cit.aet.hephaestus.activity.ActivityEventRepository;
+import de.tum.cit.aet.hephaestus.integration.scm.domain.user.User;
+import de.tum.cit.aet.hephaestus.workspace.AbstractWorkspaceIntegrationTest;
+import de.tum.cit.aet.hephaestus.workspace.AccountType;
+import de.tum.cit.aet.hephaestus.workspace.Workspace;
+import de.tum.cit.aet.hephaestus.workspace.WorkspaceMembership;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the legacy week-by-week league points replay (one full leaderboard per window) with the
+ * single-pass {@link LeaguePointsReplay} on a synthetic workspace: 500 members, one event per member per day
+ * for three years.
+ *
+ * <p>Every member earns a distinct weekly score, so both paths see the same ranking regardless of how ties
+ * would be broken, and the resulting points must match exactly. Timings are logged, not asserted.
+ *
+ * <p>Run with {@code ./mvnw verify -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class LeaguePointsReplayBenchmarkIntegrationTest extends AbstractWorkspaceIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaguePointsReplayBenchmarkIntegrationTest.class);
+
+    private static final int MEMBERS = 500;
+    private static final int DAYS = 3 * 365;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private LeaguePointsService leaguePointsService;
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void singlePassReplayMatchesPerWindowLeaderboards() {
+        User owner = persistUser("bench-owner");
+        Workspace workspace = createWorkspace("bench", "Benchmark", "bench-org", AccountType.ORG, owner);
+        for (int i = 1; i <= MEMBERS; i++) {
+            ensureWorkspaceMembership(workspace, persistUser("bench-" + i), WorkspaceMembership.WorkspaceRole.MEMBER);
+        }
+
+        Instant until = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Instant anchor = until.minus(Duration.ofDays(DAYS));
+        seedDailyActivity(workspace.getId(), owner.getId(), anchor);
+
+        List<User> memberUsers = workspaceMembershipRepository
+            .findAllWithUserByWorkspaceId(workspace.getId())
+            .stream()
+            .map(WorkspaceMembership::getUser)
+            .toList();
+        Map<Long, LeaguePointsReplay.Member> members = new HashMap<>();
+        memberUsers.forEach(user ->
+            members.put(user.getId(), new LeaguePointsReplay.Member(user.getId(), true, anchor))
+        );
+
+        long legacyStart = System.nanoTime();
+        Map<Long, Integer> legacy = replayPerWindow(workspace, memberUsers, anchor, until);
+        Duration legacyDuration = Duration.ofNanos(System.nanoTime() - legacyStart);
+
+        long singlePassStart = System.nanoTime();
+        Map<Long, Integer> singlePass = replaySinglePass(workspace, members, anchor, until);
+        Duration singlePassDuration = Duration.ofNanos(System.nanoTime() - singlePassStart);
+
+        log.info(
+            "League points replay benchmark: members={}, days={}, legacyMs={}, singlePassMs={}, speedup={}",
+            members.size(),
+            DAYS,
+            legacyDuration.toMillis(),
+            singlePassDuration.toMillis(),
+            String.format("%.1fx", (double) legacyDuration.toNanos() / Math.max(1, singlePassDuration.toNanos()))
+        );
+
+        assertThat(singlePass).containsExactlyInAnyOrderEntriesOf(legacy);
+    }
+
+    /** The pre-replay algorithm: one leaderboard per 7-day window, points folded per entry. */
+    private Map<Long, Integer> replayPerWindow(
+        Workspace workspace,
+        List<User> memberUsers,
+        Instant anchor,
+        Instant until
+    ) {
+        Map<Long, User> hydrated = new HashMap<>();
+        memberUsers.forEach(user ->
+            hydrated.put(
+                user.getId(),
+                userRepository.findByLoginWithEagerMergedPullRequests(user.getLogin()).orElseThrow()
+            )
+        );
+
+        Map<Long, Integer> points = new HashMap<>();
+        hydrated.keySet().forEach(userId -> points.put(userId, POINTS_DEFAULT));
+
+        Instant windowStart = anchor;
+        while (windowStart.isBefore(until)) {
+            Instant windowEnd = windowStart.plus(LeaguePointsRecalculationService.WINDOW);
+            if (windowEnd.isAfter(until)) {
+                windowEnd = until;
+            }
+            for (LeaderboardEntryDTO entry : leaderboardService.createLeaderboard(
+                workspace,
+                windowStart,
+                windowEnd,
+                "all",
+                LeaderboardSortType.SCORE,
+                LeaderboardMode.INDIVIDUAL
+            )) {
+                User user = hydrated.get(entry.user().id());
+                if (user != null) {
+                    points.put(
+                        user.getId(),
+                        leaguePointsService.calculateNewPoints(user, points.get(user.getId()), entry)
+                    );
+                }
+            }
+            windowStart = windowEnd;
+        }
+        return points;
+    }
+
+    private Map<Long, Integer> replaySinglePass(
+        Workspace workspace,
+        Map<Long, LeaguePointsReplay.Member> members,
+        Instant anchor,
+        Instant until
+    ) {
+        return transactionTemplate.execute(status -> {
+            LeaguePointsReplay replay = new LeaguePointsReplay(
+                anchor,
+                until,
+                LeaguePointsRecalculationService.WINDOW,
+                members,
+                Set.of(),
+                leaguePointsService
+            );
+            try (
+                Stream<ActivityEventRepository.WindowXpProjection> rows =
+                    activityEventRepository.streamExperiencePointsByWindow(
+                        workspace.getId(),
+                        anchor,
+                        until,
+                        LeaguePointsRecalculationService.WINDOW.toSeconds()
+                    )
+            ) {
+                rows.forEach(row -> replay.accept(row.getActorId(), row.getWindowIndex(), row.getExperiencePoints()));
+            }
+            return replay.finish();
+        });
+    }
+
+    /**
+     * One event per non-owner member per day, worth the member's ordinal in XP — weekly sums are distinct
+     * per member. The daily rollup is filled in alongside, as {@code insertIfAbsent} would.
+     */
+    private void seedDailyActivity(Long workspaceId, Long ownerId, Instant anchor) {
+        jdbcTemplate.update(
+            """
+            INSERT INTO activity_event (
+                id, event_key, event_type, occurred_at, actor_id,
+                workspace_id, repository_id, target_type, target_id, xp, ingested_at
+            )
+            SELECT gen_random_uuid(), 'bench-' || m.user_id || '-' || d, 'REVIEW_COMMENTED',
+                   CAST(? AS TIMESTAMPTZ) + make_interval(days => d, hours => 1), m.user_id,
+                   ?, NULL, 'pull_request', d, m.ordinal, CURRENT_TIMESTAMP
+            FROM (
+                SELECT user_id, ROW_NUMBER() OVER (ORDER BY user_id) AS ordinal
+                FROM workspace_membership
+                WHERE workspace_id = ? AND user_id <> ?
+            ) m
+            CROSS JOIN generate_series(0, ? - 1) AS d
+            """,
+            Timestamp.from(anchor),
+            workspaceId,
+            workspaceId,
+            ownerId,
+            DAYS
+        );
+        jdbcTemplate.update(
+            """
+            INSERT INTO activity_xp_daily (workspace_id, actor_id, day, event_type, event_count, xp)
+            SELECT workspace_id, actor_id, CAST(occurred_at AT TIME ZONE 'UTC' AS DATE), event_type, COUNT(*), SUM(xp)
+            FROM activity_event
+            WHERE workspace_id = ?
+            GROUP BY 1, 2, 3, 4
+            """,
+            workspaceId
+        );
+    }
+}
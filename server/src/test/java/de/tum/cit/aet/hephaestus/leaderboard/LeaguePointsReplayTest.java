@@ -0,0 +1,111 @@
+package de.tum.cit.aet.hephaestus.leaderboard;
+
+import static de.tum.cit.aet.hephaestus.leaderboard.LeaguePointsConstants.POINTS_DEFAULT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import de.tum.cit.aet.hephaestus.testconfig.BaseUnitTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for LeaguePointsReplay.
+ *
+ * <p>Uses the real {@link LeaguePointsService} so expectations are derived from the same formula the
+ * per-window leaderboard path applies.
+ */
+class LeaguePointsReplayTest extends BaseUnitTest {
+
+    private static final Duration WEEK = Duration.ofDays(7);
+    private static final Instant ANCHOR = Instant.parse("2024-01-01T10:00:00Z");
+
+    private final LeaguePointsService leaguePointsService = new LeaguePointsService();
+
+    @Test
+    void countsTruncatedLastWindow() {
+        LeaguePointsReplay replay = replay(ANCHOR.plus(Duration.ofDays(15)), Map.of(), Set.of());
+
+        assertThat(replay.windowCount()).isEqualTo(3);
+    }
+
+    @Test
+    void ranksScoredActorsAndPaddedMembersPerWindow() {
+        var alice = new LeaguePointsReplay.Member(1L, true, ANCHOR);
+        var bob = new LeaguePointsReplay.Member(2L, false, ANCHOR);
+        LeaguePointsReplay replay = replay(ANCHOR.plus(WEEK.multipliedBy(2)), Map.of(1L, alice, 2L, bob), Set.of());
+
+        replay.accept(1L, 0, 40.0);
+        replay.accept(99L, 0, 60.0); // non-member outranks alice without being scored itself
+        replay.accept(2L, 1, 10.4);
+
+        Map<Long, Integer> points = replay.finish();
+
+        int aliceWeek1 = leaguePointsService.calculateNewPoints(true, POINTS_DEFAULT, 40, 2);
+        int bobWeek1 = leaguePointsService.calculateNewPoints(false, POINTS_DEFAULT, 0, 3);
+        int bobWeek2 = leaguePointsService.calculateNewPoints(false, bobWeek1, 10, 1);
+        int aliceWeek2 = leaguePointsService.calculateNewPoints(true, aliceWeek1, 0, 2);
+        assertThat(points).containsExactlyInAnyOrderEntriesOf(Map.of(1L, aliceWeek2, 2L, bobWeek2));
+    }
+
+    @Test
+    void appliesDecayToEmptyWindows() {
+        var alice = new LeaguePointsReplay.Member(1L, false, ANCHOR);
+        LeaguePointsReplay replay = replay(ANCHOR.plus(WEEK.multipliedBy(3)), Map.of(1L, alice), Set.of());
+
+        Map<Long, Integer> points = replay.finish();
+
+        int expected = POINTS_DEFAULT;
+        for (int week = 0; week < 3; week++) {
+            expected = leaguePointsService.calculateNewPoints(false, expected, 0, 1);
+        }
+        assertThat(points.get(1L)).isEqualTo(expected).isLessThan(POINTS_DEFAULT);
+    }
+
+    @Test
+    void skipsWindowsEndingBeforeFirstContribution() {
+        var late = new LeaguePointsReplay.Member(1L, false, ANCHOR.plus(Duration.ofDays(10)));
+        var never = new LeaguePointsReplay.Member(2L, false, null);
+        LeaguePointsReplay replay = replay(
+            ANCHOR.plus(WEEK.multipliedBy(2)),
+            Map.of(1L, late, 2L, never),
+            Set.of()
+        );
+
+        replay.accept(1L, 0, 100.0);
+
+        Map<Long, Integer> points = replay.finish();
+
+        assertThat(points.get(1L)).isEqualTo(leaguePointsService.calculateNewPoints(false, POINTS_DEFAULT, 0, 1));
+        assertThat(points.get(2L)).isEqualTo(POINTS_DEFAULT);
+    }
+
+    @Test
+    void excludesHiddenMembersFromRankingAndUpdates() {
+        var hidden = new LeaguePointsReplay.Member(1L, false, ANCHOR);
+        var visible = new LeaguePointsReplay.Member(2L, false, ANCHOR);
+        LeaguePointsReplay replay = replay(ANCHOR.plus(WEEK), Map.of(1L, hidden, 2L, visible), Set.of(1L));
+
+        replay.accept(1L, 0, 500.0);
+        replay.accept(2L, 0, 5.0);
+
+        Map<Long, Integer> points = replay.finish();
+
+        assertThat(points.get(1L)).isEqualTo(POINTS_DEFAULT);
+        assertThat(points.get(2L)).isEqualTo(leaguePointsService.calculateNewPoints(false, POINTS_DEFAULT, 5, 1));
+    }
+
+    @Test
+    void rejectsRowsOutOfWindowOrder() {
+        LeaguePointsReplay replay = replay(ANCHOR.plus(WEEK.multipliedBy(3)), Map.of(), Set.of());
+        replay.accept(1L, 2, 1.0);
+
+        assertThatThrownBy(() -> replay.accept(1L, 1, 1.0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private LeaguePointsReplay replay(Instant until, Map<Long, LeaguePointsReplay.Member> members, Set<Long> hidden) {
+        return new LeaguePointsReplay(ANCHOR, until, WEEK, members, hidden, leaguePointsService);
+    }
+}
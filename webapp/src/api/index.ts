@@ -1,4 +1,4 @@
 // This file is auto-generated by @hey-api/openapi-ts
 
-export { addLabelFilter, addLabelToTeam, addRepositoryToMonitor, adminCreateCuratedArea, adminCreateCuratedPractice, adminCreateLlmConnection, adminCreateLlmModel, adminCreateLoginProvider, adminDeleteCuratedAreaOverride, adminDeleteCuratedPracticeOverride, adminDeleteLlmConnection, adminDeleteLlmModel, adminDeleteLoginProvider, adminExportAuthEvents, adminGetCuratedArea, adminGetCuratedCatalog, adminGetCuratedPractice, adminGetInstanceSettings, adminGetLlmConnection, adminGetLlmModel, adminGetLlmSettings, adminGetLlmUsageReport, adminGetPracticeDefinitionOptions, adminKeepCuratedArea, adminKeepCuratedPractice, adminListAuthEvents, adminListConfigAuditEvents, adminListLlmConnections, adminListLlmModels, adminListLoginProviders, adminListUsers, adminListWorkspaces, adminPlaceCuratedPractice, adminProbeLlmConnection, adminProbeLlmConnectionDraft, adminReorderCuratedAreas, adminReorderCuratedPractices, adminResetCuratedCatalogOrder, adminRevokeUserSessions, adminUpdateCuratedArea, adminUpdateCuratedAreaStatus, adminUpdateCuratedPractice, adminUpdateCuratedPracticeStatus, adminUpdateLlmConnection, adminUpdateLlmModel, adminUpdateLlmModelPrice, adminUpdateLlmModelSharing, adminUpdateLlmSettings, adminUpdateLoginProvider, adminUpdateSilentMode, adminUpdateUser, adminUpdateWorkspaceLlmBudget, assignRole, audit, autonomyRollup, bindArea, callbackGet, callbackPost, cancelAgentJob, computeUserLeagueStats, configureAgent, createArea, createPractice, createSweepSchedule, createWorkspace, decideFeedbackProposal, deleteAgent, deleteArea, deleteCurrentUser, deleteOutlineCollection, deletePractice, deleteSweepSchedule, deleteThread, downloadDataExport, exitImpersonation, getActivityMonitor, getAgentJob, getAllAchievementDefinitions, getAllTeams, getArea, getArtifactTrace, getBackfillRun, getConnectionSyncStatus, getCuratedPracticeCatalogEntry, getCurrentUser, getCurrentUserMembership, getDataExportStatus, getEngagement, getFeedbackProposalDecision, getInAppFeedback, getIntegrationCatalog, getJwks, getLabelFilters, getLatestReaction, getLeaderboard, getLlmUsageReport, getMember, getObservation, getObservationsForPullRequest, getOutlineCollection, getOutlineTokenStatus, getPractice, getPracticeDefinitionOptions, getPracticeReviewFeedback, getPracticeReviewObservation, getPracticeReviewSettings, getProviders, getReflection, getRepositoriesToMonitor, getRepositorySettings, getSlackUserPreferences, getSummary, getTeamSettings, getThread, getUserAchievements, getUserFeatures, getUserProfile, getUserSettings, getUsersWithTeams, getWorkspace, gitLabPreflight, impersonate, initiate, list, listAgentJobs, listAgents, listAreas, listBackfillRuns, listConnectionSyncJobs, listConnectionSyncResources, listGitLabGroups, listGlobalContributors, listIdentityProviders, listLearnerPractices, listLinkedIdentities, listMembers, listObservations, listOutlineCollectionCandidates, listOutlineCollections, listPracticeEvidenceOutcomes, listPracticeReviewFeedback, listPracticeReviewObservations, listPracticeReviews, listPractices, listSessions, listSlackChannelCandidates, listSlackChannelConsentEvents, listSlackChannels, listSweepSchedules, listThreads, listTracedArtifacts, listWorkspaceConfigAuditEvents, listWorkspaces, logout, type Options, placePractice, preflightBackfillRun, purgeWorkspace, read, recalculateUserAchievements, refresh, registerOutlineCollection, registerSlackChannel, reloadAchievements, removeLabelFilter, removeLabelFromTeam, removeMember, removeRepositoryToMonitor, removeVote, renameSlug, reorderAreas, reorderPractices, replaceSweepSchedule, requestDataExport, requestPracticeReview, resetAndRecalculateLeagues, retryAgentJobDelivery, revokeOtherSessions, revokeSession, sendSlackTestMessage, setAreaAutonomy, setAutonomy, submitReaction, triggerSyncJob, unlinkIdentity, updateArea, updateBackfillRunStatus, updateConnectionStatus, updateConnectionSyncJob, updateFeatures, updateLeaderboardDigest, updateMemberVisibility, updateNotifications, updateOutlineCollectionState, updatePractice, updatePracticeReviewSettings, updatePublicVisibility, updateRepositorySettings, updateRepositoryVisibility, updateSchedule, updateSlackChannelConsent, updateSlackUserPreferences, updateStatus, updateTeamSettings, updateTeamVisibility, updateToken, updateUserSettings, updateWorkspaceLlmBudget, vote, workspaceCreateLlmConnection, workspaceCreateLlmModel, workspaceDeleteLlmConnection, workspaceDeleteLlmModel, workspaceGetLlmConnection, workspaceGetLlmModel, workspaceGetLlmSettings, workspaceListAvailableLlmModels, workspaceListLlmConnections, workspaceListLlmModels, workspaceProbeLlmConnection, workspaceUpdateLlmConnection, workspaceUpdateLlmModel } from './sdk.gen';
-export type { AccountRef, Achievement, AchievementId, AchievementProgress, AddLabelFilterData, AddLabelFilterErrors, AddLabelFilterResponses, AddLabelToTeamData, AddLabelToTeamResponse, AddLabelToTeamResponses, AddRepositoryToMonitorData, AddRepositoryToMonitorResponses, AdminAccountView, AdminCreateCuratedAreaData, AdminCreateCuratedAreaError, AdminCreateCuratedAreaErrors, AdminCreateCuratedAreaResponse, AdminCreateCuratedAreaResponses, AdminCreateCuratedPracticeData, AdminCreateCuratedPracticeError, AdminCreateCuratedPracticeErrors, AdminCreateCuratedPracticeResponse, AdminCreateCuratedPracticeResponses, AdminCreateLlmConnectionData, AdminCreateLlmConnectionErrors, AdminCreateLlmConnectionResponse, AdminCreateLlmConnectionResponses, AdminCreateLlmModelData, AdminCreateLlmModelErrors, AdminCreateLlmModelResponse, AdminCreateLlmModelResponses, AdminCreateLoginProviderData, AdminCreateLoginProviderResponse, AdminCreateLoginProviderResponses, AdminDeleteCuratedAreaOverrideData, AdminDeleteCuratedAreaOverrideError, AdminDeleteCuratedAreaOverrideErrors, AdminDeleteCuratedAreaOverrideResponse, AdminDeleteCuratedAreaOverrideResponses, AdminDeleteCuratedPracticeOverrideData, AdminDeleteCuratedPracticeOverrideError, AdminDeleteCuratedPracticeOverrideErrors, AdminDeleteCuratedPracticeOverrideResponse, AdminDeleteCuratedPracticeOverrideResponses, AdminDeleteLlmConnectionData, AdminDeleteLlmConnectionErrors, AdminDeleteLlmConnectionResponse, AdminDeleteLlmConnectionResponses, AdminDeleteLlmModelData, AdminDeleteLlmModelErrors, AdminDeleteLlmModelResponse, AdminDeleteLlmModelResponses, AdminDeleteLoginProviderData, AdminDeleteLoginProviderResponses, AdminExportAuthEventsData, AdminExportAuthEventsResponse, AdminExportAuthEventsResponses, AdminGetCuratedAreaData, AdminGetCuratedAreaResponse, AdminGetCuratedAreaResponses, AdminGetCuratedCatalogData, AdminGetCuratedCatalogResponse, AdminGetCuratedCatalogResponses, AdminGetCuratedPracticeData, AdminGetCuratedPracticeResponse, AdminGetCuratedPracticeResponses, AdminGetInstanceSettingsData, AdminGetInstanceSettingsResponse, AdminGetInstanceSettingsResponses, AdminGetLlmConnectionData, AdminGetLlmConnectionErrors, AdminGetLlmConnectionResponse, AdminGetLlmConnectionResponses, AdminGetLlmModelData, AdminGetLlmModelErrors, AdminGetLlmModelResponse, AdminGetLlmModelResponses, AdminGetLlmSettingsData, AdminGetLlmSettingsResponse, AdminGetLlmSettingsResponses, AdminGetLlmUsageReportData, AdminGetLlmUsageReportResponse, AdminGetLlmUsageReportResponses, AdminGetPracticeDefinitionOptionsData, AdminGetPracticeDefinitionOptionsResponse, AdminGetPracticeDefinitionOptionsResponses, AdminKeepCuratedAreaData, AdminKeepCuratedAreaError, AdminKeepCuratedAreaErrors, AdminKeepCuratedAreaResponse, AdminKeepCuratedAreaResponses, AdminKeepCuratedPracticeData, AdminKeepCuratedPracticeError, AdminKeepCuratedPracticeErrors, AdminKeepCuratedPracticeResponse, AdminKeepCuratedPracticeResponses, AdminListAuthEventsData, AdminListAuthEventsResponse, AdminListAuthEventsResponses, AdminListConfigAuditEventsData, AdminListConfigAuditEventsResponse, AdminListConfigAuditEventsResponses, AdminListLlmConnectionsData, AdminListLlmConnectionsResponse, AdminListLlmConnectionsResponses, AdminListLlmModelsData, AdminListLlmModelsResponse, AdminListLlmModelsResponses, AdminListLoginProvidersData, AdminListLoginProvidersResponse, AdminListLoginProvidersResponses, AdminListUsersData, AdminListUsersResponse, AdminListUsersResponses, AdminListWorkspacesData, AdminListWorkspacesResponse, AdminListWorkspacesResponses, AdminLlmUsageReport, AdminPlaceCuratedPracticeData, AdminPlaceCuratedPracticeResponse, AdminPlaceCuratedPracticeResponses, AdminProbeLlmConnectionData, AdminProbeLlmConnectionDraftData, AdminProbeLlmConnectionDraftResponse, AdminProbeLlmConnectionDraftResponses, AdminProbeLlmConnectionResponse, AdminProbeLlmConnectionResponses, AdminReorderCuratedAreasData, AdminReorderCuratedAreasResponse, AdminReorderCuratedAreasResponses, AdminReorderCuratedPracticesData, AdminReorderCuratedPracticesResponse, AdminReorderCuratedPracticesResponses, AdminResetCuratedCatalogOrderData, AdminResetCuratedCatalogOrderResponse, AdminResetCuratedCatalogOrderResponses, AdminRevokeUserSessionsData, AdminRevokeUserSessionsResponse, AdminRevokeUserSessionsResponses, AdminUpdateCuratedAreaData, AdminUpdateCuratedAreaError, AdminUpdateCuratedAreaErrors, AdminUpdateCuratedAreaResponse, AdminUpdateCuratedAreaResponses, AdminUpdateCuratedAreaStatusData, AdminUpdateCuratedAreaStatusError, AdminUpdateCuratedAreaStatusErrors, AdminUpdateCuratedAreaStatusResponse, AdminUpdateCuratedAreaStatusResponses, AdminUpdateCuratedPracticeData, AdminUpdateCuratedPracticeError, AdminUpdateCuratedPracticeErrors, AdminUpdateCuratedPracticeResponse, AdminUpdateCuratedPracticeResponses, AdminUpdateCuratedPracticeStatusData, AdminUpdateCuratedPracticeStatusError, AdminUpdateCuratedPracticeStatusErrors, AdminUpdateCuratedPracticeStatusResponse, AdminUpdateCuratedPracticeStatusResponses, AdminUpdateLlmConnectionData, AdminUpdateLlmConnectionErrors, AdminUpdateLlmConnectionResponse, AdminUpdateLlmConnectionResponses, AdminUpdateLlmModelData, AdminUpdateLlmModelErrors, AdminUpdateLlmModelPriceData, AdminUpdateLlmModelPriceErrors, AdminUpdateLlmModelPriceResponse, AdminUpdateLlmModelPriceResponses, AdminUpdateLlmModelResponse, AdminUpdateLlmModelResponses, AdminUpdateLlmModelSharingData, AdminUpdateLlmModelSharingErrors, AdminUpdateLlmModelSharingResponse, AdminUpdateLlmModelSharingResponses, AdminUpdateLlmSettingsData, AdminUpdateLlmSettingsResponse, AdminUpdateLlmSettingsResponses, AdminUpdateLoginProviderData, AdminUpdateLoginProviderResponse, AdminUpdateLoginProviderResponses, AdminUpdateSilentModeData, AdminUpdateSilentModeError, AdminUpdateSilentModeErrors, AdminUpdateSilentModeResponse, AdminUpdateSilentModeResponses, AdminUpdateUserData, AdminUpdateUserResponse, AdminUpdateUserResponses, AdminUpdateWorkspaceLlmBudgetData, AdminUpdateWorkspaceLlmBudgetResponse, AdminUpdateWorkspaceLlmBudgetResponses, AdminWorkspaceLlmUsage, AdminWorkspaceView, AgentBinding, AgentBindingRequest, AgentJob, AreaAutonomyRollup, ArtifactTrace, AssignRoleData, AssignRoleRequest, AssignRoleResponse, AssignRoleResponses, AuditData, AuditResponse, AuditResponses, AuthEventView, AutonomyAssignment, AutonomyRollup, AutonomyRollupData, AutonomyRollupResponse, AutonomyRollupResponses, AvailableLlmModel, BackfillSummary, BinaryAchievementProgress, BindAreaData, BindAreaError, BindAreaErrors, BindAreaResponse, BindAreaResponses, BindPracticeAreaRequest, CallbackGetData, CallbackGetResponse, CallbackGetResponses, CallbackPostData, CallbackPostResponse, CallbackPostResponses, CancelAgentJobData, CancelAgentJobErrors, CancelAgentJobResponse, CancelAgentJobResponses, CatalogEntryStatus, CatalogOrigin, ChatMessage, ChatMessageVote, ChatMessageVoteRequest, ChatThreadDetail, ChatThreadSummary, ClientOptions, ComputeUserLeagueStatsData, ComputeUserLeagueStatsResponse, ComputeUserLeagueStatsResponses, ConfigAuditActorRef, ConfigAuditEntryView, ConfigureAgentData, ConfigureAgentErrors, ConfigureAgentResponse, ConfigureAgentResponses, ConnectionAuditEntry, ConnectionDetail, ConnectionSummary, ConnectionSyncStatus, Contributor, CreateAreaData, CreateAreaErrors, CreateAreaResponse, CreateAreaResponses, CreateCuratedAreaRequest, CreateCuratedPracticeRequest, CreateLlmConnectionRequest, CreateLlmModelRequest, CreateLoginProviderRequest, CreatePracticeAreaRequest, CreatePracticeData, CreatePracticeError, CreatePracticeErrors, CreatePracticeRequest, CreatePracticeResponse, CreatePracticeResponses, CreateReaction, CreateReviewBackfillRunRequest, CreateReviewRequest, CreateReviewSweepScheduleRequest, CreateSweepScheduleData, CreateSweepScheduleError, CreateSweepScheduleErrors, CreateSweepScheduleResponse, CreateSweepScheduleResponses, CreateWorkspaceData, CreateWorkspaceLlmConnectionRequest, CreateWorkspaceLlmModelRequest, CreateWorkspaceRequest, CreateWorkspaceResponse, CreateWorkspaceResponses, CuratedArea, CuratedAreaRequest, CuratedCatalog, CuratedCatalogSummary, CuratedPractice, CuratedPracticeDefinition, CuratedPracticeRequest, CuratedPracticeSummary, CurrentUserView, DecideFeedbackProposalData, DecideFeedbackProposalRequest, DecideFeedbackProposalResponse, DecideFeedbackProposalResponses, DeleteAgentData, DeleteAgentResponse, DeleteAgentResponses, DeleteAreaData, DeleteAreaErrors, DeleteAreaResponse, DeleteAreaResponses, DeleteCurrentUserData, DeleteCurrentUserResponses, DeleteOutlineCollectionData, DeleteOutlineCollectionErrors, DeleteOutlineCollectionResponse, DeleteOutlineCollectionResponses, DeletePracticeData, DeletePracticeError, DeletePracticeErrors, DeletePracticeResponse, DeletePracticeResponses, DeleteSweepScheduleData, DeleteSweepScheduleError, DeleteSweepScheduleErrors, DeleteSweepScheduleResponse, DeleteSweepScheduleResponses, DeleteThreadData, DeleteThreadErrors, DeleteThreadResponse, DeleteThreadResponses, DeveloperPracticeSummary, DownloadDataExportData, DownloadDataExportResponse, DownloadDataExportResponses, EvidenceCitation, ExitImpersonationData, ExitImpersonationResponses, ExportCreated, ExportStatus, FeatureFlags, FeedbackApproval, FxRateInfo, GetActivityMonitorData, GetActivityMonitorResponse, GetActivityMonitorResponses, GetAgentJobData, GetAgentJobErrors, GetAgentJobResponse, GetAgentJobResponses, GetAllAchievementDefinitionsData, GetAllAchievementDefinitionsResponse, GetAllAchievementDefinitionsResponses, GetAllTeamsData, GetAllTeamsResponse, GetAllTeamsResponses, GetAreaData, GetAreaErrors, GetAreaResponse, GetAreaResponses, GetArtifactTraceData, GetArtifactTraceError, GetArtifactTraceErrors, GetArtifactTraceResponse, GetArtifactTraceResponses, GetBackfillRunData, GetBackfillRunError, GetBackfillRunErrors, GetBackfillRunResponse, GetBackfillRunResponses, GetConnectionSyncStatusData, GetConnectionSyncStatusResponse, GetConnectionSyncStatusResponses, GetCuratedPracticeCatalogEntryData, GetCuratedPracticeCatalogEntryResponse, GetCuratedPracticeCatalogEntryResponses, GetCurrentUserData, GetCurrentUserMembershipData, GetCurrentUserMembershipResponse, GetCurrentUserMembershipResponses, GetCurrentUserResponse, GetCurrentUserResponses, GetDataExportStatusData, GetDataExportStatusResponse, GetDataExportStatusResponses, GetEngagementData, GetEngagementResponse, GetEngagementResponses, GetFeedbackProposalDecisionData, GetFeedbackProposalDecisionResponse, GetFeedbackProposalDecisionResponses, GetInAppFeedbackData, GetInAppFeedbackResponse, GetInAppFeedbackResponses, GetIntegrationCatalogData, GetIntegrationCatalogResponse, GetIntegrationCatalogResponses, GetJwksData, GetJwksResponse, GetJwksResponses, GetLabelFiltersData, GetLabelFiltersResponse, GetLabelFiltersResponses, GetLatestReactionData, GetLatestReactionErrors, GetLatestReactionResponse, GetLatestReactionResponses, GetLeaderboardData, GetLeaderboardResponse, GetLeaderboardResponses, GetLlmUsageReportData, GetLlmUsageReportResponse, GetLlmUsageReportResponses, GetMemberData, GetMemberResponse, GetMemberResponses, GetObservationData, GetObservationErrors, GetObservationResponse, GetObservationResponses, GetObservationsForPullRequestData, GetObservationsForPullRequestResponse, GetObservationsForPullRequestResponses, GetOutlineCollectionData, GetOutlineCollectionErrors, GetOutlineCollectionResponse, GetOutlineCollectionResponses, GetOutlineTokenStatusData, GetOutlineTokenStatusErrors, GetOutlineTokenStatusResponse, GetOutlineTokenStatusResponses, GetPracticeData, GetPracticeDefinitionOptionsData, GetPracticeDefinitionOptionsResponse, GetPracticeDefinitionOptionsResponses, GetPracticeError, GetPracticeErrors, GetPracticeResponse, GetPracticeResponses, GetPracticeReviewFeedbackData, GetPracticeReviewFeedbackError, GetPracticeReviewFeedbackErrors, GetPracticeReviewFeedbackResponse, GetPracticeReviewFeedbackResponses, GetPracticeReviewObservationData, GetPracticeReviewObservationError, GetPracticeReviewObservationErrors, GetPracticeReviewObservationResponse, GetPracticeReviewObservationResponses, GetPracticeReviewSettingsData, GetPracticeReviewSettingsResponse, GetPracticeReviewSettingsResponses, GetProvidersData, GetProvidersResponse, GetProvidersResponses, GetReflectionData, GetReflectionResponse, GetReflectionResponses, GetRepositoriesToMonitorData, GetRepositoriesToMonitorResponse, GetRepositoriesToMonitorResponses, GetRepositorySettingsData, GetRepositorySettingsResponse, GetRepositorySettingsResponses, GetSlackUserPreferencesData, GetSlackUserPreferencesResponse, GetSlackUserPreferencesResponses, GetSummaryData, GetSummaryResponse, GetSummaryResponses, GetTeamSettingsData, GetTeamSettingsResponse, GetTeamSettingsResponses, GetThreadData, GetThreadErrors, GetThreadResponse, GetThreadResponses, GetUserAchievementsData, GetUserAchievementsResponse, GetUserAchievementsResponses, GetUserFeaturesData, GetUserFeaturesResponse, GetUserFeaturesResponses, GetUserProfileData, GetUserProfileResponse, GetUserProfileResponses, GetUserSettingsData, GetUserSettingsResponse, GetUserSettingsResponses, GetUsersWithTeamsData, GetUsersWithTeamsResponse, GetUsersWithTeamsResponses, GetWorkspaceData, GetWorkspaceResponse, GetWorkspaceResponses, GitHubProvider, GitLabGroup, GitLabPreflightData, GitLabPreflightRequest, GitLabPreflightResponse, GitLabPreflightResponse2, GitLabPreflightResponses, GitLabProvider, IdentityProviderView, IdentityView, ImpersonateData, ImpersonateRequest, ImpersonateResponses, InAppEvidence, InAppFeedback, InitiateConnectionRequest, InitiateConnectionResponse, InitiateData, InitiateResponse, InitiateResponses, InstanceLlmSettings, InstanceSettings, IntegrationCatalogEntry, LabelInfo, LeaderboardEntry, LeagueChange, LearnerPractice, LinearAchievementProgress, LinkedProvider, ListAgentJobsData, ListAgentJobsResponse, ListAgentJobsResponses, ListAgentsData, ListAgentsResponse, ListAgentsResponses, ListAreasData, ListAreasResponse, ListAreasResponses, ListBackfillRunsData, ListBackfillRunsResponse, ListBackfillRunsResponses, ListConnectionSyncJobsData, ListConnectionSyncJobsResponse, ListConnectionSyncJobsResponses, ListConnectionSyncResourcesData, ListConnectionSyncResourcesResponse, ListConnectionSyncResourcesResponses, ListData, ListGitLabGroupsData, ListGitLabGroupsResponse, ListGitLabGroupsResponses, ListGlobalContributorsData, ListGlobalContributorsResponse, ListGlobalContributorsResponses, ListIdentityProvidersData, ListIdentityProvidersResponse, ListIdentityProvidersResponses, ListLearnerPracticesData, ListLearnerPracticesResponse, ListLearnerPracticesResponses, ListLinkedIdentitiesData, ListLinkedIdentitiesResponse, ListLinkedIdentitiesResponses, ListMembersData, ListMembersResponse, ListMembersResponses, ListObservationsData, ListObservationsResponse, ListObservationsResponses, ListOutlineCollectionCandidatesData, ListOutlineCollectionCandidatesErrors, ListOutlineCollectionCandidatesResponse, ListOutlineCollectionCandidatesResponses, ListOutlineCollectionsData, ListOutlineCollectionsErrors, ListOutlineCollectionsResponse, ListOutlineCollectionsResponses, ListPracticeEvidenceOutcomesData, ListPracticeEvidenceOutcomesResponse, ListPracticeEvidenceOutcomesResponses, ListPracticeReviewFeedbackData, ListPracticeReviewFeedbackError, ListPracticeReviewFeedbackErrors, ListPracticeReviewFeedbackResponse, ListPracticeReviewFeedbackResponses, ListPracticeReviewObservationsData, ListPracticeReviewObservationsError, ListPracticeReviewObservationsErrors, ListPracticeReviewObservationsResponse, ListPracticeReviewObservationsResponses, ListPracticeReviewsData, ListPracticeReviewsError, ListPracticeReviewsErrors, ListPracticeReviewsResponse, ListPracticeReviewsResponses, ListPracticesData, ListPracticesResponse, ListPracticesResponses, ListResponse, ListResponses, ListSessionsData, ListSessionsResponse, ListSessionsResponses, ListSlackChannelCandidatesData, ListSlackChannelCandidatesResponse, ListSlackChannelCandidatesResponses, ListSlackChannelConsentEventsData, ListSlackChannelConsentEventsResponse, ListSlackChannelConsentEventsResponses, ListSlackChannelsData, ListSlackChannelsResponse, ListSlackChannelsResponses, ListSweepSchedulesData, ListSweepSchedulesResponse, ListSweepSchedulesResponses, ListThreadsData, ListThreadsResponse, ListThreadsResponses, ListTracedArtifactsData, ListTracedArtifactsError, ListTracedArtifactsErrors, ListTracedArtifactsResponse, ListTracedArtifactsResponses, ListWorkspaceConfigAuditEventsData, ListWorkspaceConfigAuditEventsResponse, ListWorkspaceConfigAuditEventsResponses, ListWorkspacesData, ListWorkspacesResponse, ListWorkspacesResponses, LlmConnection, LlmModel, LlmModelPrice, LlmProbeResult, LlmUsageByDay, LlmUsageByJobType, LoginProviderView, LogoutData, LogoutResponses, ObservationDetail, ObservationEvidence, ObservationList, OutlineCollection, OutlineCollectionCandidate, OutlineTokenStatus, PageableObject, PageAgentJob, PageAuthEventView, PageConfigAuditEntryView, PagedModelReviewFeedback, PagedModelReviewObservation, PagedModelReviewRunSummary, PagedModelTracedArtifact, PageMetadata, PageObservationList, PageSyncJob, PlacePracticeData, PlacePracticeError, PlacePracticeErrors, PlacePracticeRequest, PlacePracticeResponse, PlacePracticeResponses, Practice, PracticeArea, PracticeAutomatedReview, PracticeAutomatedReviewPolicy, PracticeAutomatedReviewValidation, PracticeBinding, PracticeDefinitionOptions, PracticeEvidenceBlocker, PracticeEvidenceLimitation, PracticeEvidenceOutcome, PracticeEvidenceRequirement, PracticeEvidenceSourceOption, PracticeManualReviewSignal, PracticeReviewSettings, PracticeSignalOption, PracticeSubject, PracticeSubjectClause, PracticeTraceEntry, PracticeWorkTypeDefinitionOptions, PreflightBackfillRunData, PreflightBackfillRunError, PreflightBackfillRunErrors, PreflightBackfillRunResponse, PreflightBackfillRunResponses, ProbeLlmConnectionRequest, ProblemDetail, Profile, ProfileActivityMonitor, ProfileActivityStats, ProfileReviewActivity, ProfileXpRecord, PullRequestBaseInfo, PullRequestInfo, PurgeWorkspaceData, PurgeWorkspaceResponse, PurgeWorkspaceResponses, RateLimitSnapshot, Reaction, ReactionEngagement, ReadData, ReadResponse, ReadResponses, RecalculateUserAchievementsData, RecalculateUserAchievementsResponses, ReflectionItem, ReflectionPractice, RefreshData, RefreshResponses, RegisterOutlineCollectionData, RegisterOutlineCollectionErrors, RegisterOutlineCollectionRequest, RegisterOutlineCollectionResponse, RegisterOutlineCollectionResponses, RegisterSlackChannelData, RegisterSlackChannelRequest, RegisterSlackChannelResponse, RegisterSlackChannelResponses, ReloadAchievementsData, ReloadAchievementsResponses, RemoveLabelFilterData, RemoveLabelFilterErrors, RemoveLabelFilterResponse, RemoveLabelFilterResponses, RemoveLabelFromTeamData, RemoveLabelFromTeamResponse, RemoveLabelFromTeamResponses, RemoveMemberData, RemoveMemberResponses, RemoveRepositoryToMonitorData, RemoveRepositoryToMonitorResponses, RemoveVoteData, RemoveVoteErrors, RemoveVoteResponse, RemoveVoteResponses, RenameSlugData, RenameSlugResponse, RenameSlugResponses, RenameWorkspaceSlugRequest, ReorderAreasData, ReorderAreasErrors, ReorderAreasResponse, ReorderAreasResponses, ReorderPracticeAreasRequest, ReorderPracticesData, ReorderPracticesError, ReorderPracticesErrors, ReorderPracticesRequest, ReorderPracticesResponse, ReorderPracticesResponses, ReplaceSweepScheduleData, ReplaceSweepScheduleError, ReplaceSweepScheduleErrors, ReplaceSweepScheduleResponse, ReplaceSweepScheduleResponses, RepositoryInfo, RequestDataExportData, RequestDataExportResponse, RequestDataExportResponses, RequestPracticeReviewData, RequestPracticeReviewError, RequestPracticeReviewErrors, RequestPracticeReviewResponse, RequestPracticeReviewResponses, ResetAndRecalculateLeaguesData, ResetAndRecalculateLeaguesResponses, ResourceCounts, RetryAgentJobDeliveryData, RetryAgentJobDeliveryErrors, RetryAgentJobDeliveryResponse, RetryAgentJobDeliveryResponses, ReviewArtifact, ReviewBackfillRun, ReviewBoundFeedback, ReviewBoundObservation, ReviewFeedback, ReviewFeedbackCounts, ReviewFeedbackDetail, ReviewFeedbackDisposition, ReviewObservation, ReviewObservationCounts, ReviewObservationDetail, ReviewPlacement, ReviewPracticeArea, ReviewRequestOutcome, ReviewRunSummary, ReviewRunTarget, ReviewSubject, ReviewSweepSchedule, RevokeOtherSessionsData, RevokeOtherSessionsResponses, RevokeSessionData, RevokeSessionResponses, RevokeSessionsResult, SendSlackTestMessageData, SendSlackTestMessageResponse, SendSlackTestMessageResponses, SessionView, SetAreaAutonomyData, SetAreaAutonomyErrors, SetAreaAutonomyResponse, SetAreaAutonomyResponses, SetAutonomyData, SetAutonomyError, SetAutonomyErrors, SetAutonomyResponse, SetAutonomyResponses, SlackChannelCandidate, SlackChannelConsentEvent, SlackMonitoredChannel, SlackTestMessageRequest, SlackTestMessageResponse, SlackUserPreferences, SlackUserWorkspacePreferences, SortObject, SubmitReactionData, SubmitReactionErrors, SubmitReactionResponse, SubmitReactionResponses, SyncJob, SyncResourceCount, SyncResourceState, TeamInfo, TeamSummary, TracedArtifact, TracedSignal, TriggerSyncJobData, TriggerSyncJobError, TriggerSyncJobErrors, TriggerSyncJobRequest, TriggerSyncJobResponse, TriggerSyncJobResponses, UnlinkIdentityData, UnlinkIdentityErrors, UnlinkIdentityResponse, UnlinkIdentityResponses, UpdateAccountRequest, UpdateAreaData, UpdateAreaErrors, UpdateAreaResponse, UpdateAreaResponses, UpdateBackfillRunStatusData, UpdateBackfillRunStatusError, UpdateBackfillRunStatusErrors, UpdateBackfillRunStatusResponse, UpdateBackfillRunStatusResponses, UpdateConnectionStatusData, UpdateConnectionStatusRequest, UpdateConnectionStatusResponse, UpdateConnectionStatusResponses, UpdateConnectionSyncJobData, UpdateConnectionSyncJobError, UpdateConnectionSyncJobErrors, UpdateConnectionSyncJobResponse, UpdateConnectionSyncJobResponses, UpdateCuratedStatusRequest, UpdateFeaturesData, UpdateFeaturesResponse, UpdateFeaturesResponses, UpdateInstanceLlmSettingsRequest, UpdateLeaderboardDigestData, UpdateLeaderboardDigestRequest, UpdateLeaderboardDigestResponse, UpdateLeaderboardDigestResponses, UpdateLlmBudgetRequest, UpdateLlmConnectionRequest, UpdateLlmModelPriceRequest, UpdateLlmModelRequest, UpdateLlmModelSharingRequest, UpdateLoginProviderRequest, UpdateMemberVisibilityData, UpdateMemberVisibilityResponse, UpdateMemberVisibilityResponses, UpdateNotificationsData, UpdateNotificationsResponse, UpdateNotificationsResponses, UpdateOutlineCollectionStateData, UpdateOutlineCollectionStateErrors, UpdateOutlineCollectionStateRequest, UpdateOutlineCollectionStateResponse, UpdateOutlineCollectionStateResponses, UpdatePracticeAreaRequest, UpdatePracticeAutonomyRequest, UpdatePracticeData, UpdatePracticeError, UpdatePracticeErrors, UpdatePracticeRequest, UpdatePracticeResponse, UpdatePracticeResponses, UpdatePracticeReviewSettingsData, UpdatePracticeReviewSettingsRequest, UpdatePracticeReviewSettingsResponse, UpdatePracticeReviewSettingsResponses, UpdatePublicVisibilityData, UpdatePublicVisibilityResponse, UpdatePublicVisibilityResponses, UpdateRepositorySettingsData, UpdateRepositorySettingsError, UpdateRepositorySettingsErrors, UpdateRepositorySettingsRequest, UpdateRepositorySettingsResponse, UpdateRepositorySettingsResponses, UpdateRepositoryVisibilityData, UpdateRepositoryVisibilityResponses, UpdateReviewBackfillRunStatusRequest, UpdateReviewSweepScheduleRequest, UpdateScheduleData, UpdateScheduleResponse, UpdateScheduleResponses, UpdateSilentModeRequest, UpdateSlackChannelConsentData, UpdateSlackChannelConsentRequest, UpdateSlackChannelConsentResponse, UpdateSlackChannelConsentResponses, UpdateSlackUserPreferencesData, UpdateSlackUserPreferencesRequest, UpdateSlackUserPreferencesResponse, UpdateSlackUserPreferencesResponses, UpdateStatusData, UpdateStatusResponse, UpdateStatusResponses, UpdateSyncJobRequest, UpdateTeamSettingsData, UpdateTeamSettingsError, UpdateTeamSettingsErrors, UpdateTeamSettingsRequest, UpdateTeamSettingsResponse, UpdateTeamSettingsResponses, UpdateTeamVisibilityData, UpdateTeamVisibilityResponses, UpdateTokenData, UpdateTokenResponse, UpdateTokenResponses, UpdateUserSettingsData, UpdateUserSettingsResponse, UpdateUserSettingsResponses, UpdateWorkspaceFeaturesRequest, UpdateWorkspaceLlmBudgetData, UpdateWorkspaceLlmBudgetResponse, UpdateWorkspaceLlmBudgetResponses, UpdateWorkspaceLlmConnectionRequest, UpdateWorkspaceLlmModelRequest, UpdateWorkspaceNotificationsRequest, UpdateWorkspacePublicVisibilityRequest, UpdateWorkspaceScheduleRequest, UpdateWorkspaceStatusRequest, UpdateWorkspaceTokenRequest, UserInfo, UserSettings, UserTeams, VoteData, VoteErrors, VoteResponse, VoteResponses, Workspace, WorkspaceCreateLlmConnectionData, WorkspaceCreateLlmConnectionErrors, WorkspaceCreateLlmConnectionResponse, WorkspaceCreateLlmConnectionResponses, WorkspaceCreateLlmModelData, WorkspaceCreateLlmModelErrors, WorkspaceCreateLlmModelResponse, WorkspaceCreateLlmModelResponses, WorkspaceDeleteLlmConnectionData, WorkspaceDeleteLlmConnectionErrors, WorkspaceDeleteLlmConnectionResponse, WorkspaceDeleteLlmConnectionResponses, WorkspaceDeleteLlmModelData, WorkspaceDeleteLlmModelErrors, WorkspaceDeleteLlmModelResponse, WorkspaceDeleteLlmModelResponses, WorkspaceGetLlmConnectionData, WorkspaceGetLlmConnectionErrors, WorkspaceGetLlmConnectionResponse, WorkspaceGetLlmConnectionResponses, WorkspaceGetLlmModelData, WorkspaceGetLlmModelErrors, WorkspaceGetLlmModelResponse, WorkspaceGetLlmModelResponses, WorkspaceGetLlmSettingsData, WorkspaceGetLlmSettingsResponse, WorkspaceGetLlmSettingsResponses, WorkspaceListAvailableLlmModelsData, WorkspaceListAvailableLlmModelsResponse, WorkspaceListAvailableLlmModelsResponses, WorkspaceListItem, WorkspaceListLlmConnectionsData, WorkspaceListLlmConnectionsResponse, WorkspaceListLlmConnectionsResponses, WorkspaceListLlmModelsData, WorkspaceListLlmModelsResponse, WorkspaceListLlmModelsResponses, WorkspaceLlmConnection, WorkspaceLlmModel, WorkspaceLlmProbeResult, WorkspaceLlmSettings, WorkspaceLlmUsageReport, WorkspaceMembership, WorkspaceProbeLlmConnectionData, WorkspaceProbeLlmConnectionResponse, WorkspaceProbeLlmConnectionResponses, WorkspaceProviders, WorkspaceReviewScope, WorkspaceTeamRepositorySettings, WorkspaceTeamSettings, WorkspaceUpdateLlmConnectionData, WorkspaceUpdateLlmConnectionErrors, WorkspaceUpdateLlmConnectionResponse, WorkspaceUpdateLlmConnectionResponses, WorkspaceUpdateLlmModelData, WorkspaceUpdateLlmModelErrors, WorkspaceUpdateLlmModelResponse, WorkspaceUpdateLlmModelResponses } from './types.gen';
+export { addLabelFilter, addLabelToTeam, addRepositoryToMonitor, adminCreateCuratedArea, adminCreateCuratedPractice, adminCreateLlmConnection, adminCreateLlmModel, adminCreateLoginProvider, adminDeleteCuratedAreaOverride, adminDeleteCuratedPracticeOverride, adminDeleteLlmConnection, adminDeleteLlmModel, adminDeleteLoginProvider, adminExportAuthEvents, adminGetCuratedArea, adminGetCuratedCatalog, adminGetCuratedPractice, adminGetInstanceSettings, adminGetLlmConnection, adminGetLlmModel, adminGetLlmSettings, adminGetLlmUsageReport, adminGetPracticeDefinitionOptions, adminKeepCuratedArea, adminKeepCuratedPractice, adminListAuthEvents, adminListConfigAuditEvents, adminListLlmConnections, adminListLlmModels, adminListLoginProviders, adminListUsers, adminListWorkspaces, adminPlaceCuratedPractice, adminProbeLlmConnection, adminProbeLlmConnectionDraft, adminReorderCuratedAreas, adminReorderCuratedPractices, adminResetCuratedCatalogOrder, adminRevokeUserSessions, adminUpdateCuratedArea, adminUpdateCuratedAreaStatus, adminUpdateCuratedPractice, adminUpdateCuratedPracticeStatus, adminUpdateLlmConnection, adminUpdateLlmModel, adminUpdateLlmModelPrice, adminUpdateLlmModelSharing, adminUpdateLlmSettings, adminUpdateLoginProvider, adminUpdateSilentMode, adminUpdateUser, adminUpdateWorkspaceLlmBudget, assignRole, audit, autonomyRollup, bindArea, callbackGet, callbackPost, cancelAgentJob, computeUserLeagueStats, configureAgent, createArea, createPractice, createSweepSchedule, createWorkspace, decideFeedbackProposal, deleteAgent, deleteArea, deleteCurrentUser, deleteOutlineCollection, deletePractice, deleteSweepSchedule, deleteThread, downloadDataExport, exitImpersonation, getActivityMonitor, getAgentJob, getAllAchievementDefinitions, getAllTeams, getArea, getArtifactTrace, getBackfillRun, getConnectionSyncStatus, getCuratedPracticeCatalogEntry, getCurrentUser, getCurrentUserMembership, getDataExportStatus, getEngagement, getFeedbackProposalDecision, getInAppFeedback, getIntegrationCatalog, getJwks, getLabelFilters, getLatestReaction, getLeaderboard, getLlmUsageReport, getMember, getObservation, getObservationsForPullRequest, getOutlineCollection, getOutlineTokenStatus, getPractice, getPracticeDefinitionOptions, getPracticeReviewFeedback, getPracticeReviewObservation, getPracticeReviewSettings, getProviders, getReflection, getRepositoriesToMonitor, getRepositorySettings, getSlackUserPreferences, getSummary, getTeamSettings, getThread, getUserAchievements, getUserFeatures, getUserProfile, getUserSettings, getUsersWithTeams, getWorkspace, gitLabPreflight, impersonate, initiate, list, listAgentJobs, listAgents, listAreas, listBackfillRuns, listConnectionSyncJobs, listConnectionSyncResources, listGitLabGroups, listGlobalContributors, listIdentityProviders, listLearnerPractices, listLinkedIdentities, listMembers, listObservations, listOutlineCollectionCandidates, listOutlineCollections, listPracticeEvidenceOutcomes, listPracticeReviewFeedback, listPracticeReviewObservations, listPracticeReviews, listPractices, listSessions, listSlackChannelCandidates, listSlackChannelConsentEvents, listSlackChannels, listSweepSchedules, listThreads, listTracedArtifacts, listWorkspaceConfigAuditEvents, listWorkspaces, logout, type Options, placePractice, preflightBackfillRun, purgeWorkspace, read, recalculateUserAchievements, recalculateWorkspaceAchievements, refresh, registerOutlineCollection, registerSlackChannel, reloadAchievements, removeLabelFilter, removeLabelFromTeam, removeMember, removeRepositoryToMonitor, removeVote, renameSlug, reorderAreas, reorderPractices, replaceSweepSchedule, requestDataExport, requestPracticeReview, resetAndRecalculateLeagues, retryAgentJobDelivery, revokeOtherSessions, revokeSession, sendSlackTestMessage, setAreaAutonomy, setAutonomy, submitReaction, triggerSyncJob, unlinkIdentity, updateArea, updateBackfillRunStatus, updateConnectionStatus, updateConnectionSyncJob, updateFeatures, updateLeaderboardDigest, updateMemberVisibility, updateNotifications, updateOutlineCollectionState, updatePractice, updatePracticeReviewSettings, updatePublicVisibility, updateRepositorySettings, updateRepositoryVisibility, updateSchedule, updateSlackChannelConsent, updateSlackUserPreferences, updateStatus, updateTeamSettings, updateTeamVisibility, updateToken, updateUserSettings, updateWorkspaceLlmBudget, vote, workspaceCreateLlmConnection, workspaceCreateLlmModel, workspaceDeleteLlmConnection, workspaceDeleteLlmModel, workspaceGetLlmConnection, workspaceGetLlmModel, workspaceGetLlmSettings, workspaceListAvailableLlmModels, workspaceListLlmConnections, workspaceListLlmModels, workspaceProbeLlmConnection, workspaceUpdateLlmConnection, workspaceUpdateLlmModel } from './sdk.gen';
+export type { AccountRef, Achievement, AchievementId, AchievementProgress, AddLabelFilterData, AddLabelFilterErrors, AddLabelFilterResponses, AddLabelToTeamData, AddLabelToTeamResponse, AddLabelToTeamResponses, AddRepositoryToMonitorData, AddRepositoryToMonitorResponses, AdminAccountView, AdminCreateCuratedAreaData, AdminCreateCuratedAreaError, AdminCreateCuratedAreaErrors, AdminCreateCuratedAreaResponse, AdminCreateCuratedAreaResponses, AdminCreateCuratedPracticeData, AdminCreateCuratedPracticeError, AdminCreateCuratedPracticeErrors, AdminCreateCuratedPracticeResponse, AdminCreateCuratedPracticeResponses, AdminCreateLlmConnectionData, AdminCreateLlmConnectionErrors, AdminCreateLlmConnectionResponse, AdminCreateLlmConnectionResponses, AdminCreateLlmModelData, AdminCreateLlmModelErrors, AdminCreateLlmModelResponse, AdminCreateLlmModelResponses, AdminCreateLoginProviderData, AdminCreateLoginProviderResponse, AdminCreateLoginProviderResponses, AdminDeleteCuratedAreaOverrideData, AdminDeleteCuratedAreaOverrideError, AdminDeleteCuratedAreaOverrideErrors, AdminDeleteCuratedAreaOverrideResponse, AdminDeleteCuratedAreaOverrideResponses, AdminDeleteCuratedPracticeOverrideData, AdminDeleteCuratedPracticeOverrideError, AdminDeleteCuratedPracticeOverrideErrors, AdminDeleteCuratedPracticeOverrideResponse, AdminDeleteCuratedPracticeOverrideResponses, AdminDeleteLlmConnectionData, AdminDeleteLlmConnectionErrors, AdminDeleteLlmConnectionResponse, AdminDeleteLlmConnectionResponses, AdminDeleteLlmModelData, AdminDeleteLlmModelErrors, AdminDeleteLlmModelResponse, AdminDeleteLlmModelResponses, AdminDeleteLoginProviderData, AdminDeleteLoginProviderResponses, AdminExportAuthEventsData, AdminExportAuthEventsResponse, AdminExportAuthEventsResponses, AdminGetCuratedAreaData, AdminGetCuratedAreaResponse, AdminGetCuratedAreaResponses, AdminGetCuratedCatalogData, AdminGetCuratedCatalogResponse, AdminGetCuratedCatalogResponses, AdminGetCuratedPracticeData, AdminGetCuratedPracticeResponse, AdminGetCuratedPracticeResponses, AdminGetInstanceSettingsData, AdminGetInstanceSettingsResponse, AdminGetInstanceSettingsResponses, AdminGetLlmConnectionData, AdminGetLlmConnectionErrors, AdminGetLlmConnectionResponse, AdminGetLlmConnectionResponses, AdminGetLlmModelData, AdminGetLlmModelErrors, AdminGetLlmModelResponse, AdminGetLlmModelResponses, AdminGetLlmSettingsData, AdminGetLlmSettingsResponse, AdminGetLlmSettingsResponses, AdminGetLlmUsageReportData, AdminGetLlmUsageReportResponse, AdminGetLlmUsageReportResponses, AdminGetPracticeDefinitionOptionsData, AdminGetPracticeDefinitionOptionsResponse, AdminGetPracticeDefinitionOptionsResponses, AdminKeepCuratedAreaData, AdminKeepCuratedAreaError, AdminKeepCuratedAreaErrors, AdminKeepCuratedAreaResponse, AdminKeepCuratedAreaResponses, AdminKeepCuratedPracticeData, AdminKeepCuratedPracticeError, AdminKeepCuratedPracticeErrors, AdminKeepCuratedPracticeResponse, AdminKeepCuratedPracticeResponses, AdminListAuthEventsData, AdminListAuthEventsResponse, AdminListAuthEventsResponses, AdminListConfigAuditEventsData, AdminListConfigAuditEventsResponse, AdminListConfigAuditEventsResponses, AdminListLlmConnectionsData, AdminListLlmConnectionsResponse, AdminListLlmConnectionsResponses, AdminListLlmModelsData, AdminListLlmModelsResponse, AdminListLlmModelsResponses, AdminListLoginProvidersData, AdminListLoginProvidersResponse, AdminListLoginProvidersResponses, AdminListUsersData, AdminListUsersResponse, AdminListUsersResponses, AdminListWorkspacesData, AdminListWorkspacesResponse, AdminListWorkspacesResponses, AdminLlmUsageReport, AdminPlaceCuratedPracticeData, AdminPlaceCuratedPracticeResponse, AdminPlaceCuratedPracticeResponses, AdminProbeLlmConnectionData, AdminProbeLlmConnectionDraftData, AdminProbeLlmConnectionDraftResponse, AdminProbeLlmConnectionDraftResponses, AdminProbeLlmConnectionResponse, AdminProbeLlmConnectionResponses, AdminReorderCuratedAreasData, AdminReorderCuratedAreasResponse, AdminReorderCuratedAreasResponses, AdminReorderCuratedPracticesData, AdminReorderCuratedPracticesResponse, AdminReorderCuratedPracticesResponses, AdminResetCuratedCatalogOrderData, AdminResetCuratedCatalogOrderResponse, AdminResetCuratedCatalogOrderResponses, AdminRevokeUserSessionsData, AdminRevokeUserSessionsResponse, AdminRevokeUserSessionsResponses, AdminUpdateCuratedAreaData, AdminUpdateCuratedAreaError, AdminUpdateCuratedAreaErrors, AdminUpdateCuratedAreaResponse, AdminUpdateCuratedAreaResponses, AdminUpdateCuratedAreaStatusData, AdminUpdateCuratedAreaStatusError, AdminUpdateCuratedAreaStatusErrors, AdminUpdateCuratedAreaStatusResponse, AdminUpdateCuratedAreaStatusResponses, AdminUpdateCuratedPracticeData, AdminUpdateCuratedPracticeError, AdminUpdateCuratedPracticeErrors, AdminUpdateCuratedPracticeResponse, AdminUpdateCuratedPracticeResponses, AdminUpdateCuratedPracticeStatusData, AdminUpdateCuratedPracticeStatusError, AdminUpdateCuratedPracticeStatusErrors, AdminUpdateCuratedPracticeStatusResponse, AdminUpdateCuratedPracticeStatusResponses, AdminUpdateLlmConnectionData, AdminUpdateLlmConnectionErrors, AdminUpdateLlmConnectionResponse, AdminUpdateLlmConnectionResponses, AdminUpdateLlmModelData, AdminUpdateLlmModelErrors, AdminUpdateLlmModelPriceData, AdminUpdateLlmModelPriceErrors, AdminUpdateLlmModelPriceResponse, AdminUpdateLlmModelPriceResponses, AdminUpdateLlmModelResponse, AdminUpdateLlmModelResponses, AdminUpdateLlmModelSharingData, AdminUpdateLlmModelSharingErrors, AdminUpdateLlmModelSharingResponse, AdminUpdateLlmModelSharingResponses, AdminUpdateLlmSettingsData, AdminUpdateLlmSettingsResponse, AdminUpdateLlmSettingsResponses, AdminUpdateLoginProviderData, AdminUpdateLoginProviderResponse, AdminUpdateLoginProviderResponses, AdminUpdateSilentModeData, AdminUpdateSilentModeError, AdminUpdateSilentModeErrors, AdminUpdateSilentModeResponse, AdminUpdateSilentModeResponses, AdminUpdateUserData, AdminUpdateUserResponse, AdminUpdateUserResponses, AdminUpdateWorkspaceLlmBudgetData, AdminUpdateWorkspaceLlmBudgetResponse, AdminUpdateWorkspaceLlmBudgetResponses, AdminWorkspaceLlmUsage, AdminWorkspaceView, AgentBinding, AgentBindingRequest, AgentJob, AreaAutonomyRollup, ArtifactTrace, AssignRoleData, AssignRoleRequest, AssignRoleResponse, AssignRoleResponses, AuditData, AuditResponse, AuditResponses, AuthEventView, AutonomyAssignment, AutonomyRollup, AutonomyRollupData, AutonomyRollupResponse, AutonomyRollupResponses, AvailableLlmModel, BackfillSummary, BinaryAchievementProgress, BindAreaData, BindAreaError, BindAreaErrors, BindAreaResponse, BindAreaResponses, BindPracticeAreaRequest, CallbackGetData, CallbackGetResponse, CallbackGetResponses, CallbackPostData, CallbackPostResponse, CallbackPostResponses, CancelAgentJobData, CancelAgentJobErrors, CancelAgentJobResponse, CancelAgentJobResponses, CatalogEntryStatus, CatalogOrigin, ChatMessage, ChatMessageVote, ChatMessageVoteRequest, ChatThreadDetail, ChatThreadSummary, ClientOptions, ComputeUserLeagueStatsData, ComputeUserLeagueStatsResponse, ComputeUserLeagueStatsResponses, ConfigAuditActorRef, ConfigAuditEntryView, ConfigureAgentData, ConfigureAgentErrors, ConfigureAgentResponse, ConfigureAgentResponses, ConnectionAuditEntry, ConnectionDetail, ConnectionSummary, ConnectionSyncStatus, Contributor, CreateAreaData, CreateAreaErrors, CreateAreaResponse, CreateAreaResponses, CreateCuratedAreaRequest, CreateCuratedPracticeRequest, CreateLlmConnectionRequest, CreateLlmModelRequest, CreateLoginProviderRequest, CreatePracticeAreaRequest, CreatePracticeData, CreatePracticeError, CreatePracticeErrors, CreatePracticeRequest, CreatePracticeResponse, CreatePracticeResponses, CreateReaction, CreateReviewBackfillRunRequest, CreateReviewRequest, CreateReviewSweepScheduleRequest, CreateSweepScheduleData, CreateSweepScheduleError, CreateSweepScheduleErrors, CreateSweepScheduleResponse, CreateSweepScheduleResponses, CreateWorkspaceData, CreateWorkspaceLlmConnectionRequest, CreateWorkspaceLlmModelRequest, CreateWorkspaceRequest, CreateWorkspaceResponse, CreateWorkspaceResponses, CuratedArea, CuratedAreaRequest, CuratedCatalog, CuratedCatalogSummary, CuratedPractice, CuratedPracticeDefinition, CuratedPracticeRequest, CuratedPracticeSummary, CurrentUserView, DecideFeedbackProposalData, DecideFeedbackProposalRequest, DecideFeedbackProposalResponse, DecideFeedbackProposalResponses, DeleteAgentData, DeleteAgentResponse, DeleteAgentResponses, DeleteAreaData, DeleteAreaErrors, DeleteAreaResponse, DeleteAreaResponses, DeleteCurrentUserData, DeleteCurrentUserResponses, DeleteOutlineCollectionData, DeleteOutlineCollectionErrors, DeleteOutlineCollectionResponse, DeleteOutlineCollectionResponses, DeletePracticeData, DeletePracticeError, DeletePracticeErrors, DeletePracticeResponse, DeletePracticeResponses, DeleteSweepScheduleData, DeleteSweepScheduleError, DeleteSweepScheduleErrors, DeleteSweepScheduleResponse, DeleteSweepScheduleResponses, DeleteThreadData, DeleteThreadErrors, DeleteThreadResponse, DeleteThreadResponses, DeveloperPracticeSummary, DownloadDataExportData, DownloadDataExportResponse, DownloadDataExportResponses, EvidenceCitation, ExitImpersonationData, ExitImpersonationResponses, ExportCreated, ExportStatus, FeatureFlags, FeedbackApproval, FxRateInfo, GetActivityMonitorData, GetActivityMonitorResponse, GetActivityMonitorResponses, GetAgentJobData, GetAgentJobErrors, GetAgentJobResponse, GetAgentJobResponses, GetAllAchievementDefinitionsData, GetAllAchievementDefinitionsResponse, GetAllAchievementDefinitionsResponses, GetAllTeamsData, GetAllTeamsResponse, GetAllTeamsResponses, GetAreaData, GetAreaErrors, GetAreaResponse, GetAreaResponses, GetArtifactTraceData, GetArtifactTraceError, GetArtifactTraceErrors, GetArtifactTraceResponse, GetArtifactTraceResponses, GetBackfillRunData, GetBackfillRunError, GetBackfillRunErrors, GetBackfillRunResponse, GetBackfillRunResponses, GetConnectionSyncStatusData, GetConnectionSyncStatusResponse, GetConnectionSyncStatusResponses, GetCuratedPracticeCatalogEntryData, GetCuratedPracticeCatalogEntryResponse, GetCuratedPracticeCatalogEntryResponses, GetCurrentUserData, GetCurrentUserMembershipData, GetCurrentUserMembershipResponse, GetCurrentUserMembershipResponses, GetCurrentUserResponse, GetCurrentUserResponses, GetDataExportStatusData, GetDataExportStatusResponse, GetDataExportStatusResponses, GetEngagementData, GetEngagementResponse, GetEngagementResponses, GetFeedbackProposalDecisionData, GetFeedbackProposalDecisionResponse, GetFeedbackProposalDecisionResponses, GetInAppFeedbackData, GetInAppFeedbackResponse, GetInAppFeedbackResponses, GetIntegrationCatalogData, GetIntegrationCatalogResponse, GetIntegrationCatalogResponses, GetJwksData, GetJwksResponse, GetJwksResponses, GetLabelFiltersData, GetLabelFiltersResponse, GetLabelFiltersResponses, GetLatestReactionData, GetLatestReactionErrors, GetLatestReactionResponse, GetLatestReactionResponses, GetLeaderboardData, GetLeaderboardResponse, GetLeaderboardResponses, GetLlmUsageReportData, GetLlmUsageReportResponse, GetLlmUsageReportResponses, GetMemberData, GetMemberResponse, GetMemberResponses, GetObservationData, GetObservationErrors, GetObservationResponse, GetObservationResponses, GetObservationsForPullRequestData, GetObservationsForPullRequestResponse, GetObservationsForPullRequestResponses, GetOutlineCollectionData, GetOutlineCollectionErrors, GetOutlineCollectionResponse, GetOutlineCollectionResponses, GetOutlineTokenStatusData, GetOutlineTokenStatusErrors, GetOutlineTokenStatusResponse, GetOutlineTokenStatusResponses, GetPracticeData, GetPracticeDefinitionOptionsData, GetPracticeDefinitionOptionsResponse, GetPracticeDefinitionOptionsResponses, GetPracticeError, GetPracticeErrors, GetPracticeResponse, GetPracticeResponses, GetPracticeReviewFeedbackData, GetPracticeReviewFeedbackError, GetPracticeReviewFeedbackErrors, GetPracticeReviewFeedbackResponse, GetPracticeReviewFeedbackResponses, GetPracticeReviewObservationData, GetPracticeReviewObservationError, GetPracticeReviewObservationErrors, GetPracticeReviewObservationResponse, GetPracticeReviewObservationResponses, GetPracticeReviewSettingsData, GetPracticeReviewSettingsResponse, GetPracticeReviewSettingsResponses, GetProvidersData, GetProvidersResponse, GetProvidersResponses, GetReflectionData, GetReflectionResponse, GetReflectionResponses, GetRepositoriesToMonitorData, GetRepositoriesToMonitorResponse, GetRepositoriesToMonitorResponses, GetRepositorySettingsData, GetRepositorySettingsResponse, GetRepositorySettingsResponses, GetSlackUserPreferencesData, GetSlackUserPreferencesResponse, GetSlackUserPreferencesResponses, GetSummaryData, GetSummaryResponse, GetSummaryResponses, GetTeamSettingsData, GetTeamSettingsResponse, GetTeamSettingsResponses, GetThreadData, GetThreadErrors, GetThreadResponse, GetThreadResponses, GetUserAchievementsData, GetUserAchievementsResponse, GetUserAchievementsResponses, GetUserFeaturesData, GetUserFeaturesResponse, GetUserFeaturesResponses, GetUserProfileData, GetUserProfileResponse, GetUserProfileResponses, GetUserSettingsData, GetUserSettingsResponse, GetUserSettingsResponses, GetUsersWithTeamsData, GetUsersWithTeamsResponse, GetUsersWithTeamsResponses, GetWorkspaceData, GetWorkspaceResponse, GetWorkspaceResponses, GitHubProvider, GitLabGroup, GitLabPreflightData, GitLabPreflightRequest, GitLabPreflightResponse, GitLabPreflightResponse2, GitLabPreflightResponses, GitLabProvider, IdentityProviderView, IdentityView, ImpersonateData, ImpersonateRequest, ImpersonateResponses, InAppEvidence, InAppFeedback, InitiateConnectionRequest, InitiateConnectionResponse, InitiateData, InitiateResponse, InitiateResponses, InstanceLlmSettings, InstanceSettings, IntegrationCatalogEntry, LabelInfo, LeaderboardEntry, LeagueChange, LearnerPractice, LinearAchievementProgress, LinkedProvider, ListAgentJobsData, ListAgentJobsResponse, ListAgentJobsResponses, ListAgentsData, ListAgentsResponse, ListAgentsResponses, ListAreasData, ListAreasResponse, ListAreasResponses, ListBackfillRunsData, ListBackfillRunsResponse, ListBackfillRunsResponses, ListConnectionSyncJobsData, ListConnectionSyncJobsResponse, ListConnectionSyncJobsResponses, ListConnectionSyncResourcesData, ListConnectionSyncResourcesResponse, ListConnectionSyncResourcesResponses, ListData, ListGitLabGroupsData, ListGitLabGroupsResponse, ListGitLabGroupsResponses, ListGlobalContributorsData, ListGlobalContributorsResponse, ListGlobalContributorsResponses, ListIdentityProvidersData, ListIdentityProvidersResponse, ListIdentityProvidersResponses, ListLearnerPracticesData, ListLearnerPracticesResponse, ListLearnerPracticesResponses, ListLinkedIdentitiesData, ListLinkedIdentitiesResponse, ListLinkedIdentitiesResponses, ListMembersData, ListMembersResponse, ListMembersResponses, ListObservationsData, ListObservationsResponse, ListObservationsResponses, ListOutlineCollectionCandidatesData, ListOutlineCollectionCandidatesErrors, ListOutlineCollectionCandidatesResponse, ListOutlineCollectionCandidatesResponses, ListOutlineCollectionsData, ListOutlineCollectionsErrors, ListOutlineCollectionsResponse, ListOutlineCollectionsResponses, ListPracticeEvidenceOutcomesData, ListPracticeEvidenceOutcomesResponse, ListPracticeEvidenceOutcomesResponses, ListPracticeReviewFeedbackData, ListPracticeReviewFeedbackError, ListPracticeReviewFeedbackErrors, ListPracticeReviewFeedbackResponse, ListPracticeReviewFeedbackResponses, ListPracticeReviewObservationsData, ListPracticeReviewObservationsError, ListPracticeReviewObservationsErrors, ListPracticeReviewObservationsResponse, ListPracticeReviewObservationsResponses, ListPracticeReviewsData, ListPracticeReviewsError, ListPracticeReviewsErrors, ListPracticeReviewsResponse, ListPracticeReviewsResponses, ListPracticesData, ListPracticesResponse, ListPracticesResponses, ListResponse, ListResponses, ListSessionsData, ListSessionsResponse, ListSessionsResponses, ListSlackChannelCandidatesData, ListSlackChannelCandidatesResponse, ListSlackChannelCandidatesResponses, ListSlackChannelConsentEventsData, ListSlackChannelConsentEventsResponse, ListSlackChannelConsentEventsResponses, ListSlackChannelsData, ListSlackChannelsResponse, ListSlackChannelsResponses, ListSweepSchedulesData, ListSweepSchedulesResponse, ListSweepSchedulesResponses, ListThreadsData, ListThreadsResponse, ListThreadsResponses, ListTracedArtifactsData, ListTracedArtifactsError, ListTracedArtifactsErrors, ListTracedArtifactsResponse, ListTracedArtifactsResponses, ListWorkspaceConfigAuditEventsData, ListWorkspaceConfigAuditEventsResponse, ListWorkspaceConfigAuditEventsResponses, ListWorkspacesData, ListWorkspacesResponse, ListWorkspacesResponses, LlmConnection, LlmModel, LlmModelPrice, LlmProbeResult, LlmUsageByDay, LlmUsageByJobType, LoginProviderView, LogoutData, LogoutResponses, ObservationDetail, ObservationEvidence, ObservationList, OutlineCollection, OutlineCollectionCandidate, OutlineTokenStatus, PageableObject, PageAgentJob, PageAuthEventView, PageConfigAuditEntryView, PagedModelReviewFeedback, PagedModelReviewObservation, PagedModelReviewRunSummary, PagedModelTracedArtifact, PageMetadata, PageObservationList, PageSyncJob, PlacePracticeData, PlacePracticeError, PlacePracticeErrors, PlacePracticeRequest, PlacePracticeResponse, PlacePracticeResponses, Practice, PracticeArea, PracticeAutomatedReview, PracticeAutomatedReviewPolicy, PracticeAutomatedReviewValidation, PracticeBinding, PracticeDefinitionOptions, PracticeEvidenceBlocker, PracticeEvidenceLimitation, PracticeEvidenceOutcome, PracticeEvidenceRequirement, PracticeEvidenceSourceOption, PracticeManualReviewSignal, PracticeReviewSettings, PracticeSignalOption, PracticeSubject, PracticeSubjectClause, PracticeTraceEntry, PracticeWorkTypeDefinitionOptions, PreflightBackfillRunData, PreflightBackfillRunError, PreflightBackfillRunErrors, PreflightBackfillRunResponse, PreflightBackfillRunResponses, ProbeLlmConnectionRequest, ProblemDetail, Profile, ProfileActivityMonitor, ProfileActivityStats, ProfileReviewActivity, ProfileXpRecord, PullRequestBaseInfo, PullRequestInfo, PurgeWorkspaceData, PurgeWorkspaceResponse, PurgeWorkspaceResponses, RateLimitSnapshot, Reaction, ReactionEngagement, ReadData, ReadResponse, ReadResponses, RecalculateUserAchievementsData, RecalculateUserAchievementsResponses, RecalculateWorkspaceAchievementsData, RecalculateWorkspaceAchievementsResponses, ReflectionItem, ReflectionPractice, RefreshData, RefreshResponses, RegisterOutlineCollectionData, RegisterOutlineCollectionErrors, RegisterOutlineCollectionRequest, RegisterOutlineCollectionResponse, RegisterOutlineCollectionResponses, RegisterSlackChannelData, RegisterSlackChannelRequest, RegisterSlackChannelResponse, RegisterSlackChannelResponses, ReloadAchievementsData, ReloadAchievementsResponses, RemoveLabelFilterData, RemoveLabelFilterErrors, RemoveLabelFilterResponse, RemoveLabelFilterResponses, RemoveLabelFromTeamData, RemoveLabelFromTeamResponse, RemoveLabelFromTeamResponses, RemoveMemberData, RemoveMemberResponses, RemoveRepositoryToMonitorData, RemoveRepositoryToMonitorResponses, RemoveVoteData, RemoveVoteErrors, RemoveVoteResponse, RemoveVoteResponses, RenameSlugData, RenameSlugResponse, RenameSlugResponses, RenameWorkspaceSlugRequest, ReorderAreasData, ReorderAreasErrors, ReorderAreasResponse, ReorderAreasResponses, ReorderPracticeAreasRequest, ReorderPracticesData, ReorderPracticesError, ReorderPracticesErrors, ReorderPracticesRequest, ReorderPracticesResponse, ReorderPracticesResponses, ReplaceSweepScheduleData, ReplaceSweepScheduleError, ReplaceSweepScheduleErrors, ReplaceSweepScheduleResponse, ReplaceSweepScheduleResponses, RepositoryInfo, RequestDataExportData, RequestDataExportResponse, RequestDataExportResponses, RequestPracticeReviewData, RequestPracticeReviewError, RequestPracticeReviewErrors, RequestPracticeReviewResponse, RequestPracticeReviewResponses, ResetAndRecalculateLeaguesData, ResetAndRecalculateLeaguesResponses, ResourceCounts, RetryAgentJobDeliveryData, RetryAgentJobDeliveryErrors, RetryAgentJobDeliveryResponse, RetryAgentJobDeliveryResponses, ReviewArtifact, ReviewBackfillRun, ReviewBoundFeedback, ReviewBoundObservation, ReviewFeedback, ReviewFeedbackCounts, ReviewFeedbackDetail, ReviewFeedbackDisposition, ReviewObservation, ReviewObservationCounts, ReviewObservationDetail, ReviewPlacement, ReviewPracticeArea, ReviewRequestOutcome, ReviewRunSummary, ReviewRunTarget, ReviewSubject, ReviewSweepSchedule, RevokeOtherSessionsData, RevokeOtherSessionsResponses, RevokeSessionData, RevokeSessionResponses, RevokeSessionsResult, SendSlackTestMessageData, SendSlackTestMessageResponse, SendSlackTestMessageResponses, SessionView, SetAreaAutonomyData, SetAreaAutonomyErrors, SetAreaAutonomyResponse, SetAreaAutonomyResponses, SetAutonomyData, SetAutonomyError, SetAutonomyErrors, SetAutonomyResponse, SetAutonomyResponses, SlackChannelCandidate, SlackChannelConsentEvent, SlackMonitoredChannel, SlackTestMessageRequest, SlackTestMessageResponse, SlackUserPreferences, SlackUserWorkspacePreferences, SortObject, SubmitReactionData, SubmitReactionErrors, SubmitReactionResponse, SubmitReactionResponses, SyncJob, SyncResourceCount, SyncResourceState, TeamInfo, TeamSummary, TracedArtifact, TracedSignal, TriggerSyncJobData, TriggerSyncJobError, TriggerSyncJobErrors, TriggerSyncJobRequest, TriggerSyncJobResponse, TriggerSyncJobResponses, UnlinkIdentityData, UnlinkIdentityErrors, UnlinkIdentityResponse, UnlinkIdentityResponses, UpdateAccountRequest, UpdateAreaData, UpdateAreaErrors, UpdateAreaResponse, UpdateAreaResponses, UpdateBackfillRunStatusData, UpdateBackfillRunStatusError, UpdateBackfillRunStatusErrors, UpdateBackfillRunStatusResponse, UpdateBackfillRunStatusResponses, UpdateConnectionStatusData, UpdateConnectionStatusRequest, UpdateConnectionStatusResponse, UpdateConnectionStatusResponses, UpdateConnectionSyncJobData, UpdateConnectionSyncJobError, UpdateConnectionSyncJobErrors, UpdateConnectionSyncJobResponse, UpdateConnectionSyncJobResponses, UpdateCuratedStatusRequest, UpdateFeaturesData, UpdateFeaturesResponse, UpdateFeaturesResponses, UpdateInstanceLlmSettingsRequest, UpdateLeaderboardDigestData, UpdateLeaderboardDigestRequest, UpdateLeaderboardDigestResponse, UpdateLeaderboardDigestResponses, UpdateLlmBudgetRequest, UpdateLlmConnectionRequest, UpdateLlmModelPriceRequest, UpdateLlmModelRequest, UpdateLlmModelSharingRequest, UpdateLoginProviderRequest, UpdateMemberVisibilityData, UpdateMemberVisibilityResponse, UpdateMemberVisibilityResponses, UpdateNotificationsData, UpdateNotificationsResponse, UpdateNotificationsResponses, UpdateOutlineCollectionStateData, UpdateOutlineCollectionStateErrors, UpdateOutlineCollectionStateRequest, UpdateOutlineCollectionStateResponse, UpdateOutlineCollectionStateResponses, UpdatePracticeAreaRequest, UpdatePracticeAutonomyRequest, UpdatePracticeData, UpdatePracticeError, UpdatePracticeErrors, UpdatePracticeRequest, UpdatePracticeResponse, UpdatePracticeResponses, UpdatePracticeReviewSettingsData, UpdatePracticeReviewSettingsRequest, UpdatePracticeReviewSettingsResponse, UpdatePracticeReviewSettingsResponses, UpdatePublicVisibilityData, UpdatePublicVisibilityResponse, UpdatePublicVisibilityResponses, UpdateRepositorySettingsData, UpdateRepositorySettingsError, UpdateRepositorySettingsErrors, UpdateRepositorySettingsRequest, UpdateRepositorySettingsResponse, UpdateRepositorySettingsResponses, UpdateRepositoryVisibilityData, UpdateRepositoryVisibilityResponses, UpdateReviewBackfillRunStatusRequest, UpdateReviewSweepScheduleRequest, UpdateScheduleData, UpdateScheduleResponse, UpdateScheduleResponses, UpdateSilentModeRequest, UpdateSlackChannelConsentData, UpdateSlackChannelConsentRequest, UpdateSlackChannelConsentResponse, UpdateSlackChannelConsentResponses, UpdateSlackUserPreferencesData, UpdateSlackUserPreferencesRequest, UpdateSlackUserPreferencesResponse, UpdateSlackUserPreferencesResponses, UpdateStatusData, UpdateStatusResponse, UpdateStatusResponses, UpdateSyncJobRequest, UpdateTeamSettingsData, UpdateTeamSettingsError, UpdateTeamSettingsErrors, UpdateTeamSettingsRequest, UpdateTeamSettingsResponse, UpdateTeamSettingsResponses, UpdateTeamVisibilityData, UpdateTeamVisibilityResponses, UpdateTokenData, UpdateTokenResponse, UpdateTokenResponses, UpdateUserSettingsData, UpdateUserSettingsResponse, UpdateUserSettingsResponses, UpdateWorkspaceFeaturesRequest, UpdateWorkspaceLlmBudgetData, UpdateWorkspaceLlmBudgetResponse, UpdateWorkspaceLlmBudgetResponses, UpdateWorkspaceLlmConnectionRequest, UpdateWorkspaceLlmModelRequest, UpdateWorkspaceNotificationsRequest, UpdateWorkspacePublicVisibilityRequest, UpdateWorkspaceScheduleRequest, UpdateWorkspaceStatusRequest, UpdateWorkspaceTokenRequest, UserInfo, UserSettings, UserTeams, VoteData, VoteErrors, VoteResponse, VoteResponses, Workspace, WorkspaceCreateLlmConnectionData, WorkspaceCreateLlmConnectionErrors, WorkspaceCreateLlmConnectionResponse, WorkspaceCreateLlmConnectionResponses, WorkspaceCreateLlmModelData, WorkspaceCreateLlmModelErrors, WorkspaceCreateLlmModelResponse, WorkspaceCreateLlmModelResponses, WorkspaceDeleteLlmConnectionData, WorkspaceDeleteLlmConnectionErrors, WorkspaceDeleteLlmConnectionResponse, WorkspaceDeleteLlmConnectionResponses, WorkspaceDeleteLlmModelData, WorkspaceDeleteLlmModelErrors, WorkspaceDeleteLlmModelResponse, WorkspaceDeleteLlmModelResponses, WorkspaceGetLlmConnectionData, WorkspaceGetLlmConnectionErrors, WorkspaceGetLlmConnectionResponse, WorkspaceGetLlmConnectionResponses, WorkspaceGetLlmModelData, WorkspaceGetLlmModelErrors, WorkspaceGetLlmModelResponse, WorkspaceGetLlmModelResponses, WorkspaceGetLlmSettingsData, WorkspaceGetLlmSettingsResponse, WorkspaceGetLlmSettingsResponses, WorkspaceListAvailableLlmModelsData, WorkspaceListAvailableLlmModelsResponse, WorkspaceListAvailableLlmModelsResponses, WorkspaceListItem, WorkspaceListLlmConnectionsData, WorkspaceListLlmConnectionsResponse, WorkspaceListLlmConnectionsResponses, WorkspaceListLlmModelsData, WorkspaceListLlmModelsResponse, WorkspaceListLlmModelsResponses, WorkspaceLlmConnection, WorkspaceLlmModel, WorkspaceLlmProbeResult, WorkspaceLlmSettings, WorkspaceLlmUsageReport, WorkspaceMembership, WorkspaceProbeLlmConnectionData, WorkspaceProbeLlmConnectionResponse, WorkspaceProbeLlmConnectionResponses, WorkspaceProviders, WorkspaceReviewScope, WorkspaceTeamRepositorySettings, WorkspaceTeamSettings, WorkspaceUpdateLlmConnectionData, WorkspaceUpdateLlmConnectionErrors, WorkspaceUpdateLlmConnectionResponse, WorkspaceUpdateLlmConnectionResponses, WorkspaceUpdateLlmModelData, WorkspaceUpdateLlmModelErrors, WorkspaceUpdateLlmModelResponse, WorkspaceUpdateLlmModelResponses } from './types.gen';
@@ -3,7 +3,7 @@
 import type { Client, Options as Options2, TDataShape } from './client';
 import { client } from './client.gen';
 import { addLabelToTeamResponseTransformer, adminCreateLlmConnectionResponseTransformer, adminCreateLlmModelResponseTransformer, adminCreateLoginProviderResponseTransformer, adminGetInstanceSettingsResponseTransformer, adminGetLlmConnectionResponseTransformer, adminGetLlmModelResponseTransformer, adminGetLlmUsageReportResponseTransformer, adminListAuthEventsResponseTransformer, adminListConfigAuditEventsResponseTransformer, adminListLlmConnectionsResponseTransformer, adminListLlmModelsResponseTransformer, adminListLoginProvidersResponseTransformer, adminListWorkspacesResponseTransformer, adminUpdateLlmConnectionResponseTransformer, adminUpdateLlmModelPriceResponseTransformer, adminUpdateLlmModelResponseTransformer, adminUpdateLlmModelSharingResponseTransformer, adminUpdateLoginProviderResponseTransformer, adminUpdateSilentModeResponseTransformer, assignRoleResponseTransformer, auditResponseTransformer, bindAreaResponseTransformer, cancelAgentJobResponseTransformer, createAreaResponseTransformer, createPracticeResponseTransformer, createSweepScheduleResponseTransformer, createWorkspaceResponseTransformer, decideFeedbackProposalResponseTransformer, getActivityMonitorResponseTransformer, getAgentJobResponseTransformer, getAllAchievementDefinitionsResponseTransformer, getAllTeamsResponseTransformer, getAreaResponseTransformer, getArtifactTraceResponseTransformer, getBackfillRunResponseTransformer, getConnectionSyncStatusResponseTransformer, getCurrentUserMembershipResponseTransformer, getDataExportStatusResponseTransformer, getFeedbackProposalDecisionResponseTransformer, getInAppFeedbackResponseTransformer, getLabelFiltersResponseTransformer, getLatestReactionResponseTransformer, getLeaderboardResponseTransformer, getLlmUsageReportResponseTransformer, getMemberResponseTransformer, getObservationResponseTransformer, getObservationsForPullRequestResponseTransformer, getOutlineCollectionResponseTransformer, getOutlineTokenStatusResponseTransformer, getPracticeResponseTransformer, getPracticeReviewFeedbackResponseTransformer, getPracticeReviewObservationResponseTransformer, getSummaryResponseTransformer, getThreadResponseTransformer, getUserAchievementsResponseTransformer, getUserProfileResponseTransformer, getWorkspaceResponseTransformer, listAgentJobsResponseTransformer, listAreasResponseTransformer, listBackfillRunsResponseTransformer, listConnectionSyncJobsResponseTransformer, listConnectionSyncResourcesResponseTransformer, listLinkedIdentitiesResponseTransformer, listMembersResponseTransformer, listObservationsResponseTransformer, listOutlineCollectionsResponseTransformer, listPracticeReviewFeedbackResponseTransformer, listPracticeReviewObservationsResponseTransformer, listPracticeReviewsResponseTransformer, listPracticesResponseTransformer, listResponseTransformer, listSessionsResponseTransformer, listSlackChannelConsentEventsResponseTransformer, listSlackChannelsResponseTransformer, listSweepSchedulesResponseTransformer, listThreadsResponseTransformer, listTracedArtifactsResponseTransformer, listWorkspaceConfigAuditEventsResponseTransformer, listWorkspacesResponseTransformer, placePracticeResponseTransformer, preflightBackfillRunResponseTransformer, readResponseTransformer, registerOutlineCollectionResponseTransformer, registerSlackChannelResponseTransformer, removeLabelFromTeamResponseTransformer, renameSlugResponseTransformer, reorderAreasResponseTransformer, reorderPracticesResponseTransformer, replaceSweepScheduleResponseTransformer, retryAgentJobDeliveryResponseTransformer, setAreaAutonomyResponseTransformer, setAutonomyResponseTransformer, submitReactionResponseTransformer, triggerSyncJobResponseTransformer, updateAreaResponseTransformer, updateBackfillRunStatusResponseTransformer, updateConnectionStatusResponseTransformer, updateConnectionSyncJobResponseTransformer, updateFeaturesResponseTransformer, updateLeaderboardDigestResponseTransformer, updateMemberVisibilityResponseTransformer, updateNotificationsResponseTransformer, updateOutlineCollectionStateResponseTransformer, updatePracticeResponseTransformer, updatePublicVisibilityResponseTransformer, updateScheduleResponseTransformer, updateSlackChannelConsentResponseTransformer, updateStatusResponseTransformer, updateTokenResponseTransformer, voteResponseTransformer, workspaceCreateLlmConnectionResponseTransformer, workspaceCreateLlmModelResponseTransformer, workspaceGetLlmConnectionResponseTransformer, workspaceGetLlmModelResponseTransformer, workspaceListLlmConnectionsResponseTransformer, workspaceListLlmModelsResponseTransformer, workspaceUpdateLlmConnectionResponseTransformer, workspaceUpdateLlmModelResponseTransformer } from './transformers.gen';
-import type { AddLabelFilterData, AddLabelFilterErrors, AddLabelFilterResponses, AddLabelToTeamData, AddLabelToTeamResponses, AddRepositoryToMonitorData, AddRepositoryToMonitorResponses, AdminCreateCuratedAreaData, AdminCreateCuratedAreaErrors, AdminCreateCuratedAreaResponses, AdminCreateCuratedPracticeData, AdminCreateCuratedPracticeErrors, AdminCreateCuratedPracticeResponses, AdminCreateLlmConnectionData, AdminCreateLlmConnectionErrors, AdminCreateLlmConnectionResponses, AdminCreateLlmModelData, AdminCreateLlmModelErrors, AdminCreateLlmModelResponses, AdminCreateLoginProviderData, AdminCreateLoginProviderResponses, AdminDeleteCuratedAreaOverrideData, AdminDeleteCuratedAreaOverrideErrors, AdminDeleteCuratedAreaOverrideResponses, AdminDeleteCuratedPracticeOverrideData, AdminDeleteCuratedPracticeOverrideErrors, AdminDeleteCuratedPracticeOverrideResponses, AdminDeleteLlmConnectionData, AdminDeleteLlmConnectionErrors, AdminDeleteLlmConnectionResponses, AdminDeleteLlmModelData, AdminDeleteLlmModelErrors, AdminDeleteLlmModelResponses, AdminDeleteLoginProviderData, AdminDeleteLoginProviderResponses, AdminExportAuthEventsData, AdminExportAuthEventsResponses, AdminGetCuratedAreaData, AdminGetCuratedAreaResponses, AdminGetCuratedCatalogData, AdminGetCuratedCatalogResponses, AdminGetCuratedPracticeData, AdminGetCuratedPracticeResponses, AdminGetInstanceSettingsData, AdminGetInstanceSettingsResponses, AdminGetLlmConnectionData, AdminGetLlmConnectionErrors, AdminGetLlmConnectionResponses, AdminGetLlmModelData, AdminGetLlmModelErrors, AdminGetLlmModelResponses, AdminGetLlmSettingsData, AdminGetLlmSettingsResponses, AdminGetLlmUsageReportData, AdminGetLlmUsageReportResponses, AdminGetPracticeDefinitionOptionsData, AdminGetPracticeDefinitionOptionsResponses, AdminKeepCuratedAreaData, AdminKeepCuratedAreaErrors, AdminKeepCuratedAreaResponses, AdminKeepCuratedPracticeData, AdminKeepCuratedPracticeErrors, AdminKeepCuratedPracticeResponses, AdminListAuthEventsData, AdminListAuthEventsResponses, AdminListConfigAuditEventsData, AdminListConfigAuditEventsResponses, AdminListLlmConnectionsData, AdminListLlmConnectionsResponses, AdminListLlmModelsData, AdminListLlmModelsResponses, AdminListLoginProvidersData, AdminListLoginProvidersResponses, AdminListUsersData, AdminListUsersResponses, AdminListWorkspacesData, AdminListWorkspacesResponses, AdminPlaceCuratedPracticeData, AdminPlaceCuratedPracticeResponses, AdminProbeLlmConnectionData, AdminProbeLlmConnectionDraftData, AdminProbeLlmConnectionDraftResponses, AdminProbeLlmConnectionResponses, AdminReorderCuratedAreasData, AdminReorderCuratedAreasResponses, AdminReorderCuratedPracticesData, AdminReorderCuratedPracticesResponses, AdminResetCuratedCatalogOrderData, AdminResetCuratedCatalogOrderResponses, AdminRevokeUserSessionsData, AdminRevokeUserSessionsResponses, AdminUpdateCuratedAreaData, AdminUpdateCuratedAreaErrors, AdminUpdateCuratedAreaResponses, AdminUpdateCuratedAreaStatusData, AdminUpdateCuratedAreaStatusErrors, AdminUpdateCuratedAreaStatusResponses, AdminUpdateCuratedPracticeData, AdminUpdateCuratedPracticeErrors, AdminUpdateCuratedPracticeResponses, AdminUpdateCuratedPracticeStatusData, AdminUpdateCuratedPracticeStatusErrors, AdminUpdateCuratedPracticeStatusResponses, AdminUpdateLlmConnectionData, AdminUpdateLlmConnectionErrors, AdminUpdateLlmConnectionResponses, AdminUpdateLlmModelData, AdminUpdateLlmModelErrors, AdminUpdateLlmModelPriceData, AdminUpdateLlmModelPriceErrors, AdminUpdateLlmModelPriceResponses, AdminUpdateLlmModelResponses, AdminUpdateLlmModelSharingData, AdminUpdateLlmModelSharingErrors, AdminUpdateLlmModelSharingResponses, AdminUpdateLlmSettingsData, AdminUpdateLlmSettingsResponses, AdminUpdateLoginProviderData, AdminUpdateLoginProviderResponses, AdminUpdateSilentModeData, AdminUpdateSilentModeErrors, AdminUpdateSilentModeResponses, AdminUpdateUserData, AdminUpdateUserResponses, AdminUpdateWorkspaceLlmBudgetData, AdminUpdateWorkspaceLlmBudgetResponses, AssignRoleData, AssignRoleResponses, AuditData, AuditResponses, AutonomyRollupData, AutonomyRollupResponses, BindAreaData, BindAreaErrors, BindAreaResponses, CallbackGetData, CallbackGetResponses, CallbackPostData, CallbackPostResponses, CancelAgentJobData, CancelAgentJobErrors, CancelAgentJobResponses, ComputeUserLeagueStatsData, ComputeUserLeagueStatsResponses, ConfigureAgentData, ConfigureAgentErrors, ConfigureAgentResponses, CreateAreaData, CreateAreaErrors, CreateAreaResponses, CreatePracticeData, CreatePracticeErrors, CreatePracticeResponses, CreateSweepScheduleData, CreateSweepScheduleErrors, CreateSweepScheduleResponses, CreateWorkspaceData, CreateWorkspaceResponses, DecideFeedbackProposalData, DecideFeedbackProposalResponses, DeleteAgentData, DeleteAgentResponses, DeleteAreaData, DeleteAreaErrors, DeleteAreaResponses, DeleteCurrentUserData, DeleteCurrentUserResponses, DeleteOutlineCollectionData, DeleteOutlineCollectionErrors, DeleteOutlineCollectionResponses, DeletePracticeData, DeletePracticeErrors, DeletePracticeResponses, DeleteSweepScheduleData, DeleteSweepScheduleErrors, DeleteSweepScheduleResponses, DeleteThreadData, DeleteThreadErrors, DeleteThreadResponses, DownloadDataExportData, DownloadDataExportResponses, ExitImpersonationData, ExitImpersonationResponses, GetActivityMonitorData, GetActivityMonitorResponses, GetAgentJobData, GetAgentJobErrors, GetAgentJobResponses, GetAllAchievementDefinitionsData, GetAllAchievementDefinitionsResponses, GetAllTeamsData, GetAllTeamsResponses, GetAreaData, GetAreaErrors, GetAreaResponses, GetArtifactTraceData, GetArtifactTraceErrors, GetArtifactTraceResponses, GetBackfillRunData, GetBackfillRunErrors, GetBackfillRunResponses, GetConnectionSyncStatusData, GetConnectionSyncStatusResponses, GetCuratedPracticeCatalogEntryData, GetCuratedPracticeCatalogEntryResponses, GetCurrentUserData, GetCurrentUserMembershipData, GetCurrentUserMembershipResponses, GetCurrentUserResponses, GetDataExportStatusData, GetDataExportStatusResponses, GetEngagementData, GetEngagementResponses, GetFeedbackProposalDecisionData, GetFeedbackProposalDecisionResponses, GetInAppFeedbackData, GetInAppFeedbackResponses, GetIntegrationCatalogData, GetIntegrationCatalogResponses, GetJwksData, GetJwksResponses, GetLabelFiltersData, GetLabelFiltersResponses, GetLatestReactionData, GetLatestReactionErrors, GetLatestReactionResponses, GetLeaderboardData, GetLeaderboardResponses, GetLlmUsageReportData, GetLlmUsageReportResponses, GetMemberData, GetMemberResponses, GetObservationData, GetObservationErrors, GetObservationResponses, GetObservationsForPullRequestData, GetObservationsForPullRequestResponses, GetOutlineCollectionData, GetOutlineCollectionErrors, GetOutlineCollectionResponses, GetOutlineTokenStatusData, GetOutlineTokenStatusErrors, GetOutlineTokenStatusResponses, GetPracticeData, GetPracticeDefinitionOptionsData, GetPracticeDefinitionOptionsResponses, GetPracticeErrors, GetPracticeResponses, GetPracticeReviewFeedbackData, GetPracticeReviewFeedbackErrors, GetPracticeReviewFeedbackResponses, GetPracticeReviewObservationData, GetPracticeReviewObservationErrors, GetPracticeReviewObservationResponses, GetPracticeReviewSettingsData, GetPracticeReviewSettingsResponses, GetProvidersData, GetProvidersResponses, GetReflectionData, GetReflectionResponses, GetRepositoriesToMonitorData, GetRepositoriesToMonitorResponses, GetRepositorySettingsData, GetRepositorySettingsResponses, GetSlackUserPreferencesData, GetSlackUserPreferencesResponses, GetSummaryData, GetSummaryResponses, GetTeamSettingsData, GetTeamSettingsResponses, GetThreadData, GetThreadErrors, GetThreadResponses, GetUserAchievementsData, GetUserAchievementsResponses, GetUserFeaturesData, GetUserFeaturesResponses, GetUserProfileData, GetUserProfileResponses, GetUserSettingsData, GetUserSettingsResponses, GetUsersWithTeamsData, GetUsersWithTeamsResponses, GetWorkspaceData, GetWorkspaceResponses, GitLabPreflightData, GitLabPreflightResponses, ImpersonateData, ImpersonateResponses, InitiateData, InitiateResponses, ListAgentJobsData, ListAgentJobsResponses, ListAgentsData, ListAgentsResponses, ListAreasData, ListAreasResponses, ListBackfillRunsData, ListBackfillRunsResponses, ListConnectionSyncJobsData, ListConnectionSyncJobsResponses, ListConnectionSyncResourcesData, ListConnectionSyncResourcesResponses, ListData, ListGitLabGroupsData, ListGitLabGroupsResponses, ListGlobalContributorsData, ListGlobalContributorsResponses, ListIdentityProvidersData, ListIdentityProvidersResponses, ListLearnerPracticesData, ListLearnerPracticesResponses, ListLinkedIdentitiesData, ListLinkedIdentitiesResponses, ListMembersData, ListMembersResponses, ListObservationsData, ListObservationsResponses, ListOutlineCollectionCandidatesData, ListOutlineCollectionCandidatesErrors, ListOutlineCollectionCandidatesResponses, ListOutlineCollectionsData, ListOutlineCollectionsErrors, ListOutlineCollectionsResponses, ListPracticeEvidenceOutcomesData, ListPracticeEvidenceOutcomesResponses, ListPracticeReviewFeedbackData, ListPracticeReviewFeedbackErrors, ListPracticeReviewFeedbackResponses, ListPracticeReviewObservationsData, ListPracticeReviewObservationsErrors, ListPracticeReviewObservationsResponses, ListPracticeReviewsData, ListPracticeReviewsErrors, ListPracticeReviewsResponses, ListPracticesData, ListPracticesResponses, ListResponses, ListSessionsData, ListSessionsResponses, ListSlackChannelCandidatesData, ListSlackChannelCandidatesResponses, ListSlackChannelConsentEventsData, ListSlackChannelConsentEventsResponses, ListSlackChannelsData, ListSlackChannelsResponses, ListSweepSchedulesData, ListSweepSchedulesResponses, ListThreadsData, ListThreadsResponses, ListTracedArtifactsData, ListTracedArtifactsErrors, ListTracedArtifactsResponses, ListWorkspaceConfigAuditEventsData, ListWorkspaceConfigAuditEventsResponses, ListWorkspacesData, ListWorkspacesResponses, LogoutData, LogoutResponses, PlacePracticeData, PlacePracticeErrors, PlacePracticeResponses, PreflightBackfillRunData, PreflightBackfillRunErrors, PreflightBackfillRunResponses, PurgeWorkspaceData, PurgeWorkspaceResponses, ReadData, ReadResponses, RecalculateUserAchievementsData, RecalculateUserAchievementsResponses, RefreshData, RefreshResponses, RegisterOutlineCollectionData, RegisterOutlineCollectionErrors, RegisterOutlineCollectionResponses, RegisterSlackChannelData, RegisterSlackChannelResponses, ReloadAchievementsData, ReloadAchievementsResponses, RemoveLabelFilterData, RemoveLabelFilterErrors, RemoveLabelFilterResponses, RemoveLabelFromTeamData, RemoveLabelFromTeamResponses, RemoveMemberData, RemoveMemberResponses, RemoveRepositoryToMonitorData, RemoveRepositoryToMonitorResponses, RemoveVoteData, RemoveVoteErrors, RemoveVoteResponses, RenameSlugData, RenameSlugResponses, ReorderAreasData, ReorderAreasErrors, ReorderAreasResponses, ReorderPracticesData, ReorderPracticesErrors, ReorderPracticesResponses, ReplaceSweepScheduleData, ReplaceSweepScheduleErrors, ReplaceSweepScheduleResponses, RequestDataExportData, RequestDataExportResponses, RequestPracticeReviewData, RequestPracticeReviewErrors, RequestPracticeReviewResponses, ResetAndRecalculateLeaguesData, ResetAndRecalculateLeaguesResponses, RetryAgentJobDeliveryData, RetryAgentJobDeliveryErrors, RetryAgentJobDeliveryResponses, RevokeOtherSessionsData, RevokeOtherSessionsResponses, RevokeSessionData, RevokeSessionResponses, SendSlackTestMessageData, SendSlackTestMessageResponses, SetAreaAutonomyData, SetAreaAutonomyErrors, SetAreaAutonomyResponses, SetAutonomyData, SetAutonomyErrors, SetAutonomyResponses, SubmitReactionData, SubmitReactionErrors, SubmitReactionResponses, TriggerSyncJobData, TriggerSyncJobErrors, TriggerSyncJobResponses, UnlinkIdentityData, UnlinkIdentityErrors, UnlinkIdentityResponses, UpdateAreaData, UpdateAreaErrors, UpdateAreaResponses, UpdateBackfillRunStatusData, UpdateBackfillRunStatusErrors, UpdateBackfillRunStatusResponses, UpdateConnectionStatusData, UpdateConnectionStatusResponses, UpdateConnectionSyncJobData, UpdateConnectionSyncJobErrors, UpdateConnectionSyncJobResponses, UpdateFeaturesData, UpdateFeaturesResponses, UpdateLeaderboardDigestData, UpdateLeaderboardDigestResponses, UpdateMemberVisibilityData, UpdateMemberVisibilityResponses, UpdateNotificationsData, UpdateNotificationsResponses, UpdateOutlineCollectionStateData, UpdateOutlineCollectionStateErrors, UpdateOutlineCollectionStateResponses, UpdatePracticeData, UpdatePracticeErrors, UpdatePracticeResponses, UpdatePracticeReviewSettingsData, UpdatePracticeReviewSettingsResponses, UpdatePublicVisibilityData, UpdatePublicVisibilityResponses, UpdateRepositorySettingsData, UpdateRepositorySettingsErrors, UpdateRepositorySettingsResponses, UpdateRepositoryVisibilityData, UpdateRepositoryVisibilityResponses, UpdateScheduleData, UpdateScheduleResponses, UpdateSlackChannelConsentData, UpdateSlackChannelConsentResponses, UpdateSlackUserPreferencesData, UpdateSlackUserPreferencesResponses, UpdateStatusData, UpdateStatusResponses, UpdateTeamSettingsData, UpdateTeamSettingsErrors, UpdateTeamSettingsResponses, UpdateTeamVisibilityData, UpdateTeamVisibilityResponses, UpdateTokenData, UpdateTokenResponses, UpdateUserSettingsData, UpdateUserSettingsResponses, UpdateWorkspaceLlmBudgetData, UpdateWorkspaceLlmBudgetResponses, VoteData, VoteErrors, VoteResponses, WorkspaceCreateLlmConnectionData, WorkspaceCreateLlmConnectionErrors, WorkspaceCreateLlmConnectionResponses, WorkspaceCreateLlmModelData, WorkspaceCreateLlmModelErrors, WorkspaceCreateLlmModelResponses, WorkspaceDeleteLlmConnectionData, WorkspaceDeleteLlmConnectionErrors, WorkspaceDeleteLlmConnectionResponses, WorkspaceDeleteLlmModelData, WorkspaceDeleteLlmModelErrors, WorkspaceDeleteLlmModelResponses, WorkspaceGetLlmConnectionData, WorkspaceGetLlmConnectionErrors, WorkspaceGetLlmConnectionResponses, WorkspaceGetLlmModelData, WorkspaceGetLlmModelErrors, WorkspaceGetLlmModelResponses, WorkspaceGetLlmSettingsData, WorkspaceGetLlmSettingsResponses, WorkspaceListAvailableLlmModelsData, WorkspaceListAvailableLlmModelsResponses, WorkspaceListLlmConnectionsData, WorkspaceListLlmConnectionsResponses, WorkspaceListLlmModelsData, WorkspaceListLlmModelsResponses, WorkspaceProbeLlmConnectionData, WorkspaceProbeLlmConnectionResponses, WorkspaceUpdateLlmConnectionData, WorkspaceUpdateLlmConnectionErrors, WorkspaceUpdateLlmConnectionResponses, WorkspaceUpdateLlmModelData, WorkspaceUpdateLlmModelErrors, WorkspaceUpdateLlmModelResponses } from './types.gen';
+import type { AddLabelFilterData, AddLabelFilterErrors, AddLabelFilterResponses, AddLabelToTeamData, AddLabelToTeamResponses, AddRepositoryToMonitorData, AddRepositoryToMonitorResponses, AdminCreateCuratedAreaData, AdminCreateCuratedAreaErrors, AdminCreateCuratedAreaResponses, AdminCreateCuratedPracticeData, AdminCreateCuratedPracticeErrors, AdminCreateCuratedPracticeResponses, AdminCreateLlmConnectionData, AdminCreateLlmConnectionErrors, AdminCreateLlmConnectionResponses, AdminCreateLlmModelData, AdminCreateLlmModelErrors, AdminCreateLlmModelResponses, AdminCreateLoginProviderData, AdminCreateLoginProviderResponses, AdminDeleteCuratedAreaOverrideData, AdminDeleteCuratedAreaOverrideErrors, AdminDeleteCuratedAreaOverrideResponses, AdminDeleteCuratedPracticeOverrideData, AdminDeleteCuratedPracticeOverrideErrors, AdminDeleteCuratedPracticeOverrideResponses, AdminDeleteLlmConnectionData, AdminDeleteLlmConnectionErrors, AdminDeleteLlmConnectionResponses, AdminDeleteLlmModelData, AdminDeleteLlmModelErrors, AdminDeleteLlmModelResponses, AdminDeleteLoginProviderData, AdminDeleteLoginProviderResponses, AdminExportAuthEventsData, AdminExportAuthEventsResponses, AdminGetCuratedAreaData, AdminGetCuratedAreaResponses, AdminGetCuratedCatalogData, AdminGetCuratedCatalogResponses, AdminGetCuratedPracticeData, AdminGetCuratedPracticeResponses, AdminGetInstanceSettingsData, AdminGetInstanceSettingsResponses, AdminGetLlmConnectionData, AdminGetLlmConnectionErrors, AdminGetLlmConnectionResponses, AdminGetLlmModelData, AdminGetLlmModelErrors, AdminGetLlmModelResponses, AdminGetLlmSettingsData, AdminGetLlmSettingsResponses, AdminGetLlmUsageReportData, AdminGetLlmUsageReportResponses, AdminGetPracticeDefinitionOptionsData, AdminGetPracticeDefinitionOptionsResponses, AdminKeepCuratedAreaData, AdminKeepCuratedAreaErrors, AdminKeepCuratedAreaResponses, AdminKeepCuratedPracticeData, AdminKeepCuratedPracticeErrors, AdminKeepCuratedPracticeResponses, AdminListAuthEventsData, AdminListAuthEventsResponses, AdminListConfigAuditEventsData, AdminListConfigAuditEventsResponses, AdminListLlmConnectionsData, AdminListLlmConnectionsResponses, AdminListLlmModelsData, AdminListLlmModelsResponses, AdminListLoginProvidersData, AdminListLoginProvidersResponses, AdminListUsersData, AdminListUsersResponses, AdminListWorkspacesData, AdminListWorkspacesResponses, AdminPlaceCuratedPracticeData, AdminPlaceCuratedPracticeResponses, AdminProbeLlmConnectionData, AdminProbeLlmConnectionDraftData, AdminProbeLlmConnectionDraftResponses, AdminProbeLlmConnectionResponses, AdminReorderCuratedAreasData, AdminReorderCuratedAreasResponses, AdminReorderCuratedPracticesData, AdminReorderCuratedPracticesResponses, AdminResetCuratedCatalogOrderData, AdminResetCuratedCatalogOrderResponses, AdminRevokeUserSessionsData, AdminRevokeUserSessionsResponses, AdminUpdateCuratedAreaData, AdminUpdateCuratedAreaErrors, AdminUpdateCuratedAreaResponses, AdminUpdateCuratedAreaStatusData, AdminUpdateCuratedAreaStatusErrors, AdminUpdateCuratedAreaStatusResponses, AdminUpdateCuratedPracticeData, AdminUpdateCuratedPracticeErrors, AdminUpdateCuratedPracticeResponses, AdminUpdateCuratedPracticeStatusData, AdminUpdateCuratedPracticeStatusErrors, AdminUpdateCuratedPracticeStatusResponses, AdminUpdateLlmConnectionData, AdminUpdateLlmConnectionErrors, AdminUpdateLlmConnectionResponses, AdminUpdateLlmModelData, AdminUpdateLlmModelErrors, AdminUpdateLlmModelPriceData, AdminUpdateLlmModelPriceErrors, AdminUpdateLlmModelPriceResponses, AdminUpdateLlmModelResponses, AdminUpdateLlmModelSharingData, AdminUpdateLlmModelSharingErrors, AdminUpdateLlmModelSharingResponses, AdminUpdateLlmSettingsData, AdminUpdateLlmSettingsResponses, AdminUpdateLoginProviderData, AdminUpdateLoginProviderResponses, AdminUpdateSilentModeData, AdminUpdateSilentModeErrors, AdminUpdateSilentModeResponses, AdminUpdateUserData, AdminUpdateUserResponses, AdminUpdateWorkspaceLlmBudgetData, AdminUpdateWorkspaceLlmBudgetResponses, AssignRoleData, AssignRoleResponses, AuditData, AuditResponses, AutonomyRollupData, AutonomyRollupResponses, BindAreaData, BindAreaErrors, BindAreaResponses, CallbackGetData, CallbackGetResponses, CallbackPostData, CallbackPostResponses, CancelAgentJobData, CancelAgentJobErrors, CancelAgentJobResponses, ComputeUserLeagueStatsData, ComputeUserLeagueStatsResponses, ConfigureAgentData, ConfigureAgentErrors, ConfigureAgentResponses, CreateAreaData, CreateAreaErrors, CreateAreaResponses, CreatePracticeData, CreatePracticeErrors, CreatePracticeResponses, CreateSweepScheduleData, CreateSweepScheduleErrors, CreateSweepScheduleResponses, CreateWorkspaceData, CreateWorkspaceResponses, DecideFeedbackProposalData, DecideFeedbackProposalResponses, DeleteAgentData, DeleteAgentResponses, DeleteAreaData, DeleteAreaErrors, DeleteAreaResponses, DeleteCurrentUserData, DeleteCurrentUserResponses, DeleteOutlineCollectionData, DeleteOutlineCollectionErrors, DeleteOutlineCollectionResponses, DeletePracticeData, DeletePracticeErrors, DeletePracticeResponses, DeleteSweepScheduleData, DeleteSweepScheduleErrors, DeleteSweepScheduleResponses, DeleteThreadData, DeleteThreadErrors, DeleteThreadResponses, DownloadDataExportData, DownloadDataExportResponses, ExitImpersonationData, ExitImpersonationResponses, GetActivityMonitorData, GetActivityMonitorResponses, GetAgentJobData, GetAgentJobErrors, GetAgentJobResponses, GetAllAchievementDefinitionsData, GetAllAchievementDefinitionsResponses, GetAllTeamsData, GetAllTeamsResponses, GetAreaData, GetAreaErrors, GetAreaResponses, GetArtifactTraceData, GetArtifactTraceErrors, GetArtifactTraceResponses, GetBackfillRunData, GetBackfillRunErrors, GetBackfillRunResponses, GetConnectionSyncStatusData, GetConnectionSyncStatusResponses, GetCuratedPracticeCatalogEntryData, GetCuratedPracticeCatalogEntryResponses, GetCurrentUserData, GetCurrentUserMembershipData, GetCurrentUserMembershipResponses, GetCurrentUserResponses, GetDataExportStatusData, GetDataExportStatusResponses, GetEngagementData, GetEngagementResponses, GetFeedbackProposalDecisionData, GetFeedbackProposalDecisionResponses, GetInAppFeedbackData, GetInAppFeedbackResponses, GetIntegrationCatalogData, GetIntegrationCatalogResponses, GetJwksData, GetJwksResponses, GetLabelFiltersData, GetLabelFiltersResponses, GetLatestReactionData, GetLatestReactionErrors, GetLatestReactionResponses, GetLeaderboardData, GetLeaderboardResponses, GetLlmUsageReportData, GetLlmUsageReportResponses, GetMemberData, GetMemberResponses, GetObservationData, GetObservationErrors, GetObservationResponses, GetObservationsForPullRequestData, GetObservationsForPullRequestResponses, GetOutlineCollectionData, GetOutlineCollectionErrors, GetOutlineCollectionResponses, GetOutlineTokenStatusData, GetOutlineTokenStatusErrors, GetOutlineTokenStatusResponses, GetPracticeData, GetPracticeDefinitionOptionsData, GetPracticeDefinitionOptionsResponses, GetPracticeErrors, GetPracticeResponses, GetPracticeReviewFeedbackData, GetPracticeReviewFeedbackErrors, GetPracticeReviewFeedbackResponses, GetPracticeReviewObservationData, GetPracticeReviewObservationErrors, GetPracticeReviewObservationResponses, GetPracticeReviewSettingsData, GetPracticeReviewSettingsResponses, GetProvidersData, GetProvidersResponses, GetReflectionData, GetReflectionResponses, GetRepositoriesToMonitorData, GetRepositoriesToMonitorResponses, GetRepositorySettingsData, GetRepositorySettingsResponses, GetSlackUserPreferencesData, GetSlackUserPreferencesResponses, GetSummaryData, GetSummaryResponses, GetTeamSettingsData, GetTeamSettingsResponses, GetThreadData, GetThreadErrors, GetThreadResponses, GetUserAchievementsData, GetUserAchievementsResponses, GetUserFeaturesData, GetUserFeaturesResponses, GetUserProfileData, GetUserProfileResponses, GetUserSettingsData, GetUserSettingsResponses, GetUsersWithTeamsData, GetUsersWithTeamsResponses, GetWorkspaceData, GetWorkspaceResponses, GitLabPreflightData, GitLabPreflightResponses, ImpersonateData, ImpersonateResponses, InitiateData, InitiateResponses, ListAgentJobsData, ListAgentJobsResponses, ListAgentsData, ListAgentsResponses, ListAreasData, ListAreasResponses, ListBackfillRunsData, ListBackfillRunsResponses, ListConnectionSyncJobsData, ListConnectionSyncJobsResponses, ListConnectionSyncResourcesData, ListConnectionSyncResourcesResponses, ListData, ListGitLabGroupsData, ListGitLabGroupsResponses, ListGlobalContributorsData, ListGlobalContributorsResponses, ListIdentityProvidersData, ListIdentityProvidersResponses, ListLearnerPracticesData, ListLearnerPracticesResponses, ListLinkedIdentitiesData, ListLinkedIdentitiesResponses, ListMembersData, ListMembersResponses, ListObservationsData, ListObservationsResponses, ListOutlineCollectionCandidatesData, ListOutlineCollectionCandidatesErrors, ListOutlineCollectionCandidatesResponses, ListOutlineCollectionsData, ListOutlineCollectionsErrors, ListOutlineCollectionsResponses, ListPracticeEvidenceOutcomesData, ListPracticeEvidenceOutcomesResponses, ListPracticeReviewFeedbackData, ListPracticeReviewFeedbackErrors, ListPracticeReviewFeedbackResponses, ListPracticeReviewObservationsData, ListPracticeReviewObservationsErrors, ListPracticeReviewObservationsResponses, ListPracticeReviewsData, ListPracticeReviewsErrors, ListPracticeReviewsResponses, ListPracticesData, ListPracticesResponses, ListResponses, ListSessionsData, ListSessionsResponses, ListSlackChannelCandidatesData, ListSlackChannelCandidatesResponses, ListSlackChannelConsentEventsData, ListSlackChannelConsentEventsResponses, ListSlackChannelsData, ListSlackChannelsResponses, ListSweepSchedulesData, ListSweepSchedulesResponses, ListThreadsData, ListThreadsResponses, ListTracedArtifactsData, ListTracedArtifactsErrors, ListTracedArtifactsResponses, ListWorkspaceConfigAuditEventsData, ListWorkspaceConfigAuditEventsResponses, ListWorkspacesData, ListWorkspacesResponses, LogoutData, LogoutResponses, PlacePracticeData, PlacePracticeErrors, PlacePracticeResponses, PreflightBackfillRunData, PreflightBackfillRunErrors, PreflightBackfillRunResponses, PurgeWorkspaceData, PurgeWorkspaceResponses, ReadData, ReadResponses, RecalculateUserAchievementsData, RecalculateUserAchievementsResponses, RecalculateWorkspaceAchievementsData, RecalculateWorkspaceAchievementsResponses, RefreshData, RefreshResponses, RegisterOutlineCollectionData, RegisterOutlineCollectionErrors, RegisterOutlineCollectionResponses, RegisterSlackChannelData, RegisterSlackChannelResponses, ReloadAchievementsData, ReloadAchievementsResponses, RemoveLabelFilterData, RemoveLabelFilterErrors, RemoveLabelFilterResponses, RemoveLabelFromTeamData, RemoveLabelFromTeamResponses, RemoveMemberData, RemoveMemberResponses, RemoveRepositoryToMonitorData, RemoveRepositoryToMonitorResponses, RemoveVoteData, RemoveVoteErrors, RemoveVoteResponses, RenameSlugData, RenameSlugResponses, ReorderAreasData, ReorderAreasErrors, ReorderAreasResponses, ReorderPracticesData, ReorderPracticesErrors, ReorderPracticesResponses, ReplaceSweepScheduleData, ReplaceSweepScheduleErrors, ReplaceSweepScheduleResponses, RequestDataExportData, RequestDataExportResponses, RequestPracticeReviewData, RequestPracticeReviewErrors, RequestPracticeReviewResponses, ResetAndRecalculateLeaguesData, ResetAndRecalculateLeaguesResponses, RetryAgentJobDeliveryData, RetryAgentJobDeliveryErrors, RetryAgentJobDeliveryResponses, RevokeOtherSessionsData, RevokeOtherSessionsResponses, RevokeSessionData, RevokeSessionResponses, SendSlackTestMessageData, SendSlackTestMessageResponses, SetAreaAutonomyData, SetAreaAutonomyErrors, SetAreaAutonomyResponses, SetAutonomyData, SetAutonomyErrors, SetAutonomyResponses, SubmitReactionData, SubmitReactionErrors, SubmitReactionResponses, TriggerSyncJobData, TriggerSyncJobErrors, TriggerSyncJobResponses, UnlinkIdentityData, UnlinkIdentityErrors, UnlinkIdentityResponses, UpdateAreaData, UpdateAreaErrors, UpdateAreaResponses, UpdateBackfillRunStatusData, UpdateBackfillRunStatusErrors, UpdateBackfillRunStatusResponses, UpdateConnectionStatusData, UpdateConnectionStatusResponses, UpdateConnectionSyncJobData, UpdateConnectionSyncJobErrors, UpdateConnectionSyncJobResponses, UpdateFeaturesData, UpdateFeaturesResponses, UpdateLeaderboardDigestData, UpdateLeaderboardDigestResponses, UpdateMemberVisibilityData, UpdateMemberVisibilityResponses, UpdateNotificationsData, UpdateNotificationsResponses, UpdateOutlineCollectionStateData, UpdateOutlineCollectionStateErrors, UpdateOutlineCollectionStateResponses, UpdatePracticeData, UpdatePracticeErrors, UpdatePracticeResponses, UpdatePracticeReviewSettingsData, UpdatePracticeReviewSettingsResponses, UpdatePublicVisibilityData, UpdatePublicVisibilityResponses, UpdateRepositorySettingsData, UpdateRepositorySettingsErrors, UpdateRepositorySettingsResponses, UpdateRepositoryVisibilityData, UpdateRepositoryVisibilityResponses, UpdateScheduleData, UpdateScheduleResponses, UpdateSlackChannelConsentData, UpdateSlackChannelConsentResponses, UpdateSlackUserPreferencesData, UpdateSlackUserPreferencesResponses, UpdateStatusData, UpdateStatusResponses, UpdateTeamSettingsData, UpdateTeamSettingsErrors, UpdateTeamSettingsResponses, UpdateTeamVisibilityData, UpdateTeamVisibilityResponses, UpdateTokenData, UpdateTokenResponses, UpdateUserSettingsData, UpdateUserSettingsResponses, UpdateWorkspaceLlmBudgetData, UpdateWorkspaceLlmBudgetResponses, VoteData, VoteErrors, VoteResponses, WorkspaceCreateLlmConnectionData, WorkspaceCreateLlmConnectionErrors, WorkspaceCreateLlmConnectionResponses, WorkspaceCreateLlmModelData, WorkspaceCreateLlmModelErrors, WorkspaceCreateLlmModelResponses, WorkspaceDeleteLlmConnectionData, WorkspaceDeleteLlmConnectionErrors, WorkspaceDeleteLlmConnectionResponses, WorkspaceDeleteLlmModelData, WorkspaceDeleteLlmModelErrors, WorkspaceDeleteLlmModelResponses, WorkspaceGetLlmConnectionData, WorkspaceGetLlmConnectionErrors, WorkspaceGetLlmConnectionResponses, WorkspaceGetLlmModelData, WorkspaceGetLlmModelErrors, WorkspaceGetLlmModelResponses, WorkspaceGetLlmSettingsData, WorkspaceGetLlmSettingsResponses, WorkspaceListAvailableLlmModelsData, WorkspaceListAvailableLlmModelsResponses, WorkspaceListLlmConnectionsData, WorkspaceListLlmConnectionsResponses, WorkspaceListLlmModelsData, WorkspaceListLlmModelsResponses, WorkspaceProbeLlmConnectionData, WorkspaceProbeLlmConnectionResponses, WorkspaceUpdateLlmConnectionData, WorkspaceUpdateLlmConnectionErrors, WorkspaceUpdateLlmConnectionResponses, WorkspaceUpdateLlmModelData, WorkspaceUpdateLlmModelErrors, WorkspaceUpdateLlmModelResponses } from './types.gen';
 
 export type Options<TData extends TDataShape = TDataShape, ThrowOnError extends boolean = boolean, TResponse = unknown> = Options2<TData, ThrowOnError, TResponse> & {
     /**
@@ -866,6 +866,17 @@ export const getWorkspace = <ThrowOnError extends boolean = false>(options: Opti
     ...options
 });
 
+/**
+ * Recalculate workspace achievements
+ *
+ * Historically recalculates the achievement timeline of every workspace actor. Admin only.
+ */
+export const recalculateWorkspaceAchievements = <ThrowOnError extends boolean = false>(options: Options<RecalculateWorkspaceAchievementsData, ThrowOnError>) => (options.client ?? client).post<RecalculateWorkspaceAchievementsResponses, unknown, ThrowOnError>({
+    security: [{ scheme: 'bearer', type: 'http' }],
+    url: '/workspaces/{workspaceSlug}/achievements/recalculate',
+    ...options
+});
+
 /**
  * List the workspace's agents and how each is configured
  */
@@ -7321,6 +7321,25 @@ export type GetWorkspaceResponses = {
 
 export type GetWorkspaceResponse = GetWorkspaceResponses[keyof GetWorkspaceResponses];
 
+export type RecalculateWorkspaceAchievementsData = {
+    body?: never;
+    path: {
+        /**
+         * Workspace slug
+         */
+        workspaceSlug: string;
+    };
+    query?: never;
+    url: '/workspaces/{workspaceSlug}/achievements/recalculate';
+};
+
+export type RecalculateWorkspaceAchievementsResponses = {
+    /**
+     * Recalculation task started successfully
+     */
+    202: unknown;
+};
+
 export type ListAgentsData = {
     body?: never;
     path: {
@@ -7907,6 +7926,12 @@ export type UpdateFeaturesResponse = UpdateFeaturesResponses[keyof UpdateFeature
 
 export type GetLeaderboardData = {
     body?: never;
+    headers?: {
+        /**
+         * ETag of a previously received leaderboard
+         */
+        'If-None-Match'?: string;
+    };
     path: {
         /**
          * Workspace slug